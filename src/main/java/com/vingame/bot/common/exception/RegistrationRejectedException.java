@@ -0,0 +1,29 @@
+package com.vingame.bot.common.exception;
+
+/**
+ * The auth gateway answered one user's registration with a rejection envelope.
+ * Carries the envelope's {@code status} and {@code code} so callers can branch on
+ * what the gateway said (e.g. a duplicate username) instead of parsing its
+ * free-form message. Maps to HTTP 502 like its parent.
+ */
+public class RegistrationRejectedException extends UpstreamRegistrationException {
+
+    private final String gatewayStatus;
+    private final int gatewayCode;
+
+    public RegistrationRejectedException(String gatewayMessage, String gatewayStatus, int gatewayCode) {
+        super(String.format("Registration failed: %s (status: %s, code: %d)", gatewayMessage, gatewayStatus, gatewayCode));
+        this.gatewayStatus = gatewayStatus;
+        this.gatewayCode = gatewayCode;
+    }
+
+    /** The envelope's {@code status}, e.g. {@code ERROR}. */
+    public String getGatewayStatus() {
+        return gatewayStatus;
+    }
+
+    /** The envelope's {@code code}. */
+    public int getGatewayCode() {
+        return gatewayCode;
+    }
+}
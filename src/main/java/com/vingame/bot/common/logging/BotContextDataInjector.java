@@ -0,0 +1,48 @@
+package com.vingame.bot.common.logging;
+
+import org.apache.logging.log4j.core.ContextDataInjector;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.impl.ThreadContextDataInjector;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+import org.apache.logging.log4j.util.StringMap;
+
+import java.util.List;
+
+/**
+ * Log4j2 {@link ContextDataInjector} that adds the thread's installed
+ * {@link BotLogContext} to every log event's context data, on top of the regular
+ * {@code ThreadContext} (SLF4J MDC) entries.
+ * <p>
+ * Registered through {@code log4j2.contextDataInjector} in
+ * {@code log4j2.component.properties}. With no context installed it returns exactly
+ * what Log4j's default injector returns; with one installed, the bot keys are written
+ * into the event's reusable map (overriding same-named MDC keys) — no intermediate
+ * map is built.
+ */
+public class BotContextDataInjector implements ContextDataInjector {
+
+    private final ContextDataInjector delegate = new ThreadContextDataInjector.ForDefaultThreadContextMap();
+
+    @Override
+    public StringMap injectContextData(List<Property> properties, StringMap reusable) {
+        StringMap base = delegate.injectContextData(properties, reusable);
+        BotLogContext ctx = BotLogContext.current();
+        if (ctx == null) {
+            return base;
+        }
+        if (base != reusable) {
+            // The default injector hands back the frozen ThreadContext map when there
+            // are no config properties; never write into that one.
+            reusable.putAll(base);
+        }
+        for (int i = 0; i < ctx.size(); i++) {
+            reusable.putValue(ctx.keyAt(i), ctx.valueAt(i));
+        }
+        return reusable;
+    }
+
+    @Override
+    public ReadOnlyStringMap rawContextData() {
+        return delegate.rawContextData();
+    }
+}
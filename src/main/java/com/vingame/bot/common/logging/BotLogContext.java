@@ -0,0 +1,119 @@
+package com.vingame.bot.common.logging;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bot's logging identity (the {@link BotMdc} keys), precomputed once and installed
+ * on a thread by swapping a single reference.
+ * <p>
+ * The MDC wrap helpers ({@code Bot.mdcWrap} and friends, {@code OutputPrinter})
+ * used to run {@code MDC.getCopyOfContextMap()} + {@code MDC.setContextMap(snapshot)}
+ * + restore around every inbound frame and every tick — two map copies per callback
+ * per bot. Now each callback does {@link #install} / {@link #restore}: one
+ * {@code ThreadLocal} read and two writes, no allocation. The installed context is
+ * merged into every Log4j2 event by {@link BotContextDataInjector}, so log lines
+ * (console pattern and the JSON layout Promtail reads) carry the same labels as
+ * before. Code that reads the identity directly — meter tags, session keys — goes
+ * through {@link BotMdc#get} / {@link BotMdc#copyOfContextMap}, which see the
+ * installed context as well as the thread's own MDC.
+ * <p>
+ * Precedence: an installed context overrides same-named MDC keys; other MDC keys on
+ * the thread stay visible. The thread's MDC itself is never touched.
+ * <p>
+ * Not {@code ScopedValue}: it is still a preview API on Java 21, and the callbacks
+ * this serves run on Netty and library-owned pools we do not bind.
+ */
+public final class BotLogContext {
+
+    private static final ThreadLocal<BotLogContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, String> source;
+    private final String[] keys;
+    private final String[] values;
+    private final Map<String, String> map;
+
+    private BotLogContext(Map<String, String> source) {
+        this.source = source;
+        this.keys = new String[source.size()];
+        this.values = new String[source.size()];
+        int i = 0;
+        for (Map.Entry<String, String> e : source.entrySet()) {
+            keys[i] = e.getKey();
+            values[i] = e.getValue();
+            i++;
+        }
+        this.map = Collections.unmodifiableMap(new LinkedHashMap<>(source));
+    }
+
+    /**
+     * Precompute a context from an MDC snapshot.
+     *
+     * @return {@code null} for a {@code null} snapshot (nothing to install)
+     */
+    public static BotLogContext of(Map<String, String> snapshot) {
+        return snapshot != null ? new BotLogContext(snapshot) : null;
+    }
+
+    /** The context installed on the calling thread, or {@code null}. */
+    public static BotLogContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Install {@code ctx} on the calling thread.
+     *
+     * @return the previously installed context, to hand back to {@link #restore}
+     */
+    public static BotLogContext install(BotLogContext ctx) {
+        BotLogContext previous = CURRENT.get();
+        CURRENT.set(ctx);
+        return previous;
+    }
+
+    /**
+     * Reinstate what {@link #install} replaced. Sets rather than removes on
+     * {@code null} so a pooled thread keeps its map entry and the next install does
+     * not allocate one.
+     */
+    public static void restore(BotLogContext previous) {
+        CURRENT.set(previous);
+    }
+
+    /** Whether this context was built from exactly {@code snapshot} (identity). */
+    public boolean isFrom(Map<String, String> snapshot) {
+        return source == snapshot;
+    }
+
+    public String get(String key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public String keyAt(int index) {
+        return keys[index];
+    }
+
+    public String valueAt(int index) {
+        return values[index];
+    }
+
+    /** Unmodifiable view of the keys, in snapshot order. */
+    public Map<String, String> asMap() {
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "BotLogContext" + map;
+    }
+}
@@ -2,6 +2,9 @@ package com.vingame.bot.common.logging;
 
 import org.slf4j.MDC;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Utility for managing bot-specific MDC (Mapped Diagnostic Context) keys.
  * <p>
@@ -56,6 +59,39 @@ public final class BotMdc {
         MDC.put(ENVIRONMENT_ID, environmentId);
     }
 
+    /**
+     * Read a key of the calling thread's logging identity: the installed
+     * {@link BotLogContext} first (bot callbacks), then the thread's own MDC. Use this
+     * instead of {@code MDC.get} wherever the value may be read inside a bot callback.
+     */
+    public static String get(String key) {
+        BotLogContext ctx = BotLogContext.current();
+        if (ctx != null) {
+            String value = ctx.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return MDC.get(key);
+    }
+
+    /**
+     * Copy of the calling thread's effective logging context: its MDC with the
+     * installed {@link BotLogContext} (if any) laid over it — what a log event
+     * emitted here would carry. May be {@code null} when both are empty, like
+     * {@code MDC.getCopyOfContextMap()}.
+     */
+    public static Map<String, String> copyOfContextMap() {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        BotLogContext ctx = BotLogContext.current();
+        if (ctx == null) {
+            return mdc;
+        }
+        Map<String, String> merged = mdc != null ? mdc : new HashMap<>();
+        merged.putAll(ctx.asMap());
+        return merged;
+    }
+
     /**
      * Clear all bot-related MDC keys.
      */
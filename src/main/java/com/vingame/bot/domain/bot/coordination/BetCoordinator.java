@@ -6,8 +6,9 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -23,12 +24,18 @@ import java.util.stream.Collectors;
  * dependency (AD-8): the group wiring builds one from {@code BotGroup} fields;
  * a future Fleet builds one identically from fleet-level fields and owns it.
  *
- * <p><b>Concurrency (AD-3).</b> A single {@link ReentrantLock} guards a
- * {@code volatile} {@link RoundBudget current}. {@code reserve} runs on the
- * scenario thread; {@code onRound}/{@code onRoundComplete} on the netty
- * message-processor thread. All mutation of the committed totals and every DTO
- * read go through the lock, so readers never see a torn view. {@code ReentrantLock}
- * (unlike {@code synchronized}) does not pin virtual threads.
+ * <p><b>Concurrency (AD-3).</b> {@code reserve} runs on every bot's scenario
+ * thread and takes no lock: the {@code volatile} {@link RoundBudget current} holds
+ * atomic per-option and aggregate totals and {@link RoundBudget#reserve} claims
+ * headroom with compare-and-set, so a thousand bots proposing at once never queue
+ * behind each other. A {@link ReentrantLock} still serializes the rare writers —
+ * the round swap in {@code onRound}, a crowd recompute in {@code observeCrowd}, the
+ * per-round summary — and the crowd maps they share. Those three are called by all
+ * N bots with the same frame, so each first checks the in-flight sid (and, for
+ * crowd frames, the round's crowd high-water mark) with plain volatile reads and
+ * drops a duplicate before allocating or locking; only the first bot to report a
+ * frame does the work. {@code ReentrantLock} (unlike {@code synchronized}) does not
+ * pin virtual threads.
  */
 @Slf4j
 public final class BetCoordinator {
@@ -83,29 +90,33 @@ public final class BetCoordinator {
     private final Map<Integer, Long> lastObservedCrowdStake = new LinkedHashMap<>();
     private final Map<Integer, Integer> lastObservedCrowdCount = new LinkedHashMap<>();
 
-    // Monotonic-by-arrival high-water mark (AD-C3): the largest Σv(o) accepted for
-    // the in-flight round. A straggler frame whose aggregate is not greater than the
-    // stored mark is ignored so a slow bot's older/smaller snapshot cannot overwrite
-    // a newer/larger one (all N bots replay the same running-aggregate frames on
-    // their own IO threads, possibly reordered). Reset per round in onRound. -1 = no
-    // frame accepted yet for the current round (so the first frame always applies,
-    // including an all-zero opening snapshot).
-    private long currentCrowdSum = -1L;
+    // The monotonic-by-arrival crowd high-water mark (AD-C3) lives on the round
+    // (RoundBudget.crowdSum): the largest Σv(o) accepted for the in-flight round. A
+    // straggler frame whose aggregate is not greater than the mark is ignored so a
+    // slow bot's older/smaller snapshot cannot overwrite a newer/larger one (all N
+    // bots replay the same running-aggregate frames on their own IO threads,
+    // possibly reordered), and the N−1 copies of a frame already applied are
+    // dropped before any work. A fresh round starts at -1 so its first frame always
+    // applies, including an all-zero opening snapshot.
 
     // First-seen guard for onRoundComplete (AD-6). onRoundComplete does not swap
     // current, so its N per-bot calls for one round would otherwise each emit the
     // per-round DEBUG summary. Track the last sid already finalized so only the
-    // first bot to complete a given round logs; the rest are no-ops. Mutated only
-    // under the lock. 0 = no round finalized yet (never collides with the sentinel).
-    private long lastCompletedSessionId;
+    // first bot to complete a given round logs; the rest are no-ops. Written only
+    // under the lock; volatile so the duplicates are dropped before taking it.
+    // 0 = no round finalized yet (never collides with the sentinel).
+    private volatile long lastCompletedSessionId;
 
     // Cumulative decision counters since construction (mirroring roundsObserved),
-    // read by the health DTO. AtomicLong so the read path never needs the lock
-    // for a single counter; they are still incremented under the lock so a
-    // full snapshot() reads a coherent view.
-    private final AtomicLong approveCount = new AtomicLong();
-    private final AtomicLong trimCount = new AtomicLong();
-    private final AtomicLong rejectCount = new AtomicLong();
+    // read by the health DTO. Striped adders: every reserve bumps one, from every
+    // bot's thread, so a single AtomicLong would be the next contention point.
+    private final LongAdder approveCount = new LongAdder();
+    private final LongAdder trimCount = new LongAdder();
+    private final LongAdder rejectCount = new LongAdder();
+
+    // Bound once: a method reference to this::gridAlignDown at the call site
+    // would be a new object on every reserve.
+    private final LongUnaryOperator alignDown = this::gridAlignDown;
 
     /**
      * @param optionAffinities          option id → weight; typically
@@ -262,13 +273,13 @@ public final class BetCoordinator {
 
     /**
      * Begin (or re-affirm) the round for {@code sessionId}. First-seen
-     * idempotent across the group's bots (AD-4): under the lock, if
-     * {@code sessionId} differs from the current round, swap in a fresh
-     * {@link RoundBudget}; otherwise (the other N−1 bots seeing the same
-     * {@code sid}) it is a no-op. The {@code 0} sentinel never starts a budget.
+     * idempotent across the group's bots (AD-4): if {@code sessionId} differs from
+     * the current round, swap in a fresh {@link RoundBudget} under the lock;
+     * otherwise (the other N−1 bots seeing the same {@code sid}) it returns on a
+     * volatile read, without locking. The {@code 0} sentinel never starts a budget.
      */
     public void onRound(long sessionId) {
-        if (sessionId == 0L) {
+        if (sessionId == 0L || sessionId == current.sessionId()) {
             return;
         }
         lock.lock();
@@ -281,10 +292,10 @@ public final class BetCoordinator {
                 // intra-round observeCrowd calls (Tip) then overwrite this seed.
                 // When nothing was ever observed (or crowd-off), the seed is empty ⇒
                 // X(o)=0 → the internal-tier budget, byte-for-byte (reduction
-                // identity preserved). The monotonic high-water mark resets per round.
+                // identity preserved). The monotonic high-water mark starts afresh
+                // with the new RoundBudget.
                 crowdStake.clear();
                 crowdCount.clear();
-                currentCrowdSum = -1L;
                 Map<Integer, Long> seededBudget;
                 if (crowdAware && !lastObservedCrowdStake.isEmpty()) {
                     crowdStake.putAll(lastObservedCrowdStake);
@@ -310,37 +321,47 @@ public final class BetCoordinator {
      * round (stale/straddling tick). Otherwise clamps to the option and
      * aggregate headroom, grid-aligns <em>down</em> to {@code minBet + k·betIncrement}
      * (never up — trimming up could breach the cap), and commits the aligned
-     * amount if it is at least {@code minBet}.
+     * amount if it is at least {@code minBet}. Lock-free: the headroom is
+     * claimed with compare-and-set on the option and aggregate totals
+     * ({@link RoundBudget#reserve}).
      *
      * @return APPROVE when the full proposed amount is committed, TRIM when a
      *         smaller grid-aligned amount is committed, REJECT when nothing is.
      */
     public ReservationOutcome reserve(long sessionId, int optionId, long amount) {
-        lock.lock();
-        try {
-            RoundBudget b = current;
-            if (sessionId == 0L || sessionId != b.sessionId()) {
-                rejectCount.incrementAndGet();
-                return ReservationOutcome.reject();
-            }
+        long committed = reserveAmount(sessionId, optionId, amount);
+        if (committed == 0L) {
+            return ReservationOutcome.reject();
+        }
+        return committed == amount ? ReservationOutcome.approve(committed) : ReservationOutcome.trim(committed);
+    }
 
-            long allow = Math.min(amount, Math.min(b.remainingOption(optionId), b.remainingAggregate()));
-            long aligned = gridAlignDown(allow);
-            if (aligned < minBet) {
-                rejectCount.incrementAndGet();
-                return ReservationOutcome.reject();
-            }
+    /**
+     * Primitive form of {@link #reserve} for the bot's per-tick path: same
+     * reservation and counters, but the outcome is encoded in the returned amount
+     * instead of a {@link ReservationOutcome}.
+     *
+     * @return the committed amount — equal to {@code amount} for APPROVE, smaller
+     *         for TRIM, {@code 0} for REJECT
+     */
+    public long reserveAmount(long sessionId, int optionId, long amount) {
+        RoundBudget b = current;
+        if (sessionId == 0L || sessionId != b.sessionId()) {
+            rejectCount.increment();
+            return 0L;
+        }
 
-            b.commit(optionId, aligned);
-            if (aligned == amount) {
-                approveCount.incrementAndGet();
-                return ReservationOutcome.approve(aligned);
-            }
-            trimCount.incrementAndGet();
-            return ReservationOutcome.trim(aligned);
-        } finally {
-            lock.unlock();
+        // gridAlignDown yields 0 below minBet; a zero-stake commit is a no-op, so
+        // RoundBudget.reserve treats it as REJECT and 0 stays unambiguous.
+        long aligned = b.reserve(optionId, amount, alignDown);
+        if (aligned == 0L) {
+            rejectCount.increment();
+        } else if (aligned == amount) {
+            approveCount.increment();
+        } else {
+            trimCount.increment();
         }
+        return aligned;
     }
 
     /**
@@ -363,7 +384,10 @@ public final class BetCoordinator {
      * Fold an observed crowd distribution for the in-flight round into the
      * per-option budgets (CROWD_AWARE_COORDINATION AD-C2 / AD-C3 / AD-C9).
      *
-     * <p>Under the coordinator lock:
+     * <p>A frame for another round, or one whose aggregate does not exceed the
+     * round's high-water mark (the N−1 other bots' copies of a frame already
+     * applied), is dropped on volatile reads before anything is allocated or
+     * locked. Otherwise, under the coordinator lock:
      * <ul>
      *   <li><b>Gated (AD-C6):</b> a no-op when {@code crowdAware} is off — the
      *       internal tier is never disturbed.</li>
@@ -382,14 +406,18 @@ public final class BetCoordinator {
      *   <li><b>Value-only steering (AD-C5):</b> the {@code count} ({@code bc}) is
      *       stored for observability but never enters the budget math.</li>
      *   <li>Recompute {@code B_crowd(o)} per AD-C2 and swap it into {@code current}
-     *       via {@link RoundBudget#withBudget}, <b>preserving</b>
+     *       via {@link RoundBudget#setBudget}, <b>preserving</b>
      *       {@code committed}/{@code committedAggregate} (AD-C9) so the fleet's
      *       spend so far this round is not lost on the mid-round budget swap.</li>
      * </ul>
      *
      * <p>First-seen idempotent across the group's N bots reporting the same frame:
      * same input → same recompute. {@code reserve} continues to run unchanged
-     * against the now crowd-adjusted budgets.
+     * against the now crowd-adjusted budgets, lock-free: a reservation already in
+     * flight when the swap lands may still commit against the target it read, so an
+     * option can end the round slightly above a lowered crowd budget (bounded by the
+     * in-flight amounts; the aggregate cap still holds — see
+     * {@link RoundBudget#reserve}).
      *
      * @param sessionId the round the observation belongs to.
      * @param options   the per-option crowd entries derived from {@code bs}.
@@ -398,6 +426,10 @@ public final class BetCoordinator {
         if (!crowdAware || sessionId == 0L || options == null) {
             return;
         }
+        RoundBudget seen = current;
+        if (sessionId != seen.sessionId() || crowdSum(options) <= seen.crowdSum()) {
+            return; // stale sid, or a duplicate/older frame — first-seen fast path
+        }
         lock.lock();
         try {
             RoundBudget b = current;
@@ -425,10 +457,10 @@ public final class BetCoordinator {
             // frame whose aggregate is not greater than the high-water mark must not
             // overwrite a newer/larger snapshot. currentCrowdSum starts at -1 so the
             // first frame (even an all-zero opening snapshot, sum 0) always applies.
-            if (incomingSum <= currentCrowdSum) {
+            if (incomingSum <= b.crowdSum()) {
                 return;
             }
-            currentCrowdSum = incomingSum;
+            b.setCrowdSum(incomingSum);
 
             // Replace the crowd snapshot for this round with the newer frame.
             crowdStake.clear();
@@ -453,7 +485,7 @@ public final class BetCoordinator {
 
             Map<Integer, Long> newBudget = computeCrowdBudget(
                     optionAffinities, maxAggregateStakePerRound, pureCrowd);
-            current = b.withBudget(newBudget);
+            b.setBudget(newBudget);
 
             if (log.isTraceEnabled()) {
                 log.trace("BetCoordinator.observeCrowd: sid={} crowd={} pureCrowd={} adjustedBudget={}",
@@ -464,6 +496,21 @@ public final class BetCoordinator {
         }
     }
 
+    /**
+     * {@code Σv(o)} over the known options of a crowd frame, computed exactly as
+     * {@link #observeCrowd} does under the lock, but allocation-free so duplicate
+     * frames can be compared against the high-water mark first.
+     */
+    private long crowdSum(List<CrowdOption> options) {
+        long sum = 0L;
+        for (CrowdOption o : options) {
+            if (o != null && optionAffinities.containsKey(o.optionId())) {
+                sum += Math.max(0L, o.value());
+            }
+        }
+        return sum;
+    }
+
     /**
      * Snapshot the finished round for observability and emit the one-per-round
      * DEBUG summary — realized-vs-target histogram + cumulative approve / trim /
@@ -471,10 +518,10 @@ public final class BetCoordinator {
      *
      * <p>First-seen idempotent across the group's bots (AD-6), mirroring
      * {@link #onRound(long)}: this is called from every bot's {@code onEndGame},
-     * i.e. once per bot per round. Under the lock, only the first call for a given
-     * round's sid emits the summary; the other N−1 bots' calls for the same sid
-     * are a no-op, so the fleet logs one DEBUG line per group per round rather than
-     * one per bot. Since {@code onRoundComplete} does not swap {@code current}, the
+     * i.e. once per bot per round. Only the first call for a given round's sid
+     * emits the summary; the other N−1 bots' calls for the same sid return on a
+     * volatile read before the lock, so the fleet logs one DEBUG line per group
+     * per round rather than one per bot. Since {@code onRoundComplete} does not swap {@code current}, the
      * round being finalized is {@code current.sessionId()}; the {@code 0} sentinel
      * (no active round) never logs.
      */
@@ -483,6 +530,10 @@ public final class BetCoordinator {
         long committedAggregate;
         List<String> histogram;
         List<String> crowdHistogram = List.of();
+        long inFlight = current.sessionId();
+        if (inFlight == 0L || inFlight == lastCompletedSessionId) {
+            return;
+        }
         lock.lock();
         try {
             RoundBudget b = current;
@@ -513,7 +564,7 @@ public final class BetCoordinator {
                 completedSid, committedAggregate, maxAggregateStakePerRound,
                 String.join(" ", histogram),
                 crowdHistogram.isEmpty() ? "" : " crowd=[" + String.join(" ", crowdHistogram) + "]",
-                approveCount.get(), trimCount.get(), rejectCount.get());
+                approveCount.sum(), trimCount.sum(), rejectCount.sum());
     }
 
     // --- Read accessors for the health DTO (Phase 4). ---------------------
@@ -523,52 +574,41 @@ public final class BetCoordinator {
     }
 
     public long getApproveCount() {
-        return approveCount.get();
+        return approveCount.sum();
     }
 
     public long getTrimCount() {
-        return trimCount.get();
+        return trimCount.sum();
     }
 
     public long getRejectCount() {
-        return rejectCount.get();
+        return rejectCount.sum();
     }
 
-    /**
-     * @return the current committed aggregate stake, read under the lock so it
-     *         is never torn against a concurrent {@code reserve}.
-     */
+    /** @return the current committed aggregate stake (a single atomic read). */
     public long getCurrentAggregateStake() {
-        lock.lock();
-        try {
-            return current.committedAggregate();
-        } finally {
-            lock.unlock();
-        }
+        return current.committedAggregate();
     }
 
     /**
      * The in-flight round's per-option budget map — the crowd-adjusted
      * {@code B_crowd(o)} after any {@link #observeCrowd}, or the internal-tier
-     * {@code B(o)} when no crowd has been observed. Read under the lock so it is
-     * never torn against a concurrent {@code reserve}/{@code observeCrowd}.
+     * {@code B(o)} when no crowd has been observed. The map is immutable and
+     * swapped whole, so a plain read is never torn.
      *
      * <p>Package-private: the Phase 2 crowd unit tests assert the recomputed
      * budgets directly; the public health surface (Phase 4, AD-C10) will expose
      * these through the extended {@link #snapshot()}.
      */
     Map<Integer, Long> currentBudget() {
-        lock.lock();
-        try {
-            return new LinkedHashMap<>(current.budget());
-        } finally {
-            lock.unlock();
-        }
+        return new LinkedHashMap<>(current.budget());
     }
 
     /**
-     * Coherent snapshot of the coordinator's live state for the health DTO,
-     * read under a single lock acquisition to avoid a torn view (AD-3). The
+     * Snapshot of the coordinator's live state for the health DTO, read under
+     * the lock so the crowd view is never torn against a recompute (AD-3).
+     * Reservations do not take the lock, so committed stake may move while the
+     * options are read; each value is itself an atomic read. The
      * per-option list follows the affinity key set; {@code targetBudget} is
      * round-independent, {@code committedStake} reflects the in-flight round.
      */
@@ -618,9 +658,9 @@ public final class BetCoordinator {
             return new Snapshot(
                     maxAggregateStakePerRound,
                     b.committedAggregate(),
-                    approveCount.get(),
-                    trimCount.get(),
-                    rejectCount.get(),
+                    approveCount.sum(),
+                    trimCount.sum(),
+                    rejectCount.sum(),
                     crowdAware,
                     crowdCountSemantic,
                     List.copyOf(options));
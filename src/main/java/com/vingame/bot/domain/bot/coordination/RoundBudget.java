@@ -2,22 +2,24 @@ package com.vingame.bot.domain.bot.coordination;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
 
 /**
- * Per-round budget snapshot owned by {@link BetCoordinator}: the immutable
- * per-option targets and aggregate cap for one {@code sessionId}, plus the
- * mutable committed running totals accumulated as bots reserve stake.
+ * Per-round budget owned by {@link BetCoordinator}: the per-option targets and
+ * aggregate cap for one {@code sessionId}, plus the committed running totals
+ * accumulated as bots reserve stake.
  *
  * <p>See {@code docs/plans/BET_COORDINATION.md}, AD-3 / AD-4 / AD-5.
  *
- * <p><b>Thread-safety.</b> Instances are constructed and swapped into
- * {@code BetCoordinator.current} under the coordinator's {@code ReentrantLock},
- * and both {@link #commit(int, long)} and every read of the committed totals
- * happen under that same lock. This class holds no locking of its own — it is a
- * plain data holder whose mutation is package-private so only the coordinator
- * (holding the lock) can touch it. The {@code budget}, {@code cap} and
- * {@code sessionId} fields are effectively final per round; only
- * {@code committed}/{@code committedAggregate} change.
+ * <p><b>Thread-safety.</b> Reservations take no lock: each option's committed
+ * stake and the committed aggregate are {@link AtomicLong}s, and
+ * {@link #reserve} claims headroom on both with compare-and-set (see there). The
+ * per-option targets are an immutable map behind a {@code volatile} field, swapped
+ * whole by the coordinator's crowd recompute ({@link #setBudget}) without touching
+ * the committed totals (AD-C9); a reservation racing that swap may still commit
+ * against the target it read (see {@link #reserve}). {@code sessionId} and {@code cap} are final; a new
+ * round is a new instance.
  */
 final class RoundBudget {
 
@@ -25,34 +27,28 @@ final class RoundBudget {
     private final long sessionId;
     /** Aggregate per-round stake ceiling for the whole group/fleet. */
     private final long cap;
-    /** Immutable per-option target budgets, {@code B(o) = floor(w(o)/W * cap)}. */
-    private final Map<Integer, Long> budget;
+    /** Immutable per-option targets, {@code B(o)}; replaced whole, never mutated. */
+    private volatile Map<Integer, Long> budget;
 
-    /** Mutable per-option committed stake; only mutated under the coordinator lock. */
-    private final Map<Integer, Long> committed;
-    /** Mutable committed aggregate across all options; only mutated under the lock. */
-    private long committedAggregate;
+    /** Committed stake per option, one slot per option known at round open. */
+    private final Map<Integer, AtomicLong> committed;
+    /** Committed aggregate across all options. */
+    private final AtomicLong committedAggregate = new AtomicLong();
+
+    /**
+     * Largest crowd sum {@code Σv(o)} accepted for this round, {@code -1} before the
+     * first frame (AD-C3). Volatile so the coordinator can drop a duplicate or older
+     * frame without taking its lock; only raised under the lock.
+     */
+    private volatile long crowdSum = -1L;
 
     RoundBudget(long sessionId, long cap, Map<Integer, Long> budget) {
         this.sessionId = sessionId;
         this.cap = cap;
         this.budget = Map.copyOf(budget);
-        this.committed = new HashMap<>();
-        this.committedAggregate = 0L;
-    }
-
-    /**
-     * Private copy constructor for {@link #withBudget(Map)}: same {@code sessionId}
-     * and {@code cap}, a fresh immutable {@code budget}, but the committed running
-     * totals carried over from {@code src} (a defensive copy so the source stays
-     * independent).
-     */
-    private RoundBudget(RoundBudget src, Map<Integer, Long> newBudget) {
-        this.sessionId = src.sessionId;
-        this.cap = src.cap;
-        this.budget = Map.copyOf(newBudget);
-        this.committed = new HashMap<>(src.committed);
-        this.committedAggregate = src.committedAggregate;
+        Map<Integer, AtomicLong> slots = new HashMap<>(budget.size() * 2);
+        budget.keySet().forEach(o -> slots.put(o, new AtomicLong()));
+        this.committed = Map.copyOf(slots);
     }
 
     long sessionId() {
@@ -65,15 +61,22 @@ final class RoundBudget {
     }
 
     /**
-     * Return a new {@link RoundBudget} for the same round with {@code newBudget}
-     * replacing the per-option targets while <em>preserving</em> the committed
-     * running totals ({@code committed}/{@code committedAggregate}). Used by the
-     * coordinator's intra-round crowd recompute (AD-C9): the fleet's spend so far
-     * this round is real and must survive a mid-round budget swap. Caller holds
-     * the coordinator lock.
+     * Replace the per-option targets for the rest of the round while
+     * <em>preserving</em> the committed running totals. Used by the coordinator's
+     * intra-round crowd recompute (AD-C9): the fleet's spend so far this round is
+     * real and must survive a mid-round budget swap. Caller holds the coordinator lock.
      */
-    RoundBudget withBudget(Map<Integer, Long> newBudget) {
-        return new RoundBudget(this, newBudget);
+    void setBudget(Map<Integer, Long> newBudget) {
+        this.budget = Map.copyOf(newBudget);
+    }
+
+    long crowdSum() {
+        return crowdSum;
+    }
+
+    /** Caller holds the coordinator lock. */
+    void setCrowdSum(long crowdSum) {
+        this.crowdSum = crowdSum;
     }
 
     /** @return this option's target budget, or {@code 0} if the option is unknown. */
@@ -83,26 +86,62 @@ final class RoundBudget {
 
     /** @return this option's committed stake so far, or {@code 0}. */
     long committedOf(int optionId) {
-        return committed.getOrDefault(optionId, 0L);
+        AtomicLong slot = committed.get(optionId);
+        return slot == null ? 0L : slot.get();
     }
 
     long committedAggregate() {
-        return committedAggregate;
-    }
-
-    /** Remaining headroom on this option: {@code B(o) - committed(o)}, never negative. */
-    long remainingOption(int optionId) {
-        return Math.max(0L, budgetOf(optionId) - committedOf(optionId));
+        return committedAggregate.get();
     }
 
-    /** Remaining headroom on the aggregate cap: {@code cap - committedAggregate}, never negative. */
-    long remainingAggregate() {
-        return Math.max(0L, cap - committedAggregate);
-    }
-
-    /** Commit {@code amount} to an option and the aggregate. Caller holds the coordinator lock. */
-    void commit(int optionId, long amount) {
-        committed.merge(optionId, amount, Long::sum);
-        committedAggregate += amount;
+    /**
+     * Commit up to {@code amount} to an option and the aggregate without a lock.
+     * Reads both committed totals, sizes the commit as
+     * {@code alignDown(min(amount, option headroom, aggregate headroom))}, then
+     * claims it with a CAS on the aggregate followed by a CAS on the option. Either
+     * CAS failing means another reservation moved that total: the aggregate claim is
+     * released if it was taken, and the whole step is retried against fresh values.
+     * Each CAS is validated against the total it read, so neither the cap nor an
+     * option's budget can be overrun. Between the two CASes a claim may briefly hold
+     * aggregate headroom it then gives back, which can only make a concurrent
+     * reservation more conservative.
+     *
+     * <p><b>Racing {@link #setBudget}.</b> The option target is read once per attempt
+     * and is not part of either CAS, so a reservation that read the old target can
+     * still commit after a concurrent swap has lowered it. The overshoot is bounded
+     * by the reservations in flight across the swap (each at most {@code amount}),
+     * only ever lands on one option's target, and never on the aggregate {@code cap},
+     * which is final. Later reservations see the new target and the committed total
+     * is kept, so the option simply has no headroom left for the round. This is the
+     * accepted cost of not locking the hot path; {@code BetCoordinator#observeCrowd}
+     * is the only caller that swaps mid-round.
+     *
+     * @param alignDown grid alignment, returning {@code 0} for an amount too small
+     *                  to place
+     * @return the committed amount, or {@code 0} when nothing fits
+     */
+    long reserve(int optionId, long amount, LongUnaryOperator alignDown) {
+        AtomicLong option = committed.get(optionId);
+        if (option == null) {
+            return 0L;
+        }
+        while (true) {
+            long optionCommitted = option.get();
+            long aggregate = committedAggregate.get();
+            long allow = Math.min(amount, Math.min(
+                    Math.max(0L, budgetOf(optionId) - optionCommitted),
+                    Math.max(0L, cap - aggregate)));
+            long aligned = alignDown.applyAsLong(allow);
+            if (aligned <= 0L) {
+                return 0L;
+            }
+            if (!committedAggregate.compareAndSet(aggregate, aggregate + aligned)) {
+                continue;
+            }
+            if (option.compareAndSet(optionCommitted, optionCommitted + aligned)) {
+                return aligned;
+            }
+            committedAggregate.addAndGet(-aligned);
+        }
     }
 }
@@ -1,15 +1,18 @@
 package com.vingame.bot.domain.bot.core;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.vingame.bot.config.bot.BotBehaviorConfig;
 import com.vingame.bot.domain.bot.coordination.BetCoordinator;
-import com.vingame.bot.domain.bot.coordination.ReservationOutcome;
 import com.vingame.bot.domain.bot.message.request.GameRequest;
 import com.vingame.bot.domain.bot.message.request.Request;
 import com.vingame.bot.domain.bot.strategy.BetContext;
 import com.vingame.bot.domain.bot.strategy.BetDecision;
+import com.vingame.bot.domain.bot.strategy.BetSlot;
 import com.vingame.bot.domain.bot.strategy.BettingStrategy;
 import com.vingame.bot.domain.bot.strategy.BettingStrategyFactory;
 import com.vingame.bot.domain.bot.strategy.BotMemory;
@@ -18,7 +21,6 @@ import com.vingame.bot.domain.bot.strategy.RoundResult;
 import com.vingame.bot.domain.bot.strategy.StrategyId;
 import com.vingame.bot.domain.bot.util.BettingMiniGameState;
 import com.vingame.bot.domain.bot.util.GameState;
-import com.vingame.bot.domain.bot.util.OutputPrinter;
 import com.vingame.bot.domain.bot.util.SessionIdStore;
 import com.vingame.bot.domain.bot.message.EndGameMessage;
 import com.vingame.bot.domain.bot.message.GameMessageTypes;
@@ -27,30 +29,37 @@ import com.vingame.bot.domain.bot.message.HasBotWinnings;
 import com.vingame.bot.domain.bot.message.HasCrowdBets;
 import com.vingame.bot.domain.bot.message.HasJackpot;
 import com.vingame.bot.domain.bot.message.HasJackpotPool;
+import com.vingame.bot.domain.bot.message.PersonalFields;
+import com.vingame.bot.domain.bot.message.RecipientPersonalized;
+import com.vingame.bot.domain.bot.message.SplitPersonalized;
+import com.vingame.bot.domain.bot.message.BettingMiniMessage;
 import com.vingame.bot.domain.bot.message.StartGameMd5Message;
 import com.vingame.bot.domain.bot.message.StartGameMessage;
 import com.vingame.bot.domain.bot.message.SubscribeMessage;
 import com.vingame.bot.domain.bot.message.UpdateBetMessage;
 import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.infrastructure.observability.BettingSessionStrategy;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.bot.infrastructure.observability.SessionAggregationStrategy;
-import com.vingame.websocketparser.ObjectMapperProvider;
+import com.vingame.bot.infrastructure.runtime.BetTickDriver;
+import com.vingame.bot.infrastructure.runtime.BetTickParticipant;
+import com.vingame.bot.infrastructure.runtime.BroadcastFrameCache;
+import com.vingame.websocketparser.message.ProcessableMessage;
+import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.request.ActionRequestMessage;
 import com.vingame.websocketparser.message.response.ActionResponseMessage;
 import com.vingame.websocketparser.scenario.PipelineContext;
 import com.vingame.websocketparser.scenario.Scenario;
+import io.netty.util.Timeout;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static com.vingame.websocketparser.message.properties.MessageType.RECEIVED;
@@ -60,9 +69,10 @@ import static com.vingame.websocketparser.scenario.matchers.Qualifier.typeOf;
 import static com.vingame.websocketparser.scenario.processors.OutboundMessage.buildMessage;
 import static com.vingame.websocketparser.scenario.processors.SendMode.INFINITE;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 @Slf4j
-public class BettingMiniGameBot extends Bot {
+public class BettingMiniGameBot extends Bot implements BetTickParticipant {
 
     // JACKPOT_SCALE_AND_RAMP (AD-R3): accept probability at window-open. A small
     // non-zero floor so the early window is not dead (some early bettors are
@@ -73,6 +83,12 @@ public class BettingMiniGameBot extends Bot {
     @Setter
     private GameMessageTypes messageTypes;
 
+    // Shared, pre-warmed scenario mapper for this bot's product/game layout
+    // (injected by BotFactory from MessageCodecRegistry). Null-tolerant: null
+    // builds a private mapper from messageTypeRegistrations(), as before.
+    @Setter
+    private ObjectMapper messageMapper;
+
     private GameRequest request;
 
     // Game state
@@ -87,13 +103,16 @@ public class BettingMiniGameBot extends Bot {
     private long blockBetTime = 3_000L;
     private volatile GameState gameState;
     private long timeForBetting = 0L;
-    private final AtomicLong remainingTime = new AtomicLong(0L);
-
-    private ScheduledExecutorService scheduler;
-
-    // Watchdog — fires if no game messages arrive within the configured timeout
-    private ScheduledExecutorService watchdogScheduler;
-    private volatile ScheduledFuture<?> watchdogTask;
+    // Bet-window deadline on the System.nanoTime() clock, stamped once at StartGame.
+    // Remaining time is derived on read (remainingTimeMillis) — there is no ticking
+    // countdown task. NO_BET_WINDOW outside a round (before the first StartGame and
+    // after reconnect) reads as 0ms remaining.
+    private static final long NO_BET_WINDOW = Long.MIN_VALUE;
+    private volatile long betDeadlineNanos = NO_BET_WINDOW;
+
+    // Watchdog — fires if no game messages arrive within the configured timeout.
+    // Armed on the process-wide BotTimer wheel; re-arming is an O(1) cancel + insert.
+    private volatile Timeout watchdogTask;
     private long watchdogTimeoutMillis;
 
     // Betting state — per-bot RNG, owned by the bot and threaded into BetContext
@@ -127,10 +146,50 @@ public class BettingMiniGameBot extends Bot {
     // Pre-computed decision shared between the sendAsync condition and the
     // supplier. The scenario engine throws if the supplier returns null
     // (SendAsync.processInternal:135), so the condition computes decide(ctx)
-    // and parks the Optional here; the supplier reads it back to build the bet.
+    // and parks it here; the supplier reads it back to build the bet.
     // See BETTING_STRATEGIES.md Implementation Note 1.
-    private final AtomicReference<Optional<BetDecision>> pendingDecision =
-            new AtomicReference<>(Optional.empty());
+    private final PendingBet pendingDecision = new PendingBet();
+
+    // Per-bot tick scratch, reused on every tick so the decision path allocates
+    // nothing: the strategy context (refilled in buildBetContext) and the primitive
+    // decision slot that decideBet / applyCoordination / bet() work on. Only touched
+    // on the bot's tick thread — the scenario's sendAsync thread or, with a group
+    // driver, the driver's (non-overlapping) tick for this bot.
+    private BetContext tickContext;
+    private final BetSlot decisionSlot = new BetSlot();
+
+    // The condition/supplier pair, built once rather than per call; the MDC-wrapped
+    // pair for the driver path is built lazily on the first poll.
+    private final Supplier<Boolean> betCondition = this::evaluateBetCondition;
+    private final Supplier<ActionRequestMessage> bet = this::nextBetFrame;
+    private Supplier<Boolean> mdcBetCondition;
+    private Runnable mdcBookDispatched;
+
+    // Driver path: the decision behind the frame pollBetFrame() handed out, booked only
+    // when sendBetFrame() actually sends it, and the round it was decided for. One at
+    // a time — a poll while a frame is still waiting for its slot skips the tick.
+    // undispatchedSid is written before the park publishes the amount.
+    private final PendingBet undispatched = new PendingBet();
+    private volatile long undispatchedSid;
+    // Scratch for sendBetFrame; only touched by the one dispatch in flight.
+    private final BetSlot dispatchSlot = new BetSlot();
+    private long dispatchSid;
+
+    // Group-scoped bet clock — set by the runtime startBot loop before start(), like
+    // the coordinator. Null-tolerant: null means the scenario runs this bot's own
+    // sendAsync loop (today's path); non-null means the scenario omits it and the
+    // driver polls pollBetFrame() once per interval for the whole group.
+    private volatile BetTickDriver betTickDriver;
+
+    // Group-scoped decode-once cache for round broadcasts — set by the runtime
+    // startBot loop before start(), like the driver. Null-tolerant: null means each
+    // round frame is decoded by this bot's own scenario (today's path).
+    private volatile BroadcastFrameCache broadcastFrameCache;
+
+    // Set by onSubscribe, cleared on reconnect. Gates the shared broadcast handlers,
+    // which (unlike the scenario's onMessage stages) are registered before the
+    // subscribe round-trip completes.
+    private volatile boolean subscribed;
 
     // Visible for testing — allows deterministic randomness in unit tests by
     // injecting a mocked or seeded Random. Preserves the legacy test seam used
@@ -185,9 +244,6 @@ public class BettingMiniGameBot extends Bot {
         }
 
         this.watchdogTimeoutMillis = configuration.getWatchdogTimeoutSeconds() * 1000L;
-        this.watchdogScheduler = Executors.newSingleThreadScheduledExecutor(
-                Thread.ofVirtual().name("watchdog-" + getUserName()).factory()
-        );
 
         log.info("BettingMiniGameBot initialized: game={}, offset={}, options={}, md5={}, watchdog={}s, strategy={}",
                 game.getName(), offset, game.getEffectiveOptionAffinities().size(), game.isMd5(),
@@ -328,69 +384,81 @@ public class BettingMiniGameBot extends Bot {
     private void onNewSession() {
         long balance = checkBalance();
         BotBehaviorConfig behavior = configuration.getBehaviorConfig();
-        if (behavior.isAutoDepositEnabled() && balance < getMinBalance()) {
-            log.info("Bot {}: balance {} below minimum {}, triggering deposit", getUserName(), balance, getMinBalance());
-            deposit();
+        if (behavior.isAutoDepositEnabled() && isBalanceKnown()) {
+            autoDeposit(balance);
         } else {
             log.debug("Bot {}: session balance {}", getUserName(), balance);
         }
     }
 
-    private void startRemainingTimeCountDown() {
-        scheduler = Executors.newSingleThreadScheduledExecutor(
-                Thread.ofVirtual().name("countdown-" + getUserName()).factory()
-        );
+    /**
+     * Open the bet window: {@code windowMillis} from now on the monotonic clock.
+     * Package-private so fixtures can position a bot inside the window without a
+     * StartGame frame.
+     */
+    void openBetWindow(long windowMillis) {
+        betDeadlineNanos = System.nanoTime() + MILLISECONDS.toNanos(windowMillis);
+    }
 
-        remainingTime.set(timeForBetting);
-        // Wrap with mdcWrap so any future log lines from this countdown task carry the
-        // bot's identity. The countdown-<userName> virtual thread is created with an
-        // empty MDC; today the body is logging-free but the wrap is cheap insurance.
-        scheduler.scheduleAtFixedRate(mdcWrap(() -> {
-            if (remainingTime.get() > 0) {
-                remainingTime.addAndGet(-1_000L);
-            }
-        }), 0L, 1_000L, MILLISECONDS);
+    /**
+     * Milliseconds left in the current bet window, derived from the StartGame
+     * deadline. 0 outside a round or once the deadline has passed.
+     */
+    long remainingTimeMillis() {
+        long deadline = betDeadlineNanos;
+        if (deadline == NO_BET_WINDOW) return 0L;
+        return Math.max(0L, NANOSECONDS.toMillis(deadline - System.nanoTime()));
     }
 
     private void scheduleWatchdog() {
-        if (watchdogTask != null && !watchdogTask.isDone()) {
-            watchdogTask.cancel(false);
+        Timeout previous = watchdogTask;
+        if (previous != null) {
+            previous.cancel();
         }
         // Wrap with mdcWrap so the warn-log + triggerFullReconnect() inside
-        // onWatchdogExpired carry the bot's MDC. The watchdog-<userName> virtual
-        // thread is created with an empty MDC.
-        watchdogTask = watchdogScheduler.schedule(
-                mdcWrap(this::onWatchdogExpired),
-                watchdogTimeoutMillis,
-                MILLISECONDS
-        );
+        // onWatchdogExpired carry the bot's MDC. BotTimer runs expired tasks on a
+        // fresh virtual thread with an empty MDC.
+        watchdogTask = timer().schedule(mdcWrap(this::onWatchdogExpired), watchdogTimeoutMillis);
+    }
+
+    /**
+     * Cancel the armed watchdog and close the bet window. Idempotent. Called on
+     * reconnect and cleanup; package-private so fixtures can tear a bot down
+     * without a live client.
+     */
+    void cancelTimers() {
+        Timeout task = watchdogTask;
+        if (task != null) {
+            task.cancel();
+            watchdogTask = null;
+        }
+        betDeadlineNanos = NO_BET_WINDOW;
     }
 
     private void onWatchdogExpired() {
         if (isStopped()) return;
         log.warn("Bot {}: no game message in {}s — triggering full reconnect",
                 getUserName(), configuration.getWatchdogTimeoutSeconds());
-        if (metrics != null) metrics.incBotWatchdogExpired();
+        BotMeters m = meters();
+        if (m != null) m.incBotWatchdogExpired();
         triggerFullReconnect("watchdog timeout (" + configuration.getWatchdogTimeoutSeconds() + "s without game message)");
     }
 
     private void onSubscribe(ActionResponseMessage<? extends SubscribeMessage> data) {
-        if (metrics != null) metrics.incBotMessage("subscribe");
+        BotMeters m = meters();
+        if (m != null) m.incBotMessage("subscribe");
         markConnectionAuthenticated();
         SubscribeMessage msg = data.getData();
         blockBetTime = msg.getTimeForDecision();
         timeForBetting = msg.getTimeForBetting();
+        subscribed = true;
         scheduleWatchdog();
     }
 
     private void onStartGame(ActionResponseMessage<? extends StartGameMessage> data) {
-        if (metrics != null) metrics.incBotMessage("startGame");
-        if (scheduler != null) {
-            scheduler.shutdownNow();
-            scheduler = null;
-        }
-
-        startRemainingTimeCountDown();
+        BotMeters m = meters();
+        if (m != null) m.incBotMessage("startGame");
+        openBetWindow(timeForBetting);
         StartGameMessage msg = data.getData();
         sidStore.set(msg.getSessionId());
         // AGGREGATED_SESSION_LOGGING (AD-5): the FIRST bot to observe this sid for
@@ -434,7 +502,8 @@ public class BettingMiniGameBot extends Bot {
     }
 
     private void onUpdate(ActionResponseMessage<? extends UpdateBetMessage> data) {
-        if (metrics != null) metrics.incBotMessage("updateBet");
+        BotMeters m = meters();
+        if (m != null) m.incBotMessage("updateBet");
         UpdateBetMessage msg = data.getData();
         int gameStateId = msg.getGameState();
 
@@ -455,7 +524,8 @@ public class BettingMiniGameBot extends Bot {
     }
 
     private void onEndGame(ActionResponseMessage<? extends EndGameMessage> data) {
-        if (metrics != null) metrics.incBotMessage("endGame");
+        BotMeters m = meters();
+        if (m != null) m.incBotMessage("endGame");
 
         EndGameMessage msg = data.getData();
         // Marker-interface dispatch (ENDGAME_METRICS plan, Phase A/C).
@@ -466,33 +536,33 @@ public class BettingMiniGameBot extends Bot {
         // payload now owns extraction.
         // Extraction (local-accumulator updates) runs unconditionally — those
         // fields back BotHealthDTO and are independent of Prometheus wiring.
-        // Only the metric emission is gated on `metrics != null`.
+        // Only the metric emission is gated on the bot having meters bound.
         long payout = 0L;
         if (msg instanceof HasBotWinnings hw) {
             long w = hw.winningsFor(getUserName());
             payout = w;
             lastRoundWinnings = w;
             // Mirror bot_winnings_total value-for-value (BOTGROUP_GAME_MANAGEMENT AD-8):
-            // same w>0 guard as the metric, but not gated on metrics != null.
-            if (w > 0) cumulativeWinnings.addAndGet(w);
-            if (metrics != null && w > 0) metrics.incBotWinnings(w);
+            // same w>0 guard as the metric, but not gated on meters being bound.
+            if (w > 0) addWinnings(w);
+            if (m != null && w > 0) m.incBotWinnings(w);
         }
         // Refund-aware balance credit (AD-11). Default is 0 (BettingMini
         // unchanged); Tai Xiu nets the refund gR + winnings back into the local
         // balance because the full bet b was debited at bet time.
         long balanceCredit = balanceCreditFor(msg, payout);
         if (balanceCredit != 0L) {
-            expectedCurrentBalance.addAndGet(balanceCredit);
+            adjustBalance(balanceCredit);
         }
-        if (metrics != null) {
+        if (m != null) {
             if (msg instanceof HasJackpot hj) {
                 long j = hj.jackpotFor(getUserName());
-                if (j > 0) metrics.incBotJackpot(j);
+                if (j > 0) m.incBotJackpot(j);
             }
             if (msg instanceof HasBetTotals bt) {
                 // Batch increment: bot_bets_placed_total += count,
                 // bot_bet_amount_total += amount. Two-counter math, no average.
-                metrics.incBetsPlaced(bt.betCountFor(getUserName()),
+                m.incBetsPlaced(bt.betCountFor(getUserName()),
                         bt.betAmountFor(getUserName()));
             }
         }
@@ -518,7 +588,7 @@ public class BettingMiniGameBot extends Bot {
         // memory and strategy are both non-null post-initializeSubclass.
         // One completed round observed (BOTGROUP_GAME_MANAGEMENT AD-9). The group
         // "rounds since last restart" stat is the max of this counter across bots.
-        roundsObserved.incrementAndGet();
+        recordRoundObserved();
 
         Optional<Integer> winningOption = Optional.empty();
         RoundResult roundResult = memory.completeRound(endGameSessionId(msg), winningOption, payout);
@@ -551,57 +621,47 @@ public class BettingMiniGameBot extends Bot {
         }
 
         gameState = BettingMiniGameState.PAYOUT;
-        if (scheduler != null) {
-            scheduler.shutdownNow();
-            scheduler = null;
-        }
+        betDeadlineNanos = NO_BET_WINDOW;
         scheduleWatchdog();
         onNewSession();
     }
 
     @Override
     protected void beforeReconnect() {
-        if (watchdogTask != null) {
-            watchdogTask.cancel(false);
-            watchdogTask = null;
-        }
-        if (scheduler != null) {
-            scheduler.shutdownNow();
-            scheduler = null;
-        }
+        cancelTimers();
+        subscribed = false;
         sidStore.set(0L);
         gameState = null;
-        remainingTime.set(0L);
         // Strategy state is intentionally not reset here — a reconnect mid-round
         // does not produce a new RoundResult, and strategies that care about
         // cross-round state (e.g. Martingale loss streak) should not lose it on
         // a transient WS disconnect. RandomBehaviorStrategy's per-round counter
         // re-syncs on the next StartGame via the sessionId-change branch.
-        pendingDecision.set(Optional.empty());
+        pendingDecision.clear();
+        // A frame still waiting for its driver slot is dropped unbooked.
+        undispatched.clear();
     }
 
     @Override
     public void cleanup() {
         super.cleanup();
-        if (watchdogScheduler != null && !watchdogScheduler.isShutdown()) {
-            watchdogScheduler.shutdownNow();
-        }
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdownNow();
-        }
+        cancelTimers();
     }
 
     /**
-     * Build a fresh {@link BetContext} snapshot for the current tick. Called
-     * from the scenario condition (and indirectly from the supplier via the
-     * parked {@link #pendingDecision}) on the {@code pool-N-thread-1} scenario
-     * thread. Strategies read this synchronously and must not cache it across
-     * calls — the in-flight RoundState, balance, and memory snapshots are all
-     * stale by the next tick.
+     * Refill this bot's {@link BetContext} for the current tick. Called from the
+     * condition (and from the supplier's re-derive fallback) on the bot's tick
+     * thread. The same instance is reused every tick — strategies read it
+     * synchronously and must not cache it across calls.
      */
     private BetContext buildBetContext() {
         BotBehaviorConfig behavior = configuration.getBehaviorConfig();
-        return new BetContext(
+        BetContext ctx = tickContext;
+        if (ctx == null) {
+            ctx = new BetContext(memory, behavior, configuration.getGame(), 0L, memory.getCurrentRound(), rng);
+            tickContext = ctx;
+        }
+        return ctx.reset(
                 memory,
                 behavior,
                 configuration.getGame(),
@@ -629,7 +689,7 @@ public class BettingMiniGameBot extends Bot {
     }
 
     /**
-     * Seam over {@code strategy.decide(ctx)} (TAI_XIU_BOT plan AD-13). Both betting
+     * Seam over {@code strategy.decideInto(ctx, out)} (TAI_XIU_BOT plan AD-13). Both betting
      * call sites — {@link #betCondition()} (parks the decision) and {@link #bet()}
      * (pops/re-derives) — route through this method so a subclass can post-process
      * the strategy's chosen entry without touching the strategy itself.
@@ -643,11 +703,16 @@ public class BettingMiniGameBot extends Bot {
      * increase the stake on the entry already bet this round). The strategy's
      * <i>amount</i> is preserved either way — only the <i>entry</i> is constrained.
      *
+     * <p>Works on the bot's reusable {@link BetSlot} rather than returning an
+     * {@code Optional<BetDecision>}, so an overriding subclass remaps in place and the
+     * tick allocates no decision objects.
+     *
      * @param ctx the per-tick context, also handed to the strategy
-     * @return the (possibly remapped) decision, or empty to skip the tick
+     * @param out receives the (possibly remapped) decision
+     * @return {@code true} to bet {@code out}; {@code false} to skip the tick
      */
-    protected Optional<BetDecision> decideBet(BetContext ctx) {
-        return strategy.decide(ctx);
+    protected boolean decideBet(BetContext ctx, BetSlot out) {
+        return strategy.decideInto(ctx, out);
     }
 
     /**
@@ -657,41 +722,44 @@ public class BettingMiniGameBot extends Bot {
      * the final, locked entry.
      *
      * <p>When {@code coordinator == null} (coordination off, AD-9) this is the
-     * identity: it returns {@code Optional.of(proposed)} and the bet path is
-     * byte-for-byte today's. Otherwise it reserves against the in-flight round:
-     * APPROVE → the same decision, TRIM → a new {@link BetDecision} with the
-     * grid-aligned trimmed amount, REJECT → {@link Optional#empty()} (skip tick).
+     * identity: it returns {@code true} with {@code proposed} untouched and the bet
+     * path is byte-for-byte today's. Otherwise it reserves against the in-flight
+     * round: APPROVE → the same decision, TRIM → {@code proposed}'s amount lowered
+     * in place to the grid-aligned trimmed amount, REJECT → {@code false} (skip tick).
      *
      * <p>Per CLAUDE.md the per-proposal outcome is TRACE only — never DEBUG (the
      * group-level per-round summary is the coordinator's own DEBUG line).
      *
      * @param ctx      the per-tick context (unused today; kept for a future
      *                 crowd-aware budget that would read it — AD-2 signature).
-     * @param proposed the non-empty decision returned by {@link #decideBet}.
-     * @return the gated decision, or empty to skip the tick on REJECT.
+     * @param proposed the decision filled by {@link #decideBet}; gated in place.
+     * @return {@code true} to bet {@code proposed}; {@code false} to skip the tick on REJECT.
      */
-    protected Optional<BetDecision> applyCoordination(BetContext ctx, BetDecision proposed) {
+    protected boolean applyCoordination(BetContext ctx, BetSlot proposed) {
         if (coordinator == null) {
-            return Optional.of(proposed);
+            return true;
         }
-        ReservationOutcome outcome = coordinator.reserve(sidStore.get(), proposed.optionId(), proposed.amount());
-        switch (outcome.decision()) {
-            case APPROVE -> {
+        long committed = coordinator.reserveAmount(sidStore.get(), proposed.optionId(), proposed.amount());
+        if (committed == proposed.amount()) {
+            if (log.isTraceEnabled()) {
                 log.trace("Bot {}: coordinator APPROVE option={}, amount={}",
                         getUserName(), proposed.optionId(), proposed.amount());
-                return Optional.of(proposed);
             }
-            case TRIM -> {
+            return true;
+        }
+        if (committed > 0L) {
+            if (log.isTraceEnabled()) {
                 log.trace("Bot {}: coordinator TRIM option={}, amount {} -> {}",
-                        getUserName(), proposed.optionId(), proposed.amount(), outcome.amount());
-                return Optional.of(new BetDecision(proposed.optionId(), outcome.amount()));
-            }
-            default -> {
-                log.trace("Bot {}: coordinator REJECT option={}, amount={} (skip tick)",
-                        getUserName(), proposed.optionId(), proposed.amount());
-                return Optional.empty();
+                        getUserName(), proposed.optionId(), proposed.amount(), committed);
             }
+            proposed.amount(committed);
+            return true;
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("Bot {}: coordinator REJECT option={}, amount={} (skip tick)",
+                    getUserName(), proposed.optionId(), proposed.amount());
         }
+        return false;
     }
 
     /**
@@ -716,52 +784,59 @@ public class BettingMiniGameBot extends Bot {
      * production.
      */
     private Supplier<ActionRequestMessage> bet() {
-        return () -> {
-            Optional<BetDecision> popped = pendingDecision.getAndSet(Optional.empty());
-            if (popped.isEmpty()) {
-                // Race fallback. The condition computed and parked a decision
-                // but a concurrent netty event (beforeReconnect) cleared it
-                // before the supplier ran. Re-derive from the current context
-                // instead of throwing — the only call site that can clear
-                // mid-tick is beforeReconnect, and a stale-tick decision is
-                // strictly less safe than a fresh one.
-                log.debug("Bot {}: bet() supplier found no parked decision — re-deriving via strategy", getUserName());
-                popped = decideBet(buildBetContext());
-                if (popped.isEmpty()) {
-                    // Strategy also declined. The scenario engine forbids
-                    // returning null from the supplier (it throws
-                    // IllegalArgumentException), so we have nothing to send.
-                    // This is effectively unreachable: the condition already
-                    // exercised decide() this tick and returned true; with no
-                    // round boundary in between the strategy should produce
-                    // the same outcome. If we ever land here, surface loudly.
-                    throw new IllegalStateException(
-                            "bet() supplier: strategy declined re-derivation after race with " +
-                                    "beforeReconnect — sendAsync cannot skip; engine null-guard would throw");
-                }
-            }
-            BetDecision decision = popped.get();
-            long amount = decision.amount();
-            int optionId = decision.optionId();
-            creditBalance(amount);
-
-            long currentSid = sidStore.get();
-            // Phase 2 of BETTING_STRATEGIES: accumulate bet→result correlation.
-            memory.recordBetSent(currentSid, optionId, amount);
-            // AGGREGATED_SESSION_LOGGING (AD-5): outbound stake is the uniform
-            // cross-product source (the UpdateBet frame body carries no stake). Runs
-            // on the mdcSupplier-wrapped scenario thread, so MDC identity is present.
-            if (sessionAggregator != null) {
-                sessionAggregator.recordBet(currentSid, getUserName(), optionId, amount);
+        return bet;
+    }
+
+    private ActionRequestMessage nextBetFrame() {
+        BetSlot decision = decisionSlot;
+        if (!pendingDecision.popInto(decision)) {
+            // Race fallback. The condition computed and parked a decision
+            // but a concurrent netty event (beforeReconnect) cleared it
+            // before the supplier ran. Re-derive from the current context
+            // instead of throwing — the only call site that can clear
+            // mid-tick is beforeReconnect, and a stale-tick decision is
+            // strictly less safe than a fresh one.
+            log.debug("Bot {}: bet() supplier found no parked decision — re-deriving via strategy", getUserName());
+            if (!decideBet(buildBetContext(), decision)) {
+                // Strategy also declined. The scenario engine forbids
+                // returning null from the supplier (it throws
+                // IllegalArgumentException), so we have nothing to send.
+                // This is effectively unreachable: the condition already
+                // exercised decide() this tick and returned true; with no
+                // round boundary in between the strategy should produce
+                // the same outcome. If we ever land here, surface loudly.
+                throw new IllegalStateException(
+                        "bet() supplier: strategy declined re-derivation after race with " +
+                                "beforeReconnect — sendAsync cannot skip; engine null-guard would throw");
             }
+        }
+        return bookBet(decision.optionId(), decision.amount(), sidStore.get());
+    }
+
+    /**
+     * Book-keep a bet that is about to be sent and build its frame: debit the local
+     * balance and record it against round {@code currentSid}.
+     */
+    private ActionRequestMessage bookBet(int optionId, long amount, long currentSid) {
+        creditBalance(amount);
+
+        // Phase 2 of BETTING_STRATEGIES: accumulate bet→result correlation.
+        memory.recordBetSent(currentSid, optionId, amount);
+        // AGGREGATED_SESSION_LOGGING (AD-5): outbound stake is the uniform
+        // cross-product source (the UpdateBet frame body carries no stake). Runs
+        // on the mdcSupplier-wrapped scenario thread, so MDC identity is present.
+        if (sessionAggregator != null) {
+            sessionAggregator.recordBet(currentSid, getUserName(), optionId, amount);
+        }
+        if (log.isTraceEnabled()) {
             log.trace("Bot {}: sending bet option={}, amount={}, sid={}",
                     getUserName(), optionId, amount, currentSid);
-            return request.bet(amount, optionId, currentSid);
-        };
+        }
+        return request.bet(amount, optionId, currentSid);
     }
 
     private boolean doesEnoughTimeRemain() {
-        return remainingTime.get() >= blockBetTime;
+        return remainingTimeMillis() >= blockBetTime;
     }
 
     private boolean canBet() {
@@ -799,7 +874,7 @@ public class BettingMiniGameBot extends Bot {
         if (window <= 0) {
             return true; // fail-safe: no window → cannot compute elapsed fraction
         }
-        double x = 1.0 - Math.max(0L, remainingTime.get()) / (double) window; // elapsed fraction
+        double x = 1.0 - remainingTimeMillis() / (double) window; // elapsed fraction
         x = Math.max(0.0, Math.min(1.0, x)); // clamp01
         double pMin = RAMP_P_MIN;
         double pAccept = pMin + (1 - pMin) * Math.pow(x, b.getRampShape());
@@ -819,38 +894,120 @@ public class BettingMiniGameBot extends Bot {
      * flush; the per-bet drill-in is TRACE).
      */
     private Supplier<Boolean> betCondition() {
-        return () -> {
-            if (!canBet()) {
-                return false;
-            }
-            if (strategy == null) {
-                return false;
-            }
-            // JACKPOT_SCALE_AND_RAMP Phase R2 (AD-R1): the ramp gate runs BEFORE
-            // decideBet/applyCoordination so a deferred tick touches neither the
-            // strategy's per-round counter nor a coordinator reservation.
-            if (!rampAccepts()) {
-                log.trace("Bot {}: ramp deferred tick", getUserName());
-                return false;
-            }
-            BetContext ctx = buildBetContext();
-            Optional<BetDecision> decision = decideBet(ctx);
-            if (decision.isEmpty()) {
-                log.trace("Bot {}: strategy skipped tick (no decision)", getUserName());
-                return false;
-            }
-            // BET_COORDINATION (AD-2): gate the final (TaiXiu-remapped) decision
-            // through the coordinator, then park the gated result. Identity when
-            // coordination is off; empty result = REJECT → skip this tick.
-            Optional<BetDecision> gated = applyCoordination(ctx, decision.get());
-            if (gated.isEmpty()) {
-                return false;
-            }
-            pendingDecision.set(gated);
+        return betCondition;
+    }
+
+    private boolean evaluateBetCondition() {
+        if (!canBet()) {
+            return false;
+        }
+        if (strategy == null) {
+            return false;
+        }
+        // JACKPOT_SCALE_AND_RAMP Phase R2 (AD-R1): the ramp gate runs BEFORE
+        // decideBet/applyCoordination so a deferred tick touches neither the
+        // strategy's per-round counter nor a coordinator reservation.
+        if (!rampAccepts()) {
+            log.trace("Bot {}: ramp deferred tick", getUserName());
+            return false;
+        }
+        BetContext ctx = buildBetContext();
+        BetSlot decision = decisionSlot;
+        if (!decideBet(ctx, decision)) {
+            log.trace("Bot {}: strategy skipped tick (no decision)", getUserName());
+            return false;
+        }
+        // BET_COORDINATION (AD-2): gate the final (TaiXiu-remapped) decision
+        // through the coordinator, then park the gated result. Identity when
+        // coordination is off; false = REJECT → skip this tick.
+        if (!applyCoordination(ctx, decision)) {
+            return false;
+        }
+        pendingDecision.park(decision.optionId(), decision.amount());
+        if (log.isTraceEnabled()) {
             log.trace("Bot {}: strategy parked decision option={}, amount={}",
-                    getUserName(), gated.get().optionId(), gated.get().amount());
-            return true;
-        };
+                    getUserName(), decision.optionId(), decision.amount());
+        }
+        return true;
+    }
+
+    /**
+     * Wire the group's {@link BetTickDriver}. Must be called before {@code start()}
+     * — the scenario decides at build time whether to register its own
+     * {@code sendAsync} loop.
+     */
+    public BettingMiniGameBot setBetTickDriver(BetTickDriver betTickDriver) {
+        this.betTickDriver = betTickDriver;
+        return this;
+    }
+
+    /**
+     * Wire the group's {@link BroadcastFrameCache}. Must be called before
+     * {@code start()} — the scenario decides at build time whether round broadcasts
+     * are decoded by its own {@code onMessage} stages or through the cache.
+     */
+    public BettingMiniGameBot setBroadcastFrameCache(BroadcastFrameCache broadcastFrameCache) {
+        this.broadcastFrameCache = broadcastFrameCache;
+        return this;
+    }
+
+    /**
+     * Driver-side equivalent of one {@code sendAsync} condition: the same
+     * {@link #betCondition()} the scenario loop runs, under this bot's MDC, and the
+     * frame for the parked decision. Nothing is booked yet — the frame may wait up
+     * to an interval for its jitter slot, and {@link #sendBetFrame} books it only if
+     * it still goes out. Returns {@code null} when the bot is stopped, disconnected,
+     * skips the tick, or still has a frame waiting.
+     */
+    @Override
+    public ActionRequestMessage pollBetFrame() {
+        if (isStopped() || !isConnected() || undispatched.isPresent()) {
+            return null;
+        }
+        if (mdcBetCondition == null) {
+            mdcBetCondition = mdcSupplier(betCondition);
+            mdcBookDispatched = mdcWrap(this::bookDispatched);
+        }
+        if (!mdcBetCondition.get()) {
+            return null;
+        }
+        BetSlot decision = decisionSlot;
+        if (!pendingDecision.popInto(decision)) {
+            return null; // cleared by beforeReconnect since the condition parked it
+        }
+        long sid = sidStore.get();
+        undispatchedSid = sid;
+        undispatched.park(decision.optionId(), decision.amount());
+        return request.bet(decision.amount(), decision.optionId(), sid);
+    }
+
+    /**
+     * Book and send the frame from the last {@link #pollBetFrame()}, or drop it
+     * unbooked when the bot stopped or disconnected, or the round it was decided for
+     * has closed, while it waited for its slot.
+     */
+    @Override
+    public void sendBetFrame(ActionRequestMessage frame) {
+        BetSlot decision = dispatchSlot;
+        if (!undispatched.popInto(decision)) {
+            return;
+        }
+        long sid = undispatchedSid;
+        if (isStopped() || !isConnected()) {
+            log.trace("Bot {}: dropping bet frame — bot stopped or disconnected", getUserName());
+            return;
+        }
+        if (sid != sidStore.get() || gameState != BettingMiniGameState.BET) {
+            log.trace("Bot {}: dropping bet frame — round {} closed before its slot", getUserName(), sid);
+            return;
+        }
+        dispatchSid = sid;
+        mdcBookDispatched.run();
+        client.send(frame);
+    }
+
+    private void bookDispatched() {
+        bookBet(dispatchSlot.optionId(), dispatchSlot.amount(), dispatchSid);
     }
 
     private long resolveIntervalBetweenBets() {
@@ -866,13 +1023,21 @@ public class BettingMiniGameBot extends Bot {
                 .build();
     }
 
+    private ObjectMapper scenarioMapper() {
+        if (messageMapper != null) {
+            return messageMapper;
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerSubtypes(messageTypeRegistrations());
+        return mapper;
+    }
+
     @Override
     protected Scenario botBehaviorScenario() {
         Game game = configuration.getGame();
 
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        mapper.registerSubtypes(messageTypeRegistrations());
+        ObjectMapper mapper = scenarioMapper();
 
         Class<? extends SubscribeMessage> subscribeClass = subscribeType();
         Class<? extends StartGameMessage> startGameClass = game.isMd5() ? startGameMd5Type() : startGameType();
@@ -895,7 +1060,11 @@ public class BettingMiniGameBot extends Bot {
         // subclass (Tai Xiu) configured with md5=true but no md5 variant returns
         // null from startGameMd5Type(); skip the handler entirely rather than
         // register a null class — mirrors the updateBet null-guard below.
-        if (startGameClass != null) {
+        //
+        // With a group BroadcastFrameCache, a shared (non-personalized) round frame is
+        // not decoded here at all: onStart() adds a raw-frame scenario that decodes it
+        // once per group — see sharedBroadcastScenario().
+        if (startGameClass != null && !isSharedBroadcast(startGameClass)) {
             stage = stage.onMessage(startGameClass, mdcConsumer(this::onStartGame));
         }
 
@@ -903,21 +1072,130 @@ public class BettingMiniGameBot extends Bot {
         // stage is always added (behavior unchanged). A fixed-CMD subclass (Tai Xiu)
         // omits updateBet in v1 — no frame captured, OI-5 — by returning null from
         // updateBetType(); skip the handler entirely rather than register a null class.
-        if (updateBetClass != null) {
+        if (updateBetClass != null && !isSharedBroadcast(updateBetClass)) {
             stage = stage.onMessage(updateBetClass, mdcConsumer(this::onUpdate));
         }
 
-        return stage
-                .sendAsync(buildMessage()
-                        .messageSupplier(mdcSupplier(bet()))
-                        .mode(INFINITE)
-                        .condition(mdcSupplier(betCondition()))
-                        .interval(resolveIntervalBetweenBets(), MILLISECONDS)
-                        .build())
-                .onMessage(endGameClass, mdcConsumer(this::onEndGame))
+        // The bet loop: either this bot's own fixed-rate sendAsync, or — when the
+        // group runs a BetTickDriver — nothing here; the driver polls
+        // pollBetFrame() for the whole group in one batch per interval.
+        if (betTickDriver == null) {
+            stage = stage.sendAsync(buildMessage()
+                    .messageSupplier(mdcSupplier(bet()))
+                    .mode(INFINITE)
+                    .condition(mdcSupplier(betCondition()))
+                    .interval(resolveIntervalBetweenBets(), MILLISECONDS)
+                    .build());
+        }
+
+        if (!isSharedBroadcast(endGameClass)) {
+            stage = stage.onMessage(endGameClass, mdcConsumer(this::onEndGame));
+        }
+        return stage.compile();
+    }
+
+    /**
+     * Whether frames of {@code type} go through the group's
+     * {@link BroadcastFrameCache} instead of this bot's own decode. Recipient-
+     * personalized frames differ per bot: Tip's EndGame ({@code wm}, {@code jpV},
+     * {@code bs[].b}) and UpdateBet ({@code bs[].b}) are {@link SplitPersonalized}, so
+     * their common part is still shared; Tai Xiu's EndGame is personal almost field
+     * for field and is always decoded per bot.
+     */
+    private boolean isSharedBroadcast(Class<?> type) {
+        return broadcastFrameCache != null
+                && (!RecipientPersonalized.class.isAssignableFrom(type)
+                        || SplitPersonalized.class.isAssignableFrom(type));
+    }
+
+    /**
+     * Raw-frame scenario feeding one shared round broadcast CMD through the group's
+     * {@link BroadcastFrameCache}: the first bot to see a frame decodes it, the rest
+     * of the group receive the same decoded envelope and run the unchanged handler.
+     * A {@link SplitPersonalized} frame is presented by its common part, and the
+     * handler gets the shared message personalized with this bot's own values.
+     * Frames arriving before this connection's subscribe completes are dropped, as
+     * the scenario's onMessage stages would not have been reached yet either.
+     */
+    private <T extends BettingMiniMessage> Scenario sharedBroadcastScenario(
+            int cmd, Class<T> type, ObjectMapper mapper,
+            Consumer<ActionResponseMessage<? extends T>> handler) {
+        BroadcastFrameCache cache = broadcastFrameCache;
+        ObjectReader reader = mapper.readerFor(type);
+        BroadcastFrameCache.FrameDecoder<ActionResponseMessage<T>> decoder = raw -> decodeFrame(raw, reader);
+        boolean split = SplitPersonalized.class.isAssignableFrom(type);
+        return pipeline(buildContext("[Betting Mini][shared " + cmd + "]", mapper))
+                .filter(cmd(cmd).and(typeOf(RECEIVED)))
+                .peek(mdcConsumer((ProcessableMessage m) -> {
+                    if (!subscribed) return;
+                    ActionResponseMessage<T> data;
+                    try {
+                        if (split) {
+                            PersonalFields.Split frame = PersonalFields.split(mapper.getFactory(), m.getMessage());
+                            data = personalize(cache.decode(cmd, new CommonPart(frame), type, decoder),
+                                    frame.personal());
+                        } else {
+                            data = cache.decode(cmd, m.getMessage(), type, decoder);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        log.warn("Bot {}: failed to decode shared frame cmd={}: {}",
+                                getUserName(), cmd, e.getMessage());
+                        return;
+                    }
+                    handler.accept(data);
+                }))
                 .compile();
     }
 
+    /** A split frame's common part, keyed and compared without building its text. */
+    private record CommonPart(PersonalFields.Split split) implements BroadcastFrameCache.FrameText {
+
+        @Override
+        public int length() {
+            return split.commonLength();
+        }
+
+        @Override
+        public int hash() {
+            return split.commonHash();
+        }
+
+        @Override
+        public boolean textEquals(String other) {
+            return split.commonEquals(other);
+        }
+
+        @Override
+        public String text() {
+            return split.common();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends BettingMiniMessage> ActionResponseMessage<T> personalize(
+            ActionResponseMessage<T> shared, PersonalFields personal) {
+        T own = (T) ((SplitPersonalized<?>) shared.getData()).personalize(personal);
+        return new ActionResponseMessage<>(MessageCategory.ACTION_RESPONSE, own);
+    }
+
+    /**
+     * Decode one raw round frame the way the parser's onMessage path does: the wire
+     * frame is array-framed {@code [category, body]}, the body is element 1. Binds
+     * the body straight from the token stream, without an intermediate tree.
+     */
+    static <T extends BettingMiniMessage> ActionResponseMessage<T> decodeFrame(
+            String raw, ObjectReader reader) throws IOException {
+        try (JsonParser p = reader.createParser(raw)) {
+            if (p.nextToken() == JsonToken.START_ARRAY) {
+                p.nextToken();
+                p.skipChildren();
+                p.nextToken();
+            }
+            T body = reader.readValue(p);
+            return new ActionResponseMessage<>(MessageCategory.ACTION_RESPONSE, body);
+        }
+    }
+
     @Override
     protected void onStart() {
         try {
@@ -933,16 +1211,29 @@ public class BettingMiniGameBot extends Bot {
             startGameCmd(),
             endGameCmd()
         );
-        // Pass the bot's MDC snapshot so the "User <name>: ..." log lines emitted
-        // from the netty-ws-message-processor-ws-<userName> pool carry botGroupId,
-        // environmentId, gameType, etc. for Promtail to promote to Loki labels.
-        getClient().addScenario(OutputPrinter.debugOutputPrinter(
-            cmdList,
-            getUserName(),
-            buildContext("OutputPrinter", ObjectMapperProvider.getDefault()),
-            mdcSnapshot
-        ));
+        // Raw-frame printer: attached only while this bot's wire logger is at TRACE
+        // (or the group tap is capturing) — see WireTap.
+        addWireTap(cmdList);
 
         getClient().addScenario(botBehaviorScenario());
+        addSharedBroadcastScenarios();
+    }
+
+    private void addSharedBroadcastScenarios() {
+        if (broadcastFrameCache == null) return;
+        ObjectMapper mapper = scenarioMapper();
+        Class<? extends StartGameMessage> startGameClass =
+                configuration.getGame().isMd5() ? startGameMd5Type() : startGameType();
+        Class<? extends UpdateBetMessage> updateBetClass = updateBetType();
+        Class<? extends EndGameMessage> endGameClass = endGameType();
+        if (startGameClass != null && isSharedBroadcast(startGameClass)) {
+            getClient().addScenario(sharedBroadcastScenario(startGameCmd(), startGameClass, mapper, this::onStartGame));
+        }
+        if (updateBetClass != null && isSharedBroadcast(updateBetClass)) {
+            getClient().addScenario(sharedBroadcastScenario(updateBetCmd(), updateBetClass, mapper, this::onUpdate));
+        }
+        if (isSharedBroadcast(endGameClass)) {
+            getClient().addScenario(sharedBroadcastScenario(endGameCmd(), endGameClass, mapper, this::onEndGame));
+        }
     }
 }
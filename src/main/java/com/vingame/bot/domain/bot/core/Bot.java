@@ -1,36 +1,54 @@
 package com.vingame.bot.domain.bot.core;
 
+import com.vingame.bot.common.logging.BotLogContext;
 import com.vingame.bot.common.logging.BotMdc;
 import com.vingame.bot.domain.bot.coordination.BetCoordinator;
 import com.vingame.bot.domain.bot.coordination.JackpotScaler;
 import com.vingame.bot.domain.bot.strategy.StrategyId;
+import com.vingame.bot.domain.bot.util.OutputPrinter;
+import com.vingame.bot.infrastructure.auth.AuthTokenCache;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.bot.infrastructure.observability.BotMetrics;
 import com.vingame.bot.infrastructure.observability.SessionAggregationService;
+import com.vingame.bot.infrastructure.runtime.BalanceReconciler;
+import com.vingame.bot.infrastructure.runtime.BotTimer;
+import com.vingame.bot.infrastructure.runtime.DepositScheduler;
+import com.vingame.bot.infrastructure.runtime.GroupStats;
+import com.vingame.bot.infrastructure.runtime.ReconnectGate;
+import com.vingame.bot.infrastructure.runtime.StatusCensus;
+import com.vingame.bot.infrastructure.runtime.WireTap;
 import com.vingame.bot.config.bot.BotConfiguration;
 import com.vingame.bot.config.bot.BotCredentials;
+import com.vingame.websocketparser.ObjectMapperProvider;
 import com.vingame.websocketparser.VingameWebSocketClient;
 import com.vingame.websocketparser.auth.TokensProvider;
+import com.vingame.websocketparser.scenario.PipelineContext;
 import com.vingame.websocketparser.scenario.Scenario;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
 import org.slf4j.MDC;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 @Slf4j
-public abstract class Bot {
+public abstract class Bot implements WireTap.Participant {
 
-    // Backoff schedule for WS reconnect (seconds): total ≈ 4:45
+    // Backoff schedule for WS reconnect (seconds): total ≈ 4:45. Bots wired with a
+    // ReconnectGate use its jittered delays instead; the schedule's length still sets
+    // the number of attempts per re-auth cycle.
     private static final long[] BACKOFF_SECONDS = {5, 10, 30, 60, 60, 60, 60};
     // Time to wait after submitting a reconnect to confirm the connection is alive
     private static final long RECONNECT_CONFIRM_SECONDS = 3;
@@ -41,6 +59,8 @@ public abstract class Bot {
     // the group circuit breaker (deadBotGroupThreshold) — closing Gap B without any
     // change to BotGroupBehaviorService.monitorHealth.
     private static final int MAX_RECONNECT_CYCLES = 10;
+    // Amount credited by one auto-deposit.
+    private static final long DEPOSIT_AMOUNT = 1_000_000_000L;
 
     // Shared environment clients (set via builder-style setters)
     protected ApiGatewayClient apiGatewayClient;
@@ -50,11 +70,45 @@ public abstract class Bot {
     // Observability — set via builder-style setter (BotFactory wires the singleton bean).
     protected BotMetrics metrics;
 
+    // This bot's pre-bound counter handles, resolved from {@code metrics} once per
+    // identity (see {@link #meters()}). Every emission site goes through these, never
+    // through {@code metrics.inc*}, so the per-frame cost is one increment.
+    private volatile BotMeters meters;
+
     // Per-session log aggregation — set via builder-style setter (BotFactory wires the
     // singleton bean). Null-tolerant exactly like {@code metrics}: unit-test fixtures
     // that build a bot without Spring leave it null and every feed callsite guards on it.
     protected SessionAggregationService sessionAggregator;
 
+    // Process-wide deadline timer — set via builder-style setter (BotFactory wires the
+    // singleton bean). Unlike {@code metrics} this is not a feature switch: fixtures
+    // that build a bot without Spring get {@link BotTimer#fallback()} via {@link #timer()}.
+    private BotTimer timer;
+
+    // Environment-scoped reconnect admission — set via builder-style setter (BotFactory
+    // wires the environment's gate). Null-tolerant: null keeps the fixed
+    // BACKOFF_SECONDS schedule and unthrottled attempts.
+    private ReconnectGate reconnectGate;
+    // System.nanoTime() when the current reconnect began (disconnect / watchdog).
+    private volatile long reconnectStartedNanos;
+
+    // Process-wide login cache — set via builder-style setter (BotFactory wires the
+    // singleton bean). Null-tolerant: null logs in on every initialize and re-auth.
+    private AuthTokenCache authTokenCache;
+    // True while {@code tokens} came from the cache and no WS session has accepted
+    // them yet; cleared by markConnectionAuthenticated() and by a real login.
+    private volatile boolean tokensUnproven;
+
+    // Environment-scoped background balance fetches — set via builder-style setter
+    // (BotFactory wires the environment's reconciler). Null-tolerant: null keeps the
+    // inline, blocking fetch in checkBalance().
+    private BalanceReconciler balanceReconciler;
+
+    // Environment-scoped deposit queue — set via builder-style setter (BotFactory
+    // wires the environment's scheduler). Null-tolerant: null keeps the inline,
+    // blocking deposit() below the minimum balance.
+    private DepositScheduler depositScheduler;
+
     // Group-scoped bet coordinator — set via builder-style setter by the runtime
     // startBot loop (one instance per running group; NOT app-scoped, so it is not
     // wired in BotFactory). Null-tolerant exactly like {@code sessionAggregator}:
@@ -67,6 +121,19 @@ public abstract class Bot {
     // effective per-round bet cap is the configured maxBetsPerRound (factor 1.0).
     protected JackpotScaler jackpotScaler;
 
+    // Group-scoped wire tap — set via builder-style setter by the runtime startBot
+    // loop. Null-tolerant: without a tap the bot still attaches its level-gated
+    // printer when its wire logger is at TRACE at start, but gets no live refresh
+    // and no frame capture.
+    private volatile WireTap wireTap;
+    // CMDs the printer filters on, recorded by addWireTap() in onStart; and the
+    // client the printer is currently attached to (null = none). Guarded by
+    // wireTapLock so a refresh racing onStart cannot attach it twice.
+    private volatile List<Integer> wireTapCmds;
+    private VingameWebSocketClient wireTappedClient;
+    private Logger wireLogger;
+    private final Object wireTapLock = new Object();
+
     // Bot runtime configuration (set via builder-style setters)
     @Getter
     protected BotConfiguration configuration;
@@ -102,12 +169,24 @@ public abstract class Bot {
 
     protected volatile long lastFetchedBalance = -1;
     protected final AtomicLong expectedCurrentBalance = new AtomicLong(-100_000_000L);
+    // Running sum of every local booking (adjustBalance), never reset; guarded by
+    // statusLock. A server fetch notes it when the fetch starts, and on landing only
+    // what was booked since is re-applied on top of the server figure.
+    private long localBooked;
+    // Confirmed deposits so far, and whether one is not yet in lastFetchedBalance;
+    // both guarded by statusLock (stale is volatile for checkBalance's unlocked read).
+    // A deposit is credited by the server only, so the local figure learns of it from
+    // a fetch that started after it was confirmed.
+    private long depositsConfirmed;
+    private volatile boolean balanceStale;
 
     // Snapshot of MDC keys captured at the end of initialize() so that work scheduled
     // onto threads with no MDC (Netty IO loop, library reconnect virtual threads,
     // PipelineStage schedulers, our own reconnect threads, watchdog/countdown schedulers)
     // can re-apply the bot's identity context around their log emissions.
     protected volatile Map<String, String> mdcSnapshot;
+    // mdcSnapshot precomputed for the wrap helpers; see logContext().
+    private volatile BotLogContext logContext;
 
     // Health metrics
     @Getter
@@ -119,7 +198,7 @@ public abstract class Bot {
 
     // In-memory cumulative winnings, mirroring the {@code bot_winnings_total}
     // Prometheus counter value-for-value (BOTGROUP_GAME_MANAGEMENT AD-8). Incremented
-    // at the exact site that calls {@code metrics.incBotWinnings(w)} in the endgame /
+    // at the exact site that calls {@code meters().incBotWinnings(w)} in the endgame /
     // spin-result path, guarded on {@code w > 0} — but, unlike the metric, NOT gated on
     // {@code metrics != null}: it backs the group "average winning" stat independently
     // of whether Prometheus is wired. Read only via the group stats enrichment (never
@@ -139,6 +218,18 @@ public abstract class Bot {
     @Getter
     private volatile BotStatus status = BotStatus.AUTHENTICATING;
 
+    // The group's status census this bot is counted in (see joinCensus). Guarded,
+    // together with the status swap, by statusLock so a transition racing a join or
+    // leave never counts the bot twice or under a stale status.
+    private final Object statusLock = new Object();
+    private StatusCensus census;
+    // The group's running stats (see joinStats), and whether this bot's balance and
+    // winnings are currently in its sums. Guarded by statusLock like the census, and
+    // balance/winnings changes publish under it too, so the sums never miss or
+    // double-count a change racing an activation.
+    private GroupStats groupStats;
+    private boolean statsActive;
+
     // Timestamp of the most recent transition INTO DEAD. Cleared when the bot exits
     // DEAD (transition to any other status) or when its DEAD window is credited at
     // cleanup(). Volatile because transitionStatus may be invoked from many threads
@@ -180,11 +271,65 @@ public abstract class Bot {
         return this;
     }
 
+    /**
+     * Wire pre-bound counter handles directly, bypassing {@link BotMetrics#forBot}.
+     * Null-tolerant and fluent; {@link #initialize()} rebinds from {@code metrics}
+     * when one is wired.
+     */
+    public Bot setMeters(BotMeters meters) {
+        this.meters = meters;
+        return this;
+    }
+
+    /**
+     * The bot's counter handles, or {@code null} when metrics are off. Bound in
+     * {@link #initialize()} from the MDC snapshot; fixtures that never initialize get
+     * handles bound on first use.
+     */
+    protected BotMeters meters() {
+        BotMeters m = meters;
+        if (m == null && metrics != null) {
+            m = metrics.forBot(mdcSnapshot);
+            meters = m;
+        }
+        return m;
+    }
+
     public Bot setSessionAggregator(SessionAggregationService sessionAggregator) {
         this.sessionAggregator = sessionAggregator;
         return this;
     }
 
+    public Bot setTimer(BotTimer timer) {
+        this.timer = timer;
+        return this;
+    }
+
+    public Bot setReconnectGate(ReconnectGate reconnectGate) {
+        this.reconnectGate = reconnectGate;
+        return this;
+    }
+
+    public Bot setAuthTokenCache(AuthTokenCache authTokenCache) {
+        this.authTokenCache = authTokenCache;
+        return this;
+    }
+
+    public Bot setBalanceReconciler(BalanceReconciler balanceReconciler) {
+        this.balanceReconciler = balanceReconciler;
+        return this;
+    }
+
+    public Bot setDepositScheduler(DepositScheduler depositScheduler) {
+        this.depositScheduler = depositScheduler;
+        return this;
+    }
+
+    protected BotTimer timer() {
+        BotTimer t = timer;
+        return t != null ? t : BotTimer.fallback();
+    }
+
     /**
      * Wire the group-scoped {@link BetCoordinator}. Null-tolerant and fluent,
      * mirroring {@link #setSessionAggregator}. A {@code null} argument (coordination
@@ -210,7 +355,26 @@ public abstract class Bot {
         return this;
     }
 
+    /**
+     * Wire the group-scoped {@link WireTap}. Null-tolerant and fluent, mirroring
+     * {@link #setCoordinator}. Injected by the runtime startBot loop before
+     * {@code start()}.
+     */
+    public Bot setWireTap(WireTap wireTap) {
+        this.wireTap = wireTap;
+        return this;
+    }
+
     public Bot initialize() {
+        return initialize(true);
+    }
+
+    /**
+     * Log in and build the game client; with {@code connect} false the bot stops at
+     * AUTHENTICATED and {@link #connect()} opens the connection later (a rolling
+     * restart builds its replacements before the bots they replace have left).
+     */
+    public Bot initialize(boolean connect) {
         BotMdc.set(
                 configuration.getBotGroupId(),
                 configuration.getBotIndex(),
@@ -226,22 +390,26 @@ public abstract class Bot {
         // client.connect() returns; if the snapshot were captured later, those early
         // callbacks would see a null snapshot and silently skip MDC propagation.
         this.mdcSnapshot = MDC.getCopyOfContextMap();
+        if (metrics != null) {
+            this.meters = metrics.forBot(mdcSnapshot);
+        }
         try {
             log.debug("Initializing bot {}", userName);
 
             transitionStatus(BotStatus.AUTHENTICATING);
-            this.tokens = apiGatewayClient.authenticate(credentials);
+            this.tokens = login(true);
             transitionStatus(BotStatus.AUTHENTICATED);
 
             this.client = clientFactory.newClient(tokens, userName);
             initializeSubclass();
             configureClient(client);
 
-            transitionStatus(BotStatus.CONNECTING);
-            log.debug("Setting auth tokens [agency: {}..., auth: {}...]",
-                     tokens.getAgencyToken().substring(0, 10),
-                     tokens.getAuthToken().substring(0, 10));
-            client.connect();
+            if (!connect) {
+                log.debug("Bot initialized, not yet connected. Client: {}",
+                         System.identityHashCode(client));
+                return this;
+            }
+            connect();
 
             log.debug("Bot initialized and connected. Client: {}",
                      System.identityHashCode(client));
@@ -252,6 +420,15 @@ public abstract class Bot {
         }
     }
 
+    /** Open the game connection of a bot built by {@code initialize(false)}. */
+    public void connect() {
+        transitionStatus(BotStatus.CONNECTING);
+        log.debug("Setting auth tokens [agency: {}..., auth: {}...]",
+                 tokens.getAgencyToken().substring(0, 10),
+                 tokens.getAuthToken().substring(0, 10));
+        client.connect();
+    }
+
     protected abstract void initializeSubclass();
 
     public void cleanup() {
@@ -264,12 +441,39 @@ public abstract class Bot {
                 log.error("Error stopping bot {} during cleanup", userName, e);
             }
         }
-        // Credit the terminal DEAD window, if any. cleanup() is invoked from
-        // BotGroupRuntime.stopAllBots() on the BehaviorService thread, which has no
-        // MDC. Re-apply the bot's snapshot so the dead-seconds counter is tagged
+        releaseAfterStop();
+    }
+
+    /**
+     * Teardown path for a bot whose {@link #cleanup()} did not finish by the group's
+     * teardown deadline: marks it stopped like {@code cleanup()} does, but closes the
+     * client on its own virtual thread instead of waiting for the close.
+     */
+    public void forceClose() {
+        stopped = true;
+        log.debug("Force-closing bot {}", userName);
+        Thread.ofVirtual().name("bot-force-close-" + userName).start(this::closeClientQuietly);
+        releaseAfterStop();
+    }
+
+    private void releaseAfterStop() {
+        // Credit the terminal DEAD window, if any. Teardown runs on threads without
+        // the bot's MDC (the BehaviorService caller, GroupTeardown workers).
+        // Re-apply the bot's snapshot so the dead-seconds counter is tagged
         // with the same {botGroupId,environmentId,gameType} as the rest of this
         // bot's meters. mdcWrap is null-safe on missing snapshot.
         mdcWrap(this::creditDeadSeconds).run();
+        // A stopped bot no longer counts towards its group's statuses.
+        joinCensus(null);
+        joinStats(null);
+        DepositScheduler scheduler = depositScheduler;
+        if (scheduler != null) {
+            scheduler.forget(userName, this);
+        }
+        BalanceReconciler reconciler = balanceReconciler;
+        if (reconciler != null) {
+            reconciler.forget(userName, this);
+        }
     }
 
     public void restart() {
@@ -299,6 +503,60 @@ public abstract class Bot {
         }
     }
 
+    /**
+     * Session-start auto-deposit check, for bots with auto-deposit on and a known
+     * balance. With a {@link DepositScheduler} the balance is reported to it, which
+     * queues a top-up once the bot is below {@link #getMinBalance()} or about to be,
+     * and the bot keeps betting meanwhile. Without one, deposits inline below the
+     * minimum as before.
+     */
+    protected void autoDeposit(long balance) {
+        DepositScheduler scheduler = depositScheduler;
+        if (scheduler == null) {
+            if (balance < getMinBalance()) {
+                log.info("Bot {}: balance {} below minimum {}, triggering deposit", userName, balance, getMinBalance());
+                deposit();
+            } else {
+                log.debug("Bot {}: session balance {}", userName, balance);
+            }
+            return;
+        }
+        if (scheduler.offer(userName, this, balance, getMinBalance(),
+                () -> apiGatewayClient.depositAsync(userName, DEPOSIT_AMOUNT),
+                this::onDepositSettled)) {
+            log.info("Bot {}: balance {} at or near minimum {}, deposit queued", userName, balance, getMinBalance());
+        } else {
+            log.debug("Bot {}: session balance {}", userName, balance);
+        }
+    }
+
+    /**
+     * A scheduled deposit was answered. A confirmed one is not credited locally: a
+     * balance refresh already in flight may or may not include it, so crediting it as
+     * well could count it twice. Instead the balance is marked stale and re-fetched —
+     * at once through the reconciler, or by the next checkBalance() without one — and
+     * only a fetch started after the confirmation clears the mark.
+     */
+    private void onDepositSettled(boolean confirmed) {
+        mdcWrap(() -> {
+            BotMeters m = meters();
+            if (m != null) m.incBotAutoDeposit(confirmed);
+            if (confirmed) {
+                synchronized (statusLock) {
+                    depositsConfirmed++;
+                    balanceStale = true;
+                }
+                log.debug("Bot {}: Deposit confirmed, re-fetching balance", userName);
+                BalanceReconciler reconciler = balanceReconciler;
+                if (reconciler != null) {
+                    requestBalanceRefresh(reconciler);
+                }
+            } else {
+                log.warn("Bot {}: Deposit failed", userName);
+            }
+        }).run();
+    }
+
     public void deposit() {
         if (lastFetchedBalance < 0) {
             return;
@@ -308,20 +566,23 @@ public abstract class Bot {
         // wallet partition). Replaces the legacy GameMsClient agency-transfer path,
         // which credited the agency partition the game engine never debits — the
         // P_097/BOM "balance visible but every bet rejected" symptom.
-        boolean success = apiGatewayClient.deposit(userName, 1_000_000_000L);
+        boolean success = apiGatewayClient.deposit(userName, DEPOSIT_AMOUNT);
         if (success) {
             log.debug("Bot {}: Deposit successful, fetching new balance...", userName);
-            if (metrics != null) metrics.incBotAutoDeposit(true);
+            BotMeters m = meters();
+            if (m != null) m.incBotAutoDeposit(true);
+            long[] atFetch = fetchStart();
             recordFetchedBalance(apiGatewayClient.getBalance(
                 getClient().getAuthToken(),
                 credentials.getFingerprint(),
                 userName
             ));
-            expectedCurrentBalance.set(lastFetchedBalance);
+            reanchorBalance(lastFetchedBalance, atFetch);
             log.debug("Bot {}: New balance: {}", userName, expectedCurrentBalance);
         } else {
             log.warn("Bot {}: Deposit failed", userName);
-            if (metrics != null) metrics.incBotAutoDeposit(false);
+            BotMeters m = meters();
+            if (m != null) m.incBotAutoDeposit(false);
         }
     }
 
@@ -330,15 +591,23 @@ public abstract class Bot {
                  lastFetchedBalance, expectedCurrentBalance.get(),
                  Math.abs(lastFetchedBalance - expectedCurrentBalance.get()));
 
-        if (Math.abs(lastFetchedBalance - expectedCurrentBalance.get()) > 1_000_000L) {
-            log.debug("checkBalance() fetching from server (delta > 1M)");
+        if (balanceStale || Math.abs(lastFetchedBalance - expectedCurrentBalance.get()) > 1_000_000L) {
+            BalanceReconciler reconciler = balanceReconciler;
+            if (reconciler != null) {
+                // Off the message thread: keep playing on the local figure until the
+                // server's lands (applyRefreshedBalance).
+                requestBalanceRefresh(reconciler);
+                return expectedCurrentBalance.get();
+            }
+            log.debug("checkBalance() fetching from server (delta > 1M or deposit settled)");
+            long[] atFetch = fetchStart();
             recordFetchedBalance(apiGatewayClient.getBalance(
                 getClient().getAuthToken(),
                 credentials.getFingerprint(),
                 userName
             ));
             log.debug("checkBalance() fetched: {}", lastFetchedBalance);
-            expectedCurrentBalance.set(lastFetchedBalance);
+            reanchorBalance(lastFetchedBalance, atFetch);
         } else {
             log.debug("checkBalance() using cached: {}", expectedCurrentBalance.get());
         }
@@ -346,6 +615,70 @@ public abstract class Bot {
         return expectedCurrentBalance.get();
     }
 
+    /**
+     * Hand a balance fetch to the environment's reconciler; a refresh already pending
+     * for this bot absorbs it. The bookings counter and deposit count are noted when
+     * the reconciler actually starts the fetch, not when it is queued: bookings made
+     * while it waited for a slot are already in the server's figure, only those made
+     * after it started are re-applied when it lands; likewise only a deposit confirmed
+     * before it started is known to be included.
+     */
+    private void requestBalanceRefresh(BalanceReconciler reconciler) {
+        AtomicReference<long[]> atFetch = new AtomicReference<>();
+        boolean queued = reconciler.request(userName, this,
+                () -> {
+                    atFetch.set(fetchStart());
+                    return apiGatewayClient.getBalanceAsync(getClient().getAuthToken(), credentials.getFingerprint(), userName)
+                            .whenComplete((balance, failure) -> mdcWrap(() -> {
+                                BotMeters m = meters();
+                                if (m != null) m.incVerifyToken(failure == null);
+                            }).run());
+                },
+                balance -> applyRefreshedBalance(balance, atFetch.get()));
+        log.debug("checkBalance() {} background refresh", queued ? "queued" : "already pending");
+    }
+
+    /** A background fetch landed: anchor both figures on it (see {@link #reanchorBalance}). */
+    private void applyRefreshedBalance(long balance, long[] atFetch) {
+        mdcWrap(() -> {
+            recordFetchedBalance(balance);
+            reanchorBalance(balance, atFetch);
+            log.debug("checkBalance() refreshed: {}", balance);
+        }).run();
+    }
+
+    /** The bookings counter and confirmed-deposit count, read when a server fetch starts. */
+    private long[] fetchStart() {
+        synchronized (statusLock) {
+            return new long[]{localBooked, depositsConfirmed};
+        }
+    }
+
+    /**
+     * Set the local figure to the server's {@code balance} plus the bookings made since
+     * the fetch started ({@code atFetch}, from {@link #fetchStart}). Those are the only
+     * local changes the server figure cannot include yet; re-applying everything since
+     * the request, or the whole local drift, would count the rest twice. Clears the
+     * stale mark unless a deposit was confirmed after the fetch started, since the
+     * server figure may predate it.
+     */
+    private void reanchorBalance(long balance, long[] atFetch) {
+        synchronized (statusLock) {
+            resetBalance(balance + (localBooked - atFetch[0]));
+            if (depositsConfirmed == atFetch[1]) {
+                balanceStale = false;
+            }
+        }
+    }
+
+    /**
+     * Whether a server balance has been fetched yet. Until then the local figure is a
+     * placeholder, so callers must not act on it (e.g. trigger a deposit).
+     */
+    protected boolean isBalanceKnown() {
+        return lastFetchedBalance >= 0;
+    }
+
     /**
      * Single anchor for every authoritative server balance fetch
      * (METRICS_IMPROVEMENT Phase 1, AD-1). Both {@code checkBalance()} and the
@@ -362,9 +695,10 @@ public abstract class Bot {
      * Metric-only: no INFO lines (the existing DEBUG balance logs stay).
      */
     private void recordFetchedBalance(long newBalance) {
-        if (lastFetchedBalance >= 0 && metrics != null) {
+        BotMeters m = meters();
+        if (lastFetchedBalance >= 0 && m != null) {
             long delta = lastFetchedBalance - newBalance;
-            metrics.incMoneyDrained(Math.max(0, delta));
+            m.incMoneyDrained(Math.max(0, delta));
         }
         lastFetchedBalance = newBalance;
     }
@@ -390,22 +724,117 @@ public abstract class Bot {
     }
 
     protected void markConnectionAuthenticated() {
+        tokensUnproven = false;
         if (status != BotStatus.CONNECTION_AUTHENTICATED) {
             transitionStatus(BotStatus.CONNECTION_AUTHENTICATED);
         }
     }
 
+    /**
+     * Count this bot in {@code census} (its group's, see {@code BotGroupRuntime.startBot})
+     * under its current status, leaving the census it was in before. Every later
+     * transition moves it between counts. {@code null} leaves without joining another.
+     */
+    public void joinCensus(StatusCensus census) {
+        synchronized (statusLock) {
+            if (this.census != null) {
+                this.census.remove(status);
+            }
+            this.census = census;
+            if (census != null) {
+                census.add(status);
+            }
+        }
+    }
+
+    /**
+     * Feed {@code stats} (its group's, see {@code BotGroupRuntime.startBot}) from this
+     * bot: its round count always, its balance and winnings while its status is
+     * connected. Leaves the stats it fed before; {@code null} leaves without joining.
+     */
+    public void joinStats(GroupStats stats) {
+        synchronized (statusLock) {
+            setStatsActive(false);
+            this.groupStats = stats;
+            if (stats != null) {
+                stats.observeRounds(roundsObserved.get());
+            }
+            setStatsActive(status.isConnected());
+        }
+    }
+
+    // Caller holds statusLock.
+    private void setStatsActive(boolean active) {
+        if (groupStats == null || statsActive == active) {
+            return;
+        }
+        if (active) {
+            groupStats.activate(expectedCurrentBalance.get(), cumulativeWinnings.get());
+        } else {
+            groupStats.deactivate(expectedCurrentBalance.get(), cumulativeWinnings.get());
+        }
+        statsActive = active;
+    }
+
+    /** Move the local balance by {@code delta}, publishing it to the group stats. */
+    protected void adjustBalance(long delta) {
+        synchronized (statusLock) {
+            expectedCurrentBalance.addAndGet(delta);
+            localBooked += delta;
+            if (statsActive) {
+                groupStats.addBalance(delta);
+            }
+        }
+    }
+
+    /** Reset the local balance to {@code balance}, publishing the change to the group stats. */
+    protected void resetBalance(long balance) {
+        synchronized (statusLock) {
+            long previous = expectedCurrentBalance.getAndSet(balance);
+            if (statsActive) {
+                groupStats.addBalance(balance - previous);
+            }
+        }
+    }
+
+    /** Add {@code amount} to the cumulative winnings, publishing it to the group stats. */
+    protected void addWinnings(long amount) {
+        synchronized (statusLock) {
+            cumulativeWinnings.addAndGet(amount);
+            if (statsActive) {
+                groupStats.addWinnings(amount);
+            }
+        }
+    }
+
+    /** Count one more completed round, publishing it to the group stats. */
+    protected void recordRoundObserved() {
+        long rounds = roundsObserved.incrementAndGet();
+        GroupStats stats = groupStats;
+        if (stats != null) {
+            stats.observeRounds(rounds);
+        }
+    }
+
     private void transitionStatus(BotStatus next) {
-        BotStatus prev = this.status;
-        if (prev == next) return; // idempotent re-entry — no log churn, no double-counting
-        this.status = next;
+        BotStatus prev;
+        synchronized (statusLock) {
+            prev = this.status;
+            if (prev == next) return; // idempotent re-entry — no log churn, no double-counting
+            this.status = next;
+            if (census != null) {
+                census.move(prev, next);
+            }
+            setStatsActive(next.isConnected());
+        }
         log.debug("Bot {}: {} → {}", userName, prev, next);
         if (next == BotStatus.DEAD) {
             // Stamp the start of this DEAD window. deadSince is cleared on exit
             // (below) or at cleanup() — so seeing a non-null value here would mean
             // the previous exit branch missed; we still re-stamp defensively.
             this.deadSince = Instant.now();
-            if (metrics != null) metrics.incBotFailure();
+            BotMeters m = meters();
+            if (m != null) m.incBotFailure();
         } else if (prev == BotStatus.DEAD) {
             // Bot revived: credit the just-closed DEAD window and clear the stamp.
             // Note: BotStatus.DEAD is terminal in current code (no revive path exists);
@@ -424,9 +853,10 @@ public abstract class Bot {
         Instant since = this.deadSince;
         if (since == null) return;
         this.deadSince = null;
-        if (metrics == null) return;
+        BotMeters m = meters();
+        if (m == null) return;
         long seconds = Duration.between(since, Instant.now()).toSeconds();
-        metrics.incBotDeadSeconds(seconds);
+        m.incBotDeadSeconds(seconds);
     }
 
     private void configureClient(VingameWebSocketClient wsClient) {
@@ -436,17 +866,18 @@ public abstract class Bot {
         // reconnect-<name> virtual thread. Wrap them so transitionStatus() / log lines
         // emitted inside carry the bot's identity.
         wsClient.onWsStatusChange(mdcConsumer(wsStatus -> {
+            BotMeters m = meters();
             switch (wsStatus) {
                 case CONNECTED -> {
                     transitionStatus(BotStatus.CONNECTED);
-                    if (metrics != null) metrics.incBotWsEvent("connected");
+                    if (m != null) m.incBotWsEvent("connected");
                 }
                 case AUTHENTICATING_WS -> {
                     transitionStatus(BotStatus.AUTHENTICATING_CONNECTION);
-                    if (metrics != null) metrics.incBotWsEvent("authenticating");
+                    if (m != null) m.incBotWsEvent("authenticating");
                 }
                 case DISCONNECTED -> {
-                    if (metrics != null) metrics.incBotWsEvent("disconnected");
+                    if (m != null) m.incBotWsEvent("disconnected");
                 }
                 default -> {}
             }
@@ -456,6 +887,59 @@ public abstract class Bot {
         }));
     }
 
+    // ---- Login ----
+
+    /**
+     * Tokens for the next WS session: the cached login when {@code allowCached} and
+     * one is valid, else a real gateway login, which then replaces the cache entry.
+     * Cached tokens come with the fingerprint they were issued for, which this bot
+     * adopts; they stay unproven until the server accepts a WS session.
+     */
+    private TokensProvider login(boolean allowCached) {
+        AuthTokenCache cache = authTokenCache;
+        String environmentId = configuration.getEnvironmentId();
+        if (allowCached && cache != null) {
+            AuthTokenCache.CachedLogin cached = cache.get(environmentId, userName);
+            if (cached != null) {
+                if (cached.fingerprint() != null
+                        && !cached.fingerprint().equals(credentials.getFingerprint())) {
+                    this.credentials = BotCredentials.builder()
+                            .username(credentials.getUsername())
+                            .password(credentials.getPassword())
+                            .fingerprint(cached.fingerprint())
+                            .build();
+                }
+                tokensUnproven = true;
+                log.debug("Bot {}: reusing cached login", userName);
+                return cached.tokens();
+            }
+        }
+        TokensProvider fresh = apiGatewayClient.authenticate(credentials);
+        tokensUnproven = false;
+        if (cache != null) {
+            cache.put(environmentId, userName, fresh, credentials.getFingerprint());
+        }
+        return fresh;
+    }
+
+    /**
+     * The connection dropped (or the watchdog tripped) before any WS session accepted
+     * the cached tokens: assume the server rejected them, drop them from the cache and
+     * report {@code true} so the caller goes straight to a real login.
+     */
+    private boolean rejectUnprovenTokens() {
+        if (!tokensUnproven) {
+            return false;
+        }
+        tokensUnproven = false;
+        AuthTokenCache cache = authTokenCache;
+        if (cache != null) {
+            cache.invalidate(configuration.getEnvironmentId(), userName, tokens);
+        }
+        log.debug("Bot {}: cached login was not accepted — logging in again", userName);
+        return true;
+    }
+
     // ---- Reconnect logic ----
 
     private void onWsDisconnected() {
@@ -468,12 +952,17 @@ public abstract class Bot {
         if (!reconnecting.compareAndSet(false, true)) {
             return; // reconnect loop already running — it will handle the retry
         }
+        reconnectStartedNanos = System.nanoTime();
         transitionStatus(BotStatus.RECONNECTING);
         log.warn("Bot {}: WS disconnected — starting retrial flow", userName);
         // One increment per reconnect EVENT, tagged by the originating reason.
         // Internal escalations (loop fall-through, performReauth) must not increment.
-        if (metrics != null) metrics.incBotReconnect("ws-disconnect");
-        Thread.ofVirtual().name("reconnect-" + userName).start(mdcWrap(this::runWsReconnectLoop));
+        BotMeters m = meters();
+        if (m != null) m.incBotReconnect("ws-disconnect");
+        // Dropped before the server ever accepted cached tokens: reconnecting with the
+        // same tokens would only be rejected again, so re-auth first.
+        Runnable loop = rejectUnprovenTokens() ? this::runAuthThenWsLoop : this::runWsReconnectLoop;
+        Thread.ofVirtual().name("reconnect-" + userName).start(mdcWrap(loop));
     }
 
     // Called from the watchdog in BettingMiniGameBot — skips WS backoff, re-auths immediately
@@ -484,10 +973,12 @@ public abstract class Bot {
         if (!reconnecting.compareAndSet(false, true)) {
             return; // reconnect already in progress
         }
+        reconnectStartedNanos = System.nanoTime();
         transitionStatus(BotStatus.RECONNECTING);
         log.warn("Bot {}: full reconnect triggered — {}", userName, reason);
-        if (metrics != null) {
-            metrics.incBotReconnect(normalizeReconnectReason(reason));
+        BotMeters m = meters();
+        if (m != null) {
+            m.incBotReconnect(normalizeReconnectReason(reason));
         }
         if (client != null && client.isOpen()) {
             client.close();
@@ -495,10 +986,61 @@ public abstract class Bot {
         Thread.ofVirtual().name("reconnect-" + userName).start(mdcWrap(this::runAuthThenWsLoop));
     }
 
+    /**
+     * Replace a healthy session with a fresh one (fleet connection recycling, see
+     * {@code ConnectionRecycler}): within one admission of the environment's reconnect
+     * gate, close the WS client, connect a new one with the current tokens and confirm
+     * it held. The reconnect guard is held throughout, so closing the old session does
+     * not also start the disconnect retry flow; a new session that does not hold hands
+     * over to that flow instead. Blocks for the confirm window — run it on a virtual
+     * thread.
+     *
+     * @return {@link RecycleOutcome#RECYCLED} only if the new session held;
+     *         {@link RecycleOutcome#SKIPPED} if the bot is stopped (before or during the
+     *         recycle), DEAD, not connected or already reconnecting;
+     *         {@link RecycleOutcome#HANDED_OFF} if the new session did not hold and the
+     *         retry flow took over
+     */
+    public RecycleOutcome recycle() {
+        if (stopped || status == BotStatus.DEAD || !isConnected()) return RecycleOutcome.SKIPPED;
+        if (!reconnecting.compareAndSet(false, true)) {
+            return RecycleOutcome.SKIPPED;
+        }
+        reconnectStartedNanos = System.nanoTime();
+        BotMeters m = meters();
+        if (m != null) m.incBotReconnect("recycle");
+        boolean held = false;
+        try (ReconnectGate.Permit permit = admitReconnect()) {
+            if (stopped) {
+                reconnecting.set(false);
+                return RecycleOutcome.SKIPPED;
+            }
+            log.info("Bot {}: recycling connection", userName);
+            transitionStatus(BotStatus.RECONNECTING);
+            if (tryReconnectWs()) {
+                sleep(RECONNECT_CONFIRM_SECONDS * 1000);
+                held = !stopped && client != null && client.isOpen();
+            }
+        }
+        if (held) {
+            recordReconnected();
+            reconnecting.set(false);
+            return RecycleOutcome.RECYCLED;
+        }
+        if (stopped) {
+            reconnecting.set(false);
+            return RecycleOutcome.SKIPPED;
+        }
+        log.warn("Bot {}: recycled connection did not hold — starting retrial flow", userName);
+        Thread.ofVirtual().name("reconnect-" + userName).start(mdcWrap(this::runWsReconnectLoop));
+        return RecycleOutcome.HANDED_OFF;
+    }
+
     /**
      * Normalize the free-form reconnect reason string to a small bounded enum-like value
      * used as the {@code reason} tag on {@code bot_reconnects_total}. Cardinality budget
-     * (Architecture Decision 7): {@code watchdog | ws-disconnect | reauth-cycle}.
+     * (Architecture Decision 7): {@code watchdog | ws-disconnect | reauth-cycle}, plus
+     * {@code recycle}, counted directly by {@link #recycle()}.
      */
     private static String normalizeReconnectReason(String raw) {
         if (raw == null) return "ws-disconnect";
@@ -526,19 +1068,24 @@ public abstract class Bot {
         // the bot DEAD (not a reconnect event) so it also does not re-increment.
         int attempt = 0;
         int cycle = startCycle;
+        long delayMillis = 0;
         while (!stopped) {
-            long delaySecs = BACKOFF_SECONDS[Math.min(attempt, BACKOFF_SECONDS.length - 1)];
-            sleep(delaySecs * 1000);
+            delayMillis = nextBackoffMillis(attempt, delayMillis);
+            sleep(delayMillis);
             if (stopped) return;
 
-            if (tryReconnectWs()) {
-                sleep(RECONNECT_CONFIRM_SECONDS * 1000);
-                if (!stopped && client != null && client.isOpen()) {
-                    log.debug("Bot {}: reconnected to WS (attempt {})", userName, attempt + 1);
-                    reconnecting.set(false);
-                    return;
+            try (ReconnectGate.Permit permit = admitReconnect()) {
+                if (stopped) return;
+                if (tryReconnectWs()) {
+                    sleep(RECONNECT_CONFIRM_SECONDS * 1000);
+                    if (!stopped && client != null && client.isOpen()) {
+                        log.debug("Bot {}: reconnected to WS (attempt {})", userName, attempt + 1);
+                        recordReconnected();
+                        reconnecting.set(false);
+                        return;
+                    }
+                    log.debug("Bot {}: reconnect attempt {} did not hold", userName, attempt + 1);
                 }
-                log.debug("Bot {}: reconnect attempt {} did not hold", userName, attempt + 1);
             }
 
             attempt++;
@@ -558,8 +1105,9 @@ public abstract class Bot {
                     closeClientQuietly();
                     return;
                 }
-                if (!performReauth()) return; // marks DEAD if auth fails
+                if (!performReauth(false)) return; // marks DEAD if auth fails
                 attempt = 0;
+                delayMillis = 0;
             }
         }
     }
@@ -570,15 +1118,19 @@ public abstract class Bot {
         // tag is unused in current code; if a future caller needs it, increment
         // at that callsite before spawning this loop.
         if (stopped) return;
-        if (!performReauth()) return;
+        if (!performReauth(true)) return;
         if (stopped) return;
 
-        if (tryReconnectWs()) {
-            sleep(RECONNECT_CONFIRM_SECONDS * 1000);
-            if (!stopped && client != null && client.isOpen()) {
-                log.debug("Bot {}: reconnected after full re-auth", userName);
-                reconnecting.set(false);
-                return;
+        try (ReconnectGate.Permit permit = admitReconnect()) {
+            if (stopped) return;
+            if (tryReconnectWs()) {
+                sleep(RECONNECT_CONFIRM_SECONDS * 1000);
+                if (!stopped && client != null && client.isOpen()) {
+                    log.debug("Bot {}: reconnected after full re-auth", userName);
+                    recordReconnected();
+                    reconnecting.set(false);
+                    return;
+                }
             }
         }
         // This path already consumed one re-auth cycle above; enter the loop at
@@ -587,11 +1139,56 @@ public abstract class Bot {
         runWsReconnectLoop(1);
     }
 
-    private boolean performReauth() {
+    /**
+     * Delay before reconnect attempt {@code attempt}: the gate's decorrelated jitter
+     * when one is wired, else the fixed {@link #BACKOFF_SECONDS} step.
+     */
+    private long nextBackoffMillis(int attempt, long previousMillis) {
+        ReconnectGate gate = reconnectGate;
+        if (gate != null) {
+            return gate.nextBackoffMillis(previousMillis);
+        }
+        return BACKOFF_SECONDS[Math.min(attempt, BACKOFF_SECONDS.length - 1)] * 1000;
+    }
+
+    /**
+     * Wait for the environment's reconnect gate to admit one attempt (connect or
+     * re-auth). Runs on the reconnect virtual thread. Without a gate, or if the wait
+     * is interrupted, proceeds at once — the same interrupt handling as {@link #sleep}.
+     */
+    private ReconnectGate.Permit admitReconnect() {
+        ReconnectGate gate = reconnectGate;
+        if (gate == null) {
+            return ReconnectGate.Permit.NONE;
+        }
+        try {
+            return gate.admit();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ReconnectGate.Permit.NONE;
+        }
+    }
+
+    private void recordReconnected() {
+        ReconnectGate gate = reconnectGate;
+        if (gate != null) {
+            gate.recordReconnected(System.nanoTime() - reconnectStartedNanos);
+        }
+    }
+
+    /**
+     * @param allowCached reuse a valid cached login (the watchdog path, where the
+     *                    session rather than the tokens is suspect); {@code false} after
+     *                    a full back-off cycle of failed connects, which logs in for real
+     */
+    private boolean performReauth(boolean allowCached) {
         try {
             log.debug("Bot {}: re-authenticating", userName);
-            transitionStatus(BotStatus.AUTHENTICATING);
-            this.tokens = apiGatewayClient.authenticate(credentials);
+            boolean useCache = !rejectUnprovenTokens() && allowCached;
+            try (ReconnectGate.Permit permit = admitReconnect()) {
+                transitionStatus(BotStatus.AUTHENTICATING);
+                this.tokens = login(useCache);
+            }
             transitionStatus(BotStatus.AUTHENTICATED);
             return true;
         } catch (Exception e) {
@@ -655,93 +1252,147 @@ public abstract class Bot {
 
     // ---- MDC wrap helpers ----
     //
-    // Contract (Architecture Decision 7 in docs/plans/LOGGING_PIPELINE_FIX.md):
-    //   1. Stash the caller's current MDC via MDC.getCopyOfContextMap().
-    //   2. If mdcSnapshot is non-null, apply it via MDC.setContextMap(snapshot).
-    //      If mdcSnapshot is null (snapshot not yet captured), leave MDC alone.
-    //   3. Run the wrapped action.
-    //   4. In finally: if the stashed map was non-null restore it via setContextMap;
-    //      otherwise MDC.clear(). This keeps the wrap re-entrant and safe on threads
-    //      that already had a different MDC.
+    // Contract (Architecture Decision 7 in docs/plans/LOGGING_PIPELINE_FIX.md), now
+    // carried by BotLogContext instead of MDC map copies:
+    //   1. Resolve the bot's precomputed BotLogContext (built once from mdcSnapshot).
+    //      If mdcSnapshot is null (snapshot not yet captured), run the action as-is.
+    //   2. Install it on the calling thread, keeping whatever it replaced.
+    //   3. Run the wrapped action — log events and BotMdc.get see the bot's keys.
+    //   4. In finally: reinstall the replaced context. The thread's MDC is never
+    //      touched, so the wrap stays re-entrant and safe on threads that already
+    //      had a different MDC — and allocates nothing per call.
 
     protected Runnable mdcWrap(Runnable r) {
         return () -> {
-            Map<String, String> stash = MDC.getCopyOfContextMap();
-            if (mdcSnapshot != null) {
-                MDC.setContextMap(mdcSnapshot);
+            BotLogContext ctx = logContext();
+            if (ctx == null) {
+                r.run();
+                return;
             }
+            BotLogContext previous = BotLogContext.install(ctx);
             try {
                 r.run();
             } finally {
-                if (stash != null) {
-                    MDC.setContextMap(stash);
-                } else {
-                    MDC.clear();
-                }
+                BotLogContext.restore(previous);
             }
         };
     }
 
     protected <T> Callable<T> mdcCall(Callable<T> c) {
         return () -> {
-            Map<String, String> stash = MDC.getCopyOfContextMap();
-            if (mdcSnapshot != null) {
-                MDC.setContextMap(mdcSnapshot);
+            BotLogContext ctx = logContext();
+            if (ctx == null) {
+                return c.call();
             }
+            BotLogContext previous = BotLogContext.install(ctx);
             try {
                 return c.call();
             } finally {
-                if (stash != null) {
-                    MDC.setContextMap(stash);
-                } else {
-                    MDC.clear();
-                }
+                BotLogContext.restore(previous);
             }
         };
     }
 
     protected <T> Supplier<T> mdcSupplier(Supplier<T> s) {
         return () -> {
-            Map<String, String> stash = MDC.getCopyOfContextMap();
-            if (mdcSnapshot != null) {
-                MDC.setContextMap(mdcSnapshot);
+            BotLogContext ctx = logContext();
+            if (ctx == null) {
+                return s.get();
             }
+            BotLogContext previous = BotLogContext.install(ctx);
             try {
                 return s.get();
             } finally {
-                if (stash != null) {
-                    MDC.setContextMap(stash);
-                } else {
-                    MDC.clear();
-                }
+                BotLogContext.restore(previous);
             }
         };
     }
 
     protected <T> Consumer<T> mdcConsumer(Consumer<T> c) {
         return t -> {
-            Map<String, String> stash = MDC.getCopyOfContextMap();
-            if (mdcSnapshot != null) {
-                MDC.setContextMap(mdcSnapshot);
+            BotLogContext ctx = logContext();
+            if (ctx == null) {
+                c.accept(t);
+                return;
             }
+            BotLogContext previous = BotLogContext.install(ctx);
             try {
                 c.accept(t);
             } finally {
-                if (stash != null) {
-                    MDC.setContextMap(stash);
-                } else {
-                    MDC.clear();
-                }
+                BotLogContext.restore(previous);
             }
         };
     }
 
+    /**
+     * The bot's precomputed logging context, rebuilt only when {@link #mdcSnapshot}
+     * is replaced; {@code null} while there is no snapshot.
+     */
+    protected BotLogContext logContext() {
+        Map<String, String> snapshot = mdcSnapshot;
+        BotLogContext ctx = logContext;
+        if (ctx == null ? snapshot != null : !ctx.isFrom(snapshot)) {
+            ctx = BotLogContext.of(snapshot);
+            logContext = ctx;
+        }
+        return ctx;
+    }
+
+    // ---- Wire tap ----
+
+    /**
+     * Declare the CMDs this bot's wire printer shows and attach it now if required.
+     * Called from {@code onStart()} on every (re)connect; the fresh client starts
+     * without a printer.
+     */
+    protected void addWireTap(List<Integer> cmds) {
+        this.wireTapCmds = cmds;
+        syncWireTap();
+    }
+
+    /**
+     * Attach the level-gated wire printer to the current client when the group's wire
+     * logger is at TRACE, this bot is traced on its own, or the group tap is capturing,
+     * and it is not attached yet. Called from {@link #addWireTap} and periodically by
+     * the group {@link WireTap}, so a level raised via {@code /actuator/loggers} or a
+     * trace flag set via {@code /actuator/wiretap} takes effect without a reconnect.
+     */
+    @Override
+    public void syncWireTap() {
+        List<Integer> cmds = wireTapCmds;
+        if (cmds == null || stopped) return;
+        WireTap tap = wireTap;
+        synchronized (wireTapLock) {
+            VingameWebSocketClient c = client;
+            if (c == null || c == wireTappedClient) return;
+            Logger logger = wireLogger();
+            if (!logger.isTraceEnabled()
+                    && (tap == null || (!tap.isCapturing() && !tap.isTraced(userName)))) return;
+            PipelineContext context = PipelineContext.buildContext()
+                    .timeoutMillis(configuration.getTimeoutMillis())
+                    .client(c)
+                    .objectMapper(ObjectMapperProvider.getDefault())
+                    .tag("OutputPrinter")
+                    .build();
+            c.addScenario(OutputPrinter.wireTapPrinter(cmds, userName, context, mdcSnapshot, logger, tap));
+            wireTappedClient = c;
+        }
+        log.debug("Bot {}: wire tap attached", userName);
+    }
+
+    private Logger wireLogger() {
+        if (wireLogger == null) {
+            wireLogger = WireTap.loggerFor(configuration.getBotGroupId());
+        }
+        return wireLogger;
+    }
+
     // ---- Abstract & template methods ----
 
     protected abstract Scenario botBehaviorScenario();
 
     protected void creditBalance(long amount) {
-        this.expectedCurrentBalance.addAndGet(-amount);
+        adjustBalance(-amount);
         this.totalBetsPlaced.incrementAndGet();
         this.totalBetAmount.addAndGet(amount);
         // Bet counters (bot_bets_placed_total, bot_bet_amount_total) moved to
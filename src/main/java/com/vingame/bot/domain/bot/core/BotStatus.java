@@ -9,5 +9,13 @@ public enum BotStatus {
     CONNECTION_AUTHENTICATED,
     STARTED,
     RECONNECTING,
-    DEAD
+    DEAD;
+
+    /** Whether a bot in this status holds an open game connection. */
+    public boolean isConnected() {
+        return switch (this) {
+            case CONNECTED, AUTHENTICATING_CONNECTION, CONNECTION_AUTHENTICATED, STARTED -> true;
+            default -> false;
+        };
+    }
 }
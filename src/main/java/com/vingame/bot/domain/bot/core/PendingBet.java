@@ -0,0 +1,62 @@
+package com.vingame.bot.domain.bot.core;
+
+import com.vingame.bot.domain.bot.strategy.BetSlot;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The bet decision parked between the {@code sendAsync} condition and its supplier
+ * (BETTING_STRATEGIES Implementation Note 1), held as two primitives instead of an
+ * {@code AtomicReference<Optional<BetDecision>>} so parking and popping allocate
+ * nothing.
+ *
+ * <p>The amount doubles as the presence flag: {@link #EMPTY} means nothing is
+ * parked. {@code optionId} is written before the amount is published and read
+ * after it is taken, so a popped amount always comes with its own option. Parking
+ * and popping happen on the bot's tick thread; {@link #clear()} may come from the
+ * netty thread ({@code beforeReconnect}) — the atomic get-and-set on the amount
+ * keeps that race to "popped the decision" or "found it cleared", never half of
+ * each.
+ */
+final class PendingBet {
+
+    static final long EMPTY = Long.MIN_VALUE;
+
+    private volatile int optionId;
+    private final AtomicLong amount = new AtomicLong(EMPTY);
+
+    void park(int optionId, long amount) {
+        this.optionId = optionId;
+        this.amount.set(amount);
+    }
+
+    void clear() {
+        amount.set(EMPTY);
+    }
+
+    boolean isPresent() {
+        return amount.get() != EMPTY;
+    }
+
+    int optionId() {
+        return optionId;
+    }
+
+    long amount() {
+        return amount.get();
+    }
+
+    /**
+     * Take the parked decision into {@code out}, leaving this empty.
+     *
+     * @return {@code false} if nothing was parked ({@code out} untouched)
+     */
+    boolean popInto(BetSlot out) {
+        long taken = amount.getAndSet(EMPTY);
+        if (taken == EMPTY) {
+            return false;
+        }
+        out.set(optionId, taken);
+        return true;
+    }
+}
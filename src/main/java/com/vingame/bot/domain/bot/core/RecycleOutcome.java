@@ -0,0 +1,16 @@
+package com.vingame.bot.domain.bot.core;
+
+/** What a {@link Bot#recycle()} did with the bot's connection. */
+public enum RecycleOutcome {
+    /** A fresh session replaced the old one and held through the confirm window. */
+    RECYCLED,
+    /** Nothing to recycle: the bot was stopped, DEAD, not connected or already reconnecting. */
+    SKIPPED,
+    /** The fresh session did not hold; the bot was handed to the disconnect retry flow. */
+    HANDED_OFF;
+
+    /** The {@code outcome} tag value on {@code connection_recycles_total}. */
+    public String tag() {
+        return this == HANDED_OFF ? "handed-off" : name().toLowerCase();
+    }
+}
@@ -14,10 +14,9 @@ import com.vingame.bot.domain.bot.strategy.slot.SlotBetContext;
 import com.vingame.bot.domain.bot.strategy.slot.SlotStrategy;
 import com.vingame.bot.domain.bot.strategy.slot.SlotStrategyFactory;
 import com.vingame.bot.domain.bot.strategy.slot.SlotStrategyId;
-import com.vingame.bot.domain.bot.util.OutputPrinter;
 import com.vingame.bot.domain.game.model.Game;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.bot.infrastructure.observability.SlotSessionStrategy;
-import com.vingame.websocketparser.ObjectMapperProvider;
 import com.vingame.websocketparser.message.request.ActionRequestMessage;
 import com.vingame.websocketparser.message.response.ActionResponseMessage;
 import com.vingame.websocketparser.scenario.PipelineContext;
@@ -66,6 +65,11 @@ public class SlotMachineBot extends Bot {
     @Setter
     private SlotMessageTypes messageTypes;
 
+    // Shared, pre-warmed scenario mapper (injected by BotFactory from
+    // MessageCodecRegistry). Null-tolerant: null builds a private mapper, as before.
+    @Setter
+    private ObjectMapper messageMapper;
+
     private SlotRequest request;
 
     // Slot game id (gid). Lives on Game.gameId (AD-2); fixed per bot.
@@ -159,9 +163,8 @@ public class SlotMachineBot extends Bot {
     private void onNewSession() {
         long balance = checkBalance();
         BotBehaviorConfig behavior = configuration.getBehaviorConfig();
-        if (behavior.isAutoDepositEnabled() && balance < getMinBalance()) {
-            log.info("Bot {}: balance {} below minimum {}, triggering deposit", getUserName(), balance, getMinBalance());
-            deposit();
+        if (behavior.isAutoDepositEnabled() && isBalanceKnown()) {
+            autoDeposit(balance);
         } else {
             log.debug("Bot {}: session balance {}", getUserName(), balance);
         }
@@ -173,7 +176,8 @@ public class SlotMachineBot extends Bot {
      * marks the connection authenticated and runs the new-session balance check.
      */
     private void onSubscribe(ActionResponseMessage<? extends SlotSubscribeResponse> data) {
-        if (metrics != null) metrics.incBotMessage("subscribe");
+        BotMeters m = meters();
+        if (m != null) m.incBotMessage("subscribe");
 
         // Mark the connection authenticated FIRST, unconditionally — mirroring
         // BettingMiniGameBot.onSubscribe. The bot has received and acknowledged a
@@ -210,7 +214,8 @@ public class SlotMachineBot extends Bot {
      * bet totals are a single spin. Finally clears the one-spin-in-flight gate.
      */
     private void onSpinResult(ActionResponseMessage<? extends SlotSpinResultMessage> data) {
-        if (metrics != null) metrics.incBotMessage("spin");
+        BotMeters m = meters();
+        if (m != null) m.incBotMessage("spin");
 
         SlotSpinResultMessage msg = data.getData();
         // Defensive gid guard (Implementation Notes): ignore a stray foreign-gid
@@ -224,29 +229,29 @@ public class SlotMachineBot extends Bot {
         }
 
         // Extraction runs unconditionally (it backs BotHealthDTO); only metric
-        // emission is gated on metrics != null (match betting bot).
+        // emission is gated on meters being bound (match betting bot).
         long winnings = 0L;
         if (msg instanceof HasBotWinnings hw) {
             winnings = hw.winningsFor(getUserName());
             lastRoundWinnings = winnings;
             if (winnings > 0) {
-                expectedCurrentBalance.addAndGet(winnings);
+                adjustBalance(winnings);
                 // Mirror bot_winnings_total value-for-value (BOTGROUP_GAME_MANAGEMENT
                 // AD-8): same winnings>0 guard as the metric, not gated on metrics.
-                cumulativeWinnings.addAndGet(winnings);
-                if (metrics != null) metrics.incBotWinnings(winnings);
+                addWinnings(winnings);
+                if (m != null) m.incBotWinnings(winnings);
             }
         }
         // One completed spin observed (BOTGROUP_GAME_MANAGEMENT AD-9). For slot groups
         // "rounds" means completed spins — there is no StartGame/EndGame round boundary.
-        roundsObserved.incrementAndGet();
-        if (metrics != null && msg instanceof HasBetTotals bt) {
+        recordRoundObserved();
+        if (m != null && msg instanceof HasBetTotals bt) {
             // Bet-amount metric must reflect TOTAL stake = per-line b * numLines,
             // matching the gate and the debit (AD-13). betAmountFor() returns only
             // the per-line b (numLines is not on the result message), so multiply
             // here by the bot's server-sourced numLines. betCountFor() stays 1.
             long totalStake = bt.betAmountFor(getUserName()) * numLines;
-            metrics.incBetsPlaced(bt.betCountFor(getUserName()), totalStake);
+            m.incBetsPlaced(bt.betCountFor(getUserName()), totalStake);
         }
 
         // AGGREGATED_SESSION_LOGGING (AD-12): feed the spin result into the same
@@ -378,9 +383,12 @@ public class SlotMachineBot extends Bot {
     protected Scenario botBehaviorScenario() {
         Game game = configuration.getGame();
 
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        mapper.registerSubtypes(messageTypes.getTypeRegistrations());
+        ObjectMapper mapper = messageMapper;
+        if (mapper == null) {
+            mapper = new ObjectMapper();
+            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            mapper.registerSubtypes(messageTypes.getTypeRegistrations());
+        }
 
         // onMessage handlers run on the per-client netty-ws-message-processor pool;
         // sendAsync's supplier + condition run on a scenario-owned pool thread.
@@ -423,12 +431,7 @@ public class SlotMachineBot extends Bot {
                 SlotMessageTypes.SUBSCRIBE_CMD,
                 SlotMessageTypes.SPIN_CMD
         );
-        getClient().addScenario(OutputPrinter.debugOutputPrinter(
-                cmdList,
-                getUserName(),
-                buildContext("OutputPrinter", ObjectMapperProvider.getDefault()),
-                mdcSnapshot
-        ));
+        addWireTap(cmdList);
 
         getClient().addScenario(botBehaviorScenario());
     }
@@ -2,7 +2,7 @@ package com.vingame.bot.domain.bot.core;
 
 import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.vingame.bot.domain.bot.strategy.BetContext;
-import com.vingame.bot.domain.bot.strategy.BetDecision;
+import com.vingame.bot.domain.bot.strategy.BetSlot;
 import com.vingame.bot.domain.bot.message.EndGameMessage;
 import com.vingame.bot.domain.bot.message.StartGameMd5Message;
 import com.vingame.bot.domain.bot.message.StartGameMessage;
@@ -16,7 +16,6 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Tai Xiu bot (TAI_XIU_BOT plan AD-1). Tai Xiu is round-based with
@@ -125,24 +124,23 @@ public class TaiXiuGameBot extends BettingMiniGameBot {
      * preserved, so martingale-style increases on the locked side keep working.
      */
     @Override
-    protected Optional<BetDecision> decideBet(BetContext ctx) {
-        Optional<BetDecision> decision = super.decideBet(ctx);
-        if (decision.isEmpty()) {
-            return decision;
+    protected boolean decideBet(BetContext ctx, BetSlot out) {
+        if (!super.decideBet(ctx, out)) {
+            return false;
         }
         Integer lockedEntry = lockedEntryThisRound(ctx);
         if (lockedEntry == null) {
             // First bet of the round — strategy's entry choice passes through.
-            return decision;
+            return true;
         }
-        BetDecision chosen = decision.get();
-        if (chosen.optionId() == lockedEntry) {
-            return decision;
+        if (out.optionId() == lockedEntry) {
+            return true;
         }
         // Lock held: remap to the already-bet entry, keep the strategy's amount.
         log.debug("Bot {}: single-entry lock — remapping bet entry {} -> {} (amount={})",
-                getUserName(), chosen.optionId(), lockedEntry, chosen.amount());
-        return Optional.of(new BetDecision(lockedEntry, chosen.amount()));
+                getUserName(), out.optionId(), lockedEntry, out.amount());
+        out.optionId(lockedEntry);
+        return true;
     }
 
     /**
@@ -0,0 +1,188 @@
+package com.vingame.bot.domain.bot.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.vingame.bot.domain.bot.message.g2.b52.B52EndGameMessage;
+import com.vingame.bot.domain.bot.message.g2.bom.BomEndGameMessage;
+import com.vingame.bot.domain.bot.message.g3.tip.TipEndGameMessage;
+import com.vingame.bot.domain.bot.message.g3.tip.TipSubscribeMessage;
+import com.vingame.bot.domain.bot.message.g4.nohu.NohuEndGameMessage;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Streaming, partial decoders for EndGame frames — bind only what the bot reads.
+ * <p>
+ * The EndGame POJOs model the whole payload, including subtrees no marker interface
+ * touches: Tip's {@code ps} player list (one entry per player in the room), {@code eIn},
+ * {@code jpCD} countdown and {@code sDi} dice; the g2/g4 {@code sD} dice array and
+ * {@code lJp} last-jackpot object. Binding them allocates a list plus one object per
+ * element for every bot on every round.
+ * <p>
+ * These deserializers walk the {@link JsonParser} token stream once:
+ * <ul>
+ *   <li>scalar fields are read into locals (cheap, and keeps {@code toString} useful);</li>
+ *   <li>{@code bs} is bound — it backs {@link HasCrowdBets} and {@link HasBetTotals};</li>
+ *   <li>every other object/array value is skipped with {@link JsonParser#skipChildren()},
+ *       so no tree, list or element object is created for it.</li>
+ * </ul>
+ * The result is the same message class built through its {@code @JsonCreator}
+ * constructor with {@code null} for the skipped subtrees, so every marker
+ * ({@link HasBotWinnings}, {@link HasJackpot}, {@link HasBetTotals},
+ * {@link HasJackpotPool}, {@link HasCrowdBets}) answers exactly as with full binding.
+ * <p>
+ * Installed only on the shared bot mappers ({@link MessageCodecRegistry},
+ * {@code bot.codec.lean-end-game}). Any plain mapper — tests, debugging, the wire-frame
+ * TRACE printers — still binds the full POJO. Tai Xiu's EndGame is all scalars, so it
+ * has nothing to skip and keeps its default binding.
+ */
+public final class LeanEndGameDecoders {
+
+    private LeanEndGameDecoders() {
+    }
+
+    /** Jackson module registering the lean decoders for every EndGame class with skippable subtrees. */
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("lean-end-game");
+        module.addDeserializer(TipEndGameMessage.class, new TipDecoder());
+        module.addDeserializer(BomEndGameMessage.class, new DiceJackpotDecoder<>(
+                BomEndGameMessage.class, BomEndGameMessage.BetInfo.class,
+                (f, bs) -> new BomEndGameMessage(f.cmd, f.d1, f.d2, f.d3, null, f.tJpv2, f.tJpV,
+                        f.iJp, f.jpT, f.sid, null, bs)));
+        module.addDeserializer(B52EndGameMessage.class, new DiceJackpotDecoder<>(
+                B52EndGameMessage.class, B52EndGameMessage.BetInfo.class,
+                (f, bs) -> new B52EndGameMessage(f.cmd, f.d1, f.d2, f.d3, null, f.tJpv2, f.tJpV,
+                        f.iJp, f.jpT, f.sid, null, bs)));
+        module.addDeserializer(NohuEndGameMessage.class, new DiceJackpotDecoder<>(
+                NohuEndGameMessage.class, NohuEndGameMessage.BetInfo.class,
+                (f, bs) -> new NohuEndGameMessage(f.cmd, f.d1, f.d2, f.d3, null, f.tJpv2, f.tJpV,
+                        f.iJp, f.jpT, f.sid, null, bs)));
+        return module;
+    }
+
+    /**
+     * Scalar fields seen across the EndGame shapes. One instance per decode; each
+     * decoder reads the subset its constructor takes.
+     */
+    static final class Fields {
+        int cmd;
+        int d1;
+        int d2;
+        int d3;
+        int gid;
+        int jpT;
+        int jPTp;
+        boolean iJ;
+        boolean iJp;
+        long sid;
+        long tJpV;
+        long tJpv2;
+        long jpV;
+        long wm;
+    }
+
+    /**
+     * Shared token loop. Handles both entry points Jackson uses: a plain read (parser
+     * on {@code START_OBJECT}) and a polymorphic read via {@link BettingMiniMessage}'s
+     * visible {@code cmd} type id (parser already on the first {@code FIELD_NAME}, with
+     * {@code cmd} replayed as a string — hence the {@code getValueAs*} coercions).
+     */
+    abstract static class LeanDecoder<T, B> extends StdDeserializer<T> {
+
+        private final Class<B> betInfoType;
+
+        LeanDecoder(Class<T> type, Class<B> betInfoType) {
+            super(type);
+            this.betInfoType = betInfoType;
+        }
+
+        @Override
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            Fields f = new Fields();
+            List<B> bs = null;
+            JsonToken t = p.currentToken();
+            if (t == JsonToken.START_OBJECT) {
+                t = p.nextToken();
+            }
+            for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+                String name = p.currentName();
+                JsonToken value = p.nextToken();
+                if (value == JsonToken.START_ARRAY && "bs".equals(name)) {
+                    JavaType listType = ctxt.getTypeFactory().constructCollectionType(List.class, betInfoType);
+                    bs = ctxt.readValue(p, listType);
+                    continue;
+                }
+                if (value.isStructStart()) {
+                    p.skipChildren();
+                    continue;
+                }
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (name) {
+                    case "cmd" -> f.cmd = p.getValueAsInt();
+                    case "d1" -> f.d1 = p.getValueAsInt();
+                    case "d2" -> f.d2 = p.getValueAsInt();
+                    case "d3" -> f.d3 = p.getValueAsInt();
+                    case "gid" -> f.gid = p.getValueAsInt();
+                    case "jpT" -> f.jpT = p.getValueAsInt();
+                    case "jPTp" -> f.jPTp = p.getValueAsInt();
+                    case "iJ" -> f.iJ = p.getValueAsBoolean();
+                    case "iJp" -> f.iJp = p.getValueAsBoolean();
+                    case "sid" -> f.sid = p.getValueAsLong();
+                    case "tJpV" -> f.tJpV = p.getValueAsLong();
+                    case "tJpv2" -> f.tJpv2 = p.getValueAsLong();
+                    case "jpV" -> f.jpV = p.getValueAsLong();
+                    case "wm" -> f.wm = p.getValueAsLong();
+                    default -> {
+                        // Scalar the bot never reads — already consumed by nextToken().
+                    }
+                }
+            }
+            return build(f, bs);
+        }
+
+        abstract T build(Fields f, List<B> bs);
+    }
+
+    static final class TipDecoder extends LeanDecoder<TipEndGameMessage, TipSubscribeMessage.BetInfoWithTotal> {
+
+        TipDecoder() {
+            super(TipEndGameMessage.class, TipSubscribeMessage.BetInfoWithTotal.class);
+        }
+
+        @Override
+        TipEndGameMessage build(Fields f, List<TipSubscribeMessage.BetInfoWithTotal> bs) {
+            // ps, eIn, jpCD, sDi skipped.
+            return new TipEndGameMessage(f.cmd, f.iJ, f.gid, null, f.tJpV, null, f.d1, f.d2, f.d3,
+                    f.iJp, f.sid, bs, f.jpV, f.tJpv2, f.jPTp, null, f.wm, null);
+        }
+    }
+
+    /** Constructor seam for the shared g2/g4 dice-and-jackpot EndGame shape (BOM, B52, Nohu). */
+    @FunctionalInterface
+    interface DiceJackpotFactory<T, B> {
+        T create(Fields f, List<B> bs);
+    }
+
+    static final class DiceJackpotDecoder<T, B> extends LeanDecoder<T, B> {
+
+        private final DiceJackpotFactory<T, B> factory;
+
+        DiceJackpotDecoder(Class<T> type, Class<B> betInfoType, DiceJackpotFactory<T, B> factory) {
+            super(type, betInfoType);
+            this.factory = factory;
+        }
+
+        @Override
+        T build(Fields f, List<B> bs) {
+            // sD, lJp skipped.
+            return factory.create(f, bs);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.vingame.bot.domain.bot.message;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.vingame.bot.domain.brand.model.ProductCode;
+import com.vingame.bot.domain.game.model.Game;
+import com.vingame.bot.domain.game.model.GameType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of scenario {@link ObjectMapper}s, one per message-type
+ * layout, resolved through {@link GameMessageTypesResolver}.
+ * <p>
+ * Before this registry every bot built its own mapper in {@code botBehaviorScenario()}
+ * and re-registered the same subtypes: each bot paid Jackson's class introspection
+ * again and kept a private deserializer cache for identical classes. Every bot of a
+ * given product and game type registers the same {@link NamedType}s, so they can
+ * share one mapper — Jackson mappers are thread-safe once configured.
+ * <p>
+ * Key: {@code (productCode, gameType, offset, md5)}. Betting-mini CMDs are
+ * {@code CODE + offset} and the StartGame class depends on md5, so both are part of
+ * the key; Tai Xiu and slot register fixed CMDs and key with offset 0 / md5 false.
+ * Slot classes are product-neutral (AD-4), so slot keys carry a null product.
+ * <p>
+ * Each mapper is built once and <b>warmed</b>: the root deserializer of every
+ * registered class (and of the polymorphic base) is resolved eagerly, so the first
+ * frame a bot decodes does not pay for deserializer construction. Optionally the
+ * Blackbird module replaces reflective setters/creators with generated lambdas
+ * ({@code bot.codec.blackbird}), and EndGame frames are decoded by the streaming
+ * {@link LeanEndGameDecoders}, which skip the subtrees no marker reads
+ * ({@code bot.codec.lean-end-game}). Collections bind read-only
+ * ({@link ReadOnlyCollections}), as a decoded round frame may be shared by a whole
+ * group.
+ * <p>
+ * The returned mappers are shared: callers must not reconfigure them.
+ */
+@Slf4j
+@Component
+public class MessageCodecRegistry {
+
+    private final boolean blackbird;
+    private final boolean leanEndGame;
+    private final ConcurrentHashMap<CodecKey, ObjectMapper> mappers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MessageCodecRegistry(@Value("${bot.codec.blackbird:true}") boolean blackbird,
+                                @Value("${bot.codec.lean-end-game:true}") boolean leanEndGame) {
+        this.blackbird = blackbird;
+        this.leanEndGame = leanEndGame;
+    }
+
+    public MessageCodecRegistry(boolean blackbird) {
+        this(blackbird, true);
+    }
+
+    /**
+     * Shared mapper for a betting-mini game on {@code productCode}.
+     *
+     * @throws IllegalArgumentException if the product has no betting-mini provider
+     */
+    public ObjectMapper bettingMini(ProductCode productCode, int offset, boolean md5) {
+        return mappers.computeIfAbsent(new CodecKey(productCode, GameType.BETTING_MINI, offset, md5),
+                key -> {
+                    GameMessageTypes types = GameMessageTypesResolver.resolveBettingMini(productCode);
+                    return build(key, types.getTypeRegistrations(offset, md5), BettingMiniMessage.class);
+                });
+    }
+
+    /**
+     * Shared mapper for a Tai Xiu game on {@code productCode}.
+     *
+     * @throws IllegalArgumentException if the product has no Tai Xiu provider
+     */
+    public ObjectMapper taiXiu(ProductCode productCode) {
+        return mappers.computeIfAbsent(new CodecKey(productCode, GameType.TAI_XIU, 0, false),
+                key -> {
+                    TaiXiuMessageTypes types = GameMessageTypesResolver.resolveTaiXiu(productCode);
+                    return build(key, types.getTypeRegistrations(), BettingMiniMessage.class);
+                });
+    }
+
+    /** Shared mapper for slot games (product-neutral). */
+    public ObjectMapper slot() {
+        return mappers.computeIfAbsent(new CodecKey(null, GameType.SLOT, 0, false),
+                key -> build(key, GameMessageTypesResolver.resolveSlot().getTypeRegistrations(), null));
+    }
+
+    /**
+     * Shared mapper for {@code game} on {@code productCode}, dispatched on game type.
+     * Called at group start to build and warm the group's mapper before its bots are
+     * created.
+     *
+     * @throws IllegalArgumentException if the product/game type has no provider
+     */
+    public ObjectMapper forGame(ProductCode productCode, Game game) {
+        return switch (game.getGameType()) {
+            case BETTING_MINI -> bettingMini(productCode,
+                    game.getOffset() != null ? game.getOffset() : 0, game.isMd5());
+            case TAI_XIU -> taiXiu(productCode);
+            case SLOT -> slot();
+            case CARD_GAME, UP_DOWN ->
+                throw new IllegalArgumentException("Game type not yet implemented: " + game.getGameType());
+        };
+    }
+
+    public int size() {
+        return mappers.size();
+    }
+
+    private ObjectMapper build(CodecKey key, NamedType[] registrations, Class<?> polymorphicBase) {
+        long start = System.nanoTime();
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        if (blackbird) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        if (leanEndGame) {
+            mapper.registerModule(LeanEndGameDecoders.module());
+        }
+        mapper.registerModule(ReadOnlyCollections.module());
+        mapper.registerSubtypes(registrations);
+
+        // readerFor() resolves and caches the root deserializer (EAGER_DESERIALIZER_FETCH
+        // is on by default), so this front-loads introspection for every class.
+        for (NamedType registration : registrations) {
+            mapper.readerFor(registration.getType());
+        }
+        if (polymorphicBase != null) {
+            mapper.readerFor(polymorphicBase);
+        }
+
+        log.info("Message codec built for {} ({} types, blackbird={}, leanEndGame={}) in {} ms",
+                key, registrations.length, blackbird, leanEndGame, (System.nanoTime() - start) / 1_000_000L);
+        return mapper;
+    }
+
+    record CodecKey(ProductCode productCode, GameType gameType, int offset, boolean md5) {}
+}
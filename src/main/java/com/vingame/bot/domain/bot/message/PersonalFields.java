@@ -0,0 +1,241 @@
+package com.vingame.bot.domain.bot.message;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * One recipient's values of a {@link SplitPersonalized} frame, lifted out of the raw
+ * bytes so the rest of the frame can be decoded once per group.
+ * <p>
+ * Tip personalizes a fixed set of fields: the body's root {@code wm} (this bot's
+ * winnings) and {@code jpV} (this bot's jackpot payout), and {@code b} / {@code bc}
+ * (this bot's stake and bet count) on every {@code bs[]} entry. Everything else —
+ * dice, session id, crowd totals {@code bs[].v}, the room's player list — is the same
+ * for the whole group.
+ * <p>
+ * {@link #split} walks the body's tokens once without binding or copying anything,
+ * skipping every subtree that cannot hold a personal field (the {@code ps} player
+ * list included), and records where each personal value sits in the raw text. The
+ * frame's <i>common</i> text is the raw text with each of those values read as
+ * {@code 0}; {@link Split} answers its length, hash and equality from the raw text
+ * and the recorded spans, so two recipients of the same broadcast meet on one cache
+ * key while only the first builds the common text to decode it. A field absent from
+ * the frame stays {@code 0}, as Jackson would bind it.
+ */
+public final class PersonalFields {
+
+    private long wm;
+    private long jpV;
+    private long[] b = new long[0];
+    private int[] bc = new int[0];
+
+    /** This recipient's root {@code wm}. */
+    public long wm() {
+        return wm;
+    }
+
+    /** This recipient's root {@code jpV}. */
+    public long jpV() {
+        return jpV;
+    }
+
+    /** This recipient's {@code bs[index].b}, {@code 0} when absent. */
+    public long b(int index) {
+        return index < b.length ? b[index] : 0L;
+    }
+
+    /** This recipient's {@code bs[index].bc}, {@code 0} when absent. */
+    public int bc(int index) {
+        return index < bc.length ? bc[index] : 0;
+    }
+
+    /**
+     * A frame split into its group-wide text and one recipient's values. The common
+     * text is only materialized by {@link #common()}.
+     */
+    public static final class Split {
+
+        private final String raw;
+        // Ascending [start, end) offsets of the personal values in raw, two ints each.
+        private final int[] spans;
+        private final int spanCount;
+        private final PersonalFields personal;
+        private final int length;
+        private final int hash;
+
+        private Split(String raw, int[] spans, int spanCount, PersonalFields personal) {
+            this.raw = raw;
+            this.spans = spans;
+            this.spanCount = spanCount;
+            this.personal = personal;
+            int len = raw.length();
+            int h = 0;
+            int from = 0;
+            for (int i = 0; i < spanCount; i++) {
+                int start = spans[2 * i];
+                for (int c = from; c < start; c++) {
+                    h = 31 * h + raw.charAt(c);
+                }
+                h = 31 * h + '0';
+                from = spans[2 * i + 1];
+                len -= from - start - 1;
+            }
+            for (int c = from; c < raw.length(); c++) {
+                h = 31 * h + raw.charAt(c);
+            }
+            this.length = len;
+            this.hash = h;
+        }
+
+        /** This recipient's personal values. */
+        public PersonalFields personal() {
+            return personal;
+        }
+
+        /** Length of {@link #common()}, without building it. */
+        public int commonLength() {
+            return length;
+        }
+
+        /** {@code common().hashCode()}, without building it. */
+        public int commonHash() {
+            return hash;
+        }
+
+        /** {@code common().equals(text)}, without building it. */
+        public boolean commonEquals(String text) {
+            if (text.length() != length) {
+                return false;
+            }
+            int from = 0;
+            int at = 0;
+            for (int i = 0; i < spanCount; i++) {
+                int start = spans[2 * i];
+                if (!raw.regionMatches(from, text, at, start - from)) {
+                    return false;
+                }
+                at += start - from;
+                if (text.charAt(at++) != '0') {
+                    return false;
+                }
+                from = spans[2 * i + 1];
+            }
+            return raw.regionMatches(from, text, at, raw.length() - from);
+        }
+
+        /** The raw text with every personal value written as {@code 0}. */
+        public String common() {
+            StringBuilder common = new StringBuilder(length);
+            int from = 0;
+            for (int i = 0; i < spanCount; i++) {
+                common.append(raw, from, spans[2 * i]).append('0');
+                from = spans[2 * i + 1];
+            }
+            return common.append(raw, from, raw.length()).toString();
+        }
+    }
+
+    /**
+     * Split {@code raw} — a body object, or an array-framed {@code [category, body]}
+     * wire frame — into its common text and this recipient's personal values.
+     *
+     * @throws IOException if {@code raw} is not well-formed JSON
+     */
+    public static Split split(JsonFactory factory, String raw) throws IOException {
+        Lifter lifter = new Lifter();
+        try (JsonParser p = factory.createParser(raw)) {
+            JsonToken t = p.nextToken();
+            if (t == JsonToken.START_ARRAY) {
+                p.nextToken();
+                p.skipChildren();
+                t = p.nextToken();
+            }
+            if (t != JsonToken.START_OBJECT) {
+                throw new JsonParseException(p, "Frame has no body object");
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("wm".equals(name)) {
+                    lifter.personal.wm = lifter.lift(p, name);
+                } else if ("jpV".equals(name)) {
+                    lifter.personal.jpV = lifter.lift(p, name);
+                } else if ("bs".equals(name) && value == JsonToken.START_ARRAY) {
+                    lifter.liftBets(p);
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        return new Split(raw, lifter.spans, lifter.count, lifter.personal);
+    }
+
+    /** Collects the personal values of one frame and where they sit in it. */
+    private static final class Lifter {
+
+        private final PersonalFields personal = new PersonalFields();
+        private int[] spans = new int[16];
+        private int count;
+
+        /** Walk {@code bs[]}, the parser on its START_ARRAY, lifting each entry's b / bc. */
+        void liftBets(JsonParser p) throws IOException {
+            int index = 0;
+            for (JsonToken entry = p.nextToken(); entry != JsonToken.END_ARRAY; entry = p.nextToken(), index++) {
+                if (entry != JsonToken.START_OBJECT) {
+                    p.skipChildren();
+                    continue;
+                }
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = p.currentName();
+                    p.nextToken();
+                    if ("b".equals(name)) {
+                        personal.setB(index, lift(p, "bs[].b"));
+                    } else if ("bc".equals(name)) {
+                        personal.setBc(index, (int) lift(p, "bs[].bc"));
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            }
+        }
+
+        /** Read the scalar the parser is on and record its span. */
+        long lift(JsonParser p, String name) throws IOException {
+            if (!p.currentToken().isScalarValue()) {
+                throw new IllegalStateException("Personal field " + name + " is not a scalar");
+            }
+            long start = p.currentTokenLocation().getCharOffset();
+            long value = p.getValueAsLong();
+            long end = p.currentLocation().getCharOffset();
+            if (start < 0 || end <= start) {
+                throw new IllegalStateException("No source offsets for personal field " + name);
+            }
+            if (2 * count + 2 > spans.length) {
+                spans = Arrays.copyOf(spans, spans.length * 2);
+            }
+            spans[2 * count] = (int) start;
+            spans[2 * count + 1] = (int) end;
+            count++;
+            return value;
+        }
+    }
+
+    private void setB(int index, long value) {
+        if (index >= b.length) {
+            b = Arrays.copyOf(b, index + 1);
+        }
+        b[index] = value;
+    }
+
+    private void setBc(int index, int value) {
+        if (index >= bc.length) {
+            bc = Arrays.copyOf(bc, index + 1);
+        }
+        bc[index] = value;
+    }
+}
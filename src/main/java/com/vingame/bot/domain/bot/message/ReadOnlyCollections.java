@@ -0,0 +1,82 @@
+package com.vingame.bot.domain.bot.message;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.CollectionType;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Jackson module that binds every {@code List} / {@code Set} / {@code Collection}
+ * property as an unmodifiable view.
+ * <p>
+ * Installed on the shared bot mappers ({@link MessageCodecRegistry}): a round frame
+ * decoded there may be handed to every bot of a group by {@code BroadcastFrameCache},
+ * so its lists must not be sorted, trimmed or appended to by one bot's handler. The
+ * message classes expose no setters; this closes the remaining write path, and an
+ * attempt fails loudly instead of corrupting the rest of the group's view.
+ * <p>
+ * Jackson has already mapped an abstract property type to its implementation by the
+ * time the deserializer is built, so message classes must declare collection
+ * properties as the interface ({@code List}, {@code Set}); a property declared as
+ * {@code ArrayList} would not accept the wrapped view.
+ */
+public final class ReadOnlyCollections {
+
+    private ReadOnlyCollections() {
+    }
+
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("read-only-collections");
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config,
+                                                                    CollectionType type,
+                                                                    BeanDescription beanDesc,
+                                                                    JsonDeserializer<?> deserializer) {
+                return new Unmodifiable(deserializer);
+            }
+        });
+        return module;
+    }
+
+    static final class Unmodifiable extends DelegatingDeserializer {
+
+        Unmodifiable(JsonDeserializer<?> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new Unmodifiable(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return wrap(super.deserialize(p, ctxt));
+        }
+
+        private static Object wrap(Object value) {
+            if (value instanceof List<?> list) {
+                return Collections.unmodifiableList(list);
+            }
+            if (value instanceof Set<?> set) {
+                return Collections.unmodifiableSet(set);
+            }
+            if (value instanceof Collection<?> collection) {
+                return Collections.unmodifiableCollection(collection);
+            }
+            return value;
+        }
+    }
+}
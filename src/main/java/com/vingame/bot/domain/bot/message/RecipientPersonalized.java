@@ -0,0 +1,17 @@
+package com.vingame.bot.domain.bot.message;
+
+/**
+ * Marker for round frames the server personalizes per recipient — the same CMD
+ * carries different bytes for every bot in the group (e.g. Tip's EndGame root
+ * {@code wm} = this bot's winnings, or Tip's UpdateBet {@code bs[].b} = this bot's
+ * stake per option).
+ * <p>
+ * A group-scoped decode-once cache ({@code BroadcastFrameCache}) cannot share these
+ * bytes: every bot's frame is unique, so sharing would only churn the cache. Bots
+ * decode marked types on their own path, unless the type is
+ * {@link SplitPersonalized}: then only the personal fields are read per bot and the
+ * rest is decoded once per group. Unmarked types are broadcast verbatim to the whole
+ * group and are decoded once per group.
+ */
+public interface RecipientPersonalized {
+}
@@ -0,0 +1,22 @@
+package com.vingame.bot.domain.bot.message;
+
+/**
+ * A {@link RecipientPersonalized} frame whose per-recipient values sit in the fixed
+ * fields {@link PersonalFields} lifts out, so the rest of the frame is still the same
+ * for every bot in the group.
+ * <p>
+ * {@code BroadcastFrameCache} decodes the common part once per group (personal values
+ * zeroed), and each bot gets {@link #personalize} of that shared instance with its own
+ * values: a new message that shares the common sub-objects and carries fresh copies
+ * wherever a personal value lives.
+ *
+ * @param <M> the message type itself
+ */
+public interface SplitPersonalized<M extends BettingMiniMessage> extends RecipientPersonalized {
+
+    /**
+     * @return a copy of this shared, common-part frame carrying {@code personal}'s
+     *         values; this instance is left untouched
+     */
+    M personalize(PersonalFields personal);
+}
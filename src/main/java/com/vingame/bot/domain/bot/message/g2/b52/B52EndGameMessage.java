@@ -8,12 +8,10 @@ import com.vingame.bot.domain.bot.message.HasCrowdBets;
 import com.vingame.bot.domain.bot.message.HasJackpot;
 import com.vingame.bot.domain.bot.message.HasJackpotPool;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.List;
 
 @Getter
-@Setter
 public class B52EndGameMessage extends EndGameMessage implements HasJackpot, HasJackpotPool, HasCrowdBets {
 
     @Override
@@ -96,7 +94,6 @@ public class B52EndGameMessage extends EndGameMessage implements HasJackpot, Has
         this.bs = bs;
     }
 
-    @Setter
     @Getter
     public static class BetInfo {
         private int eid;
@@ -115,7 +112,6 @@ public class B52EndGameMessage extends EndGameMessage implements HasJackpot, Has
     }
 
     @Getter
-    @Setter
     public static class LastJackpotData {
         private int d1;
         private long sid;
@@ -6,12 +6,10 @@ import com.vingame.bot.domain.bot.coordination.CrowdOption;
 import com.vingame.bot.domain.bot.message.HasCrowdBets;
 import com.vingame.bot.domain.bot.message.SubscribeMessage;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.List;
 
 @Getter
-@Setter
 public class B52SubscribeMessage extends SubscribeMessage implements HasCrowdBets {
 
     private long mnB;
@@ -111,7 +109,6 @@ public class B52SubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class BetInfoWithTotal extends B52EndGameMessage.BetInfo {
         private long b;
 
@@ -127,7 +124,6 @@ public class B52SubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class PayoutRatio {
         private int eid;
         private double v;
@@ -142,7 +138,6 @@ public class B52SubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class HistoryItem {
         private List<Integer> sD;
         private int d1;
@@ -166,7 +161,6 @@ public class B52SubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class ChatMessage {
         private String uid;
         private int c;
@@ -4,9 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.vingame.bot.domain.bot.message.StartGameMd5Message;
 import lombok.Getter;
-import lombok.Setter;
 
-@Setter
 @Getter
 public class BomStartGameMd5Message extends StartGameMd5Message {
 
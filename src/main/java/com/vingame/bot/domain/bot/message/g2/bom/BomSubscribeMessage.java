@@ -6,12 +6,10 @@ import com.vingame.bot.domain.bot.coordination.CrowdOption;
 import com.vingame.bot.domain.bot.message.HasCrowdBets;
 import com.vingame.bot.domain.bot.message.SubscribeMessage;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.List;
 
 @Getter
-@Setter
 public class BomSubscribeMessage extends SubscribeMessage implements HasCrowdBets {
 
     private long mnB;
@@ -113,7 +111,6 @@ public class BomSubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class BetInfoWithTotal extends BomEndGameMessage.BetInfo {
         private long b;
 
@@ -129,7 +126,6 @@ public class BomSubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class PayoutRatio {
         private int eid;
         private double v;
@@ -144,7 +140,6 @@ public class BomSubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class HistoryItem {
         private List<Integer> sD;
         private int d1;
@@ -168,7 +163,6 @@ public class BomSubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class ChatMessage {
         private String uid;
         private int c;
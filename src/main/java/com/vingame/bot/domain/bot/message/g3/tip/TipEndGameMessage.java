@@ -9,15 +9,16 @@ import com.vingame.bot.domain.bot.message.HasBotWinnings;
 import com.vingame.bot.domain.bot.message.HasCrowdBets;
 import com.vingame.bot.domain.bot.message.HasJackpot;
 import com.vingame.bot.domain.bot.message.HasJackpotPool;
+import com.vingame.bot.domain.bot.message.PersonalFields;
+import com.vingame.bot.domain.bot.message.SplitPersonalized;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.List;
 
 @Getter
-@Setter
 public class TipEndGameMessage extends EndGameMessage
-        implements HasBotWinnings, HasJackpot, HasBetTotals, HasJackpotPool, HasCrowdBets {
+        implements HasBotWinnings, HasJackpot, HasBetTotals, HasJackpotPool, HasCrowdBets,
+        SplitPersonalized<TipEndGameMessage> {
 
     /**
      * This bot's gross winnings for the just-completed round. Source: root {@code wm}
@@ -128,6 +129,18 @@ public class TipEndGameMessage extends EndGameMessage
                 .toList();
     }
 
+    /**
+     * This frame with one recipient's {@code wm}, {@code jpV} and {@code bs[].b} /
+     * {@code bs[].bc}; every other field, including the {@code bs} crowd totals, is
+     * the group-wide value shared with this instance.
+     */
+    @Override
+    public TipEndGameMessage personalize(PersonalFields personal) {
+        return new TipEndGameMessage(getCmd(), iJ, gid, ps, tJpV, eIn, d1, d2, d3, iJp, sid,
+                TipSubscribeMessage.BetInfoWithTotal.personalize(bs, personal),
+                personal.jpV(), tJpv2, jPTp, jpCD, personal.wm(), sDi);
+    }
+
     private boolean iJ;
     private int gid;
     private List<PlayerSummary> ps;
@@ -188,7 +201,6 @@ public class TipEndGameMessage extends EndGameMessage
     }
 
     @Getter
-    @Setter
     public static class PlayerSummary {
         private String uid;
         private long wm;
@@ -206,7 +218,6 @@ public class TipEndGameMessage extends EndGameMessage
     }
 
     @Getter
-    @Setter
     public static class EndGameInfo {
         private boolean iBp;
 
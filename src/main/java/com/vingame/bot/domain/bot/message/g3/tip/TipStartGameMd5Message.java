@@ -4,10 +4,8 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.vingame.bot.domain.bot.message.StartGameMd5Message;
 import lombok.Getter;
-import lombok.Setter;
 
 @Getter
-@Setter
 public class TipStartGameMd5Message extends StartGameMd5Message {
 
     private int gid;
@@ -4,10 +4,8 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.vingame.bot.domain.bot.message.StartGameMessage;
 import lombok.Getter;
-import lombok.Setter;
 
 @Getter
-@Setter
 public class TipStartGameMessage extends StartGameMessage {
 
     private String cdt;
@@ -4,14 +4,15 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.vingame.bot.domain.bot.coordination.CrowdOption;
 import com.vingame.bot.domain.bot.message.HasCrowdBets;
+import com.vingame.bot.domain.bot.message.PersonalFields;
 import com.vingame.bot.domain.bot.message.SubscribeMessage;
 import lombok.Getter;
-import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Getter
-@Setter
 public class TipSubscribeMessage extends SubscribeMessage implements HasCrowdBets {
 
     private int gid;
@@ -120,7 +121,6 @@ public class TipSubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class ChatMessage {
         private String uid;
         private long tst;
@@ -141,7 +141,6 @@ public class TipSubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class BetInfoWithTotal {
         private int eid;
         private int bc;
@@ -159,10 +158,26 @@ public class TipSubscribeMessage extends SubscribeMessage implements HasCrowdBet
             this.b = b;
             this.v = v;
         }
+
+        /**
+         * {@code shared} with each entry's own {@code b} / {@code bc} taken from
+         * {@code personal} by position; the crowd totals {@code v} are kept.
+         * {@code null} stays {@code null}.
+         */
+        static List<BetInfoWithTotal> personalize(List<BetInfoWithTotal> shared, PersonalFields personal) {
+            if (shared == null) {
+                return null;
+            }
+            List<BetInfoWithTotal> own = new ArrayList<>(shared.size());
+            for (int i = 0; i < shared.size(); i++) {
+                BetInfoWithTotal e = shared.get(i);
+                own.add(new BetInfoWithTotal(e.eid, personal.bc(i), personal.b(i), e.v));
+            }
+            return Collections.unmodifiableList(own);
+        }
     }
 
     @Getter
-    @Setter
     public static class JackpotCountdown {
         private String bET;
         private String bST;
@@ -180,7 +195,6 @@ public class TipSubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class SubscribeDice {
         private int d1;
         private int d2;
@@ -198,7 +212,6 @@ public class TipSubscribeMessage extends SubscribeMessage implements HasCrowdBet
     }
 
     @Getter
-    @Setter
     public static class HistoryItem {
         private int d1;
         private int d2;
@@ -4,15 +4,16 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.vingame.bot.domain.bot.coordination.CrowdOption;
 import com.vingame.bot.domain.bot.message.HasCrowdBets;
+import com.vingame.bot.domain.bot.message.PersonalFields;
+import com.vingame.bot.domain.bot.message.SplitPersonalized;
 import com.vingame.bot.domain.bot.message.UpdateBetMessage;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.List;
 
 @Getter
-@Setter
-public class TipUpdateBetMessage extends UpdateBetMessage implements HasCrowdBets {
+public class TipUpdateBetMessage extends UpdateBetMessage implements HasCrowdBets,
+        SplitPersonalized<TipUpdateBetMessage> {
 
     private List<TipSubscribeMessage.BetInfoWithTotal> bs;
     private int gid;
@@ -44,6 +45,13 @@ public class TipUpdateBetMessage extends UpdateBetMessage implements HasCrowdBet
                 .toList();
     }
 
+    /** This frame with one recipient's {@code bs[].b} / {@code bs[].bc}. */
+    @Override
+    public TipUpdateBetMessage personalize(PersonalFields personal) {
+        return new TipUpdateBetMessage(getCmd(),
+                TipSubscribeMessage.BetInfoWithTotal.personalize(bs, personal), gid);
+    }
+
     // Tip's UpdateBet JSON sample does not carry a `gS` field. BettingMiniGameBot
     // only acts on getGameState() > 0, so returning 0 means UpdateBet messages on
     // Tip never advance game state — verify against staging traffic and revisit
@@ -7,8 +7,8 @@ import com.vingame.bot.domain.bot.message.HasBetTotals;
 import com.vingame.bot.domain.bot.message.HasBotWinnings;
 import com.vingame.bot.domain.bot.message.HasJackpot;
 import com.vingame.bot.domain.bot.message.HasJackpotPool;
+import com.vingame.bot.domain.bot.message.RecipientPersonalized;
 import lombok.Getter;
-import lombok.Setter;
 
 /**
  * Tai Xiu EndGame for the captured {@code MiniGame}/{@code taixiuPlugin} product
@@ -58,9 +58,8 @@ import lombok.Setter;
  * through the {@code endGameSessionId} seam, which the bot overrides).
  */
 @Getter
-@Setter
 public class TaiXiuEndGameMessage extends EndGameMessage
-        implements HasBotWinnings, HasJackpot, HasBetTotals, HasJackpotPool {
+        implements HasBotWinnings, HasJackpot, HasBetTotals, HasJackpotPool, RecipientPersonalized {
 
     // Dice (1..6 each); sum determines Tai (>=11) vs Xiu (<=10).
     private int d1;
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.vingame.bot.domain.bot.message.StartGameMessage;
 import lombok.Getter;
-import lombok.Setter;
 
 /**
  * Tai Xiu StartGame for the captured {@code MiniGame}/{@code taixiuPlugin} product
@@ -27,7 +26,6 @@ import lombok.Setter;
  * changes the body).
  */
 @Getter
-@Setter
 public class TaiXiuStartGameMessage extends StartGameMessage {
 
     private double odE;
@@ -5,7 +5,6 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.vingame.bot.domain.bot.message.SubscribeMessage;
 import lombok.Getter;
-import lombok.Setter;
 
 /**
  * Tai Xiu subscribe response for the captured {@code MiniGame}/{@code taixiuPlugin}
@@ -38,7 +37,6 @@ import lombok.Setter;
  * the scenario mapper also sets {@code FAIL_ON_UNKNOWN_PROPERTIES=false}.
  */
 @Getter
-@Setter
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class TaiXiuSubscribeMessage extends SubscribeMessage {
 
@@ -1,8 +1,13 @@
 package com.vingame.bot.domain.bot.service;
 
+import com.vingame.bot.infrastructure.auth.AuthTokenCache;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.observability.BotMetrics;
 import com.vingame.bot.infrastructure.observability.SessionAggregationService;
+import com.vingame.bot.infrastructure.runtime.BalanceReconciliation;
+import com.vingame.bot.infrastructure.runtime.BotTimer;
+import com.vingame.bot.infrastructure.runtime.DepositScheduling;
+import com.vingame.bot.infrastructure.runtime.ReconnectAdmission;
 import com.vingame.bot.config.bot.BotConfiguration;
 import com.vingame.bot.config.client.EnvironmentClientRegistry;
 import com.vingame.bot.config.client.EnvironmentClients;
@@ -11,6 +16,7 @@ import com.vingame.bot.domain.bot.core.Bot;
 import com.vingame.bot.domain.bot.core.SlotMachineBot;
 import com.vingame.bot.domain.bot.core.TaiXiuGameBot;
 import com.vingame.bot.domain.bot.message.GameMessageTypesResolver;
+import com.vingame.bot.domain.bot.message.MessageCodecRegistry;
 import com.vingame.bot.domain.bot.strategy.BettingStrategyFactory;
 import com.vingame.bot.domain.bot.strategy.slot.SlotStrategyFactory;
 import com.vingame.bot.domain.game.model.Game;
@@ -68,6 +74,12 @@ public class BotFactory {
     private final SessionAggregationService sessionAggregator;
     private final BettingStrategyFactory strategyFactory;
     private final SlotStrategyFactory slotStrategyFactory;
+    private final BotTimer botTimer;
+    private final MessageCodecRegistry codecRegistry;
+    private final ReconnectAdmission reconnectAdmission;
+    private final AuthTokenCache authTokenCache;
+    private final BalanceReconciliation balanceReconciliation;
+    private final DepositScheduling depositScheduling;
 
     @Autowired
     public BotFactory(EnvironmentClientRegistry clientRegistry,
@@ -75,13 +87,25 @@ public class BotFactory {
                       BotMetrics botMetrics,
                       SessionAggregationService sessionAggregator,
                       BettingStrategyFactory strategyFactory,
-                      SlotStrategyFactory slotStrategyFactory) {
+                      SlotStrategyFactory slotStrategyFactory,
+                      BotTimer botTimer,
+                      MessageCodecRegistry codecRegistry,
+                      ReconnectAdmission reconnectAdmission,
+                      AuthTokenCache authTokenCache,
+                      BalanceReconciliation balanceReconciliation,
+                      DepositScheduling depositScheduling) {
         this.clientRegistry = clientRegistry;
         this.eventLoopGroup = eventLoopGroup;
         this.botMetrics = botMetrics;
         this.sessionAggregator = sessionAggregator;
         this.strategyFactory = strategyFactory;
         this.slotStrategyFactory = slotStrategyFactory;
+        this.botTimer = botTimer;
+        this.codecRegistry = codecRegistry;
+        this.reconnectAdmission = reconnectAdmission;
+        this.authTokenCache = authTokenCache;
+        this.balanceReconciliation = balanceReconciliation;
+        this.depositScheduling = depositScheduling;
     }
 
     /**
@@ -94,6 +118,22 @@ public class BotFactory {
     public Bot createBot(
         String environmentId,
         BotConfiguration configuration
+    ) {
+        return createBot(environmentId, configuration, true);
+    }
+
+    /**
+     * Create a bot instance; with {@code connect} false it is logged in but its game
+     * connection is left for {@link Bot#connect()}.
+     *
+     * @param environmentId The Environment ID (for fetching shared clients)
+     * @param configuration Bot configuration (credentials, behavior, and game)
+     * @param connect       whether to open the game connection now
+     */
+    public Bot createBot(
+        String environmentId,
+        BotConfiguration configuration,
+        boolean connect
     ) {
         Game game = configuration.getGame();
         log.debug("Creating bot {} for environment {} (game: {})",
@@ -150,6 +190,9 @@ public class BotFactory {
                 BettingMiniGameBot bettingBot = new BettingMiniGameBot();
                 bettingBot.setMessageTypes(
                         GameMessageTypesResolver.resolveBettingMini(env.getProductCode()));
+                if (codecRegistry != null) {
+                    bettingBot.setMessageMapper(codecRegistry.forGame(env.getProductCode(), game));
+                }
                 // Wire the strategy registry so initializeSubclass() can build the
                 // per-bot BettingStrategy for configuration.strategyId.
                 bettingBot.setStrategyFactory(strategyFactory);
@@ -158,6 +201,9 @@ public class BotFactory {
             case SLOT -> {
                 SlotMachineBot slotBot = new SlotMachineBot();
                 slotBot.setMessageTypes(GameMessageTypesResolver.resolveSlot());
+                if (codecRegistry != null) {
+                    slotBot.setMessageMapper(codecRegistry.slot());
+                }
                 // Wire the slot strategy registry so initializeSubclass() can build
                 // the per-bot SlotStrategy for configuration.slotStrategyId (AD-9).
                 slotBot.setSlotStrategyFactory(slotStrategyFactory);
@@ -171,6 +217,9 @@ public class BotFactory {
                 TaiXiuGameBot taiXiuBot = new TaiXiuGameBot();
                 taiXiuBot.setTaiXiuMessageTypes(
                         GameMessageTypesResolver.resolveTaiXiu(env.getProductCode()));
+                if (codecRegistry != null) {
+                    taiXiuBot.setMessageMapper(codecRegistry.taiXiu(env.getProductCode()));
+                }
                 taiXiuBot.setStrategyFactory(strategyFactory);
                 yield taiXiuBot;
             }
@@ -187,11 +236,33 @@ public class BotFactory {
             .setConfiguration(configuration)
             .setMetrics(botMetrics)
             .setSessionAggregator(sessionAggregator)
-            .initialize();
+            .setTimer(botTimer)
+            .setReconnectGate(reconnectAdmission != null ? reconnectAdmission.forEnvironment(environmentId) : null)
+            .setAuthTokenCache(authTokenCache)
+            .setBalanceReconciler(balanceReconciliation != null ? balanceReconciliation.forEnvironment(environmentId) : null)
+            .setDepositScheduler(depositScheduling != null ? depositScheduling.forEnvironment(environmentId) : null)
+            .initialize(connect);
 
         log.info("Successfully created bot {} for environment {}",
             configuration.getCredentials().getUsername(), environmentId);
 
         return bot;
     }
+
+    /**
+     * Build and warm the shared scenario mapper for a group's game before its bots
+     * are created, so the parallel createBot calls find it ready instead of queueing
+     * behind the first one. An unsupported product is left for createBot to report
+     * per bot, exactly as before.
+     */
+    public void prewarmCodec(Environment env, Game game) {
+        if (codecRegistry == null || env == null || game == null) {
+            return;
+        }
+        try {
+            codecRegistry.forGame(env.getProductCode(), game);
+        } catch (IllegalArgumentException e) {
+            log.debug("Skipping codec prewarm for game {}: {}", game.getName(), e.getMessage());
+        }
+    }
 }
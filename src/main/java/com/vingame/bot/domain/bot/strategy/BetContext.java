@@ -9,63 +9,81 @@ import java.util.Random;
  * Per-tick read-only handle a {@link BettingStrategy} consumes inside
  * {@link BettingStrategy#decide(BetContext)}.
  *
- * <p>The context is constructed fresh on every tick by
- * {@link com.vingame.bot.domain.bot.core.BettingMiniGameBot}; strategies must
- * NOT cache it across calls (the in-flight {@link RoundState}, balance, and
- * memory snapshots will all be stale by the next tick). Per-bot interpretive
- * state (streaks, internal counters, ...) lives on the strategy instance
- * itself.
+ * <p>{@link com.vingame.bot.domain.bot.core.BettingMiniGameBot} owns one
+ * context per bot and {@linkplain #reset refills} it in place on every tick,
+ * so a tick allocates no context object. Strategies must NOT cache it across
+ * calls — its fields are overwritten by the next tick (and the in-flight
+ * {@link RoundState}, balance, and memory snapshots would be stale anyway).
+ * Per-bot interpretive state (streaks, internal counters, ...) lives on the
+ * strategy instance itself. Accessors keep record-style names
+ * ({@code ctx.behavior()}, {@code ctx.rng()}, ...).
  *
  * <p>See {@code docs/plans/BETTING_STRATEGIES.md}, Architecture Decision 2 (state
  * split) and Architecture Decision 11 (RandomBehaviorStrategy reference).
- *
- * @param memory          factual rolling history (bounded last-N round results,
- *                        global recent wins). Strategies read via
- *                        {@code memory.snapshotLastResults()} /
- *                        {@code snapshotGlobalRecentWins()} for thread-safety.
- * @param behavior        immutable behavior bounds (minBet/maxBet/betIncrement,
- *                        maxBetsPerRound, betSkipPercentage, ...).
- * @param game            game configuration; primary read is
- *                        {@code game.getEffectiveOptionAffinities()}.
- * @param currentBalance  the bot's expected current balance at this tick
- *                        (mirrors {@code Bot.expectedCurrentBalance}). Useful
- *                        for bankroll-aware strategies; the v1 Random strategy
- *                        ignores it.
- * @param currentRound    in-flight round state (sessionId, bets placed so far).
- *                        Reads are not snapshotted — callers that need
- *                        thread-safe per-option bet totals should call
- *                        {@code memory.snapshotCurrentRoundBets()}.
- * @param rng             per-bot {@link Random} owned by the strategy instance.
- *                        Passed in the context so the strategy never needs to
- *                        thread its own RNG through {@code decide(...)}.
- * @param effectiveMaxBetsPerRound the per-round bet ceiling the strategy must
- *                        enforce this round. Normally
- *                        {@code behavior.getMaxBetsPerRound()}; when JACKPOT_SCALE
- *                        is on (AD-J4) it is the jackpot-scaled cap
- *                        {@code max(1, round(maxBetsPerRound × factor))}. Strategies
- *                        read this instead of {@code behavior.getMaxBetsPerRound()}
- *                        so the volume lever applies uniformly; with the feature off
- *                        (factor 1.0) it equals {@code behavior.getMaxBetsPerRound()}
- *                        exactly (byte-for-byte today).
- * @param affinityWeightedProposal when {@code true}, an option-picking strategy
- *                        ({@code RandomBehaviorStrategy}) biases its option choice by
- *                        the game's affinity weights instead of picking uniformly
- *                        (AFFINITY_AWARE_PROPOSAL AD-3/AD-4). Sourced from the bot's
- *                        {@code BotBehaviorConfig.affinityWeightedProposal}. With the
- *                        flag off — or on but the weights are equal — the strategy takes
- *                        today's exact uniform {@code nextInt(n)} draw (byte-for-byte),
- *                        so this defaults to {@code false} in the terse convenience
- *                        constructor to keep existing/test callers on the off path.
  */
-public record BetContext(
-        BotMemory memory,
-        BotBehaviorConfig behavior,
-        Game game,
-        long currentBalance,
-        RoundState currentRound,
-        Random rng,
-        int effectiveMaxBetsPerRound,
-        boolean affinityWeightedProposal) {
+public final class BetContext {
+
+    private BotMemory memory;
+    private BotBehaviorConfig behavior;
+    private Game game;
+    private long currentBalance;
+    private RoundState currentRound;
+    private Random rng;
+    private int effectiveMaxBetsPerRound;
+    private boolean affinityWeightedProposal;
+
+    /**
+     * Canonical constructor.
+     *
+     * @param memory          factual rolling history (bounded last-N round results,
+     *                        global recent wins). Strategies read via
+     *                        {@code memory.snapshotLastResults()} /
+     *                        {@code snapshotGlobalRecentWins()} for thread-safety.
+     * @param behavior        immutable behavior bounds (minBet/maxBet/betIncrement,
+     *                        maxBetsPerRound, betSkipPercentage, ...).
+     * @param game            game configuration; primary read is
+     *                        {@code game.getEffectiveOptionAffinities()}.
+     * @param currentBalance  the bot's expected current balance at this tick
+     *                        (mirrors {@code Bot.expectedCurrentBalance}). Useful
+     *                        for bankroll-aware strategies; the v1 Random strategy
+     *                        ignores it.
+     * @param currentRound    in-flight round state (sessionId, bets placed so far).
+     *                        Reads are not snapshotted — callers that need
+     *                        thread-safe per-option bet totals should call
+     *                        {@code memory.snapshotCurrentRoundBets()}.
+     * @param rng             per-bot {@link Random} owned by the strategy instance.
+     *                        Passed in the context so the strategy never needs to
+     *                        thread its own RNG through {@code decide(...)}.
+     * @param effectiveMaxBetsPerRound the per-round bet ceiling the strategy must
+     *                        enforce this round. Normally
+     *                        {@code behavior.getMaxBetsPerRound()}; when JACKPOT_SCALE
+     *                        is on (AD-J4) it is the jackpot-scaled cap
+     *                        {@code max(1, round(maxBetsPerRound × factor))}. Strategies
+     *                        read this instead of {@code behavior.getMaxBetsPerRound()}
+     *                        so the volume lever applies uniformly; with the feature off
+     *                        (factor 1.0) it equals {@code behavior.getMaxBetsPerRound()}
+     *                        exactly (byte-for-byte today).
+     * @param affinityWeightedProposal when {@code true}, an option-picking strategy
+     *                        ({@code RandomBehaviorStrategy}) biases its option choice by
+     *                        the game's affinity weights instead of picking uniformly
+     *                        (AFFINITY_AWARE_PROPOSAL AD-3/AD-4). Sourced from the bot's
+     *                        {@code BotBehaviorConfig.affinityWeightedProposal}. With the
+     *                        flag off — or on but the weights are equal — the strategy takes
+     *                        today's exact uniform {@code nextInt(n)} draw (byte-for-byte),
+     *                        so this defaults to {@code false} in the terse convenience
+     *                        constructor to keep existing/test callers on the off path.
+     */
+    public BetContext(BotMemory memory,
+                      BotBehaviorConfig behavior,
+                      Game game,
+                      long currentBalance,
+                      RoundState currentRound,
+                      Random rng,
+                      int effectiveMaxBetsPerRound,
+                      boolean affinityWeightedProposal) {
+        reset(memory, behavior, game, currentBalance, currentRound, rng,
+                effectiveMaxBetsPerRound, affinityWeightedProposal);
+    }
 
     /**
      * Convenience constructor for the default (jackpot-scale off / factor 1.0,
@@ -85,4 +103,69 @@ public record BetContext(
         this(memory, behavior, game, currentBalance, currentRound, rng,
                 behavior.getMaxBetsPerRound(), false);
     }
+
+    /**
+     * Refill every field for the next tick. Called only by the owning bot, on its
+     * tick thread, before handing the context to the strategy.
+     *
+     * @return {@code this}
+     */
+    public BetContext reset(BotMemory memory,
+                            BotBehaviorConfig behavior,
+                            Game game,
+                            long currentBalance,
+                            RoundState currentRound,
+                            Random rng,
+                            int effectiveMaxBetsPerRound,
+                            boolean affinityWeightedProposal) {
+        this.memory = memory;
+        this.behavior = behavior;
+        this.game = game;
+        this.currentBalance = currentBalance;
+        this.currentRound = currentRound;
+        this.rng = rng;
+        this.effectiveMaxBetsPerRound = effectiveMaxBetsPerRound;
+        this.affinityWeightedProposal = affinityWeightedProposal;
+        return this;
+    }
+
+    public BotMemory memory() {
+        return memory;
+    }
+
+    public BotBehaviorConfig behavior() {
+        return behavior;
+    }
+
+    public Game game() {
+        return game;
+    }
+
+    public long currentBalance() {
+        return currentBalance;
+    }
+
+    public RoundState currentRound() {
+        return currentRound;
+    }
+
+    public Random rng() {
+        return rng;
+    }
+
+    public int effectiveMaxBetsPerRound() {
+        return effectiveMaxBetsPerRound;
+    }
+
+    public boolean affinityWeightedProposal() {
+        return affinityWeightedProposal;
+    }
+
+    @Override
+    public String toString() {
+        return "BetContext[currentBalance=" + currentBalance
+                + ", sessionId=" + (currentRound != null ? currentRound.getSessionId() : 0L)
+                + ", effectiveMaxBetsPerRound=" + effectiveMaxBetsPerRound
+                + ", affinityWeightedProposal=" + affinityWeightedProposal + "]";
+    }
 }
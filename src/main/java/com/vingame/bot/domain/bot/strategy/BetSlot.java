@@ -0,0 +1,50 @@
+package com.vingame.bot.domain.bot.strategy;
+
+/**
+ * Mutable, primitive twin of {@link BetDecision} for the per-tick hot path.
+ *
+ * <p>{@link BettingStrategy#decideInto(BetContext, BetSlot)} writes the chosen
+ * option and amount here instead of returning {@code Optional<BetDecision>}, so a
+ * tick that bets allocates no decision objects. One slot is owned per bot and
+ * reused on every tick; it is only touched on the bot's tick thread.
+ *
+ * <p>Holds no "present" flag — presence is the {@code boolean} returned by
+ * {@code decideInto}. A slot's contents are meaningful only after a {@code true}
+ * return.
+ */
+public final class BetSlot {
+
+    private int optionId;
+    private long amount;
+
+    public void set(int optionId, long amount) {
+        this.optionId = optionId;
+        this.amount = amount;
+    }
+
+    public int optionId() {
+        return optionId;
+    }
+
+    public void optionId(int optionId) {
+        this.optionId = optionId;
+    }
+
+    public long amount() {
+        return amount;
+    }
+
+    public void amount(long amount) {
+        this.amount = amount;
+    }
+
+    /** Boxed copy for the {@link BettingStrategy#decide(BetContext)} compatibility path. */
+    public BetDecision toDecision() {
+        return new BetDecision(optionId, amount);
+    }
+
+    @Override
+    public String toString() {
+        return "BetSlot[optionId=" + optionId + ", amount=" + amount + "]";
+    }
+}
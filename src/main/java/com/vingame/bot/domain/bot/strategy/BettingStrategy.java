@@ -36,4 +36,25 @@ public interface BettingStrategy {
      *         {@link BetDecision} to place that bet now.
      */
     Optional<BetDecision> decide(BetContext ctx);
+
+    /**
+     * Allocation-free form of {@link #decide(BetContext)} used by the bot's tick
+     * path: same gating, same RNG consumption, but the decision is written into
+     * the caller-owned {@code out} slot.
+     *
+     * <p>The default adapts {@link #decide(BetContext)}, so a strategy that only
+     * implements {@code decide} keeps working (and keeps allocating). The built-in
+     * strategies implement this directly and derive {@code decide} from it.
+     *
+     * @return {@code true} and {@code out} filled to place a bet now;
+     *         {@code false} to skip this tick ({@code out} untouched).
+     */
+    default boolean decideInto(BetContext ctx, BetSlot out) {
+        Optional<BetDecision> decision = decide(ctx);
+        if (decision.isEmpty()) {
+            return false;
+        }
+        out.set(decision.get().optionId(), decision.get().amount());
+        return true;
+    }
 }
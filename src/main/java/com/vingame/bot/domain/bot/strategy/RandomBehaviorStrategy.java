@@ -6,7 +6,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
@@ -72,6 +71,12 @@ public final class RandomBehaviorStrategy implements BettingStrategy {
 
     @Override
     public Optional<BetDecision> decide(BetContext ctx) {
+        BetSlot slot = new BetSlot();
+        return decideInto(ctx, slot) ? Optional.of(slot.toDecision()) : Optional.empty();
+    }
+
+    @Override
+    public boolean decideInto(BetContext ctx, BetSlot out) {
         BotBehaviorConfig behavior = ctx.behavior();
 
         // Detect a round boundary: the in-flight RoundState's sessionId is
@@ -89,16 +94,18 @@ public final class RandomBehaviorStrategy implements BettingStrategy {
             // feature off (factor 1.0) it equals behavior.getMaxBetsPerRound() exactly.
             int maxBetsPerRound = ctx.effectiveMaxBetsPerRound();
             if (numberOfBetsInCurrentSession >= maxBetsPerRound) {
-                log.trace("RandomBehaviorStrategy.decide: skip — already placed {} bets this round (max {})",
-                        numberOfBetsInCurrentSession, maxBetsPerRound);
-                return Optional.empty();
+                if (log.isTraceEnabled()) {
+                    log.trace("RandomBehaviorStrategy.decide: skip — already placed {} bets this round (max {})",
+                            numberOfBetsInCurrentSession, maxBetsPerRound);
+                }
+                return false;
             }
 
             // Skip-percentage gate (mirrors legacy shouldBet — order of RNG
             // calls matters for the equivalence test in Phase 5).
             if (ctx.rng().nextInt(100) < behavior.getBetSkipPercentage()) {
                 log.trace("RandomBehaviorStrategy.decide: skip — betSkipPercentage gate fired");
-                return Optional.empty();
+                return false;
             }
             numberOfBetsInCurrentSession++;
         }
@@ -120,19 +127,21 @@ public final class RandomBehaviorStrategy implements BettingStrategy {
         // picker entirely, so no int-cast/edge risk and no extra draw).
         Map<Integer, Integer> affinities = ctx.game().getEffectiveOptionAffinities();
         int option;
-        if (ctx.affinityWeightedProposal() && !WeightedOptionPicker.weightsAreEqual(affinities)) {
+        if (ctx.affinityWeightedProposal() && !picker.hasEqualWeights(affinities)) {
             // Weighted branch: one nextInt(Σw) draw, Σw ≠ n in general.
             option = picker.pick(affinities, ctx.rng());
         } else {
-            // Off / equal-weight path — today's exact code, unchanged. List.copyOf
-            // produces a deterministic insertion-order view matching the legacy
-            // resolveNextEntryToBet call site. One nextInt(n) draw.
-            List<Integer> options = List.copyOf(affinities.keySet());
-            option = options.get(ctx.rng().nextInt(options.size()));
+            // Off / equal-weight path — today's exact draw: one nextInt(n) over the
+            // insertion-order key view (the picker's cached table, matching the
+            // legacy List.copyOf(keySet()) order without copying it per tick).
+            option = picker.pickUniform(affinities, ctx.rng());
         }
 
-        log.trace("RandomBehaviorStrategy.decide: bet option={}, amount={}", option, amount);
-        return Optional.of(new BetDecision(option, amount));
+        if (log.isTraceEnabled()) {
+            log.trace("RandomBehaviorStrategy.decide: bet option={}, amount={}", option, amount);
+        }
+        out.set(option, amount);
+        return true;
     }
 
     @Override
@@ -2,8 +2,6 @@ package com.vingame.bot.domain.bot.strategy;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
@@ -42,11 +40,18 @@ import java.util.Random;
  * <p><b>RNG ownership.</b> The picker holds no {@link Random} of its own — the
  * RNG is threaded in on every {@code pick(...)} call from
  * {@link BetContext#rng()}, matching the v1 strategy plumbing.
+ *
+ * <p><b>Allocation.</b> The map is flattened once into an {@link OptionTable}
+ * (parallel {@code int[]} keys / clamped weights) and cached per picker by map
+ * identity. A steady-state pick is an identity compare, one draw and an array
+ * walk — no key-list copy or weight array per tick.
  */
 @Slf4j
 public final class WeightedOptionPicker {
 
     private volatile boolean warned;
+    // Last table built by table(Map) — immutable, so a racy republish is harmless.
+    private volatile OptionTable cached;
 
     /**
      * Pick a single option id from {@code weights}, proportional to the
@@ -60,43 +65,71 @@ public final class WeightedOptionPicker {
      * @throws IllegalArgumentException if {@code weights} is null or empty.
      */
     public int pick(Map<Integer, Integer> weights, Random rng) {
-        if (weights == null || weights.isEmpty()) {
-            throw new IllegalArgumentException("weights must be non-empty");
-        }
-
-        // Deterministic insertion-order view — pinned by tests that depend on
-        // the cumulative-weight layout matching a specific RNG draw.
-        List<Integer> options = new ArrayList<>(weights.keySet());
-        int[] clamped = new int[options.size()];
-        long totalWeight = 0L;
-        for (int i = 0; i < options.size(); i++) {
-            Integer raw = weights.get(options.get(i));
-            int w = raw == null ? 0 : Math.max(0, raw);
-            clamped[i] = w;
-            totalWeight += w;
-        }
+        return pick(table(weights), rng);
+    }
 
-        if (totalWeight <= 0L) {
-            warnOnce(weights);
+    /**
+     * Weighted pick over a pre-built {@link OptionTable}. Same cumulative-weight
+     * walk and RNG consumption as {@link #pick(Map, Random)}; allocates nothing.
+     */
+    public int pick(OptionTable table, Random rng) {
+        int[] keys = table.keys;
+        if (table.totalWeight <= 0L) {
+            warnOnce(table);
             // Uniform fallback over the input keys — picks deterministically
-            // from the same insertion-order view we built above so seeded tests
-            // are reproducible.
-            return options.get(rng.nextInt(options.size()));
+            // from the same insertion-order view so seeded tests are reproducible.
+            return keys[rng.nextInt(keys.length)];
         }
 
-        int draw = rng.nextInt((int) totalWeight);
+        int draw = rng.nextInt((int) table.totalWeight);
         int cumulative = 0;
-        for (int i = 0; i < options.size(); i++) {
-            cumulative += clamped[i];
+        for (int i = 0; i < keys.length; i++) {
+            cumulative += table.weights[i];
             if (draw < cumulative) {
-                return options.get(i);
+                return keys[i];
             }
         }
         // Numerically unreachable — the loop is exhaustive over the cumulative
         // window. Defensive fallback to the last option keeps the contract
         // (returns a key from weights) intact even if a future refactor
         // misaligns the weights array.
-        return options.get(options.size() - 1);
+        return keys[keys.length - 1];
+    }
+
+    /**
+     * Uniform pick over the keys of {@code weights}, in insertion order: exactly
+     * one {@code rng.nextInt(n)} draw — the same draw as
+     * {@code List.copyOf(weights.keySet()).get(rng.nextInt(n))}, without the copy.
+     */
+    public int pickUniform(Map<Integer, Integer> weights, Random rng) {
+        int[] keys = table(weights).keys;
+        return keys[rng.nextInt(keys.length)];
+    }
+
+    /**
+     * Instance twin of {@link #weightsAreEqual(Map)} answered from the cached
+     * table, so the per-tick check does not walk the map.
+     */
+    public boolean hasEqualWeights(Map<Integer, Integer> weights) {
+        return table(weights).equalWeights;
+    }
+
+    /**
+     * The cached table for {@code weights}, rebuilt only when a different map
+     * instance (or a resized one) is passed. A game's
+     * {@code getEffectiveOptionAffinities()} returns the same configured map on
+     * every tick, so the steady state is a reference compare.
+     *
+     * @throws IllegalArgumentException if {@code weights} is null or empty.
+     */
+    OptionTable table(Map<Integer, Integer> weights) {
+        OptionTable t = cached;
+        if (t != null && t.source == weights && t.keys.length == weights.size()) {
+            return t;
+        }
+        t = OptionTable.of(weights);
+        cached = t;
+        return t;
     }
 
     /**
@@ -130,11 +163,89 @@ public final class WeightedOptionPicker {
         return true;
     }
 
-    private void warnOnce(Map<Integer, Integer> weights) {
+    private void warnOnce(OptionTable table) {
         if (!warned) {
             warned = true;
             log.warn("WeightedOptionPicker: all weights ≤ 0 for weights={} — falling back to uniform pick",
-                    weights);
+                    table);
+        }
+    }
+
+    /**
+     * Immutable, insertion-ordered snapshot of an option → weight map: parallel
+     * {@code int[]} keys and clamped ({@code max(0, w)}) weights plus their sum.
+     * Built once per distinct map so the per-tick pick walks arrays instead of
+     * copying the key set.
+     */
+    public static final class OptionTable {
+        private final Map<Integer, Integer> source;
+        private final int[] keys;
+        private final int[] weights;
+        private final long totalWeight;
+        private final boolean equalWeights;
+
+        private OptionTable(Map<Integer, Integer> source, int[] keys, int[] weights) {
+            this.source = source;
+            this.keys = keys;
+            this.weights = weights;
+            long total = 0L;
+            boolean equal = true;
+            for (int i = 0; i < weights.length; i++) {
+                total += weights[i];
+                equal &= weights[i] == weights[0];
+            }
+            this.totalWeight = total;
+            this.equalWeights = equal;
+        }
+
+        /**
+         * @throws IllegalArgumentException if {@code weights} is null or empty.
+         */
+        public static OptionTable of(Map<Integer, Integer> weights) {
+            if (weights == null || weights.isEmpty()) {
+                throw new IllegalArgumentException("weights must be non-empty");
+            }
+            int[] keys = new int[weights.size()];
+            int[] clamped = new int[keys.length];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> e : weights.entrySet()) {
+                Integer raw = e.getValue();
+                keys[i] = e.getKey();
+                clamped[i] = raw == null ? 0 : Math.max(0, raw);
+                i++;
+            }
+            return new OptionTable(weights, keys, clamped);
+        }
+
+        /**
+         * Table over already-computed weights (clamped to {@code max(0, w)}), in
+         * {@code keys} order. {@code source} is the map the weights were derived
+         * from, kept only for the identity check of a caller-side cache.
+         */
+        public static OptionTable of(Map<Integer, Integer> source, int[] keys, int[] weights) {
+            if (keys.length == 0 || keys.length != weights.length) {
+                throw new IllegalArgumentException("weights must be non-empty and match keys");
+            }
+            int[] clamped = new int[weights.length];
+            for (int i = 0; i < weights.length; i++) {
+                clamped[i] = Math.max(0, weights[i]);
+            }
+            return new OptionTable(source, keys.clone(), clamped);
+        }
+
+        /** True when this table was built from {@code map} (same instance, same size). */
+        public boolean isFor(Map<Integer, Integer> map) {
+            return source == map && map != null && keys.length == map.size();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < keys.length; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(keys[i]).append('=').append(weights[i]);
+            }
+            return sb.append('}').toString();
         }
     }
 }
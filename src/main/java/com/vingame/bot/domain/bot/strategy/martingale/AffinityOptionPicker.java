@@ -3,7 +3,6 @@ package com.vingame.bot.domain.bot.strategy.martingale;
 import com.vingame.bot.domain.bot.strategy.WeightedOptionPicker;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -66,6 +65,8 @@ public final class AffinityOptionPicker {
 
     private final RiskProfile profile;
     private final WeightedOptionPicker delegate = new WeightedOptionPicker();
+    // Profile-transformed table for the last affinities map seen (immutable).
+    private volatile WeightedOptionPicker.OptionTable transformed;
 
     public AffinityOptionPicker(RiskProfile profile) {
         if (profile == null) {
@@ -98,18 +99,23 @@ public final class AffinityOptionPicker {
         }
 
         // Apply the RiskProfile transform, then delegate the cumulative-sum /
-        // single uniform draw to the shared WeightedOptionPicker. The
-        // transformed weights are built into a LinkedHashMap that preserves the
-        // affinities' insertion order, so the delegate walks the exact same
-        // key layout this class used before the extraction — the RNG draw
-        // (`nextInt((int) Σw)`, one draw) is byte-for-byte identical.
-        List<Integer> options = new ArrayList<>(affinities.keySet());
-        int[] weights = computeWeights(options, affinities);
-        Map<Integer, Integer> transformed = new LinkedHashMap<>();
-        for (int i = 0; i < options.size(); i++) {
-            transformed.put(options.get(i), weights[i]);
+        // single uniform draw to the shared WeightedOptionPicker. The transformed
+        // table keeps the affinities' insertion order, so the delegate walks the
+        // exact same key layout this class used before the extraction — the RNG
+        // draw (`nextInt((int) Σw)`, one draw) is byte-for-byte identical. The
+        // table is cached against the affinities map instance, so the transform
+        // runs once per configured map rather than once per tick.
+        WeightedOptionPicker.OptionTable table = transformed;
+        if (table == null || !table.isFor(affinities)) {
+            List<Integer> options = new ArrayList<>(affinities.keySet());
+            int[] keys = new int[options.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = options.get(i);
+            }
+            table = WeightedOptionPicker.OptionTable.of(affinities, keys, computeWeights(options, affinities));
+            transformed = table;
         }
-        return delegate.pick(transformed, rng);
+        return delegate.pick(table, rng);
     }
 
     private int[] computeWeights(List<Integer> options, Map<Integer, Integer> affinities) {
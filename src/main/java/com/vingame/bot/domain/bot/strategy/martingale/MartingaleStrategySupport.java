@@ -3,6 +3,7 @@ package com.vingame.bot.domain.bot.strategy.martingale;
 import com.vingame.bot.config.bot.BotBehaviorConfig;
 import com.vingame.bot.domain.bot.strategy.BetContext;
 import com.vingame.bot.domain.bot.strategy.BetDecision;
+import com.vingame.bot.domain.bot.strategy.BetSlot;
 import com.vingame.bot.domain.bot.strategy.BettingStrategy;
 import com.vingame.bot.domain.bot.strategy.RoundResult;
 import lombok.extern.slf4j.Slf4j;
@@ -119,6 +120,12 @@ public abstract class MartingaleStrategySupport implements BettingStrategy {
 
     @Override
     public final Optional<BetDecision> decide(BetContext ctx) {
+        BetSlot slot = new BetSlot();
+        return decideInto(ctx, slot) ? Optional.of(slot.toDecision()) : Optional.empty();
+    }
+
+    @Override
+    public final boolean decideInto(BetContext ctx, BetSlot out) {
         BotBehaviorConfig behavior = ctx.behavior();
         long amount;
 
@@ -150,10 +157,12 @@ public abstract class MartingaleStrategySupport implements BettingStrategy {
             // feature off (factor 1.0) it equals behavior.getMaxBetsPerRound() exactly.
             int maxBetsPerRound = ctx.effectiveMaxBetsPerRound();
             if (numberOfBetsInCurrentSession >= maxBetsPerRound) {
-                log.trace("{}.decide: skip — already placed {} bets this round (max {})",
-                        getClass().getSimpleName(),
-                        numberOfBetsInCurrentSession, maxBetsPerRound);
-                return Optional.empty();
+                if (log.isTraceEnabled()) {
+                    log.trace("{}.decide: skip — already placed {} bets this round (max {})",
+                            getClass().getSimpleName(),
+                            numberOfBetsInCurrentSession, maxBetsPerRound);
+                }
+                return false;
             }
 
             // Skip-tick gate runs BEFORE the option pick — mirrors
@@ -162,9 +171,11 @@ public abstract class MartingaleStrategySupport implements BettingStrategy {
             // BotGroup wires it through (BETTING_STRATEGIES Implementation
             // Note 2), so today the gate is effectively a no-op.
             if (ctx.rng().nextInt(100) < behavior.getBetSkipPercentage()) {
-                log.trace("{}.decide: skip — betSkipPercentage gate fired",
-                        getClass().getSimpleName());
-                return Optional.empty();
+                if (log.isTraceEnabled()) {
+                    log.trace("{}.decide: skip — betSkipPercentage gate fired",
+                            getClass().getSimpleName());
+                }
+                return false;
             }
             numberOfBetsInCurrentSession++;
 
@@ -175,9 +186,12 @@ public abstract class MartingaleStrategySupport implements BettingStrategy {
         }
 
         int option = picker.pick(ctx.game().getEffectiveOptionAffinities(), ctx.rng());
-        log.trace("{}.decide: bet option={}, amount={} (currentBet={}, profile={})",
-                getClass().getSimpleName(), option, amount, amount, profile);
-        return Optional.of(new BetDecision(option, amount));
+        if (log.isTraceEnabled()) {
+            log.trace("{}.decide: bet option={}, amount={} (currentBet={}, profile={})",
+                    getClass().getSimpleName(), option, amount, amount, profile);
+        }
+        out.set(option, amount);
+        return true;
     }
 
     @Override
@@ -2,13 +2,15 @@ package com.vingame.bot.domain.bot.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vingame.bot.common.logging.BotLogContext;
+import com.vingame.bot.infrastructure.runtime.WireTap;
 import com.vingame.websocketparser.message.ProcessableMessage;
 import com.vingame.websocketparser.scenario.PipelineContext;
 import com.vingame.websocketparser.scenario.PipelineStage;
 import com.vingame.websocketparser.scenario.Scenario;
 import com.vingame.websocketparser.scenario.matchers.Qualifier;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
+import org.slf4j.Logger;
 
 import java.util.List;
 import java.util.Map;
@@ -54,6 +56,9 @@ public class OutputPrinter {
      * StartGame/EndGame lifecycle summaries, DEBUG 5 s UpdateBet/slot aggregate flush).
      * The {@code User <name>: ...} frames only resurface when {@code com.vingame.bot} is
      * drilled in to TRACE via {@code /actuator/loggers} — the opt-in wire-level escape hatch.
+     * <p>
+     * The bots no longer register this printer unconditionally; they attach the
+     * level-gated {@link #wireTapPrinter} instead.
      *
      * @param mdcSnapshot snapshot taken from {@code Bot.mdcSnapshot} at the end of
      *                    {@code Bot.initialize()}; may be {@code null}, in which case
@@ -66,28 +71,63 @@ public class OutputPrinter {
         return outputPrinter(cmd, withMdc(printer, mdcSnapshot), context);
     }
 
+    /**
+     * Level-gated successor of {@link #debugOutputPrinter}, registered by bots through
+     * {@code Bot.syncWireTap()} only when {@code wireLogger} has TRACE enabled, the bot
+     * is {@link WireTap#isTraced traced} on its own, or the group {@link WireTap} is
+     * capturing.
+     * <p>
+     * Per frame it costs a cmd match and a level check (plus a flag check when TRACE is
+     * off): the {@code toString()} and the bot log-context swap happen only while
+     * {@code wireLogger} is at TRACE or the bot is flagged, so a printer left attached
+     * after both are switched off is inert. A flagged bot's frames are written at INFO.
+     * Sampled frames go to the tap's ring as raw text.
+     *
+     * @param wireLogger  the group's wire logger ({@link WireTap#loggerFor(String)})
+     * @param tap         group wire tap; may be {@code null} (no capture)
+     * @param mdcSnapshot as for {@link #debugOutputPrinter}; may be {@code null}
+     */
+    public static Scenario wireTapPrinter(List<Integer> cmd, String name,
+                                          PipelineContext context,
+                                          Map<String, String> mdcSnapshot,
+                                          Logger wireLogger, WireTap tap) {
+        Consumer<String> printer = withMdc(s -> wireLogger.trace("User {}: {}", name, s), mdcSnapshot);
+        Consumer<String> flagged = withMdc(s -> wireLogger.info("User {}: {}", name, s), mdcSnapshot);
+        boolean capturing = tap != null && tap.isCapturing();
+        return filter(cmd, context)
+                .peek(m -> {
+                    if (capturing) {
+                        tap.capture(name, m.getMessage());
+                    }
+                    if (wireLogger.isTraceEnabled()) {
+                        printer.accept(m.toString());
+                    } else if (tap != null && tap.isTraced(name)) {
+                        flagged.accept(m.toString());
+                    }
+                })
+                .compile();
+    }
+
     /**
      * Wraps a {@code Consumer<String>} so the bot's MDC snapshot is applied around
      * each invocation. Mirrors the contract of {@code Bot.mdcConsumer} but inlined
      * here so {@code OutputPrinter} does not need a {@code Bot} reference. See
-     * Architecture Decision 7 in {@code docs/plans/LOGGING_PIPELINE_FIX.md}.
+     * Architecture Decision 7 in {@code docs/plans/LOGGING_PIPELINE_FIX.md}. The
+     * snapshot is precomputed into a {@link BotLogContext} once per printer, so a
+     * printed frame costs a reference swap rather than two MDC map copies.
      */
     private static Consumer<String> withMdc(Consumer<String> delegate,
                                             Map<String, String> snapshot) {
         if (snapshot == null) {
             return delegate;
         }
+        BotLogContext ctx = BotLogContext.of(snapshot);
         return s -> {
-            Map<String, String> stash = MDC.getCopyOfContextMap();
-            MDC.setContextMap(snapshot);
+            BotLogContext previous = BotLogContext.install(ctx);
             try {
                 delegate.accept(s);
             } finally {
-                if (stash != null) {
-                    MDC.setContextMap(stash);
-                } else {
-                    MDC.clear();
-                }
+                BotLogContext.restore(previous);
             }
         };
     }
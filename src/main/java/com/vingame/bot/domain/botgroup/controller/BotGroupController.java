@@ -10,6 +10,7 @@ import com.vingame.bot.domain.botgroup.model.BotGroup;
 import com.vingame.bot.domain.botgroup.model.BotGroupFilter;
 import com.vingame.bot.domain.botgroup.model.BotGroupPlayingStatus;
 import com.vingame.bot.domain.botgroup.model.BotGroupStatus;
+import com.vingame.bot.domain.botgroup.model.RestartMode;
 import com.vingame.bot.domain.botgroup.service.BotGroupBehaviorService;
 import com.vingame.bot.domain.botgroup.service.BotGroupService;
 import com.vingame.bot.domain.botgroup.sort.BotSortKey;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.validation.annotation.Validated;
 
@@ -84,7 +86,8 @@ public class BotGroupController {
             summary = "Filter bot groups within an environment",
             description = "Returns the bot groups in the given environment matching the filter body, sorted " +
                     "per the sortBy/sortDir fields. The environment is taken from the path; an empty body " +
-                    "returns every group in that environment (default sort CREATED_TIME desc).")
+                    "returns every group in that environment (default sort CREATED_TIME desc). Set size " +
+                    "(and optionally the zero-based page) to return one page of the sorted result.")
     @PostMapping("/{envId}/filter")
     public ResponseEntity<List<BotGroupDTO>> filter(
             @PathVariable @Parameter(description = "Environment id to scope the filter to") String envId,
@@ -195,18 +198,32 @@ public class BotGroupController {
     }
 
     @PostMapping("/{id}/restart")
-    @Operation(summary = "Restart bot group", description = "Restarts the bot group with the given ID")
-    public ResponseEntity<Void> restart(@PathVariable String id) {
-        behaviorService.restart(id);
+    @Operation(summary = "Restart bot group", description = "Restarts the bot group with the given ID. "
+            + "FULL stops every bot and starts the group again; ROLLING replaces the bots in waves "
+            + "while the rest keep playing, in the background: it answers 202 Accepted once the restart "
+            + "has started")
+    public ResponseEntity<Void> restart(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "FULL") @Parameter(description = "FULL or ROLLING") RestartMode mode,
+            @RequestParam(required = false)
+            @Parameter(description = "ROLLING only: percent of the bots replaced per wave (1-100)") Integer wavePercent) {
+        if (mode == RestartMode.ROLLING) {
+            behaviorService.startRollingRestart(id, wavePercent);
+            return ResponseEntity.accepted().build();
+        }
+        behaviorService.restart(id, mode, wavePercent);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/{id}/schedule-restart")
-    @Operation(summary = "Schedule bot group restart", description = "Schedules a restart for the bot group")
+    @Operation(summary = "Schedule bot group restart", description = "Schedules a FULL or ROLLING restart for the bot group")
     public ResponseEntity<Void> scheduleRestart(
             @PathVariable String id,
-            @RequestBody LocalDateTime time) {
-        behaviorService.scheduleRestart(id, time);
+            @RequestBody LocalDateTime time,
+            @RequestParam(defaultValue = "FULL") @Parameter(description = "FULL or ROLLING") RestartMode mode,
+            @RequestParam(required = false)
+            @Parameter(description = "ROLLING only: percent of the bots replaced per wave (1-100)") Integer wavePercent) {
+        behaviorService.scheduleRestart(id, time, mode, wavePercent);
         return ResponseEntity.ok().build();
     }
 
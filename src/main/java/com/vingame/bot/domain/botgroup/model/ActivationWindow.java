@@ -7,8 +7,12 @@ import lombok.NoArgsConstructor;
 
 import java.time.DayOfWeek;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -40,6 +44,12 @@ public class ActivationWindow {
      */
     private Set<DayOfWeek> days;
 
+    /**
+     * Ramp order among groups whose windows flip at the same instant: higher goes
+     * first within its batch of starts (or stops). Default 0; ties break on group id.
+     */
+    private int priority;
+
     /**
      * The whole activation predicate (AD-7). Evaluates whether this window is
      * open at {@code now}, interpreted in wall-clock terms of the configured
@@ -77,6 +87,41 @@ public class ActivationWindow {
         return false;
     }
 
+    /**
+     * The first instant strictly after {@code after} at which {@link #isActiveAt}
+     * flips, i.e. the window's next opening or closing edge in {@code zone}. Only
+     * the {@code from}/{@code to} times of each day can be edges; a candidate counts
+     * if the predicate differs on either side of it, which skips edges the day gate
+     * suppresses. Every gated day recurs within a week, so the search stops after
+     * eight days; empty for a window that never flips ({@code from == to}).
+     */
+    public Optional<Instant> nextTransitionAfter(Instant after, ZoneId zone) {
+        if (from == null || to == null || from.equals(to)) {
+            return Optional.empty();
+        }
+        LocalDate day = after.atZone(zone).toLocalDate();
+        for (int i = 0; i <= 8; i++) {
+            Instant next = null;
+            for (LocalTime edge : new LocalTime[]{from, to}) {
+                Instant at = ZonedDateTime.of(day.plusDays(i), edge, zone).toInstant();
+                if (at.isAfter(after)
+                        && isActiveAt(at, zone) != isActiveAt(at.minusNanos(1), zone)
+                        && (next == null || at.isBefore(next))) {
+                    next = at;
+                }
+            }
+            if (next != null) {
+                return Optional.of(next);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** An independent copy: editing it, or its {@code days}, leaves this window unchanged. */
+    public ActivationWindow copy() {
+        return new ActivationWindow(from, to, days == null ? null : new HashSet<>(days), priority);
+    }
+
     /**
      * Day-of-week gate: {@code days} null/empty means always true; otherwise the
      * gate holds only for days contained in the set.
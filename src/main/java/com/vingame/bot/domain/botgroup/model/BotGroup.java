@@ -8,10 +8,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -20,6 +23,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "botGroups")
+@CompoundIndex(name = "environment_game", def = "{'environmentId': 1, 'gameId': 1}")
 public class BotGroup {
 
     @Id
@@ -30,6 +34,9 @@ public class BotGroup {
     private String namePrefix;
     private String password;
 
+    // Indexed on its own for the game filter's batched lookup of referencing groups
+    // across environments; the compound index serves the env-scoped group filter.
+    @Indexed
     private String gameId;
     private int botCount;
 
@@ -185,4 +192,15 @@ public class BotGroup {
     private LocalDateTime lastStartedAt;
     private LocalDateTime lastStoppedAt;
     private String lastFailureReason;
+
+    /**
+     * An independent copy: nested state (the activation window, the strategy mix) is
+     * copied too, so editing the copy cannot change this group.
+     */
+    public BotGroup copy() {
+        return toBuilder()
+                .activationWindow(activationWindow == null ? null : activationWindow.copy())
+                .strategyMix(strategyMix == null ? null : new ArrayList<>(strategyMix))
+                .build();
+    }
 }
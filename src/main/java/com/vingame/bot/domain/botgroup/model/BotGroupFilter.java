@@ -27,4 +27,16 @@ public class BotGroupFilter {
      * (AD-11). Null/blank or unrecognised → {@code desc}.
      */
     private String sortDir;
+
+    /**
+     * Zero-based page of the sorted result. Ignored unless {@code size} is set;
+     * negative → HTTP 400.
+     */
+    private Integer page;
+
+    /**
+     * Rows per page. Null → the whole sorted result; set → only page {@code page}
+     * (default 0) is returned. Below 1 → HTTP 400.
+     */
+    private Integer size;
 }
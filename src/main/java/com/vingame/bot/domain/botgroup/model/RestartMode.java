@@ -0,0 +1,7 @@
+package com.vingame.bot.domain.botgroup.model;
+
+public enum RestartMode {
+
+    FULL, //Stop every bot, then start the group again from scratch
+    ROLLING //Replace the running bots a wave at a time; the rest keep playing meanwhile
+}
@@ -4,9 +4,11 @@ import com.vingame.bot.common.logging.BotMdc;
 import com.vingame.bot.domain.botgroup.model.ActivationDecision;
 import com.vingame.bot.domain.botgroup.model.ActivationEvaluator;
 import com.vingame.bot.domain.botgroup.model.ActivationMode;
+import com.vingame.bot.domain.botgroup.model.ActivationWindow;
 import com.vingame.bot.domain.botgroup.model.BotGroup;
 import com.vingame.bot.domain.botgroup.model.BotGroupStatus;
 import com.vingame.bot.domain.botgroup.repository.BotGroupRepository;
+import com.vingame.bot.infrastructure.configuration.ConfigCache;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
@@ -19,28 +21,70 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Periodic reconciler for time-scheduled bot groups (TIMED_ACTIVATION AD-8, AD-11
- * piece #3). Every tick it loads the {@link ActivationMode#SCHEDULED} groups,
- * evaluates the pure {@link ActivationEvaluator#decide} against the current instant,
- * and drives the existing {@link BotGroupBehaviorService#start}/{@code stop}
- * lifecycle so {@code actual → desired} converges (AD-2).
+ * Event-driven reconciler for time-scheduled bot groups (TIMED_ACTIVATION AD-8, AD-11
+ * piece #3). Instead of polling every {@link ActivationMode#SCHEDULED} group each
+ * minute, it keeps an in-memory queue of each group's next window edge
+ * ({@link ActivationWindow#nextTransitionAfter}) and sleeps until the earliest one,
+ * so a window flips at its exact boundary without touching Mongo in between.
  *
- * <p>This is the only piece that touches Spring / Mongo / services — the predicate
- * ({@code ActivationWindow.isActiveAt}) and the decision ({@code ActivationEvaluator})
- * are pure and reused verbatim by the future Fleet abstraction (AD-11).
+ * <p>At a boundary the due groups are evaluated with the pure
+ * {@link ActivationEvaluator#decide} (at the boundary instant) and driven through the
+ * existing {@link BotGroupBehaviorService#start}/{@code stop} lifecycle (AD-2). Groups
+ * sharing a boundary are not fired together: stops go first, then starts, each in
+ * {@link ActivationWindow#getPriority() window priority} order, spread evenly over
+ * {@code bot.activation.ramp-seconds} so an 18:00 opening does not log every bot in
+ * at once.
+ *
+ * <p>The queue follows config changes through {@link ConfigCache#botGroups()}: every
+ * group write (and, with change streams on, every manual edit) re-plans that group,
+ * and reconciles it at once if its mode or window actually changed. A backstop
+ * {@link #reconcileAll} every {@code bot.activation.backstop-minutes} reloads the
+ * SCHEDULED groups and re-plans the ones whose config changed, catching whatever no
+ * event announced. The backstop runs on the same minute grid as the window edges, so
+ * it leaves a group alone within the ramp window of one of its edges: that edge's
+ * ramped firing owns it, and a backstop landing on 18:00 must not start every group
+ * at once.
+ *
+ * <p>All queue state is confined to the single reconciler thread: events are handed
+ * to it rather than applied on the writer's thread. That thread only plans and
+ * schedules: the {@code start}/{@code stop} calls, which block until every bot is
+ * created or torn down, run on a separate lifecycle executor, chained per group so
+ * one group's transitions still apply in order. A slow start therefore neither
+ * serializes the ramp nor delays a later boundary.
  */
 @Slf4j
 @Component
 public class ActivationScheduler {
 
+    /** Slack added to the ramp window around an edge in which the backstop holds off. */
+    static final long EDGE_GUARD_SLACK_MILLIS = 1_000;
+
+    /** Stops before starts, then higher window priority first, then group id. */
+    static final Comparator<Transition> RAMP_ORDER = Comparator
+            .comparing(Transition::opens)
+            .thenComparing(Comparator.comparingInt(Transition::priority).reversed())
+            .thenComparing(Transition::groupId);
+
     private final BotGroupRepository botGroupRepository;
     private final BotGroupBehaviorService behaviorService;
+    private final ConfigCache configCache;
 
     /**
      * Business wall-clock zone the windows are interpreted in (AD-5). Single
@@ -48,19 +92,35 @@ public class ActivationScheduler {
      */
     private final ZoneId zone;
 
-    /** Reconcile cadence in seconds (AD-8, default 60 = minute granularity). */
-    private final long tickSeconds;
+    /** Full reload-and-reconcile cadence in minutes, the safety net behind the events. */
+    private final long backstopMinutes;
+
+    /** Window over which starts (or stops) sharing one boundary are spread. */
+    private final long rampMillis;
+
+    private final PriorityQueue<Transition> queue = new PriorityQueue<>(Comparator.comparing(Transition::at));
+    private final Map<String, Plan> plans = new HashMap<>();
+    private ScheduledFuture<?> wakeUp;
+    private Instant wakeUpAt;
 
     private ScheduledExecutorService reconciler;
+    private ExecutorService lifecycle;
+
+    /** Each group's last dispatched lifecycle work; the next one runs after it. */
+    private final Map<String, CompletableFuture<Void>> lifecycleChains = new ConcurrentHashMap<>();
 
     public ActivationScheduler(BotGroupRepository botGroupRepository,
                                @Lazy BotGroupBehaviorService behaviorService,
+                               ConfigCache configCache,
                                @Value("${bot.activation.zone:Asia/Ho_Chi_Minh}") String zone,
-                               @Value("${bot.activation.tick-seconds:60}") long tickSeconds) {
+                               @Value("${bot.activation.backstop-minutes:15}") long backstopMinutes,
+                               @Value("${bot.activation.ramp-seconds:30}") long rampSeconds) {
         this.botGroupRepository = botGroupRepository;
         this.behaviorService = behaviorService;
+        this.configCache = configCache;
         this.zone = ZoneId.of(zone);
-        this.tickSeconds = tickSeconds;
+        this.backstopMinutes = Math.max(1, backstopMinutes);
+        this.rampMillis = TimeUnit.SECONDS.toMillis(Math.max(0, rampSeconds));
     }
 
     @PostConstruct
@@ -68,21 +128,28 @@ public class ActivationScheduler {
         reconciler = Executors.newSingleThreadScheduledExecutor(
                 Thread.ofVirtual().name("activation-reconciler").factory()
         );
+        lifecycle = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("activation-lifecycle-", 0).factory()
+        );
 
-        // Align the first tick to the next wall-clock minute boundary in the
-        // configured zone (AD-8), so an 18:00 window flips at ~18:00:0x and
-        // transition logs land on clean minute marks.
+        // First full pass on the next wall-clock minute boundary in the configured
+        // zone (AD-8), clear of the startup auto-start; it builds the queue, and the
+        // boundaries take over from there.
         long initialDelayMillis = millisUntilNextMinute();
+        long backstopMillis = TimeUnit.MINUTES.toMillis(backstopMinutes);
 
         reconciler.scheduleAtFixedRate(
                 this::reconcileAll,
                 initialDelayMillis,
-                tickSeconds * 1000L,
+                backstopMillis,
                 TimeUnit.MILLISECONDS
         );
+        if (configCache != null) {
+            configCache.botGroups().onChange(id -> onReconciler(() -> groupChanged(id)));
+        }
 
-        log.info("Activation reconciler started (zone: {}, tick: {}s, first tick in {} ms)",
-                zone, tickSeconds, initialDelayMillis);
+        log.info("Activation reconciler started (zone: {}, backstop: {}m, ramp: {} ms, first pass in {} ms)",
+                zone, backstopMinutes, rampMillis, initialDelayMillis);
     }
 
     @PreDestroy
@@ -91,6 +158,9 @@ public class ActivationScheduler {
         if (reconciler != null) {
             reconciler.shutdownNow();
         }
+        if (lifecycle != null) {
+            lifecycle.shutdownNow();
+        }
     }
 
     /**
@@ -103,25 +173,230 @@ public class ActivationScheduler {
         return Duration.between(now, nextMinute).toMillis();
     }
 
+    /** Run {@code task} on the reconciler thread, or inline before {@link #start()}. */
+    private void onReconciler(Runnable task) {
+        if (reconciler == null) {
+            task.run();
+            return;
+        }
+        try {
+            reconciler.execute(task);
+        } catch (Exception e) {
+            log.debug("Activation reconciler is shut down; dropping event");
+        }
+    }
+
     /**
-     * One reconcile pass over every SCHEDULED group. Each group is isolated in its
-     * own try/catch (one failure must not abort the tick) and tagged with group MDC,
-     * mirroring the existing health/logout schedulers.
+     * One backstop pass over every SCHEDULED group: reconcile each against now and
+     * re-plan the ones loaded with a different mode or window; a group no longer
+     * loaded drops out. Each group's reconcile is dispatched to the lifecycle executor
+     * and isolated from the others.
+     * <p>
+     * A group with an edge within the ramp window of now is not reconciled here: its
+     * edge is (re)queued instead, so it fires through the ramp with the rest of its
+     * batch.
      */
     void reconcileAll() {
         Instant now = Instant.now();
         List<BotGroup> groups = botGroupRepository.findByActivationMode(ActivationMode.SCHEDULED);
+        Duration guard = Duration.ofMillis(rampMillis + EDGE_GUARD_SLACK_MILLIS);
 
+        Map<String, Plan> previous = new HashMap<>(plans);
+        plans.clear();
         for (BotGroup group : groups) {
-            BotMdc.setGroupContext(group.getId(), group.getEnvironmentId());
+            ActivationWindow window = group.getActivationWindow();
+            boolean nearEdge = window != null && window.nextTransitionAfter(now.minus(guard), zone)
+                    .filter(at -> !at.isAfter(now.plus(guard)))
+                    .isPresent();
+            if (nearEdge) {
+                log.debug("Activation backstop: group {} is at a window edge; leaving it to the ramp",
+                        group.getId());
+            } else {
+                dispatch(group.getId(), () -> reconcileIsolated(group, now));
+            }
+            Plan current = previous.get(group.getId());
+            if (current != null && current.mode() == group.getActivationMode()
+                    && Objects.equals(current.window(), window)) {
+                plans.put(group.getId(), current);
+            } else {
+                plan(group, nearEdge ? now.minus(guard) : now);
+            }
+        }
+        arm();
+    }
+
+    /**
+     * A group was written or evicted ({@code null}: every group). Re-plans it and, if
+     * its mode or window changed, reconciles it straight away rather than at the next
+     * boundary. A write that leaves the activation config alone (e.g. the
+     * {@code targetStatus} save of a start) changes nothing.
+     */
+    void groupChanged(String id) {
+        if (id == null) {
+            reconcileAll();
+            return;
+        }
+        Optional<BotGroup> loaded = configCache != null
+                ? configCache.botGroups().get(id, botGroupRepository::findById)
+                : botGroupRepository.findById(id);
+        BotGroup group = loaded.filter(g -> g.getActivationMode() == ActivationMode.SCHEDULED).orElse(null);
+        Plan current = plans.get(id);
+        if (group == null) {
+            if (current != null) {
+                plans.remove(id);
+                arm();
+            }
+            return;
+        }
+        if (current != null && current.mode() == group.getActivationMode()
+                && Objects.equals(current.window(), group.getActivationWindow())) {
+            return;
+        }
+        Instant now = Instant.now();
+        dispatch(id, () -> reconcileIsolated(group, now));
+        plan(group, now);
+        arm();
+    }
+
+    /** Queue the group's next edge after {@code after}, replacing any earlier plan. */
+    private void plan(BotGroup group, Instant after) {
+        ActivationWindow window = group.getActivationWindow();
+        Transition next = window == null ? null : window.nextTransitionAfter(after, zone)
+                .map(at -> new Transition(at, group.getId(), window.isActiveAt(at, zone), window.getPriority()))
+                .orElse(null);
+        plans.put(group.getId(), new Plan(group.getActivationMode(), window, next));
+        if (next != null) {
+            queue.add(next);
+        }
+    }
+
+    /** A queued transition is live only while it is still its group's planned one. */
+    private boolean isLive(Transition t) {
+        Plan plan = plans.get(t.groupId());
+        return plan != null && t.equals(plan.next());
+    }
+
+    /** Point the single wake-up at the earliest live transition. */
+    private void arm() {
+        while (!queue.isEmpty() && !isLive(queue.peek())) {
+            queue.poll();
+        }
+        Transition head = queue.peek();
+        if (reconciler == null || (head != null && head.at().equals(wakeUpAt))) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+            wakeUpAt = null;
+        }
+        if (head != null) {
+            long delayMillis = Math.max(0, Duration.between(Instant.now(), head.at()).toMillis());
+            wakeUpAt = head.at();
+            wakeUp = reconciler.schedule(this::onBoundary, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void onBoundary() {
+        wakeUp = null;
+        wakeUpAt = null;
+        List<Transition> due = drainDue(Instant.now());
+        for (int i = 0; i < due.size(); i++) {
+            Transition t = due.get(i);
+            long offset = rampOffsetMillis(i, due.size());
+            if (offset == 0) {
+                fire(t);
+            } else {
+                reconciler.schedule(() -> fire(t), offset, TimeUnit.MILLISECONDS);
+            }
+        }
+        arm();
+    }
+
+    /**
+     * Pop every live transition due at {@code now}, re-plan each group's following
+     * edge, and return the batch in {@link #RAMP_ORDER}.
+     */
+    List<Transition> drainDue(Instant now) {
+        List<Transition> due = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.peek().at().isAfter(now)) {
+            Transition t = queue.poll();
+            if (!isLive(t)) {
+                continue;
+            }
+            Plan plan = plans.get(t.groupId());
+            Transition next = plan.window().nextTransitionAfter(t.at(), zone)
+                    .map(at -> new Transition(at, t.groupId(), plan.window().isActiveAt(at, zone), t.priority()))
+                    .orElse(null);
+            plans.put(t.groupId(), new Plan(plan.mode(), plan.window(), next));
+            if (next != null) {
+                queue.add(next);
+            }
+            due.add(t);
+        }
+        due.sort(RAMP_ORDER);
+        return due;
+    }
+
+    /** Delay of the {@code index}-th of {@code count} transitions across the ramp window. */
+    long rampOffsetMillis(int index, int count) {
+        return count <= 1 ? 0 : rampMillis * index / count;
+    }
+
+    /**
+     * Reconcile one due group as of its boundary, on the lifecycle executor. The
+     * group is re-read so a config change racing the ramp is honoured;
+     * {@code decide} is idempotent, so a group the backstop already converged is a
+     * no-op.
+     */
+    void fire(Transition t) {
+        dispatch(t.groupId(), () -> {
+            Optional<BotGroup> loaded = configCache != null
+                    ? configCache.botGroups().get(t.groupId(), botGroupRepository::findById)
+                    : botGroupRepository.findById(t.groupId());
+            loaded.filter(g -> g.getActivationMode() == ActivationMode.SCHEDULED)
+                    .ifPresent(group -> reconcileIsolated(group, t.at()));
+        });
+    }
+
+    /**
+     * Run {@code work} for {@code groupId} on the lifecycle executor, after any
+     * work already dispatched for that group, or inline before {@link #start()}.
+     * The reconciler thread never waits on it.
+     */
+    private void dispatch(String groupId, Runnable work) {
+        if (lifecycle == null) {
+            work.run();
+            return;
+        }
+        Runnable isolated = () -> {
             try {
-                reconcileGroup(group, now);
+                work.run();
             } catch (Exception e) {
-                log.error("Activation reconcile error for group {}: {}",
-                        group.getId(), e.getMessage(), e);
-            } finally {
-                BotMdc.clear();
+                log.error("Activation lifecycle error for group {}: {}", groupId, e.getMessage(), e);
             }
+        };
+        CompletableFuture<Void> next = lifecycleChains.compute(groupId, (id, previous) ->
+                (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous)
+                        .handle((ignored, error) -> null)
+                        .thenRunAsync(isolated, lifecycle));
+        next.whenComplete((ignored, error) -> lifecycleChains.remove(groupId, next));
+    }
+
+    /**
+     * {@link #reconcileGroup} in its own try/catch (one failure must not abort the
+     * others) and tagged with group MDC, mirroring the existing health/logout
+     * schedulers.
+     */
+    private void reconcileIsolated(BotGroup group, Instant at) {
+        BotMdc.setGroupContext(group.getId(), group.getEnvironmentId());
+        try {
+            reconcileGroup(group, at);
+        } catch (Exception e) {
+            log.error("Activation reconcile error for group {}: {}",
+                    group.getId(), e.getMessage(), e);
+        } finally {
+            BotMdc.clear();
         }
     }
 
@@ -148,4 +423,18 @@ public class ActivationScheduler {
                     id, running, dead);
         }
     }
+
+    /** Earliest queued edge, for tests. */
+    Optional<Instant> nextTransition() {
+        arm();
+        return Optional.ofNullable(queue.peek()).map(Transition::at);
+    }
+
+    /** A group's window edge at {@code at}: an opening if {@code opens}, else a closing. */
+    record Transition(Instant at, String groupId, boolean opens, int priority) {
+    }
+
+    /** The activation config a group was last planned from, and its queued edge. */
+    private record Plan(ActivationMode mode, ActivationWindow window, Transition next) {
+    }
 }
@@ -1,7 +1,6 @@
 package com.vingame.bot.domain.botgroup.service;
 
 import com.vingame.bot.common.exception.BadRequestException;
-import com.vingame.bot.common.exception.ResourceNotFoundException;
 import com.vingame.bot.common.logging.BotMdc;
 import com.vingame.bot.domain.bot.coordination.BetCoordinator;
 import com.vingame.bot.domain.bot.coordination.JackpotScaler;
@@ -26,6 +25,7 @@ import com.vingame.bot.domain.botgroup.model.BotGroup;
 import com.vingame.bot.domain.botgroup.model.BotGroupFilter;
 import com.vingame.bot.domain.botgroup.model.BotGroupPlayingStatus;
 import com.vingame.bot.domain.botgroup.model.BotGroupStatus;
+import com.vingame.bot.domain.botgroup.model.RestartMode;
 import com.vingame.bot.domain.botgroup.sort.BotGroupSortRow;
 import com.vingame.bot.domain.botgroup.sort.BotGroupSorter;
 import com.vingame.bot.domain.brand.model.BrandCode;
@@ -36,7 +36,18 @@ import com.vingame.bot.domain.game.model.GameType;
 import com.vingame.bot.domain.game.service.GameService;
 import com.vingame.bot.domain.game.sort.GameSortRow;
 import com.vingame.bot.domain.game.sort.GameSorter;
+import com.vingame.bot.infrastructure.runtime.BetTickDriver;
+import com.vingame.bot.infrastructure.runtime.BroadcastFrameCache;
+import com.vingame.bot.infrastructure.runtime.WireTap;
+import com.vingame.bot.infrastructure.runtime.BotCensus;
 import com.vingame.bot.infrastructure.runtime.BotGroupRuntime;
+import com.vingame.bot.infrastructure.runtime.BotTimer;
+import com.vingame.bot.infrastructure.runtime.ConnectionRecycler;
+import com.vingame.bot.infrastructure.runtime.CreationConcurrency;
+import com.vingame.bot.infrastructure.runtime.CreationLimiter;
+import com.vingame.bot.infrastructure.runtime.GroupTeardown;
+import com.vingame.bot.infrastructure.runtime.GroupStats;
+import com.vingame.bot.infrastructure.runtime.StatusCensus;
 import com.vingame.bot.infrastructure.observability.BotMetrics;
 import com.vingame.bot.infrastructure.observability.SessionAggregationService;
 import com.vingame.bot.domain.environment.service.EnvironmentService;
@@ -54,19 +65,25 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing bot group lifecycle: start, stop, restart, scheduling.
@@ -87,40 +104,46 @@ public class BotGroupBehaviorService {
     private final BotFactory botFactory;
     private final BotMetrics botMetrics;
     private final SessionAggregationService sessionAggregationService;
+    private final BotTimer botTimer;
+    private final CreationConcurrency creationConcurrency;
+    private final GroupTeardown groupTeardown;
+    private final ConnectionRecycler connectionRecycler;
+    private final BotCensus botCensus;
 
     /**
-     * Max number of bots to create/authenticate simultaneously.
-     * Controls concurrency to avoid overwhelming the game server's auth endpoint.
+     * Starting number of bots to create/authenticate simultaneously in an
+     * environment; {@link CreationConcurrency} adapts it from there. Used as a
+     * fixed limit when the service runs without one (fixtures).
      * Configurable via application.properties: bot.creation.parallelism
      */
     @Value("${bot.creation.parallelism:10}")
     private int botCreationParallelism;
 
     /**
-     * Global default for enabling periodic logout.
+     * Global default for enabling periodic logout (fleet connection recycling, see
+     * {@link ConnectionRecycler}).
      * Can be overridden per-environment via Environment.periodicLogoutEnabled.
      */
     @Value("${bot.periodic-logout.enabled:true}")
     private boolean periodicLogoutEnabled;
 
     /**
-     * Global default interval between logout cycles (minutes).
-     * Can be overridden per-environment via Environment.periodicLogoutIntervalMinutes.
+     * Fraction of bots that must be DEAD before the entire group is marked DEAD (0.0–1.0).
      */
-    @Value("${bot.periodic-logout.interval-minutes:60}")
-    private int periodicLogoutIntervalMinutes;
+    @Value("${bot.group.dead.threshold:0.80}")
+    private double deadBotGroupThreshold;
 
     /**
-     * Delay between logout and reconnect (seconds).
+     * Share of a group's bots (1–100, in percent) replaced per wave of a rolling restart.
      */
-    @Value("${bot.periodic-logout.reconnect-delay-seconds:5}")
-    private int reconnectDelaySeconds;
+    @Value("${bot.restart.wave-percent:10}")
+    private int restartWavePercent;
 
     /**
-     * Fraction of bots that must be DEAD before the entire group is marked DEAD (0.0–1.0).
+     * Seconds a rolling-restart wave may take to reach CONNECTION_AUTHENTICATED.
      */
-    @Value("${bot.group.dead.threshold:0.80}")
-    private double deadBotGroupThreshold;
+    @Value("${bot.restart.wave-timeout-seconds:60}")
+    private long restartWaveTimeoutSeconds;
 
     /**
      * Seconds without any game message before the watchdog triggers a full bot reconnect.
@@ -128,6 +151,46 @@ public class BotGroupBehaviorService {
     @Value("${bot.watchdog.timeout.seconds:180}")
     private long watchdogTimeoutSeconds;
 
+    /**
+     * Interval of the group-level bet clock (BetTickDriver) for betting-mini / Tai Xiu
+     * groups — the cadence each bot used to run its own sendAsync loop at.
+     */
+    @Value("${bot.bet-tick.interval-millis:1000}")
+    private long betTickIntervalMillis;
+
+    /**
+     * Jitter slots per bet-tick interval: frames decided in one batch are spread
+     * across this many evenly spaced send slots so bets do not land in one burst.
+     */
+    @Value("${bot.bet-tick.jitter-slots:10}")
+    private int betTickJitterSlots;
+
+    /**
+     * How often each group's wire tap re-checks its bots' wire logger levels, so
+     * TRACE raised via /actuator/loggers attaches the raw-frame printer live.
+     */
+    @Value("${bot.wiretap.refresh-millis:5000}")
+    private long wireTapRefreshMillis;
+
+    /**
+     * Raw frames kept per group for the wiretap actuator endpoint; 0 disables capture.
+     */
+    @Value("${bot.wiretap.ring-capacity:0}")
+    private int wireTapRingCapacity;
+
+    /**
+     * Capture one in this many received frames into the group's ring.
+     */
+    @Value("${bot.wiretap.sample-every:1}")
+    private int wireTapSampleEvery;
+
+    /**
+     * How long the filter endpoint reuses a query's enriched rows (stats, status, game
+     * type) before loading and enriching them again; 0 disables the cache.
+     */
+    @Value("${bot.filter.cache-millis:2000}")
+    private long filterCacheMillis;
+
     /**
      * Scheduler for timed operations (scheduled restarts, etc.)
      * Uses virtual threads for efficiency.
@@ -143,6 +206,24 @@ public class BotGroupBehaviorService {
     // Runtime state map: groupId -> BotGroupRuntime
     private final ConcurrentHashMap<String, BotGroupRuntime> runningGroups = new ConcurrentHashMap<>();
 
+    // Groups with a rolling restart in progress; a second one for the same group is rejected.
+    private final Set<String> rollingRestarts = ConcurrentHashMap.newKeySet();
+
+    // Enriched filter rows per query, reused for filterCacheMillis so polling UIs and
+    // page-by-page reads do not reload and re-enrich every group on each request.
+    private static final int MAX_FILTER_CACHE_ENTRIES = 1_000;
+    private final ConcurrentHashMap<FilterKey, CachedRows> filterRows = new ConcurrentHashMap<>();
+
+    private static final long SHUTDOWN_GRACE_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final long WAVE_POLL_MILLIS = 250;
+    private static final long HEALTH_EVALUATION_SECONDS = 30;
+
+    // Statuses in which a bot holds an open game connection; ws_connections_open and
+    // the health summary count these from the census rather than probing every socket.
+    private static final BotStatus[] CONNECTED_STATUSES = Arrays.stream(BotStatus.values())
+            .filter(BotStatus::isConnected)
+            .toArray(BotStatus[]::new);
+
     @Autowired
     public BotGroupBehaviorService(
             BotGroupService botGroupService,
@@ -150,7 +231,12 @@ public class BotGroupBehaviorService {
             GameService gameService,
             BotFactory botFactory,
             BotMetrics botMetrics,
-            SessionAggregationService sessionAggregationService
+            SessionAggregationService sessionAggregationService,
+            BotTimer botTimer,
+            CreationConcurrency creationConcurrency,
+            GroupTeardown groupTeardown,
+            ConnectionRecycler connectionRecycler,
+            BotCensus botCensus
     ) {
         this.botGroupService = botGroupService;
         this.environmentService = environmentService;
@@ -158,10 +244,20 @@ public class BotGroupBehaviorService {
         this.botFactory = botFactory;
         this.botMetrics = botMetrics;
         this.sessionAggregationService = sessionAggregationService;
+        // Null only from fixtures that construct the service without Spring.
+        this.botTimer = botTimer != null ? botTimer : BotTimer.fallback();
+        this.creationConcurrency = creationConcurrency;
+        this.groupTeardown = groupTeardown != null ? groupTeardown : GroupTeardown.fallback();
+        this.connectionRecycler = connectionRecycler != null ? connectionRecycler : ConnectionRecycler.fallback();
+        // Not a shared fallback: the census holds this service's counts.
+        this.botCensus = botCensus != null ? botCensus : new BotCensus();
 
         // Use virtual threads for scheduled tasks
         this.scheduler = Executors.newScheduledThreadPool(4, Thread.ofVirtual().factory());
 
+        // One fleet-wide health evaluator instead of a monitor executor per group
+        scheduler.scheduleAtFixedRate(this::evaluateHealth, 10, HEALTH_EVALUATION_SECONDS, TimeUnit.SECONDS);
+
         // Use virtual threads for parallel bot creation
         this.botCreationExecutor = Executors.newThreadPerTaskExecutor(
                 Thread.ofVirtual().name("bot-creation-", 0).factory()
@@ -170,11 +266,50 @@ public class BotGroupBehaviorService {
         log.info("BotGroupBehaviorService initialized with parallel bot creation (parallelism will be configured from properties)");
     }
 
+    /**
+     * Stop scheduling, then drain every running group: all groups are torn down in
+     * parallel against one shared {@link GroupTeardown} deadline, so shutdown takes
+     * at most one teardown deadline however many groups are running. Target statuses
+     * are left alone, so the groups auto-start again on the next boot.
+     */
     @PreDestroy
     public void shutdown() {
         log.info("Shutting down BotGroupBehaviorService executors...");
         scheduler.shutdownNow();
         botCreationExecutor.shutdownNow();
+
+        if (runningGroups.isEmpty()) {
+            return;
+        }
+        long deadline = groupTeardown.deadline();
+        List<Thread> drains = new ArrayList<>(runningGroups.size());
+        for (BotGroupRuntime runtime : runningGroups.values()) {
+            connectionRecycler.unregister(runtime.getGroupId());
+            drains.add(Thread.ofVirtual().name("shutdown-" + runtime.getGroupId()).start(() -> {
+                BotMdc.setGroupContext(runtime.getGroupId(), runtime.getEnvironmentId());
+                try {
+                    runtime.stopAllBots(botMetrics, deadline);
+                } catch (Exception e) {
+                    log.error("Error stopping bot group {} during shutdown", runtime.getGroupId(), e);
+                } finally {
+                    BotMdc.clear();
+                }
+            }));
+        }
+        log.info("Draining {} running bot groups", drains.size());
+        try {
+            for (Thread drain : drains) {
+                // Each drain returns by the deadline; the grace covers executor shutdown after it.
+                long remaining = Math.max(0L, deadline - System.nanoTime()) + SHUTDOWN_GRACE_NANOS;
+                if (!drain.join(Duration.ofNanos(remaining))) {
+                    log.warn("Bot group drain {} still running at shutdown deadline", drain.getName());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while draining bot groups at shutdown");
+        }
+        runningGroups.clear();
     }
 
     /**
@@ -267,17 +402,16 @@ public class BotGroupBehaviorService {
             // Done here (outside the parallel section) because the
             // fill-to-target algorithm needs the full bot-id list to apportion
             // weights — not a per-bot decision.
-            List<String> botIdentifiers = new ArrayList<>(group.getBotCount());
-            for (int i = 1; i <= group.getBotCount(); i++) {
-                botIdentifiers.add(group.getNamePrefix() + i);
-            }
-            Map<String, StrategyId> strategyAssignment = StrategyAssignment.assign(
-                    effectiveStrategyMix(group), botIdentifiers);
+            Map<String, StrategyId> strategyAssignment = assignStrategies(group);
 
             // Create runtime state
             BotGroupRuntime runtime = new BotGroupRuntime(id, group.getBotCount(),
                     group.getEnvironmentId(), environment.getName());
+            runtime.setTeardown(groupTeardown);
+            runtime.setCensus(botCensus.forGroup(group.getEnvironmentId(), new BotCensus.GameKey(
+                    game.getId(), game.getName(), game.getGameType() != null ? game.getGameType().name() : "")));
             runningGroups.put(id, runtime);
+            evictFilterRows(group.getEnvironmentId());
 
             // BET_COORDINATION (AD-9/AD-10): build a group-scoped coordinator only
             // when enabled AND the game shares the betting-mini/TaiXiu round model
@@ -327,8 +461,28 @@ public class BotGroupBehaviorService {
                 // AD-J9: optional coordinator-cap composition deferred
             }
 
-            log.info("Creating {} bots for group {} with parallel execution (parallelism={})",
-                    group.getBotCount(), group.getName(), botCreationParallelism);
+            // Group bet clock: one wake-up per interval for the whole group instead of
+            // a sendAsync loop per bot. Only the shared-round betting types use it;
+            // SLOT bots keep their own spin loop. runtime.startBot registers each
+            // betting bot; the clock starts once the group is known to be viable.
+            if (game.getGameType() == GameType.BETTING_MINI || game.getGameType() == GameType.TAI_XIU) {
+                runtime.setBetTickDriver(new BetTickDriver(id, botTimer, betTickIntervalMillis, betTickJitterSlots));
+                // Every bot receives the same StartGame/UpdateBet/EndGame bytes: decode
+                // each shared broadcast once for the group instead of once per bot.
+                runtime.setBroadcastFrameCache(new BroadcastFrameCache(id));
+            }
+
+            // Raw-frame printer attached only to bots whose wire logger is at TRACE,
+            // re-checked live; optionally a sampled ring of the group's last frames.
+            runtime.setWireTap(new WireTap(id, botTimer, wireTapRefreshMillis,
+                    wireTapRingCapacity, wireTapSampleEvery));
+
+            // One shared, pre-warmed scenario mapper per product/game layout: built
+            // here so the parallel bot creations below reuse it.
+            botFactory.prewarmCodec(environment, game);
+
+            log.info("Creating {} bots for group {} with parallel execution (adaptive per-environment limit)",
+                    group.getBotCount(), group.getName());
 
             // Create bots in parallel with controlled concurrency
             List<Bot> bots = createBotsInParallel(group, environment, game, strategyAssignment);
@@ -358,13 +512,11 @@ public class BotGroupBehaviorService {
             // existing operator-visible state getHealth/getStatus surface. See
             // TECH_DEBT_CLEANUP_2026_07 AD-2. restart() keeps its stricter throw.
             //
-            // This check runs BEFORE the schedulers are started so the zero-bot DEAD
-            // path never creates them: unlike startPeriodicLogoutScheduler (which
-            // early-returns on an empty bot list), startHealthMonitoring would
-            // otherwise unconditionally spin up a ScheduledExecutorService that leaks
-            // against a DEAD idle runtime until an operator /stop reaps it. See the
-            // TECH_DEBT_CLEANUP_2026_07 review, "Health-monitor scheduler is left
-            // running on the zero-bot DEAD path".
+            // This check runs BEFORE the group's bet clock and wire tap are started
+            // and before it is registered for recycling, so the zero-bot DEAD path
+            // leaves nothing running against a DEAD idle runtime until an operator
+            // /stop reaps it. See the TECH_DEBT_CLEANUP_2026_07 review, "Health-monitor
+            // scheduler is left running on the zero-bot DEAD path".
             if (bots.isEmpty() && group.getBotCount() > 0) {
                 runtime.markAsDead();
                 // markAsDead() stamped groupDeadSince, opening a group-dead-seconds
@@ -398,11 +550,15 @@ public class BotGroupBehaviorService {
                 return;
             }
 
-            // Start health monitoring
-            startHealthMonitoring(runtime);
+            if (runtime.getBetTickDriver() != null) {
+                runtime.getBetTickDriver().start();
+            }
+            if (runtime.getWireTap() != null) {
+                runtime.getWireTap().start();
+            }
 
-            // Start periodic logout scheduler
-            startPeriodicLogoutScheduler(runtime, environment);
+            // Recycle the bots' connections over the fleet-wide rotation period
+            registerForRecycling(runtime, environment);
 
             // Update entity
             group.setTargetStatus(BotGroupStatus.ACTIVE);
@@ -423,6 +579,8 @@ public class BotGroupBehaviorService {
         } finally {
             if (!started) {
                 BotGroupRuntime failedRuntime = runningGroups.remove(id);
+                connectionRecycler.unregister(id);
+                evictFilterRows(group.getEnvironmentId());
                 if (failedRuntime != null) {
                     try {
                         // Re-apply group MDC so any group-level dead-seconds
@@ -461,8 +619,10 @@ public class BotGroupBehaviorService {
     /**
      * Create bots in parallel with controlled concurrency.
      * <p>
-     * Uses a Semaphore to limit how many bots are being created simultaneously,
-     * preventing overwhelming the game server's authentication endpoint.
+     * Every creation holds a slot of the environment's {@link CreationLimiter},
+     * shared with any other group starting in the same environment, so concurrent
+     * starts do not stack up on the game server's authentication endpoint. Each
+     * creation's latency and outcome feed back into the limit.
      *
      * @param group       The bot group configuration
      * @param environment The environment configuration
@@ -472,31 +632,13 @@ public class BotGroupBehaviorService {
     private List<Bot> createBotsInParallel(BotGroup group, Environment environment, Game game,
                                            Map<String, StrategyId> strategyAssignment) {
         int botCount = group.getBotCount();
-        Semaphore semaphore = new Semaphore(botCreationParallelism);
+        CreationLimiter limiter = creationLimiter(group.getEnvironmentId());
+        long startedAt = System.nanoTime();
 
         List<CompletableFuture<Bot>> futures = new ArrayList<>(botCount);
 
         for (int i = 1; i <= botCount; i++) {
-            final int botIndex = i;
-
-            CompletableFuture<Bot> future = CompletableFuture.supplyAsync(() -> {
-                BotMdc.setGroupContext(group.getId(), group.getEnvironmentId());
-                try {
-                    semaphore.acquire();
-                    try {
-                        return createSingleBot(group, environment, game, botIndex, strategyAssignment);
-                    } finally {
-                        semaphore.release();
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Bot creation interrupted", e);
-                } finally {
-                    BotMdc.clear();
-                }
-            }, botCreationExecutor);
-
-            futures.add(future);
+            futures.add(createBotAsync(group, environment, game, i, strategyAssignment, limiter, true));
         }
 
         // Wait for all bots to be created and collect results
@@ -531,14 +673,65 @@ public class BotGroupBehaviorService {
             BotMdc.clear();
         }
 
+        long elapsedNanos = System.nanoTime() - startedAt;
+        limiter.recordGroupCreated(elapsedNanos);
         if (!errors.isEmpty()) {
-            log.warn("Created {}/{} bots successfully ({} failures) for group {}",
-                    bots.size(), botCount, errors.size(), group.getId());
+            log.warn("Created {}/{} bots successfully ({} failures) for group {} in {} ms (creation limit now {})",
+                    bots.size(), botCount, errors.size(), group.getId(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), limiter.getLimit());
+        } else {
+            log.info("Created {} bots for group {} in {} ms (creation limit now {})",
+                    botCount, group.getId(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), limiter.getLimit());
         }
 
         return bots;
     }
 
+    /**
+     * Create one bot on {@code botCreationExecutor}, holding a slot of {@code limiter}
+     * for the creation and feeding its outcome back into the limit. With
+     * {@code connect} false the bot is logged in but not yet connected.
+     */
+    private CompletableFuture<Bot> createBotAsync(BotGroup group, Environment environment, Game game, int botIndex,
+                                                  Map<String, StrategyId> strategyAssignment,
+                                                  CreationLimiter limiter, boolean connect) {
+        return CompletableFuture.supplyAsync(() -> {
+            BotMdc.setGroupContext(group.getId(), group.getEnvironmentId());
+            try {
+                long admittedAt = limiter.acquire();
+                CreationLimiter.Outcome outcome = CreationLimiter.Outcome.IGNORED;
+                try {
+                    Bot bot = createSingleBot(group, environment, game, botIndex, strategyAssignment, connect);
+                    outcome = CreationLimiter.Outcome.SUCCESS;
+                    return bot;
+                } catch (RuntimeException e) {
+                    outcome = CreationLimiter.classify(e);
+                    throw e;
+                } finally {
+                    limiter.release(admittedAt, outcome);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Bot creation interrupted", e);
+            } finally {
+                BotMdc.clear();
+            }
+        }, botCreationExecutor);
+    }
+
+    /**
+     * The environment's shared creation limiter, or a fixed
+     * {@code botCreationParallelism}-wide one when the service runs without
+     * {@link CreationConcurrency}.
+     */
+    private CreationLimiter creationLimiter(String environmentId) {
+        if (creationConcurrency != null) {
+            return creationConcurrency.forEnvironment(environmentId);
+        }
+        return new CreationLimiter(environmentId, botCreationParallelism,
+                botCreationParallelism, botCreationParallelism, 2.0, 0.5, null);
+    }
+
     /**
      * Classify a bot-creation failure into a bounded reason tag for
      * {@code bot_creation_failures_total}. Bounded labels keep Prometheus
@@ -592,10 +785,12 @@ public class BotGroupBehaviorService {
      *                           {@link StrategyId#RANDOM} (defensive — the
      *                           assignment is built from the same identifier
      *                           shape, so a miss is a bug).
+     * @param connect            Whether to open the game connection now; a rolling
+     *                           restart connects its replacements later
      * @return The created and initialized bot
      */
     private Bot createSingleBot(BotGroup group, Environment environment, Game game, int botIndex,
-                                Map<String, StrategyId> strategyAssignment) {
+                                Map<String, StrategyId> strategyAssignment, boolean connect) {
         String username = group.getNamePrefix() + botIndex;
         String password = group.getPassword();
 
@@ -687,12 +882,27 @@ public class BotGroupBehaviorService {
                 .build();
 
         // Create bot using factory (authenticates and creates WebSocket client)
-        Bot bot = botFactory.createBot(group.getEnvironmentId(), configuration);
+        Bot bot = connect
+                ? botFactory.createBot(group.getEnvironmentId(), configuration)
+                : botFactory.createBot(group.getEnvironmentId(), configuration, false);
 
         log.debug("Created bot {} ({}/{})", username, botIndex, group.getBotCount());
         return bot;
     }
 
+    /**
+     * Per-bot strategy assignment over the group's {@code namePrefix + botIndex}
+     * identifiers. Deterministic, so a bot rebuilt by a rolling restart keeps its
+     * strategy.
+     */
+    private static Map<String, StrategyId> assignStrategies(BotGroup group) {
+        List<String> botIdentifiers = new ArrayList<>(group.getBotCount());
+        for (int i = 1; i <= group.getBotCount(); i++) {
+            botIdentifiers.add(group.getNamePrefix() + i);
+        }
+        return StrategyAssignment.assign(effectiveStrategyMix(group), botIdentifiers);
+    }
+
     /**
      * Resolve the effective strategy mix for a bot group, applying the
      * read-side fallback for unmigrated Mongo docs. Defaults to
@@ -725,6 +935,7 @@ public class BotGroupBehaviorService {
         // Set group MDC so the group-level dead-seconds increment (if a DEAD
         // window is open) is tagged with botGroupId/environmentId. Cleared in
         // the finally so we don't leak MDC into the caller thread.
+        connectionRecycler.unregister(id);
         BotMdc.setGroupContext(runtime.getGroupId(), runtime.getEnvironmentId());
         try {
             // Stop all bots and shutdown executor
@@ -786,10 +997,11 @@ public class BotGroupBehaviorService {
             return;
         }
 
-        // Flip out of ACTIVE first so a concurrent periodic-logout tick bails at
-        // its status gate (performPeriodicLogout) instead of reconnecting a bot
-        // we are about to tear down.
+        // Flip out of ACTIVE first so a recycle already under way bails at its
+        // status gate (ConnectionRecycler) instead of reconnecting a bot we are
+        // about to tear down.
         runtime.setActualStatus(BotGroupStatus.STOPPED);
+        connectionRecycler.unregister(id);
 
         // Group MDC so the per-bot teardown lines and the dead-window credit inside
         // stopAllBots carry botGroupId/environmentId. Cleared in finally.
@@ -798,7 +1010,7 @@ public class BotGroupBehaviorService {
             // Stop teardown: per-bot cleanup() sets stopped=true THEN closes the WS
             // (the logout) — the stopped-first order is what suppresses onDisconnect's
             // retry so no false reconnect is manufactured. Also shuts the executor +
-            // monitor + logout-scheduler and credits the group dead-window.
+            // health monitor and credits the group dead-window.
             runtime.stopAllBots(botMetrics);
         } finally {
             BotMdc.clear();
@@ -863,10 +1075,225 @@ public class BotGroupBehaviorService {
     }
 
     /**
-     * Schedule a restart for a specific time
+     * Restart a bot group in the given mode.
+     * <p>
+     * {@link RestartMode#FULL} is {@link #restart(String)}. {@link RestartMode#ROLLING}
+     * replaces the running group's bots {@code wavePercent} percent at a time (default
+     * {@code bot.restart.wave-percent}): each wave's replacements are built under the
+     * environment's creation limit, swapped in one for one, and the next wave starts
+     * only once they have reached {@link BotStatus#CONNECTION_AUTHENTICATED} (or
+     * {@code bot.restart.wave-timeout-seconds} passed) and the group is still healthy.
+     * The rest of the group keeps playing throughout, and the group-scoped coordinator,
+     * jackpot scaler, bet clock and wire tap are kept, so the table never loses the
+     * group's presence and the gateway sees one wave of logins at a time. Replacements
+     * are built from the group's current configuration.
+     * <p>
+     * A group that is not running (or is DEAD, or has no bots) has nothing to roll and
+     * gets a full restart instead.
+     *
+     * @throws BadRequestException   if {@code wavePercent} is outside 1–100, or a rolling
+     *                               restart of the group is already in progress
+     * @throws IllegalStateException if a wave left the group past the DEAD threshold, or
+     *                               no replacement of a wave could be created; the
+     *                               rolling restart stops there and the bots not yet
+     *                               replaced keep running
+     */
+    public void restart(String id, RestartMode mode, Integer wavePercent) {
+        if (mode == RestartMode.ROLLING) {
+            int percent = resolveWavePercent(wavePercent);
+            BotGroupRuntime runtime = runningGroups.get(id);
+            if (runtime != null && runtime.getActualStatus() == BotGroupStatus.ACTIVE
+                    && !runtime.getBotInstances().isEmpty()) {
+                rollingRestart(id, runtime, percent);
+                return;
+            }
+            log.info("Bot group {} has no running bots to roll; doing a full restart", id);
+        }
+        restart(id);
+    }
+
+    /**
+     * Run {@link #restart(String, RestartMode, Integer) restart(id, ROLLING, wavePercent)}
+     * in the background: a rolling restart takes a wave timeout per wave, far longer
+     * than a request should wait. The arguments are checked here; a failure of the
+     * restart itself is logged, as for a scheduled restart.
+     *
+     * @throws BadRequestException if {@code wavePercent} is outside 1–100, or a rolling
+     *                             restart of the group is already in progress
+     */
+    public void startRollingRestart(String id, Integer wavePercent) {
+        resolveWavePercent(wavePercent);
+        botGroupService.findById(id);
+        if (rollingRestarts.contains(id)) {
+            throw new BadRequestException("A rolling restart of bot group " + id + " is already in progress");
+        }
+        scheduler.execute(() -> {
+            try {
+                restart(id, RestartMode.ROLLING, wavePercent);
+            } catch (RuntimeException e) {
+                log.error("Rolling restart of bot group {} failed: {}", id, e.getMessage(), e);
+            }
+        });
+        log.info("Started rolling restart of bot group {}", id);
+    }
+
+    private int resolveWavePercent(Integer wavePercent) {
+        int percent = wavePercent != null ? wavePercent : restartWavePercent;
+        if (percent < 1 || percent > 100) {
+            throw new BadRequestException("Restart wave percent must be between 1 and 100, got " + percent);
+        }
+        return percent;
+    }
+
+    private void rollingRestart(String id, BotGroupRuntime runtime, int wavePercent) {
+        if (!rollingRestarts.add(id)) {
+            throw new BadRequestException("A rolling restart of bot group " + id + " is already in progress");
+        }
+        BotMdc.setGroupContext(runtime.getGroupId(), runtime.getEnvironmentId());
+        try {
+            BotGroup group = botGroupService.findById(id);
+            Environment environment = environmentService.findById(group.getEnvironmentId());
+            Game game = gameService.findById(group.getGameId());
+            Map<String, StrategyId> strategyAssignment = assignStrategies(group);
+            CreationLimiter limiter = creationLimiter(group.getEnvironmentId());
+
+            List<Bot> current = List.copyOf(runtime.getBotInstances());
+            int waveSize = (int) Math.ceil(current.size() * wavePercent / 100.0);
+            int waves = (current.size() + waveSize - 1) / waveSize;
+            log.info("Rolling restart of bot group {}: {} bots in {} waves of up to {}",
+                    id, current.size(), waves, waveSize);
+
+            int replaced = 0;
+            for (int wave = 1; wave <= waves; wave++) {
+                if (runningGroups.get(id) != runtime || runtime.getActualStatus() != BotGroupStatus.ACTIVE) {
+                    log.warn("Rolling restart of bot group {} stopped before wave {}/{}: group is no longer active",
+                            id, wave, waves);
+                    return;
+                }
+                List<Bot> outgoing = current.subList((wave - 1) * waveSize,
+                        Math.min(wave * waveSize, current.size()));
+                List<Bot> started = replaceWave(runtime, group, environment, game, strategyAssignment,
+                        limiter, outgoing);
+                if (started.isEmpty()) {
+                    throw new IllegalStateException(String.format(
+                            "Rolling restart of group %s halted at wave %d/%d: no replacement bot could be created;"
+                                    + " check logs and %s metric for cause",
+                            id, wave, waves, BotMetrics.BOT_CREATION_FAILURES_TOTAL));
+                }
+                replaced += started.size();
+
+                awaitConnectionAuthenticated(started,
+                        System.nanoTime() + TimeUnit.SECONDS.toNanos(restartWaveTimeoutSeconds));
+                Set<Bot> fresh = new HashSet<>(started);
+                List<Bot> bots = runtime.getBotInstances();
+                long unhealthy = bots.stream()
+                        .filter(b -> b.getStatus() == BotStatus.DEAD
+                                || (fresh.contains(b) && !isConnectionAuthenticated(b.getStatus())))
+                        .count();
+                log.info("Rolling restart of bot group {}: wave {}/{} replaced {}/{} bots, {} of {} unhealthy",
+                        id, wave, waves, started.size(), outgoing.size(), unhealthy, bots.size());
+                if ((double) unhealthy / bots.size() >= deadBotGroupThreshold) {
+                    throw new IllegalStateException(String.format(
+                            "Rolling restart of group %s halted after wave %d/%d: %d/%d bots unhealthy",
+                            id, wave, waves, unhealthy, bots.size()));
+                }
+            }
+            // Every bot is new now: let the rounds max fall back to theirs.
+            runtime.getStats().rebaseRounds(runtime.getBotInstances().stream()
+                    .mapToLong(bot -> bot.getRoundsObserved().get())
+                    .max()
+                    .orElse(0L));
+            log.info("Rolling restart of bot group {} finished: {}/{} bots replaced", id, replaced, current.size());
+        } finally {
+            BotMdc.clear();
+            rollingRestarts.remove(id);
+        }
+    }
+
+    /**
+     * Build a replacement for each of {@code outgoing} in parallel, logged in but not
+     * connected, and swap each into the runtime as soon as the whole wave is built; the
+     * runtime connects it once the bot it replaces is cleaned up. A bot whose
+     * replacement could not be created stays in place and keeps playing.
+     *
+     * @return the replacements that were started
+     */
+    private List<Bot> replaceWave(BotGroupRuntime runtime, BotGroup group, Environment environment, Game game,
+                                  Map<String, StrategyId> strategyAssignment, CreationLimiter limiter,
+                                  List<Bot> outgoing) {
+        List<CompletableFuture<Bot>> futures = new ArrayList<>(outgoing.size());
+        for (Bot bot : outgoing) {
+            futures.add(createBotAsync(group, environment, game, bot.getConfiguration().getBotIndex(),
+                    strategyAssignment, limiter, false));
+        }
+
+        List<Bot> started = new ArrayList<>(outgoing.size());
+        for (int i = 0; i < outgoing.size(); i++) {
+            Bot old = outgoing.get(i);
+            Bot replacement;
+            try {
+                replacement = futures.get(i).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("Failed to create a replacement for bot {} of group {}; keeping it: {}",
+                        old.getUserName(), group.getId(), cause.toString(), cause);
+                botMetrics.incBotCreationFailure(classifyCreationFailure(cause));
+                continue;
+            }
+            // Same group-scoped coordinator and scaler as the bots they replace,
+            // injected before the bot starts exactly as in start().
+            replacement.setCoordinator(runtime.getCoordinator());
+            replacement.setJackpotScaler(runtime.getJackpotScaler());
+            if (runtime.replaceBot(old, replacement)) {
+                started.add(replacement);
+            } else {
+                // The old bot left the group meanwhile (stop, or a concurrent replacement).
+                replacement.cleanup();
+            }
+        }
+        return started;
+    }
+
+    /**
+     * Wait until every bot in {@code bots} has authenticated its game connection or is
+     * DEAD, or until {@code deadline} ({@link System#nanoTime()}).
+     */
+    private static void awaitConnectionAuthenticated(List<Bot> bots, long deadline) {
+        while (System.nanoTime() < deadline) {
+            boolean pending = bots.stream().anyMatch(b ->
+                    !isConnectionAuthenticated(b.getStatus()) && b.getStatus() != BotStatus.DEAD);
+            if (!pending) {
+                return;
+            }
+            try {
+                Thread.sleep(WAVE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static boolean isConnectionAuthenticated(BotStatus status) {
+        return status == BotStatus.CONNECTION_AUTHENTICATED || status == BotStatus.STARTED;
+    }
+
+    /**
+     * Schedule a full restart for a specific time
      */
     public void scheduleRestart(String id, LocalDateTime time) {
+        scheduleRestart(id, time, RestartMode.FULL, null);
+    }
+
+    /**
+     * Schedule a restart in the given mode for a specific time; see
+     * {@link #restart(String, RestartMode, Integer)}.
+     */
+    public void scheduleRestart(String id, LocalDateTime time, RestartMode mode, Integer wavePercent) {
         BotGroup group = botGroupService.findById(id);
+        if (mode == RestartMode.ROLLING) {
+            resolveWavePercent(wavePercent);
+        }
 
         long delayMillis = Duration.between(LocalDateTime.now(), time).toMillis();
 
@@ -875,15 +1302,19 @@ public class BotGroupBehaviorService {
         }
 
         scheduler.schedule(() -> {
-            log.info("Executing scheduled restart for bot group {}", id);
-            restart(id);
+            log.info("Executing scheduled {} restart for bot group {}", mode, id);
+            try {
+                restart(id, mode, wavePercent);
+            } catch (RuntimeException e) {
+                log.error("Scheduled {} restart of bot group {} failed: {}", mode, id, e.getMessage(), e);
+            }
         }, delayMillis, TimeUnit.MILLISECONDS);
 
         // Update entity
         group.setScheduledRestartTime(time);
         botGroupService.save(group);
 
-        log.info("Scheduled restart for bot group {} at {}", id, time);
+        log.info("Scheduled {} restart for bot group {} at {}", mode, id, time);
     }
 
     /**
@@ -1041,13 +1472,15 @@ public class BotGroupBehaviorService {
      *   <li>{@code activeTimeSeconds} = seconds between {@code runtime.startedAt} and now (AD-9).</li>
      *   <li>{@code roundsSinceRestart} = MAX of the per-bot {@code roundsObserved} counter
      *       across all bots (AD-9); 0 when no bot has observed a round yet.</li>
-     *   <li>{@code activeBots} = count of {@code isConnected()} bots (AD-10).</li>
+     *   <li>{@code activeBots} = count of bots whose status {@linkplain BotStatus#isConnected()
+     *       is connected} (AD-10).</li>
      *   <li>{@code averageBalance} / {@code averageWinning} = means over the <em>active</em>
-     *       ({@code isConnected()}) bots only (AD-8/AD-10); {@code null} when zero bots are
-     *       active — never 0 (Implementation Note 5).</li>
+     *       bots only (AD-8/AD-10); {@code null} when zero bots are active — never 0
+     *       (Implementation Note 5).</li>
      * </ul>
-     * All averages come from in-memory {@code Bot} accumulators; Prometheus is never
-     * queried here (AD-4).
+     * Everything is read from the runtime's {@link GroupStats}, which the bots keep
+     * current as they play, so the cost does not grow with the group; Prometheus is
+     * never queried here (AD-4).
      */
     public BotGroupStatsDTO computeStats(String groupId) {
         BotGroupRuntime runtime = runningGroups.get(groupId);
@@ -1056,41 +1489,27 @@ public class BotGroupBehaviorService {
             return BotGroupStatsDTO.builder().build();
         }
 
-        List<Bot> bots = runtime.getBotInstances();
-
-        // Rounds since last restart = max over the group's bots (dedup-free, robust to
-        // subscriber pruning). Bots are freshly built each start/restart, so the counter
-        // is already scoped to "since last restart".
-        long roundsSinceRestart = bots.stream()
-                .mapToLong(bot -> bot.getRoundsObserved().get())
-                .max()
-                .orElse(0L);
+        GroupStats.Snapshot stats = runtime.getStats().snapshot();
 
         Instant startedAt = runtime.getStartedAt();
         Long activeTimeSeconds = startedAt != null
                 ? Duration.between(startedAt, Instant.now()).toSeconds()
                 : null;
 
-        // Averages over active (isConnected) bots only. Zero active bots → null (N/A),
-        // not 0 — a live runtime whose bots are all reconnecting must still read N/A.
-        List<Bot> activeBots = bots.stream()
-                .filter(Bot::isConnected)
-                .toList();
-        int activeCount = activeBots.size();
-
+        // Zero active bots → null (N/A), not 0 — a live runtime whose bots are all
+        // reconnecting must still read N/A.
+        int activeCount = (int) stats.activeBots();
         Long averageBalance = null;
         Long averageWinning = null;
         if (activeCount > 0) {
-            long balanceSum = activeBots.stream()
-                    .mapToLong(Bot::getExpectedBalance)
-                    .sum();
-            long winningSum = activeBots.stream()
-                    .mapToLong(bot -> bot.getCumulativeWinnings().get())
-                    .sum();
-            averageBalance = balanceSum / activeCount;
-            averageWinning = winningSum / activeCount;
+            averageBalance = stats.activeBalance() / activeCount;
+            averageWinning = stats.activeWinnings() / activeCount;
         }
 
+        // Rounds since last restart = max over the group's bots (dedup-free, robust to
+        // subscriber pruning); the runtime is fresh per start, so already scoped.
+        long roundsSinceRestart = stats.maxRounds();
+
         return BotGroupStatsDTO.builder()
                 .roundsSinceRestart(roundsSinceRestart)
                 .activeTimeSeconds(activeTimeSeconds)
@@ -1112,28 +1531,82 @@ public class BotGroupBehaviorService {
      * controller can map to DTOs without recomputing. The sort key/direction come
      * from {@code filter.sortBy}/{@code filter.sortDir}; an unknown key surfaces as
      * HTTP 400 via {@link com.vingame.bot.domain.botgroup.sort.BotSortKey#resolve}.
+     * With {@code filter.size} set, only page {@code filter.page} is returned, picked
+     * by top-K selection rather than a full sort.
+     *
+     * <p>The enriched rows of a query (environment, name, game) are reused for
+     * {@code bot.filter.cache-millis}, so the stats of a cached page can be that old.
      */
     public List<BotGroupSortRow> filterSorted(String environmentId, BotGroupFilter filter) {
+        List<BotGroupSortRow> rows = filterRows(environmentId, filter);
+        if (filter.getSize() == null) {
+            return BotGroupSorter.sort(rows, filter.getSortBy(), filter.getSortDir());
+        }
+        int page = filter.getPage() != null ? filter.getPage() : 0;
+        return BotGroupSorter.page(rows, filter.getSortBy(), filter.getSortDir(), page, filter.getSize());
+    }
+
+    private List<BotGroupSortRow> filterRows(String environmentId, BotGroupFilter filter) {
+        if (filterCacheMillis <= 0) {
+            return enrichFilterRows(environmentId, filter);
+        }
+        FilterKey key = new FilterKey(environmentId, filter.getName(), filter.getGameId());
+        long now = System.nanoTime();
+        CachedRows hit = filterRows.get(key);
+        if (hit != null && hit.expiresAtNanos() > now) {
+            return hit.rows();
+        }
+        List<BotGroupSortRow> rows = enrichFilterRows(environmentId, filter);
+        if (filterRows.size() >= MAX_FILTER_CACHE_ENTRIES) {
+            filterRows.entrySet().removeIf(e -> e.getValue().expiresAtNanos() <= now);
+        }
+        filterRows.put(key, new CachedRows(rows, now + TimeUnit.MILLISECONDS.toNanos(filterCacheMillis)));
+        return rows;
+    }
+
+    /**
+     * Drop the cached filter rows of {@code environmentId} ({@code null}: every
+     * environment), so a group just created, deleted, started or stopped shows up
+     * in the next filter read instead of after the cache expires.
+     * {@link BotGroupService} calls this on every group write; the runtime
+     * map changes here call it too.
+     */
+    public void evictFilterRows(String environmentId) {
+        if (environmentId == null) {
+            filterRows.clear();
+        } else {
+            filterRows.keySet().removeIf(key -> environmentId.equals(key.environmentId()));
+        }
+    }
+
+    private List<BotGroupSortRow> enrichFilterRows(String environmentId, BotGroupFilter filter) {
         List<BotGroup> groups = botGroupService.filter(environmentId, filter);
         Map<String, String> gameTypeById = resolveGameTypes(groups);
-        List<BotGroupSortRow> rows = groups.stream()
+        return groups.stream()
                 .map(group -> new BotGroupSortRow(
                         group,
                         computeStats(group.getId()),
                         getActualStatus(group.getId()),
                         group.getGameId() == null ? null : gameTypeById.get(group.getGameId())))
                 .toList();
-        return BotGroupSorter.sort(rows, filter.getSortBy(), filter.getSortDir());
+    }
+
+    private record FilterKey(String environmentId, String name, String gameId) {
+    }
+
+    private record CachedRows(List<BotGroupSortRow> rows, long expiresAtNanos) {
     }
 
     /**
      * Env-scoped game filter with in-memory sorting (BOTGROUP_GAME_MANAGEMENT
      * Phase 5). Loads the matching games via
      * {@link GameService#filter(BrandCode, ProductCode, String, GameFilter)}, then
-     * enriches each with the aggregates over the bot groups referencing it (via
-     * {@link BotGroupService#findByGameId} — {@code BotGroup.gameId} is the Game
-     * Mongo {@code _id}, Implementation Note 1), and sorts the enriched rows in
-     * memory per AD-11/AD-12. No Mongo-side aggregation, no persisted derived fields.
+     * enriches each with the aggregates over the bot groups referencing it, and sorts
+     * the enriched rows in memory per AD-11/AD-12. The referencing groups of every
+     * listed game come from one {@link BotGroupService#findSummariesByGameIds} query
+     * ({@code BotGroup.gameId} is the Game Mongo {@code _id}, Implementation Note 1),
+     * so the endpoint makes two Mongo round trips however many games match. No
+     * persisted derived fields.
      *
      * <p>The sort key/direction come from {@code filter.sortBy}/{@code filter.sortDir};
      * an unknown key surfaces as HTTP 400 via {@link com.vingame.bot.domain.game.sort.GameSortKey#resolve}.
@@ -1141,8 +1614,15 @@ public class BotGroupBehaviorService {
     public List<GameSortRow> filterGamesSorted(BrandCode brandCode, ProductCode productCode,
                                                String environmentId, GameFilter filter) {
         List<Game> games = gameService.filter(brandCode, productCode, environmentId, filter);
+        Map<String, List<BotGroup>> groupsByGameId = new HashMap<>();
+        if (!games.isEmpty()) {
+            for (BotGroup group : botGroupService.findSummariesByGameIds(
+                    games.stream().map(Game::getId).collect(Collectors.toSet()))) {
+                groupsByGameId.computeIfAbsent(group.getGameId(), id -> new ArrayList<>()).add(group);
+            }
+        }
         List<GameSortRow> rows = games.stream()
-                .map(this::enrichGame)
+                .map(game -> enrichGame(game, groupsByGameId.getOrDefault(game.getId(), List.of())))
                 .toList();
         return GameSorter.sort(rows, filter.getSortBy(), filter.getSortDir());
     }
@@ -1151,10 +1631,10 @@ public class BotGroupBehaviorService {
      * Compute the per-game aggregates over the bot groups referencing it (Phase 5).
      * {@code botGroupCount}/{@code botCount} are configured aggregates (never N/A);
      * {@code activeGroupCount}/{@code activeBotCount} are runtime sums (0 when the
-     * game is inactive, gated to N/A by the sort keys). Computed once per game.
+     * game is inactive, gated to N/A by the sort keys). Computed once per game from
+     * its already-loaded {@code groups} and the running-groups map.
      */
-    private GameSortRow enrichGame(Game game) {
-        List<BotGroup> groups = botGroupService.findByGameId(game.getId());
+    private GameSortRow enrichGame(Game game, List<BotGroup> groups) {
         int botCount = 0;
         int activeGroupCount = 0;
         int activeBotCount = 0;
@@ -1170,24 +1650,22 @@ public class BotGroupBehaviorService {
 
     /**
      * Resolve the {@code gameType} enum name for each distinct {@code gameId}
-     * (Game Mongo {@code _id}) referenced by the groups — looked up once per
-     * distinct id (AD-11 note). A missing game (deleted out from under the group)
-     * maps to {@code null}, which the {@code GAME_TYPE} sort key treats as N/A.
+     * (Game Mongo {@code _id}) referenced by the groups, in one
+     * {@link GameService#findGameTypes} query however many groups there are (AD-11
+     * note). A missing game (deleted out from under the group) maps to {@code null},
+     * which the {@code GAME_TYPE} sort key treats as N/A.
      */
     private Map<String, String> resolveGameTypes(List<BotGroup> groups) {
+        Set<String> gameIds = groups.stream()
+                .map(BotGroup::getGameId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
         Map<String, String> byId = new HashMap<>();
-        for (BotGroup group : groups) {
-            String gameId = group.getGameId();
-            if (gameId == null || byId.containsKey(gameId)) {
-                continue;
-            }
-            try {
-                Game game = gameService.findById(gameId);
-                byId.put(gameId, game.getGameType() != null ? game.getGameType().name() : null);
-            } catch (ResourceNotFoundException e) {
-                byId.put(gameId, null);
-            }
+        if (gameIds.isEmpty()) {
+            return byId;
         }
+        gameService.findGameTypes(gameIds)
+                .forEach((id, type) -> byId.put(id, type != null ? type.name() : null));
         return byId;
     }
 
@@ -1215,26 +1693,18 @@ public class BotGroupBehaviorService {
         return total;
     }
 
-    /** Total number of bots with an open WebSocket connection across all running groups. */
+    /**
+     * Total number of bots with an open WebSocket connection across all running groups,
+     * read from the {@link BotCensus} (bots in a connected status), not by probing
+     * every socket.
+     */
     public int getOpenWsConnectionCount() {
-        int total = 0;
-        for (BotGroupRuntime runtime : runningGroups.values()) {
-            for (Bot bot : runtime.getBotInstances()) {
-                if (bot.isConnected()) total++;
-            }
-        }
-        return total;
+        return botCensus.fleet().count(CONNECTED_STATUSES);
     }
 
-    /** Count of bots currently in the given status across all running groups. */
+    /** Count of bots currently in the given status across all running groups (census read). */
     public int countBotsByStatus(BotStatus status) {
-        int total = 0;
-        for (BotGroupRuntime runtime : runningGroups.values()) {
-            for (Bot bot : runtime.getBotInstances()) {
-                if (bot.getStatus() == status) total++;
-            }
-        }
-        return total;
+        return botCensus.fleet().count(status);
     }
 
     /**
@@ -1289,20 +1759,17 @@ public class BotGroupBehaviorService {
 
     /**
      * Distinct set of games currently backing live bots, for the {@code game_join}
-     * join gauge. Sourced from each bot's {@link BotConfiguration#getGame()} so the
-     * dropdown is populated the moment a group starts, before the first bet (AD-2).
+     * join gauge. Sourced from the per-game {@link BotCensus} entries a group's bots
+     * join at start, so the dropdown is populated the moment a group starts, before
+     * the first bet (AD-2).
      */
     public Collection<GameInfo> listRunningGameInfo() {
         Map<String, GameInfo> distinct = new LinkedHashMap<>();
-        for (BotGroupRuntime runtime : runningGroups.values()) {
-            for (Bot bot : runtime.getBotInstances()) {
-                Game game = bot.getConfiguration().getGame();
-                if (game == null) continue;
-                String gameType = game.getGameType() != null ? game.getGameType().name() : "";
-                distinct.putIfAbsent(game.getId(),
-                        new GameInfo(game.getId(), game.getName(), gameType));
+        botCensus.byGame().forEach((game, census) -> {
+            if (census.total() > 0) {
+                distinct.putIfAbsent(game.gameId(), new GameInfo(game.gameId(), game.gameName(), game.gameType()));
             }
-        }
+        });
         return distinct.values();
     }
 
@@ -1327,37 +1794,39 @@ public class BotGroupBehaviorService {
 
     /**
      * Snapshot count of live bots grouped by {@code (gameId, gameName, status)},
-     * backing the {@code bots_by_game_status} MultiGauge (AD-3). Reuses the live
-     * iteration shape of {@link #countBotsByStatus(BotStatus)}.
+     * backing the {@code bots_by_game_status} MultiGauge (AD-3). Read from the
+     * per-game {@link BotCensus} counters; statuses with no bots are left out.
      */
     public Map<GameStatusKey, Integer> countBotsByGameAndStatus() {
         Map<GameStatusKey, Integer> counts = new LinkedHashMap<>();
-        for (BotGroupRuntime runtime : runningGroups.values()) {
-            for (Bot bot : runtime.getBotInstances()) {
-                Game game = bot.getConfiguration().getGame();
-                if (game == null) continue;
-                GameStatusKey key = new GameStatusKey(game.getId(), game.getName(), bot.getStatus());
-                counts.merge(key, 1, Integer::sum);
+        botCensus.byGame().forEach((game, census) -> {
+            for (BotStatus status : BotStatus.values()) {
+                int count = census.count(status);
+                if (count > 0) {
+                    counts.merge(new GameStatusKey(game.gameId(), game.gameName(), status), count, Integer::sum);
+                }
             }
-        }
+        });
         return counts;
     }
 
     /**
      * Snapshot count of live bots grouped by {@code (environmentId, status)},
-     * backing the {@code bots_by_env_status} MultiGauge (AD-3). The env name for
-     * the dashboard comes from the {@code environment_join} join, not this map.
+     * backing the {@code bots_by_env_status} MultiGauge (AD-3). Read from the
+     * per-environment {@link BotCensus} counters; statuses with no bots are left
+     * out. The env name for the dashboard comes from the {@code environment_join}
+     * join, not this map.
      */
     public Map<EnvStatusKey, Integer> countBotsByEnvAndStatus() {
         Map<EnvStatusKey, Integer> counts = new LinkedHashMap<>();
-        for (BotGroupRuntime runtime : runningGroups.values()) {
-            String envId = runtime.getEnvironmentId();
-            if (envId == null) continue;
-            for (Bot bot : runtime.getBotInstances()) {
-                EnvStatusKey key = new EnvStatusKey(envId, bot.getStatus());
-                counts.merge(key, 1, Integer::sum);
+        botCensus.byEnvironment().forEach((envId, census) -> {
+            for (BotStatus status : BotStatus.values()) {
+                int count = census.count(status);
+                if (count > 0) {
+                    counts.put(new EnvStatusKey(envId, status), count);
+                }
             }
-        }
+        });
         return counts;
     }
 
@@ -1373,6 +1842,27 @@ public class BotGroupBehaviorService {
         return (int) runtime.getRunningBotCount();
     }
 
+    /**
+     * The wire tap of a running group, or {@code null} if the group is not running.
+     */
+    public WireTap getWireTap(String groupId) {
+        BotGroupRuntime runtime = runningGroups.get(groupId);
+        return runtime != null ? runtime.getWireTap() : null;
+    }
+
+    /**
+     * Wire taps of all running groups, keyed by group id.
+     */
+    public Map<String, WireTap> getWireTaps() {
+        Map<String, WireTap> taps = new TreeMap<>();
+        runningGroups.forEach((id, runtime) -> {
+            if (runtime.getWireTap() != null) {
+                taps.put(id, runtime.getWireTap());
+            }
+        });
+        return taps;
+    }
+
     /**
      * Get actual runtime status (ACTIVE, STOPPED, DEAD)
      */
@@ -1392,15 +1882,15 @@ public class BotGroupBehaviorService {
     }
 
     /**
-     * Start health monitoring for a bot group
+     * Fleet-wide health evaluator: checks every ACTIVE group every
+     * {@value #HEALTH_EVALUATION_SECONDS} seconds. Each check reads the group's
+     * {@link StatusCensus}, so a pass costs the same whatever the group sizes.
      */
-    private void startHealthMonitoring(BotGroupRuntime runtime) {
-        ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor(
-                Thread.ofVirtual().name("health-monitor-" + runtime.getGroupId()).factory()
-        );
-        runtime.setHealthMonitor(monitor);
-
-        monitor.scheduleAtFixedRate(() -> {
+    private void evaluateHealth() {
+        for (BotGroupRuntime runtime : runningGroups.values()) {
+            if (runtime.getActualStatus() != BotGroupStatus.ACTIVE) {
+                continue;
+            }
             BotMdc.setGroupContext(runtime.getGroupId(), runtime.getEnvironmentId());
             try {
                 monitorHealth(runtime);
@@ -1409,26 +1899,27 @@ public class BotGroupBehaviorService {
             } finally {
                 BotMdc.clear();
             }
-        }, 10, 30, TimeUnit.SECONDS);
+        }
     }
 
     /**
      * Monitor health of bot group — logs a summary and marks group DEAD if enough bots have given up.
      */
     private void monitorHealth(BotGroupRuntime runtime) {
-        List<Bot> bots = runtime.getBotInstances();
-        if (bots.isEmpty()) return;
+        int size = runtime.getBotInstances().size();
+        if (size == 0) return;
 
-        long dead = bots.stream().filter(b -> b.getStatus() == BotStatus.DEAD).count();
-        long reconnecting = bots.stream().filter(b -> b.getStatus() == BotStatus.RECONNECTING).count();
-        long playing = bots.stream().filter(Bot::isConnected).count();
+        StatusCensus census = runtime.getCensus();
+        int dead = census.count(BotStatus.DEAD);
+        int reconnecting = census.count(BotStatus.RECONNECTING);
+        int playing = census.count(CONNECTED_STATUSES);
 
-        runtime.setConsecutiveFailures((int) dead);
+        runtime.setConsecutiveFailures(dead);
 
         log.debug("Group {} health — playing: {}, reconnecting: {}, dead: {}/{}",
-                runtime.getGroupId(), playing, reconnecting, dead, bots.size());
+                runtime.getGroupId(), playing, reconnecting, dead, size);
 
-        if (!runtime.isGroupDead() && (double) dead / bots.size() >= deadBotGroupThreshold) {
+        if (!runtime.isGroupDead() && (double) dead / size >= deadBotGroupThreshold) {
             handleBotGroupDeath(runtime);
         }
     }
@@ -1452,22 +1943,18 @@ public class BotGroupBehaviorService {
     }
 
     /**
-     * Start periodic logout scheduler for a bot group.
-     * One bot logs out and reconnects per interval (round-robin).
+     * Hand a started group to the fleet-wide {@link ConnectionRecycler} when periodic
+     * logout is enabled for its environment (the environment's flag overrides
+     * {@code bot.periodic-logout.enabled}).
      *
      * @param runtime     The bot group runtime
-     * @param environment The environment (for per-environment config overrides)
+     * @param environment The environment (for the per-environment override)
      */
-    private void startPeriodicLogoutScheduler(BotGroupRuntime runtime, Environment environment) {
-        // Determine effective configuration (environment overrides global)
+    private void registerForRecycling(BotGroupRuntime runtime, Environment environment) {
         boolean enabled = environment.getPeriodicLogoutEnabled() != null
                 ? environment.getPeriodicLogoutEnabled()
                 : periodicLogoutEnabled;
 
-        int intervalMinutes = environment.getPeriodicLogoutIntervalMinutes() != null
-                ? environment.getPeriodicLogoutIntervalMinutes()
-                : periodicLogoutIntervalMinutes;
-
         if (!enabled) {
             log.info("Periodic logout disabled for group {} (environment: {})",
                     runtime.getGroupId(), environment.getName());
@@ -1475,91 +1962,10 @@ public class BotGroupBehaviorService {
         }
 
         if (runtime.getBotInstances().isEmpty()) {
-            log.warn("No bots in group {}, skipping periodic logout setup", runtime.getGroupId());
-            return;
-        }
-
-        ScheduledExecutorService logoutScheduler = Executors.newSingleThreadScheduledExecutor(
-                Thread.ofVirtual()
-                        .name("logout-scheduler-" + runtime.getGroupId())
-                        .factory()
-        );
-        runtime.setLogoutScheduler(logoutScheduler);
-
-        logoutScheduler.scheduleAtFixedRate(() -> {
-            BotMdc.setGroupContext(runtime.getGroupId(), runtime.getEnvironmentId());
-            try {
-                performPeriodicLogout(runtime);
-            } catch (Exception e) {
-                log.error("Periodic logout error for group {}: {}",
-                        runtime.getGroupId(), e.getMessage(), e);
-            } finally {
-                BotMdc.clear();
-            }
-        }, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
-
-        log.info("Periodic logout scheduler started for group {} (interval: {} minutes, reconnect delay: {} seconds)",
-                runtime.getGroupId(), intervalMinutes, reconnectDelaySeconds);
-    }
-
-    /**
-     * Perform a single periodic logout cycle.
-     * Gets the next bot via round-robin, logs it out, waits, then reconnects.
-     */
-    private void performPeriodicLogout(BotGroupRuntime runtime) {
-        // Skip if group is stopping or dead
-        if (runtime.getActualStatus() != BotGroupStatus.ACTIVE) {
-            log.debug("Skipping periodic logout for group {} - not active (status: {})",
-                    runtime.getGroupId(), runtime.getActualStatus());
-            return;
-        }
-
-        Bot bot = runtime.getNextBotForLogout();
-        if (bot == null) {
-            log.warn("No bot available for periodic logout in group {}", runtime.getGroupId());
-            return;
-        }
-
-        // Skip if bot is already disconnected
-        if (bot.getClient() == null || !bot.getClient().isOpen()) {
-            log.debug("Bot {} already disconnected, skipping periodic logout", bot.getUserName());
+            log.warn("No bots in group {}, skipping connection recycling", runtime.getGroupId());
             return;
         }
 
-        // INFO (not DEBUG) so the operator has the "why" for the subsequent
-        // `Bot {userName}: restart requested` INFO line at Bot.java:176. Without this
-        // context, the restart INFO is opaque. Per-bot but bounded — fires at most once
-        // per scheduler interval per group.
-        log.info("Periodic logout starting for bot {} in group {}",
-                bot.getUserName(), runtime.getGroupId());
-
-        try {
-            // Logout (closes connection)
-            bot.logout();
-
-            // Wait before reconnecting (virtual thread, no platform thread blocked)
-            Thread.sleep(reconnectDelaySeconds * 1000L);
-
-            // Check again if group is still active before reconnecting
-            if (runtime.getActualStatus() != BotGroupStatus.ACTIVE) {
-                log.debug("Group {} stopped during logout delay, skipping reconnect for bot {}",
-                        runtime.getGroupId(), bot.getUserName());
-                return;
-            }
-
-            // Reconnect
-            bot.restart();
-
-            log.debug("Periodic logout completed for bot {} in group {}",
-                    bot.getUserName(), runtime.getGroupId());
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Periodic logout interrupted for bot {} in group {}",
-                    bot.getUserName(), runtime.getGroupId());
-        } catch (Exception e) {
-            log.error("Periodic logout failed for bot {} in group {}: {}",
-                    bot.getUserName(), runtime.getGroupId(), e.getMessage(), e);
-        }
+        connectionRecycler.register(runtime);
     }
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package com.vingame.bot.domain.botgroup.service;
 
-import com.vingame.bot.config.client.EnvironmentClientRegistry;
-import com.vingame.bot.config.client.EnvironmentClients;
 import com.vingame.bot.domain.botgroup.dto.BotGroupDTO;
 import com.vingame.bot.common.exception.BadRequestException;
 import com.vingame.bot.common.exception.ResourceNotFoundException;
@@ -18,7 +16,9 @@ import com.vingame.bot.domain.environment.model.Environment;
 import com.vingame.bot.domain.environment.service.EnvironmentService;
 import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.domain.game.service.GameService;
+import com.vingame.bot.domain.registration.service.RegistrationJobService;
 import com.vingame.bot.infrastructure.client.dto.UserRegistrationResult;
+import com.vingame.bot.infrastructure.configuration.ConfigCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -27,6 +27,7 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.regex.Pattern;
@@ -37,32 +38,36 @@ public class BotGroupService {
 
     private final BotGroupRepository repository;
     private final BotGroupMapper mapper;
-    private final EnvironmentClientRegistry clientRegistry;
+    private final RegistrationJobService registrationJobService;
     private final EnvironmentService environmentService;
     private final GameService gameService;
     private final MongoTemplate mongoTemplate;
     private final BotGroupConfigValidationService configValidation;
     private final BotGroupBehaviorService behaviorService;
+    private final ConfigCache configCache;
 
     public BotGroupService(BotGroupRepository repository, BotGroupMapper mapper,
-                           EnvironmentClientRegistry clientRegistry,
+                           RegistrationJobService registrationJobService,
                            EnvironmentService environmentService,
                            GameService gameService,
                            MongoTemplate mongoTemplate,
                            BotGroupConfigValidationService configValidation,
-                           @Lazy BotGroupBehaviorService behaviorService) {
+                           @Lazy BotGroupBehaviorService behaviorService,
+                           ConfigCache configCache) {
         this.repository = repository;
         this.mapper = mapper;
-        this.clientRegistry = clientRegistry;
+        this.registrationJobService = registrationJobService;
         this.environmentService = environmentService;
         this.gameService = gameService;
         this.mongoTemplate = mongoTemplate;
         this.configValidation = configValidation;
         this.behaviorService = behaviorService;
+        this.configCache = configCache != null ? configCache : ConfigCache.disabled();
     }
 
+    /** Read through the {@link ConfigCache}; the returned group is the caller's own copy. */
     public BotGroup findById(String id) {
-        return repository.findById(id)
+        return configCache.botGroups().get(id, repository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("BotGroup not found"));
     }
 
@@ -87,6 +92,21 @@ public class BotGroupService {
         return repository.findByGameId(gameId);
     }
 
+    /**
+     * The bot groups referencing any of {@code gameIds}, in one {@code $in} query
+     * (served by the {@code gameId} index). Only {@code id}, {@code gameId} and
+     * {@code botCount} are loaded — enough for the game-filter aggregates, without
+     * pulling each group's full config.
+     */
+    public List<BotGroup> findSummariesByGameIds(Collection<String> gameIds) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(Criteria.where("gameId").in(gameIds));
+        query.fields().include("gameId", "botCount");
+        return mongoTemplate.find(query, BotGroup.class);
+    }
+
     /**
      * Filter bot groups within a single environment. The environment is taken
      * from the path (mandatory) per BOTGROUP_GAME_MANAGEMENT AD-5 — it is no
@@ -156,12 +176,13 @@ public class BotGroupService {
             } else {
                 validateUsernameLength(botGroup);
 
-                EnvironmentClients clients = clientRegistry.getClients(botGroup.getEnvironmentId());
-
                 log.info("Registering {} users with prefix '{}' and password '{}'",
                          botGroup.getBotCount(), botGroup.getNamePrefix(), botGroup.getPassword());
 
-                UserRegistrationResult registrationResult = clients.getApiGatewayClient().registerUsers(
+                // Runs as a checkpointed registration job: users that already exist in
+                // the environment are skipped, and display names follow in the background.
+                UserRegistrationResult registrationResult = registrationJobService.register(
+                        botGroup.getEnvironmentId(),
                         botGroup.getNamePrefix(),
                         botGroup.getPassword(),
                         botGroup.getBotCount());
@@ -204,7 +225,9 @@ public class BotGroupService {
         }
         botGroup.setUpdatedAt(now);
 
-        return repository.save(botGroup);
+        BotGroup saved = repository.save(botGroup);
+        written(saved);
+        return saved;
     }
 
     /**
@@ -308,7 +331,7 @@ public class BotGroupService {
     public void setActivationMode(BotGroup group, ActivationMode mode) {
         group.setActivationMode(mode);
         group.setUpdatedAt(Instant.now());
-        repository.save(group);
+        written(repository.save(group));
     }
 
     public BotGroup update(String id, BotGroupDTO updateDTO) {
@@ -334,5 +357,15 @@ public class BotGroupService {
     public void delete(String id) {
         behaviorService.stopAndLogout(id);
         repository.deleteById(id);
+        configCache.botGroups().evict(id);
+        behaviorService.evictFilterRows(null);
+    }
+
+    /** Cache the saved group and drop the filter rows it may have changed. */
+    private void written(BotGroup saved) {
+        configCache.botGroups().put(saved);
+        if (behaviorService != null) {
+            behaviorService.evictFilterRows(saved.getEnvironmentId());
+        }
     }
 }
@@ -1,7 +1,11 @@
 package com.vingame.bot.domain.botgroup.sort;
 
+import com.vingame.bot.common.exception.BadRequestException;
+
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /**
  * In-memory sort for the env-scoped bot-group filter (BOTGROUP_GAME_MANAGEMENT
@@ -35,6 +39,50 @@ public final class BotGroupSorter {
         return rows.stream().sorted(comparator(key, direction)).toList();
     }
 
+    /**
+     * One page of the sorted rows: the same order as {@link #sort}, without sorting
+     * the rows that do not make the page. Keeps the first {@code (page + 1) * size}
+     * rows in a bounded heap (O(n log k)), so a first page over thousands of groups
+     * costs little more than a scan.
+     *
+     * @param page zero-based page index
+     * @param size rows per page
+     * @return the page's rows, empty past the last page
+     * @throws BadRequestException if {@code page} is negative or {@code size} is not positive
+     */
+    public static List<BotGroupSortRow> page(List<BotGroupSortRow> rows, String sortBy, String sortDir,
+                                             int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new BadRequestException("Invalid page " + page + " / size " + size
+                    + ": page must be >= 0 and size >= 1");
+        }
+        Comparator<BotGroupSortRow> order = comparator(BotSortKey.resolve(sortBy), SortDirection.resolve(sortDir));
+        // long math: page * size overflows int for a large page index.
+        long offset = (long) page * size;
+        if (offset >= rows.size()) {
+            return List.of();
+        }
+        int from = (int) offset;
+        long limit = offset + size;
+        if (limit >= rows.size()) {
+            List<BotGroupSortRow> sorted = rows.stream().sorted(order).toList();
+            return sorted.subList(from, sorted.size());
+        }
+        // Max-heap of the best `limit` rows seen so far: its head is the worst of them.
+        PriorityQueue<BotGroupSortRow> best = new PriorityQueue<>((int) limit + 1, order.reversed());
+        for (BotGroupSortRow row : rows) {
+            if (best.size() < limit) {
+                best.add(row);
+            } else if (order.compare(row, best.peek()) < 0) {
+                best.poll();
+                best.add(row);
+            }
+        }
+        List<BotGroupSortRow> top = new ArrayList<>(best);
+        top.sort(order);
+        return List.copyOf(top.subList(from, top.size()));
+    }
+
     /**
      * Build the AD-12 comparator for a resolved key/direction. Package-visible so
      * the comparator can be unit-tested directly.
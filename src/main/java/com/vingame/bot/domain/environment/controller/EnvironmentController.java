@@ -102,11 +102,12 @@ public class EnvironmentController {
 
     @Operation(
             summary = "Create a new environment",
-            description = "Returns the freshly created environment complete with the actual id")
+            description = "Returns the freshly created environment complete with the actual id. "
+                    + "periodicLogoutIntervalMinutes is deprecated and ignored: connections are recycled on the fleet-wide bot.recycle.rotation-minutes.")
     @PostMapping("/")
     public ResponseEntity<EnvironmentDTO> save(
             @Parameter(description = "Environment body to save in the database",
-                    example = "{\"name\":\"BOM Staging\",\"type\":\"STAGING\",\"brandCode\":\"G2\",\"productCode\":\"097\",\"webSocketMiniUrl\":\"wss://bom-sock.stgame.win/mini\",\"hostUrl\":\"https://bom.stgame.win\",\"apiGatewayUrl\":\"https://bomgw.stgame.win\",\"headers\":{\"Origin\":\"https://bom.stgame.win\"},\"customZone\":false,\"binaryFrame\":false,\"miniZoneName\":\"MiniGame3\",\"alertOnLowBalance\":true,\"useJwtAuth\":false,\"periodicLogoutEnabled\":true,\"periodicLogoutIntervalMinutes\":60}")
+                    example = "{\"name\":\"BOM Staging\",\"type\":\"STAGING\",\"brandCode\":\"G2\",\"productCode\":\"097\",\"webSocketMiniUrl\":\"wss://bom-sock.stgame.win/mini\",\"hostUrl\":\"https://bom.stgame.win\",\"apiGatewayUrl\":\"https://bomgw.stgame.win\",\"headers\":{\"Origin\":\"https://bom.stgame.win\"},\"customZone\":false,\"binaryFrame\":false,\"miniZoneName\":\"MiniGame3\",\"alertOnLowBalance\":true,\"useJwtAuth\":false,\"periodicLogoutEnabled\":true}")
             @RequestBody EnvironmentDTO environmentDTO) {
         Environment environment = mapper.toEntity(environmentDTO);
         Environment saved = service.save(environment);
@@ -115,12 +116,13 @@ public class EnvironmentController {
 
     @Operation(
             summary = "Update existing environment",
-            description = "Returns the new version of the environment updated with the provided fields. Only non-null fields in the DTO will be updated.")
+            description = "Returns the new version of the environment updated with the provided fields. Only non-null fields in the DTO will be updated. "
+                    + "periodicLogoutIntervalMinutes is deprecated and ignored: connections are recycled on the fleet-wide bot.recycle.rotation-minutes.")
     @PatchMapping("/{id}")
     public ResponseEntity<EnvironmentDTO> update(
             @PathVariable @Parameter(description = "ID of the environment to update", example = "123") String id,
             @Parameter(description = "Environment DTO containing the fields that need updating (only non-empty Optional fields will be updated)",
-                    example = "{\"periodicLogoutEnabled\":true,\"periodicLogoutIntervalMinutes\":30,\"alertOnLowBalance\":true}")
+                    example = "{\"periodicLogoutEnabled\":true,\"alertOnLowBalance\":true}")
             @RequestBody EnvironmentDTO environmentDTO) {
         Environment updated = service.update(id, environmentDTO);
         return ResponseEntity.ok(mapper.toDTO(updated));
@@ -51,6 +51,12 @@ public class EnvironmentDTO {
 
     // Periodic logout configuration (null = use global defaults)
     private Boolean periodicLogoutEnabled;
+    /**
+     * @deprecated ignored: connections are recycled on the fleet-wide
+     *             {@code bot.recycle.rotation-minutes}. Still read and echoed so
+     *             existing clients keep working; will be removed.
+     */
+    @Deprecated
     private Integer periodicLogoutIntervalMinutes;
 
     // Aggregated bot group stats (read-only, populated on GET responses)
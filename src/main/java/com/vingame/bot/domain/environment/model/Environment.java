@@ -12,6 +12,7 @@ import lombok.Setter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Getter
@@ -70,6 +71,11 @@ public class Environment {
 
     // Periodic logout configuration (null = use global defaults from application.properties)
     private Boolean periodicLogoutEnabled;
+    /**
+     * @deprecated no longer used: recycling runs on the fleet-wide
+     *             {@code bot.recycle.rotation-minutes}. Kept so existing documents load.
+     */
+    @Deprecated
     private Integer periodicLogoutIntervalMinutes;
 
     /**
@@ -103,4 +109,11 @@ public class Environment {
         }
         return mini ? DEFAULT_MINI_ZONE_NAME : DEFAULT_CARD_ZONE_NAME;
     }
+
+    /** An independent copy: {@link #headers} is copied too, so editing the copy cannot change this environment. */
+    public Environment copy() {
+        return toBuilder()
+                .headers(headers == null ? null : new LinkedHashMap<>(headers))
+                .build();
+    }
 }
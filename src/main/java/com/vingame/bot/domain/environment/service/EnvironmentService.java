@@ -14,6 +14,7 @@ import com.vingame.bot.domain.botgroup.model.BotGroup;
 import com.vingame.bot.domain.botgroup.service.BotGroupService;
 import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.domain.game.service.GameService;
+import com.vingame.bot.infrastructure.configuration.ConfigCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -36,24 +37,25 @@ public class EnvironmentService {
     private final MongoTemplate mongoTemplate;
     private final GameService gameService;
     private final BotGroupService botGroupService;
+    private final ConfigCache configCache;
 
     @Value("${bot.periodic-logout.enabled:true}")
     private boolean defaultPeriodicLogoutEnabled;
 
-    @Value("${bot.periodic-logout.interval-minutes:60}")
-    private int defaultPeriodicLogoutIntervalMinutes;
-
     public EnvironmentService(EnvironmentRepository repository, EnvironmentMapper mapper, MongoTemplate mongoTemplate,
-                              GameService gameService, @Lazy BotGroupService botGroupService) {
+                              GameService gameService, @Lazy BotGroupService botGroupService,
+                              ConfigCache configCache) {
         this.repository = repository;
         this.mapper = mapper;
         this.mongoTemplate = mongoTemplate;
         this.gameService = gameService;
         this.botGroupService = botGroupService;
+        this.configCache = configCache != null ? configCache : ConfigCache.disabled();
     }
 
+    /** Read through the {@link ConfigCache}; the returned environment is the caller's own copy. */
     public Environment findById(String id) {
-        return repository.findById(id)
+        return configCache.environments().get(id, repository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Environment not found"));
     }
 
@@ -84,16 +86,15 @@ public class EnvironmentService {
         if (environment.getId() == null || environment.getId().isEmpty()) {
             environment.setId(UUID.randomUUID().toString());
         }
-        return repository.save(environment);
+        Environment saved = repository.save(environment);
+        configCache.environments().put(saved);
+        return saved;
     }
 
     private void applyPeriodicLogoutDefaults(Environment environment) {
         if (environment.getPeriodicLogoutEnabled() == null) {
             environment.setPeriodicLogoutEnabled(defaultPeriodicLogoutEnabled);
         }
-        if (environment.getPeriodicLogoutIntervalMinutes() == null) {
-            environment.setPeriodicLogoutIntervalMinutes(defaultPeriodicLogoutIntervalMinutes);
-        }
     }
 
     public Environment update(String id, EnvironmentDTO updateDTO) {
@@ -102,7 +103,9 @@ public class EnvironmentService {
         }
         Environment existing = findById(id);
         mapper.updateEntityFromDTO(updateDTO, existing);
-        return repository.save(existing);
+        Environment saved = repository.save(existing);
+        configCache.environments().put(saved);
+        return saved;
     }
 
     /**
@@ -156,5 +159,6 @@ public class EnvironmentService {
             botGroupService.delete(group.getId());
         }
         repository.deleteById(id);
+        configCache.environments().evict(id);
     }
 }
@@ -10,12 +10,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
 @Getter
@@ -166,6 +170,23 @@ public class Game {
     @Setter(AccessLevel.PACKAGE)
     private List<Integer> bettingOptions;
 
+    /**
+     * The flat-prior map {@link #getEffectiveOptionAffinities()} last synthesized from
+     * the legacy fields, with the inputs it came from. Strategies pick options every
+     * tick and their pickers cache by map identity, so a legacy game must hand out
+     * the same map until its configuration changes rather than a new one per call.
+     * Never persisted or serialized.
+     */
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient volatile SynthesizedAffinities synthesizedAffinities;
+
+    private record SynthesizedAffinities(List<Integer> bettingOptions, Integer numberOfOptions,
+                                         Map<Integer, Integer> affinities) {
+    }
+
     /**
      * Returns the effective option-affinity map.
      * <ul>
@@ -182,7 +203,9 @@ public class Game {
      *       set is misconfigured.</li>
      * </ul>
      * Read-side fallback only; never written back to Mongo. The Phase 6 migration
-     * persists the synthesized map and {@code $unset}s the legacy fields.
+     * persists the synthesized map and {@code $unset}s the legacy fields. A synthesized
+     * map is unmodifiable and handed out again on every call until a legacy field is
+     * replaced.
      */
     /**
      * The two fixed Tài/Xỉu entries a Tai Xiu game always offers, as a flat-prior
@@ -250,6 +273,17 @@ public class Game {
         if (optionAffinities != null && !optionAffinities.isEmpty()) {
             return optionAffinities;
         }
+        SynthesizedAffinities cached = synthesizedAffinities;
+        if (cached != null && cached.bettingOptions() == bettingOptions
+                && Objects.equals(cached.numberOfOptions(), numberOfOptions)) {
+            return cached.affinities();
+        }
+        Map<Integer, Integer> synthesized = Collections.unmodifiableMap(synthesizeLegacyAffinities());
+        synthesizedAffinities = new SynthesizedAffinities(bettingOptions, numberOfOptions, synthesized);
+        return synthesized;
+    }
+
+    private Map<Integer, Integer> synthesizeLegacyAffinities() {
         if (bettingOptions != null && !bettingOptions.isEmpty()) {
             Map<Integer, Integer> synthesized = new LinkedHashMap<>(bettingOptions.size());
             for (Integer opt : bettingOptions) {
@@ -267,4 +301,15 @@ public class Game {
         throw new IllegalStateException(
                 "Game " + id + " (" + name + ") has neither optionAffinities nor legacy numberOfOptions set");
     }
+
+    /**
+     * An independent copy: the option collections (including the legacy
+     * {@link #bettingOptions}) are copied too, so editing the copy cannot change this game.
+     */
+    public Game copy() {
+        return toBuilder()
+                .optionAffinities(optionAffinities == null ? null : new LinkedHashMap<>(optionAffinities))
+                .bettingOptions(bettingOptions == null ? null : new ArrayList<>(bettingOptions))
+                .build();
+    }
 }
@@ -8,9 +8,11 @@ import com.vingame.bot.domain.game.dto.GameDTO;
 import com.vingame.bot.domain.game.mapper.GameMapper;
 import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.domain.game.model.GameFilter;
+import com.vingame.bot.domain.game.model.GameType;
 import com.vingame.bot.domain.botgroup.model.BotGroup;
 import com.vingame.bot.domain.botgroup.service.BotGroupService;
 import com.vingame.bot.domain.game.repository.GameRepository;
+import com.vingame.bot.infrastructure.configuration.ConfigCache;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -18,7 +20,11 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
@@ -29,20 +35,47 @@ public class GameService {
     private final GameMapper mapper;
     private final MongoTemplate mongoTemplate;
     private final BotGroupService botGroupService;
+    private final ConfigCache configCache;
 
     public GameService(GameRepository repository, GameMapper mapper, MongoTemplate mongoTemplate,
-                       @Lazy BotGroupService botGroupService) {
+                       @Lazy BotGroupService botGroupService, ConfigCache configCache) {
         this.repository = repository;
         this.mapper = mapper;
         this.mongoTemplate = mongoTemplate;
         this.botGroupService = botGroupService;
+        this.configCache = configCache != null ? configCache : ConfigCache.disabled();
     }
 
+    /** Read through the {@link ConfigCache}; the returned game is the caller's own copy. */
     public Game findById(String id) {
-        return repository.findById(id)
+        return configCache.games().get(id, repository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Game not found with id: " + id));
     }
 
+    /**
+     * The {@code gameType} of each of {@code ids}: from the {@link ConfigCache} where
+     * cached, the rest in one {@code $in} query loading only that field. Ids with no
+     * game (deleted out from under a group) are absent from the map.
+     */
+    public Map<String, GameType> findGameTypes(Collection<String> ids) {
+        Map<String, GameType> types = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            configCache.games().peek(id).ifPresentOrElse(
+                    game -> types.put(id, game.getGameType()),
+                    () -> misses.add(id));
+        }
+        if (misses.isEmpty()) {
+            return types;
+        }
+        Query query = new Query(Criteria.where("_id").in(misses));
+        query.fields().include("gameType");
+        for (Game game : mongoTemplate.find(query, Game.class)) {
+            types.put(game.getId(), game.getGameType());
+        }
+        return types;
+    }
+
     /**
      * All games belonging to an environment (strict {@code environmentId} match).
      * Backs the Environment→Games cascade delete (BOTGROUP_GAME_MANAGEMENT
@@ -121,7 +154,9 @@ public class GameService {
             game.setCreatedAt(now);
         }
         game.setUpdatedAt(now);
-        return repository.save(game);
+        Game saved = repository.save(game);
+        configCache.games().put(saved);
+        return saved;
     }
 
     /**
@@ -157,5 +192,6 @@ public class GameService {
             botGroupService.delete(group.getId());
         }
         repository.deleteById(id);
+        configCache.games().evict(id);
     }
 }
@@ -0,0 +1,64 @@
+package com.vingame.bot.domain.registration.controller;
+
+import com.vingame.bot.domain.registration.dto.RegistrationJobDTO;
+import com.vingame.bot.domain.registration.mapper.RegistrationJobMapper;
+import com.vingame.bot.domain.registration.model.RegistrationJob;
+import com.vingame.bot.domain.registration.service.RegistrationJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Exception handling is delegated to
+ * {@link com.vingame.bot.common.exception.RestExceptionHandler}.
+ */
+@RestController
+@RequestMapping("api/v1/registration-jobs")
+public class RegistrationJobController {
+
+    private final RegistrationJobService service;
+    private final RegistrationJobMapper mapper;
+
+    @Autowired
+    public RegistrationJobController(RegistrationJobService service, RegistrationJobMapper mapper) {
+        this.service = service;
+        this.mapper = mapper;
+    }
+
+    @Operation(summary = "Find registration job by ID", description = "Includes progress and, while registering, an ETA")
+    @GetMapping("/{id}")
+    public ResponseEntity<RegistrationJobDTO> findById(
+            @PathVariable @Parameter(description = "Registration job ID") String id) {
+        return ResponseEntity.ok(mapper.toDTO(service.findById(id)));
+    }
+
+    @Operation(
+            summary = "List registration jobs",
+            description = "Returns all registration jobs, optionally filtered by environmentId (newest first)")
+    @GetMapping("/")
+    public ResponseEntity<List<RegistrationJobDTO>> findAll(
+            @RequestParam(required = false) @Parameter(description = "Filter by environment ID") String environmentId) {
+        List<RegistrationJob> jobs = environmentId != null
+                ? service.findByEnvironmentId(environmentId)
+                : service.findAll();
+        return ResponseEntity.ok(jobs.stream().map(mapper::toDTO).toList());
+    }
+
+    @Operation(
+            summary = "Resume a registration job",
+            description = "Re-runs the job in the background, registering only the users still missing")
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<RegistrationJobDTO> resume(
+            @PathVariable @Parameter(description = "Registration job ID") String id) {
+        return ResponseEntity.accepted().body(mapper.toDTO(service.resume(id)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.vingame.bot.domain.registration.dto;
+
+import com.vingame.bot.domain.registration.model.RegistrationJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationJobDTO {
+
+    private String id;
+    private String environmentId;
+    private String namePrefix;
+    private Integer botCount;
+
+    private RegistrationJobStatus status;
+    private Integer runs;
+
+    private Integer registered;
+    private Integer skipped;
+    private Integer failed;
+    private Integer displayNamesSet;
+
+    /** Share of {@code botCount} registered, 0..100. */
+    private Double progressPercent;
+
+    /** Estimated seconds until the running registration stage finishes; null when not running or unknown. */
+    private Long etaSeconds;
+
+    private List<String> errors;
+
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant runStartedAt;
+    private Instant finishedAt;
+}
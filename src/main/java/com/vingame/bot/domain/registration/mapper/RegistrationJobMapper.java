@@ -0,0 +1,66 @@
+package com.vingame.bot.domain.registration.mapper;
+
+import com.vingame.bot.domain.registration.dto.RegistrationJobDTO;
+import com.vingame.bot.domain.registration.model.RegistrationJob;
+import com.vingame.bot.domain.registration.model.RegistrationJobStatus;
+import org.mapstruct.Mapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Read-only mapping: jobs are created by the registration pipeline, never from a DTO.
+ * The password stays out of the DTO.
+ */
+@Mapper(componentModel = "spring")
+public interface RegistrationJobMapper {
+
+    default RegistrationJobDTO toDTO(RegistrationJob entity) {
+        return toDTO(entity, Instant.now());
+    }
+
+    default RegistrationJobDTO toDTO(RegistrationJob entity, Instant now) {
+        if (entity == null) {
+            return null;
+        }
+
+        return RegistrationJobDTO.builder()
+                .id(entity.getId())
+                .environmentId(entity.getEnvironmentId())
+                .namePrefix(entity.getNamePrefix())
+                .botCount(entity.getBotCount())
+                .status(entity.getStatus())
+                .runs(entity.getRuns())
+                .registered(entity.getRegistered())
+                .skipped(entity.getSkipped())
+                .failed(entity.getFailed())
+                .displayNamesSet(entity.getDisplayNamesSet())
+                .progressPercent(entity.getBotCount() == 0
+                        ? 100.0 : entity.getRegistered() * 100.0 / entity.getBotCount())
+                .etaSeconds(etaSeconds(entity, now))
+                .errors(entity.getErrors() == null ? List.of() : List.copyOf(entity.getErrors()))
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .runStartedAt(entity.getRunStartedAt())
+                .finishedAt(entity.getFinishedAt())
+                .build();
+    }
+
+    /**
+     * Remaining users over the running stage's throughput so far. Users skipped at the
+     * start of the run took no time, so they count toward neither.
+     */
+    default Long etaSeconds(RegistrationJob entity, Instant now) {
+        if (entity.getStatus() != RegistrationJobStatus.REGISTERING || entity.getRunStartedAt() == null) {
+            return null;
+        }
+        int processed = entity.getRegistered() - entity.getSkipped() + entity.getFailed();
+        long elapsedMillis = Duration.between(entity.getRunStartedAt(), now).toMillis();
+        if (processed <= 0 || elapsedMillis <= 0) {
+            return null;
+        }
+        int remaining = Math.max(0, entity.getBotCount() - entity.getRegistered() - entity.getFailed());
+        return Math.round(remaining * (elapsedMillis / 1000.0) / processed);
+    }
+}
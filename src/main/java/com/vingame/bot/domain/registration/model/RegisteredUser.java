@@ -0,0 +1,40 @@
+package com.vingame.bot.domain.registration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Checkpoint of one user known to exist on an environment's gateway. The id is
+ * {@link #key(String, String)}, so a user is recorded once per environment no matter
+ * how many jobs or runs touched it.
+ */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "registeredUsers")
+public class RegisteredUser {
+
+    @Id
+    private String id;
+
+    private String environmentId;
+    private String username;
+    private String jobId;
+    private Instant registeredAt;
+
+    /** Whether the display-name stage is done with this user. */
+    private boolean displayNameSet;
+
+    public static String key(String environmentId, String username) {
+        return environmentId + ":" + username;
+    }
+}
@@ -0,0 +1,56 @@
+package com.vingame.bot.domain.registration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One bulk registration of {@code namePrefix1..namePrefix<botCount>} in an
+ * environment. Which users exist is recorded per user in {@link RegisteredUser};
+ * the job holds the counters the API reports, checkpointed as the run goes.
+ * <p>
+ * The counters describe the latest run: {@code registered} is every user of the job
+ * known to exist (including {@code skipped}, the ones that already existed when the
+ * run started), {@code failed} the ones that run could not register.
+ */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "registrationJobs")
+public class RegistrationJob {
+
+    @Id
+    private String id;
+
+    private String environmentId;
+    private String namePrefix;
+    private String password;
+    private int botCount;
+
+    private RegistrationJobStatus status;
+    private int runs;
+
+    // Progress of the latest run
+    private int registered;
+    private int skipped;
+    private int failed;
+    private int displayNamesSet;
+
+    @Builder.Default
+    private List<String> errors = new ArrayList<>();
+
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant runStartedAt;
+    private Instant finishedAt;
+}
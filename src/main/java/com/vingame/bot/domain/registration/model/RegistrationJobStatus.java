@@ -0,0 +1,17 @@
+package com.vingame.bot.domain.registration.model;
+
+/**
+ * Lifecycle of a {@link RegistrationJob}.
+ */
+public enum RegistrationJobStatus {
+    /** Registering the job's missing users. */
+    REGISTERING,
+    /** Every user is accounted for; display names are being set in the background. */
+    NAMING,
+    /** Every user is registered (display names are best effort). */
+    COMPLETED,
+    /** Finished with users that failed to register; resuming redoes only those. */
+    INCOMPLETE,
+    /** The run was aborted (interrupted, or the environment could not be reached). */
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.vingame.bot.domain.registration.repository;
+
+import com.vingame.bot.domain.registration.model.RegisteredUser;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface RegisteredUserRepository extends MongoRepository<RegisteredUser, String> {
+
+    List<RegisteredUser> findByJobIdAndDisplayNameSetFalse(String jobId);
+}
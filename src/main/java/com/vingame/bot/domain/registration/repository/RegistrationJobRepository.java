@@ -0,0 +1,11 @@
+package com.vingame.bot.domain.registration.repository;
+
+import com.vingame.bot.domain.registration.model.RegistrationJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface RegistrationJobRepository extends MongoRepository<RegistrationJob, String> {
+
+    List<RegistrationJob> findByEnvironmentIdOrderByCreatedAtDesc(String environmentId);
+}
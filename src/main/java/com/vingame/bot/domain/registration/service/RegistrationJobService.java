@@ -0,0 +1,437 @@
+package com.vingame.bot.domain.registration.service;
+
+import com.vingame.bot.common.exception.BadRequestException;
+import com.vingame.bot.common.exception.RegistrationRejectedException;
+import com.vingame.bot.common.exception.ResourceNotFoundException;
+import com.vingame.bot.config.client.EnvironmentClientRegistry;
+import com.vingame.bot.domain.registration.model.RegisteredUser;
+import com.vingame.bot.domain.registration.model.RegistrationJob;
+import com.vingame.bot.domain.registration.model.RegistrationJobStatus;
+import com.vingame.bot.domain.registration.repository.RegisteredUserRepository;
+import com.vingame.bot.domain.registration.repository.RegistrationJobRepository;
+import com.vingame.bot.infrastructure.client.ApiGatewayClient;
+import com.vingame.bot.infrastructure.client.DisplayNameService;
+import com.vingame.bot.infrastructure.client.dto.UserRegistrationResult;
+import com.vingame.bot.infrastructure.runtime.CreationLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resumable bulk user registration.
+ * <p>
+ * A job registers {@code namePrefix1..namePrefix<botCount>} in two stages:
+ * <ol>
+ *   <li><b>Registration</b> — users already checkpointed in {@link RegisteredUser}
+ *       are skipped; the rest go out as non-blocking gateway calls admitted by a
+ *       per-environment adaptive {@link CreationLimiter} ({@code bot.registration.*}),
+ *       which grows while the register endpoint keeps up and halves on timeouts.
+ *       Each registered user is checkpointed; checkpoints and the job's counters are
+ *       written in batches ({@code bot.registration.checkpoint-batch} users, or at
+ *       least every second). A gateway rejection saying the user already exists
+ *       counts as registered, so a run that died after the gateway accepted a user
+ *       but before the checkpoint landed converges on the next run.</li>
+ *   <li><b>Display names</b> — in the background, at a small fixed parallelism
+ *       ({@code bot.registration.display-name-parallelism}), for the users this job
+ *       registered. Best effort, as before: a bot without a display name still plays.</li>
+ * </ol>
+ * Re-running a job ({@link #resume}) repeats stage 1 for the users still missing,
+ * then stage 2 for the ones still unnamed. A job runs at most once at a time in
+ * this process.
+ */
+@Slf4j
+@Service
+public class RegistrationJobService {
+
+    private static final int MAX_ERRORS = 20;
+    private static final int DISPLAY_NAME_ATTEMPTS = 5;
+    private static final int LOOKUP_CHUNK = 1_000;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RegistrationJobRepository jobRepository;
+    private final RegisteredUserRepository userRepository;
+    private final EnvironmentClientRegistry clientRegistry;
+    private final DisplayNameService displayNameService;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int checkpointBatch;
+    private final int displayNameParallelism;
+    private final Set<Integer> duplicateUserCodes;
+
+    private final ConcurrentHashMap<String, CreationLimiter> limiters = new ConcurrentHashMap<>();
+    private final Set<String> active = ConcurrentHashMap.newKeySet();
+
+    public RegistrationJobService(RegistrationJobRepository jobRepository,
+                                  RegisteredUserRepository userRepository,
+                                  EnvironmentClientRegistry clientRegistry,
+                                  DisplayNameService displayNameService,
+                                  @Value("${bot.registration.parallelism:10}") int initialLimit,
+                                  @Value("${bot.registration.min-parallelism:2}") int minLimit,
+                                  @Value("${bot.registration.max-parallelism:100}") int maxLimit,
+                                  @Value("${bot.registration.checkpoint-batch:200}") int checkpointBatch,
+                                  @Value("${bot.registration.display-name-parallelism:2}") int displayNameParallelism,
+                                  @Value("${bot.registration.duplicate-user-codes:}") Set<Integer> duplicateUserCodes) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.clientRegistry = clientRegistry;
+        this.displayNameService = displayNameService;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.checkpointBatch = Math.max(1, checkpointBatch);
+        this.displayNameParallelism = Math.max(1, displayNameParallelism);
+        this.duplicateUserCodes = duplicateUserCodes == null ? Set.of() : Set.copyOf(duplicateUserCodes);
+    }
+
+    public RegistrationJob findById(String id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Registration job not found with id: " + id));
+    }
+
+    public List<RegistrationJob> findAll() {
+        return jobRepository.findAll();
+    }
+
+    public List<RegistrationJob> findByEnvironmentId(String environmentId) {
+        return jobRepository.findByEnvironmentIdOrderByCreatedAtDesc(environmentId);
+    }
+
+    /**
+     * Create a job and run its registration stage on the calling thread; the
+     * display-name stage continues in the background.
+     *
+     * @return the registration stage's outcome, in the shape bot-group creation expects
+     * @throws ResourceNotFoundException if the environment doesn't exist
+     */
+    public UserRegistrationResult register(String environmentId, String namePrefix, String password, int count) {
+        ApiGatewayClient client = clientRegistry.getClients(environmentId).getApiGatewayClient();
+
+        Instant now = Instant.now();
+        RegistrationJob job = RegistrationJob.builder()
+                .id(UUID.randomUUID().toString())
+                .environmentId(environmentId)
+                .namePrefix(namePrefix)
+                .password(password)
+                .botCount(count)
+                .status(RegistrationJobStatus.REGISTERING)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        active.add(job.getId());
+        log.info("Registration job {} created: {} users with prefix '{}' in environment {}",
+                job.getId(), count, namePrefix, environmentId);
+
+        return run(job, client);
+    }
+
+    /**
+     * Re-run a job in the background: registers only the users still missing, then
+     * names the ones still unnamed.
+     *
+     * @throws BadRequestException if the job is already running
+     */
+    public RegistrationJob resume(String jobId) {
+        RegistrationJob job = findById(jobId);
+        if (!active.add(jobId)) {
+            throw new BadRequestException("Registration job " + jobId + " is already running");
+        }
+        ApiGatewayClient client;
+        try {
+            client = clientRegistry.getClients(job.getEnvironmentId()).getApiGatewayClient();
+        } catch (RuntimeException e) {
+            active.remove(jobId);
+            throw e;
+        }
+        job.setStatus(RegistrationJobStatus.REGISTERING);
+        job.setUpdatedAt(Instant.now());
+        jobRepository.save(job);
+
+        log.info("Resuming registration job {} ({} users with prefix '{}')",
+                jobId, job.getBotCount(), job.getNamePrefix());
+        Thread.ofVirtual().name("registration-" + jobId).start(() -> run(job, client));
+        return job;
+    }
+
+    private UserRegistrationResult run(RegistrationJob job, ApiGatewayClient client) {
+        boolean naming = false;
+        try {
+            new RegistrationRun(job, client).execute();
+            naming = job.getStatus() != RegistrationJobStatus.FAILED;
+            if (naming) {
+                Thread.ofVirtual().name("registration-names-" + job.getId())
+                        .start(() -> nameUsers(job, client));
+            }
+        } catch (RuntimeException e) {
+            log.error("Registration job {} failed", job.getId(), e);
+            job.setStatus(RegistrationJobStatus.FAILED);
+            addError(job, e.getMessage());
+            finish(job);
+        } finally {
+            if (!naming) {
+                active.remove(job.getId());
+            }
+        }
+        return UserRegistrationResult.builder()
+                .totalRequested(job.getBotCount())
+                .successCount(job.getRegistered())
+                .failureCount(job.getBotCount() - job.getRegistered())
+                .errors(List.copyOf(job.getErrors()))
+                .build();
+    }
+
+    /** Stage 1 of one run of one job; owned by a single thread. */
+    private final class RegistrationRun {
+
+        private record Completion(String username, Throwable failure) {}
+
+        private final RegistrationJob job;
+        private final ApiGatewayClient client;
+        private final BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        private final List<RegisteredUser> pending = new ArrayList<>();
+        private long lastFlush = System.nanoTime();
+
+        RegistrationRun(RegistrationJob job, ApiGatewayClient client) {
+            this.job = job;
+            this.client = client;
+        }
+
+        void execute() {
+            List<String> usernames = new ArrayList<>(job.getBotCount());
+            for (int i = 1; i <= job.getBotCount(); i++) {
+                usernames.add(job.getNamePrefix() + i);
+            }
+            Set<String> existing = checkpointed(job.getEnvironmentId(), usernames);
+
+            job.setRuns(job.getRuns() + 1);
+            job.setRunStartedAt(Instant.now());
+            job.setFinishedAt(null);
+            job.setRegistered(existing.size());
+            job.setSkipped(existing.size());
+            job.setFailed(0);
+            job.setErrors(new ArrayList<>());
+            job.setUpdatedAt(job.getRunStartedAt());
+            jobRepository.save(job);
+            log.info("Registration job {} run {}: {} of {} users already registered",
+                    job.getId(), job.getRuns(), existing.size(), job.getBotCount());
+
+            CreationLimiter limiter = limiter(job.getEnvironmentId());
+            int submitted = 0;
+            int settled = 0;
+            try {
+                for (String username : usernames) {
+                    if (existing.contains(username)) {
+                        continue;
+                    }
+                    long admittedAt = limiter.acquire();
+                    submitted++;
+                    client.registerUserAsync(username, job.getPassword()).whenComplete((result, failure) -> {
+                        limiter.release(admittedAt, failure == null
+                                ? CreationLimiter.Outcome.SUCCESS : CreationLimiter.classify(failure));
+                        completions.add(new Completion(username, failure));
+                    });
+                    settled += drain();
+                }
+                while (settled < submitted) {
+                    Completion completion = completions.poll(FLUSH_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+                    if (completion != null) {
+                        settle(completion);
+                        settled++;
+                    }
+                    flush(false);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                settled += drain();
+                job.setFailed(job.getBotCount() - job.getRegistered());
+                job.setStatus(RegistrationJobStatus.FAILED);
+                addError(job, "Interrupted after " + settled + " of " + submitted + " requests settled");
+                log.warn("Registration job {} interrupted; resume it to finish", job.getId());
+            }
+            flush(true);
+
+            if (job.getStatus() != RegistrationJobStatus.FAILED) {
+                job.setStatus(RegistrationJobStatus.NAMING);
+                jobRepository.save(job);
+            }
+            log.info("Registration job {} run {} registered {}/{} users ({} skipped, {} failed)",
+                    job.getId(), job.getRuns(), job.getRegistered(), job.getBotCount(),
+                    job.getSkipped(), job.getFailed());
+        }
+
+        /** Settle whatever completed without waiting; returns how many. */
+        private int drain() {
+            int settled = 0;
+            Completion completion;
+            while ((completion = completions.poll()) != null) {
+                settle(completion);
+                settled++;
+            }
+            flush(false);
+            return settled;
+        }
+
+        private void settle(Completion completion) {
+            String username = completion.username();
+            if (completion.failure() == null) {
+                pending.add(checkpoint(username, false));
+                job.setRegistered(job.getRegistered() + 1);
+            } else if (isAlreadyRegistered(completion.failure())) {
+                // Registered by an earlier run whose checkpoint never landed: its
+                // display name may well be set, so don't touch it.
+                log.debug("User {} already exists on the gateway", username);
+                pending.add(checkpoint(username, true));
+                job.setRegistered(job.getRegistered() + 1);
+            } else {
+                job.setFailed(job.getFailed() + 1);
+                String message = String.format("Failed to register %s: %s", username, rootMessage(completion.failure()));
+                log.error(message);
+                addError(job, message);
+            }
+        }
+
+        private RegisteredUser checkpoint(String username, boolean displayNameSet) {
+            return RegisteredUser.builder()
+                    .id(RegisteredUser.key(job.getEnvironmentId(), username))
+                    .environmentId(job.getEnvironmentId())
+                    .username(username)
+                    .jobId(job.getId())
+                    .registeredAt(Instant.now())
+                    .displayNameSet(displayNameSet)
+                    .build();
+        }
+
+        private void flush(boolean force) {
+            long now = System.nanoTime();
+            if (!force && pending.size() < checkpointBatch && now - lastFlush < FLUSH_INTERVAL_NANOS) {
+                return;
+            }
+            if (!pending.isEmpty()) {
+                userRepository.saveAll(pending);
+                pending.clear();
+            }
+            job.setUpdatedAt(Instant.now());
+            jobRepository.save(job);
+            lastFlush = now;
+        }
+    }
+
+    /** Stage 2: best-effort display names for the users this job registered. */
+    private void nameUsers(RegistrationJob job, ApiGatewayClient client) {
+        try {
+            if (displayNameService.hasDisplayNames()) {
+                List<RegisteredUser> unnamed = userRepository.findByJobIdAndDisplayNameSetFalse(job.getId());
+                log.info("Registration job {}: setting display names for {} users", job.getId(), unnamed.size());
+                AtomicInteger named = new AtomicInteger();
+                Semaphore permits = new Semaphore(displayNameParallelism);
+                try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("registration-name-", 0).factory())) {
+                    for (RegisteredUser user : unnamed) {
+                        permits.acquire();
+                        executor.execute(() -> {
+                            try {
+                                if (client.setDisplayNameWithRetry(user.getUsername(), null, DISPLAY_NAME_ATTEMPTS) != null) {
+                                    user.setDisplayNameSet(true);
+                                    userRepository.save(user);
+                                    named.incrementAndGet();
+                                } else {
+                                    log.warn("Could not set display name for user {}", user.getUsername());
+                                }
+                            } catch (Exception e) {
+                                log.warn("Failed to set display name for {}: {}", user.getUsername(), e.getMessage());
+                            } finally {
+                                permits.release();
+                            }
+                        });
+                    }
+                }
+                job.setDisplayNamesSet(job.getDisplayNamesSet() + named.get());
+            }
+            job.setStatus(job.getFailed() == 0 ? RegistrationJobStatus.COMPLETED : RegistrationJobStatus.INCOMPLETE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.setStatus(job.getFailed() == 0 ? RegistrationJobStatus.COMPLETED : RegistrationJobStatus.INCOMPLETE);
+        } catch (RuntimeException e) {
+            log.error("Display-name stage of registration job {} failed", job.getId(), e);
+            job.setStatus(job.getFailed() == 0 ? RegistrationJobStatus.COMPLETED : RegistrationJobStatus.INCOMPLETE);
+        } finally {
+            finish(job);
+            active.remove(job.getId());
+        }
+    }
+
+    private void finish(RegistrationJob job) {
+        Instant now = Instant.now();
+        job.setFinishedAt(now);
+        job.setUpdatedAt(now);
+        jobRepository.save(job);
+        log.info("Registration job {} finished: {} ({}/{} registered, {} display names set)",
+                job.getId(), job.getStatus(), job.getRegistered(), job.getBotCount(), job.getDisplayNamesSet());
+    }
+
+    private Set<String> checkpointed(String environmentId, List<String> usernames) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < usernames.size(); from += LOOKUP_CHUNK) {
+            List<String> ids = usernames.subList(from, Math.min(usernames.size(), from + LOOKUP_CHUNK)).stream()
+                    .map(username -> RegisteredUser.key(environmentId, username))
+                    .toList();
+            userRepository.findAllById(ids).forEach(user -> existing.add(user.getUsername()));
+        }
+        return existing;
+    }
+
+    private CreationLimiter limiter(String environmentId) {
+        CreationLimiter limiter = limiters.get(environmentId);
+        return limiter != null ? limiter : limiters.computeIfAbsent(environmentId, id -> {
+            log.info("Created registration limiter for environment {} (initial={}, range={}..{})",
+                    id, initialLimit, minLimit, maxLimit);
+            // No meters: the creation_* names belong to CreationConcurrency's login limiters.
+            return new CreationLimiter(id, initialLimit, minLimit, maxLimit, 2.0, 0.5, null);
+        });
+    }
+
+    /**
+     * Whether the gateway rejected the registration because the username is taken:
+     * its rejection envelope carries one of {@code bot.registration.duplicate-user-codes}.
+     * Only the envelope's code counts, never its message text, since this answer
+     * writes a checkpoint that skips the user for good. With no codes configured a
+     * duplicate is an ordinary failure.
+     */
+    private boolean isAlreadyRegistered(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof RegistrationRejectedException rejected) {
+                return duplicateUserCodes.contains(rejected.getGatewayCode());
+            }
+        }
+        return false;
+    }
+
+    private static String rootMessage(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private static void addError(RegistrationJob job, String message) {
+        if (job.getErrors().size() < MAX_ERRORS) {
+            job.getErrors().add(message);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.vingame.bot.infrastructure.auth;
+
+import com.vingame.websocketparser.auth.TokensProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Gateway login results kept per (environment, username), so a bot that is built
+ * again — group start after a stop, group restart, a {@code BotFactory} rebuild — or
+ * reconnects after a watchdog trip reuses its previous session instead of logging in.
+ * <p>
+ * An entry holds the {@link TokensProvider} and the fingerprint it was issued for:
+ * the gateway binds the session to the fingerprint, so a bot that reuses the tokens
+ * must present the same one. Entries expire after {@code bot.auth.token-cache.ttl-minutes}.
+ * <p>
+ * Reuse is optimistic. {@code Bot} treats cached tokens as unproven until its WS
+ * session authenticates; if the connection drops or the watchdog trips first, the bot
+ * calls {@link #invalidate} and logs in for real. So a token the server has revoked
+ * costs one failed connect, never a dead bot.
+ * <p>
+ * Every login is also written to Mongo as a {@link StoredLogin} — the three tokens,
+ * the fingerprint and the expiry — so a process restart does not log every bot in
+ * again. Nothing is loaded up front: a lookup that misses in memory reads that one
+ * document and, if it is unexpired, installs it. A rehydrated login is just as
+ * unproven as any other cached one, so the safety net above still applies. The store
+ * is best-effort: if Mongo is unavailable the cache carries on in memory.
+ * <p>
+ * Metrics: {@code auth_token_cache_total{outcome=hit|rehydrated|miss|rejected}} and
+ * the {@code auth_token_cache_size} gauge (in-memory entries).
+ */
+@Slf4j
+@Component
+public class AuthTokenCache {
+
+    public static final String AUTH_TOKEN_CACHE_TOTAL = "auth_token_cache_total";
+    public static final String AUTH_TOKEN_CACHE_SIZE = "auth_token_cache_size";
+
+    /** One reusable login: the tokens and the fingerprint they were issued for. */
+    public record CachedLogin(TokensProvider tokens, String fingerprint, long expiresAtMillis) {
+    }
+
+    private record Key(String environmentId, String username) {
+    }
+
+    private final ConcurrentHashMap<Key, CachedLogin> entries = new ConcurrentHashMap<>();
+    private final StoredLoginRepository store;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Counter hits;
+    private final Counter rehydrations;
+    private final Counter misses;
+    private final Counter rejections;
+
+    public AuthTokenCache(MeterRegistry registry,
+                          StoredLoginRepository store,
+                          @Value("${bot.auth.token-cache.enabled:true}") boolean enabled,
+                          @Value("${bot.auth.token-cache.ttl-minutes:30}") long ttlMinutes) {
+        this(registry, store, enabled, Duration.ofMinutes(ttlMinutes), System::currentTimeMillis);
+    }
+
+    /** {@code store} may be {@code null}: the cache then lives for the process only. */
+    AuthTokenCache(MeterRegistry registry, StoredLoginRepository store, boolean enabled, Duration ttl,
+                   LongSupplier clock) {
+        this.store = store;
+        this.enabled = enabled && !ttl.isZero() && !ttl.isNegative();
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        if (registry != null) {
+            this.hits = Counter.builder(AUTH_TOKEN_CACHE_TOTAL).tag("outcome", "hit").register(registry);
+            this.rehydrations = Counter.builder(AUTH_TOKEN_CACHE_TOTAL).tag("outcome", "rehydrated").register(registry);
+            this.misses = Counter.builder(AUTH_TOKEN_CACHE_TOTAL).tag("outcome", "miss").register(registry);
+            this.rejections = Counter.builder(AUTH_TOKEN_CACHE_TOTAL).tag("outcome", "rejected").register(registry);
+            Gauge.builder(AUTH_TOKEN_CACHE_SIZE, entries, ConcurrentHashMap::size).register(registry);
+        } else {
+            this.hits = null;
+            this.rehydrations = null;
+            this.misses = null;
+            this.rejections = null;
+        }
+        log.info("Auth token cache {} (ttl={} min, {})", this.enabled ? "enabled" : "disabled", ttl.toMinutes(),
+                store != null ? "persisted" : "in memory");
+    }
+
+    /**
+     * The unexpired login for {@code username} in {@code environmentId}, or
+     * {@code null}. An expired entry is dropped on the way; a miss in memory falls
+     * back to the stored login, if any.
+     */
+    public CachedLogin get(String environmentId, String username) {
+        if (!enabled) {
+            return null;
+        }
+        Key key = new Key(environmentId, username);
+        CachedLogin login = entries.get(key);
+        if (login != null && login.expiresAtMillis() <= clock.getAsLong()) {
+            entries.remove(key, login);
+            login = null;
+        }
+        Counter c = hits;
+        if (login == null) {
+            login = rehydrate(key);
+            c = login != null ? rehydrations : misses;
+        }
+        if (c != null) {
+            c.increment();
+        }
+        return login;
+    }
+
+    /** Remember a fresh login, in memory and in the store. */
+    public void put(String environmentId, String username, TokensProvider tokens, String fingerprint) {
+        if (!enabled || tokens == null) {
+            return;
+        }
+        CachedLogin login = new CachedLogin(tokens, fingerprint, clock.getAsLong() + ttlMillis);
+        entries.put(new Key(environmentId, username), login);
+        if (store != null) {
+            try {
+                store.save(StoredLogin.builder()
+                        .id(StoredLogin.key(environmentId, username))
+                        .agencyToken(tokens.getAgencyToken())
+                        .authToken(tokens.getAuthToken())
+                        .jwtToken(tokens.getJwtToken())
+                        .fingerprint(fingerprint)
+                        .expiresAt(Instant.ofEpochMilli(login.expiresAtMillis()))
+                        .build());
+            } catch (RuntimeException e) {
+                log.warn("Could not persist cached login for {}: {}", username, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop {@code rejected} — tokens the server would not take. A no-op when the
+     * entry has meanwhile been replaced by a fresher login.
+     */
+    public void invalidate(String environmentId, String username, TokensProvider rejected) {
+        if (!enabled) {
+            return;
+        }
+        Key key = new Key(environmentId, username);
+        CachedLogin login = entries.get(key);
+        if (login == null || login.tokens() != rejected || !entries.remove(key, login)) {
+            return;
+        }
+        if (rejections != null) {
+            rejections.increment();
+        }
+        if (store != null) {
+            // Matched on the token too, so a fresher login stored meanwhile is kept.
+            try {
+                store.deleteByIdAndAuthToken(StoredLogin.key(environmentId, username), rejected.getAuthToken());
+            } catch (RuntimeException e) {
+                log.warn("Could not drop stored login for {}: {}", username, e.getMessage());
+            }
+        }
+    }
+
+    /** Number of cached logins in memory, expired ones included until they are next read. */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Load {@code key}'s stored login into memory, or {@code null} when there is none
+     * or it has expired. A login put meanwhile wins over the stored one.
+     */
+    private CachedLogin rehydrate(Key key) {
+        if (store == null) {
+            return null;
+        }
+        Optional<StoredLogin> stored;
+        try {
+            stored = store.findById(StoredLogin.key(key.environmentId(), key.username()));
+        } catch (RuntimeException e) {
+            log.warn("Could not read stored login for {}: {}", key.username(), e.getMessage());
+            return null;
+        }
+        StoredLogin s = stored.orElse(null);
+        if (s == null || s.getExpiresAt() == null || s.getExpiresAt().toEpochMilli() <= clock.getAsLong()) {
+            return null; // an expired document is left to the TTL index
+        }
+        CachedLogin login = new CachedLogin(
+                new StoredTokens(s.getAgencyToken(), s.getAuthToken(), s.getJwtToken()),
+                s.getFingerprint(), s.getExpiresAt().toEpochMilli());
+        CachedLogin current = entries.putIfAbsent(key, login);
+        return current != null ? current : login;
+    }
+
+    /** Tokens read back from a {@link StoredLogin}. */
+    private record StoredTokens(String agencyToken, String authToken, String jwtToken) implements TokensProvider {
+
+        @Override
+        public String getAgencyToken() {
+            return agencyToken;
+        }
+
+        @Override
+        public String getAuthToken() {
+            return authToken;
+        }
+
+        @Override
+        public String getJwtToken() {
+            return jwtToken;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.vingame.bot.infrastructure.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * The persisted form of an {@link AuthTokenCache} entry, so cached logins survive a
+ * process restart. The id is {@link #key(String, String)}; Mongo drops the document
+ * once {@link #expiresAt} has passed.
+ */
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "authTokens")
+public class StoredLogin {
+
+    @Id
+    private String id;
+
+    private String agencyToken;
+    private String authToken;
+    private String jwtToken;
+
+    /** The fingerprint the tokens were issued for. */
+    private String fingerprint;
+
+    @Indexed(expireAfter = "0s")
+    private Instant expiresAt;
+
+    public static String key(String environmentId, String username) {
+        return environmentId + ":" + username;
+    }
+}
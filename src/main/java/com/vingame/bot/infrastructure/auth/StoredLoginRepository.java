@@ -0,0 +1,9 @@
+package com.vingame.bot.infrastructure.auth;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface StoredLoginRepository extends MongoRepository<StoredLogin, String> {
+
+    /** Delete {@code id} only while it still holds {@code authToken}. */
+    long deleteByIdAndAuthToken(String id, String authToken);
+}
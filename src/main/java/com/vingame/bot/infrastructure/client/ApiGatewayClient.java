@@ -1,12 +1,14 @@
 package com.vingame.bot.infrastructure.client;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.vingame.bot.common.exception.RegistrationRejectedException;
 import com.vingame.bot.common.exception.UpstreamLoginException;
 import com.vingame.bot.infrastructure.auth.AuthProfile;
+import com.vingame.bot.infrastructure.client.dto.GatewayStatusResponse;
 import com.vingame.bot.infrastructure.client.dto.UserRegistrationRequest;
 import com.vingame.bot.infrastructure.client.dto.UserRegistrationResponse;
-import com.vingame.bot.infrastructure.client.dto.UserRegistrationResult;
+import com.vingame.bot.infrastructure.client.dto.VerifyTokenResponse;
 import com.vingame.bot.infrastructure.observability.BotMetrics;
 import com.vingame.bot.config.bot.BotCredentials;
 import com.vingame.websocketparser.auth.AuthClient;
@@ -21,25 +23,25 @@ import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
  * Client for interacting with the API Gateway.
  * This is a prototype-scoped bean - each injection gets a new instance
  * that must be initialized with environment-specific data via {@link #init(String, String)}.
+ * <p>
+ * Every call goes through the shared {@link GatewayHttp} stack: its executor and
+ * protocol settings, a per-endpoint request timeout, and per-endpoint latency and
+ * in-flight meters. The {@code *Async} variants return without parking the caller;
+ * their completion stages run on the shared executor and must stay cheap. Login is
+ * timed but stays blocking: it runs inside the websocket-parser {@code AuthClient},
+ * which owns its own HTTP call.
  */
 @Slf4j
 @Service
@@ -47,6 +49,9 @@ import java.util.function.Function;
 public class ApiGatewayClient {
 
     private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectReader REGISTRATION_READER = mapper.readerFor(UserRegistrationResponse.class);
+    private static final ObjectReader STATUS_READER = mapper.readerFor(GatewayStatusResponse.class);
+    private static final ObjectReader VERIFY_TOKEN_READER = mapper.readerFor(VerifyTokenResponse.class);
 
     private static final String VERIFY_TOKEN_ENDPOINT = "/gwms/v1/verifytoken.aspx";
     private static final String BOT_DEPOSIT_ENDPOINT = "/gwms/v1/bot/deposit.aspx";
@@ -55,16 +60,9 @@ public class ApiGatewayClient {
 
     private final DisplayNameService displayNameService;
     private final BotMetrics metrics;
+    private final GatewayHttp http;
     private final HttpClient httpClient;
 
-    /**
-     * Max number of users to register simultaneously.
-     * Controls concurrency to avoid overwhelming the auth server.
-     * Configurable via application.properties: user.registration.parallelism
-     */
-    @Value("${user.registration.parallelism:10}")
-    private int registrationParallelism;
-
     @Value("${bot.ip}")
     private String botIp;
 
@@ -78,10 +76,16 @@ public class ApiGatewayClient {
     private boolean initialized = false;
 
     @Autowired
-    public ApiGatewayClient(DisplayNameService displayNameService, BotMetrics metrics) {
+    public ApiGatewayClient(DisplayNameService displayNameService, BotMetrics metrics, GatewayHttp http) {
         this.displayNameService = displayNameService;
         this.metrics = metrics;
-        this.httpClient = HttpClient.newHttpClient();
+        this.http = http;
+        this.httpClient = http.newClient();
+    }
+
+    /** For clients built outside Spring: runs on {@link GatewayHttp#fallback()}. */
+    public ApiGatewayClient(DisplayNameService displayNameService, BotMetrics metrics) {
+        this(displayNameService, metrics, GatewayHttp.fallback());
     }
 
     /**
@@ -114,6 +118,39 @@ public class ApiGatewayClient {
         }
     }
 
+    /** Blocking, timed exchange with {@code endpoint}'s timeout applied. */
+    private HttpResponse<String> send(GatewayEndpoint endpoint, HttpRequest.Builder request)
+            throws IOException, InterruptedException {
+        GatewayHttp.Call call = http.begin(endpoint);
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    request.timeout(http.timeout(endpoint)).build(), HttpResponse.BodyHandlers.ofString());
+            call.completed(response.statusCode());
+            return response;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            call.failed(e);
+            throw e;
+        }
+    }
+
+    /** Non-blocking, timed exchange with {@code endpoint}'s timeout applied. */
+    private CompletableFuture<HttpResponse<String>> sendAsync(GatewayEndpoint endpoint, HttpRequest.Builder request) {
+        GatewayHttp.Call call = http.begin(endpoint);
+        try {
+            return httpClient.sendAsync(request.timeout(http.timeout(endpoint)).build(), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        if (failure == null) {
+                            call.completed(response.statusCode());
+                        } else {
+                            call.failed(failure);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            call.failed(e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Authenticate a bot with the given credentials.
      *
@@ -141,13 +178,16 @@ public class ApiGatewayClient {
             log.warn("[Login] Could not serialize login request for logging: {}", e.getMessage());
         }
 
+        GatewayHttp.Call call = http.begin(GatewayEndpoint.LOGIN);
         try {
             TokensProvider tokens = new AuthClient(ctx, loginRequestFactory).authenticate();
+            call.completed(200);
             log.debug("[Login] response: agencyToken={} | authToken={} | jwtToken={}",
                     tokens.getAgencyToken(), tokens.getAuthToken(), tokens.getJwtToken());
             metrics.incLogin(true);
             return tokens;
         } catch (RuntimeException e) {
+            call.failed(e);
             // Counter increment must not change error semantics — BotFactory relies on
             // the exception propagating up so the bot creation pipeline records the failure.
             metrics.incLogin(false);
@@ -163,124 +203,36 @@ public class ApiGatewayClient {
         }
     }
 
-    /**
-     * Bulk register users on the authentication server using parallel execution.
-     * <p>
-     * Uses virtual threads with controlled concurrency (configurable via user.registration.parallelism).
-     * This dramatically reduces registration time compared to sequential execution:
-     * - Sequential (old): 100 users × 3s = 300s (~5 minutes)
-     * - Parallel (new): 100 users / 10 parallelism × ~3s = ~30s
-     *
-     * @param userNamePrefix Prefix for usernames (e.g., "bot" creates "bot1", "bot2", etc.)
-     * @param password       Password for all created users
-     * @param count          Number of users to create
-     * @return UserRegistrationResult with success/failure details
-     */
-    public UserRegistrationResult registerUsers(String userNamePrefix, String password, int count) {
-        checkInitialized();
-        log.info("Starting parallel user registration: {} users with prefix '{}' (parallelism={})",
-                count, userNamePrefix, registrationParallelism);
-
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failureCount = new AtomicInteger(0);
-        List<String> errors = Collections.synchronizedList(new ArrayList<>());
-
-        Semaphore semaphore = new Semaphore(registrationParallelism);
-
-        // Use virtual threads for parallel registration
-        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
-                Thread.ofVirtual().name("user-registration-", 0).factory())) {
-
-            List<CompletableFuture<Void>> futures = new ArrayList<>(count);
-
-            for (int i = 1; i <= count; i++) {
-                final int userIndex = i;
-                final String username = userNamePrefix + userIndex;
-
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                    try {
-                        // Acquire permit (blocks if at max concurrency)
-                        semaphore.acquire();
-                        try {
-                            registerSingleUserWithDisplayName(userNamePrefix, password, userIndex, count);
-                            successCount.incrementAndGet();
-                        } finally {
-                            semaphore.release();
-                        }
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        failureCount.incrementAndGet();
-                        String errorMsg = String.format("Registration interrupted for %s", username);
-                        errors.add(errorMsg);
-                        log.error(errorMsg);
-                    } catch (Exception e) {
-                        failureCount.incrementAndGet();
-                        String errorMsg = String.format("Failed to register %s: %s", username, e.getMessage());
-                        errors.add(errorMsg);
-                        log.error(errorMsg);
-                    }
-                }, executor);
-
-                futures.add(future);
-            }
-
-            // Wait for all registrations to complete
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-        }
-
-        log.info("Parallel user registration completed. Success: {}, Failures: {}",
-                successCount.get(), failureCount.get());
-
-        return UserRegistrationResult.builder()
-                .totalRequested(count)
-                .successCount(successCount.get())
-                .failureCount(failureCount.get())
-                .errors(errors)
-                .build();
-    }
+    /** Tokens returned by a successful registration. */
+    public record RegistrationResult(String agencyToken, String authToken, String fingerprint) {}
 
     /**
-     * Register a single user and set their display name.
-     * This method is called in parallel from registerUsers().
-     * <p>
-     * Uses tokens returned directly from the register response — no re-authentication needed.
-     *
-     * @param userNamePrefix Username prefix
-     * @param password       Password
-     * @param index          User index (1-based)
-     * @param totalCount     Total number of users being registered (for logging)
+     * Non-blocking registration of one user. Completes with the new user's tokens,
+     * or exceptionally when the gateway rejects the registration — with a
+     * {@link RegistrationRejectedException} carrying the envelope's status and code
+     * when the gateway answered with a rejection.
      */
-    private void registerSingleUserWithDisplayName(String userNamePrefix, String password, int index, int totalCount) {
-        String username = userNamePrefix + index;
-
+    public CompletableFuture<RegistrationResult> registerUserAsync(String username, String password) {
+        checkInitialized();
+        String fingerprint = AuthClient.generateFingerprint();
+        HttpRequest.Builder request;
         try {
-            RegistrationResult result = registerSingleUser(userNamePrefix, password, index);
-            log.debug("Successfully registered user {}/{}: {}", index, totalCount, username);
-
-            if (displayNameService.hasDisplayNames()) {
-                try {
-                    String displayName = setDisplayNameWithRetry(username, result.authToken(), 5);
-                    if (displayName != null) {
-                        log.debug("Set display name '{}' for user {}", displayName, username);
-                    } else {
-                        log.warn("Could not set display name for user {}", username);
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to set display name for {}: {}", username, e.getMessage());
-                }
-            }
-        } catch (IOException | InterruptedException e) {
-            throw new RuntimeException("Failed to register user: " + username, e);
+            request = registrationRequest(username, password);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
         }
+        return sendAsync(GatewayEndpoint.REGISTER, request)
+                .thenApply(response -> {
+                    try {
+                        return readRegistration(username, fingerprint, response);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to parse registration for user: " + username, e);
+                    }
+                });
     }
 
-    private record RegistrationResult(String agencyToken, String authToken, String fingerprint) {}
-
-    private RegistrationResult registerSingleUser(String userNamePrefix, String password, int index) throws IOException, InterruptedException {
+    private HttpRequest.Builder registrationRequest(String username, String password) throws IOException {
         String ip = botIp;
-        String username = userNamePrefix + index;
-        String fingerprint = AuthClient.generateFingerprint();
-
         UserRegistrationRequest request = UserRegistrationRequest.builder()
                 .username(username)
                 .password(password)
@@ -302,23 +254,19 @@ public class ApiGatewayClient {
         log.debug("[Register] POST {} | X-TOKEN: {} | body: {}",
                 apiGateway + registrationPath, xToken, requestBody);
 
-        HttpRequest httpRequest = requestBuilder
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .timeout(Duration.ofSeconds(10))
-                .build();
+        return requestBuilder.POST(HttpRequest.BodyPublishers.ofString(requestBody));
+    }
 
-        HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+    private RegistrationResult readRegistration(String username, String fingerprint, HttpResponse<String> response)
+            throws IOException {
         String responseBody = response.body();
         log.debug("[Register] response HTTP {} | body: {}", response.statusCode(), responseBody);
 
-        UserRegistrationResponse registrationResponse = mapper.readValue(responseBody, UserRegistrationResponse.class);
+        UserRegistrationResponse registrationResponse = REGISTRATION_READER.readValue(responseBody);
 
         if (!registrationResponse.isSuccess() || registrationResponse.getError() != null) {
-            String errorMsg = String.format("Registration failed: %s (status: %s, code: %d)",
-                registrationResponse.getMessage(),
-                registrationResponse.getStatus(),
-                registrationResponse.getCode());
-            throw new RuntimeException(errorMsg);
+            throw new RegistrationRejectedException(registrationResponse.getMessage(),
+                    registrationResponse.getStatus(), registrationResponse.getCode());
         }
 
         var data = registrationResponse.getData().get(0);
@@ -338,43 +286,68 @@ public class ApiGatewayClient {
     public boolean setDisplayName(String username, String sessionToken, String displayName) {
         checkInitialized();
         try {
-            Object body = java.util.Map.of("username", username, "fullname", displayName);
+            HttpResponse<String> response = send(GatewayEndpoint.UPDATE_FULLNAME, displayNameRequest(username, displayName));
+            return readDisplayNameStatus(displayName, response);
+        } catch (IOException | InterruptedException e) {
+            throw new RuntimeException("Failed to set display name: " + displayName, e);
+        }
+    }
 
-            String requestBody = mapper.writeValueAsString(body);
-            String url = apiGateway + updateFullnamePath;
-            log.debug("[UpdateFullname] POST {} | X-TOKEN: {} | body: {}", url, xToken, requestBody);
+    /**
+     * Non-blocking {@link #setDisplayName}: completes with {@code false} when the name
+     * is already taken, and exceptionally on any other rejection.
+     */
+    public CompletableFuture<Boolean> setDisplayNameAsync(String username, String displayName) {
+        checkInitialized();
+        HttpRequest.Builder request;
+        try {
+            request = displayNameRequest(username, displayName);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return sendAsync(GatewayEndpoint.UPDATE_FULLNAME, request)
+                .thenApply(response -> {
+                    try {
+                        return readDisplayNameStatus(displayName, response);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to set display name: " + displayName, e);
+                    }
+                });
+    }
 
-            HttpRequest httpRequest = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Content-Type", "application/json")
-                    .header(SESSION_TOKEN_HEADER, xToken)
-                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .timeout(Duration.ofSeconds(10))
-                    .build();
+    private HttpRequest.Builder displayNameRequest(String username, String displayName) throws IOException {
+        Object body = java.util.Map.of("username", username, "fullname", displayName);
 
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-            String responseBody = response.body();
-            log.debug("[UpdateFullname] response HTTP {} | body: {}", response.statusCode(), responseBody);
+        String requestBody = mapper.writeValueAsString(body);
+        String url = apiGateway + updateFullnamePath;
+        log.debug("[UpdateFullname] POST {} | X-TOKEN: {} | body: {}", url, xToken, requestBody);
 
-            JsonNode responseJson = mapper.readTree(responseBody);
-            String status = responseJson.has("status") ? responseJson.get("status").asText() : null;
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Content-Type", "application/json")
+                .header(SESSION_TOKEN_HEADER, xToken)
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody));
+    }
 
-            if ("INVALID".equals(status)) {
-                log.warn("Display name '{}' is already taken", displayName);
-                return false;
-            }
+    private boolean readDisplayNameStatus(String displayName, HttpResponse<String> response) throws IOException {
+        String responseBody = response.body();
+        log.debug("[UpdateFullname] response HTTP {} | body: {}", response.statusCode(), responseBody);
 
-            if ("OK".equals(status)) {
-                log.debug("Display name set successfully to: {}", displayName);
-                return true;
-            }
+        GatewayStatusResponse responseJson = STATUS_READER.readValue(responseBody);
+        String status = responseJson.getStatus();
 
-            String message = responseJson.has("message") ? responseJson.get("message").asText() : "Unknown error";
-            throw new RuntimeException("Failed to set display name: " + message + " (status: " + status + ")");
+        if ("INVALID".equals(status)) {
+            log.warn("Display name '{}' is already taken", displayName);
+            return false;
+        }
 
-        } catch (IOException | InterruptedException e) {
-            throw new RuntimeException("Failed to set display name: " + displayName, e);
+        if ("OK".equals(status)) {
+            log.debug("Display name set successfully to: {}", displayName);
+            return true;
         }
+
+        String message = responseJson.getMessage() != null ? responseJson.getMessage() : "Unknown error";
+        throw new RuntimeException("Failed to set display name: " + message + " (status: " + status + ")");
     }
 
     /**
@@ -426,36 +399,56 @@ public class ApiGatewayClient {
     public boolean deposit(String username, long amount) {
         checkInitialized();
         try {
-            Object body = java.util.Map.of("username", username, "amount", amount);
-            String requestBody = mapper.writeValueAsString(body);
-            String url = apiGateway + BOT_DEPOSIT_ENDPOINT;
-            log.debug("[BotDeposit] POST {} | X-TOKEN: {} | body: {}", url, xToken, requestBody);
-
-            HttpRequest httpRequest = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Content-Type", "application/json")
-                    .header("User-Agent", USER_AGENT)
-                    .header(SESSION_TOKEN_HEADER, xToken)
-                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .timeout(Duration.ofSeconds(10))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-            String responseBody = response.body();
-            boolean success = response.statusCode() == 200;
-            if (success) {
-                log.debug("[BotDeposit] response HTTP {} | body: {}", response.statusCode(), responseBody);
-            } else {
-                log.warn("[BotDeposit] non-200 response for user {} — status: {} | body: {}",
-                        username, response.statusCode(), responseBody);
-            }
-            return success;
+            return readDeposit(username, send(GatewayEndpoint.DEPOSIT, depositRequest(username, amount)));
         } catch (IOException | InterruptedException e) {
             log.error("Bot deposit failed for user: {}", username, e);
             return false;
         }
     }
 
+    /**
+     * Non-blocking {@link #deposit}: the same gwms bot-deposit request, sent with
+     * {@code sendAsync}. Completes with {@code true} on HTTP 200 and {@code false} on
+     * any other status; completes exceptionally on transport failure.
+     */
+    public CompletableFuture<Boolean> depositAsync(String username, long amount) {
+        checkInitialized();
+        HttpRequest.Builder request;
+        try {
+            request = depositRequest(username, amount);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return sendAsync(GatewayEndpoint.DEPOSIT, request)
+                .thenApply(response -> readDeposit(username, response));
+    }
+
+    private HttpRequest.Builder depositRequest(String username, long amount) throws IOException {
+        Object body = java.util.Map.of("username", username, "amount", amount);
+        String requestBody = mapper.writeValueAsString(body);
+        String url = apiGateway + BOT_DEPOSIT_ENDPOINT;
+        log.debug("[BotDeposit] POST {} | X-TOKEN: {} | body: {}", url, xToken, requestBody);
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Content-Type", "application/json")
+                .header("User-Agent", USER_AGENT)
+                .header(SESSION_TOKEN_HEADER, xToken)
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody));
+    }
+
+    private static boolean readDeposit(String username, HttpResponse<String> response) {
+        String responseBody = response.body();
+        boolean success = response.statusCode() == 200;
+        if (success) {
+            log.debug("[BotDeposit] response HTTP {} | body: {}", response.statusCode(), responseBody);
+        } else {
+            log.warn("[BotDeposit] non-200 response for user {} — status: {} | body: {}",
+                    username, response.statusCode(), responseBody);
+        }
+        return success;
+    }
+
     /**
      * Fetch balance for a user.
      *
@@ -467,28 +460,13 @@ public class ApiGatewayClient {
     public long getBalance(String authToken, String fingerprint, String username) {
         checkInitialized();
         try {
-            Thread.sleep(500);
-
-            String url = apiGateway + VERIFY_TOKEN_ENDPOINT + "?token=" + authToken + "&fg=" + fingerprint;
-            log.debug("[VerifyToken] GET {} | user: {}", url, username);
-
-            HttpRequest httpRequest = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Cache-Control", "no-cache")
-                    .header("Content-Type", "application/json")
-                    .header("User-Agent", USER_AGENT)
-                    .GET()
-                    .timeout(Duration.ofSeconds(10))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = send(GatewayEndpoint.VERIFY_TOKEN,
+                    verifyTokenRequest(authToken, fingerprint, username));
             String responseBody = response.body();
             log.debug("[VerifyToken] response HTTP {} | body: {}", response.statusCode(), responseBody);
 
-            JsonNode dataArray = mapper.readTree(responseBody).get("data");
-            if (dataArray != null && dataArray.isArray() && !dataArray.isEmpty()) {
-                JsonNode firstElement = dataArray.get(0);
-                long balance = firstElement.get("main_balance").asLong();
+            Long balance = VERIFY_TOKEN_READER.<VerifyTokenResponse>readValue(responseBody).mainBalance();
+            if (balance != null) {
                 metrics.incVerifyToken(true);
                 return balance;
             } else {
@@ -509,6 +487,49 @@ public class ApiGatewayClient {
         }
     }
 
+    /**
+     * Non-blocking {@link #getBalance}: the same verify-token request, sent with
+     * {@code sendAsync}, for callers that reconcile in the background
+     * ({@code BalanceReconciler}).
+     * <p>
+     * Records no {@code bot_verify_token_total} itself: completion runs on the HTTP
+     * client's thread, which carries no bot MDC, so the caller counts the outcome
+     * on its own pre-bound meters.
+     *
+     * @return the user's main balance; completes exceptionally on transport errors
+     * or a response without a {@code data} element
+     */
+    public CompletableFuture<Long> getBalanceAsync(String authToken, String fingerprint, String username) {
+        checkInitialized();
+        return sendAsync(GatewayEndpoint.VERIFY_TOKEN, verifyTokenRequest(authToken, fingerprint, username))
+                .thenApply(response -> {
+                    String responseBody = response.body();
+                    Long balance;
+                    try {
+                        balance = VERIFY_TOKEN_READER.<VerifyTokenResponse>readValue(responseBody).mainBalance();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to parse balance for user: " + username, e);
+                    }
+                    if (balance == null) {
+                        throw new IllegalStateException(
+                                "User: " + username + ": Data array is missing or empty: " + responseBody);
+                    }
+                    return balance;
+                });
+    }
+
+    private HttpRequest.Builder verifyTokenRequest(String authToken, String fingerprint, String username) {
+        String url = apiGateway + VERIFY_TOKEN_ENDPOINT + "?token=" + authToken + "&fg=" + fingerprint;
+        log.debug("[VerifyToken] GET {} | user: {}", url, username);
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Cache-Control", "no-cache")
+                .header("Content-Type", "application/json")
+                .header("User-Agent", USER_AGENT)
+                .GET();
+    }
+
     // Getters for environment config (useful for other components)
     public String getApiGateway() {
         checkInitialized();
@@ -0,0 +1,24 @@
+package com.vingame.bot.infrastructure.client;
+
+/**
+ * The API-gateway calls {@link ApiGatewayClient} makes, as they appear in the
+ * {@code endpoint} tag of the gateway request meters (see {@link GatewayHttp}).
+ */
+public enum GatewayEndpoint {
+    LOGIN("login"),
+    REGISTER("register"),
+    UPDATE_FULLNAME("update_fullname"),
+    DEPOSIT("deposit"),
+    VERIFY_TOKEN("verify_token");
+
+    private final String tag;
+
+    GatewayEndpoint(String tag) {
+        this.tag = tag;
+    }
+
+    /** Value of the {@code endpoint} meter tag. */
+    public String tag() {
+        return tag;
+    }
+}
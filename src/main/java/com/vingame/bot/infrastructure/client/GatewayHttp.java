@@ -0,0 +1,204 @@
+package com.vingame.bot.infrastructure.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared HTTP stack for the per-environment {@link ApiGatewayClient}s.
+ * <p>
+ * Every client used to build a default {@code HttpClient.newHttpClient()}: HTTP/1.1
+ * only, the JDK's implicit executor, and one hard-coded 10s timeout on every call.
+ * This bean owns what they now share:
+ * - one executor ({@code bot.gateway.http.executor-threads}, default 8 daemon
+ *   threads) on which every client runs its async work and completion stages, so
+ *   callbacks chained onto the {@code *Async} calls must stay cheap;
+ * - the protocol ({@code bot.gateway.http.version}, default {@code HTTP_2}; the JDK
+ *   client negotiates down to HTTP/1.1 where the gateway does not speak h2, and
+ *   keeps connections alive for reuse either way) and the connect timeout;
+ * - a request timeout per endpoint ({@code bot.gateway.timeout.<endpoint>-ms});
+ * - the meters: the {@code gateway_request_seconds} histogram, tagged
+ *   {@code endpoint} and {@code outcome=ok|http_error|timeout|error}, and the
+ *   {@code gateway_requests_in_flight} gauge per endpoint.
+ * <p>
+ * The meters carry no bot tags: a gateway call is environment infrastructure, and
+ * its completion runs off the bot's MDC anyway.
+ * <p>
+ * Clients built outside Spring (unit-test fixtures) fall back to {@link #fallback()},
+ * which has the default settings and publishes no meters.
+ */
+@Slf4j
+@Component
+public class GatewayHttp {
+
+    public static final String GATEWAY_REQUEST_SECONDS = "gateway_request_seconds";
+    public static final String GATEWAY_REQUESTS_IN_FLIGHT = "gateway_requests_in_flight";
+
+    private static final long DEFAULT_TIMEOUT_MILLIS = 10_000L;
+
+    private enum Outcome {
+        OK("ok"), HTTP_ERROR("http_error"), TIMEOUT("timeout"), ERROR("error");
+
+        final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final ExecutorService executor;
+    private final HttpClient.Version version;
+    private final Duration connectTimeout;
+    private final Map<GatewayEndpoint, Duration> timeouts;
+    private final Map<GatewayEndpoint, AtomicInteger> inFlight = new EnumMap<>(GatewayEndpoint.class);
+    private final Map<GatewayEndpoint, Timer[]> latency = new EnumMap<>(GatewayEndpoint.class);
+
+    public GatewayHttp(MeterRegistry registry,
+                       @Value("${bot.gateway.http.executor-threads:8}") int executorThreads,
+                       @Value("${bot.gateway.http.version:HTTP_2}") HttpClient.Version version,
+                       @Value("${bot.gateway.http.connect-timeout-ms:5000}") long connectTimeoutMillis,
+                       @Value("${bot.gateway.timeout.register-ms:10000}") long registerTimeoutMillis,
+                       @Value("${bot.gateway.timeout.update-fullname-ms:10000}") long updateFullnameTimeoutMillis,
+                       @Value("${bot.gateway.timeout.deposit-ms:10000}") long depositTimeoutMillis,
+                       @Value("${bot.gateway.timeout.verify-token-ms:10000}") long verifyTokenTimeoutMillis) {
+        this(registry, executorThreads, version, Duration.ofMillis(connectTimeoutMillis), Map.of(
+                GatewayEndpoint.REGISTER, Duration.ofMillis(registerTimeoutMillis),
+                GatewayEndpoint.UPDATE_FULLNAME, Duration.ofMillis(updateFullnameTimeoutMillis),
+                GatewayEndpoint.DEPOSIT, Duration.ofMillis(depositTimeoutMillis),
+                GatewayEndpoint.VERIFY_TOKEN, Duration.ofMillis(verifyTokenTimeoutMillis)));
+    }
+
+    GatewayHttp(MeterRegistry registry, int executorThreads, HttpClient.Version version,
+                Duration connectTimeout, Map<GatewayEndpoint, Duration> timeouts) {
+        if (executorThreads < 1) {
+            throw new IllegalArgumentException("executor-threads must be positive");
+        }
+        this.executor = Executors.newFixedThreadPool(executorThreads,
+                Thread.ofPlatform().name("gateway-http-", 0).daemon(true).factory());
+        this.version = version;
+        this.connectTimeout = connectTimeout;
+        this.timeouts = new EnumMap<>(GatewayEndpoint.class);
+        for (GatewayEndpoint endpoint : GatewayEndpoint.values()) {
+            this.timeouts.put(endpoint, timeouts.getOrDefault(endpoint, Duration.ofMillis(DEFAULT_TIMEOUT_MILLIS)));
+            AtomicInteger gauge = new AtomicInteger();
+            inFlight.put(endpoint, gauge);
+            if (registry != null) {
+                Gauge.builder(GATEWAY_REQUESTS_IN_FLIGHT, gauge, AtomicInteger::get)
+                        .tag("endpoint", endpoint.tag())
+                        .register(registry);
+                Timer[] timers = new Timer[Outcome.values().length];
+                for (Outcome outcome : Outcome.values()) {
+                    timers[outcome.ordinal()] = Timer.builder(GATEWAY_REQUEST_SECONDS)
+                            .tag("endpoint", endpoint.tag())
+                            .tag("outcome", outcome.tag)
+                            .publishPercentileHistogram()
+                            .register(registry);
+                }
+                latency.put(endpoint, timers);
+            }
+        }
+        log.info("Gateway HTTP stack ready (version={}, executorThreads={}, connectTimeout={}ms, timeouts={})",
+                version, executorThreads, connectTimeout.toMillis(), this.timeouts);
+    }
+
+    /**
+     * A new client on the shared executor and protocol settings. One per
+     * {@link ApiGatewayClient}, i.e. per environment, so each gateway keeps its own
+     * connection pool.
+     */
+    public HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .executor(executor)
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    /** Request timeout for {@code endpoint}. */
+    public Duration timeout(GatewayEndpoint endpoint) {
+        return timeouts.get(endpoint);
+    }
+
+    /** Requests to {@code endpoint} sent and not yet answered. */
+    public int inFlight(GatewayEndpoint endpoint) {
+        return inFlight.get(endpoint).get();
+    }
+
+    /**
+     * Start timing a request to {@code endpoint}; exactly one of the returned call's
+     * {@link Call#completed} or {@link Call#failed} must follow.
+     */
+    public Call begin(GatewayEndpoint endpoint) {
+        inFlight.get(endpoint).incrementAndGet();
+        return new Call(endpoint, System.nanoTime());
+    }
+
+    /** One timed gateway request. */
+    public final class Call {
+
+        private final GatewayEndpoint endpoint;
+        private final long startedAt;
+
+        private Call(GatewayEndpoint endpoint, long startedAt) {
+            this.endpoint = endpoint;
+            this.startedAt = startedAt;
+        }
+
+        /** The gateway answered with {@code statusCode}. */
+        public void completed(int statusCode) {
+            end(statusCode / 100 == 2 ? Outcome.OK : Outcome.HTTP_ERROR);
+        }
+
+        /** The request failed without an answer (or its handling threw). */
+        public void failed(Throwable failure) {
+            Throwable cause = failure;
+            while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                    && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            end(cause instanceof HttpTimeoutException ? Outcome.TIMEOUT : Outcome.ERROR);
+        }
+
+        private void end(Outcome outcome) {
+            inFlight.get(endpoint).decrementAndGet();
+            Timer[] timers = latency.get(endpoint);
+            if (timers != null) {
+                timers[outcome.ordinal()].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Process-wide instance for clients built outside Spring. Created on first use;
+     * never stopped — its threads are daemons and do not hold the JVM open.
+     */
+    public static GatewayHttp fallback() {
+        return FallbackHolder.INSTANCE;
+    }
+
+    private static final class FallbackHolder {
+        private static final GatewayHttp INSTANCE = new GatewayHttp(
+                null, 2, HttpClient.Version.HTTP_2, Duration.ofSeconds(5), Map.of());
+    }
+}
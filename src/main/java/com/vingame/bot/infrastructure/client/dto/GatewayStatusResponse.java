@@ -0,0 +1,29 @@
+package com.vingame.bot.infrastructure.client.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * The status envelope of a gateway response whose payload is not needed
+ * (e.g. update-fullname).
+ * <p>
+ * Example response:
+ * {
+ *   "status": "INVALID",
+ *   "message": "Fullname already exists"
+ * }
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GatewayStatusResponse {
+
+    /**
+     * Status string - "OK" for success, "INVALID" for a rejected value
+     */
+    private String status;
+
+    /**
+     * Human-readable message describing the result
+     */
+    private String message;
+}
@@ -0,0 +1,42 @@
+package com.vingame.bot.infrastructure.client.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Response from the verify-token API — the only part read is the balance.
+ * <p>
+ * Example response:
+ * {
+ *   "status": "OK",
+ *   "data": [{ "main_balance": 1000000000, ... }]
+ * }
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class VerifyTokenResponse {
+
+    /**
+     * Account data - use data.get(0) for the verified user
+     */
+    private List<Account> data;
+
+    /**
+     * The verified user's main balance, or null when the response carries none.
+     */
+    public Long mainBalance() {
+        return data == null || data.isEmpty() || data.get(0) == null ? null : data.get(0).getMainBalance();
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Account {
+
+        /** Game-spendable balance */
+        @JsonProperty("main_balance")
+        private Long mainBalance;
+    }
+}
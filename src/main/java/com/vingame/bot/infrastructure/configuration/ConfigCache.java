@@ -0,0 +1,354 @@
+package com.vingame.bot.infrastructure.configuration;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.vingame.bot.domain.botgroup.model.BotGroup;
+import com.vingame.bot.domain.botgroup.repository.BotGroupRepository;
+import com.vingame.bot.domain.environment.model.Environment;
+import com.vingame.bot.domain.environment.repository.EnvironmentRepository;
+import com.vingame.bot.domain.game.model.Game;
+import com.vingame.bot.domain.game.repository.GameRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache of the configuration documents the start/restart and filter paths
+ * look up by id: {@link Environment}, {@link Game} and {@link BotGroup}.
+ * <p>
+ * Every document is loaded once at startup, before the auto-start of active groups, so
+ * a mass start reads config from memory instead of making three Mongo round trips per
+ * group. A lookup is a map read; a miss (an id created since, or an expired entry)
+ * loads through to Mongo and caches the result.
+ * <p>
+ * Writes go through {@code EnvironmentService}, {@code GameService} and
+ * {@code BotGroupService}, which {@linkplain Table#put put} the saved document or
+ * {@linkplain Table#evict evict} the deleted one, so their own reads never see stale
+ * config. A write made around the services (a manual edit in Mongo) is picked up when
+ * the entry expires after {@code bot.config-cache.ttl-seconds} (300), or at once when
+ * {@code bot.config-cache.change-streams} is on (needs a replica set), which evicts on
+ * every change event. {@code ttl-seconds=0} disables the cache: every lookup goes to
+ * Mongo.
+ * <p>
+ * Components that plan around a document (the activation scheduler) subscribe with
+ * {@link Table#onChange} and hear every put and evict, including those made by a
+ * change stream, instead of polling Mongo for edits.
+ * <p>
+ * Documents are mutable, so the cache stores and hands out deep copies (each model's
+ * {@code copy()}, which also copies its nested window and collections): a caller
+ * editing the group it was given, down to its activation window or strategy mix,
+ * cannot change what the next caller reads.
+ * <p>
+ * Metric (tagged {@code cache}): {@code config_cache_requests_total} by {@code result}
+ * ({@code hit}, {@code miss}, {@code expired}); {@code expired} counts the lookups that
+ * found an entry past its TTL, i.e. how often the stale-read bound was reached.
+ * {@code config_cache_entries} gauges each table's size.
+ */
+@Slf4j
+@Component
+public class ConfigCache {
+
+    public static final String CONFIG_CACHE_REQUESTS_TOTAL = "config_cache_requests_total";
+    public static final String CONFIG_CACHE_ENTRIES = "config_cache_entries";
+
+    private final Table<Environment> environments;
+    private final Table<Game> games;
+    private final Table<BotGroup> botGroups;
+    private final EnvironmentRepository environmentRepository;
+    private final GameRepository gameRepository;
+    private final BotGroupRepository botGroupRepository;
+    private final MongoTemplate mongoTemplate;
+    private final boolean changeStreams;
+    private final List<MongoCursor<?>> watchers = new ArrayList<>();
+
+    public ConfigCache(EnvironmentRepository environmentRepository,
+                       GameRepository gameRepository,
+                       BotGroupRepository botGroupRepository,
+                       MongoTemplate mongoTemplate,
+                       MeterRegistry registry,
+                       @Value("${bot.config-cache.ttl-seconds:300}") long ttlSeconds,
+                       @Value("${bot.config-cache.change-streams:false}") boolean changeStreams) {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+        this.environments = new Table<>("environment", Environment::getId, Environment::copy, ttlNanos, registry);
+        this.games = new Table<>("game", Game::getId, Game::copy, ttlNanos, registry);
+        this.botGroups = new Table<>("botGroup", BotGroup::getId, BotGroup::copy, ttlNanos, registry);
+        this.environmentRepository = environmentRepository;
+        this.gameRepository = gameRepository;
+        this.botGroupRepository = botGroupRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.changeStreams = changeStreams && ttlNanos > 0;
+    }
+
+    public Table<Environment> environments() {
+        return environments;
+    }
+
+    public Table<Game> games() {
+        return games;
+    }
+
+    public Table<BotGroup> botGroups() {
+        return botGroups;
+    }
+
+    /** Load every document up front so the startup auto-start reads from memory. */
+    @PostConstruct
+    public void preload() {
+        if (!environments.isEnabled() || environmentRepository == null) {
+            return;
+        }
+        environments.putAll(environmentRepository.findAll());
+        games.putAll(gameRepository.findAll());
+        botGroups.putAll(botGroupRepository.findAll());
+        log.info("Config cache preloaded: {} environments, {} games, {} bot groups",
+                environments.size(), games.size(), botGroups.size());
+        if (changeStreams && mongoTemplate != null) {
+            watch("environments", environments);
+            watch("games", games);
+            watch("botGroups", botGroups);
+        }
+    }
+
+    /** Evict every document a change event on {@code collection} names. */
+    private void watch(String collection, Table<?> table) {
+        MongoCursor<ChangeStreamDocument<Document>> cursor = mongoTemplate.getCollection(collection).watch().cursor();
+        synchronized (watchers) {
+            watchers.add(cursor);
+        }
+        Thread.ofVirtual().name("config-cache-watch-" + collection).start(() -> {
+            try {
+                while (cursor.hasNext()) {
+                    BsonDocument documentKey = cursor.next().getDocumentKey();
+                    BsonValue key = documentKey != null ? documentKey.get("_id") : null;
+                    if (key == null) {
+                        // drop / rename / invalidate: nothing names a document
+                        table.clear();
+                    } else {
+                        table.evict(key.isString() ? key.asString().getValue()
+                                : key.isObjectId() ? key.asObjectId().getValue().toHexString() : key.toString());
+                    }
+                }
+            } catch (Exception e) {
+                // Closed on shutdown, or the stream broke: entries still expire on TTL.
+                log.warn("Config cache change stream on {} ended: {}", collection, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        synchronized (watchers) {
+            watchers.forEach(MongoCursor::close);
+            watchers.clear();
+        }
+    }
+
+    /**
+     * Pass-through instance for services built outside Spring: caches nothing, so every
+     * lookup goes to the loader it is given.
+     */
+    public static ConfigCache disabled() {
+        return DisabledHolder.INSTANCE;
+    }
+
+    private static final class DisabledHolder {
+        private static final ConfigCache INSTANCE = new ConfigCache(null, null, null, null, null, 0, false);
+    }
+
+    /**
+     * One document type's entries. Every write takes a stamp from the table's version
+     * and leaves it on the id's entry (an evict leaves an empty entry, a clear records
+     * its stamp table-wide). A read-through load notes the version before it queries
+     * and installs its result inside {@code entries.compute}, only if no write to that
+     * id (or clear) is stamped after it: check and install are one atomic step, so a
+     * load that raced an update can never put the older document back, and a write to
+     * another id does not stop it caching.
+     */
+    public static final class Table<T> {
+
+        private final ConcurrentHashMap<String, Entry<T>> entries = new ConcurrentHashMap<>();
+        private final AtomicLong version = new AtomicLong();
+        private volatile long clearedAt;
+        private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+        private final Function<T, String> idOf;
+        private final UnaryOperator<T> copy;
+        private final long ttlNanos;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter expired;
+
+        private Table(String name, Function<T, String> idOf, UnaryOperator<T> copy, long ttlNanos,
+                      MeterRegistry registry) {
+            this.idOf = idOf;
+            this.copy = copy;
+            this.ttlNanos = ttlNanos;
+            this.hits = counter(registry, name, "hit");
+            this.misses = counter(registry, name, "miss");
+            this.expired = counter(registry, name, "expired");
+            if (registry != null) {
+                Gauge.builder(CONFIG_CACHE_ENTRIES, this, Table::size)
+                        .tag("cache", name)
+                        .register(registry);
+            }
+        }
+
+        private static Counter counter(MeterRegistry registry, String name, String result) {
+            return registry == null ? null : Counter.builder(CONFIG_CACHE_REQUESTS_TOTAL)
+                    .tag("cache", name)
+                    .tag("result", result)
+                    .register(registry);
+        }
+
+        boolean isEnabled() {
+            return ttlNanos > 0;
+        }
+
+        /**
+         * The document with {@code id}, from memory if cached and fresh, else from
+         * {@code loader} (cached on the way out). Empty if the loader finds nothing.
+         */
+        public Optional<T> get(String id, Function<String, Optional<T>> loader) {
+            if (!isEnabled() || id == null) {
+                return loader.apply(id);
+            }
+            long now = System.nanoTime();
+            Entry<T> hit = entries.get(id);
+            if (hit != null && hit.isLive(now)) {
+                increment(hits);
+                return Optional.of(copy.apply(hit.value));
+            }
+            increment(hit != null && hit.value != null ? expired : misses);
+            long seen = version.get();
+            Optional<T> loaded = loader.apply(id);
+            if (loaded.isPresent()) {
+                Entry<T> fresh = new Entry<>(copy.apply(loaded.get()), System.nanoTime() + ttlNanos, seen);
+                entries.compute(id, (key, current) ->
+                        clearedAt > seen || (current != null && current.stamp > seen) ? current : fresh);
+            }
+            return loaded;
+        }
+
+        /**
+         * The cached, fresh document with {@code id}, without loading it. Callers
+         * batch the misses into one query of their own.
+         */
+        public Optional<T> peek(String id) {
+            if (!isEnabled()) {
+                return Optional.empty();
+            }
+            Entry<T> hit = entries.get(id);
+            if (hit == null || !hit.isLive(System.nanoTime())) {
+                increment(hit != null && hit.value != null ? expired : misses);
+                return Optional.empty();
+            }
+            increment(hits);
+            return Optional.of(copy.apply(hit.value));
+        }
+
+        /**
+         * Call {@code listener} with the id of every document written or evicted from
+         * now on ({@code null} when the whole table was dropped). Listeners hear writes
+         * even with the cache disabled, and run on the writing thread, so they should
+         * hand real work off.
+         */
+        public void onChange(Consumer<String> listener) {
+            listeners.add(listener);
+        }
+
+        /** Cache {@code value} as just written. */
+        public void put(T value) {
+            String id = idOf.apply(value);
+            if (isEnabled()) {
+                write(id, copy.apply(value), System.nanoTime() + ttlNanos);
+            }
+            changed(id);
+        }
+
+        void putAll(Collection<T> values) {
+            values.forEach(this::put);
+        }
+
+        /** Drop the document with {@code id}; the next lookup loads it afresh. */
+        public void evict(String id) {
+            if (isEnabled()) {
+                write(id, null, 0);
+            }
+            changed(id);
+        }
+
+        void clear() {
+            clearedAt = version.incrementAndGet();
+            entries.clear();
+            changed(null);
+        }
+
+        /**
+         * Stamp and store a write ({@code value} {@code null} for an evict). Two writes
+         * to one id racing each other keep the later stamp.
+         */
+        private void write(String id, T value, long expiresAtNanos) {
+            Entry<T> written = new Entry<>(value, expiresAtNanos, version.incrementAndGet());
+            entries.merge(id, written, (current, next) -> current.stamp > next.stamp ? current : next);
+        }
+
+        private void changed(String id) {
+            for (Consumer<String> listener : listeners) {
+                try {
+                    listener.accept(id);
+                } catch (Exception e) {
+                    log.warn("Config cache change listener failed for {}: {}", id, e.getMessage());
+                }
+            }
+        }
+
+        /** Cached documents, not counting the empty entries evicts leave behind. */
+        int size() {
+            int size = 0;
+            for (Entry<T> entry : entries.values()) {
+                if (entry.value != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        private static void increment(Counter counter) {
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+    }
+
+    /**
+     * A cached document and the stamp of the write (or load start) that produced it.
+     * An evict leaves an entry with no value, so a load that began before the evict
+     * still finds the newer stamp.
+     */
+    private record Entry<T>(T value, long expiresAtNanos, long stamp) {
+
+        boolean isLive(long nowNanos) {
+            return value != null && expiresAtNanos > nowNanos;
+        }
+    }
+}
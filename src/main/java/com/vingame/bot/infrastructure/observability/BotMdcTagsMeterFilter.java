@@ -5,7 +5,6 @@ import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.config.MeterFilter;
-import org.slf4j.MDC;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -84,7 +83,7 @@ public class BotMdcTagsMeterFilter implements MeterFilter {
     }
 
     private static void addTagIfPresent(List<Tag> tags, String key) {
-        String value = MDC.get(key);
+        String value = BotMdc.get(key);
         if (value != null && !value.isEmpty()) {
             tags.add(Tag.of(key, value));
         }
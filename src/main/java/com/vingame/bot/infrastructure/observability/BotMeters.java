@@ -0,0 +1,207 @@
+package com.vingame.bot.infrastructure.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-bound {@code bot_*} / {@code group_*} counter handles for one bot identity
+ * (the {@link BotMetrics} tag set: {@code botGroupId}, {@code environmentId},
+ * {@code gameType}, {@code gameId}, {@code gameName}).
+ * <p>
+ * Obtained from {@link BotMetrics#forBot} once in {@code Bot.initialize()} (and
+ * {@link BotMetrics#forGroup} for group-scoped counters), so the per-frame path is a
+ * field read and {@code Counter.increment()} — no MDC read, no {@code Tags} build,
+ * no registry lookup. Bots of the same group resolve to the same instance, because
+ * their identity tags are identical (no {@code botId}, Architecture Decision 5).
+ * <p>
+ * <b>Same series as before.</b> Every handle is registered lazily, on its first
+ * increment, with exactly the name and tags {@code BotMetrics} would have used, so a
+ * bot that never reconnects still exports no {@code bot_reconnects_total} series.
+ * Registration still happens inside the bot's MDC-wrapped callback, so
+ * {@link BotMdcTagsMeterFilter} sees the same context it always did. Method names and
+ * guards mirror the {@code BotMetrics.inc*} they replace; {@code BotMetrics} itself
+ * delegates here, so the two cannot drift.
+ * <p>
+ * Tagged families ({@code cmd}, {@code reason}, {@code event}, {@code outcome}) are
+ * bounded by their documented label sets; the per-label handle is cached after its
+ * first use.
+ */
+public class BotMeters {
+
+    private final MeterRegistry registry;
+    private final Tags identity;
+
+    private final ConcurrentHashMap<String, Counter> messages = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> reconnects = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> wsEvents = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> creationFailures = new ConcurrentHashMap<>();
+
+    private final Handle failures;
+    private final Handle autoDepositSuccess;
+    private final Handle autoDepositFailure;
+    private final Handle watchdogExpired;
+    private final Handle betsPlaced;
+    private final Handle betAmount;
+    private final Handle winnings;
+    private final Handle jackpots;
+    private final Handle jackpotAmount;
+    private final Handle deadSeconds;
+    private final Handle moneyDrained;
+    private final Handle groupDeadSeconds;
+    private final Handle loginSuccess;
+    private final Handle loginFailure;
+    private final Handle verifyTokenSuccess;
+    private final Handle verifyTokenFailure;
+
+    BotMeters(MeterRegistry registry, Tags identity) {
+        this.registry = registry;
+        this.identity = identity;
+        this.failures = new Handle(BotMetrics.BOT_FAILURES_TOTAL, identity);
+        this.autoDepositSuccess = new Handle(BotMetrics.BOT_AUTO_DEPOSITS_TOTAL, identity.and("outcome", "success"));
+        this.autoDepositFailure = new Handle(BotMetrics.BOT_AUTO_DEPOSITS_TOTAL, identity.and("outcome", "failure"));
+        this.watchdogExpired = new Handle(BotMetrics.BOT_WATCHDOG_EXPIRED_TOTAL, identity);
+        this.betsPlaced = new Handle(BotMetrics.BOT_BETS_PLACED_TOTAL, identity);
+        this.betAmount = new Handle(BotMetrics.BOT_BET_AMOUNT_TOTAL, identity);
+        this.winnings = new Handle(BotMetrics.BOT_WINNINGS_TOTAL, identity);
+        this.jackpots = new Handle(BotMetrics.BOT_JACKPOTS_TOTAL, identity);
+        this.jackpotAmount = new Handle(BotMetrics.BOT_JACKPOT_AMOUNT_TOTAL, identity);
+        this.deadSeconds = new Handle(BotMetrics.BOT_DEAD_SECONDS_TOTAL, identity);
+        this.moneyDrained = new Handle(BotMetrics.BOT_MONEY_DRAINED_TOTAL, identity);
+        this.groupDeadSeconds = new Handle(BotMetrics.GROUP_DEAD_SECONDS_TOTAL, identity);
+        this.loginSuccess = new Handle(BotMetrics.BOT_LOGIN_TOTAL, identity.and("outcome", "success"));
+        this.loginFailure = new Handle(BotMetrics.BOT_LOGIN_TOTAL, identity.and("outcome", "failure"));
+        this.verifyTokenSuccess = new Handle(BotMetrics.BOT_VERIFY_TOKEN_TOTAL, identity.and("outcome", "success"));
+        this.verifyTokenFailure = new Handle(BotMetrics.BOT_VERIFY_TOKEN_TOTAL, identity.and("outcome", "failure"));
+    }
+
+    /** The identity tags every handle carries. */
+    public Tags getIdentity() {
+        return identity;
+    }
+
+    /** @see BotMetrics#incBotMessage */
+    public void incBotMessage(String cmd) {
+        labelled(messages, BotMetrics.BOT_MESSAGES_TOTAL, "cmd", cmd).increment();
+    }
+
+    /** @see BotMetrics#incBotFailure */
+    public void incBotFailure() {
+        failures.get().increment();
+    }
+
+    /** @see BotMetrics#incBotReconnect */
+    public void incBotReconnect(String reason) {
+        labelled(reconnects, BotMetrics.BOT_RECONNECTS_TOTAL, "reason", reason).increment();
+    }
+
+    /** @see BotMetrics#incBotAutoDeposit */
+    public void incBotAutoDeposit(boolean success) {
+        (success ? autoDepositSuccess : autoDepositFailure).get().increment();
+    }
+
+    /** @see BotMetrics#incBotCreationFailure */
+    public void incBotCreationFailure(String reason) {
+        labelled(creationFailures, BotMetrics.BOT_CREATION_FAILURES_TOTAL, "reason", reason).increment();
+    }
+
+    /** @see BotMetrics#incBotWatchdogExpired */
+    public void incBotWatchdogExpired() {
+        watchdogExpired.get().increment();
+    }
+
+    /** @see BotMetrics#incBotWsEvent */
+    public void incBotWsEvent(String event) {
+        labelled(wsEvents, BotMetrics.BOT_WS_CONNECTIONS_TOTAL, "event", event).increment();
+    }
+
+    /**
+     * @see BotMetrics#incBetsPlaced — count and amount are guarded independently;
+     * {@code (0, 0)} registers nothing.
+     */
+    public void incBetsPlaced(int count, long totalAmount) {
+        if (count > 0) {
+            betsPlaced.get().increment(count);
+        }
+        if (totalAmount > 0) {
+            betAmount.get().increment(totalAmount);
+        }
+    }
+
+    /** @see BotMetrics#incBotWinnings */
+    public void incBotWinnings(long amount) {
+        winnings.get().increment(amount);
+    }
+
+    /** @see BotMetrics#incBotJackpot */
+    public void incBotJackpot(long amount) {
+        jackpots.get().increment();
+        jackpotAmount.get().increment(amount);
+    }
+
+    /** @see BotMetrics#incLogin */
+    public void incLogin(boolean success) {
+        (success ? loginSuccess : loginFailure).get().increment();
+    }
+
+    /** @see BotMetrics#incVerifyToken */
+    public void incVerifyToken(boolean success) {
+        (success ? verifyTokenSuccess : verifyTokenFailure).get().increment();
+    }
+
+    /** @see BotMetrics#incBotDeadSeconds — non-positive durations are dropped. */
+    public void incBotDeadSeconds(long seconds) {
+        if (seconds <= 0) return;
+        deadSeconds.get().increment(seconds);
+    }
+
+    /** @see BotMetrics#incMoneyDrained — non-positive amounts are dropped. */
+    public void incMoneyDrained(long amount) {
+        if (amount <= 0) return;
+        moneyDrained.get().increment(amount);
+    }
+
+    /** @see BotMetrics#incGroupDeadSeconds — non-positive durations are dropped. */
+    public void incGroupDeadSeconds(long seconds) {
+        if (seconds <= 0) return;
+        groupDeadSeconds.get().increment(seconds);
+    }
+
+    private Counter labelled(ConcurrentHashMap<String, Counter> family, String name, String key, String value) {
+        // get() first: the hit path must not allocate the computeIfAbsent lambda.
+        Counter c = family.get(value);
+        if (c == null) {
+            c = family.computeIfAbsent(value, v -> Counter.builder(name)
+                    .tag(key, v)
+                    .tags(identity)
+                    .register(registry));
+        }
+        return c;
+    }
+
+    /**
+     * One lazily registered counter. A racing first increment may register twice;
+     * the registry hands back the same instance both times, so that is harmless.
+     */
+    private final class Handle {
+        private final String name;
+        private final Tags tags;
+        private volatile Counter counter;
+
+        Handle(String name, Tags tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+
+        Counter get() {
+            Counter c = counter;
+            if (c == null) {
+                c = Counter.builder(name).tags(tags).register(registry);
+                counter = c;
+            }
+            return c;
+        }
+    }
+}
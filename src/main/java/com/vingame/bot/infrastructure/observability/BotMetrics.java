@@ -1,15 +1,15 @@
 package com.vingame.bot.infrastructure.observability;
 
 import com.vingame.bot.common.logging.BotMdc;
-import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
-import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Central holder for all bot-emitted Micrometer counters.
@@ -32,6 +32,13 @@ import java.util.List;
  * still serves as defense-in-depth for any future {@code bot_*} meter created outside
  * this class, and enforces the aggregate-gauge exclusion list.
  * <p>
+ * <b>Hot path:</b> bots do not call the {@code inc*} methods per frame. They bind a
+ * {@link BotMeters} once ({@link #forBot}, from their MDC snapshot) and increment its
+ * cached handles. The {@code inc*} methods remain for callers without a bound identity
+ * (the shared environment clients, group start); they resolve the same
+ * {@link BotMeters} from the current MDC and delegate to it, so both routes produce
+ * the same series.
+ * <p>
  * Naming convention (Architecture Decision 11):
  * <ul>
  *   <li>{@code bot_*} — per-bot semantics (carries MDC-driven group/env/game tags).</li>
@@ -81,28 +88,79 @@ public class BotMetrics {
 
     private final MeterRegistry registry;
 
+    // One BotMeters per distinct identity tag set. Bounded by the number of groups
+    // (the identity carries no per-bot tag), and lives as long as the registry's own
+    // meters do — nothing in the app removes bot_* meters.
+    private final Map<Tags, BotMeters> bound = new ConcurrentHashMap<>();
+
     public BotMetrics(MeterRegistry registry) {
         this.registry = registry;
     }
 
+    /**
+     * Counter handles bound to a bot's identity, as captured in its MDC snapshot.
+     * Called once per bot from {@code Bot.initialize()}; every bot of a group gets the
+     * same instance. A {@code null} snapshot (fixtures that never ran
+     * {@code initialize()}) binds the empty tag set — what {@link #mdcTags()} yields
+     * on a bare thread.
+     */
+    public BotMeters forBot(Map<String, String> mdcSnapshot) {
+        List<Tag> tags = new ArrayList<>(5);
+        if (mdcSnapshot != null) {
+            addIfPresent(tags, BotMdc.BOT_GROUP_ID, mdcSnapshot.get(BotMdc.BOT_GROUP_ID));
+            addIfPresent(tags, BotMdc.ENVIRONMENT_ID, mdcSnapshot.get(BotMdc.ENVIRONMENT_ID));
+            addIfPresent(tags, BotMdc.GAME_TYPE, mdcSnapshot.get(BotMdc.GAME_TYPE));
+            addIfPresent(tags, BotMdc.GAME_ID, mdcSnapshot.get(BotMdc.GAME_ID));
+            addIfPresent(tags, BotMdc.GAME_NAME, mdcSnapshot.get(BotMdc.GAME_NAME));
+        }
+        return bind(tags);
+    }
+
+    /**
+     * Counter handles for group-scoped series — the tag set
+     * {@link BotMdc#setGroupContext} puts on the thread ({@code botGroupId},
+     * {@code environmentId}).
+     */
+    public BotMeters forGroup(String botGroupId, String environmentId) {
+        List<Tag> tags = new ArrayList<>(2);
+        addIfPresent(tags, BotMdc.BOT_GROUP_ID, botGroupId);
+        addIfPresent(tags, BotMdc.ENVIRONMENT_ID, environmentId);
+        return bind(tags);
+    }
+
+    private BotMeters bind(List<Tag> tags) {
+        return bind(tags.isEmpty() ? Tags.empty() : Tags.of(tags));
+    }
+
+    private BotMeters bind(Tags identity) {
+        BotMeters meters = bound.get(identity);
+        return meters != null ? meters : bound.computeIfAbsent(identity, t -> new BotMeters(registry, t));
+    }
+
     /**
      * Read bot identity tags from MDC. Returns an empty {@link Tags} if no MDC keys
-     * are populated (e.g. when called from a non-bot-owned thread). Empty-string MDC
-     * values are skipped — they would prometheus-format as {@code key=""} which is
-     * legal but noisy.
+     * are populated (e.g. when called from a non-bot-owned thread).
      */
     private Tags mdcTags() {
         List<Tag> tags = new ArrayList<>(5);
-        addIfPresent(tags, BotMdc.BOT_GROUP_ID);
-        addIfPresent(tags, BotMdc.ENVIRONMENT_ID);
-        addIfPresent(tags, BotMdc.GAME_TYPE);
-        addIfPresent(tags, BotMdc.GAME_ID);
-        addIfPresent(tags, BotMdc.GAME_NAME);
+        addIfPresent(tags, BotMdc.BOT_GROUP_ID, BotMdc.get(BotMdc.BOT_GROUP_ID));
+        addIfPresent(tags, BotMdc.ENVIRONMENT_ID, BotMdc.get(BotMdc.ENVIRONMENT_ID));
+        addIfPresent(tags, BotMdc.GAME_TYPE, BotMdc.get(BotMdc.GAME_TYPE));
+        addIfPresent(tags, BotMdc.GAME_ID, BotMdc.get(BotMdc.GAME_ID));
+        addIfPresent(tags, BotMdc.GAME_NAME, BotMdc.get(BotMdc.GAME_NAME));
         return tags.isEmpty() ? Tags.empty() : Tags.of(tags);
     }
 
-    private static void addIfPresent(List<Tag> tags, String key) {
-        String value = MDC.get(key);
+    /** The handles for whatever identity the calling thread's MDC carries. */
+    private BotMeters mdcMeters() {
+        return bind(mdcTags());
+    }
+
+    /**
+     * Empty-string identity values are skipped — they would prometheus-format as
+     * {@code key=""} which is legal but noisy.
+     */
+    private static void addIfPresent(List<Tag> tags, String key, String value) {
         if (value != null && !value.isEmpty()) {
             tags.add(Tag.of(key, value));
         }
@@ -114,41 +172,26 @@ public class BotMetrics {
      * @param cmd one of {@code subscribe|startGame|updateBet|endGame}
      */
     public void incBotMessage(String cmd) {
-        Counter.builder(BOT_MESSAGES_TOTAL)
-                .tag("cmd", cmd)
-                .tags(mdcTags())
-                .register(registry)
-                .increment();
+        mdcMeters().incBotMessage(cmd);
     }
 
     /** Increment the per-bot failure counter (fires on transition into DEAD). */
     public void incBotFailure() {
-        Counter.builder(BOT_FAILURES_TOTAL)
-                .tags(mdcTags())
-                .register(registry)
-                .increment();
+        mdcMeters().incBotFailure();
     }
 
     /**
      * Increment the per-bot reconnect counter.
      *
-     * @param reason normalized reason: {@code watchdog|ws-disconnect|reauth-cycle}
+     * @param reason normalized reason: {@code watchdog|ws-disconnect|reauth-cycle|recycle}
      */
     public void incBotReconnect(String reason) {
-        Counter.builder(BOT_RECONNECTS_TOTAL)
-                .tag("reason", reason)
-                .tags(mdcTags())
-                .register(registry)
-                .increment();
+        mdcMeters().incBotReconnect(reason);
     }
 
     /** Increment the per-bot auto-deposit counter, tagged with outcome. */
     public void incBotAutoDeposit(boolean success) {
-        Counter.builder(BOT_AUTO_DEPOSITS_TOTAL)
-                .tag("outcome", success ? "success" : "failure")
-                .tags(mdcTags())
-                .register(registry)
-                .increment();
+        mdcMeters().incBotAutoDeposit(success);
     }
 
     /**
@@ -159,19 +202,12 @@ public class BotMetrics {
      * @param reason bounded label: {@code validation | auth | unknown}.
      */
     public void incBotCreationFailure(String reason) {
-        Counter.builder(BOT_CREATION_FAILURES_TOTAL)
-                .tag("reason", reason)
-                .tags(mdcTags())
-                .register(registry)
-                .increment();
+        mdcMeters().incBotCreationFailure(reason);
     }
 
     /** Increment the watchdog-expired counter. */
     public void incBotWatchdogExpired() {
-        Counter.builder(BOT_WATCHDOG_EXPIRED_TOTAL)
-                .tags(mdcTags())
-                .register(registry)
-                .increment();
+        mdcMeters().incBotWatchdogExpired();
     }
 
     /**
@@ -180,11 +216,7 @@ public class BotMetrics {
      * @param event one of {@code connected|authenticating|disconnected}
      */
     public void incBotWsEvent(String event) {
-        Counter.builder(BOT_WS_CONNECTIONS_TOTAL)
-                .tag("event", event)
-                .tags(mdcTags())
-                .register(registry)
-                .increment();
+        mdcMeters().incBotWsEvent(event);
     }
 
     /**
@@ -212,21 +244,8 @@ public class BotMetrics {
      * values are treated as zero (silent drop).
      */
     public void incBetsPlaced(int count, long totalAmount) {
-        Tags tags = null;
-        if (count > 0) {
-            tags = mdcTags();
-            Counter.builder(BOT_BETS_PLACED_TOTAL)
-                    .tags(tags)
-                    .register(registry)
-                    .increment(count);
-        }
-        if (totalAmount > 0) {
-            if (tags == null) tags = mdcTags();
-            Counter.builder(BOT_BET_AMOUNT_TOTAL)
-                    .tags(tags)
-                    .register(registry)
-                    .increment(totalAmount);
-        }
+        if (count <= 0 && totalAmount <= 0) return;
+        mdcMeters().incBetsPlaced(count, totalAmount);
     }
 
     /**
@@ -238,10 +257,7 @@ public class BotMetrics {
      * guards on {@code amount > 0}.
      */
     public void incBotWinnings(long amount) {
-        Counter.builder(BOT_WINNINGS_TOTAL)
-                .tags(mdcTags())
-                .register(registry)
-                .increment(amount);
+        mdcMeters().incBotWinnings(amount);
     }
 
     /**
@@ -254,33 +270,17 @@ public class BotMetrics {
      * guards on {@code amount > 0}.
      */
     public void incBotJackpot(long amount) {
-        Tags tags = mdcTags();
-        Counter.builder(BOT_JACKPOTS_TOTAL)
-                .tags(tags)
-                .register(registry)
-                .increment();
-        Counter.builder(BOT_JACKPOT_AMOUNT_TOTAL)
-                .tags(tags)
-                .register(registry)
-                .increment(amount);
+        mdcMeters().incBotJackpot(amount);
     }
 
     /** Increment the login counter tagged with outcome. */
     public void incLogin(boolean success) {
-        Counter.builder(BOT_LOGIN_TOTAL)
-                .tag("outcome", success ? "success" : "failure")
-                .tags(mdcTags())
-                .register(registry)
-                .increment();
+        mdcMeters().incLogin(success);
     }
 
     /** Increment the verify-token counter tagged with outcome. */
     public void incVerifyToken(boolean success) {
-        Counter.builder(BOT_VERIFY_TOKEN_TOTAL)
-                .tag("outcome", success ? "success" : "failure")
-                .tags(mdcTags())
-                .register(registry)
-                .increment();
+        mdcMeters().incVerifyToken(success);
     }
 
     /**
@@ -299,10 +299,7 @@ public class BotMetrics {
      */
     public void incBotDeadSeconds(long seconds) {
         if (seconds <= 0) return;
-        Counter.builder(BOT_DEAD_SECONDS_TOTAL)
-                .tags(mdcTags())
-                .register(registry)
-                .increment(seconds);
+        mdcMeters().incBotDeadSeconds(seconds);
     }
 
     /**
@@ -327,10 +324,7 @@ public class BotMetrics {
      */
     public void incMoneyDrained(long amount) {
         if (amount <= 0) return;
-        Counter.builder(BOT_MONEY_DRAINED_TOTAL)
-                .tags(mdcTags())
-                .register(registry)
-                .increment(amount);
+        mdcMeters().incMoneyDrained(amount);
     }
 
     /**
@@ -341,9 +335,6 @@ public class BotMetrics {
      */
     public void incGroupDeadSeconds(long seconds) {
         if (seconds <= 0) return;
-        Counter.builder(GROUP_DEAD_SECONDS_TOTAL)
-                .tags(mdcTags())
-                .register(registry)
-                .increment(seconds);
+        mdcMeters().incGroupDeadSeconds(seconds);
     }
 }
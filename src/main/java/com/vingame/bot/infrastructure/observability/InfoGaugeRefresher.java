@@ -115,8 +115,8 @@ public class InfoGaugeRefresher {
     }
 
     /**
-     * Re-register the row set of all four MultiGauges from the current live bot
-     * iteration. Side-effect-isolated so tests can drive a deterministic refresh.
+     * Re-register the row set of all four MultiGauges from the current bot status
+     * counts (BotCensus). Side-effect-isolated so tests can drive a deterministic refresh.
      * <p>
      * <b>Every register call passes {@code overwrite=true}.</b> Micrometer's
      * {@link MultiGauge#register(Iterable)} (single-arg) defaults to
@@ -115,7 +115,7 @@ public class SessionAggregationService {
     /**
      * Start the single app-wide 5s flush + eviction scheduler (AD-7). Mirrors the
      * virtual-thread scheduled-executor pattern of
-     * {@code BotGroupBehaviorService.startHealthMonitoring}. Runs one tick every
+     * {@code BotGroupBehaviorService}'s health evaluator. Runs one tick every
      * {@link #FLUSH_INTERVAL_SECONDS}s.
      */
     @PostConstruct
@@ -291,7 +291,7 @@ public class SessionAggregationService {
             return; // no MDC identity (e.g. non-bot thread) — nothing to key on
         }
         SessionAccumulator candidate = new SessionAccumulator(
-                strategy, MDC.getCopyOfContextMap(), System.nanoTime());
+                strategy, BotMdc.copyOfContextMap(), System.nanoTime());
         SessionAccumulator existing = sessions.putIfAbsent(key, candidate);
         if (existing != null) {
             return; // lost the race — another bot already logged the entry line
@@ -357,7 +357,7 @@ public class SessionAggregationService {
             return;
         }
         SessionAccumulator acc = sessions.computeIfAbsent(key, k ->
-                new SessionAccumulator(strategy, MDC.getCopyOfContextMap(), System.nanoTime()));
+                new SessionAccumulator(strategy, BotMdc.copyOfContextMap(), System.nanoTime()));
         acc.recordBet(bettor, perLineBet, totalStake);
         enforceSizeCap();
     }
@@ -445,8 +445,8 @@ public class SessionAggregationService {
     // ---- internals ----
 
     private SessionKey keyFor(long sid) {
-        String botGroupId = MDC.get(BotMdc.BOT_GROUP_ID);
-        String gameId = MDC.get(BotMdc.GAME_ID);
+        String botGroupId = BotMdc.get(BotMdc.BOT_GROUP_ID);
+        String gameId = BotMdc.get(BotMdc.GAME_ID);
         if (botGroupId == null || gameId == null) {
             return null;
         }
@@ -454,7 +454,7 @@ public class SessionAggregationService {
     }
 
     private SessionContext contextFor(SessionKey key) {
-        String gameName = MDC.get(BotMdc.GAME_NAME);
+        String gameName = BotMdc.get(BotMdc.GAME_NAME);
         return new SessionContext(key.botGroupId(), gameName, key.sid());
     }
 
@@ -0,0 +1,75 @@
+package com.vingame.bot.infrastructure.observability;
+
+import com.vingame.bot.domain.botgroup.service.BotGroupBehaviorService;
+import com.vingame.bot.infrastructure.runtime.WireTap;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code /actuator/wiretap}: on-demand dump of each running group's captured raw
+ * frames ({@link WireTap}).
+ * <p>
+ * {@code GET /actuator/wiretap} lists the running groups with their capture settings
+ * and counts; {@code GET /actuator/wiretap/{groupId}} returns that group's ring,
+ * oldest frame first. Capture is off unless {@code bot.wiretap.ring-capacity > 0};
+ * the raw-frame log printer is controlled separately through the
+ * {@code com.vingame.bot.wire} loggers in {@code /actuator/loggers}, down to one group.
+ * {@code POST /actuator/wiretap/{groupId}/{userName}} with {@code {"enabled": true}}
+ * traces a single bot without changing any level.
+ */
+@Component
+@Endpoint(id = "wiretap")
+public class WireTapEndpoint {
+
+    private final BotGroupBehaviorService behaviorService;
+
+    public WireTapEndpoint(BotGroupBehaviorService behaviorService) {
+        this.behaviorService = behaviorService;
+    }
+
+    @ReadOperation
+    public Map<String, GroupSummary> groups() {
+        Map<String, GroupSummary> summaries = new LinkedHashMap<>();
+        behaviorService.getWireTaps().forEach((groupId, tap) -> summaries.put(groupId, new GroupSummary(
+                tap.isCapturing(), tap.getRingCapacity(), tap.getSampleEvery(), tap.getCapturedCount(),
+                tap.getTracedBots())));
+        return summaries;
+    }
+
+    /**
+     * @return the group's captured frames, oldest first; {@code null} (404) if the
+     *         group is not running
+     */
+    @ReadOperation
+    public List<WireTap.CapturedFrame> frames(@Selector String groupId) {
+        WireTap tap = behaviorService.getWireTap(groupId);
+        return tap != null ? tap.snapshot() : null;
+    }
+
+    /**
+     * Trace one bot's frames, or stop.
+     *
+     * @return the group's traced bots after the change; {@code null} (404) if the
+     *         group is not running
+     */
+    @WriteOperation
+    public Set<String> trace(@Selector String groupId, @Selector String userName, boolean enabled) {
+        WireTap tap = behaviorService.getWireTap(groupId);
+        if (tap == null) {
+            return null;
+        }
+        tap.setTraced(userName, enabled);
+        return tap.getTracedBots();
+    }
+
+    public record GroupSummary(boolean capturing, int ringCapacity, int sampleEvery, long capturedTotal,
+                               Set<String> tracedBots) {}
+}
@@ -0,0 +1,244 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.common.logging.BotMdc;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous balance refreshes for one environment.
+ * <p>
+ * A bot whose local balance has drifted too far from the last server figure used to
+ * fetch it inline, on its message thread, at every round transition — a blocking
+ * verify-token call per bot, all landing in the same round. Bots now hand the fetch
+ * to {@link #request} and carry on with their local figure; this class runs the
+ * fetches with at most {@code maxConcurrent} in flight and delivers each result to
+ * the bot's callback when it lands.
+ * <p>
+ * Requests are coalesced per key (the bot's username): while one is queued or in
+ * flight, further requests for the same key are dropped, since the pending fetch
+ * will answer them all. Each request names its owner (the bot instance), and only
+ * the same owner's requests coalesce: a bot replaced under the same username (a
+ * rolling restart, a recycle) gets its own fetch, the outgoing instance's pending
+ * one is superseded, and {@link #forget} drops what the outgoing instance left. A
+ * superseded or forgotten fetch still completes but delivers nothing.
+ * <p>
+ * Nothing here blocks. A fetch is started from whichever thread submits it or
+ * completes the previous one; the callback runs on the HTTP client's completion
+ * thread and must be cheap. A fetch that completes while it is being started (a
+ * fast failure) frees its slot to the drain loop already running rather than
+ * starting the next fetch from inside its own completion.
+ * <p>
+ * Metrics (tagged {@code environmentId}): {@code balance_refresh_queue_depth} and
+ * {@code balance_refresh_in_flight} gauges, the {@code balance_refresh_latency_seconds}
+ * histogram (tagged {@code outcome=success|failure}) and
+ * {@code balance_refresh_coalesced_total}.
+ */
+@Slf4j
+public class BalanceReconciler {
+
+    public static final String BALANCE_REFRESH_QUEUE_DEPTH = "balance_refresh_queue_depth";
+    public static final String BALANCE_REFRESH_IN_FLIGHT = "balance_refresh_in_flight";
+    public static final String BALANCE_REFRESH_LATENCY_SECONDS = "balance_refresh_latency_seconds";
+    public static final String BALANCE_REFRESH_COALESCED_TOTAL = "balance_refresh_coalesced_total";
+
+    private record Request(String key, Object owner, Supplier<CompletableFuture<Long>> fetch, LongConsumer onBalance) {
+    }
+
+    @Getter
+    private final String environmentId;
+    @Getter
+    private final int maxConcurrent;
+
+    private final ConcurrentHashMap<String, Request> pending = new ConcurrentHashMap<>();
+    private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Drain requests not yet served; only the caller that takes it from 0 runs the loop.
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    private final Timer successLatency;
+    private final Timer failureLatency;
+    private final Counter coalesced;
+
+    /**
+     * @param registry where to publish the reconciler's meters; {@code null} publishes none
+     */
+    public BalanceReconciler(String environmentId, int maxConcurrent, MeterRegistry registry) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("max-concurrent must be positive");
+        }
+        this.environmentId = environmentId;
+        this.maxConcurrent = maxConcurrent;
+
+        if (registry != null) {
+            Gauge.builder(BALANCE_REFRESH_QUEUE_DEPTH, this, BalanceReconciler::getQueueDepth)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            Gauge.builder(BALANCE_REFRESH_IN_FLIGHT, this, BalanceReconciler::getInFlight)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            this.successLatency = latencyTimer(registry, environmentId, "success");
+            this.failureLatency = latencyTimer(registry, environmentId, "failure");
+            this.coalesced = Counter.builder(BALANCE_REFRESH_COALESCED_TOTAL)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+        } else {
+            this.successLatency = null;
+            this.failureLatency = null;
+            this.coalesced = null;
+        }
+    }
+
+    private static Timer latencyTimer(MeterRegistry registry, String environmentId, String outcome) {
+        return Timer.builder(BALANCE_REFRESH_LATENCY_SECONDS)
+                .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Queue a balance fetch for {@code key} unless {@code owner} already has one pending.
+     *
+     * @param owner     the instance requesting for {@code key}; a pending fetch of a
+     *                  different owner is superseded, not shared
+     * @param fetch     starts the fetch; called once, when a slot is free
+     * @param onBalance receives the fetched balance; not called if the fetch fails or
+     *                  is superseded or forgotten before it lands
+     * @return {@code false} when the request was coalesced into a pending one
+     */
+    public boolean request(String key, Object owner, Supplier<CompletableFuture<Long>> fetch,
+                           LongConsumer onBalance) {
+        Request request = new Request(key, owner, fetch, onBalance);
+        Request previous;
+        while ((previous = pending.putIfAbsent(key, request)) != null) {
+            if (previous.owner() == owner) {
+                if (coalesced != null) {
+                    coalesced.increment();
+                }
+                return false;
+            }
+            if (pending.replace(key, previous, request)) {
+                unqueue(previous);
+                break;
+            }
+        }
+        queued.incrementAndGet();
+        queue.add(request);
+        drain();
+        return true;
+    }
+
+    /**
+     * Drop {@code owner}'s pending request for {@code key}: a queued one never starts,
+     * one in flight completes without calling back. A newer owner's request is kept.
+     */
+    public void forget(String key, Object owner) {
+        Request request = pending.get(key);
+        if (request != null && request.owner() == owner && pending.remove(key, request)) {
+            unqueue(request);
+        }
+    }
+
+    private void unqueue(Request request) {
+        if (queue.remove(request)) {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Start queued fetches while slots are free. Re-entrant calls (a completion landing
+     * while the loop runs, even on the same stack) only ask the running loop to go round
+     * again, so a run of fetches failing synchronously never deepens the stack.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            startReady();
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void startReady() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent || queue.isEmpty()) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Request request = queue.poll();
+            if (request == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            start(request);
+        }
+    }
+
+    private void start(Request request) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<Long> future;
+        try {
+            future = request.fetch().get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((balance, failure) -> {
+            long elapsed = System.nanoTime() - startedAt;
+            // Still this key's request: not superseded by a new owner or forgotten.
+            boolean current = pending.remove(request.key(), request);
+            try {
+                if (failure == null && balance != null) {
+                    record(successLatency, elapsed);
+                    if (current) {
+                        request.onBalance().accept(balance);
+                    }
+                } else {
+                    record(failureLatency, elapsed);
+                    log.warn("Balance refresh failed for {} (env {}): {}", request.key(), environmentId,
+                            failure != null ? failure.toString() : "no balance");
+                }
+            } catch (RuntimeException e) {
+                log.warn("Balance refresh callback failed for {} (env {})", request.key(), environmentId, e);
+            } finally {
+                inFlight.decrementAndGet();
+                drain();
+            }
+        });
+    }
+
+    private static void record(Timer timer, long elapsedNanos) {
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Requests waiting for a slot. */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /** Fetches started and not yet completed. */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
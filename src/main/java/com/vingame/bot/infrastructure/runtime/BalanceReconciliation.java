@@ -0,0 +1,42 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of {@link BalanceReconciler}s, one per environment.
+ * <p>
+ * Every bot of an environment fetches its balance from the same gateway, so they
+ * share one reconciler and one concurrency budget ({@code bot.balance.refresh-concurrency},
+ * default 16). Reconcilers are created on first use (from {@code BotFactory}) and live
+ * for the process, like the {@code ReconnectAdmission} gates beside them.
+ */
+@Slf4j
+@Component
+public class BalanceReconciliation {
+
+    private final ConcurrentHashMap<String, BalanceReconciler> reconcilers = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final int maxConcurrent;
+
+    public BalanceReconciliation(MeterRegistry registry,
+                                 @Value("${bot.balance.refresh-concurrency:16}") int maxConcurrent) {
+        this.registry = registry;
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /** The reconciler shared by every bot of {@code environmentId}. */
+    public BalanceReconciler forEnvironment(String environmentId) {
+        BalanceReconciler reconciler = reconcilers.get(environmentId);
+        return reconciler != null ? reconciler : reconcilers.computeIfAbsent(environmentId, this::createReconciler);
+    }
+
+    private BalanceReconciler createReconciler(String environmentId) {
+        log.info("Created balance reconciler for environment {} (maxConcurrent={})", environmentId, maxConcurrent);
+        return new BalanceReconciler(environmentId, maxConcurrent, registry);
+    }
+}
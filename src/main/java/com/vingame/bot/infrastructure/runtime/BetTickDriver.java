@@ -0,0 +1,187 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.websocketparser.message.request.ActionRequestMessage;
+import io.netty.util.Timeout;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-scoped bet clock: one wake-up per interval for the whole group instead of
+ * one {@code sendAsync} fixed-rate loop per bot.
+ * <p>
+ * Each tick walks every registered {@link BetTickParticipant} in one pass and
+ * collects the frames of the bots that bet this tick. To keep bets organic the
+ * frames are not sent in a single burst: each one is assigned a random jitter slot
+ * inside the interval ({@code interval / jitterSlots} wide) and all frames that
+ * share a slot are sent together. Slot 0 is sent inline; every other non-empty
+ * slot costs one timeout on the shared {@link BotTimer}. Wake-ups per interval are
+ * therefore bounded by {@code jitterSlots} per group, independent of bot count —
+ * and a group whose bots are all outside the BET phase costs exactly one.
+ * <p>
+ * Cadence is fixed-rate against the first tick's deadline, so a slow tick does not
+ * push every later tick back.
+ * <p>
+ * Threading: ticks and slot dispatches run on {@link BotTimer}'s virtual task
+ * threads. Participants are registered from the group's startBot loop and read
+ * on every tick — a {@link CopyOnWriteArrayList}, mirroring
+ * {@code BotGroupRuntime.botInstances}.
+ */
+@Slf4j
+public class BetTickDriver {
+
+    static final long DEFAULT_INTERVAL_MILLIS = 1_000L;
+    static final int DEFAULT_JITTER_SLOTS = 10;
+
+    @Getter
+    private final String groupId;
+    private final BotTimer timer;
+    @Getter
+    private final long intervalMillis;
+    @Getter
+    private final int jitterSlots;
+    private final long slotMillis;
+    private final List<BetTickParticipant> participants = new CopyOnWriteArrayList<>();
+    // Only touched on the tick thread (ticks never overlap — the next one is armed
+    // at the end of the current one).
+    private final Random jitter = new Random();
+
+    private volatile boolean running;
+    private volatile Timeout nextTick;
+    private long nextDeadlineNanos;
+
+    /**
+     * @param groupId        owning bot group (logging only)
+     * @param timer          shared wheel the ticks and slot dispatches are armed on
+     * @param intervalMillis tick interval; non-positive falls back to 1000ms
+     * @param jitterSlots    slots per interval for spreading sends; values below 1
+     *                       fall back to 10, 1 disables jitter
+     */
+    public BetTickDriver(String groupId, BotTimer timer, long intervalMillis, int jitterSlots) {
+        this.groupId = groupId;
+        this.timer = timer;
+        this.intervalMillis = intervalMillis > 0 ? intervalMillis : DEFAULT_INTERVAL_MILLIS;
+        this.jitterSlots = jitterSlots > 0 ? jitterSlots : DEFAULT_JITTER_SLOTS;
+        this.slotMillis = Math.max(1L, this.intervalMillis / this.jitterSlots);
+    }
+
+    public void register(BetTickParticipant participant) {
+        participants.add(participant);
+    }
+
+    public void unregister(BetTickParticipant participant) {
+        participants.remove(participant);
+    }
+
+    public int getParticipantCount() {
+        return participants.size();
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        nextDeadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        nextTick = timer.schedule(this::tick, intervalMillis);
+        log.info("Bet tick driver started for group {} (interval={}ms, jitterSlots={})",
+                groupId, intervalMillis, jitterSlots);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        Timeout t = nextTick;
+        if (t != null) {
+            t.cancel();
+            nextTick = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tick() {
+        if (!running) return;
+        try {
+            runTick();
+        } catch (Exception e) {
+            log.error("Bet tick failed for group {}", groupId, e);
+        } finally {
+            armNext();
+        }
+    }
+
+    private synchronized void armNext() {
+        if (!running) return;
+        nextDeadlineNanos += TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        long delayMillis = TimeUnit.NANOSECONDS.toMillis(nextDeadlineNanos - System.nanoTime());
+        if (delayMillis < 0) {
+            // Fell more than an interval behind (GC pause, overloaded host): skip the
+            // missed ticks rather than firing a catch-up burst.
+            nextDeadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+            delayMillis = intervalMillis;
+        }
+        nextTick = timer.schedule(this::tick, delayMillis);
+    }
+
+    /**
+     * One batch: poll every participant, bucket the resulting frames by jitter
+     * slot, send slot 0 now and arm one timeout per other non-empty slot.
+     * Package-private so tests can drive a tick deterministically.
+     */
+    void runTick() {
+        List<Pending>[] slots = null;
+        for (BetTickParticipant participant : participants) {
+            ActionRequestMessage frame;
+            try {
+                frame = participant.pollBetFrame();
+            } catch (Exception e) {
+                log.warn("Bet tick poll failed for a bot in group {}", groupId, e);
+                continue;
+            }
+            if (frame == null) continue;
+            if (slots == null) {
+                slots = newSlots();
+            }
+            int slot = jitterSlots == 1 ? 0 : jitter.nextInt(jitterSlots);
+            if (slots[slot] == null) {
+                slots[slot] = new ArrayList<>();
+            }
+            slots[slot].add(new Pending(participant, frame));
+        }
+        if (slots == null) return;
+
+        if (slots[0] != null) {
+            dispatch(slots[0]);
+        }
+        for (int i = 1; i < slots.length; i++) {
+            List<Pending> batch = slots[i];
+            if (batch != null) {
+                timer.schedule(() -> dispatch(batch), i * slotMillis);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Pending>[] newSlots() {
+        return (List<Pending>[]) new List[jitterSlots];
+    }
+
+    // Not gated on running: a slot armed just before stop() still delivers, and
+    // each participant drops frames for a stopped or disconnected bot itself.
+    private void dispatch(List<Pending> batch) {
+        for (Pending p : batch) {
+            try {
+                p.participant().sendBetFrame(p.frame());
+            } catch (Exception e) {
+                log.warn("Bet tick send failed for a bot in group {}", groupId, e);
+            }
+        }
+    }
+
+    private record Pending(BetTickParticipant participant, ActionRequestMessage frame) {}
+}
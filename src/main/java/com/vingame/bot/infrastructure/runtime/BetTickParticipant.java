@@ -0,0 +1,31 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.websocketparser.message.request.ActionRequestMessage;
+
+/**
+ * A bot whose bet cadence is driven by its group's {@link BetTickDriver} instead
+ * of a per-bot {@code sendAsync} loop.
+ * <p>
+ * The driver calls {@link #pollBetFrame()} for every participant in one batch per
+ * interval, then hands each non-null frame back through {@link #sendBetFrame} at
+ * the participant's jittered offset inside the interval. Both calls arrive on a
+ * driver-owned virtual thread — implementations apply their own MDC.
+ */
+public interface BetTickParticipant {
+
+    /**
+     * Run this tick's bet gate and decision (ramp, strategy, coordination) and,
+     * when the bot bets, build its frame. The bet is not booked yet: the frame may
+     * wait up to an interval for its slot.
+     *
+     * @return the frame to send, or {@code null} when the bot skips this tick
+     */
+    ActionRequestMessage pollBetFrame();
+
+    /**
+     * Book and send a frame previously returned by {@link #pollBetFrame()}.
+     * Implementations drop the frame unbooked if the connection went away or its
+     * round closed in the meantime.
+     */
+    void sendBetFrame(ActionRequestMessage frame);
+}
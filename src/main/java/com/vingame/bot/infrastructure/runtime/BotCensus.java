@@ -0,0 +1,54 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fleet-wide bot status counts, broken down per environment and per game.
+ * <p>
+ * Each running group gets its own {@link StatusCensus} from {@link #forGroup}, which
+ * rolls up into its environment's, its game's and the fleet's. Bots publish their
+ * status transitions into their group's census, so health checks and the status
+ * gauges read counters instead of scanning every bot: scrape cost stays flat as the
+ * fleet grows. Environment and game entries are kept once created; an idle one simply
+ * counts zero.
+ */
+@Component
+public class BotCensus {
+
+    /** Identity of a game as the status gauges label it. */
+    public record GameKey(String gameId, String gameName, String gameType) {
+    }
+
+    private final StatusCensus fleet = new StatusCensus();
+    private final ConcurrentHashMap<String, StatusCensus> byEnvironment = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<GameKey, StatusCensus> byGame = new ConcurrentHashMap<>();
+
+    /**
+     * A census for a new group of {@code game} in {@code environmentId}. A null
+     * environment counts towards the game and the fleet only.
+     */
+    public StatusCensus forGroup(String environmentId, GameKey game) {
+        StatusCensus gameCensus = byGame.computeIfAbsent(game, key -> new StatusCensus());
+        if (environmentId == null) {
+            return new StatusCensus(gameCensus, fleet);
+        }
+        StatusCensus environment = byEnvironment.computeIfAbsent(environmentId, id -> new StatusCensus());
+        return new StatusCensus(environment, gameCensus, fleet);
+    }
+
+    public StatusCensus fleet() {
+        return fleet;
+    }
+
+    public Map<String, StatusCensus> byEnvironment() {
+        return Collections.unmodifiableMap(byEnvironment);
+    }
+
+    public Map<GameKey, StatusCensus> byGame() {
+        return Collections.unmodifiableMap(byGame);
+    }
+}
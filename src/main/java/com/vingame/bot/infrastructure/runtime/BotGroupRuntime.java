@@ -2,6 +2,7 @@ package com.vingame.bot.infrastructure.runtime;
 
 import com.vingame.bot.common.logging.BotMdc;
 import com.vingame.bot.config.bot.BotConfiguration;
+import com.vingame.bot.domain.bot.core.BettingMiniGameBot;
 import com.vingame.bot.domain.bot.core.Bot;
 import com.vingame.bot.domain.bot.coordination.BetCoordinator;
 import com.vingame.bot.domain.bot.coordination.JackpotScaler;
@@ -19,7 +20,6 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -31,7 +31,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - Uses Java 21 virtual threads for bot execution (lightweight, scalable to 100k+ bots)
  * - Each bot runs in its own virtual thread (not platform thread)
  * - Tracks Future<?> for each bot to monitor individual status
- * - Graceful shutdown with 30s timeout before force termination
+ * - Parallel shutdown against a deadline, force-closing stragglers (see {@link GroupTeardown})
  * <p>
  * Scale targets:
  * - Production: up to 2,000 concurrent bots
@@ -67,11 +67,19 @@ public class BotGroupRuntime {
 
     // Runtime metadata
     private Instant startedAt;
-    private ScheduledExecutorService healthMonitor;
-    private ScheduledExecutorService logoutScheduler;
     private int consecutiveFailures;
 
-    // Round-robin index for periodic logout
+    // Live per-status bot count, fed by the bots' own transitions: submit joins each
+    // bot, and a bot leaves when it is cleaned up. BotGroupBehaviorService.start()
+    // swaps in one that rolls up into the environment, game and fleet counts
+    // (BotCensus); fixtures that build a runtime directly keep this standalone one.
+    private StatusCensus census = new StatusCensus();
+
+    // Running aggregates behind the group's stats (GroupStats), fed the same way:
+    // submit joins each bot, cleanup leaves. Fresh per runtime, so per start.
+    private final GroupStats stats = new GroupStats();
+
+    // Round-robin index for connection recycling (ConnectionRecycler)
     private final AtomicInteger logoutIndex = new AtomicInteger(0);
 
     // Group-scoped bet coordinator (BET_COORDINATION). Nullable: null when the
@@ -88,9 +96,32 @@ public class BotGroupRuntime {
     // groups (AD-J3) and injected into each bot before startBot.
     private JackpotScaler jackpotScaler;
 
+    // Group-scoped bet clock (one wake-up per interval for the whole group instead
+    // of a sendAsync loop per bot). Nullable: null for game types without a shared
+    // betting round (SLOT) — those bots keep their own scenario loop. Built and
+    // started in BotGroupBehaviorService.start(); startBot registers each betting
+    // bot with it before the bot starts.
+    private BetTickDriver betTickDriver;
+
+    // Group-scoped decode-once cache for round broadcasts. Nullable like the driver:
+    // null for SLOT groups, whose bots decode their own frames. startBot hands it to
+    // each betting bot before the bot starts.
+    private BroadcastFrameCache broadcastFrameCache;
+
+    // Group-scoped wire tap (level-gated raw-frame printer + optional sampled
+    // capture ring). Nullable: fixtures that build a runtime directly leave it null
+    // and bots fall back to a start-time level check. startBot hands it to every
+    // bot, of any game type, before the bot starts.
+    private WireTap wireTap;
+
+    // Parallel, deadline-bounded bot teardown for stopAllBots. Set in
+    // BotGroupBehaviorService.start(); fixtures that build a runtime directly
+    // leave it null and get GroupTeardown.fallback().
+    private GroupTeardown teardown;
+
     // Timestamp of the most recent transition INTO DEAD at the group level.
     // Cleared at stopAllBots() after the dead-window is credited. Volatile because
-    // markAsDead() runs on the health-monitor thread and stopAllBots() runs on the
+    // markAsDead() runs on the health-evaluator thread and stopAllBots() runs on the
     // BehaviorService caller thread.
     private volatile Instant groupDeadSince;
 
@@ -160,8 +191,74 @@ public class BotGroupRuntime {
      *
      * @param bot The bot to start
      */
-    public void startBot(Bot bot) {
-        Future<?> future = executor.submit(() -> {
+    public synchronized void startBot(Bot bot) {
+        Future<?> future = submit(bot);
+        botInstances.add(bot);
+        botFutures.add(future);
+    }
+
+    /**
+     * Swap {@code replacement} into {@code current}'s slot and start it (rolling restart).
+     * <p>
+     * {@code replacement} comes in logged in but not connected. Under the monitor the
+     * swap only detaches {@code current} from the group's bet clock and wire tap and
+     * takes its slot; the bot's own thread then cleans {@code current} up, connects
+     * {@code replacement} and starts it, so the two never hold the same game session at
+     * once and a slow cleanup never holds up the runtime. The coordinator and jackpot
+     * scaler are group-scoped and keep running. The slot keeps its position, so the
+     * periodic-logout round-robin is not disturbed.
+     *
+     * @return false (nothing started) if {@code current} is no longer in the group
+     */
+    public synchronized boolean replaceBot(Bot current, Bot replacement) {
+        int slot = botInstances.indexOf(current);
+        if (slot < 0) {
+            return false;
+        }
+        if (wireTap != null) {
+            wireTap.unregister(current);
+        }
+        if (betTickDriver != null && current instanceof BettingMiniGameBot bettingBot) {
+            betTickDriver.unregister(bettingBot);
+        }
+        Future<?> future = submit(replacement, () -> {
+            try {
+                current.cleanup();
+            } catch (Exception e) {
+                log.error("Error cleaning up replaced bot {}", current.getUserName(), e);
+            }
+            replacement.connect();
+        });
+        botInstances.set(slot, replacement);
+        botFutures.set(slot, future);
+        return true;
+    }
+
+    private Future<?> submit(Bot bot) {
+        return submit(bot, () -> { });
+    }
+
+    /** Join {@code bot} to the group and run {@code beforeStart}, then bot.start(), on its own thread. */
+    private Future<?> submit(Bot bot, Runnable beforeStart) {
+        bot.joinCensus(census);
+        bot.joinStats(stats);
+        if (wireTap != null) {
+            bot.setWireTap(wireTap);
+            wireTap.register(bot);
+        }
+        if (bot instanceof BettingMiniGameBot bettingBot) {
+            // Before submit: the scenario is built inside bot.start() and must see
+            // the driver (to skip its own sendAsync loop) and the frame cache (to
+            // skip its own decode of shared round broadcasts).
+            if (broadcastFrameCache != null) {
+                bettingBot.setBroadcastFrameCache(broadcastFrameCache);
+            }
+            if (betTickDriver != null) {
+                bettingBot.setBetTickDriver(betTickDriver);
+                betTickDriver.register(bettingBot);
+            }
+        }
+        return executor.submit(() -> {
             BotConfiguration config = bot.getConfiguration();
             BotMdc.set(
                     config.getBotGroupId(),
@@ -173,6 +270,7 @@ public class BotGroupRuntime {
                     bot.getUserName()
             );
             try {
+                beforeStart.run();
                 log.info("Bot starting in virtual thread {}", Thread.currentThread().getName());
                 bot.start();
             } catch (Exception e) {
@@ -181,9 +279,6 @@ public class BotGroupRuntime {
                 BotMdc.clear();
             }
         });
-
-        botInstances.add(bot);
-        botFutures.add(future);
     }
 
     /**
@@ -241,15 +336,8 @@ public class BotGroupRuntime {
     }
 
     /**
-     * Stop all bot instances and shutdown executor.
-     * <p>
-     * Shutdown process:
-     * 1. Credit the open group-DEAD window (if any) to {@code group_dead_seconds_total}.
-     * 2. Cleanup all bots (closes WebSocket connections gracefully). Each bot
-     *    credits its own terminal DEAD window inside {@link Bot#cleanup()}.
-     * 3. Shutdown executor (waits up to 30s for tasks to complete).
-     * 4. Force shutdown if timeout exceeded.
-     * 5. Shutdown health monitor and logout scheduler.
+     * Stop all bot instances and shutdown executor, within the teardown's own
+     * deadline (see {@link GroupTeardown}).
      *
      * @param metrics optional Micrometer facade; pass {@code null} to skip the
      *                group-level dead-seconds increment (bots still credit their
@@ -257,6 +345,26 @@ public class BotGroupRuntime {
      *                own {@code BotMetrics} reference).
      */
     public void stopAllBots(BotMetrics metrics) {
+        stopAllBots(metrics, teardown().deadline());
+    }
+
+    /**
+     * Stop all bot instances and shutdown executor.
+     * <p>
+     * Shutdown process:
+     * 1. Credit the open group-DEAD window (if any) to {@code group_dead_seconds_total}.
+     * 2. Stop the group bet clock, if any.
+     * 3. Cleanup all bots in parallel (closes WebSocket connections gracefully),
+     *    force-closing the ones not done by {@code deadline}. Each bot credits its
+     *    own terminal DEAD window inside {@link Bot#cleanup()}.
+     * 4. Shutdown executor, waiting for its tasks until the same deadline.
+     * 5. Force shutdown if the deadline passed.
+     *
+     * @param metrics  as for {@link #stopAllBots(BotMetrics)}
+     * @param deadline absolute {@link System#nanoTime()} deadline, shared when
+     *                 several groups are stopped together
+     */
+    public void stopAllBots(BotMetrics metrics, long deadline) {
         log.info("Stopping all bots for group {}", groupId);
 
         // Credit the open group-DEAD window before cleanup so the timestamp is
@@ -265,14 +373,16 @@ public class BotGroupRuntime {
         // window that preceded the stop counts.
         creditGroupDeadSeconds(metrics);
 
-        // Cleanup all bots (close connections gracefully)
-        botInstances.forEach(bot -> {
-            try {
-                bot.cleanup();
-            } catch (Exception e) {
-                log.error("Error cleaning up bot {}", bot.getUserName(), e);
-            }
-        });
+        // Stop the group bet clock first so no tick polls a bot mid-cleanup.
+        if (betTickDriver != null) {
+            betTickDriver.stop();
+        }
+        if (wireTap != null) {
+            wireTap.stop();
+        }
+
+        // Cleanup all bots (close connections gracefully, in parallel)
+        teardown().tearDown(groupId, environmentId, botInstances, deadline);
 
         // Shutdown virtual thread executor gracefully
         if (executor != null && !executor.isShutdown()) {
@@ -280,8 +390,9 @@ public class BotGroupRuntime {
             executor.shutdown();
 
             try {
-                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
-                    log.warn("Executor for group {} did not terminate within 30s, forcing shutdown", groupId);
+                if (!executor.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    log.warn("Executor for group {} did not terminate by the teardown deadline, forcing shutdown",
+                            groupId);
                     executor.shutdownNow();
                 }
             } catch (InterruptedException e) {
@@ -291,25 +402,20 @@ public class BotGroupRuntime {
             }
         }
 
-        // Shutdown health monitor
-        if (healthMonitor != null && !healthMonitor.isShutdown()) {
-            healthMonitor.shutdownNow();
-        }
-
-        // Shutdown logout scheduler
-        if (logoutScheduler != null && !logoutScheduler.isShutdown()) {
-            logoutScheduler.shutdownNow();
-        }
-
         log.info("All bots stopped for group {}", groupId);
     }
 
+    private GroupTeardown teardown() {
+        GroupTeardown t = teardown;
+        return t != null ? t : GroupTeardown.fallback();
+    }
+
     /**
      * If a group-level DEAD window is currently open, credit its elapsed seconds
      * and clear the stamp. Idempotent — a second call without re-entering DEAD
-     * is a no-op. Tags are read from MDC at the callsite; set
-     * {@link BotMdc#BOT_GROUP_ID} (and optionally environment / game) before
-     * calling if per-group time series are required.
+     * is a no-op. Tagged through the group-bound handles
+     * ({@link BotMetrics#forGroup}) with this runtime's group and environment — the
+     * same tags the callers' {@link BotMdc#setGroupContext} puts on the thread.
      */
     private void creditGroupDeadSeconds(BotMetrics metrics) {
         Instant since = this.groupDeadSince;
@@ -317,6 +423,6 @@ public class BotGroupRuntime {
         this.groupDeadSince = null;
         if (metrics == null) return;
         long seconds = Duration.between(since, Instant.now()).toSeconds();
-        metrics.incGroupDeadSeconds(seconds);
+        metrics.forGroup(groupId, environmentId).incGroupDeadSeconds(seconds);
     }
 }
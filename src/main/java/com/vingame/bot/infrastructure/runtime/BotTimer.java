@@ -0,0 +1,99 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide timer for per-bot deadlines (watchdog re-arming today).
+ * <p>
+ * Before this existed every {@code BettingMiniGameBot} owned a
+ * {@code watchdog-<user>} single-thread scheduler for its whole lifetime, plus a
+ * fresh {@code countdown-<user>} scheduler per round. At 10k+ bots that is tens of
+ * thousands of scheduler objects (each with its own delay queue and thread) and a
+ * round-boundary burst of thread creation. One Netty {@link HashedWheelTimer}
+ * replaces all of them: scheduling and cancelling are O(1), a pending timeout is a
+ * single small object, and the whole fleet shares one tick thread.
+ * <p>
+ * Threading:
+ * - The wheel runs on ONE platform daemon thread ({@code bot-timer}). Expired tasks
+ *   are handed off to a virtual-thread executor so a slow task (e.g. a watchdog that
+ *   closes a socket and triggers a full reconnect) never stalls the wheel for the
+ *   rest of the fleet.
+ * - Resolution is the tick duration ({@code bot.timer.tick-millis}, default 100ms).
+ *   Watchdog timeouts are measured in minutes, so sub-tick precision is irrelevant.
+ * <p>
+ * Lifecycle: a Spring singleton, wired into bots by {@code BotFactory}. Fixtures
+ * that build a bot without Spring fall back to {@link #fallback()}, a lazily-created
+ * process-wide instance with the same defaults.
+ */
+@Slf4j
+@Component
+public class BotTimer {
+
+    static final long DEFAULT_TICK_MILLIS = 100L;
+    static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private final HashedWheelTimer wheel;
+    private final ExecutorService taskExecutor;
+
+    public BotTimer(@Value("${bot.timer.tick-millis:100}") long tickMillis,
+                    @Value("${bot.timer.ticks-per-wheel:512}") int ticksPerWheel) {
+        ThreadFactory wheelThreads = Thread.ofPlatform()
+                .name("bot-timer")
+                .daemon(true)
+                .factory();
+        this.wheel = new HashedWheelTimer(wheelThreads, tickMillis, TimeUnit.MILLISECONDS, ticksPerWheel);
+        this.taskExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("bot-timer-task-", 0).factory()
+        );
+        log.info("Created shared bot timer (tick={}ms, ticksPerWheel={})", tickMillis, ticksPerWheel);
+    }
+
+    /**
+     * Schedule {@code task} to run once after {@code delayMillis}. The task runs on
+     * a virtual thread, never on the wheel thread. Callers that need MDC on the
+     * task must wrap it themselves (see {@code Bot.mdcWrap}).
+     *
+     * @return a handle whose {@link Timeout#cancel()} is O(1); never null
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        return wheel.newTimeout(t -> taskExecutor.execute(task), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Number of timeouts currently armed on the wheel (scheduled, not yet expired
+     * or cancelled-and-reaped). Cheap — reads a counter.
+     */
+    public long pendingTimeouts() {
+        return wheel.pendingTimeouts();
+    }
+
+    @PreDestroy
+    public void stop() {
+        int unprocessed = wheel.stop().size();
+        taskExecutor.shutdownNow();
+        log.info("Shared bot timer stopped ({} pending timeouts dropped)", unprocessed);
+    }
+
+    /**
+     * Process-wide instance for bots built outside Spring (unit-test fixtures,
+     * ad-hoc tooling). Created on first use; never stopped — its wheel thread is a
+     * daemon and does not hold the JVM open.
+     */
+    public static BotTimer fallback() {
+        return FallbackHolder.INSTANCE;
+    }
+
+    private static final class FallbackHolder {
+        private static final BotTimer INSTANCE = new BotTimer(DEFAULT_TICK_MILLIS, DEFAULT_TICKS_PER_WHEEL);
+    }
+}
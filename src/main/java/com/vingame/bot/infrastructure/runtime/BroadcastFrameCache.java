@@ -0,0 +1,196 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Group-scoped decode-once cache for round broadcasts (StartGame / UpdateBet /
+ * EndGame).
+ * <p>
+ * Every bot in a group receives the same broadcast bytes on its own connection. Without
+ * this cache each bot runs a full Jackson decode of the identical frame — N parses and
+ * N object graphs per frame for an N-bot group. Here the first bot to present a frame
+ * decodes it; every other bot presenting the same bytes gets the same decoded object.
+ * <p>
+ * Keying: {@code (cmd, length, hash)} of the raw frame, confirmed by a full
+ * {@code String.equals} against the cached bytes before a hit is served — so a hash
+ * collision, or a recipient-personalized frame that happens to share a key, is decoded
+ * privately and never handed to the wrong bot. The session id is part of the bytes, so
+ * a new round is a new key without parsing it out.
+ * <p>
+ * Bots that arrive while the first decode is in flight wait on the entry's lock rather
+ * than decoding a second copy. A failed decode caches nothing; the next bot retries.
+ * <p>
+ * Bounded: at most {@code capacity} frames are retained, oldest evicted first. A round
+ * produces a handful of distinct broadcasts and the group's bots see each within
+ * milliseconds of one another, so a small window suffices.
+ * <p>
+ * The decoded objects are shared across bots and are read-only: the round message
+ * classes have no setters, and the shared mappers bind their collections unmodifiable
+ * ({@code ReadOnlyCollections}). Frames the server personalizes per recipient
+ * ({@code RecipientPersonalized}) must not be routed through here as received; a
+ * {@code SplitPersonalized} frame is presented as its common part, with the personal
+ * values applied per bot afterwards — see {@code BettingMiniGameBot}.
+ */
+public class BroadcastFrameCache {
+
+    static final int DEFAULT_CAPACITY = 32;
+
+    @Getter
+    private final String groupId;
+    private final int capacity;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder decodes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    public BroadcastFrameCache(String groupId) {
+        this(groupId, DEFAULT_CAPACITY);
+    }
+
+    public BroadcastFrameCache(String groupId, int capacity) {
+        this.groupId = groupId;
+        this.capacity = capacity > 0 ? capacity : DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Decode {@code raw} with {@code decoder}, sharing the result with every other caller
+     * that presents the same {@code cmd} and bytes.
+     *
+     * @param cmd     the frame's CMD (already known from the recipient's filter)
+     * @param raw     the raw frame text as received
+     * @param type    the decoded body type; callers for one CMD always pass the same
+     *                type, a mismatch is decoded privately
+     * @param decoder turns the raw frame into the shared object (run at most once per
+     *                cached frame)
+     * @throws IOException if the frame does not decode; nothing is cached
+     */
+    public <T> T decode(int cmd, String raw, Class<?> type, FrameDecoder<T> decoder) throws IOException {
+        Key key = new Key(cmd, raw.length(), raw.hashCode());
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = insert(key, new Entry(raw, type));
+        }
+        if (!entry.type.equals(type) || !entry.raw.equals(raw)) {
+            decodes.increment();
+            return decoder.decode(raw);
+        }
+        return entry.get(decoder);
+    }
+
+    /**
+     * {@link #decode(int, String, Class, FrameDecoder)} for a frame presented by a view of
+     * its text rather than the text itself — a split frame's common part. Keying and the
+     * equality check run on the view; the text is only built by the caller that inserts
+     * the entry (or decodes privately), not by every bot that hits.
+     */
+    public <T> T decode(int cmd, FrameText frame, Class<?> type, FrameDecoder<T> decoder) throws IOException {
+        Key key = new Key(cmd, frame.length(), frame.hash());
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = insert(key, new Entry(frame.text(), type));
+        }
+        if (!entry.type.equals(type) || !frame.textEquals(entry.raw)) {
+            decodes.increment();
+            return decoder.decode(frame.text());
+        }
+        return entry.get(decoder);
+    }
+
+    private Entry insert(Key key, Entry fresh) {
+        Entry entry = entries.putIfAbsent(key, fresh);
+        if (entry != null) {
+            return entry;
+        }
+        insertionOrder.add(key);
+        evictOverflow();
+        return fresh;
+    }
+
+    /** Number of full Jackson decodes performed (misses plus private collision decodes). */
+    public long getDecodeCount() {
+        return decodes.sum();
+    }
+
+    /** Number of callers served an already-decoded frame. */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > capacity) {
+            Key oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest);
+        }
+    }
+
+    /** Raw frame → shared object. The wire envelope is the caller's concern. */
+    @FunctionalInterface
+    public interface FrameDecoder<T> {
+        T decode(String raw) throws IOException;
+    }
+
+    /** A frame's text, answered without building it where possible. */
+    public interface FrameText {
+
+        /** {@code text().length()}. */
+        int length();
+
+        /** {@code text().hashCode()}. */
+        int hash();
+
+        /** {@code text().equals(other)}. */
+        boolean textEquals(String other);
+
+        String text();
+    }
+
+    private record Key(int cmd, int length, int hash) {}
+
+    private final class Entry {
+        private final String raw;
+        private final Class<?> type;
+        // ReentrantLock rather than synchronized: callers may be virtual threads and
+        // must not pin their carrier while another bot's decode is in flight.
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Object value;
+
+        Entry(String raw, Class<?> type) {
+            this.raw = raw;
+            this.type = type;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T get(FrameDecoder<T> decoder) throws IOException {
+            Object v = value;
+            if (v == null) {
+                lock.lock();
+                try {
+                    v = value;
+                    if (v == null) {
+                        v = decoder.decode(raw);
+                        decodes.increment();
+                        value = v;
+                        return (T) v;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            hits.increment();
+            return (T) v;
+        }
+    }
+}
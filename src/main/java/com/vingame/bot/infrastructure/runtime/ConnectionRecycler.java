@@ -0,0 +1,206 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.common.logging.BotMdc;
+import com.vingame.bot.domain.bot.core.Bot;
+import com.vingame.bot.domain.bot.core.RecycleOutcome;
+import com.vingame.bot.domain.botgroup.model.BotGroupStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fleet-wide connection recycling: every bot's WS session is replaced once per
+ * {@code bot.recycle.rotation-minutes} (360), whatever the fleet size.
+ * <p>
+ * This replaces the per-group logout schedulers, which recycled one bot per group per
+ * interval (so a 2k-bot group took weeks to rotate) and each held a thread asleep
+ * through the reconnect delay. One ticker now runs every {@code bot.recycle.tick-millis}
+ * (1000) for all registered groups. Each group earns {@code size * tick / rotation}
+ * recycles per tick, and spends each whole one on the next bot of its round-robin, so
+ * recycles are spread evenly over the period and every bot comes round once per
+ * rotation. Groups start at a random fraction of a credit so they do not tick in step.
+ * <p>
+ * At most {@code bot.recycle.max-in-flight} (32) recycles run at once, fleet-wide, each
+ * on its own virtual thread. Each one is a {@link Bot#recycle()}, which waits for the
+ * environment's {@link ReconnectGate} like any other reconnect, so recycling never
+ * pushes an environment past its reconnect limits. Credit a group cannot spend because
+ * the fleet is at the limit carries over, up to the limit.
+ * <p>
+ * Groups are registered at start (when periodic logout is enabled for their
+ * environment) and unregistered when the service stops managing them; a registered
+ * group that is not ACTIVE is skipped.
+ * <p>
+ * Metrics (tagged {@code environmentId}): {@code connection_recycles_total} by
+ * {@code outcome} ({@code recycled}: the new session held; {@code handed-off}: it did
+ * not, and the bot went to the disconnect retry flow; {@code skipped}: nothing to
+ * recycle; {@code failed}: the recycle threw) and the
+ * {@code connection_recycles_in_flight} gauge.
+ */
+@Slf4j
+@Component
+public class ConnectionRecycler {
+
+    public static final String CONNECTION_RECYCLES_TOTAL = "connection_recycles_total";
+    public static final String CONNECTION_RECYCLES_IN_FLIGHT = "connection_recycles_in_flight";
+
+    private final ConcurrentHashMap<String, Member> groups = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final long rotationMillis;
+    private final long tickMillis;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private ScheduledExecutorService ticker;
+
+    public ConnectionRecycler(MeterRegistry registry,
+                              @Value("${bot.recycle.rotation-minutes:360}") long rotationMinutes,
+                              @Value("${bot.recycle.max-in-flight:32}") int maxInFlight,
+                              @Value("${bot.recycle.tick-millis:1000}") long tickMillis) {
+        if (rotationMinutes < 1 || maxInFlight < 1 || tickMillis < 1) {
+            throw new IllegalArgumentException("recycle rotation, max-in-flight and tick must be positive");
+        }
+        this.registry = registry;
+        this.rotationMillis = TimeUnit.MINUTES.toMillis(rotationMinutes);
+        this.tickMillis = tickMillis;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        if (registry != null) {
+            Gauge.builder(CONNECTION_RECYCLES_IN_FLIGHT, inFlight, s -> maxInFlight - s.availablePermits())
+                    .register(registry);
+        }
+    }
+
+    /** Start recycling {@code runtime}'s bots. Re-registering a group replaces it. */
+    public void register(BotGroupRuntime runtime) {
+        groups.put(runtime.getGroupId(), new Member(runtime, ThreadLocalRandom.current().nextDouble()));
+        ensureTicking();
+        log.info("Connection recycling enabled for group {} ({} bots, rotation {} min)",
+                runtime.getGroupId(), runtime.getBotInstances().size(), TimeUnit.MILLISECONDS.toMinutes(rotationMillis));
+    }
+
+    /** Stop recycling the group's bots; recycles already running finish. */
+    public void unregister(String groupId) {
+        groups.remove(groupId);
+    }
+
+    public boolean isRegistered(String groupId) {
+        return groups.containsKey(groupId);
+    }
+
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private synchronized void ensureTicking() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("connection-recycler").factory());
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                tick();
+            } catch (Exception e) {
+                log.error("Connection recycling tick failed: {}", e.getMessage(), e);
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Credit every ACTIVE group its share of this tick and start the recycles it can
+     * afford. Package-private so tests can drive a tick deterministically.
+     */
+    void tick() {
+        double perBotPerTick = (double) tickMillis / rotationMillis;
+        for (Member member : groups.values()) {
+            BotGroupRuntime runtime = member.runtime;
+            int size = runtime.getBotInstances().size();
+            if (runtime.getActualStatus() != BotGroupStatus.ACTIVE || size == 0) {
+                continue;
+            }
+            member.credit = Math.min(member.credit + size * perBotPerTick, maxInFlight);
+            while (member.credit >= 1 && inFlight.tryAcquire()) {
+                member.credit -= 1;
+                Bot bot = runtime.getNextBotForLogout();
+                if (bot == null) {
+                    inFlight.release();
+                    break;
+                }
+                launch(runtime, bot);
+            }
+        }
+    }
+
+    private void launch(BotGroupRuntime runtime, Bot bot) {
+        Thread.ofVirtual().name("recycle-" + bot.getUserName()).start(() -> {
+            BotMdc.setGroupContext(runtime.getGroupId(), runtime.getEnvironmentId());
+            String outcome = RecycleOutcome.SKIPPED.tag();
+            try {
+                if (runtime.getActualStatus() == BotGroupStatus.ACTIVE) {
+                    outcome = bot.recycle().tag();
+                }
+            } catch (Exception e) {
+                outcome = "failed";
+                log.error("Recycling bot {} of group {} failed: {}",
+                        bot.getUserName(), runtime.getGroupId(), e.getMessage(), e);
+            } finally {
+                record(runtime.getEnvironmentId(), outcome);
+                BotMdc.clear();
+                inFlight.release();
+            }
+        });
+    }
+
+    private void record(String environmentId, String outcome) {
+        if (registry == null) {
+            return;
+        }
+        Counter.builder(CONNECTION_RECYCLES_TOTAL)
+                .tag(BotMdc.ENVIRONMENT_ID, environmentId != null ? environmentId : "unknown")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        groups.clear();
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Process-wide instance for services built outside Spring: default settings, no
+     * meters.
+     */
+    public static ConnectionRecycler fallback() {
+        return FallbackHolder.INSTANCE;
+    }
+
+    private static final class FallbackHolder {
+        private static final ConnectionRecycler INSTANCE = new ConnectionRecycler(null, 360, 32, 1000);
+    }
+
+    private static final class Member {
+        private final BotGroupRuntime runtime;
+        // Recycles earned but not yet started; only the ticker thread touches it.
+        private double credit;
+
+        private Member(BotGroupRuntime runtime, double credit) {
+            this.runtime = runtime;
+            this.credit = credit;
+        }
+    }
+}
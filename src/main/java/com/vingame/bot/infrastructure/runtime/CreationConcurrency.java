@@ -0,0 +1,59 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of {@link CreationLimiter}s, one per environment.
+ * <p>
+ * Every group of an environment logs its bots in through the same gateway, so every
+ * group start and restart of that environment draws from one adaptive limit. Limiters
+ * are created on first use and live for the process, keeping what they learned about
+ * the gateway between starts.
+ * <p>
+ * Defaults (see {@code bot.creation.*}) start each environment at
+ * {@code bot.creation.parallelism} (10) and let it move between 2 and 200.
+ */
+@Slf4j
+@Component
+public class CreationConcurrency {
+
+    private final ConcurrentHashMap<String, CreationLimiter> limiters = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+
+    public CreationConcurrency(MeterRegistry registry,
+                               @Value("${bot.creation.parallelism:10}") int initialLimit,
+                               @Value("${bot.creation.min-parallelism:2}") int minLimit,
+                               @Value("${bot.creation.max-parallelism:200}") int maxLimit,
+                               @Value("${bot.creation.latency-tolerance:2.0}") double latencyTolerance,
+                               @Value("${bot.creation.backoff-ratio:0.5}") double backoffRatio) {
+        this.registry = registry;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+    }
+
+    /** The limiter shared by every group start of {@code environmentId}. */
+    public CreationLimiter forEnvironment(String environmentId) {
+        CreationLimiter limiter = limiters.get(environmentId);
+        return limiter != null ? limiter : limiters.computeIfAbsent(environmentId, this::createLimiter);
+    }
+
+    private CreationLimiter createLimiter(String environmentId) {
+        log.info("Created creation limiter for environment {} (initial={}, range={}..{}, tolerance={}, backoff={})",
+                environmentId, initialLimit, minLimit, maxLimit, latencyTolerance, backoffRatio);
+        return new CreationLimiter(environmentId, initialLimit, minLimit, maxLimit,
+                latencyTolerance, backoffRatio, registry);
+    }
+}
@@ -0,0 +1,241 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.common.exception.UpstreamGatewayException;
+import com.vingame.bot.common.logging.BotMdc;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive concurrency limit for one environment's bot creations.
+ * <p>
+ * A bot creation is dominated by the gateway login ({@code ApiGatewayClient.authenticate}),
+ * so the number of creations in flight is the load on the environment's auth endpoint.
+ * A fixed per-start semaphore underuses a healthy gateway and doubles the load when
+ * two groups start together; this limit is shared by every group start and restart of
+ * the environment and moves with the gateway's response:
+ * <ul>
+ *   <li><b>Additive increase</b> — a success whose latency is within
+ *       {@code latencyTolerance} × the baseline raises the limit by one, as long as
+ *       the current limit is actually being used (at least half of it in flight).</li>
+ *   <li><b>Latency backs off gently</b> — a success slower than that means requests
+ *       are queueing upstream (the Vegas signal); the limit drops by one.</li>
+ *   <li><b>Multiplicative decrease</b> — a timeout or an upstream gateway rejection
+ *       ({@link UpstreamGatewayException}, which covers {@code UpstreamLoginException})
+ *       multiplies the limit by {@code backoffRatio}, at most once per baseline
+ *       latency, so a burst of failures from one bad moment counts as one signal.</li>
+ * </ul>
+ * Other failures (validation, configuration) say nothing about gateway capacity and
+ * leave the limit alone. The limit stays within {@code [minLimit, maxLimit]}; with
+ * {@code minLimit == maxLimit} it degenerates to a fixed semaphore.
+ * <p>
+ * The baseline is the lowest latency seen, drifting up by 1% per sample so a gateway
+ * that got permanently slower is re-learned instead of read as congestion forever.
+ * <p>
+ * Callers block on a virtual bot-creation thread.
+ * <p>
+ * Metrics (tagged {@code environmentId}): {@code creation_concurrency_limit} and
+ * {@code creation_in_flight} gauges, the {@code creation_latency_seconds} histogram
+ * (p50/p95/p99), {@code creation_backoff_total}, and {@code creation_group_seconds},
+ * the wall time of each group's creation phase.
+ */
+public class CreationLimiter {
+
+    public static final String CREATION_CONCURRENCY_LIMIT = "creation_concurrency_limit";
+    public static final String CREATION_IN_FLIGHT = "creation_in_flight";
+    public static final String CREATION_LATENCY_SECONDS = "creation_latency_seconds";
+    public static final String CREATION_BACKOFF_TOTAL = "creation_backoff_total";
+    public static final String CREATION_GROUP_SECONDS = "creation_group_seconds";
+
+    /** Outcome of one creation, as far as gateway capacity is concerned. */
+    public enum Outcome {
+        /** Logged in; the latency sample counts. */
+        SUCCESS,
+        /** Timed out or rejected by the gateway; back off. */
+        DROPPED,
+        /** Failed for a reason unrelated to load; ignored. */
+        IGNORED
+    }
+
+    private static final double BASELINE_DRIFT = 1.01;
+
+    @Getter
+    private final String environmentId;
+    @Getter
+    private final int minLimit;
+    @Getter
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition slotFreed = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private long baselineNanos = Long.MAX_VALUE;
+    private long lastBackoffAt;
+
+    private final Timer latency;
+    private final Timer groupDuration;
+    private final Counter backoffs;
+
+    /**
+     * @param registry where to publish the limiter's meters; {@code null} publishes none
+     */
+    public CreationLimiter(String environmentId, int initialLimit, int minLimit, int maxLimit,
+                           double latencyTolerance, double backoffRatio, MeterRegistry registry) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= min <= max");
+        }
+        if (latencyTolerance < 1.0 || backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("latency tolerance must be >= 1 and backoff ratio in (0, 1)");
+        }
+        this.environmentId = environmentId;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.lastBackoffAt = System.nanoTime();
+
+        if (registry != null) {
+            Gauge.builder(CREATION_CONCURRENCY_LIMIT, this, CreationLimiter::getLimit)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            Gauge.builder(CREATION_IN_FLIGHT, this, CreationLimiter::getInFlight)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            this.latency = Timer.builder(CREATION_LATENCY_SECONDS)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.groupDuration = Timer.builder(CREATION_GROUP_SECONDS)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            this.backoffs = Counter.builder(CREATION_BACKOFF_TOTAL)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+        } else {
+            this.latency = null;
+            this.groupDuration = null;
+            this.backoffs = null;
+        }
+    }
+
+    /**
+     * Wait until fewer than {@link #getLimit()} creations are in flight. Every
+     * successful acquire must be paired with one {@link #release}.
+     *
+     * @return {@link System#nanoTime()} at admission, to hand back to {@code release}
+     */
+    public long acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                slotFreed.await();
+            }
+            inFlight++;
+            return System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Free a slot and feed the creation's outcome into the limit.
+     *
+     * @param admittedAt the value {@link #acquire()} returned
+     */
+    public void release(long admittedAt, Outcome outcome) {
+        long now = System.nanoTime();
+        long elapsed = now - admittedAt;
+        if (latency != null && outcome == Outcome.SUCCESS) {
+            latency.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+        boolean backedOff = false;
+        lock.lock();
+        try {
+            boolean saturated = inFlight * 2 >= (int) limit;
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> {
+                    baselineNanos = Math.min(elapsed,
+                            baselineNanos == Long.MAX_VALUE ? elapsed : (long) (baselineNanos * BASELINE_DRIFT));
+                    if (elapsed > baselineNanos * latencyTolerance) {
+                        limit = Math.max(minLimit, limit - 1);
+                    } else if (saturated) {
+                        limit = Math.min(maxLimit, limit + 1);
+                    }
+                }
+                case DROPPED -> {
+                    long window = baselineNanos == Long.MAX_VALUE ? 0L : baselineNanos;
+                    if (now - lastBackoffAt >= window) {
+                        limit = Math.max(minLimit, Math.floor(limit * backoffRatio));
+                        lastBackoffAt = now;
+                        backedOff = true;
+                    }
+                }
+                case IGNORED -> { }
+            }
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (backedOff && backoffs != null) {
+            backoffs.increment();
+        }
+    }
+
+    /** Record how long one group's creation phase took, end to end. */
+    public void recordGroupCreated(long elapsedNanos) {
+        if (groupDuration != null && elapsedNanos > 0) {
+            groupDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Current concurrency limit. */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Creations admitted and not yet released. */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Classify a creation failure: timeouts and upstream gateway errors anywhere in
+     * the cause chain are load signals, anything else is not.
+     */
+    public static Outcome classify(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof UpstreamGatewayException
+                    || t instanceof TimeoutException
+                    || t instanceof SocketTimeoutException
+                    || t instanceof HttpTimeoutException) {
+                return Outcome.DROPPED;
+            }
+        }
+        return Outcome.IGNORED;
+    }
+}
@@ -0,0 +1,358 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.common.logging.BotMdc;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Auto-deposits for one environment, spread out instead of fired in bursts.
+ * <p>
+ * Bots used to deposit inline from {@code onNewSession} the moment they dropped
+ * below their minimum balance, then re-fetch the balance — also inline. Bots of a
+ * group bet in lockstep, so they cross the floor in the same round and the whole
+ * group hit the gwms deposit endpoint at once while its message threads waited.
+ * <p>
+ * Now a bot reports its balance every session through {@link #offer}. The scheduler
+ * keeps a smoothed burn rate per bot and queues a deposit once the bot is below the
+ * floor (urgent) or predicted to reach it within {@code leadSeconds} (predictive).
+ * Queued deposits are sent earliest-floor-first, at most {@code ratePerSecond} per
+ * second and {@code maxInFlight} at a time, each as an async request. The bot keeps
+ * betting on its local figure meanwhile and credits it when the deposit is confirmed.
+ * <p>
+ * Burn is measured from balance drops only: a rise (a confirmed deposit, a win, a
+ * balance correction) re-anchors the estimate without feeding it, the same rule
+ * {@code bot_money_drained_total} applies.
+ * <p>
+ * Requests are coalesced per key (the bot's username): while one is queued or in
+ * flight, further offers only update the burn estimate. Each offer names its owner
+ * (the bot instance), and {@link #forget} only drops what that owner left: a rolling
+ * restart cleans up a bot after its replacement, same username, may have offered.
+ * <p>
+ * Nothing here blocks. Queued deposits start from whichever thread offers, completes
+ * a previous deposit, or runs the rate-limit re-arm on the shared {@link BotTimer}.
+ * <p>
+ * Metrics (tagged {@code environmentId}): {@code deposit_queue_depth} and
+ * {@code deposit_in_flight} gauges, {@code deposit_intents_total} (tagged
+ * {@code kind=urgent|predictive}), {@code deposit_coalesced_total} and the
+ * {@code deposit_latency_seconds} histogram (tagged {@code outcome=success|failure}).
+ */
+@Slf4j
+public class DepositScheduler {
+
+    public static final String DEPOSIT_QUEUE_DEPTH = "deposit_queue_depth";
+    public static final String DEPOSIT_IN_FLIGHT = "deposit_in_flight";
+    public static final String DEPOSIT_INTENTS_TOTAL = "deposit_intents_total";
+    public static final String DEPOSIT_COALESCED_TOTAL = "deposit_coalesced_total";
+    public static final String DEPOSIT_LATENCY_SECONDS = "deposit_latency_seconds";
+
+    /** Weight of the newest sample in the smoothed burn rate. */
+    static final double BURN_ALPHA = 0.3;
+
+    private record Intent(String key, Object owner, long floorAtNanos, long seq,
+                          Supplier<CompletableFuture<Boolean>> deposit, Consumer<Boolean> onResult) {
+    }
+
+    /** Smoothed balance drop per second for one bot. Guarded by its own monitor. */
+    private static final class Burn {
+        Object owner;
+        long balance;
+        long atNanos;
+        double perSecond;
+        boolean sampled;
+    }
+
+    @Getter
+    private final String environmentId;
+    @Getter
+    private final double ratePerSecond;
+    @Getter
+    private final int maxInFlight;
+    private final long leadNanos;
+    private final LongSupplier nanoClock;
+    private final ObjLongConsumer<Runnable> later;
+
+    private final ConcurrentHashMap<String, Burn> burns = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Intent> pending = new ConcurrentHashMap<>();
+    private final AtomicLong seq = new AtomicLong();
+
+    // Queue, token bucket and re-arm flag are guarded by `lock`; the counters are
+    // atomics so the gauges can read them without it.
+    private final Object lock = new Object();
+    private final PriorityQueue<Intent> queue = new PriorityQueue<>(
+            Comparator.comparingLong(Intent::floorAtNanos).thenComparingLong(Intent::seq));
+    private double tokens = 1.0;
+    private long refilledAtNanos;
+    private boolean rearmed;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter urgentIntents;
+    private final Counter predictiveIntents;
+    private final Counter coalesced;
+    private final Timer successLatency;
+    private final Timer failureLatency;
+
+    /**
+     * @param timer    re-arms dispatch once the rate cap has been used up
+     * @param registry where to publish the scheduler's meters; {@code null} publishes none
+     */
+    public DepositScheduler(String environmentId, double ratePerSecond, int maxInFlight, long leadSeconds,
+                            BotTimer timer, MeterRegistry registry) {
+        this(environmentId, ratePerSecond, maxInFlight, leadSeconds, registry,
+                System::nanoTime, timer::schedule);
+    }
+
+    DepositScheduler(String environmentId, double ratePerSecond, int maxInFlight, long leadSeconds,
+                     MeterRegistry registry, LongSupplier nanoClock, ObjLongConsumer<Runnable> later) {
+        if (!(ratePerSecond > 0)) {
+            throw new IllegalArgumentException("rate-per-second must be positive");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("max-in-flight must be positive");
+        }
+        if (leadSeconds < 0) {
+            throw new IllegalArgumentException("lead-seconds must not be negative");
+        }
+        this.environmentId = environmentId;
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+        this.leadNanos = TimeUnit.SECONDS.toNanos(leadSeconds);
+        this.nanoClock = nanoClock;
+        this.later = later;
+        this.refilledAtNanos = nanoClock.getAsLong();
+
+        if (registry != null) {
+            Gauge.builder(DEPOSIT_QUEUE_DEPTH, this, DepositScheduler::getQueueDepth)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            Gauge.builder(DEPOSIT_IN_FLIGHT, this, DepositScheduler::getInFlight)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            this.urgentIntents = intentCounter(registry, environmentId, "urgent");
+            this.predictiveIntents = intentCounter(registry, environmentId, "predictive");
+            this.coalesced = Counter.builder(DEPOSIT_COALESCED_TOTAL)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            this.successLatency = latencyTimer(registry, environmentId, "success");
+            this.failureLatency = latencyTimer(registry, environmentId, "failure");
+        } else {
+            this.urgentIntents = null;
+            this.predictiveIntents = null;
+            this.coalesced = null;
+            this.successLatency = null;
+            this.failureLatency = null;
+        }
+    }
+
+    private static Counter intentCounter(MeterRegistry registry, String environmentId, String kind) {
+        return Counter.builder(DEPOSIT_INTENTS_TOTAL)
+                .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    private static Timer latencyTimer(MeterRegistry registry, String environmentId, String outcome) {
+        return Timer.builder(DEPOSIT_LATENCY_SECONDS)
+                .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Report {@code key}'s current balance and queue a deposit if it is below
+     * {@code floor} or predicted to reach it within the lead time.
+     *
+     * @param owner    the instance reporting for {@code key}; a new owner starts a
+     *                 fresh burn estimate
+     * @param deposit  sends the deposit; called once, when the rate cap allows.
+     *                 Completes with {@code true} when the server confirmed it
+     * @param onResult receives whether the deposit was confirmed
+     * @return {@code true} when a deposit was queued by this call
+     */
+    public boolean offer(String key, Object owner, long balance, long floor,
+                         Supplier<CompletableFuture<Boolean>> deposit, Consumer<Boolean> onResult) {
+        long now = nanoClock.getAsLong();
+        double burnPerSecond = observe(key, owner, balance, now);
+
+        boolean urgent = balance < floor;
+        long floorAt;
+        if (urgent) {
+            floorAt = now;
+        } else if (burnPerSecond > 0) {
+            double nanosToFloor = (balance - floor) / burnPerSecond * 1e9;
+            if (nanosToFloor > leadNanos) {
+                return false;
+            }
+            floorAt = now + (long) nanosToFloor;
+        } else {
+            return false;
+        }
+
+        Intent intent = new Intent(key, owner, floorAt, seq.incrementAndGet(), deposit, onResult);
+        if (pending.putIfAbsent(key, intent) != null) {
+            increment(coalesced);
+            return false;
+        }
+        increment(urgent ? urgentIntents : predictiveIntents);
+        synchronized (lock) {
+            queue.add(intent);
+            queued.incrementAndGet();
+        }
+        dispatch();
+        return true;
+    }
+
+    /**
+     * Drop everything {@code owner} holds for {@code key}: its burn estimate and any
+     * deposit still queued. A deposit already in flight completes normally; entries a
+     * newer owner of {@code key} made are kept.
+     */
+    public void forget(String key, Object owner) {
+        burns.computeIfPresent(key, (k, burn) -> {
+            synchronized (burn) {
+                return burn.owner == owner ? null : burn;
+            }
+        });
+        Intent intent = pending.get(key);
+        if (intent != null && intent.owner() == owner && pending.remove(key, intent)) {
+            synchronized (lock) {
+                if (queue.remove(intent)) {
+                    queued.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /** Fold {@code balance} into {@code key}'s burn estimate and return it (per second). */
+    private double observe(String key, Object owner, long balance, long now) {
+        Burn burn = burns.computeIfAbsent(key, k -> {
+            Burn b = new Burn();
+            b.owner = owner;
+            b.balance = balance;
+            b.atNanos = now;
+            return b;
+        });
+        synchronized (burn) {
+            if (burn.owner != owner) {
+                burn.owner = owner;
+                burn.balance = balance;
+                burn.atNanos = now;
+                burn.perSecond = 0;
+                burn.sampled = false;
+            }
+            long elapsed = now - burn.atNanos;
+            if (balance < burn.balance && elapsed > 0) {
+                double sample = (burn.balance - balance) * 1e9 / elapsed;
+                burn.perSecond = burn.sampled ? BURN_ALPHA * sample + (1 - BURN_ALPHA) * burn.perSecond : sample;
+                burn.sampled = true;
+            }
+            if (balance != burn.balance || elapsed > 0) {
+                burn.balance = balance;
+                burn.atNanos = now;
+            }
+            return burn.perSecond;
+        }
+    }
+
+    /** Start queued deposits while the rate cap and in-flight bound allow. */
+    private void dispatch() {
+        List<Intent> ready = new ArrayList<>();
+        long rearmMillis = -1;
+        synchronized (lock) {
+            long now = nanoClock.getAsLong();
+            tokens = Math.min(1.0, tokens + (now - refilledAtNanos) * ratePerSecond / 1e9);
+            refilledAtNanos = now;
+            while (!queue.isEmpty() && inFlight.get() < maxInFlight && tokens >= 1.0) {
+                tokens -= 1.0;
+                inFlight.incrementAndGet();
+                queued.decrementAndGet();
+                ready.add(queue.poll());
+            }
+            // Out of tokens with work left: come back when the next one is due. When
+            // the in-flight bound is what stops us, a completion dispatches instead.
+            if (!queue.isEmpty() && inFlight.get() < maxInFlight && !rearmed) {
+                rearmed = true;
+                rearmMillis = Math.max(1L, (long) Math.ceil((1.0 - tokens) * 1000 / ratePerSecond));
+            }
+        }
+        if (rearmMillis >= 0) {
+            later.accept(this::onRearm, rearmMillis);
+        }
+        ready.forEach(this::start);
+    }
+
+    private void onRearm() {
+        synchronized (lock) {
+            rearmed = false;
+        }
+        dispatch();
+    }
+
+    private void start(Intent intent) {
+        long startedAt = nanoClock.getAsLong();
+        CompletableFuture<Boolean> future;
+        try {
+            future = intent.deposit().get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((confirmed, failure) -> {
+            long elapsed = nanoClock.getAsLong() - startedAt;
+            boolean success = failure == null && Boolean.TRUE.equals(confirmed);
+            try {
+                record(success ? successLatency : failureLatency, elapsed);
+                if (failure != null) {
+                    log.warn("Deposit failed for {} (env {}): {}", intent.key(), environmentId, failure.toString());
+                }
+                intent.onResult().accept(success);
+            } catch (RuntimeException e) {
+                log.warn("Deposit callback failed for {} (env {})", intent.key(), environmentId, e);
+            } finally {
+                pending.remove(intent.key(), intent);
+                inFlight.decrementAndGet();
+                dispatch();
+            }
+        });
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static void record(Timer timer, long elapsedNanos) {
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Deposits waiting for the rate cap or a free slot. */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /** Deposits sent and not yet answered. */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
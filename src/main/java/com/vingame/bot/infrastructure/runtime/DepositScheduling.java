@@ -0,0 +1,54 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of {@link DepositScheduler}s, one per environment.
+ * <p>
+ * Every bot of an environment deposits through the same gwms endpoint, so they share
+ * one scheduler and one rate cap ({@code bot.deposit.rate-per-second}, default 5, with
+ * at most {@code bot.deposit.max-in-flight} requests outstanding, default 4). Bots
+ * predicted to reach their minimum balance within {@code bot.deposit.lead-seconds}
+ * (default 60) are topped up ahead of time. Schedulers are created on first use
+ * (from {@code BotFactory}) and live for the process, like the reconcilers beside them.
+ */
+@Slf4j
+@Component
+public class DepositScheduling {
+
+    private final ConcurrentHashMap<String, DepositScheduler> schedulers = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final BotTimer timer;
+    private final double ratePerSecond;
+    private final int maxInFlight;
+    private final long leadSeconds;
+
+    public DepositScheduling(MeterRegistry registry,
+                             BotTimer timer,
+                             @Value("${bot.deposit.rate-per-second:5}") double ratePerSecond,
+                             @Value("${bot.deposit.max-in-flight:4}") int maxInFlight,
+                             @Value("${bot.deposit.lead-seconds:60}") long leadSeconds) {
+        this.registry = registry;
+        this.timer = timer;
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+        this.leadSeconds = leadSeconds;
+    }
+
+    /** The scheduler shared by every bot of {@code environmentId}. */
+    public DepositScheduler forEnvironment(String environmentId) {
+        DepositScheduler scheduler = schedulers.get(environmentId);
+        return scheduler != null ? scheduler : schedulers.computeIfAbsent(environmentId, this::createScheduler);
+    }
+
+    private DepositScheduler createScheduler(String environmentId) {
+        log.info("Created deposit scheduler for environment {} (rate={}/s, maxInFlight={}, lead={}s)",
+                environmentId, ratePerSecond, maxInFlight, leadSeconds);
+        return new DepositScheduler(environmentId, ratePerSecond, maxInFlight, leadSeconds, timer, registry);
+    }
+}
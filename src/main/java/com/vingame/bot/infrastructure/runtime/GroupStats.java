@@ -0,0 +1,75 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.domain.bot.core.Bot;
+import com.vingame.bot.domain.bot.core.BotStatus;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running aggregates behind a group's stats (rounds since restart, average balance,
+ * average winning), kept current by the bots themselves instead of being recomputed
+ * from every bot on each read.
+ * <p>
+ * A bot that {@linkplain Bot#joinStats joins} is active while its status
+ * {@linkplain BotStatus#isConnected() is connected}: entering a connected status adds
+ * its balance and winnings to the sums, leaving one takes them out again, and every
+ * change in between is published as a delta. Rounds are tracked for every joined bot,
+ * connected or not, as the running max of their round counters.
+ * <p>
+ * Writers touch striped adders, so bots publishing from many threads do not contend on
+ * one cache line. A {@link #snapshot()} sums each adder independently: it is not atomic
+ * across fields, which is fine for display stats.
+ */
+public final class GroupStats {
+
+    private final LongAdder activeBots = new LongAdder();
+    private final LongAdder activeBalance = new LongAdder();
+    private final LongAdder activeWinnings = new LongAdder();
+    private final LongAccumulator maxRounds = new LongAccumulator(Long::max, 0);
+
+    /** A bot became active with {@code balance} and {@code winnings}. */
+    public void activate(long balance, long winnings) {
+        activeBots.increment();
+        activeBalance.add(balance);
+        activeWinnings.add(winnings);
+    }
+
+    /** An active bot with {@code balance} and {@code winnings} went inactive. */
+    public void deactivate(long balance, long winnings) {
+        activeBots.decrement();
+        activeBalance.add(-balance);
+        activeWinnings.add(-winnings);
+    }
+
+    /** An active bot's balance moved by {@code delta}. */
+    public void addBalance(long delta) {
+        activeBalance.add(delta);
+    }
+
+    /** An active bot won {@code amount}. */
+    public void addWinnings(long amount) {
+        activeWinnings.add(amount);
+    }
+
+    /** A bot has now observed {@code rounds} rounds. */
+    public void observeRounds(long rounds) {
+        maxRounds.accumulate(rounds);
+    }
+
+    /**
+     * Restart the rounds max from {@code rounds}, for when the bots that set it have
+     * been replaced (rolling restart) and the max must be allowed to drop.
+     */
+    public void rebaseRounds(long rounds) {
+        maxRounds.reset();
+        maxRounds.accumulate(rounds);
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(activeBots.sum(), activeBalance.sum(), activeWinnings.sum(), maxRounds.get());
+    }
+
+    public record Snapshot(long activeBots, long activeBalance, long activeWinnings, long maxRounds) {
+    }
+}
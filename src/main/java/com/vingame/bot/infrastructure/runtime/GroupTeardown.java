@@ -0,0 +1,166 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.common.logging.BotMdc;
+import com.vingame.bot.domain.bot.core.Bot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Closes a group's bots in parallel against a deadline.
+ * <p>
+ * {@link Bot#cleanup()} closes the bot's WebSocket client and can block on the close
+ * handshake, so closing a 2k-bot group one bot at a time took minutes. Teardown now
+ * fans the cleanups out on virtual threads, at most {@code bot.teardown.parallelism}
+ * (64) at once, and gives the whole group {@code bot.teardown.deadline-seconds} (20).
+ * Bots whose cleanup has not finished by then are stragglers: their cleanup is
+ * interrupted and they are {@linkplain Bot#forceClose() force-closed}, which marks
+ * them stopped and closes the client without waiting for it.
+ * <p>
+ * The deadline is absolute ({@link System#nanoTime()}), so several groups torn down
+ * together (application shutdown) share one.
+ * <p>
+ * Metrics (tagged {@code environmentId}): the {@code teardown_seconds} histogram, one
+ * sample per group, and {@code teardown_stragglers_total}.
+ */
+@Slf4j
+@Component
+public class GroupTeardown {
+
+    public static final String TEARDOWN_SECONDS = "teardown_seconds";
+    public static final String TEARDOWN_STRAGGLERS_TOTAL = "teardown_stragglers_total";
+
+    /** How one group's teardown went. */
+    public record Result(int bots, int stragglers, long elapsedNanos) {}
+
+    private final MeterRegistry registry;
+    private final int parallelism;
+    private final long deadlineNanos;
+
+    public GroupTeardown(MeterRegistry registry,
+                         @Value("${bot.teardown.parallelism:64}") int parallelism,
+                         @Value("${bot.teardown.deadline-seconds:20}") long deadlineSeconds) {
+        if (parallelism < 1 || deadlineSeconds < 1) {
+            throw new IllegalArgumentException("teardown parallelism and deadline must be positive");
+        }
+        this.registry = registry;
+        this.parallelism = parallelism;
+        this.deadlineNanos = TimeUnit.SECONDS.toNanos(deadlineSeconds);
+    }
+
+    /** Absolute deadline for a teardown starting now. */
+    public long deadline() {
+        return System.nanoTime() + deadlineNanos;
+    }
+
+    /**
+     * Clean up {@code bots} in parallel, force-closing the ones not done by
+     * {@code deadline}. Never waits past the deadline.
+     *
+     * @param deadline absolute {@link System#nanoTime()} deadline, e.g. {@link #deadline()}
+     */
+    public Result tearDown(String groupId, String environmentId, List<Bot> bots, long deadline) {
+        long startedAt = System.nanoTime();
+        List<Future<?>> cleanups = new ArrayList<>(bots.size());
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("teardown-" + groupId + "-", 0).factory());
+        try {
+            for (Bot bot : bots) {
+                if (!permits.tryAcquire(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                cleanups.add(executor.submit(() -> {
+                    BotMdc.setGroupContext(groupId, environmentId);
+                    try {
+                        bot.cleanup();
+                    } catch (Exception e) {
+                        log.error("Error cleaning up bot {}", bot.getUserName(), e);
+                    } finally {
+                        BotMdc.clear();
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> cleanup : cleanups) {
+                try {
+                    cleanup.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | ExecutionException e) {
+                    // Straggler (or a failure already logged by the task); counted below.
+                }
+            }
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while tearing down group {}; force-closing the rest", groupId);
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int stragglers = 0;
+        for (int i = 0; i < bots.size(); i++) {
+            if (i < cleanups.size() && cleanups.get(i).isDone()) {
+                continue;
+            }
+            stragglers++;
+            try {
+                bots.get(i).forceClose();
+            } catch (Exception e) {
+                log.error("Error force-closing bot {}", bots.get(i).getUserName(), e);
+            }
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        record(environmentId, elapsed, stragglers);
+        if (stragglers > 0) {
+            log.warn("Group {} teardown hit its deadline: {} of {} bots force-closed after {} ms",
+                    groupId, stragglers, bots.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } else {
+            log.info("Group {} teardown closed {} bots in {} ms",
+                    groupId, bots.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return new Result(bots.size(), stragglers, elapsed);
+    }
+
+    private void record(String environmentId, long elapsedNanos, int stragglers) {
+        if (registry == null) {
+            return;
+        }
+        String env = environmentId != null ? environmentId : "unknown";
+        Timer.builder(TEARDOWN_SECONDS)
+                .tag(BotMdc.ENVIRONMENT_ID, env)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (stragglers > 0) {
+            Counter.builder(TEARDOWN_STRAGGLERS_TOTAL)
+                    .tag(BotMdc.ENVIRONMENT_ID, env)
+                    .register(registry)
+                    .increment(stragglers);
+        }
+    }
+
+    /**
+     * Process-wide instance for runtimes built outside Spring: default settings, no
+     * meters.
+     */
+    public static GroupTeardown fallback() {
+        return FallbackHolder.INSTANCE;
+    }
+
+    private static final class FallbackHolder {
+        private static final GroupTeardown INSTANCE = new GroupTeardown(null, 64, 20);
+    }
+}
@@ -0,0 +1,60 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of {@link ReconnectGate}s, one per environment.
+ * <p>
+ * Every bot of an environment shares that environment's gateway and WS endpoint,
+ * so they share one gate: a server blip in one environment throttles only that
+ * environment's reconnects. Gates are created on first use (from {@code BotFactory},
+ * which wires them into each bot) and live for the process, like the
+ * {@code EnvironmentClientRegistry} entries they sit beside.
+ * <p>
+ * Defaults (see {@code bot.reconnect.*}) admit 20 attempts/s per environment with a
+ * burst of 40 and 50 in flight, and jitter the retry delay between 2s and 60s.
+ */
+@Slf4j
+@Component
+public class ReconnectAdmission {
+
+    private final ConcurrentHashMap<String, ReconnectGate> gates = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final double ratePerSecond;
+    private final int burst;
+    private final int maxConcurrent;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public ReconnectAdmission(MeterRegistry registry,
+                              @Value("${bot.reconnect.rate-per-second:20}") double ratePerSecond,
+                              @Value("${bot.reconnect.burst:40}") int burst,
+                              @Value("${bot.reconnect.max-concurrent:50}") int maxConcurrent,
+                              @Value("${bot.reconnect.base-backoff-millis:2000}") long baseBackoffMillis,
+                              @Value("${bot.reconnect.max-backoff-millis:60000}") long maxBackoffMillis) {
+        this.registry = registry;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.maxConcurrent = maxConcurrent;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /** The gate shared by every bot of {@code environmentId}. */
+    public ReconnectGate forEnvironment(String environmentId) {
+        ReconnectGate gate = gates.get(environmentId);
+        return gate != null ? gate : gates.computeIfAbsent(environmentId, this::createGate);
+    }
+
+    private ReconnectGate createGate(String environmentId) {
+        log.info("Created reconnect gate for environment {} (rate={}/s, burst={}, maxConcurrent={}, backoff={}..{}ms)",
+                environmentId, ratePerSecond, burst, maxConcurrent, baseBackoffMillis, maxBackoffMillis);
+        return new ReconnectGate(environmentId, ratePerSecond, burst, maxConcurrent,
+                baseBackoffMillis, maxBackoffMillis, registry);
+    }
+}
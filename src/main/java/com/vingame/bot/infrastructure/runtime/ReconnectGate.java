@@ -0,0 +1,199 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.common.logging.BotMdc;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for one environment's reconnect and re-auth attempts.
+ * <p>
+ * A game-server restart drops every bot of an environment at the same instant.
+ * Left alone, each bot's reconnect loop follows the same fixed back-off schedule
+ * and the whole fleet hits the gateway and the WS endpoint in synchronized waves.
+ * Every attempt now goes through {@link #admit()}, which applies two limits in
+ * order:
+ * <ol>
+ *   <li><b>Concurrency cap</b> — at most {@code maxConcurrent} attempts in flight
+ *       (fair semaphore, so waiters are admitted FIFO). A slot is held from the
+ *       connect through the confirm window and released by {@link Permit#close()}.</li>
+ *   <li><b>Token bucket</b> — {@code ratePerSecond} sustained admissions, with up to
+ *       {@code burst} allowed at once after a quiet period. Tokens are reserved
+ *       ahead: a caller that finds the bucket empty takes the next free slot on the
+ *       timeline and sleeps once until it, so waiters never re-poll in lockstep.</li>
+ * </ol>
+ * Between attempts, {@link #nextBackoffMillis} replaces the fixed schedule with
+ * decorrelated jitter ({@code min(max, random(base, 3 * previous))}), so bots that
+ * failed together retry apart.
+ * <p>
+ * Callers block on a virtual reconnect thread, never on a Netty or scenario thread.
+ * <p>
+ * Metrics (tagged {@code environmentId}): {@code reconnect_queue_depth} and
+ * {@code reconnect_in_flight} gauges, {@code reconnect_admitted_total} (admitted/s
+ * via {@code rate()}), and the {@code reconnect_duration_seconds} histogram of
+ * disconnect-to-reconnected time.
+ */
+public class ReconnectGate {
+
+    public static final String RECONNECT_QUEUE_DEPTH = "reconnect_queue_depth";
+    public static final String RECONNECT_IN_FLIGHT = "reconnect_in_flight";
+    public static final String RECONNECT_ADMITTED_TOTAL = "reconnect_admitted_total";
+    public static final String RECONNECT_DURATION_SECONDS = "reconnect_duration_seconds";
+
+    @Getter
+    private final String environmentId;
+    @Getter
+    private final int maxConcurrent;
+    @Getter
+    private final long baseBackoffMillis;
+    @Getter
+    private final long maxBackoffMillis;
+
+    private final Semaphore slots;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final double tokensPerNano;
+    private final double burst;
+    private double tokens;
+    private long refilledAt;
+
+    private final Counter admitted;
+    private final Timer timeToReconnect;
+
+    /**
+     * @param registry where to publish the gate's meters; {@code null} publishes none
+     */
+    public ReconnectGate(String environmentId, double ratePerSecond, int burst, int maxConcurrent,
+                         long baseBackoffMillis, long maxBackoffMillis, MeterRegistry registry) {
+        if (ratePerSecond <= 0 || burst < 1 || maxConcurrent < 1) {
+            throw new IllegalArgumentException("rate, burst and max-concurrent must be positive");
+        }
+        this.environmentId = environmentId;
+        this.maxConcurrent = maxConcurrent;
+        this.baseBackoffMillis = Math.max(1L, baseBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.baseBackoffMillis, maxBackoffMillis);
+        this.slots = new Semaphore(maxConcurrent, true);
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+
+        if (registry != null) {
+            Gauge.builder(RECONNECT_QUEUE_DEPTH, this, ReconnectGate::getQueueDepth)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            Gauge.builder(RECONNECT_IN_FLIGHT, this, ReconnectGate::getInFlight)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            this.admitted = Counter.builder(RECONNECT_ADMITTED_TOTAL)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .register(registry);
+            this.timeToReconnect = Timer.builder(RECONNECT_DURATION_SECONDS)
+                    .tag(BotMdc.ENVIRONMENT_ID, environmentId)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        } else {
+            this.admitted = null;
+            this.timeToReconnect = null;
+        }
+    }
+
+    /**
+     * Wait for a concurrency slot, then for a token. The returned permit must be
+     * closed (try-with-resources) once the attempt has succeeded or failed.
+     */
+    public Permit admit() throws InterruptedException {
+        waiting.incrementAndGet();
+        try {
+            slots.acquire();
+            try {
+                long waitNanos = reserveToken();
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+            } catch (InterruptedException e) {
+                slots.release();
+                throw e;
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
+        if (admitted != null) {
+            admitted.increment();
+        }
+        return new Permit(this);
+    }
+
+    /**
+     * Take one token, going into debt if the bucket is empty.
+     *
+     * @return nanos until the reserved token is due; 0 when one was available
+     */
+    private synchronized long reserveToken() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0L : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    /**
+     * Decorrelated-jitter delay before the next attempt.
+     *
+     * @param previousMillis the delay used before the previous attempt; 0 (or less)
+     *                       for the first attempt of a reconnect
+     */
+    public long nextBackoffMillis(long previousMillis) {
+        long prev = Math.max(baseBackoffMillis, previousMillis);
+        long upper = Math.min(maxBackoffMillis, prev * 3);
+        if (upper <= baseBackoffMillis) {
+            return baseBackoffMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(baseBackoffMillis, upper + 1);
+    }
+
+    /** Record a completed reconnect, measured from the disconnect that started it. */
+    public void recordReconnected(long elapsedNanos) {
+        if (timeToReconnect != null && elapsedNanos > 0) {
+            timeToReconnect.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Callers waiting for a slot or a token. */
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    /** Admitted attempts whose permit has not been closed yet. */
+    public int getInFlight() {
+        return maxConcurrent - slots.availablePermits();
+    }
+
+    /** One admitted attempt; closing it frees the concurrency slot. */
+    public static final class Permit implements AutoCloseable {
+
+        /** Stand-in for bots without a gate; closing it does nothing. */
+        public static final Permit NONE = new Permit(null);
+
+        private final ReconnectGate gate;
+        private boolean closed;
+
+        private Permit(ReconnectGate gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void close() {
+            if (gate != null && !closed) {
+                closed = true;
+                gate.slots.release();
+            }
+        }
+    }
+}
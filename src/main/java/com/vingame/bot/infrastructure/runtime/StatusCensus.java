@@ -0,0 +1,71 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.domain.bot.core.Bot;
+import com.vingame.bot.domain.bot.core.BotStatus;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Live count of bots per {@link BotStatus}, kept current by the bots themselves: a bot
+ * that {@linkplain Bot#joinCensus joins} a census is counted under its status, and
+ * every status transition moves it from one count to the other. Reading a count is a
+ * single array load, however many bots are counted.
+ * <p>
+ * A census can roll up into parents (a group's census into its environment's, its
+ * game's and the fleet's, see {@link BotCensus}); every change is applied to the
+ * parents too.
+ */
+public final class StatusCensus {
+
+    private static final BotStatus[] STATUSES = BotStatus.values();
+
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(STATUSES.length);
+    private final StatusCensus[] parents;
+
+    public StatusCensus(StatusCensus... parents) {
+        this.parents = parents.clone();
+    }
+
+    public void add(BotStatus status) {
+        adjust(status, 1);
+    }
+
+    public void remove(BotStatus status) {
+        adjust(status, -1);
+    }
+
+    /** A counted bot moved from {@code from} to {@code to}. */
+    public void move(BotStatus from, BotStatus to) {
+        adjust(from, -1);
+        adjust(to, 1);
+    }
+
+    private void adjust(BotStatus status, int delta) {
+        counts.addAndGet(status.ordinal(), delta);
+        for (StatusCensus parent : parents) {
+            parent.adjust(status, delta);
+        }
+    }
+
+    public int count(BotStatus status) {
+        return counts.get(status.ordinal());
+    }
+
+    /** Bots in any of {@code statuses}. */
+    public int count(BotStatus... statuses) {
+        int total = 0;
+        for (BotStatus status : statuses) {
+            total += count(status);
+        }
+        return total;
+    }
+
+    /** Bots counted, whatever their status. */
+    public int total() {
+        int total = 0;
+        for (int i = 0; i < STATUSES.length; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,207 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.netty.util.Timeout;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Group-scoped wire tap: decides which bots carry a raw-frame printer scenario and,
+ * optionally, keeps a sampled ring buffer of the group's last raw frames.
+ * <p>
+ * Before this, every bot registered {@code OutputPrinter.debugOutputPrinter} in
+ * {@code onStart()} and paid a {@code toString()} plus an MDC copy/restore per frame
+ * for a {@code log.trace} that is off in production. Now the printer is only
+ * registered on a bot whose group wire logger has TRACE enabled, or which is traced
+ * on its own. There is one wire logger per group — a logger per bot would leave
+ * thousands of loggers in the logging context for the life of the process — so
+ * TRACE is scoped from {@code /actuator/loggers} down to a group:
+ * <pre>
+ *   com.vingame.bot.wire              every bot
+ *   com.vingame.bot.wire.&lt;groupId&gt;  one group
+ * </pre>
+ * (and, as before, {@code com.vingame.bot} at TRACE covers all of them). A single bot
+ * is traced with a flag on its group's tap instead ({@link #setTraced}, exposed as
+ * {@code POST /actuator/wiretap/{groupId}/{userName}}); its frames go to the group
+ * logger at INFO, so they show without lowering the group's level.
+ * <p>
+ * Level and flag changes are picked up live: every {@code refreshMillis} the tap asks
+ * each registered bot to re-check ({@code Bot.syncWireTap()}), which attaches the
+ * printer to the bot's current client if it is now required. A scenario cannot be
+ * removed from a live client, so switching tracing off again leaves the printer
+ * attached but inert — it checks the level and flag before converting the frame —
+ * until the bot's next reconnect builds a fresh client without it.
+ * <p>
+ * Capture: with {@code ringCapacity > 0} every bot carries the tap regardless of
+ * level, and one in every {@code sampleEvery} frames the group receives is kept as
+ * its raw text (no conversion) in a fixed-size ring, newest overwriting oldest.
+ * {@link #snapshot()} copies it out oldest first for the {@code wiretap} actuator
+ * endpoint.
+ */
+@Slf4j
+public class WireTap {
+
+    public static final String LOGGER_PREFIX = "com.vingame.bot.wire";
+    static final long DEFAULT_REFRESH_MILLIS = 5_000L;
+
+    @Getter
+    private final String groupId;
+    private final BotTimer timer;
+    private final long refreshMillis;
+    @Getter
+    private final int ringCapacity;
+    @Getter
+    private final int sampleEvery;
+    private final AtomicReferenceArray<CapturedFrame> ring;
+    private final AtomicLong seen = new AtomicLong();
+    private final AtomicLong captured = new AtomicLong();
+    private final List<Participant> participants = new CopyOnWriteArrayList<>();
+    private final Set<String> tracedBots = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private volatile Timeout nextRefresh;
+
+    /**
+     * @param groupId       owning bot group; names the group's wire logger
+     * @param timer         shared wheel the level refresh is armed on
+     * @param refreshMillis how often logger levels are re-checked; non-positive
+     *                      falls back to 5000ms
+     * @param ringCapacity  frames kept for {@link #snapshot()}; 0 disables capture
+     * @param sampleEvery   keep one in this many frames; values below 1 mean every frame
+     */
+    public WireTap(String groupId, BotTimer timer, long refreshMillis, int ringCapacity, int sampleEvery) {
+        this.groupId = groupId;
+        this.timer = timer;
+        this.refreshMillis = refreshMillis > 0 ? refreshMillis : DEFAULT_REFRESH_MILLIS;
+        this.ringCapacity = Math.max(0, ringCapacity);
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.ring = this.ringCapacity > 0 ? new AtomicReferenceArray<>(this.ringCapacity) : null;
+    }
+
+    /** Wire logger shared by a group's bots. Also used by bots running without a group tap. */
+    public static Logger loggerFor(String groupId) {
+        return LoggerFactory.getLogger(LOGGER_PREFIX + "." + groupId);
+    }
+
+    /**
+     * Trace {@code userName}'s frames regardless of the group logger's level, or stop.
+     * Takes effect on the bot's next sync.
+     */
+    public void setTraced(String userName, boolean traced) {
+        if (traced) {
+            tracedBots.add(userName);
+        } else {
+            tracedBots.remove(userName);
+        }
+    }
+
+    public boolean isTraced(String userName) {
+        return !tracedBots.isEmpty() && tracedBots.contains(userName);
+    }
+
+    /** The bots currently traced on their own. */
+    public Set<String> getTracedBots() {
+        return Set.copyOf(tracedBots);
+    }
+
+    public boolean isCapturing() {
+        return ring != null;
+    }
+
+    /**
+     * Offer one received frame to the ring. Cheap when not sampled: one counter
+     * increment. Called from the per-client message pools.
+     */
+    public void capture(String userName, String raw) {
+        if (ring == null) return;
+        if (sampleEvery > 1 && seen.incrementAndGet() % sampleEvery != 0) return;
+        long slot = captured.getAndIncrement();
+        ring.set((int) (slot % ringCapacity), new CapturedFrame(Instant.now(), userName, raw));
+    }
+
+    /**
+     * The ring's current contents, oldest first. Best effort under concurrent
+     * capture: a slot overwritten during the copy shows its newer frame.
+     */
+    public List<CapturedFrame> snapshot() {
+        if (ring == null) return List.of();
+        long end = captured.get();
+        long start = Math.max(0, end - ringCapacity);
+        List<CapturedFrame> frames = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            CapturedFrame f = ring.get((int) (i % ringCapacity));
+            if (f != null) {
+                frames.add(f);
+            }
+        }
+        return frames;
+    }
+
+    public long getCapturedCount() {
+        return captured.get();
+    }
+
+    public void register(Participant participant) {
+        participants.add(participant);
+    }
+
+    public void unregister(Participant participant) {
+        participants.remove(participant);
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        nextRefresh = timer.schedule(this::refresh, refreshMillis);
+        log.info("Wire tap started for group {} (refresh={}ms, ring={}, sampleEvery={})",
+                groupId, refreshMillis, ringCapacity, sampleEvery);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        Timeout t = nextRefresh;
+        if (t != null) {
+            t.cancel();
+            nextRefresh = null;
+        }
+    }
+
+    /** One level re-check pass. Package-private so tests can drive it directly. */
+    void refresh() {
+        if (!running) return;
+        try {
+            for (Participant participant : participants) {
+                try {
+                    participant.syncWireTap();
+                } catch (Exception e) {
+                    log.debug("Wire tap refresh failed for a bot in group {}: {}", groupId, e.getMessage());
+                }
+            }
+        } finally {
+            armNext();
+        }
+    }
+
+    private synchronized void armNext() {
+        if (!running) return;
+        nextRefresh = timer.schedule(this::refresh, refreshMillis);
+    }
+
+    /** A bot whose printer attachment follows its wire logger's level and trace flag. */
+    public interface Participant {
+        /** Attach the printer to the current client if now required and not yet attached. */
+        void syncWireTap();
+    }
+
+    public record CapturedFrame(Instant receivedAt, String userName, String frame) {}
+}
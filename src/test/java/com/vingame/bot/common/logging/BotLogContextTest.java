@@ -0,0 +1,181 @@
+package com.vingame.bot.common.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that an installed {@link BotLogContext} reaches Log4j2 events through
+ * {@link BotContextDataInjector} (the labels Promtail promotes), and that
+ * {@link BotMdc#get} / {@link BotMdc#copyOfContextMap} see it, without the thread's
+ * MDC ever being written.
+ */
+@DisplayName("BotLogContext")
+class BotLogContextTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BotLogContextTest.class);
+    private static final Map<String, String> SNAPSHOT = Map.of(
+            BotMdc.BOT_GROUP_ID, "group-A",
+            BotMdc.BOT_ID, "3",
+            BotMdc.ENVIRONMENT_ID, "env-A",
+            BotMdc.GAME_TYPE, "BETTING_MINI",
+            BotMdc.BOT_USER_NAME, "bot_A"
+    );
+
+    private CapturingAppender appender;
+    private LoggerContext ctx;
+    private LoggerConfig loggerConfig;
+    private Level prevLevel;
+
+    @BeforeEach
+    void setUp() {
+        MDC.clear();
+        BotLogContext.restore(null);
+        appender = new CapturingAppender("CapturingAppender-bot-log-context");
+        appender.start();
+        ctx = (LoggerContext) LogManager.getContext(false);
+        loggerConfig = ctx.getConfiguration().getLoggerConfig(BotLogContextTest.class.getName());
+        prevLevel = loggerConfig.getLevel();
+        loggerConfig.addAppender(appender, Level.ALL, null);
+        loggerConfig.setLevel(Level.ALL);
+        ctx.updateLoggers();
+    }
+
+    @AfterEach
+    void tearDown() {
+        loggerConfig.removeAppender(appender.getName());
+        loggerConfig.setLevel(prevLevel);
+        ctx.updateLoggers();
+        BotLogContext.restore(null);
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("Log events")
+    class LogEventTests {
+
+        @Test
+        @DisplayName("An event logged under an installed context carries every bot key")
+        void installedContextReachesEvent() {
+            BotLogContext previous = BotLogContext.install(BotLogContext.of(SNAPSHOT));
+            try {
+                log.info("inside");
+            } finally {
+                BotLogContext.restore(previous);
+            }
+            log.info("outside");
+
+            assertThat(event("inside").getContextData().toMap()).containsAllEntriesOf(SNAPSHOT);
+            assertThat(event("outside").getContextData().toMap()).doesNotContainKey(BotMdc.BOT_GROUP_ID);
+        }
+
+        @Test
+        @DisplayName("The context overrides same-named MDC keys and keeps the others")
+        void contextOverlaysMdc() {
+            MDC.put(BotMdc.BOT_GROUP_ID, "outer-group");
+            MDC.put("requestId", "r-1");
+
+            BotLogContext previous = BotLogContext.install(BotLogContext.of(SNAPSHOT));
+            try {
+                log.info("overlay");
+            } finally {
+                BotLogContext.restore(previous);
+            }
+
+            Map<String, String> data = event("overlay").getContextData().toMap();
+            assertThat(data).containsEntry(BotMdc.BOT_GROUP_ID, "group-A");
+            assertThat(data).containsEntry("requestId", "r-1");
+            assertThat(MDC.get(BotMdc.BOT_GROUP_ID)).isEqualTo("outer-group");
+        }
+    }
+
+    @Nested
+    @DisplayName("BotMdc readers")
+    class ReaderTests {
+
+        @Test
+        @DisplayName("get and copyOfContextMap see the installed context, then fall back to MDC")
+        void readersSeeInstalledContext() {
+            MDC.put("requestId", "r-1");
+            BotLogContext previous = BotLogContext.install(BotLogContext.of(SNAPSHOT));
+            try {
+                assertThat(BotMdc.get(BotMdc.BOT_USER_NAME)).isEqualTo("bot_A");
+                assertThat(BotMdc.get("requestId")).isEqualTo("r-1");
+                assertThat(BotMdc.copyOfContextMap())
+                        .containsAllEntriesOf(SNAPSHOT)
+                        .containsEntry("requestId", "r-1");
+            } finally {
+                BotLogContext.restore(previous);
+            }
+
+            assertThat(BotMdc.get(BotMdc.BOT_USER_NAME)).isNull();
+            assertThat(BotMdc.copyOfContextMap()).isEqualTo(Map.of("requestId", "r-1"));
+        }
+
+        @Test
+        @DisplayName("Nested installs restore the outer context")
+        void nestedInstallRestoresOuter() {
+            BotLogContext outer = BotLogContext.of(Map.of(BotMdc.BOT_USER_NAME, "outer"));
+            BotLogContext inner = BotLogContext.of(Map.of(BotMdc.BOT_USER_NAME, "inner"));
+
+            BotLogContext none = BotLogContext.install(outer);
+            BotLogContext previous = BotLogContext.install(inner);
+            assertThat(BotMdc.get(BotMdc.BOT_USER_NAME)).isEqualTo("inner");
+            BotLogContext.restore(previous);
+            assertThat(BotMdc.get(BotMdc.BOT_USER_NAME)).isEqualTo("outer");
+            BotLogContext.restore(none);
+
+            assertThat(BotLogContext.current()).isNull();
+        }
+
+        @Test
+        @DisplayName("of(null) yields no context")
+        void nullSnapshot() {
+            assertThat(BotLogContext.of(null)).isNull();
+        }
+    }
+
+    private LogEvent event(String message) {
+        return appender.events().stream()
+                .filter(e -> e.getMessage().getFormattedMessage().equals(message))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no event '" + message + "'"));
+    }
+
+    /** Minimal in-memory log4j2 appender for asserting emitted events. */
+    private static final class CapturingAppender extends AbstractAppender {
+        private final List<LogEvent> events = new CopyOnWriteArrayList<>();
+
+        CapturingAppender(String name) {
+            super(name, null, PatternLayout.createDefaultLayout(), false, null);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            events.add(event.toImmutable());
+        }
+
+        List<LogEvent> events() {
+            return new ArrayList<>(events);
+        }
+    }
+}
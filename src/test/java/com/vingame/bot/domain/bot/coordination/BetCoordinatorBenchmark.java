@@ -0,0 +1,112 @@
+package com.vingame.bot.domain.bot.coordination;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code reserve} throughput at 1, 8 and 64 threads, side by side:
+ * <ul>
+ *   <li><b>locked</b> — every proposal serialized behind one {@link ReentrantLock},
+ *       the pre-CAS layout where the whole group queued on the coordinator lock.</li>
+ *   <li><b>lockFree</b> — {@link BetCoordinator#reserveAmount} as shipped, claiming
+ *       headroom with compare-and-set on the option and aggregate totals.</li>
+ * </ul>
+ * The cap is sized so no reservation is ever trimmed or rejected: every call does the
+ * full approve path. A fresh coordinator per iteration keeps the committed totals
+ * from growing across the run. Cap and option-bound safety under contention is
+ * asserted by {@code BetCoordinatorCrowdTest}, not here.
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main BetCoordinatorBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BetCoordinatorBenchmark {
+
+    private static final long SID = 42L;
+    private static final int OPTIONS = 6;
+    private static final long AMOUNT = 100L;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private BetCoordinator coordinator;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Map<Integer, Integer> weights = new LinkedHashMap<>();
+        for (int o = 0; o < OPTIONS; o++) {
+            weights.put(o, 1);
+        }
+        coordinator = new BetCoordinator(weights, Long.MAX_VALUE / 4, AMOUNT, AMOUNT);
+        coordinator.onRound(SID);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long lockFree1() {
+        return lockFree();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long lockFree8() {
+        return lockFree();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long lockFree64() {
+        return lockFree();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long locked1() {
+        return locked();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long locked8() {
+        return locked();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long locked64() {
+        return locked();
+    }
+
+    private long lockFree() {
+        return coordinator.reserveAmount(SID, ThreadLocalRandom.current().nextInt(OPTIONS), AMOUNT);
+    }
+
+    private long locked() {
+        lock.lock();
+        try {
+            return lockFree();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
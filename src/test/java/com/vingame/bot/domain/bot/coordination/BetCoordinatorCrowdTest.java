@@ -457,6 +457,30 @@ class BetCoordinatorCrowdTest {
     @DisplayName("monotonic-by-arrival (AD-C3)")
     class MonotonicByArrival {
 
+        @Test
+        @DisplayName("the other bots' copies of an applied frame are dropped; the next round takes it afresh")
+        void duplicateFrameDropped() {
+            Map<Integer, Integer> w = weights(1, 1);
+            long cap = 1000;
+            BetCoordinator c = new BetCoordinator(w, cap, 10, 10, true);
+            c.onRound(1L);
+            List<CrowdOption> frame = List.of(crowd(0, 400), crowd(1, 0));
+
+            c.observeCrowd(1L, frame);
+            Map<Integer, Long> applied = c.currentBudget();
+            // The fleet bets on option 0 before the other bots replay the same frame.
+            c.reserve(1L, 0, 100);
+            for (int bot = 0; bot < 5; bot++) {
+                c.observeCrowd(1L, frame);
+            }
+            // A replay would have re-subtracted the new commit (X(0)=300); it is a no-op.
+            assertThat(c.currentBudget()).isEqualTo(applied);
+
+            c.onRound(2L);
+            c.observeCrowd(2L, List.of(crowd(0, 0), crowd(1, 400)));
+            assertThat(c.currentBudget().get(1)).isEqualTo(300L);
+        }
+
         @Test
         @DisplayName("a straggler frame with a smaller aggregate does not overwrite a newer/larger one")
         void olderSmallerFrameIgnored() {
@@ -12,7 +12,7 @@ import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.response.ActionResponseMessage;
 import org.junit.jupiter.api.AfterEach;
@@ -25,7 +25,6 @@ import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -85,17 +84,14 @@ class BettingMiniGameBotAccumulatorTest {
 
     @AfterEach
     void tearDown() throws Exception {
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
     @DisplayName("Winning round: cumulativeWinnings += w, roundsObserved += 1, and it mirrors incBotWinnings(w)")
     void winningRoundIncrementsBothAndMirrorsMetric() throws Exception {
-        BotMetrics metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        BotMeters meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         assertThat(bot.getCumulativeWinnings().get()).isZero();
         assertThat(bot.getRoundsObserved().get()).isZero();
@@ -105,7 +101,7 @@ class BettingMiniGameBotAccumulatorTest {
 
         // cumulativeWinnings mirrors bot_winnings_total value-for-value.
         assertThat(bot.getCumulativeWinnings().get()).isEqualTo(500L);
-        verify(metrics).incBotWinnings(500L);
+        verify(meters).incBotWinnings(500L);
         // One completed round.
         assertThat(bot.getRoundsObserved().get()).isEqualTo(1L);
     }
@@ -113,7 +109,7 @@ class BettingMiniGameBotAccumulatorTest {
     @Test
     @DisplayName("Losing round (w=0): cumulativeWinnings stays 0, but roundsObserved still increments")
     void losingRoundCountsRoundButNotWinnings() throws Exception {
-        bot.setMetrics(mock(BotMetrics.class));
+        bot.setMeters(mock(BotMeters.class));
 
         invokeOnStartGame(200L);
         invokeOnEndGame(new StubEndGame(200L, bot.getUserName(), 0L));
@@ -136,7 +132,7 @@ class BettingMiniGameBotAccumulatorTest {
     @Test
     @DisplayName("Multiple rounds: cumulativeWinnings sums winners, roundsObserved counts every round")
     void multipleRoundsAccumulate() throws Exception {
-        bot.setMetrics(mock(BotMetrics.class));
+        bot.setMeters(mock(BotMeters.class));
 
         long[] payouts = {100L, 0L, 400L};
         for (int i = 0; i < payouts.length; i++) {
@@ -0,0 +1,174 @@
+package com.vingame.bot.domain.bot.core;
+
+import com.vingame.bot.config.bot.BotBehaviorConfig;
+import com.vingame.bot.config.bot.BotConfiguration;
+import com.vingame.bot.config.bot.BotCredentials;
+import com.vingame.bot.domain.bot.message.StartGameMessage;
+import com.vingame.bot.domain.bot.strategy.BetContext;
+import com.vingame.bot.domain.bot.strategy.BetDecision;
+import com.vingame.bot.domain.bot.strategy.BettingStrategy;
+import com.vingame.bot.domain.bot.strategy.BettingStrategyFactory;
+import com.vingame.bot.domain.bot.strategy.RoundResult;
+import com.vingame.bot.domain.bot.strategy.StrategyId;
+import com.vingame.bot.domain.bot.util.BettingMiniGameState;
+import com.vingame.bot.domain.game.model.Game;
+import com.vingame.bot.infrastructure.client.ApiGatewayClient;
+import com.vingame.bot.infrastructure.client.ClientFactory;
+import com.vingame.bot.infrastructure.client.GameMsClient;
+import com.vingame.websocketparser.VingameWebSocketClient;
+import com.vingame.websocketparser.message.properties.MessageCategory;
+import com.vingame.websocketparser.message.request.ActionRequestMessage;
+import com.vingame.websocketparser.message.response.ActionResponseMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies the group-driver bet path books a bet when its frame is sent, not when
+ * it is polled: a frame that waited for its jitter slot past a disconnect or the end
+ * of its round is dropped without touching the balance.
+ */
+@DisplayName("BettingMiniGameBot driver bet dispatch")
+class BettingMiniGameBotBetDispatchTest {
+
+    private static final long BALANCE = 50_000_000L;
+
+    private BettingMiniGameBot bot;
+    private VingameWebSocketClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Map<Integer, Integer> affinities = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++) affinities.put(i, 1);
+        Game game = Game.builder()
+                .id("g-dispatch").name("BauCua").pluginName("BauCua")
+                .offset(2000).optionAffinities(affinities).build();
+        BotBehaviorConfig behavior = BotBehaviorConfig.builder()
+                .minBet(100).maxBet(1000).betIncrement(100)
+                .maxTotalBetPerRound(10_000).minBetsPerRound(1).maxBetsPerRound(5)
+                .chatEnabled(false).autoDepositEnabled(false).betSkipPercentage(0)
+                .build();
+        BotConfiguration cfg = BotConfiguration.builder()
+                .credentials(BotCredentials.builder().username("dispatchbot").password("pw").fingerprint("fp").build())
+                .environmentId("env-1").botGroupId("group-1").botIndex(1)
+                .game(game).behaviorConfig(behavior)
+                .zoneName("MiniGame3").timeoutMillis(60_000L)
+                .watchdogTimeoutSeconds(120L)
+                .strategyId(StrategyId.RANDOM)
+                .build();
+
+        BettingStrategyFactory factory = mock(BettingStrategyFactory.class);
+        when(factory.create(StrategyId.RANDOM)).thenReturn(new FixedStrategy());
+
+        bot = new BettingMiniGameBot();
+        bot.setClients(mock(ApiGatewayClient.class), mock(GameMsClient.class), mock(ClientFactory.class));
+        bot.setConfiguration(cfg);
+        bot.setStrategyFactory(factory);
+        bot.setRandom(new Random(0L));
+        bot.initializeSubclass();
+
+        client = mock(VingameWebSocketClient.class);
+        when(client.isOpen()).thenReturn(true);
+        Field f = Bot.class.getDeclaredField("client");
+        f.setAccessible(true);
+        f.set(bot, client);
+        bot.resetBalance(BALANCE);
+        openRound(1001L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bot.cancelTimers();
+    }
+
+    @Test
+    @DisplayName("Polling builds the frame without booking; sending books and sends it")
+    void booksOnSend() {
+        ActionRequestMessage frame = bot.pollBetFrame();
+
+        assertThat(frame).isNotNull();
+        assertThat(bot.getExpectedBalance()).isEqualTo(BALANCE);
+
+        bot.sendBetFrame(frame);
+
+        assertThat(bot.getExpectedBalance()).isEqualTo(BALANCE - 500L);
+        verify(client).send(frame);
+    }
+
+    @Test
+    @DisplayName("A frame whose round closed before its slot is dropped unbooked")
+    void staleRoundDropped() throws Exception {
+        ActionRequestMessage frame = bot.pollBetFrame();
+
+        openRound(1002L);
+        bot.sendBetFrame(frame);
+
+        assertThat(bot.getExpectedBalance()).isEqualTo(BALANCE);
+        verify(client, never()).send(any(ActionRequestMessage.class));
+    }
+
+    @Test
+    @DisplayName("A frame for a bot that disconnected meanwhile is dropped unbooked")
+    void disconnectedDropped() {
+        ActionRequestMessage frame = bot.pollBetFrame();
+
+        when(client.isOpen()).thenReturn(false);
+        bot.sendBetFrame(frame);
+
+        assertThat(bot.getExpectedBalance()).isEqualTo(BALANCE);
+        verify(client, never()).send(any(ActionRequestMessage.class));
+    }
+
+    @Test
+    @DisplayName("While a frame waits for its slot the next poll skips the tick")
+    void oneFrameInFlight() {
+        ActionRequestMessage first = bot.pollBetFrame();
+
+        assertThat(bot.pollBetFrame()).isNull();
+
+        bot.sendBetFrame(first);
+        assertThat(bot.pollBetFrame()).isNotNull();
+    }
+
+    /* ---- fixtures ---- */
+
+    private void openRound(long sid) throws Exception {
+        StartGameMessage msg = mock(StartGameMessage.class);
+        when(msg.getSessionId()).thenReturn(sid);
+        Method m = BettingMiniGameBot.class.getDeclaredMethod("onStartGame", ActionResponseMessage.class);
+        m.setAccessible(true);
+        m.invoke(bot, new ActionResponseMessage<>(MessageCategory.ACTION_RESPONSE, msg));
+        Field state = BettingMiniGameBot.class.getDeclaredField("gameState");
+        state.setAccessible(true);
+        state.set(bot, BettingMiniGameState.BET);
+        bot.openBetWindow(10_000L);
+    }
+
+    /** Always bets 500 on option 2. */
+    private static final class FixedStrategy implements BettingStrategy {
+
+        @Override
+        public Optional<BetDecision> decide(BetContext ctx) {
+            return Optional.of(new BetDecision(2, 500L));
+        }
+
+        @Override
+        public void onRoundEnd(RoundResult result) {
+        }
+    }
+}
@@ -33,9 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -102,10 +100,7 @@ class BettingMiniGameBotCoordinationSeamTest {
 
     @AfterEach
     void tearDown() throws Exception {
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -123,7 +118,7 @@ class BettingMiniGameBotCoordinationSeamTest {
         Supplier<Boolean> condition = condition();
         assertThat(condition.get()).isTrue();
 
-        BetDecision parked = pendingDecision().get().orElseThrow();
+        BetDecision parked = PendingBets.peek(pendingDecision()).orElseThrow();
         assertThat(parked.optionId()).isEqualTo(0);
         assertThat(parked.amount())
                 .as("coordinator must trim 500 down to the grid-aligned option budget (200)")
@@ -148,13 +143,13 @@ class BettingMiniGameBotCoordinationSeamTest {
 
         openRound(6001L);
         strategy.nextDecision = Optional.of(new BetDecision(2, 300L));
-        pendingDecision().set(Optional.empty());
+        pendingDecision().clear();
 
         Supplier<Boolean> condition = condition();
         assertThat(condition.get())
                 .as("REJECT → condition returns false (skip this tick)")
                 .isFalse();
-        assertThat(pendingDecision().get())
+        assertThat(PendingBets.peek(pendingDecision()))
                 .as("nothing is parked on REJECT")
                 .isEmpty();
     }
@@ -169,7 +164,7 @@ class BettingMiniGameBotCoordinationSeamTest {
 
         Supplier<Boolean> condition = condition();
         assertThat(condition.get()).isTrue();
-        assertThat(pendingDecision().get())
+        assertThat(PendingBets.peek(pendingDecision()))
                 .as("null coordinator → decision unchanged")
                 .contains(proposed);
     }
@@ -185,7 +180,7 @@ class BettingMiniGameBotCoordinationSeamTest {
     private void openRound(long sid) throws Exception {
         invokeOnStartGame(sid);
         setField("gameState", BettingMiniGameState.BET);
-        ((AtomicLong) readField("remainingTime")).set(10_000L);
+        bot.openBetWindow(10_000L);
         ((SessionIdStore) readField("sidStore")).set(sid);
     }
 
@@ -214,10 +209,10 @@ class BettingMiniGameBotCoordinationSeamTest {
     }
 
     @SuppressWarnings("unchecked")
-    private AtomicReference<Optional<BetDecision>> pendingDecision() throws Exception {
+    private PendingBet pendingDecision() throws Exception {
         Field f = BettingMiniGameBot.class.getDeclaredField("pendingDecision");
         f.setAccessible(true);
-        return (AtomicReference<Optional<BetDecision>>) f.get(bot);
+        return (PendingBet) f.get(bot);
     }
 
     private Object readField(String name) throws Exception {
@@ -37,7 +37,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -112,10 +111,7 @@ class BettingMiniGameBotCrowdSeamTest {
 
     @AfterEach
     void tearDown() throws Exception {
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -23,8 +23,6 @@ import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -175,30 +173,13 @@ class BettingMiniGameBotJackpotScaleSeamTest {
         Method m = BettingMiniGameBot.class.getDeclaredMethod("onStartGame", ActionResponseMessage.class);
         m.setAccessible(true);
         m.invoke(bot, resp);
-        // Freeze the live countdown scheduler onStartGame spins up so no
-        // background virtual thread mutates bot state (remainingTime / sidStore
-        // via reconnect paths) between here and the buildBetContext() assertion.
-        // The effective-cap seam reads the onStartGame-snapshotted
-        // currentJackpotFactor (not remainingTime), so these assertions are not
-        // racy today, but the freeze keeps the harness uniform with the ramp
-        // seam and removes the latent async surface.
+        // Cancel the watchdog onStartGame arms on the shared timer so nothing
+        // runs out-of-band between here and the buildBetContext() assertion.
         freezeSchedulers();
     }
 
-    private void freezeSchedulers() throws Exception {
-        ScheduledExecutorService countdown = (ScheduledExecutorService) readField("scheduler");
-        if (countdown != null) {
-            countdown.shutdownNow();
-            countdown.awaitTermination(2, TimeUnit.SECONDS);
-            Field f = BettingMiniGameBot.class.getDeclaredField("scheduler");
-            f.setAccessible(true);
-            f.set(bot, null);
-        }
-        ScheduledExecutorService watchdog = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (watchdog != null) {
-            watchdog.shutdownNow();
-            watchdog.awaitTermination(2, TimeUnit.SECONDS);
-        }
+    private void freezeSchedulers() {
+        bot.cancelTimers();
     }
 
     private BetContext buildBetContext() throws Exception {
@@ -207,17 +188,6 @@ class BettingMiniGameBotJackpotScaleSeamTest {
         return (BetContext) m.invoke(bot);
     }
 
-    private Object readField(String name) throws Exception {
-        Field f;
-        try {
-            f = BettingMiniGameBot.class.getDeclaredField(name);
-        } catch (NoSuchFieldException e) {
-            f = Bot.class.getDeclaredField(name);
-        }
-        f.setAccessible(true);
-        return f.get(bot);
-    }
-
     private void seedAtomic(String name, long value) throws Exception {
         Field f = Bot.class.getDeclaredField(name);
         f.setAccessible(true);
@@ -1,5 +1,6 @@
 package com.vingame.bot.domain.bot.core;
 
+import com.vingame.bot.common.logging.BotMdc;
 import com.vingame.bot.config.bot.BotBehaviorConfig;
 import com.vingame.bot.config.bot.BotConfiguration;
 import com.vingame.bot.config.bot.BotCredentials;
@@ -38,7 +39,7 @@ import static org.mockito.Mockito.when;
  * <p>
  * Per Phase 3 acceptance: "spawn a fresh thread that has empty MDC and invoke
  * the wrapped {@code Runnable} produced for the watchdog/countdown scheduler
- * directly. Assert {@code MDC.get("botGroupId")} matches the snapshot inside
+ * directly. Assert {@code BotMdc.get("botGroupId")} matches the snapshot inside
  * the wrapped callback."
  */
 @DisplayName("BettingMiniGameBot MDC propagation")
@@ -109,17 +110,17 @@ class BettingMiniGameBotMdcTest {
         // a representative inner Runnable that captures MDC at execution time.
         // Same wrap mechanism, same snapshot reference — proves the propagation path.
         Map<String, String> capturedInside = new HashMap<>();
-        Runnable wrapped = bot.mdcWrap(() -> capturedInside.putAll(MDC.getCopyOfContextMap()));
+        Runnable wrapped = bot.mdcWrap(() -> capturedInside.putAll(BotMdc.copyOfContextMap()));
 
         CompletableFuture<Map<String, String>> mdcAfter = new CompletableFuture<>();
         Thread t = new Thread(() -> {
             // fresh thread: starts with empty MDC
-            assertThat(MDC.getCopyOfContextMap()).satisfiesAnyOf(
+            assertThat(BotMdc.copyOfContextMap()).satisfiesAnyOf(
                     m -> assertThat(m).isNull(),
                     m -> assertThat(m).isEmpty()
             );
             wrapped.run();
-            Map<String, String> after = MDC.getCopyOfContextMap();
+            Map<String, String> after = BotMdc.copyOfContextMap();
             mdcAfter.complete(after == null ? new HashMap<>() : after);
         }, "BettingMiniGameBotMdcTest-watchdog");
         t.start();
@@ -136,7 +137,7 @@ class BettingMiniGameBotMdcTest {
         // Same proof for the countdown scheduler's wrapped Runnable. The wrap
         // is defensive (no logs in countdown today) but must still set MDC.
         Map<String, String> capturedInside = new HashMap<>();
-        Runnable wrapped = bot.mdcWrap(() -> capturedInside.putAll(MDC.getCopyOfContextMap()));
+        Runnable wrapped = bot.mdcWrap(() -> capturedInside.putAll(BotMdc.copyOfContextMap()));
 
         CompletableFuture<Void> done = new CompletableFuture<>();
         Thread t = new Thread(() -> {
@@ -162,7 +163,7 @@ class BettingMiniGameBotMdcTest {
         // thread sees the snapshot.
         Map<String, String> capturedInside = new HashMap<>();
         java.util.function.Consumer<String> wrapped =
-                bot.mdcConsumer(s -> capturedInside.putAll(MDC.getCopyOfContextMap()));
+                bot.mdcConsumer(s -> capturedInside.putAll(BotMdc.copyOfContextMap()));
 
         CompletableFuture<Void> done = new CompletableFuture<>();
         Thread t = new Thread(() -> {
@@ -183,7 +184,7 @@ class BettingMiniGameBotMdcTest {
         // scheduler that has no MDC. Same proof: wrap then invoke from a fresh thread.
         Map<String, String> capturedInside = new HashMap<>();
         java.util.function.Supplier<Boolean> wrapped = bot.mdcSupplier(() -> {
-            capturedInside.putAll(MDC.getCopyOfContextMap());
+            capturedInside.putAll(BotMdc.copyOfContextMap());
             return true;
         });
 
@@ -26,7 +26,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -85,10 +84,7 @@ class BettingMiniGameBotMemoryTest {
 
     @AfterEach
     void tearDown() throws Exception {
-        ScheduledExecutorService w = (ScheduledExecutorService) readField(bot, "watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField(bot, "scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -174,7 +170,7 @@ class BettingMiniGameBotMemoryTest {
                 (com.vingame.bot.domain.bot.util.SessionIdStore) readField(bot, "sidStore");
         sidStore.set(555L);
         // remainingTime >= blockBetTime (default 3000) — set 10s.
-        ((java.util.concurrent.atomic.AtomicLong) readField(bot, "remainingTime")).set(10_000L);
+        bot.openBetWindow(10_000L);
 
         // Trigger condition -> supplier twice (the engine calls condition then supplier per tick)
         Method conditionMethod = BettingMiniGameBot.class.getDeclaredMethod("betCondition");
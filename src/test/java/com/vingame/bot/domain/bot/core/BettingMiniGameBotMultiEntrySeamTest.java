@@ -16,7 +16,7 @@ import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.request.ActionRequestMessage;
 import com.vingame.websocketparser.message.request.Body;
@@ -31,7 +31,6 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -104,7 +103,7 @@ class BettingMiniGameBotMultiEntrySeamTest {
         b.setConfiguration(cfg);
         b.setStrategyFactory(factory);
         b.setRandom(new Random(0L));
-        b.setMetrics(mock(BotMetrics.class));
+        b.setMeters(mock(BotMeters.class));
         b.initializeSubclass();
 
         seedLong(b, "lastFetchedBalance", 50_000_000L);
@@ -115,10 +114,7 @@ class BettingMiniGameBotMultiEntrySeamTest {
     @AfterEach
     void tearDown() throws Exception {
         if (bot == null) return;
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -188,9 +184,7 @@ class BettingMiniGameBotMultiEntrySeamTest {
     }
 
     private void setRemainingTime(long ms) throws Exception {
-        Field f = BettingMiniGameBot.class.getDeclaredField("remainingTime");
-        f.setAccessible(true);
-        ((AtomicLong) f.get(bot)).set(ms);
+        bot.openBetWindow(ms);
     }
 
     private Object readField(String name) throws Exception {
@@ -32,9 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -103,10 +101,7 @@ class BettingMiniGameBotPendingDecisionRaceTest {
 
     @AfterEach
     void tearDown() throws Exception {
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -117,16 +112,16 @@ class BettingMiniGameBotPendingDecisionRaceTest {
         strategy.nextDecision = Optional.of(new BetDecision(2, 500L));
         Supplier<Boolean> condition = condition();
         assertThat(condition.get()).isTrue();
-        AtomicReference<Optional<BetDecision>> parked = pendingDecision();
-        assertThat(parked.get()).isPresent();
-        BetDecision before = parked.get().orElseThrow();
+        PendingBet parked = pendingDecision();
+        assertThat(PendingBets.peek(parked)).isPresent();
+        BetDecision before = PendingBets.peek(parked).orElseThrow();
 
         // Thread B (netty processor thread): a new round's StartGame fires before
         // the scenario thread invokes the supplier. Pre-fix this would clear
         // pendingDecision; post-fix the parked decision survives.
         invokeOnStartGame(1002L);
 
-        assertThat(parked.get())
+        assertThat(PendingBets.peek(parked))
                 .as("pendingDecision must NOT be cleared by onStartGame (review Bug 2)")
                 .isPresent()
                 .contains(before);
@@ -173,7 +168,7 @@ class BettingMiniGameBotPendingDecisionRaceTest {
         strategy.nextDecision = Optional.of(new BetDecision(0, 100L));
 
         // Park nothing — simulate beforeReconnect having cleared it.
-        pendingDecision().set(Optional.empty());
+        pendingDecision().clear();
 
         Supplier<ActionRequestMessage> supplier = supplier();
         ActionRequestMessage[] result = new ActionRequestMessage[1];
@@ -195,7 +190,7 @@ class BettingMiniGameBotPendingDecisionRaceTest {
         // succeeded a tick ago) but we surface it loudly rather than silently
         // skipping — see bet() Javadoc.
         strategy.nextDecision = Optional.empty();
-        pendingDecision().set(Optional.empty());
+        pendingDecision().clear();
 
         Supplier<ActionRequestMessage> supplier = supplier();
         assertThatCode(supplier::get)
@@ -208,7 +203,7 @@ class BettingMiniGameBotPendingDecisionRaceTest {
     private void openRound(long sid) throws Exception {
         invokeOnStartGame(sid);
         setField("gameState", BettingMiniGameState.BET);
-        ((AtomicLong) readField("remainingTime")).set(10_000L);
+        bot.openBetWindow(10_000L);
         ((SessionIdStore) readField("sidStore")).set(sid);
     }
 
@@ -237,10 +232,10 @@ class BettingMiniGameBotPendingDecisionRaceTest {
     }
 
     @SuppressWarnings("unchecked")
-    private AtomicReference<Optional<BetDecision>> pendingDecision() throws Exception {
+    private PendingBet pendingDecision() throws Exception {
         Field f = BettingMiniGameBot.class.getDeclaredField("pendingDecision");
         f.setAccessible(true);
-        return (AtomicReference<Optional<BetDecision>>) f.get(bot);
+        return (PendingBet) f.get(bot);
     }
 
     private Object readField(String name) throws Exception {
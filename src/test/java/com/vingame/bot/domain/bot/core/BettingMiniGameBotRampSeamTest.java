@@ -30,10 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -74,7 +71,7 @@ class BettingMiniGameBotRampSeamTest {
         Supplier<Boolean> condition = h.condition();
         for (int i = 0; i < 50; i++) {
             // sweep the whole window; every tick must still bet with ramp off
-            h.remainingTime().set(10_000L - i * 200L);
+            h.setRemaining(10_000L - i * 200L);
             assertThat(condition.get()).as("tick %d accepted with ramp off", i).isTrue();
         }
         assertThat(counting.doubleDraws)
@@ -129,7 +126,7 @@ class BettingMiniGameBotRampSeamTest {
         h.openRound(1004L, 10_000L, 5_000L); // mid-window, pAccept < 1.0
 
         assertThat(h.condition().get()).as("forced defer → skip tick").isFalse();
-        assertThat(h.pendingDecision().get()).as("nothing parked on defer").isEmpty();
+        assertThat(PendingBets.peek(h.pendingDecision())).as("nothing parked on defer").isEmpty();
         assertThat(h.strategy.decideInvocations)
                 .as("AD-R1: deferred tick runs BEFORE decideBet — strategy untouched")
                 .isZero();
@@ -181,7 +178,7 @@ class BettingMiniGameBotRampSeamTest {
         Supplier<Boolean> condition = h.condition();
         int accepts = 0;
         for (int i = 0; i < ticks; i++) {
-            h.remainingTime().set(remaining); // hold elapsed fraction fixed
+            h.setRemaining(remaining); // hold elapsed fraction fixed
             if (condition.get()) accepts++;
         }
         return accepts / (double) ticks;
@@ -278,17 +275,12 @@ class BettingMiniGameBotRampSeamTest {
             m.setAccessible(true);
             m.invoke(bot, resp);
 
-            // De-flake: onStartGame spins up a live countdown scheduler that
-            // decrements remainingTime every 1000ms on a background virtual
-            // thread. That thread races betCondition() and mutates remainingTime
-            // (hence elapsedFraction / pAccept) between our set() below and the
-            // condition.get() the test asserts on — the confirmed intermittent
-            // failure. Freeze the async state by stopping BOTH schedulers here,
-            // right after construction/onStartGame, so the gate is driven against
-            // exactly the fields the test seeds and nothing mutates them
-            // out-of-band. The watchdog (120s) would not fire in a test window,
-            // but is stopped for the same isolation guarantee.
-            freezeSchedulers();
+            // onStartGame arms the watchdog on the shared timer. It (120s) would
+            // not fire in a test window, but is cancelled so nothing runs
+            // out-of-band while the gate is driven. Remaining time is derived
+            // from the StartGame deadline (no background countdown), so the
+            // setRemaining() below is what the gate reads.
+            bot.cancelTimers();
 
             setField("gameState", BettingMiniGameState.BET);
             setField("timeForBetting", timeForBetting);
@@ -297,29 +289,10 @@ class BettingMiniGameBotRampSeamTest {
             // blockBetTime countdown (default 3000ms would otherwise mask the
             // late window we sweep).
             setField("blockBetTime", 0L);
-            remainingTime().set(remaining);
+            setRemaining(remaining);
             ((SessionIdStore) readField("sidStore")).set(sid);
         }
 
-        /**
-         * Stop the countdown + watchdog schedulers and null the countdown
-         * reference so nothing re-drives remainingTime while the test asserts on
-         * betCondition(). Idempotent — safe to call again from tearDown.
-         */
-        void freezeSchedulers() throws Exception {
-            ScheduledExecutorService countdown = (ScheduledExecutorService) readField("scheduler");
-            if (countdown != null) {
-                countdown.shutdownNow();
-                countdown.awaitTermination(2, TimeUnit.SECONDS);
-                setField("scheduler", null);
-            }
-            ScheduledExecutorService watchdog = (ScheduledExecutorService) readField("watchdogScheduler");
-            if (watchdog != null) {
-                watchdog.shutdownNow();
-                watchdog.awaitTermination(2, TimeUnit.SECONDS);
-            }
-        }
-
         @SuppressWarnings("unchecked")
         Supplier<Boolean> condition() throws Exception {
             Method m = BettingMiniGameBot.class.getDeclaredMethod("betCondition");
@@ -328,14 +301,15 @@ class BettingMiniGameBotRampSeamTest {
         }
 
         @SuppressWarnings("unchecked")
-        AtomicReference<Optional<BetDecision>> pendingDecision() throws Exception {
+        PendingBet pendingDecision() throws Exception {
             Field f = BettingMiniGameBot.class.getDeclaredField("pendingDecision");
             f.setAccessible(true);
-            return (AtomicReference<Optional<BetDecision>>) f.get(bot);
+            return (PendingBet) f.get(bot);
         }
 
-        AtomicLong remainingTime() throws Exception {
-            return (AtomicLong) readField("remainingTime");
+        /** Re-open the bet window so {@code remaining} ms are left right now. */
+        void setRemaining(long remaining) {
+            bot.openBetWindow(remaining);
         }
 
         Object readField(String name) throws Exception {
@@ -372,8 +346,8 @@ class BettingMiniGameBotRampSeamTest {
             ((AtomicLong) f.get(bot)).set(value);
         }
 
-        void shutdown() throws Exception {
-            freezeSchedulers();
+        void shutdown() {
+            bot.cancelTimers();
         }
     }
 
@@ -20,7 +20,6 @@ import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -83,10 +82,7 @@ class BettingMiniGameBotSessionAggregationTest {
 
     @AfterEach
     void tearDown() throws Exception {
-        ScheduledExecutorService w = (ScheduledExecutorService) readField(bot, "watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField(bot, "scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -105,7 +101,7 @@ class BettingMiniGameBotSessionAggregationTest {
         setField(bot, "gameState", BettingMiniGameState.BET);
         SessionIdStore sidStore = (SessionIdStore) readField(bot, "sidStore");
         sidStore.set(555L);
-        ((AtomicLong) readField(bot, "remainingTime")).set(10_000L);
+        bot.openBetWindow(10_000L);
 
         Method conditionMethod = BettingMiniGameBot.class.getDeclaredMethod("betCondition");
         conditionMethod.setAccessible(true);
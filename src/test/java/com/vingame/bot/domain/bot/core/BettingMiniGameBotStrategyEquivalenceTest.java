@@ -26,7 +26,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -96,10 +95,7 @@ class BettingMiniGameBotStrategyEquivalenceTest {
 
     @AfterEach
     void tearDown() throws Exception {
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     /**
@@ -150,7 +146,7 @@ class BettingMiniGameBotStrategyEquivalenceTest {
         // be called from onStartGame; do it explicitly + drive sidStore/state.
         invokeOnStartGame(42069L);
         setField("gameState", BettingMiniGameState.BET);
-        ((AtomicLong) readField("remainingTime")).set(10_000L);
+        bot.openBetWindow(10_000L);
         SessionIdStore sidStore = (SessionIdStore) readField("sidStore");
         sidStore.set(42069L);
 
@@ -172,11 +168,8 @@ class BettingMiniGameBotStrategyEquivalenceTest {
             // Capture the parked decision via reflection before the supplier
             // consumes it. The bet() supplier itself can be invoked too — but
             // the test pins the decision sequence, not the Request payload.
-            @SuppressWarnings("unchecked")
-            java.util.concurrent.atomic.AtomicReference<java.util.Optional<BetDecision>> pending =
-                    (java.util.concurrent.atomic.AtomicReference<java.util.Optional<BetDecision>>)
-                            readField("pendingDecision");
-            BetDecision parked = pending.get().orElseThrow();
+            PendingBet pending = (PendingBet) readField("pendingDecision");
+            BetDecision parked = PendingBets.peek(pending).orElseThrow();
             actual.add(parked);
             // Drain the parked decision the way the scenario engine would —
             // exercises bet()'s memory-recording branch end-to-end.
@@ -212,7 +205,7 @@ class BettingMiniGameBotStrategyEquivalenceTest {
         // Round 1
         invokeOnStartGame(1001L);
         setField("gameState", BettingMiniGameState.BET);
-        ((AtomicLong) readField("remainingTime")).set(10_000L);
+        bot.openBetWindow(10_000L);
         ((SessionIdStore) readField("sidStore")).set(1001L);
 
         List<BetDecision> r1 = drainTicks(ticksPerRound);
@@ -221,7 +214,7 @@ class BettingMiniGameBotStrategyEquivalenceTest {
         // Round 2 — onStartGame with a new sessionId. RandomBehaviorStrategy
         // sees currentRound.sessionId change and resets its counter.
         invokeOnStartGame(1002L);
-        ((AtomicLong) readField("remainingTime")).set(10_000L);
+        bot.openBetWindow(10_000L);
         ((SessionIdStore) readField("sidStore")).set(1002L);
 
         List<BetDecision> r2 = drainTicks(ticksPerRound);
@@ -240,15 +233,12 @@ class BettingMiniGameBotStrategyEquivalenceTest {
         Supplier<ActionRequestMessage> supplier =
                 (Supplier<ActionRequestMessage>) betMethod.invoke(bot);
 
-        @SuppressWarnings("unchecked")
-        java.util.concurrent.atomic.AtomicReference<java.util.Optional<BetDecision>> pending =
-                (java.util.concurrent.atomic.AtomicReference<java.util.Optional<BetDecision>>)
-                        readField("pendingDecision");
+        PendingBet pending = (PendingBet) readField("pendingDecision");
 
         List<BetDecision> out = new ArrayList<>();
         for (int t = 0; t < ticks; t++) {
             if (!condition.get()) continue;
-            out.add(pending.get().orElseThrow());
+            out.add(PendingBets.peek(pending).orElseThrow());
             supplier.get();
         }
         return out;
@@ -1,5 +1,7 @@
 package com.vingame.bot.domain.bot.core;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vingame.bot.config.bot.BotBehaviorConfig;
 import com.vingame.bot.config.bot.BotConfiguration;
 import com.vingame.bot.config.bot.BotCredentials;
@@ -10,6 +12,7 @@ import com.vingame.bot.domain.bot.message.HasJackpot;
 import com.vingame.bot.domain.bot.message.StartGameMessage;
 import com.vingame.bot.domain.bot.message.SubscribeMessage;
 import com.vingame.bot.domain.bot.message.UpdateBetMessage;
+import com.vingame.bot.domain.bot.message.g2.bom.BomGameMessageTypes;
 import com.vingame.bot.domain.bot.util.BettingMiniGameState;
 import com.vingame.bot.domain.bot.util.GameState;
 import com.vingame.bot.domain.bot.util.SessionIdStore;
@@ -17,7 +20,7 @@ import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.response.ActionResponseMessage;
 import org.junit.jupiter.api.AfterEach;
@@ -34,7 +37,6 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -112,11 +114,8 @@ class BettingMiniGameBotTest {
 
     @AfterEach
     void tearDown() throws Exception {
-        // shut down watchdog scheduler to avoid leaking threads
-        ScheduledExecutorService watchdog = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (watchdog != null) watchdog.shutdownNow();
-        ScheduledExecutorService countdown = (ScheduledExecutorService) readField("scheduler");
-        if (countdown != null) countdown.shutdownNow();
+        // cancel the watchdog armed on the shared timer
+        bot.cancelTimers();
     }
 
     /* ----- strategy-driven betCondition + bet supplier (Phase 5) ----- */
@@ -389,36 +388,25 @@ class BettingMiniGameBotTest {
             setGameState(BettingMiniGameState.BET);
             setRemainingTime(5000L);
 
-            // Provide a scheduler + watchdogTask so beforeReconnect cancels them
-            ScheduledExecutorService scheduler = java.util.concurrent.Executors.newSingleThreadScheduledExecutor();
-            try {
-                Field schedField = BettingMiniGameBot.class.getDeclaredField("scheduler");
-                schedField.setAccessible(true);
-                schedField.set(bot, scheduler);
-
-                java.util.concurrent.ScheduledFuture<?> watchdogTask =
-                        scheduler.schedule(() -> {}, 60, TimeUnit.SECONDS);
-                Field taskField = BettingMiniGameBot.class.getDeclaredField("watchdogTask");
-                taskField.setAccessible(true);
-                taskField.set(bot, watchdogTask);
-
-                bot.beforeReconnect();
-
-                SessionIdStore store = (SessionIdStore) readField("sidStore");
-                assertThat(store.get()).isEqualTo(0L);
-                assertThat(readField("gameState")).isNull();
-                AtomicLong remaining = (AtomicLong) readField("remainingTime");
-                assertThat(remaining.get()).isEqualTo(0L);
-                // Phase 5: per-round bet counter is now strategy-internal (no
-                // numberOfBetsInCurrentSession field on the bot); RandomBehaviorStrategy
-                // re-syncs its counter on the next StartGame via sessionId change.
-                // scheduler field should be nulled
-                assertThat(readField("scheduler")).isNull();
-                // watchdogTask should be nulled
-                assertThat(readField("watchdogTask")).isNull();
-            } finally {
-                if (!scheduler.isShutdown()) scheduler.shutdownNow();
-            }
+            // Arm a watchdog on the shared timer so beforeReconnect cancels it
+            Method arm = BettingMiniGameBot.class.getDeclaredMethod("scheduleWatchdog");
+            arm.setAccessible(true);
+            arm.invoke(bot);
+            io.netty.util.Timeout watchdogTask = (io.netty.util.Timeout) readField("watchdogTask");
+            assertThat(watchdogTask).isNotNull();
+
+            bot.beforeReconnect();
+
+            SessionIdStore store = (SessionIdStore) readField("sidStore");
+            assertThat(store.get()).isEqualTo(0L);
+            assertThat(readField("gameState")).isNull();
+            assertThat(bot.remainingTimeMillis()).isEqualTo(0L);
+            // Phase 5: per-round bet counter is now strategy-internal (no
+            // numberOfBetsInCurrentSession field on the bot); RandomBehaviorStrategy
+            // re-syncs its counter on the next StartGame via sessionId change.
+            // watchdogTask should be cancelled and nulled
+            assertThat(watchdogTask.isCancelled()).isTrue();
+            assertThat(readField("watchdogTask")).isNull();
         }
     }
 
@@ -503,6 +491,28 @@ class BettingMiniGameBotTest {
 
     /* ----- ENDGAME_METRICS Phase A — new marker-interface dispatch in onEndGame ----- */
 
+    @Nested
+    @DisplayName("decodeFrame (shared broadcast path)")
+    class DecodeFrameTests {
+
+        private ObjectMapper bomMapper() {
+            ObjectMapper mapper = new ObjectMapper();
+            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            mapper.registerSubtypes(new BomGameMessageTypes()
+                    .getTypeRegistrations(2000, false));
+            return mapper;
+        }
+
+        @Test
+        @DisplayName("Array-framed [category, body] wire frame decodes to an ACTION_RESPONSE envelope")
+        void decodesArrayFramedFrame() throws Exception {
+            ActionResponseMessage<StartGameMessage> resp = BettingMiniGameBot.decodeFrame(
+                    "[5,{\"cmd\":5005,\"sid\":422070}]", bomMapper().readerFor(StartGameMessage.class));
+
+            assertThat(resp.getData().getSessionId()).isEqualTo(422070L);
+        }
+    }
+
     @Nested
     @DisplayName("onEndGame marker-interface dispatch (ENDGAME_METRICS Phase A)")
     class OnEndGameMarkerDispatchTests {
@@ -510,8 +520,8 @@ class BettingMiniGameBotTest {
         @Test
         @DisplayName("Vanilla EndGameMessage (no markers): only incBotMessage(\"endGame\") fires")
         void shouldEmitNothingForVanillaEndGameMessage() throws Exception {
-            BotMetrics metrics = mock(BotMetrics.class);
-            bot.setMetrics(metrics);
+            BotMeters meters = mock(BotMeters.class);
+            bot.setMeters(meters);
 
             setLastFetchedBalance(50_000_000L);
             setExpectedCurrentBalance(50_000_000L);
@@ -525,17 +535,17 @@ class BettingMiniGameBotTest {
             invokePrivate("onEndGame", new Class<?>[]{ActionResponseMessage.class}, resp);
 
             // Only the message-counter fires (Phase C: legacy capability hooks are gone).
-            verify(metrics).incBotMessage("endGame");
-            verify(metrics, never()).incBetsPlaced(anyInt(), anyLong());
-            verify(metrics, never()).incBotWinnings(anyLong());
-            verify(metrics, never()).incBotJackpot(anyLong());
+            verify(meters).incBotMessage("endGame");
+            verify(meters, never()).incBetsPlaced(anyInt(), anyLong());
+            verify(meters, never()).incBotWinnings(anyLong());
+            verify(meters, never()).incBotJackpot(anyLong());
         }
 
         @Test
         @DisplayName("HasBotWinnings: incBotWinnings(N) is called when N > 0 and lastRoundWinnings is updated")
         void shouldExtractFromHasBotWinnings() throws Exception {
-            BotMetrics metrics = mock(BotMetrics.class);
-            bot.setMetrics(metrics);
+            BotMeters meters = mock(BotMeters.class);
+            bot.setMeters(meters);
             setLastFetchedBalance(50_000_000L);
             setExpectedCurrentBalance(50_000_000L);
             setGameState(BettingMiniGameState.BET);
@@ -549,8 +559,8 @@ class BettingMiniGameBotTest {
 
             // Phase C: only the marker-interface dispatch contributes — no legacy
             // default-0 overwrite, so lastRoundWinnings reflects the extracted value.
-            verify(metrics).incBotWinnings(750L);
-            verify(metrics, never()).incBotWinnings(0L);
+            verify(meters).incBotWinnings(750L);
+            verify(meters, never()).incBotWinnings(0L);
             assertThat(((Bot) bot).getLastRoundWinnings()).isEqualTo(750L);
         }
 
@@ -558,8 +568,8 @@ class BettingMiniGameBotTest {
         @DisplayName("HasJackpot returning N>0: incBotJackpot(N) fires; returning 0: no incBotJackpot call")
         void shouldExtractFromHasJackpot() throws Exception {
             // Case 1 — jackpot > 0 fires the counter.
-            BotMetrics metrics = mock(BotMetrics.class);
-            bot.setMetrics(metrics);
+            BotMeters meters = mock(BotMeters.class);
+            bot.setMeters(meters);
             setLastFetchedBalance(50_000_000L);
             setExpectedCurrentBalance(50_000_000L);
             setGameState(BettingMiniGameState.BET);
@@ -570,19 +580,19 @@ class BettingMiniGameBotTest {
                     new ActionResponseMessage<>(MessageCategory.ACTION_RESPONSE, msgWithJackpot);
 
             invokePrivate("onEndGame", new Class<?>[]{ActionResponseMessage.class}, resp1);
-            verify(metrics).incBotJackpot(10_000L);
+            verify(meters).incBotJackpot(10_000L);
 
             // Case 2 — jackpot == 0 must NOT fire incBotJackpot (caller-side > 0 guard, AD-7).
-            BotMetrics metrics2 = mock(BotMetrics.class);
+            BotMeters meters2 = mock(BotMeters.class);
             BettingMiniGameBot bot2 = newBareBot("zerojkbot");
-            bot2.setMetrics(metrics2);
+            bot2.setMeters(meters2);
             try {
                 EndGameMessage msgZero = new StubEndGameMessage()
                         .withJackpotFor(bot2.getUserName(), 0L);
                 ActionResponseMessage<EndGameMessage> resp2 =
                         new ActionResponseMessage<>(MessageCategory.ACTION_RESPONSE, msgZero);
                 invokePrivateOn(bot2, "onEndGame", new Class<?>[]{ActionResponseMessage.class}, resp2);
-                verify(metrics2, never()).incBotJackpot(anyLong());
+                verify(meters2, never()).incBotJackpot(anyLong());
             } finally {
                 shutdownSchedulers(bot2);
             }
@@ -591,8 +601,8 @@ class BettingMiniGameBotTest {
         @Test
         @DisplayName("HasBetTotals (count=3, amount=500): incBetsPlaced(3, 500) called exactly once")
         void shouldExtractFromHasBetTotals() throws Exception {
-            BotMetrics metrics = mock(BotMetrics.class);
-            bot.setMetrics(metrics);
+            BotMeters meters = mock(BotMeters.class);
+            bot.setMeters(meters);
             setLastFetchedBalance(50_000_000L);
             setExpectedCurrentBalance(50_000_000L);
             setGameState(BettingMiniGameState.BET);
@@ -604,14 +614,14 @@ class BettingMiniGameBotTest {
 
             invokePrivate("onEndGame", new Class<?>[]{ActionResponseMessage.class}, resp);
 
-            verify(metrics).incBetsPlaced(3, 500L);
+            verify(meters).incBetsPlaced(3, 500L);
         }
 
         @Test
         @DisplayName("All three surviving interfaces implemented: every counter path fires in order (winnings -> jackpot -> bets)")
         void shouldDispatchAllInterfacesIfImplemented() throws Exception {
-            BotMetrics metrics = mock(BotMetrics.class);
-            bot.setMetrics(metrics);
+            BotMeters meters = mock(BotMeters.class);
+            bot.setMeters(meters);
             setLastFetchedBalance(50_000_000L);
             setExpectedCurrentBalance(50_000_000L);
             setGameState(BettingMiniGameState.BET);
@@ -625,19 +635,19 @@ class BettingMiniGameBotTest {
 
             invokePrivate("onEndGame", new Class<?>[]{ActionResponseMessage.class}, resp);
 
-            InOrder order = inOrder(metrics);
-            order.verify(metrics).incBotMessage("endGame");
+            InOrder order = inOrder(meters);
+            order.verify(meters).incBotMessage("endGame");
             // New marker dispatch order: winnings -> jackpot -> bets (AD-5;
             // round-totals arm dropped by Phase A.5).
-            order.verify(metrics).incBotWinnings(200L);
-            order.verify(metrics).incBotJackpot(1_500L);
-            order.verify(metrics).incBetsPlaced(2, 300L);
+            order.verify(meters).incBotWinnings(200L);
+            order.verify(meters).incBotJackpot(1_500L);
+            order.verify(meters).incBetsPlaced(2, 300L);
         }
 
         @Test
         @DisplayName("Null metrics with all three surviving interfaces implemented: no NPE, gameState transitions to PAYOUT, lastRoundWinnings still updates")
         void shouldNoOpOnAllInterfacesWhenMetricsNull() throws Exception {
-            bot.setMetrics(null);
+            bot.setMeters(null);
             setLastFetchedBalance(50_000_000L);
             setExpectedCurrentBalance(50_000_000L);
             setGameState(BettingMiniGameState.BET);
@@ -874,16 +884,7 @@ class BettingMiniGameBotTest {
     }
 
     private static void shutdownSchedulers(BettingMiniGameBot b) {
-        try {
-            Field f = BettingMiniGameBot.class.getDeclaredField("watchdogScheduler");
-            f.setAccessible(true);
-            ScheduledExecutorService w = (ScheduledExecutorService) f.get(b);
-            if (w != null) w.shutdownNow();
-            Field f2 = BettingMiniGameBot.class.getDeclaredField("scheduler");
-            f2.setAccessible(true);
-            ScheduledExecutorService s = (ScheduledExecutorService) f2.get(b);
-            if (s != null) s.shutdownNow();
-        } catch (Exception ignored) {}
+        b.cancelTimers();
     }
 
     /* ----- reflection helpers ----- */
@@ -945,11 +946,8 @@ class BettingMiniGameBotTest {
         f.set(bot, state);
     }
 
-    private void setRemainingTime(long ms) throws Exception {
-        Field f = BettingMiniGameBot.class.getDeclaredField("remainingTime");
-        f.setAccessible(true);
-        AtomicLong rt = (AtomicLong) f.get(bot);
-        rt.set(ms);
+    private void setRemainingTime(long ms) {
+        bot.openBetWindow(ms);
     }
 
     private void setBlockBetTime(long ms) throws Exception {
@@ -0,0 +1,278 @@
+package com.vingame.bot.domain.bot.core;
+
+import com.vingame.bot.config.bot.BotBehaviorConfig;
+import com.vingame.bot.config.bot.BotConfiguration;
+import com.vingame.bot.config.bot.BotCredentials;
+import com.vingame.bot.domain.bot.coordination.BetCoordinator;
+import com.vingame.bot.domain.bot.message.StartGameMessage;
+import com.vingame.bot.domain.bot.strategy.BetSlot;
+import com.vingame.bot.domain.bot.strategy.BettingStrategy;
+import com.vingame.bot.domain.bot.strategy.BettingStrategyFactory;
+import com.vingame.bot.domain.bot.strategy.RandomBehaviorStrategy;
+import com.vingame.bot.domain.bot.strategy.StrategyId;
+import com.vingame.bot.domain.bot.strategy.martingale.ClassicMartingaleAggressive;
+import com.vingame.bot.domain.bot.strategy.martingale.ClassicMartingaleCautious;
+import com.vingame.bot.domain.bot.util.BettingMiniGameState;
+import com.vingame.bot.domain.bot.util.SessionIdStore;
+import com.vingame.bot.domain.game.model.Game;
+import com.vingame.bot.infrastructure.client.ApiGatewayClient;
+import com.vingame.bot.infrastructure.client.ClientFactory;
+import com.vingame.bot.infrastructure.client.GameMsClient;
+import com.vingame.websocketparser.message.properties.MessageCategory;
+import com.vingame.websocketparser.message.response.ActionResponseMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Allocation regression guard for the per-tick bet decision path: ramp gate →
+ * {@code decideBet} → {@code applyCoordination} → park, and the supplier's pop —
+ * with and without a group {@link BetCoordinator} reserving every proposal.
+ * <p>
+ * Measured with the JVM's per-thread allocation counter
+ * ({@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}) over
+ * many ticks after a warm-up. The steady state must allocate nothing; the budget
+ * below only absorbs the counter's own constant overhead. Building the outbound
+ * frame and the post-send bookkeeping are outside the measured path — they run
+ * once per bet actually sent, not once per tick.
+ */
+@DisplayName("BettingMiniGameBot tick allocation")
+class BettingMiniGameBotTickAllocationTest {
+
+    private static final int WARMUP_TICKS = 50_000;
+    private static final int MEASURED_TICKS = 200_000;
+    private static final double MAX_BYTES_PER_TICK = 0.5;
+
+    private BettingMiniGameBot bot;
+
+    @BeforeEach
+    void assumeAllocationCounter() {
+        assumeTrue(threadMxBean() != null && threadMxBean().isThreadAllocatedMemorySupported(),
+                "per-thread allocation counter not available on this JVM");
+        threadMxBean().setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (bot != null) {
+            bot.cancelTimers();
+        }
+    }
+
+    @Test
+    @DisplayName("RANDOM, uniform options: a betting tick allocates nothing")
+    void randomUniformTickIsAllocationFree() throws Exception {
+        bot = newBot(new RandomBehaviorStrategy(), affinities(1, 1, 1, 1), false);
+
+        assertThat(bytesPerBettingTick()).isLessThanOrEqualTo(MAX_BYTES_PER_TICK);
+    }
+
+    @Test
+    @DisplayName("RANDOM, affinity-weighted options: a betting tick allocates nothing")
+    void randomWeightedTickIsAllocationFree() throws Exception {
+        bot = newBot(new RandomBehaviorStrategy(), affinities(5, 1, 3, 1), true);
+
+        assertThat(bytesPerBettingTick()).isLessThanOrEqualTo(MAX_BYTES_PER_TICK);
+    }
+
+    @Test
+    @DisplayName("Martingale (both risk profiles): a betting tick allocates nothing")
+    void martingaleTickIsAllocationFree() throws Exception {
+        bot = newBot(new ClassicMartingaleCautious(), affinities(5, 1, 3, 1), false);
+        assertThat(bytesPerBettingTick()).isLessThanOrEqualTo(MAX_BYTES_PER_TICK);
+
+        bot.cancelTimers();
+        bot = newBot(new ClassicMartingaleAggressive(), affinities(5, 1, 3, 1), false);
+        assertThat(bytesPerBettingTick()).isLessThanOrEqualTo(MAX_BYTES_PER_TICK);
+    }
+
+    @Test
+    @DisplayName("With a coordinator wired, applyCoordination/reserveAmount allocate nothing")
+    void coordinatedTickIsAllocationFree() throws Exception {
+        // A budget no run of ticks can exhaust, so every reservation is approved or trimmed.
+        BetCoordinator coordinator = new BetCoordinator(affinities(5, 1, 3, 1), 1_000_000_000_000L, 100L, 100L);
+        bot = newBot(new RandomBehaviorStrategy(), gameWith(affinities(5, 1, 3, 1)), true, coordinator);
+
+        assertThat(bytesPerBettingTick()).isLessThanOrEqualTo(MAX_BYTES_PER_TICK);
+        assertThat(coordinator.getApproveCount() + coordinator.getTrimCount())
+                .as("every tick went through the coordinator")
+                .isGreaterThanOrEqualTo(WARMUP_TICKS + MEASURED_TICKS);
+    }
+
+    @Test
+    @DisplayName("A legacy numberOfOptions game: the synthesized options are not rebuilt per tick")
+    void legacyOptionsTickIsAllocationFree() throws Exception {
+        Game legacy = Game.builder()
+                .id("g-alloc").name("BauCua").pluginName("BauCua")
+                .offset(2000).numberOfOptions(4).build();
+        bot = newBot(new ClassicMartingaleCautious(), legacy, false, null);
+
+        assertThat(bytesPerBettingTick()).isLessThanOrEqualTo(MAX_BYTES_PER_TICK);
+    }
+
+    @Test
+    @DisplayName("A tick outside the BET phase allocates nothing")
+    void skippedTickIsAllocationFree() throws Exception {
+        bot = newBot(new RandomBehaviorStrategy(), affinities(1, 1, 1, 1), false);
+        setField("gameState", BettingMiniGameState.RESULT);
+        Supplier<Boolean> condition = condition();
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            condition.get();
+        }
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            if (condition.get()) {
+                throw new AssertionError("tick should have been skipped");
+            }
+        }
+        double perTick = (allocatedBytes() - before) / (double) MEASURED_TICKS;
+
+        assertThat(perTick).isLessThanOrEqualTo(MAX_BYTES_PER_TICK);
+    }
+
+    /* ---- helpers ---- */
+
+    private double bytesPerBettingTick() throws Exception {
+        Supplier<Boolean> condition = condition();
+        PendingBet pending = (PendingBet) readField("pendingDecision");
+        BetSlot sink = new BetSlot();
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            tick(condition, pending, sink);
+        }
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            tick(condition, pending, sink);
+        }
+        return (allocatedBytes() - before) / (double) MEASURED_TICKS;
+    }
+
+    private static void tick(Supplier<Boolean> condition, PendingBet pending, BetSlot sink) {
+        if (!condition.get() || !pending.popInto(sink)) {
+            throw new AssertionError("every tick should bet");
+        }
+    }
+
+    private BettingMiniGameBot newBot(BettingStrategy strategy, Map<Integer, Integer> affinities,
+                                      boolean affinityWeighted) throws Exception {
+        return newBot(strategy, gameWith(affinities), affinityWeighted, null);
+    }
+
+    private static Game gameWith(Map<Integer, Integer> affinities) {
+        return Game.builder()
+                .id("g-alloc").name("BauCua").pluginName("BauCua")
+                .offset(2000).optionAffinities(affinities).build();
+    }
+
+    private BettingMiniGameBot newBot(BettingStrategy strategy, Game game, boolean affinityWeighted,
+                                      BetCoordinator coordinator) throws Exception {
+        BotBehaviorConfig behavior = BotBehaviorConfig.builder()
+                .minBet(100).maxBet(10_000).betIncrement(100)
+                .maxTotalBetPerRound(Long.MAX_VALUE).minBetsPerRound(1).maxBetsPerRound(Integer.MAX_VALUE)
+                .chatEnabled(false).autoDepositEnabled(false).betSkipPercentage(0)
+                .affinityWeightedProposal(affinityWeighted)
+                .build();
+        BotConfiguration cfg = BotConfiguration.builder()
+                .credentials(BotCredentials.builder().username("allocbot").password("pw").fingerprint("fp").build())
+                .environmentId("env-1").botGroupId("group-1").botIndex(1)
+                .game(game).behaviorConfig(behavior)
+                .zoneName("MiniGame3").timeoutMillis(60_000L)
+                .watchdogTimeoutSeconds(120L)
+                .strategyId(StrategyId.RANDOM)
+                .build();
+
+        BettingStrategyFactory factory = mock(BettingStrategyFactory.class);
+        when(factory.create(StrategyId.RANDOM)).thenReturn(strategy);
+
+        BettingMiniGameBot b = new BettingMiniGameBot();
+        b.setClients(mock(ApiGatewayClient.class), mock(GameMsClient.class), mock(ClientFactory.class));
+        b.setConfiguration(cfg);
+        b.setStrategyFactory(factory);
+        b.setRandom(new Random(0x5EEDL));
+        b.setCoordinator(coordinator);
+        b.initializeSubclass();
+        bot = b;
+
+        seedAtomic("expectedCurrentBalance", 50_000_000L);
+        openRound(9001L);
+        return b;
+    }
+
+    private static Map<Integer, Integer> affinities(int... weights) {
+        Map<Integer, Integer> m = new LinkedHashMap<>();
+        for (int i = 0; i < weights.length; i++) {
+            m.put(i, weights[i]);
+        }
+        return m;
+    }
+
+    private void openRound(long sid) throws Exception {
+        StartGameMessage msg = mock(StartGameMessage.class);
+        when(msg.getSessionId()).thenReturn(sid);
+        Method m = BettingMiniGameBot.class.getDeclaredMethod("onStartGame", ActionResponseMessage.class);
+        m.setAccessible(true);
+        m.invoke(bot, new ActionResponseMessage<>(MessageCategory.ACTION_RESPONSE, msg));
+        setField("gameState", BettingMiniGameState.BET);
+        bot.openBetWindow(600_000L);
+        ((SessionIdStore) readField("sidStore")).set(sid);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Supplier<Boolean> condition() throws Exception {
+        Method m = BettingMiniGameBot.class.getDeclaredMethod("betCondition");
+        m.setAccessible(true);
+        return (Supplier<Boolean>) m.invoke(bot);
+    }
+
+    private static com.sun.management.ThreadMXBean threadMxBean() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean t ? t : null;
+    }
+
+    private static long allocatedBytes() {
+        return threadMxBean().getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    private Object readField(String name) throws Exception {
+        Field f;
+        try {
+            f = BettingMiniGameBot.class.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            f = Bot.class.getDeclaredField(name);
+        }
+        f.setAccessible(true);
+        return f.get(bot);
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field f;
+        try {
+            f = BettingMiniGameBot.class.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            f = Bot.class.getDeclaredField(name);
+        }
+        f.setAccessible(true);
+        f.set(bot, value);
+    }
+
+    private void seedAtomic(String name, long value) throws Exception {
+        Field f = Bot.class.getDeclaredField(name);
+        f.setAccessible(true);
+        ((AtomicLong) f.get(bot)).set(value);
+    }
+}
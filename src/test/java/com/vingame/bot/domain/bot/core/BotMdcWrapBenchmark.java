@@ -0,0 +1,118 @@
+package com.vingame.bot.domain.bot.core;
+
+import com.vingame.bot.common.logging.BotMdc;
+import com.vingame.websocketparser.scenario.Scenario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Per-callback overhead of the MDC wrap helpers, before and after
+ * {@code BotLogContext}:
+ * <ul>
+ *   <li><b>copy</b> — the previous contract: {@code MDC.getCopyOfContextMap()} +
+ *       {@code setContextMap(snapshot)} + restore around every callback (reproduced
+ *       here verbatim as the baseline).</li>
+ *   <li><b>context</b> — {@code Bot.mdcConsumer} as shipped: install / restore one
+ *       precomputed {@code BotLogContext}.</li>
+ * </ul>
+ * Callbacks run on a thread that already carries an MDC (as the bot virtual threads
+ * and the message pools do once a line has been logged). The wrapped body reads one
+ * key, standing in for a meter-tag lookup. Add {@code -prof gc} for bytes per
+ * callback; at a fleet rate of e.g. 1000 bots x 20 frames/s, ns/op x 20k is the
+ * nanoseconds of one core spent wrapping each second.
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main BotMdcWrapBenchmark -prof gc"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BotMdcWrapBenchmark {
+
+    private static final Map<String, String> SNAPSHOT = Map.of(
+            BotMdc.BOT_GROUP_ID, "6650f1c2a9e4b83d1c0e7a11",
+            BotMdc.BOT_ID, "42",
+            BotMdc.ENVIRONMENT_ID, "6650f1c2a9e4b83d1c0e7a00",
+            BotMdc.GAME_TYPE, "BETTING_MINI",
+            BotMdc.GAME_ID, "0b9c2d4e-5f61-4a7b-9c8d-e0f1a2b3c4d5",
+            BotMdc.GAME_NAME, "BauCua",
+            BotMdc.BOT_USER_NAME, "bot_000042"
+    );
+
+    private Blackhole blackhole;
+    private Consumer<String> copy;
+    private Consumer<String> context;
+
+    // Scope.Thread: runs on the benchmark thread, so the MDC below is the one the
+    // wraps see.
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        TestBot bot = new TestBot();
+        bot.mdcSnapshot = new HashMap<>(SNAPSHOT);
+        Consumer<String> body = s -> this.blackhole.consume(BotMdc.get(BotMdc.BOT_GROUP_ID));
+        copy = copyWrap(body, bot.mdcSnapshot);
+        context = bot.mdcConsumer(body);
+        MDC.setContextMap(new HashMap<>(SNAPSHOT));
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public void copy() {
+        copy.accept("frame");
+    }
+
+    @Benchmark
+    public void context() {
+        context.accept("frame");
+    }
+
+    /** The pre-BotLogContext wrap, as it stood in {@code Bot.mdcConsumer}. */
+    private static <T> Consumer<T> copyWrap(Consumer<T> c, Map<String, String> snapshot) {
+        return t -> {
+            Map<String, String> stash = MDC.getCopyOfContextMap();
+            if (snapshot != null) {
+                MDC.setContextMap(snapshot);
+            }
+            try {
+                c.accept(t);
+            } finally {
+                if (stash != null) {
+                    MDC.setContextMap(stash);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+
+    static class TestBot extends Bot {
+        @Override protected void initializeSubclass() {}
+        @Override protected Scenario botBehaviorScenario() { return null; }
+        @Override protected void onStart() {}
+    }
+}
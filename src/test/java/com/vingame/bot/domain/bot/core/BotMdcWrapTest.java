@@ -1,5 +1,6 @@
 package com.vingame.bot.domain.bot.core;
 
+import com.vingame.bot.common.logging.BotMdc;
 import com.vingame.websocketparser.scenario.Scenario;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,10 +29,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * {@code mdcSupplier}, {@code mdcConsumer}.
  * <p>
  * Each helper must (Architecture Decision 7 in docs/plans/LOGGING_PIPELINE_FIX.md):
- *  1. Stash the caller's current MDC.
- *  2. Apply the bot's {@code mdcSnapshot} (no-op if snapshot is null).
- *  3. Run the wrapped action with the snapshot visible.
- *  4. In finally: restore the stashed MDC, or {@code clear()} if the stash was null.
+ *  1. Install the bot's {@code mdcSnapshot} as a {@code BotLogContext} (no-op if
+ *     the snapshot is null).
+ *  2. Run the wrapped action with the snapshot visible through
+ *     {@link BotMdc#copyOfContextMap()} (and so on every log event).
+ *  3. In finally: reinstate the previous context, leaving the thread's MDC as it was.
  * <p>
  * The wrap must also propagate exceptions and remain re-entrant when the
  * outer thread already has a different MDC populated.
@@ -75,13 +77,13 @@ class BotMdcWrapTest {
             AtomicReference<Map<String, String>> inside = new AtomicReference<>();
             AtomicReference<Map<String, String>> after = new AtomicReference<>();
 
-            Runnable wrapped = bot.mdcWrap(() -> inside.set(MDC.getCopyOfContextMap()));
+            Runnable wrapped = bot.mdcWrap(() -> inside.set(BotMdc.copyOfContextMap()));
 
             runOnFreshThread(() -> {
                 // precondition: fresh thread has no MDC entries
-                assertEmptyMdc(MDC.getCopyOfContextMap());
+                assertEmptyMdc(BotMdc.copyOfContextMap());
                 wrapped.run();
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertEquals(SNAPSHOT, inside.get());
@@ -94,13 +96,13 @@ class BotMdcWrapTest {
             AtomicReference<Map<String, String>> inside = new AtomicReference<>();
             AtomicReference<Map<String, String>> after = new AtomicReference<>();
 
-            Runnable wrapped = bot.mdcWrap(() -> inside.set(MDC.getCopyOfContextMap()));
+            Runnable wrapped = bot.mdcWrap(() -> inside.set(BotMdc.copyOfContextMap()));
 
             runOnFreshThread(() -> {
                 MDC.put("botGroupId", "other-group");
                 MDC.put("botUserName", "other-bot");
                 wrapped.run();
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertEquals(SNAPSHOT, inside.get());
@@ -117,12 +119,12 @@ class BotMdcWrapTest {
             AtomicReference<Map<String, String>> inside = new AtomicReference<>();
             AtomicReference<Map<String, String>> after = new AtomicReference<>();
 
-            Runnable wrapped = bot.mdcWrap(() -> inside.set(MDC.getCopyOfContextMap()));
+            Runnable wrapped = bot.mdcWrap(() -> inside.set(BotMdc.copyOfContextMap()));
 
             runOnFreshThread(() -> {
                 MDC.put("k", "v");
                 wrapped.run();
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertEquals("v", inside.get().get("k"));
@@ -147,7 +149,7 @@ class BotMdcWrapTest {
                 } catch (Throwable t) {
                     thrown.set(t);
                 }
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertTrue(thrown.get() instanceof IllegalStateException);
@@ -171,18 +173,18 @@ class BotMdcWrapTest {
             AtomicReference<String> result = new AtomicReference<>();
 
             Callable<String> wrapped = bot.mdcCall(() -> {
-                inside.set(MDC.getCopyOfContextMap());
+                inside.set(BotMdc.copyOfContextMap());
                 return "ok";
             });
 
             runOnFreshThread(() -> {
-                assertEmptyMdc(MDC.getCopyOfContextMap());
+                assertEmptyMdc(BotMdc.copyOfContextMap());
                 try {
                     result.set(wrapped.call());
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertEquals("ok", result.get());
@@ -197,7 +199,7 @@ class BotMdcWrapTest {
             AtomicReference<Map<String, String>> after = new AtomicReference<>();
 
             Callable<Integer> wrapped = bot.mdcCall(() -> {
-                inside.set(MDC.getCopyOfContextMap());
+                inside.set(BotMdc.copyOfContextMap());
                 return 42;
             });
 
@@ -208,7 +210,7 @@ class BotMdcWrapTest {
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertEquals(SNAPSHOT, inside.get());
@@ -233,7 +235,7 @@ class BotMdcWrapTest {
                 } catch (Throwable t) {
                     thrown.set(t);
                 }
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertTrue(thrown.get() instanceof java.io.IOException);
@@ -255,15 +257,15 @@ class BotMdcWrapTest {
             Object sentinel = new Object();
 
             Supplier<Object> wrapped = bot.mdcSupplier(() -> {
-                inside.set(MDC.getCopyOfContextMap());
+                inside.set(BotMdc.copyOfContextMap());
                 return sentinel;
             });
 
             AtomicReference<Object> result = new AtomicReference<>();
             runOnFreshThread(() -> {
-                assertEmptyMdc(MDC.getCopyOfContextMap());
+                assertEmptyMdc(BotMdc.copyOfContextMap());
                 result.set(wrapped.get());
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertSame(sentinel, result.get());
@@ -278,7 +280,7 @@ class BotMdcWrapTest {
             AtomicReference<Map<String, String>> after = new AtomicReference<>();
 
             Supplier<String> wrapped = bot.mdcSupplier(() -> {
-                inside.set(MDC.getCopyOfContextMap());
+                inside.set(BotMdc.copyOfContextMap());
                 return "v";
             });
 
@@ -286,7 +288,7 @@ class BotMdcWrapTest {
                 MDC.put("botGroupId", "outer-grp");
                 MDC.put("environmentId", "outer-env");
                 wrapped.get();
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertEquals(SNAPSHOT, inside.get());
@@ -310,14 +312,14 @@ class BotMdcWrapTest {
             AtomicReference<String> consumed = new AtomicReference<>();
 
             Consumer<String> wrapped = bot.mdcConsumer(s -> {
-                inside.set(MDC.getCopyOfContextMap());
+                inside.set(BotMdc.copyOfContextMap());
                 consumed.set(s);
             });
 
             runOnFreshThread(() -> {
-                assertEmptyMdc(MDC.getCopyOfContextMap());
+                assertEmptyMdc(BotMdc.copyOfContextMap());
                 wrapped.accept("hello");
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertEquals("hello", consumed.get());
@@ -331,12 +333,12 @@ class BotMdcWrapTest {
             AtomicReference<Map<String, String>> inside = new AtomicReference<>();
             AtomicReference<Map<String, String>> after = new AtomicReference<>();
 
-            Consumer<Integer> wrapped = bot.mdcConsumer(i -> inside.set(MDC.getCopyOfContextMap()));
+            Consumer<Integer> wrapped = bot.mdcConsumer(i -> inside.set(BotMdc.copyOfContextMap()));
 
             runOnFreshThread(() -> {
                 MDC.put("botGroupId", "outer");
                 wrapped.accept(7);
-                after.set(MDC.getCopyOfContextMap());
+                after.set(BotMdc.copyOfContextMap());
             });
 
             assertEquals(SNAPSHOT, inside.get());
@@ -1,5 +1,6 @@
 package com.vingame.bot.domain.bot.core;
 
+import com.vingame.bot.common.logging.BotMdc;
 import com.vingame.bot.config.bot.BotConfiguration;
 import com.vingame.bot.config.bot.BotCredentials;
 import com.vingame.bot.domain.game.model.Game;
@@ -36,7 +37,7 @@ import static org.mockito.Mockito.when;
  * {@code runWsReconnectLoop}) for documentation completeness.
  * <p>
  * The strategy: subclass {@code Bot} and override the protected {@code sleep}
- * method to (1) capture {@code MDC.getCopyOfContextMap()} into a future on
+ * method to (1) capture {@code BotMdc.copyOfContextMap()} into a future on
  * first invocation, then (2) flip the {@code stopped} flag so the loop exits
  * immediately. Both reconnect loops call {@code sleep} as the first action
  * after entering, which means the capture happens inside the {@code mdcWrap}
@@ -142,7 +143,7 @@ class BotReconnectMdcTest {
 
         @Override
         protected void sleep(long millis) {
-            Map<String, String> snap = MDC.getCopyOfContextMap();
+            Map<String, String> snap = BotMdc.copyOfContextMap();
             // First call wins. completeUniquely-style: capturedMdc is final,
             // completing twice is a no-op on the second call.
             if (!capturedMdc.isDone()) {
@@ -3,12 +3,16 @@ package com.vingame.bot.domain.bot.core;
 import com.vingame.bot.config.bot.BotConfiguration;
 import com.vingame.bot.config.bot.BotCredentials;
 import com.vingame.bot.domain.game.model.Game;
+import com.vingame.bot.domain.game.model.GameType;
+import com.vingame.bot.infrastructure.auth.AuthTokenCache;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
+import com.vingame.bot.infrastructure.runtime.ReconnectGate;
 import com.vingame.websocketparser.VingameWebSocketClient;
 import com.vingame.websocketparser.auth.TokensProvider;
 import com.vingame.websocketparser.scenario.Scenario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -57,7 +61,7 @@ class BotReconnectTest {
 
         BotCredentials credentials = BotCredentials.builder()
                 .username("bot1").password("pw").fingerprint("fp").build();
-        Game game = Game.builder().id("g1").name("G").pluginName("Plugin")
+        Game game = Game.builder().id("g1").name("G").gameType(GameType.BETTING_MINI).pluginName("Plugin")
                 .offset(2000).numberOfOptions(6).build();
         BotConfiguration cfg = BotConfiguration.builder()
                 .credentials(credentials)
@@ -134,9 +138,9 @@ class BotReconnectTest {
         @Test
         @DisplayName("A stopped (cleanup) bot does NOT reconnect when its WS disconnect fires — no metric, no RECONNECTING, no thread")
         void stoppedBotDoesNotReconnectOnWsDisconnect() throws Exception {
-            com.vingame.bot.infrastructure.observability.BotMetrics metrics =
-                    mock(com.vingame.bot.infrastructure.observability.BotMetrics.class);
-            bot.setMetrics(metrics);
+            com.vingame.bot.infrastructure.observability.BotMeters meters =
+                    mock(com.vingame.bot.infrastructure.observability.BotMeters.class);
+            bot.setMeters(meters);
             bot.client = wsClient;
             when(wsClient.isOpen()).thenReturn(true);
 
@@ -151,7 +155,7 @@ class BotReconnectTest {
             // stopped set, onWsDisconnected must be a complete no-op.
             invokePrivate("onWsDisconnected");
 
-            verify(metrics, never()).incBotReconnect(anyString());
+            verify(meters, never()).incBotReconnect(anyString());
             assertThat(getReconnecting(bot)).isFalse();
             assertThat(bot.getStatus()).isEqualTo(afterCleanup);
             assertThat(bot.getStatus()).isNotEqualTo(BotStatus.RECONNECTING);
@@ -208,6 +212,175 @@ class BotReconnectTest {
         }
     }
 
+    /* ----- reconnect admission gate ----- */
+
+    @Nested
+    @DisplayName("with a ReconnectGate")
+    class ReconnectGateTests {
+
+        private SimpleMeterRegistry registry;
+        private ReconnectGate gate;
+
+        @BeforeEach
+        void wireGate() {
+            registry = new SimpleMeterRegistry();
+            gate = new ReconnectGate("env-1", 1_000, 100, 4, 2_000L, 60_000L, registry);
+            bot.setReconnectGate(gate);
+        }
+
+        @Test
+        @DisplayName("Backoff is jittered from the gate, the attempt is admitted and the reconnect time recorded")
+        void reconnectGoesThroughGate() throws Exception {
+            setReconnecting(bot, true);
+            VingameWebSocketClient newClient = mock(VingameWebSocketClient.class);
+            when(newClient.isOpen()).thenReturn(true);
+            when(clientFactory.newClient(any(), eq("bot1"))).thenReturn(newClient);
+
+            invokePrivate("runWsReconnectLoop");
+
+            assertThat(bot.sleeps).hasSize(2);
+            assertThat(bot.sleeps.get(0)).isBetween(2_000L, 6_000L);
+            assertThat(bot.sleeps.get(1)).isEqualTo(3000L);
+            assertThat(registry.get(ReconnectGate.RECONNECT_ADMITTED_TOTAL).counter().count()).isEqualTo(1.0);
+            assertThat(registry.get(ReconnectGate.RECONNECT_DURATION_SECONDS).timer().count()).isEqualTo(1L);
+            assertThat(gate.getInFlight()).isZero();
+            assertThat(getReconnecting(bot)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Failed attempts release their slot; re-auth is admitted too")
+        void failedAttemptsAndReauthAreAdmitted() throws Exception {
+            setReconnecting(bot, true);
+            when(clientFactory.newClient(any(), anyString())).thenThrow(new RuntimeException("ws down"));
+            when(apiGatewayClient.authenticate(any())).thenAnswer(inv -> {
+                Field stoppedF = Bot.class.getDeclaredField("stopped");
+                stoppedF.setAccessible(true);
+                stoppedF.set(bot, true);
+                return tokens;
+            });
+
+            invokePrivate("runWsReconnectLoop");
+
+            // 7 WS attempts + 1 re-auth, every one admitted and released.
+            assertThat(registry.get(ReconnectGate.RECONNECT_ADMITTED_TOTAL).counter().count()).isEqualTo(8.0);
+            assertThat(gate.getInFlight()).isZero();
+            assertThat(bot.sleeps).hasSize(7).allSatisfy(d -> assertThat(d).isBetween(2_000L, 60_000L));
+            assertThat(registry.get(ReconnectGate.RECONNECT_DURATION_SECONDS).timer().count()).isZero();
+        }
+    }
+
+    /* ----- cached logins ----- */
+
+    @Nested
+    @DisplayName("with an AuthTokenCache")
+    class AuthTokenCacheTests {
+
+        private AuthTokenCache cache;
+        private VingameWebSocketClient newClient;
+
+        @BeforeEach
+        void wireCache() {
+            cache = new AuthTokenCache(null, null, true, 30);
+            bot.setAuthTokenCache(cache);
+            newClient = mock(VingameWebSocketClient.class);
+            when(newClient.isOpen()).thenReturn(true);
+            when(clientFactory.newClient(any(), eq("bot1"))).thenReturn(newClient);
+        }
+
+        @Test
+        @DisplayName("initialize reuses a cached login and adopts its fingerprint; no gateway login")
+        void initializeReusesCachedLogin() {
+            TokensProvider cached = mock(TokensProvider.class);
+            when(cached.getAgencyToken()).thenReturn("agency-token-0123456789");
+            when(cached.getAuthToken()).thenReturn("auth-token-0123456789");
+            cache.put("env-1", "bot1", cached, "fp-cached");
+
+            bot.initialize();
+
+            assertThat(bot.getTokens()).isSameAs(cached);
+            assertThat(bot.credentials.getFingerprint()).isEqualTo("fp-cached");
+            verify(apiGatewayClient, never()).authenticate(any());
+        }
+
+        @Test
+        @DisplayName("A real login is stored for the next start")
+        void loginIsCached() {
+            when(tokens.getAgencyToken()).thenReturn("agency-token-0123456789");
+            when(tokens.getAuthToken()).thenReturn("auth-token-0123456789");
+            when(apiGatewayClient.authenticate(any())).thenReturn(tokens);
+
+            bot.initialize();
+
+            AuthTokenCache.CachedLogin stored = cache.get("env-1", "bot1");
+            assertThat(stored).isNotNull();
+            assertThat(stored.tokens()).isSameAs(tokens);
+            assertThat(stored.fingerprint()).isEqualTo("fp");
+        }
+
+        @Test
+        @DisplayName("Watchdog re-auth reuses proven cached tokens instead of logging in")
+        void watchdogReusesProvenTokens() throws Exception {
+            setReconnecting(bot, true);
+            cache.put("env-1", "bot1", tokens, "fp");
+
+            invokePrivate("runAuthThenWsLoop");
+
+            verify(apiGatewayClient, never()).authenticate(any());
+            assertThat(bot.getTokens()).isSameAs(tokens);
+            assertThat(getReconnecting(bot)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Cached tokens that never reached an authenticated session are dropped and a real login made")
+        void unprovenTokensAreRejected() throws Exception {
+            TokensProvider stale = mock(TokensProvider.class);
+            cache.put("env-1", "bot1", stale, "fp");
+            setReconnecting(bot, true);
+            // First re-auth takes the cached tokens; the session never authenticates.
+            invokePrivate("runAuthThenWsLoop");
+            assertThat(bot.getTokens()).isSameAs(stale);
+
+            setReconnecting(bot, true);
+            when(apiGatewayClient.authenticate(any())).thenReturn(tokens);
+            invokePrivate("runAuthThenWsLoop");
+
+            verify(apiGatewayClient, times(1)).authenticate(any());
+            assertThat(bot.getTokens()).isSameAs(tokens);
+            assertThat(cache.get("env-1", "bot1").tokens()).isSameAs(tokens);
+        }
+
+        @Test
+        @DisplayName("Once the server accepts the session, cached tokens stay cached")
+        void provenTokensSurvive() throws Exception {
+            cache.put("env-1", "bot1", tokens, "fp");
+            setReconnecting(bot, true);
+            invokePrivate("runAuthThenWsLoop");
+            bot.markConnectionAuthenticated();
+
+            setReconnecting(bot, true);
+            invokePrivate("runAuthThenWsLoop");
+
+            verify(apiGatewayClient, never()).authenticate(any());
+            assertThat(cache.get("env-1", "bot1")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("After a full back-off cycle the re-auth bypasses the cache")
+        void cycleReauthLogsIn() throws Exception {
+            cache.put("env-1", "bot1", tokens, "fp");
+            TokensProvider fresh = mock(TokensProvider.class);
+            when(apiGatewayClient.authenticate(any())).thenReturn(fresh);
+
+            Method m = Bot.class.getDeclaredMethod("performReauth", boolean.class);
+            m.setAccessible(true);
+            assertThat((boolean) m.invoke(bot, false)).isTrue();
+
+            verify(apiGatewayClient).authenticate(any());
+            assertThat(bot.getTokens()).isSameAs(fresh);
+            assertThat(cache.get("env-1", "bot1").tokens()).isSameAs(fresh);
+        }
+    }
+
     /* ----- absolute reconnect-cycle cap (RESILIENCE_HARDENING P1, Gap A) ----- */
 
     @Nested
@@ -373,9 +546,9 @@ class BotReconnectTest {
             when(apiGatewayClient.authenticate(any()))
                     .thenThrow(new RuntimeException("auth server down"));
 
-            Method m = Bot.class.getDeclaredMethod("performReauth");
+            Method m = Bot.class.getDeclaredMethod("performReauth", boolean.class);
             m.setAccessible(true);
-            boolean result = (boolean) m.invoke(bot);
+            boolean result = (boolean) m.invoke(bot, false);
 
             assertThat(result).isFalse();
             assertThat(bot.getStatus()).isEqualTo(BotStatus.DEAD);
@@ -8,8 +8,12 @@ import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
 import com.vingame.bot.common.logging.BotMdc;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.bot.infrastructure.observability.BotMetrics;
 import com.vingame.bot.infrastructure.observability.BotMdcTagsMeterFilter;
+import com.vingame.bot.infrastructure.runtime.BalanceReconciler;
+import com.vingame.bot.infrastructure.runtime.BotTimer;
+import com.vingame.bot.infrastructure.runtime.DepositScheduler;
 import com.vingame.websocketparser.VingameWebSocketClient;
 import com.vingame.websocketparser.auth.TokensProvider;
 import com.vingame.websocketparser.scenario.Scenario;
@@ -25,6 +29,7 @@ import org.slf4j.MDC;
 
 import java.lang.reflect.Field;
 import java.util.function.Consumer;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +41,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -48,7 +54,7 @@ class BotTest {
     private ClientFactory clientFactory;
     private VingameWebSocketClient wsClient;
     private TokensProvider tokens;
-    private BotMetrics metrics;
+    private BotMeters meters;
 
     private TestBot bot;
 
@@ -59,7 +65,7 @@ class BotTest {
         clientFactory = mock(ClientFactory.class);
         wsClient = mock(VingameWebSocketClient.class);
         tokens = mock(TokensProvider.class);
-        metrics = mock(BotMetrics.class);
+        meters = mock(BotMeters.class);
 
         when(apiGatewayClient.getApiGateway()).thenReturn("http://gateway.test");
 
@@ -92,7 +98,7 @@ class BotTest {
         bot = new TestBot();
         bot.setClients(apiGatewayClient, gameMsClient, clientFactory);
         bot.setConfiguration(cfg);
-        bot.setMetrics(metrics);
+        bot.setMeters(meters);
     }
 
     /* ----- creditBalance ----- */
@@ -113,7 +119,7 @@ class BotTest {
             assertThat(bot.getTotalBetAmount().get()).isEqualTo(500);
             // ENDGAME_METRICS Phase B/C: bet-counter metrics moved to onEndGame's
             // HasBetTotals branch — creditBalance must not touch BotMetrics.
-            verify(metrics, never()).incBetsPlaced(anyInt(), anyLong());
+            verify(meters, never()).incBetsPlaced(anyInt(), anyLong());
         }
 
         @Test
@@ -127,7 +133,7 @@ class BotTest {
             assertThat(bot.getExpectedBalance()).isEqualTo(initialExpected - 350);
             assertThat(bot.getTotalBetsPlaced().get()).isEqualTo(2);
             assertThat(bot.getTotalBetAmount().get()).isEqualTo(350);
-            verify(metrics, never()).incBetsPlaced(anyInt(), anyLong());
+            verify(meters, never()).incBetsPlaced(anyInt(), anyLong());
         }
 
         @Test
@@ -136,7 +142,7 @@ class BotTest {
             bot.creditBalance(500);
             // Strict contract: zero interactions on the metrics mock. Local
             // accumulator semantics asserted in the tests above.
-            verifyNoInteractions(metrics);
+            verifyNoInteractions(meters);
         }
     }
 
@@ -192,6 +198,99 @@ class BotTest {
         }
     }
 
+    /* ----- checkBalance through a BalanceReconciler ----- */
+
+    @Nested
+    @DisplayName("checkBalance with a BalanceReconciler")
+    class BackgroundCheckBalanceTests {
+
+        private CompletableFuture<Long> fetch;
+
+        @BeforeEach
+        void wireReconciler() {
+            bot.setBalanceReconciler(new BalanceReconciler("env-1", 4, null));
+            bot.client = wsClient;
+            when(wsClient.getAuthToken()).thenReturn("auth-tok");
+            fetch = new CompletableFuture<>();
+            when(apiGatewayClient.getBalanceAsync("auth-tok", "fp-1", "botuser1")).thenReturn(fetch);
+        }
+
+        @Test
+        @DisplayName("Returns the local figure at once and never calls the blocking fetch")
+        void doesNotBlock() throws Exception {
+            setLong(bot, "lastFetchedBalance", 1_000_000L);
+            ((AtomicLong) getField(bot, "expectedCurrentBalance")).set(-2_000_000L);
+
+            long result = bot.checkBalanceExposed();
+
+            assertThat(result).isEqualTo(-2_000_000L);
+            verify(apiGatewayClient, never()).getBalance(anyString(), anyString(), anyString());
+            verify(apiGatewayClient).getBalanceAsync("auth-tok", "fp-1", "botuser1");
+        }
+
+        @Test
+        @DisplayName("Repeated checks while a fetch is pending are coalesced into it")
+        void coalesces() throws Exception {
+            setLong(bot, "lastFetchedBalance", 1_000_000L);
+            ((AtomicLong) getField(bot, "expectedCurrentBalance")).set(-2_000_000L);
+
+            bot.checkBalanceExposed();
+            bot.checkBalanceExposed();
+            bot.checkBalanceExposed();
+
+            verify(apiGatewayClient, times(1)).getBalanceAsync(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("The landed balance anchors lastFetched and keeps local changes made meanwhile")
+        void appliesLandedBalance() throws Exception {
+            setLong(bot, "lastFetchedBalance", 1_000_000L);
+            AtomicLong expected = (AtomicLong) getField(bot, "expectedCurrentBalance");
+            expected.set(-2_000_000L);
+
+            bot.checkBalanceExposed();
+            bot.creditBalance(300_000L); // a bet placed while the fetch is in flight
+            fetch.complete(9_000_000L);
+
+            assertThat(bot.getLastFetchedBalance()).isEqualTo(9_000_000L);
+            assertThat(bot.getExpectedBalance()).isEqualTo(8_700_000L);
+            assertThat(bot.isBalanceKnown()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Bookings made while the fetch waited for a slot are not re-applied")
+        void bookingsBeforeFetchStartNotReapplied() throws Exception {
+            BalanceReconciler busy = new BalanceReconciler("env-1", 1, null);
+            bot.setBalanceReconciler(busy);
+            CompletableFuture<Long> blocker = new CompletableFuture<>();
+            busy.request("other-bot", "other-bot", () -> blocker, balance -> { });
+            setLong(bot, "lastFetchedBalance", 1_000_000L);
+            AtomicLong expected = (AtomicLong) getField(bot, "expectedCurrentBalance");
+            expected.set(-2_000_000L);
+
+            bot.checkBalanceExposed(); // queued behind other-bot
+            bot.creditBalance(300_000L); // booked before the fetch starts: in the server figure
+            blocker.complete(0L); // frees the slot, this bot's fetch starts
+            bot.creditBalance(100_000L); // booked after it started
+            fetch.complete(9_000_000L);
+
+            assertThat(bot.getExpectedBalance()).isEqualTo(8_900_000L);
+        }
+
+        @Test
+        @DisplayName("A failed fetch leaves both figures untouched")
+        void failedFetch() throws Exception {
+            setLong(bot, "lastFetchedBalance", 1_000_000L);
+            ((AtomicLong) getField(bot, "expectedCurrentBalance")).set(-2_000_000L);
+
+            bot.checkBalanceExposed();
+            fetch.completeExceptionally(new IllegalStateException("Data array is missing"));
+
+            assertThat(bot.getLastFetchedBalance()).isEqualTo(1_000_000L);
+            assertThat(bot.getExpectedBalance()).isEqualTo(-2_000_000L);
+        }
+    }
+
     /* ----- deposit ----- */
 
     @Nested
@@ -241,6 +340,115 @@ class BotTest {
         }
     }
 
+    @Nested
+    @DisplayName("autoDeposit with a DepositScheduler")
+    class ScheduledDepositTests {
+
+        private CompletableFuture<Boolean> deposit;
+
+        @BeforeEach
+        void wireScheduler() {
+            bot.setDepositScheduler(new DepositScheduler("env-1", 1_000, 4, 60, BotTimer.fallback(), null));
+            deposit = new CompletableFuture<>();
+            when(apiGatewayClient.depositAsync("botuser1", 1_000_000_000L)).thenReturn(deposit);
+        }
+
+        @Test
+        @DisplayName("Queues the deposit without blocking or re-fetching the balance")
+        void doesNotBlock() {
+            bot.autoDeposit(1_000_000L);
+
+            verify(apiGatewayClient).depositAsync("botuser1", 1_000_000_000L);
+            verify(apiGatewayClient, never()).deposit(anyString(), anyLong());
+            verify(apiGatewayClient, never()).getBalance(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("A confirmed deposit is not credited locally; the next check re-fetches it from the server")
+        void reanchorsOnConfirmation() throws Exception {
+            bot.client = wsClient;
+            when(wsClient.getAuthToken()).thenReturn("auth-tok");
+            when(apiGatewayClient.getBalance("auth-tok", "fp-1", "botuser1")).thenReturn(1_000_800_000L);
+            setLong(bot, "lastFetchedBalance", 1_000_000L);
+            ((AtomicLong) getField(bot, "expectedCurrentBalance")).set(1_000_000L);
+
+            bot.autoDeposit(1_000_000L);
+            bot.creditBalance(200_000L); // a bet placed while the deposit is in flight
+            deposit.complete(true);
+
+            assertThat(bot.getExpectedBalance()).isEqualTo(800_000L);
+            verify(meters).incBotAutoDeposit(true);
+
+            bot.checkBalanceExposed(); // within 1M of lastFetched, but the deposit is pending
+            assertThat(bot.getExpectedBalance()).isEqualTo(1_000_800_000L);
+        }
+
+        @Test
+        @DisplayName("With a reconciler, confirmation requests a refresh that anchors on the server")
+        void refreshesThroughReconciler() throws Exception {
+            bot.setBalanceReconciler(new BalanceReconciler("env-1", 4, null));
+            bot.client = wsClient;
+            when(wsClient.getAuthToken()).thenReturn("auth-tok");
+            CompletableFuture<Long> fetch = new CompletableFuture<>();
+            when(apiGatewayClient.getBalanceAsync("auth-tok", "fp-1", "botuser1")).thenReturn(fetch);
+            ((AtomicLong) getField(bot, "expectedCurrentBalance")).set(1_000_000L);
+
+            bot.autoDeposit(1_000_000L);
+            deposit.complete(true);
+            verify(apiGatewayClient).getBalanceAsync("auth-tok", "fp-1", "botuser1");
+
+            bot.creditBalance(200_000L); // a bet placed after the fetch started
+            fetch.complete(1_001_000_000L);
+
+            assertThat(bot.getExpectedBalance()).isEqualTo(1_000_800_000L);
+        }
+
+        @Test
+        @DisplayName("A refresh started before the confirmation leaves the balance stale")
+        void refreshStartedBeforeConfirmationStaysStale() throws Exception {
+            bot.setBalanceReconciler(new BalanceReconciler("env-1", 4, null));
+            bot.client = wsClient;
+            when(wsClient.getAuthToken()).thenReturn("auth-tok");
+            CompletableFuture<Long> before = new CompletableFuture<>();
+            CompletableFuture<Long> after = new CompletableFuture<>();
+            when(apiGatewayClient.getBalanceAsync("auth-tok", "fp-1", "botuser1")).thenReturn(before, after);
+            setLong(bot, "lastFetchedBalance", 5_000_000L);
+            ((AtomicLong) getField(bot, "expectedCurrentBalance")).set(1_000_000L);
+
+            bot.checkBalanceExposed(); // drift > 1M: fetch starts
+            bot.autoDeposit(1_000_000L);
+            deposit.complete(true); // coalesced into the fetch already in flight
+            before.complete(1_000_000L); // the server's figure predates the deposit
+            assertThat(bot.getExpectedBalance()).isEqualTo(1_000_000L);
+
+            bot.checkBalanceExposed(); // no drift, but still stale: fetches again
+            after.complete(1_001_000_000L);
+
+            verify(apiGatewayClient, times(2)).getBalanceAsync("auth-tok", "fp-1", "botuser1");
+            assertThat(bot.getExpectedBalance()).isEqualTo(1_001_000_000L);
+        }
+
+        @Test
+        @DisplayName("A rejected deposit leaves the balance untouched and counts a failure")
+        void rejected() throws Exception {
+            ((AtomicLong) getField(bot, "expectedCurrentBalance")).set(1_000_000L);
+
+            bot.autoDeposit(1_000_000L);
+            deposit.complete(false);
+
+            assertThat(bot.getExpectedBalance()).isEqualTo(1_000_000L);
+            verify(meters).incBotAutoDeposit(false);
+        }
+
+        @Test
+        @DisplayName("A healthy balance queues nothing")
+        void healthy() {
+            bot.autoDeposit(500_000_000L);
+
+            verify(apiGatewayClient, never()).depositAsync(anyString(), anyLong());
+        }
+    }
+
     /* ----- money-drain instrumentation (METRICS_IMPROVEMENT Phase 1) ----- */
 
     @Nested
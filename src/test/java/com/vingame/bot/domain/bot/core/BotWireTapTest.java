@@ -0,0 +1,157 @@
+package com.vingame.bot.domain.bot.core;
+
+import com.vingame.bot.config.bot.BotBehaviorConfig;
+import com.vingame.bot.config.bot.BotConfiguration;
+import com.vingame.bot.config.bot.BotCredentials;
+import com.vingame.bot.domain.bot.strategy.StrategyId;
+import com.vingame.bot.domain.game.model.Game;
+import com.vingame.bot.infrastructure.client.ApiGatewayClient;
+import com.vingame.bot.infrastructure.client.ClientFactory;
+import com.vingame.bot.infrastructure.client.GameMsClient;
+import com.vingame.bot.infrastructure.runtime.BotTimer;
+import com.vingame.bot.infrastructure.runtime.WireTap;
+import com.vingame.websocketparser.VingameWebSocketClient;
+import com.vingame.websocketparser.scenario.Scenario;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Verifies that a bot attaches its raw-frame printer only when its group wire logger
+ * is at TRACE (or the bot is flagged, or the group tap captures), picks up a change on
+ * the next sync, and never attaches twice to the same client.
+ */
+@DisplayName("Bot wire tap attachment")
+class BotWireTapTest {
+
+    private static final List<Integer> CMDS = List.of(2005, 2006);
+    private static final String GROUP_LOGGER = WireTap.LOGGER_PREFIX + ".group-1";
+
+    private BotTimer timer;
+    private BettingMiniGameBot bot;
+    private VingameWebSocketClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Configurator.setLevel(GROUP_LOGGER, Level.INFO);
+        timer = new BotTimer(10L, 64);
+        bot = newBot();
+        client = mock(VingameWebSocketClient.class);
+        seedClient(client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Configurator.setLevel(GROUP_LOGGER, (Level) null);
+        bot.cancelTimers();
+        timer.stop();
+    }
+
+    @Test
+    @DisplayName("TRACE off and no capture: no printer is registered")
+    void noPrinterWhenTraceOff() {
+        bot.setWireTap(new WireTap("group-1", timer, 1_000L, 0, 1));
+
+        bot.addWireTap(CMDS);
+
+        verify(client, never()).addScenario(any(Scenario.class));
+    }
+
+    @Test
+    @DisplayName("TRACE raised later: the next sync attaches the printer exactly once")
+    void levelRaisedLiveAttachesOnce() {
+        bot.setWireTap(new WireTap("group-1", timer, 1_000L, 0, 1));
+        bot.addWireTap(CMDS);
+
+        Configurator.setLevel(GROUP_LOGGER, Level.TRACE);
+        bot.syncWireTap();
+        bot.syncWireTap();
+
+        verify(client, times(1)).addScenario(any(Scenario.class));
+    }
+
+    @Test
+    @DisplayName("A capturing tap attaches the printer regardless of level")
+    void captureAttachesWithoutTrace() {
+        bot.setWireTap(new WireTap("group-1", timer, 1_000L, 16, 1));
+
+        bot.addWireTap(CMDS);
+
+        verify(client, times(1)).addScenario(any(Scenario.class));
+    }
+
+    @Test
+    @DisplayName("A bot traced on its own attaches the printer without TRACE on the group")
+    void traceFlagAttachesWithoutTrace() {
+        WireTap tap = new WireTap("group-1", timer, 1_000L, 0, 1);
+        bot.setWireTap(tap);
+        bot.addWireTap(CMDS);
+        verify(client, never()).addScenario(any(Scenario.class));
+
+        tap.setTraced("wirebot", true);
+        bot.syncWireTap();
+
+        verify(client, times(1)).addScenario(any(Scenario.class));
+    }
+
+    @Test
+    @DisplayName("A reconnect's fresh client gets its own printer")
+    void freshClientIsReattached() throws Exception {
+        Configurator.setLevel(GROUP_LOGGER, Level.TRACE);
+        bot.addWireTap(CMDS);
+
+        VingameWebSocketClient reconnected = mock(VingameWebSocketClient.class);
+        seedClient(reconnected);
+        bot.addWireTap(CMDS);
+
+        verify(client, times(1)).addScenario(any(Scenario.class));
+        verify(reconnected, times(1)).addScenario(any(Scenario.class));
+    }
+
+    /* ---- fixtures ---- */
+
+    private BettingMiniGameBot newBot() {
+        Game game = Game.builder()
+                .id("g-wire").name("BauCua").pluginName("BauCua")
+                .offset(2000).optionAffinities(Map.of(0, 1, 1, 1)).build();
+        BotBehaviorConfig behavior = BotBehaviorConfig.builder()
+                .minBet(100).maxBet(1_000).betIncrement(100)
+                .minBetsPerRound(1).maxBetsPerRound(1)
+                .chatEnabled(false).autoDepositEnabled(false)
+                .build();
+        BotConfiguration cfg = BotConfiguration.builder()
+                .credentials(BotCredentials.builder().username("wirebot").password("pw").fingerprint("fp").build())
+                .environmentId("env-1").botGroupId("group-1").botIndex(1)
+                .game(game).behaviorConfig(behavior)
+                .zoneName("MiniGame3").timeoutMillis(60_000L)
+                .watchdogTimeoutSeconds(120L)
+                .strategyId(StrategyId.RANDOM)
+                .build();
+
+        BettingMiniGameBot b = new BettingMiniGameBot();
+        b.setClients(mock(ApiGatewayClient.class), mock(GameMsClient.class), mock(ClientFactory.class));
+        b.setConfiguration(cfg);
+        b.setRandom(new Random(0L));
+        return b;
+    }
+
+    private void seedClient(VingameWebSocketClient c) throws Exception {
+        Field f = Bot.class.getDeclaredField("client");
+        f.setAccessible(true);
+        f.set(bot, c);
+    }
+}
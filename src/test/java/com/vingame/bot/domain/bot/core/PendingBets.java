@@ -0,0 +1,17 @@
+package com.vingame.bot.domain.bot.core;
+
+import com.vingame.bot.domain.bot.strategy.BetDecision;
+
+import java.util.Optional;
+
+/** Test reads of a {@link PendingBet}: the parked decision, without taking it. */
+final class PendingBets {
+
+    private PendingBets() {
+    }
+
+    static Optional<BetDecision> peek(PendingBet pending) {
+        long amount = pending.amount();
+        return amount == PendingBet.EMPTY ? Optional.empty() : Optional.of(new BetDecision(pending.optionId(), amount));
+    }
+}
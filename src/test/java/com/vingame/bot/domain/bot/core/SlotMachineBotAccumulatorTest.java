@@ -15,7 +15,7 @@ import com.vingame.bot.domain.game.model.GameType;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.response.ActionResponseMessage;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,7 +46,7 @@ import static org.mockito.Mockito.verify;
 class SlotMachineBotAccumulatorTest {
 
     private SlotMachineBot bot;
-    private BotMetrics metrics;
+    private BotMeters meters;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -73,8 +73,8 @@ class SlotMachineBotAccumulatorTest {
         bot.setMessageTypes(new SlotMessageTypesImpl());
         bot.initializeSubclass();
 
-        metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         seed(bot, "lastFetchedBalance", 50_000_000L);
         seedAtomic(bot, "expectedCurrentBalance", 50_000_000L);
@@ -93,7 +93,7 @@ class SlotMachineBotAccumulatorTest {
 
         // Gross winnings = sum(wls[].crd) = 1000 + 5000 = 6000, mirroring bot_winnings_total.
         assertThat(bot.getCumulativeWinnings().get()).isEqualTo(6000L);
-        verify(metrics).incBotWinnings(6000L);
+        verify(meters).incBotWinnings(6000L);
         // One completed spin.
         assertThat(bot.getRoundsObserved().get()).isEqualTo(1L);
     }
@@ -11,7 +11,7 @@ import com.vingame.bot.domain.game.model.GameType;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.response.ActionResponseMessage;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,7 +52,7 @@ import static org.mockito.Mockito.verify;
 class SlotMachineBotGateEdgeCasesTest {
 
     private SlotMachineBot bot;
-    private BotMetrics metrics;
+    private BotMeters meters;
 
     @BeforeEach
     void setUp() {
@@ -79,8 +79,8 @@ class SlotMachineBotGateEdgeCasesTest {
         bot.setMessageTypes(new SlotMessageTypesImpl());
         bot.initializeSubclass();
 
-        metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         seed(bot, "lastFetchedBalance", 50_000_000L);
         seedAtomic(bot, "expectedCurrentBalance", 50_000_000L);
@@ -167,9 +167,9 @@ class SlotMachineBotGateEdgeCasesTest {
         invokeOnSpinResult(bot, foreign);
 
         // No winnings credit, no bet recorded — the foreign frame is dropped.
-        verify(metrics).incBotMessage("spin");
-        verify(metrics, never()).incBotWinnings(anyLong());
-        verify(metrics, never()).incBetsPlaced(anyInt(), anyLong());
+        verify(meters).incBotMessage("spin");
+        verify(meters, never()).incBotWinnings(anyLong());
+        verify(meters, never()).incBetsPlaced(anyInt(), anyLong());
         assertThat(bot.getExpectedBalance()).as("balance untouched by foreign gid").isEqualTo(before);
         // Gate is still cleared so the bot is not wedged (Implementation Notes).
         assertThat(spinInFlight(bot).get()).as("gate cleared even for foreign gid").isFalse();
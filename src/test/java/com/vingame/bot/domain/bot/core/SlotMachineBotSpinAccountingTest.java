@@ -15,7 +15,7 @@ import com.vingame.bot.domain.game.model.GameType;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.response.ActionResponseMessage;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,7 +45,7 @@ import static org.mockito.Mockito.verify;
 class SlotMachineBotSpinAccountingTest {
 
     private SlotMachineBot bot;
-    private BotMetrics metrics;
+    private BotMeters meters;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -72,8 +72,8 @@ class SlotMachineBotSpinAccountingTest {
         bot.setMessageTypes(new SlotMessageTypesImpl());
         bot.initializeSubclass();
 
-        metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         seed(bot, "lastFetchedBalance", 50_000_000L);
         seedAtomic(bot, "expectedCurrentBalance", 50_000_000L);
@@ -92,12 +92,12 @@ class SlotMachineBotSpinAccountingTest {
 
         invokeOnSpinResult(bot, spin);
 
-        InOrder order = inOrder(metrics);
-        order.verify(metrics).incBotMessage("spin");
+        InOrder order = inOrder(meters);
+        order.verify(meters).incBotMessage("spin");
         // Gross winnings = sum(wls[].crd) = 1000 + 5000 = 6000 (AD-7).
-        order.verify(metrics).incBotWinnings(6000L);
+        order.verify(meters).incBotWinnings(6000L);
         // Single spin = one bet; total stake = per-line b(500) * numLines(25) = 12_500.
-        order.verify(metrics).incBetsPlaced(1, 12_500L);
+        order.verify(meters).incBetsPlaced(1, 12_500L);
 
         assertThat(bot.getLastRoundWinnings()).isEqualTo(6000L);
         // onSpinResult only credits winnings (the debit happens in spin()); +6000.
@@ -115,10 +115,10 @@ class SlotMachineBotSpinAccountingTest {
 
         invokeOnSpinResult(bot, loss);
 
-        verify(metrics).incBotMessage("spin");
-        verify(metrics, never()).incBotWinnings(anyLong());
+        verify(meters).incBotMessage("spin");
+        verify(meters, never()).incBotWinnings(anyLong());
         // total stake = per-line b(500) * numLines(25) = 12_500.
-        verify(metrics).incBetsPlaced(1, 12_500L);
+        verify(meters).incBetsPlaced(1, 12_500L);
 
         assertThat(bot.getLastRoundWinnings()).isZero();
         assertThat(bot.getExpectedBalance()).isEqualTo(before);
@@ -19,7 +19,7 @@ import com.vingame.bot.domain.game.model.GameType;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.request.ActionRequestMessage;
 import com.vingame.websocketparser.message.request.Body;
@@ -81,7 +81,7 @@ class SlotMachineBotSpinStreamTest {
     private static final List<Long> ALLOWED = List.of(500L, 1000L, 2000L, 5000L, 10000L);
     private static final int NUM_LINES = 25;
 
-    private SlotMachineBot newBot(SlotStrategyId strategyId, Random rng, BotMetrics metrics) throws Exception {
+    private SlotMachineBot newBot(SlotStrategyId strategyId, Random rng, BotMeters meters) throws Exception {
         BotCredentials credentials = BotCredentials.builder()
                 .username("slotbot1").password("pw").fingerprint("fp").build();
         Game game = Game.builder()
@@ -109,7 +109,7 @@ class SlotMachineBotSpinStreamTest {
         if (rng != null) {
             bot.setRandom(rng);
         }
-        bot.setMetrics(metrics);
+        bot.setMeters(meters);
 
         seed(bot, "lastFetchedBalance", START_BALANCE);
         seedAtomic(bot, "expectedCurrentBalance", START_BALANCE);
@@ -119,8 +119,8 @@ class SlotMachineBotSpinStreamTest {
     @Test
     @DisplayName("Pre-subscribe gate, in-flight gate, server-sourced bet+winlines, single-spin accounting")
     void singleSpin_fullLoopInvariants() throws Exception {
-        BotMetrics metrics = mock(BotMetrics.class);
-        SlotMachineBot bot = newBot(SlotStrategyId.FIXED, null, metrics);
+        BotMeters meters = mock(BotMeters.class);
+        SlotMachineBot bot = newBot(SlotStrategyId.FIXED, null, meters);
 
         @SuppressWarnings("unchecked")
         Supplier<Boolean> condition = (Supplier<Boolean>) invoke(bot, "spinCondition");
@@ -176,9 +176,9 @@ class SlotMachineBotSpinStreamTest {
         // Result arrives: gross winnings = sum(wls[].crd) = 1000 + 5000 = 6000.
         invokeOnSpinResult(bot, deserializeSpin());
 
-        verify(metrics).incBotMessage("spin");
-        verify(metrics).incBotWinnings(6000L);
-        verify(metrics).incBetsPlaced(1, 12_500L);
+        verify(meters).incBotMessage("spin");
+        verify(meters).incBotWinnings(6000L);
+        verify(meters).incBetsPlaced(1, 12_500L);
 
         assertThat(bot.getLastRoundWinnings()).isEqualTo(6000L);
         assertThat(bot.getExpectedBalance()).isEqualTo(balanceBeforeResult + 6000L);
@@ -190,8 +190,8 @@ class SlotMachineBotSpinStreamTest {
     @Test
     @DisplayName("Multi-spin stream: running balance = start - Σb + Σwinnings, N bets recorded")
     void multiSpin_runningBalanceAndBetCount() throws Exception {
-        BotMetrics metrics = mock(BotMetrics.class);
-        SlotMachineBot bot = newBot(SlotStrategyId.FIXED, null, metrics);
+        BotMeters meters = mock(BotMeters.class);
+        SlotMachineBot bot = newBot(SlotStrategyId.FIXED, null, meters);
 
         invokeOnSubscribe(bot, deserializeSubscribe());
 
@@ -235,15 +235,15 @@ class SlotMachineBotSpinStreamTest {
         // Local sent-counters and server-confirmed bet metric both equal N.
         assertThat(bot.getTotalBetsPlaced().get()).isEqualTo((long) spins);
         assertThat(bot.getTotalBetAmount().get()).isEqualTo(totalStaked);
-        verify(metrics, times(spins)).incBetsPlaced(1, 12_500L);
-        verify(metrics, times(spins)).incBotWinnings(6000L);
+        verify(meters, times(spins)).incBetsPlaced(1, 12_500L);
+        verify(meters, times(spins)).incBotWinnings(6000L);
     }
 
     @Test
     @DisplayName("RANDOM strategy: seeded RNG draws bets only from the server-sourced Js set")
     void randomStrategy_betsDrawnFromServerSet() throws Exception {
         // Seed chosen so the run exercises more than one distinct value.
-        SlotMachineBot bot = newBot(SlotStrategyId.RANDOM, new Random(42L), mock(BotMetrics.class));
+        SlotMachineBot bot = newBot(SlotStrategyId.RANDOM, new Random(42L), mock(BotMeters.class));
         // Standalone (no SlotStrategyFactory) → initializeSubclass falls back to an
         // inline FixedBetStrategy regardless of slotStrategyId. Inject the real
         // RandomBetStrategy directly to exercise the random bet-amount path; it
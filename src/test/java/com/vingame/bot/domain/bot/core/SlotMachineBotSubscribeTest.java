@@ -13,7 +13,7 @@ import com.vingame.bot.domain.game.model.GameType;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.response.ActionResponseMessage;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,7 +40,7 @@ import static org.mockito.Mockito.verify;
 class SlotMachineBotSubscribeTest {
 
     private SlotMachineBot bot;
-    private BotMetrics metrics;
+    private BotMeters meters;
 
     @BeforeEach
     void setUp() {
@@ -67,8 +67,8 @@ class SlotMachineBotSubscribeTest {
         bot.setMessageTypes(new SlotMessageTypesImpl());
         bot.initializeSubclass();
 
-        metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         // Seed balance cache so onNewSession() inside onSubscribe does not call out.
         seed(bot, "lastFetchedBalance", 50_000_000L);
@@ -87,7 +87,7 @@ class SlotMachineBotSubscribeTest {
         SlotSubscribeResponse resp = deserializeSubscribe("/messages/slot/subscribeResponse.json");
         invokeOnSubscribe(bot, resp);
 
-        verify(metrics).incBotMessage("subscribe");
+        verify(meters).incBotMessage("subscribe");
         assertThat(readField(bot, "numLines")).isEqualTo(25);
         @SuppressWarnings("unchecked")
         List<Long> betValues = (List<Long>) readField(bot, "allowedBetValues");
@@ -37,9 +37,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -128,10 +126,7 @@ class TaiXiuGameBotCoordinationCompositionTest {
     @AfterEach
     void tearDown() throws Exception {
         if (bot == null) return;
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -237,8 +232,7 @@ class TaiXiuGameBotCoordinationCompositionTest {
 
     private StartGameMessage startGameWithSid(long sid) throws Exception {
         TaiXiuStartGameMessage msg = (TaiXiuStartGameMessage) parseFixture("startGame.json");
-        msg.setSid(sid);
-        return msg;
+        return new TaiXiuStartGameMessage(msg.getCmd(), msg.getOdE(), msg.isIES(), sid);
     }
 
     private BettingMiniMessage parseFixture(String name) throws Exception {
@@ -285,13 +279,11 @@ class TaiXiuGameBotCoordinationCompositionTest {
     private Optional<BetDecision> pendingDecision() throws Exception {
         Field f = BettingMiniGameBot.class.getDeclaredField("pendingDecision");
         f.setAccessible(true);
-        return ((AtomicReference<Optional<BetDecision>>) f.get(bot)).get();
+        return PendingBets.peek((PendingBet) f.get(bot));
     }
 
     private void setRemainingTime(long ms) throws Exception {
-        Field f = BettingMiniGameBot.class.getDeclaredField("remainingTime");
-        f.setAccessible(true);
-        ((AtomicLong) f.get(bot)).set(ms);
+        bot.openBetWindow(ms);
     }
 
     private Object readField(String name) throws Exception {
@@ -21,7 +21,6 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -88,8 +87,7 @@ class TaiXiuGameBotDefaultOptionsTest {
     @AfterEach
     void tearDown() throws Exception {
         if (bot == null) return;
-        ScheduledExecutorService w = (ScheduledExecutorService) readField(bot, "watchdogScheduler");
-        if (w != null) w.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -23,7 +23,7 @@ import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.request.ActionRequestMessage;
 import com.vingame.websocketparser.message.request.Body;
@@ -37,7 +37,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -71,7 +70,7 @@ class TaiXiuGameBotDispatchTest {
     private static final long CHOSEN_AMOUNT = 500_000L;
 
     private TaiXiuGameBot bot;
-    private BotMetrics metrics;
+    private BotMeters meters;
 
     @BeforeEach
     void setUp() {
@@ -116,8 +115,8 @@ class TaiXiuGameBotDispatchTest {
         bot.setRandom(new Random(0L));
         bot.initializeSubclass();
 
-        metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         // Seed balance so onNewSession() inside onEndGame uses the cache (no HTTP).
         seedLong("lastFetchedBalance", START_BALANCE);
@@ -126,10 +125,7 @@ class TaiXiuGameBotDispatchTest {
 
     @AfterEach
     void tearDown() throws Exception {
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -142,7 +138,7 @@ class TaiXiuGameBotDispatchTest {
         // tFB=50000 -> timeForBetting; tFBB=3000 -> blockBetTime.
         assertThat((long) readField("timeForBetting")).isEqualTo(50_000L);
         assertThat((long) readField("blockBetTime")).isEqualTo(3_000L);
-        verify(metrics).incBotMessage("subscribe");
+        verify(meters).incBotMessage("subscribe");
     }
 
     @Test
@@ -183,9 +179,9 @@ class TaiXiuGameBotDispatchTest {
         // Round net = -b + gR + winnings = -500000 + 500000 + 0 = 0.
         assertThat(currentBalance()).isEqualTo(START_BALANCE);
         // Effective wagered = gB - gR = 0; bets-placed batched with 0 count.
-        verify(metrics).incBetsPlaced(0, 0L);
+        verify(meters).incBetsPlaced(0, 0L);
         // No winnings -> incBotWinnings never called with a positive value.
-        verify(metrics, org.mockito.Mockito.never()).incBotWinnings(org.mockito.ArgumentMatchers.anyLong());
+        verify(meters, org.mockito.Mockito.never()).incBotWinnings(org.mockito.ArgumentMatchers.anyLong());
         assertThat(bot.getLastRoundWinnings()).isZero();
     }
 
@@ -197,9 +193,9 @@ class TaiXiuGameBotDispatchTest {
         // Net = -b + gR + G = -500000 + 200000 + 120000 = -180000.
         assertThat(currentBalance()).isEqualTo(START_BALANCE - 180_000L);
         // effective wagered = gB - gR = 300000.
-        verify(metrics).incBetsPlaced(1, 300_000L);
+        verify(meters).incBetsPlaced(1, 300_000L);
         // winnings = G = 120000 directly (NOT GX-gB = 320000-500000 = -180000).
-        verify(metrics).incBotWinnings(120_000L);
+        verify(meters).incBotWinnings(120_000L);
         assertThat(bot.getLastRoundWinnings()).isEqualTo(120_000L);
     }
 
@@ -211,9 +207,9 @@ class TaiXiuGameBotDispatchTest {
         // Net = -b + gR + G = -500000 + 0 + 80000 = -420000.
         assertThat(currentBalance()).isEqualTo(START_BALANCE - 420_000L);
         // No refund -> full bet at risk; effective wagered = gB = 500000.
-        verify(metrics).incBetsPlaced(1, 500_000L);
+        verify(meters).incBetsPlaced(1, 500_000L);
         // winnings = G = 80000 directly (NOT GX-gB = 80000-500000 = -420000).
-        verify(metrics).incBotWinnings(80_000L);
+        verify(meters).incBotWinnings(80_000L);
         assertThat(bot.getLastRoundWinnings()).isEqualTo(80_000L);
     }
 
@@ -298,9 +294,7 @@ class TaiXiuGameBotDispatchTest {
     }
 
     private void setRemainingTime(long ms) throws Exception {
-        Field f = BettingMiniGameBot.class.getDeclaredField("remainingTime");
-        f.setAccessible(true);
-        ((AtomicLong) f.get(bot)).set(ms);
+        bot.openBetWindow(ms);
     }
 
     private Object readField(String name) throws Exception {
@@ -21,7 +21,6 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -97,8 +96,7 @@ class TaiXiuGameBotNullOffsetInitTest {
     @AfterEach
     void tearDown() throws Exception {
         if (bot == null) return;
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -34,7 +34,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -128,10 +127,7 @@ class TaiXiuGameBotSessionCorrelationTest {
     @AfterEach
     void tearDown() throws Exception {
         if (bot == null) return;
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -232,8 +228,7 @@ class TaiXiuGameBotSessionCorrelationTest {
 
     private StartGameMessage startGameWithSid(long sid) throws Exception {
         TaiXiuStartGameMessage msg = (TaiXiuStartGameMessage) parseFixture("startGame.json");
-        msg.setSid(sid);
-        return msg;
+        return new TaiXiuStartGameMessage(msg.getCmd(), msg.getOdE(), msg.isIES(), sid);
     }
 
     private void invokeOnSubscribe(SubscribeMessage msg) throws Exception {
@@ -279,9 +274,7 @@ class TaiXiuGameBotSessionCorrelationTest {
     }
 
     private void setRemainingTime(long ms) throws Exception {
-        Field f = BettingMiniGameBot.class.getDeclaredField("remainingTime");
-        f.setAccessible(true);
-        ((AtomicLong) f.get(bot)).set(ms);
+        bot.openBetWindow(ms);
     }
 
     private Object readField(String name) throws Exception {
@@ -36,9 +36,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -136,10 +134,7 @@ class TaiXiuGameBotSingleEntryLockTest {
     @AfterEach
     void tearDown() throws Exception {
         if (bot == null) return;
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
@@ -394,8 +389,7 @@ class TaiXiuGameBotSingleEntryLockTest {
 
     private StartGameMessage startGameWithSid(long sid) throws Exception {
         TaiXiuStartGameMessage msg = (TaiXiuStartGameMessage) parseFixture("startGame.json");
-        msg.setSid(sid);
-        return msg;
+        return new TaiXiuStartGameMessage(msg.getCmd(), msg.getOdE(), msg.isIES(), sid);
     }
 
     private BettingMiniMessage parseFixture(String name) throws Exception {
@@ -445,7 +439,7 @@ class TaiXiuGameBotSingleEntryLockTest {
     private void clearPendingDecision() throws Exception {
         Field f = BettingMiniGameBot.class.getDeclaredField("pendingDecision");
         f.setAccessible(true);
-        ((AtomicReference<Optional<BetDecision>>) f.get(bot)).set(Optional.empty());
+        ((PendingBet) f.get(bot)).clear();
     }
 
     /** Peek the entry currently parked by betCondition() without consuming it. */
@@ -453,7 +447,7 @@ class TaiXiuGameBotSingleEntryLockTest {
     private long parkedEntry() throws Exception {
         Field f = BettingMiniGameBot.class.getDeclaredField("pendingDecision");
         f.setAccessible(true);
-        Optional<BetDecision> parked = ((AtomicReference<Optional<BetDecision>>) f.get(bot)).get();
+        Optional<BetDecision> parked = PendingBets.peek((PendingBet) f.get(bot));
         assertThat(parked).as("a decision is parked").isPresent();
         return parked.get().optionId();
     }
@@ -467,9 +461,7 @@ class TaiXiuGameBotSingleEntryLockTest {
     }
 
     private void setRemainingTime(long ms) throws Exception {
-        Field f = BettingMiniGameBot.class.getDeclaredField("remainingTime");
-        f.setAccessible(true);
-        ((AtomicLong) f.get(bot)).set(ms);
+        bot.openBetWindow(ms);
     }
 
     private Object readField(String name) throws Exception {
@@ -23,7 +23,7 @@ import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.request.ActionRequestMessage;
 import com.vingame.websocketparser.message.request.Body;
@@ -38,7 +38,6 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -89,7 +88,7 @@ class TaiXiuGameBotStreamTest {
     private static final long BASE_SID = 2670572L;
 
     private TaiXiuGameBot bot;
-    private BotMetrics metrics;
+    private BotMeters meters;
     private Game gameSpy;
 
     private TaiXiuGameBot newBot() throws Exception {
@@ -156,18 +155,15 @@ class TaiXiuGameBotStreamTest {
     @AfterEach
     void tearDown() throws Exception {
         if (bot == null) return;
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
     @DisplayName("mixed full/partial/zero-refund stream: running balance + effective stake + per-round bets (AD-11)")
     void mixedRefundStream_runningBalanceAndEffectiveStake() throws Exception {
         bot = newBot();
-        metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         // Fixed CMD matchers must be the bare Tai Xiu constants regardless of the
         // poison offset (AD-3): if offset leaked, these would be 1005+999999 etc.
@@ -253,7 +249,7 @@ class TaiXiuGameBotStreamTest {
         // Sum the totalAmount argument across every incBetsPlaced call.
         ArgumentCaptor<Integer> countCap = ArgumentCaptor.forClass(Integer.class);
         ArgumentCaptor<Long> amountCap = ArgumentCaptor.forClass(Long.class);
-        verify(metrics, times(sequence.size())).incBetsPlaced(countCap.capture(), amountCap.capture());
+        verify(meters, times(sequence.size())).incBetsPlaced(countCap.capture(), amountCap.capture());
         long emittedBetAmount = amountCap.getAllValues().stream().mapToLong(Long::longValue).sum();
         assertThat(emittedBetAmount)
                 .as("Σ bot_bet_amount_total = Σ(gB − gR), effective stake not gross")
@@ -265,9 +261,9 @@ class TaiXiuGameBotStreamTest {
         assertThat(countCap.getAllValues()).hasSize(sequence.size());
 
         // Winnings emitted only for rounds with G > 0 (full-refund rounds emit none).
-        verify(metrics, atLeastOnce()).incBotWinnings(80_000L);  // noRefund rounds
-        verify(metrics).incBotWinnings(120_000L);                // partial round
-        verify(metrics, never()).incBotWinnings(0L);
+        verify(meters, atLeastOnce()).incBotWinnings(80_000L);  // noRefund rounds
+        verify(meters).incBotWinnings(120_000L);                // partial round
+        verify(meters, never()).incBotWinnings(0L);
 
         // The captured full-refund round contributed EXACTLY 0 to both.
         assertThat(fullRefundEffective).as("full-refund effective stake").isZero();
@@ -306,8 +302,7 @@ class TaiXiuGameBotStreamTest {
     /** Parse startGame.json then override its sid so each round is distinct. */
     private StartGameMessage startGameWithSid(long sid) throws Exception {
         TaiXiuStartGameMessage msg = (TaiXiuStartGameMessage) parseFixture("startGame.json");
-        msg.setSid(sid);
-        return msg;
+        return new TaiXiuStartGameMessage(msg.getCmd(), msg.getOdE(), msg.isIES(), sid);
     }
 
     /* ---- reflective handler / supplier invocation ---- */
@@ -369,9 +364,7 @@ class TaiXiuGameBotStreamTest {
     }
 
     private void setRemainingTime(long ms) throws Exception {
-        Field f = BettingMiniGameBot.class.getDeclaredField("remainingTime");
-        f.setAccessible(true);
-        ((AtomicLong) f.get(bot)).set(ms);
+        bot.openBetWindow(ms);
     }
 
     private Object readField(String name) throws Exception {
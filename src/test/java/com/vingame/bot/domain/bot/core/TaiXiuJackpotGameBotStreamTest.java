@@ -26,7 +26,7 @@ import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.infrastructure.client.ApiGatewayClient;
 import com.vingame.bot.infrastructure.client.ClientFactory;
 import com.vingame.bot.infrastructure.client.GameMsClient;
-import com.vingame.bot.infrastructure.observability.BotMetrics;
+import com.vingame.bot.infrastructure.observability.BotMeters;
 import com.vingame.websocketparser.message.properties.MessageCategory;
 import com.vingame.websocketparser.message.request.ActionRequestMessage;
 import com.vingame.websocketparser.message.request.Body;
@@ -41,7 +41,6 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -82,7 +81,7 @@ class TaiXiuJackpotGameBotStreamTest {
     private static final long BASE_SID = 5971L;
 
     private TaiXiuGameBot bot;
-    private BotMetrics metrics;
+    private BotMeters meters;
 
     private TaiXiuGameBot newBot(ProductCode product, String pluginName) throws Exception {
         Game game = Game.builder()
@@ -131,18 +130,15 @@ class TaiXiuJackpotGameBotStreamTest {
     @AfterEach
     void tearDown() throws Exception {
         if (bot == null) return;
-        ScheduledExecutorService w = (ScheduledExecutorService) readField("watchdogScheduler");
-        if (w != null) w.shutdownNow();
-        ScheduledExecutorService s = (ScheduledExecutorService) readField("scheduler");
-        if (s != null) s.shutdownNow();
+        bot.cancelTimers();
     }
 
     @Test
     @DisplayName("114 bot: +100 CMDs (1105/1102/1104/1100), bet carries a:false, refund-aware accounting")
     void p114StreamUsesPlus100CmdsAndAFlag() throws Exception {
         bot = newBot(ProductCode.P_114, "taixiuJackpotPlugin");
-        metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         // The +100 CMD seams: subscribe/start/end matchers shifted by the provider.
         assertThat(invokeIntSeam("subscribeCmd")).isEqualTo(1105);
@@ -218,16 +214,16 @@ class TaiXiuJackpotGameBotStreamTest {
         // bot_bet_amount_total = Σ(gB − gR) — effective stake, not gross.
         ArgumentCaptor<Integer> countCap = ArgumentCaptor.forClass(Integer.class);
         ArgumentCaptor<Long> amountCap = ArgumentCaptor.forClass(Long.class);
-        verify(metrics, times(sequence.size())).incBetsPlaced(countCap.capture(), amountCap.capture());
+        verify(meters, times(sequence.size())).incBetsPlaced(countCap.capture(), amountCap.capture());
         long emittedBetAmount = amountCap.getAllValues().stream().mapToLong(Long::longValue).sum();
         assertThat(emittedBetAmount)
                 .as("Σ bot_bet_amount_total = Σ(gB − gR)")
                 .isEqualTo(expectedEffectiveWagered);
         assertThat(emittedBetAmount).isLessThan(totalBet);
 
-        verify(metrics, atLeastOnce()).incBotWinnings(80_000L);
-        verify(metrics).incBotWinnings(120_000L);
-        verify(metrics, never()).incBotWinnings(0L);
+        verify(meters, atLeastOnce()).incBotWinnings(80_000L);
+        verify(meters).incBotWinnings(120_000L);
+        verify(meters, never()).incBotWinnings(0L);
 
         // The captured full-refund round contributed exactly 0 to both.
         assertThat(fullRefundEffective).isZero();
@@ -248,8 +244,8 @@ class TaiXiuJackpotGameBotStreamTest {
     @DisplayName("114 subscribe has no tFBB -> default blockBetTime=3000, bet gate closes under 3000ms")
     void p114NoTfbbMeansDefaultLateBetCutoff() throws Exception {
         bot = newBot(ProductCode.P_114, "taixiuJackpotPlugin");
-        metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         // onSubscribe reads getTimeForDecision() (default 3000 for 114) into blockBetTime.
         invokeOnSubscribe((SubscribeMessage) parseFixture("subscribe.json"));
@@ -260,13 +256,9 @@ class TaiXiuJackpotGameBotStreamTest {
         invokeOnStartGame(startGameWithSid(BASE_SID));
         setField("gameState", BettingMiniGameState.BET);
 
-        // onStartGame starts a live countdown (startRemainingTimeCountDown) on a
-        // scheduled virtual thread that decrements remainingTime by 1000ms per tick.
-        // Stop it before asserting so the gate is evaluated against the value we set,
-        // not a value the countdown has silently ticked down underneath us. (Asserting
-        // at the exact remainingTime==blockBetTime==3000 boundary against a live timer
-        // was flaky: a single tick under load dropped it to 2000, flipping the gate.)
-        stopCountdown();
+        // Remaining time is derived from the StartGame deadline (no ticking
+        // countdown), so the setRemainingTime() values below are exactly what the
+        // gate reads, give or take the few ms elapsed between set and assert.
 
         // Above the cutoff (comfortably > 3000): gate is open.
         setRemainingTime(5000L);
@@ -286,8 +278,8 @@ class TaiXiuJackpotGameBotStreamTest {
     @DisplayName("regression: P_116 bot still uses 1005/1002/1004/1000 and emits a Bet with NO 'a' field")
     void p116RegressionUnchanged() throws Exception {
         bot = newBot(ProductCode.P_116, "taixiuPlugin");
-        metrics = mock(BotMetrics.class);
-        bot.setMetrics(metrics);
+        meters = mock(BotMeters.class);
+        bot.setMeters(meters);
 
         TaiXiuMessageTypes provider116 = GameMessageTypesResolver.resolveTaiXiu(ProductCode.P_116);
         assertThat(provider116.emitsAutoBetFlag()).isFalse();
@@ -350,8 +342,7 @@ class TaiXiuJackpotGameBotStreamTest {
 
     private StartGameMessage startGameWithSid(long sid) throws Exception {
         TaiXiuStartGameMessage msg = (TaiXiuStartGameMessage) parseFixture("startGame.json");
-        msg.setSid(sid);
-        return msg;
+        return new TaiXiuStartGameMessage(msg.getCmd(), msg.getOdE(), msg.isIES(), sid);
     }
 
     /* ---- reflective handler / supplier invocation ---- */
@@ -412,26 +403,8 @@ class TaiXiuJackpotGameBotStreamTest {
         return ((AtomicLong) f.get(bot)).get();
     }
 
-    /**
-     * Stops the live betting countdown started by {@code onStartGame}
-     * ({@code startRemainingTimeCountDown}) so {@code remainingTime} stays exactly
-     * where {@link #setRemainingTime(long)} puts it. Without this, the scheduled
-     * virtual-thread tick races the assertion and can decrement the value mid-test.
-     */
-    private void stopCountdown() throws Exception {
-        Field f = BettingMiniGameBot.class.getDeclaredField("scheduler");
-        f.setAccessible(true);
-        ScheduledExecutorService s = (ScheduledExecutorService) f.get(bot);
-        if (s != null) {
-            s.shutdownNow();
-            f.set(bot, null);
-        }
-    }
-
     private void setRemainingTime(long ms) throws Exception {
-        Field f = BettingMiniGameBot.class.getDeclaredField("remainingTime");
-        f.setAccessible(true);
-        ((AtomicLong) f.get(bot)).set(ms);
+        bot.openBetWindow(ms);
     }
 
     private Object readField(String name) throws Exception {
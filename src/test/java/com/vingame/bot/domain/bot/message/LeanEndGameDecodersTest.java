@@ -0,0 +1,152 @@
+package com.vingame.bot.domain.bot.message;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vingame.bot.domain.bot.message.g2.b52.B52EndGameMessage;
+import com.vingame.bot.domain.bot.message.g2.b52.B52GameMessageTypes;
+import com.vingame.bot.domain.bot.message.g2.bom.BomEndGameMessage;
+import com.vingame.bot.domain.bot.message.g2.bom.BomGameMessageTypes;
+import com.vingame.bot.domain.bot.message.g3.tip.TipEndGameMessage;
+import com.vingame.bot.domain.bot.message.g3.tip.TipGameMessageTypes;
+import com.vingame.bot.domain.bot.message.g4.nohu.NohuEndGameMessage;
+import com.vingame.bot.domain.bot.message.g4.nohu.NohuGameMessageTypes;
+import com.vingame.bot.domain.brand.model.ProductCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the streaming {@link LeanEndGameDecoders} answer every marker
+ * interface exactly as full POJO binding does, while leaving the skipped subtrees
+ * unbound.
+ */
+@DisplayName("LeanEndGameDecoders")
+class LeanEndGameDecodersTest {
+
+    private static final String BOT = "bot1";
+
+    private String loadFixture(String path) throws Exception {
+        try (var in = getClass().getResourceAsStream("/messages/" + path)) {
+            assertThat(in).as("fixture /messages/" + path).isNotNull();
+            return new String(in.readAllBytes());
+        }
+    }
+
+    private static ObjectMapper mapper(GameMessageTypes types, int offset, boolean lean) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        if (lean) {
+            mapper.registerModule(LeanEndGameDecoders.module());
+        }
+        mapper.registerSubtypes(types.getTypeRegistrations(offset, false));
+        return mapper;
+    }
+
+    private static GameMessageTypes typesFor(String product) {
+        return switch (product) {
+            case "bom" -> new BomGameMessageTypes();
+            case "b52" -> new B52GameMessageTypes();
+            case "nohu" -> new NohuGameMessageTypes();
+            case "tip" -> new TipGameMessageTypes();
+            default -> throw new IllegalArgumentException(product);
+        };
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"bom, 2000", "b52, 6000", "nohu, 4000", "tip, 8000"})
+    @DisplayName("Polymorphic lean decode matches full binding on every marker")
+    void leanMatchesFullOnMarkers(String product, int offset) throws Exception {
+        String json = loadFixture(product + "/endGame.json");
+        GameMessageTypes types = typesFor(product);
+
+        BettingMiniMessage full = mapper(types, offset, false).readValue(json, BettingMiniMessage.class);
+        BettingMiniMessage lean = mapper(types, offset, true).readValue(json, BettingMiniMessage.class);
+
+        assertThat(lean).isExactlyInstanceOf(full.getClass());
+        assertThat(lean.getCmd()).isEqualTo(full.getCmd());
+        assertThat(((EndGameMessage) lean).getSessionId()).isEqualTo(((EndGameMessage) full).getSessionId());
+        assertThat(((HasJackpot) lean).jackpotFor(BOT)).isEqualTo(((HasJackpot) full).jackpotFor(BOT));
+        assertThat(((HasJackpotPool) lean).jackpotPool()).isEqualTo(((HasJackpotPool) full).jackpotPool());
+        assertThat(((HasCrowdBets) lean).crowdBets())
+                .isNotEmpty()
+                .isEqualTo(((HasCrowdBets) full).crowdBets());
+        if (full instanceof HasBotWinnings winnings) {
+            assertThat(((HasBotWinnings) lean).winningsFor(BOT)).isEqualTo(winnings.winningsFor(BOT));
+        }
+        if (full instanceof HasBetTotals totals) {
+            assertThat(((HasBetTotals) lean).betAmountFor(BOT)).isEqualTo(totals.betAmountFor(BOT));
+            assertThat(((HasBetTotals) lean).betCountFor(BOT)).isEqualTo(totals.betCountFor(BOT));
+        }
+    }
+
+    @Nested
+    @DisplayName("Skipped subtrees")
+    class SkippedSubtreeTests {
+
+        @Test
+        @DisplayName("Tip: ps, eIn, jpCD and sDi stay unbound; scalars and bs are kept")
+        void tipSkipsPlayerListAndExtras() throws Exception {
+            TipEndGameMessage msg = mapper(new TipGameMessageTypes(), 8000, true)
+                    .readValue(loadFixture("tip/endGame.json"), TipEndGameMessage.class);
+
+            assertThat(msg.getPs()).isNull();
+            assertThat(msg.getEIn()).isNull();
+            assertThat(msg.getJpCD()).isNull();
+            assertThat(msg.getSDi()).isNull();
+            assertThat(msg.getSid()).isEqualTo(822070L);
+            assertThat(msg.getWm()).isEqualTo(1500L);
+            assertThat(msg.getJpV()).isEqualTo(1603000L);
+            assertThat(msg.isIJp()).isTrue();
+            assertThat(msg.getBs()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("BOM / B52 / Nohu: sD and lJp stay unbound")
+        void diceJackpotShapesSkipDiceAndLastJackpot() throws Exception {
+            BomEndGameMessage bom = mapper(new BomGameMessageTypes(), 2000, true)
+                    .readValue(loadFixture("bom/endGame.json"), BomEndGameMessage.class);
+            B52EndGameMessage b52 = mapper(new B52GameMessageTypes(), 6000, true)
+                    .readValue(loadFixture("b52/endGame.json"), B52EndGameMessage.class);
+            NohuEndGameMessage nohu = mapper(new NohuGameMessageTypes(), 4000, true)
+                    .readValue(loadFixture("nohu/endGame.json"), NohuEndGameMessage.class);
+
+            assertThat(bom.getSD()).isNull();
+            assertThat(bom.getLJp()).isNull();
+            assertThat(bom.getSessionId()).isEqualTo(422070L);
+            assertThat(b52.getSD()).isNull();
+            assertThat(b52.getLJp()).isNull();
+            assertThat(nohu.getSD()).isNull();
+            assertThat(nohu.getLJp()).isNull();
+        }
+
+        @Test
+        @DisplayName("Plain mappers keep full binding")
+        void plainMapperBindsEverything() throws Exception {
+            TipEndGameMessage msg = mapper(new TipGameMessageTypes(), 8000, false)
+                    .readValue(loadFixture("tip/endGame.json"), TipEndGameMessage.class);
+
+            assertThat(msg.getPs()).hasSize(2);
+            assertThat(msg.getSDi()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Shared registry mappers install the lean decoders unless disabled")
+    void registryHonoursFlag() throws Exception {
+        String json = loadFixture("tip/endGame.json");
+
+        TipEndGameMessage lean = (TipEndGameMessage) new MessageCodecRegistry(false, true)
+                .bettingMini(ProductCode.P_116, 8000, false)
+                .readValue(json, BettingMiniMessage.class);
+        TipEndGameMessage full = (TipEndGameMessage) new MessageCodecRegistry(false, false)
+                .bettingMini(ProductCode.P_116, 8000, false)
+                .readValue(json, BettingMiniMessage.class);
+
+        assertThat(lean.getPs()).isNull();
+        assertThat(full.getPs()).hasSize(2);
+    }
+}
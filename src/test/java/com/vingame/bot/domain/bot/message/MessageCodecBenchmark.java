@@ -0,0 +1,128 @@
+package com.vingame.bot.domain.bot.message;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.vingame.bot.domain.bot.message.g2.b52.B52GameMessageTypes;
+import com.vingame.bot.domain.bot.message.g2.bom.BomGameMessageTypes;
+import com.vingame.bot.domain.bot.message.g3.tip.TipGameMessageTypes;
+import com.vingame.bot.domain.bot.message.g4.nohu.NohuGameMessageTypes;
+import com.vingame.bot.domain.bot.message.taixiu.MiniGameTaiXiuMessageTypes;
+import com.vingame.bot.domain.brand.model.ProductCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-message-class decode cost for {@link MessageCodecRegistry}:
+ * <ul>
+ *   <li><b>perBotCold</b> — the pre-registry bot path: a fresh mapper, subtype
+ *       registration, then the first decode (what every bot creation used to pay).</li>
+ *   <li><b>shared</b> — steady-state decode on the registry's warmed mapper, plain
+ *       reflection.</li>
+ *   <li><b>sharedBlackbird</b> — the same with generated accessors.</li>
+ * </ul>
+ * Each {@code fixture} is {@code product/file:productCode:offset} over the captured
+ * payloads under {@code /messages}; an offset of {@code -1} is the TaiXiu layout.
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main MessageCodecBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageCodecBenchmark {
+
+    @Param({
+            "bom/startGame.json:P_097:2000",
+            "bom/updateBet.json:P_097:2000",
+            "bom/endGame.json:P_097:2000",
+            "b52/endGame.json:P_098:6000",
+            "tip/updateBet.json:P_116:8000",
+            "tip/endGame.json:P_116:8000",
+            "nohu/endGame.json:P_118:4000",
+            "taixiu/endGame_noRefund.json:P_116:-1",
+    })
+    public String fixture;
+
+    private String json;
+    private Supplier<NamedType[]> registrations;
+    private ObjectReader plain;
+    private ObjectReader blackbird;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] parts = fixture.split(":");
+        String path = parts[0];
+        String product = path.substring(0, path.indexOf('/'));
+        ProductCode code = ProductCode.valueOf(parts[1]);
+        int offset = Integer.parseInt(parts[2]);
+
+        json = loadFixture(path);
+        registrations = offset < 0
+                ? () -> new MiniGameTaiXiuMessageTypes().getTypeRegistrations()
+                : () -> providerFor(product).getTypeRegistrations(offset, false);
+        plain = mapper(new MessageCodecRegistry(false), code, offset).readerFor(BettingMiniMessage.class);
+        blackbird = mapper(new MessageCodecRegistry(true), code, offset).readerFor(BettingMiniMessage.class);
+    }
+
+    @Benchmark
+    public BettingMiniMessage perBotCold() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerSubtypes(registrations.get());
+        return mapper.readValue(json, BettingMiniMessage.class);
+    }
+
+    @Benchmark
+    public BettingMiniMessage shared() throws IOException {
+        return plain.readValue(json);
+    }
+
+    @Benchmark
+    public BettingMiniMessage sharedBlackbird() throws IOException {
+        return blackbird.readValue(json);
+    }
+
+    private static ObjectMapper mapper(MessageCodecRegistry registry, ProductCode code, int offset) {
+        return offset < 0 ? registry.taiXiu(code) : registry.bettingMini(code, offset, false);
+    }
+
+    private static GameMessageTypes providerFor(String product) {
+        return switch (product) {
+            case "bom" -> new BomGameMessageTypes();
+            case "b52" -> new B52GameMessageTypes();
+            case "tip" -> new TipGameMessageTypes();
+            case "nohu" -> new NohuGameMessageTypes();
+            default -> throw new IllegalArgumentException(product);
+        };
+    }
+
+    private static String loadFixture(String path) throws IOException {
+        try (InputStream in = MessageCodecBenchmark.class.getResourceAsStream("/messages/" + path)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture /messages/" + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.vingame.bot.domain.bot.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vingame.bot.domain.bot.message.g2.bom.BomEndGameMessage;
+import com.vingame.bot.domain.bot.message.g3.tip.TipStartGameMessage;
+import com.vingame.bot.domain.bot.message.slot.SlotMessage;
+import com.vingame.bot.domain.bot.message.slot.SlotSpinResultMessage;
+import com.vingame.bot.domain.bot.message.taixiu.TaiXiuEndGameMessage;
+import com.vingame.bot.domain.brand.model.ProductCode;
+import com.vingame.bot.domain.game.model.Game;
+import com.vingame.bot.domain.game.model.GameType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that {@link MessageCodecRegistry} hands out one shared mapper per
+ * product/game layout, and that the shared (optionally Blackbird-accelerated) mappers
+ * decode the captured fixtures exactly like the per-bot mappers they replace.
+ */
+@DisplayName("MessageCodecRegistry")
+class MessageCodecRegistryTest {
+
+    private String loadFixture(String path) throws Exception {
+        try (var in = getClass().getResourceAsStream("/messages/" + path)) {
+            assertThat(in).as("fixture /messages/" + path).isNotNull();
+            return new String(in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Same key returns the same mapper; a different offset or md5 gets its own")
+    void oneMapperPerKey() {
+        MessageCodecRegistry registry = new MessageCodecRegistry(false);
+
+        ObjectMapper bom = registry.bettingMini(ProductCode.P_097, 2000, false);
+
+        assertThat(registry.bettingMini(ProductCode.P_097, 2000, false)).isSameAs(bom);
+        assertThat(registry.bettingMini(ProductCode.P_097, 6000, false)).isNotSameAs(bom);
+        assertThat(registry.bettingMini(ProductCode.P_097, 2000, true)).isNotSameAs(bom);
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("forGame dispatches on game type and reuses the typed entry points")
+    void forGameDispatchesOnGameType() {
+        MessageCodecRegistry registry = new MessageCodecRegistry(false);
+        Game betting = Game.builder().gameType(GameType.BETTING_MINI).offset(8000).md5(false).build();
+        Game slot = Game.builder().gameType(GameType.SLOT).build();
+
+        assertThat(registry.forGame(ProductCode.P_116, betting))
+                .isSameAs(registry.bettingMini(ProductCode.P_116, 8000, false));
+        assertThat(registry.forGame(ProductCode.P_116, slot)).isSameAs(registry.slot());
+    }
+
+    @ParameterizedTest(name = "blackbird={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Shared betting-mini mapper decodes BOM and TIP fixtures")
+    void bettingMiniFixturesDecode(boolean blackbird) throws Exception {
+        MessageCodecRegistry registry = new MessageCodecRegistry(blackbird);
+
+        BettingMiniMessage bom = registry.bettingMini(ProductCode.P_097, 2000, false)
+                .readValue(loadFixture("bom/endGame.json"), BettingMiniMessage.class);
+        BettingMiniMessage tip = registry.bettingMini(ProductCode.P_116, 8000, false)
+                .readValue(loadFixture("tip/startGame.json"), BettingMiniMessage.class);
+
+        assertThat(bom).isInstanceOf(BomEndGameMessage.class);
+        assertThat(((EndGameMessage) bom).getSessionId()).isEqualTo(422070L);
+        assertThat(tip).isInstanceOf(TipStartGameMessage.class);
+    }
+
+    @ParameterizedTest(name = "blackbird={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Shared Tai Xiu and slot mappers decode their fixtures")
+    void taiXiuAndSlotFixturesDecode(boolean blackbird) throws Exception {
+        MessageCodecRegistry registry = new MessageCodecRegistry(blackbird);
+
+        BettingMiniMessage taiXiu = registry.taiXiu(ProductCode.P_116)
+                .readValue(loadFixture("taixiu/endGame_noRefund.json"), BettingMiniMessage.class);
+        ObjectMapper slotMapper = registry.slot();
+        SlotMessage spin = slotMapper.treeToValue(
+                slotMapper.readTree(loadFixture("slot/spinResult.json")).get(1), SlotMessage.class);
+
+        assertThat(taiXiu).isInstanceOf(TaiXiuEndGameMessage.class);
+        assertThat(spin).isInstanceOf(SlotSpinResultMessage.class);
+    }
+
+    @Test
+    @DisplayName("Shared mapper binds collections read-only, as the frame may be shared by a group")
+    void collectionsBindReadOnly() throws Exception {
+        MessageCodecRegistry registry = new MessageCodecRegistry(false);
+
+        BomEndGameMessage bom = (BomEndGameMessage) registry.bettingMini(ProductCode.P_097, 2000, false)
+                .readValue(loadFixture("bom/endGame.json"), BettingMiniMessage.class);
+
+        assertThat(bom.getBs()).isNotEmpty();
+        assertThatThrownBy(() -> bom.getBs().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Unsupported product surfaces the resolver's IllegalArgumentException")
+    void unsupportedProductThrows() {
+        MessageCodecRegistry registry = new MessageCodecRegistry(false);
+
+        assertThatThrownBy(() -> registry.bettingMini(ProductCode.P_066, 0, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not yet implemented");
+        assertThat(registry.size()).isZero();
+    }
+}
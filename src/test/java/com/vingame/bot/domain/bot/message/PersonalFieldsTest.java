@@ -0,0 +1,119 @@
+package com.vingame.bot.domain.bot.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vingame.bot.domain.bot.coordination.CrowdOption;
+import com.vingame.bot.domain.bot.message.g3.tip.TipEndGameMessage;
+import com.vingame.bot.domain.bot.message.g3.tip.TipUpdateBetMessage;
+import com.vingame.bot.domain.brand.model.ProductCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@link PersonalFields#split} lifts exactly Tip's per-recipient fields
+ * out of a frame, and that a common part decoded once and then
+ * {@link SplitPersonalized#personalize personalized} answers every marker as a full
+ * per-bot decode of the recipient's own frame.
+ */
+@DisplayName("PersonalFields")
+class PersonalFieldsTest {
+
+    private static final String BOT = "bot1";
+
+    private final ObjectMapper mapper = new MessageCodecRegistry(false)
+            .bettingMini(ProductCode.P_116, 8000, false);
+
+    private String loadFixture(String path) throws Exception {
+        try (var in = getClass().getResourceAsStream("/messages/" + path)) {
+            assertThat(in).as("fixture /messages/" + path).isNotNull();
+            return new String(in.readAllBytes());
+        }
+    }
+
+    /** The same EndGame as another recipient would receive it: own wm, jpV and bs[].b/bc. */
+    private String otherRecipient(String endGame) {
+        return endGame
+                .replace("\"wm\": 1500,\n  \"sDi\"", "\"wm\": 0,\n  \"sDi\"")
+                .replace("\"jpV\": 1603000", "\"jpV\": 0")
+                .replace("\"bc\": 2, \"b\": 2000", "\"bc\": 1, \"b\": 100");
+    }
+
+    @Test
+    @DisplayName("Lifts root wm/jpV and bs[].b/bc, zeroes them in the common text, leaves ps[].wm")
+    void liftsPersonalFields() throws Exception {
+        PersonalFields.Split split = PersonalFields.split(mapper.getFactory(),
+                "[5," + loadFixture("tip/endGame.json") + "]");
+
+        assertThat(split.personal().wm()).isEqualTo(1500L);
+        assertThat(split.personal().jpV()).isEqualTo(1603000L);
+        assertThat(split.personal().b(0)).isEqualTo(2000L);
+        assertThat(split.personal().bc(0)).isEqualTo(2);
+        assertThat(split.personal().b(1)).isEqualTo(500L);
+        assertThat(split.personal().b(2)).isZero();
+        assertThat(split.common())
+                .startsWith("[5,{")
+                .contains("\"wm\": 0,\n  \"sDi\"", "\"jpV\": 0", "{ \"eid\": 0, \"bc\": 0, \"b\": 0, \"v\": 8000 }")
+                .contains("{ \"uid\": \"bot1\", \"wm\": 1500, \"m\": 50000000 }");
+    }
+
+    @Test
+    @DisplayName("Two recipients of one broadcast produce the same common text")
+    void recipientsShareCommonText() throws Exception {
+        String endGame = loadFixture("tip/endGame.json");
+
+        PersonalFields.Split mine = PersonalFields.split(mapper.getFactory(), endGame);
+        PersonalFields.Split theirs = PersonalFields.split(mapper.getFactory(), otherRecipient(endGame));
+
+        assertThat(theirs.common()).isEqualTo(mine.common());
+        assertThat(theirs.personal().b(0)).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("Answers the common text's length, hash and equality without building it")
+    void commonViewMatchesText() throws Exception {
+        String endGame = loadFixture("tip/endGame.json");
+        PersonalFields.Split split = PersonalFields.split(mapper.getFactory(), "[5," + endGame + "]");
+        String common = split.common();
+
+        assertThat(split.commonLength()).isEqualTo(common.length());
+        assertThat(split.commonHash()).isEqualTo(common.hashCode());
+        assertThat(split.commonEquals(common)).isTrue();
+        assertThat(split.commonEquals(common.replace("\"v\": 8000", "\"v\": 8001"))).isFalse();
+        assertThat(split.commonEquals(common.replace("\"jpV\": 0", "\"jpV\": 1"))).isFalse();
+        assertThat(PersonalFields.split(mapper.getFactory(), "[5," + otherRecipient(endGame) + "]")
+                .commonEquals(common)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Shared common EndGame personalized answers the markers as a per-bot decode")
+    void personalizedEndGameMatchesFullDecode() throws Exception {
+        String endGame = loadFixture("tip/endGame.json");
+        TipEndGameMessage full = (TipEndGameMessage) mapper.readValue(endGame, BettingMiniMessage.class);
+        PersonalFields.Split split = PersonalFields.split(mapper.getFactory(), endGame);
+        TipEndGameMessage shared = (TipEndGameMessage) mapper.readValue(split.common(), BettingMiniMessage.class);
+
+        TipEndGameMessage own = shared.personalize(split.personal());
+
+        assertThat(own.winningsFor(BOT)).isEqualTo(full.winningsFor(BOT));
+        assertThat(own.jackpotFor(BOT)).isEqualTo(full.jackpotFor(BOT));
+        assertThat(own.betAmountFor(BOT)).isEqualTo(full.betAmountFor(BOT));
+        assertThat(own.betCountFor(BOT)).isEqualTo(full.betCountFor(BOT));
+        assertThat(own.crowdBets()).isEqualTo(full.crowdBets());
+        assertThat(own.getSessionId()).isEqualTo(full.getSessionId());
+        assertThat(shared.betAmountFor(BOT)).isZero();
+        assertThat(shared.winningsFor(BOT)).isZero();
+    }
+
+    @Test
+    @DisplayName("Shared common UpdateBet personalized carries this bot's bs[].b")
+    void personalizedUpdateBetMatchesFullDecode() throws Exception {
+        String updateBet = loadFixture("tip/updateBet.json");
+        TipUpdateBetMessage full = (TipUpdateBetMessage) mapper.readValue(updateBet, BettingMiniMessage.class);
+        PersonalFields.Split split = PersonalFields.split(mapper.getFactory(), updateBet);
+        TipUpdateBetMessage shared = (TipUpdateBetMessage) mapper.readValue(split.common(), BettingMiniMessage.class);
+
+        assertThat(shared.personalize(split.personal()).crowdBets()).isEqualTo(full.crowdBets());
+        assertThat(shared.crowdBets()).extracting(CrowdOption::ownBet).containsOnly(0L);
+    }
+}
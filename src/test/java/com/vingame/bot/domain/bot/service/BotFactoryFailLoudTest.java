@@ -56,7 +56,7 @@ class BotFactoryFailLoudTest {
     private SlotStrategyFactory slotStrategyFactory;
 
     private BotFactory factory() {
-        return new BotFactory(clientRegistry, eventLoopGroup, botMetrics, new com.vingame.bot.infrastructure.observability.SessionAggregationService(), strategyFactory, slotStrategyFactory);
+        return new BotFactory(clientRegistry, eventLoopGroup, botMetrics, new com.vingame.bot.infrastructure.observability.SessionAggregationService(), strategyFactory, slotStrategyFactory, com.vingame.bot.infrastructure.runtime.BotTimer.fallback(), new com.vingame.bot.domain.bot.message.MessageCodecRegistry(false), null, null, null, null);
     }
 
     private static EnvironmentClients envClientsWith(Environment env) {
@@ -1,5 +1,6 @@
 package com.vingame.bot.domain.bot.util;
 
+import com.vingame.bot.common.logging.BotMdc;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -62,18 +63,18 @@ class OutputPrinterMdcTest {
     @DisplayName("withMdc applies the snapshot inside the delegate Consumer on a fresh thread")
     void withMdcAppliesSnapshotOnFreshThread() throws Exception {
         Map<String, String> capturedInside = new HashMap<>();
-        Consumer<String> delegate = s -> capturedInside.putAll(MDC.getCopyOfContextMap());
+        Consumer<String> delegate = s -> capturedInside.putAll(BotMdc.copyOfContextMap());
         Consumer<String> wrapped = invokeWithMdc(delegate, SNAPSHOT);
 
         CompletableFuture<Map<String, String>> mdcAfter = new CompletableFuture<>();
         Thread t = new Thread(() -> {
             // Fresh thread: starts with empty MDC.
-            assertThat(MDC.getCopyOfContextMap()).satisfiesAnyOf(
+            assertThat(BotMdc.copyOfContextMap()).satisfiesAnyOf(
                     m -> assertThat(m).isNull(),
                     m -> assertThat(m).isEmpty()
             );
             wrapped.accept("User bot_out: hello");
-            Map<String, String> after = MDC.getCopyOfContextMap();
+            Map<String, String> after = BotMdc.copyOfContextMap();
             mdcAfter.complete(after == null ? new HashMap<>() : after);
         }, "OutputPrinterMdcTest-fresh");
         t.start();
@@ -94,14 +95,14 @@ class OutputPrinterMdcTest {
                 "botUserName", "outer_user"
         );
         Map<String, String> capturedInside = new HashMap<>();
-        Consumer<String> delegate = s -> capturedInside.putAll(MDC.getCopyOfContextMap());
+        Consumer<String> delegate = s -> capturedInside.putAll(BotMdc.copyOfContextMap());
         Consumer<String> wrapped = invokeWithMdc(delegate, SNAPSHOT);
 
         CompletableFuture<Map<String, String>> mdcAfter = new CompletableFuture<>();
         Thread t = new Thread(() -> {
             MDC.setContextMap(outerMdc);
             wrapped.accept("User bot_out: hello");
-            Map<String, String> after = MDC.getCopyOfContextMap();
+            Map<String, String> after = BotMdc.copyOfContextMap();
             mdcAfter.complete(after == null ? new HashMap<>() : after);
         }, "OutputPrinterMdcTest-outer");
         t.start();
@@ -119,7 +120,7 @@ class OutputPrinterMdcTest {
     void withMdcWithNullSnapshotIsPassthrough() throws Exception {
         Map<String, String> capturedInside = new HashMap<>();
         Consumer<String> delegate = s -> {
-            Map<String, String> snap = MDC.getCopyOfContextMap();
+            Map<String, String> snap = BotMdc.copyOfContextMap();
             if (snap != null) capturedInside.putAll(snap);
         };
         Consumer<String> wrapped = invokeWithMdc(delegate, null);
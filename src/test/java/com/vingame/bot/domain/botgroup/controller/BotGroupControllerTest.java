@@ -18,6 +18,7 @@ import com.vingame.bot.domain.botgroup.model.BotGroup;
 import com.vingame.bot.domain.botgroup.model.BotGroupFilter;
 import com.vingame.bot.domain.botgroup.model.BotGroupPlayingStatus;
 import com.vingame.bot.domain.botgroup.model.BotGroupStatus;
+import com.vingame.bot.domain.botgroup.model.RestartMode;
 import com.vingame.bot.domain.botgroup.sort.BotGroupSortRow;
 import com.vingame.bot.domain.botgroup.sort.BotSortKey;
 import com.vingame.bot.domain.botgroup.service.BotGroupBehaviorService;
@@ -39,6 +40,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
@@ -719,11 +721,40 @@ class BotGroupControllerTest {
         void shouldReturnOkWhenBotGroupIsRestarted() throws Exception {
             // Arrange
             String groupId = "123";
-            doNothing().when(behaviorService).restart(groupId);
+            doNothing().when(behaviorService).restart(groupId, RestartMode.FULL, null);
 
             // Act & Assert
             mockMvc.perform(post("/api/v1/bot-group/{id}/restart", groupId))
                     .andExpect(status().isOk());
+            verify(behaviorService).restart(groupId, RestartMode.FULL, null);
+        }
+
+        @Test
+        @DisplayName("Should start a rolling restart in the background and return 202 Accepted")
+        void shouldStartRollingRestartInBackground() throws Exception {
+            // Arrange
+            String groupId = "123";
+
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/bot-group/{id}/restart", groupId)
+                            .param("mode", "ROLLING")
+                            .param("wavePercent", "20"))
+                    .andExpect(status().isAccepted());
+            verify(behaviorService).startRollingRestart(groupId, 20);
+            verify(behaviorService, never()).restart(groupId, RestartMode.ROLLING, 20);
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when a rolling restart is already in progress")
+        void shouldReturnBadRequestWhenRollingRestartInProgress() throws Exception {
+            // Arrange
+            String groupId = "123";
+            doThrow(new BadRequestException("already in progress"))
+                    .when(behaviorService).startRollingRestart(groupId, null);
+
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/bot-group/{id}/restart", groupId).param("mode", "ROLLING"))
+                    .andExpect(status().isBadRequest());
         }
 
         @Test
@@ -731,7 +762,7 @@ class BotGroupControllerTest {
         void shouldReturnBadRequestWhenIllegalArgument() throws Exception {
             // Arrange
             String groupId = "999";
-            doThrow(new IllegalArgumentException("Not found")).when(behaviorService).restart(groupId);
+            doThrow(new IllegalArgumentException("Not found")).when(behaviorService).restart(groupId, RestartMode.FULL, null);
 
             // Act & Assert
             mockMvc.perform(post("/api/v1/bot-group/{id}/restart", groupId))
@@ -749,7 +780,8 @@ class BotGroupControllerTest {
             // Arrange
             String groupId = "123";
             LocalDateTime futureTime = LocalDateTime.now().plusHours(2);
-            doNothing().when(behaviorService).scheduleRestart(eq(groupId), any(LocalDateTime.class));
+            doNothing().when(behaviorService).scheduleRestart(eq(groupId), any(LocalDateTime.class),
+                    eq(RestartMode.FULL), isNull());
 
             // Act & Assert
             mockMvc.perform(post("/api/v1/bot-group/{id}/schedule-restart", groupId)
@@ -765,7 +797,8 @@ class BotGroupControllerTest {
             String groupId = "999";
             LocalDateTime futureTime = LocalDateTime.now().plusHours(2);
             doThrow(new IllegalArgumentException("Not found"))
-                    .when(behaviorService).scheduleRestart(eq(groupId), any(LocalDateTime.class));
+                    .when(behaviorService).scheduleRestart(eq(groupId), any(LocalDateTime.class),
+                            eq(RestartMode.FULL), isNull());
 
             // Act & Assert
             mockMvc.perform(post("/api/v1/bot-group/{id}/schedule-restart", groupId)
@@ -180,4 +180,58 @@ class ActivationWindowTest {
         assertThat(window.isActiveAt(at(WED, 10, 0), ZONE)).isFalse();
         assertThat(window.isActiveAt(at(WED, 12, 0), ZONE)).isFalse();
     }
+
+    @Nested
+    @DisplayName("nextTransitionAfter")
+    class NextTransition {
+
+        @Test
+        @DisplayName("before a window → its opening edge; inside → its closing edge")
+        void nextEdgeSameDay() {
+            ActivationWindow window = ActivationWindow.builder()
+                    .from(LocalTime.of(18, 0))
+                    .to(LocalTime.of(22, 0))
+                    .build();
+
+            assertThat(window.nextTransitionAfter(at(WED, 9, 0), ZONE)).contains(at(WED, 18, 0));
+            assertThat(window.nextTransitionAfter(at(WED, 18, 0), ZONE)).contains(at(WED, 22, 0));
+            assertThat(window.nextTransitionAfter(at(WED, 23, 0), ZONE)).contains(at(WED.plusDays(1), 18, 0));
+        }
+
+        @Test
+        @DisplayName("wrapping window closes after midnight on the day after it opened")
+        void wrappingClosesNextDay() {
+            ActivationWindow window = ActivationWindow.builder()
+                    .from(LocalTime.of(22, 0))
+                    .to(LocalTime.of(2, 0))
+                    .days(Set.of(DayOfWeek.WEDNESDAY))
+                    .build();
+
+            assertThat(window.nextTransitionAfter(at(WED, 22, 0), ZONE)).contains(at(WED.plusDays(1), 2, 0));
+        }
+
+        @Test
+        @DisplayName("edges on days outside the set are skipped")
+        void skipsGatedDays() {
+            ActivationWindow window = ActivationWindow.builder()
+                    .from(LocalTime.of(9, 0))
+                    .to(LocalTime.of(17, 0))
+                    .days(Set.of(DayOfWeek.MONDAY))
+                    .build();
+
+            // Wednesday evening → next Monday 09:00.
+            assertThat(window.nextTransitionAfter(at(WED, 18, 0), ZONE)).contains(at(WED.plusDays(5), 9, 0));
+        }
+
+        @Test
+        @DisplayName("from == to never flips")
+        void zeroLengthNeverFlips() {
+            ActivationWindow window = ActivationWindow.builder()
+                    .from(LocalTime.of(10, 0))
+                    .to(LocalTime.of(10, 0))
+                    .build();
+
+            assertThat(window.nextTransitionAfter(at(WED, 9, 0), ZONE)).isEmpty();
+        }
+    }
 }
@@ -6,19 +6,28 @@ import com.vingame.bot.domain.botgroup.model.BotGroup;
 import com.vingame.bot.domain.botgroup.model.BotGroupStatus;
 import com.vingame.bot.domain.botgroup.repository.BotGroupRepository;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,8 +59,8 @@ class ActivationSchedulerTest {
 
     private ActivationScheduler scheduler() {
         // Do NOT call @PostConstruct start() — that would spin a real reconciler
-        // thread. We drive reconcileAll() directly.
-        return new ActivationScheduler(repository, behaviorService, ZONE, 60L);
+        // thread. We drive reconcileAll() / the queue directly.
+        return new ActivationScheduler(repository, behaviorService, null, ZONE, 15L, 30L);
     }
 
     /** A window that straddles the current instant (open now), all days. */
@@ -74,6 +83,23 @@ class ActivationSchedulerTest {
                 .build();
     }
 
+    /** A window that opened {@code seconds} ago, all days. */
+    private static ActivationWindow openedSecondsAgo(long seconds) {
+        LocalTime t = ZonedDateTime.now(ZONE_ID).toLocalTime();
+        return ActivationWindow.builder()
+                .from(t.minusSeconds(seconds))
+                .to(t.plusHours(1))
+                .days(Set.of())
+                .build();
+    }
+
+    /** A window opening an hour from now, with a ramp priority. */
+    private static ActivationWindow opensInAnHour(int priority) {
+        ActivationWindow window = closedNowWindow();
+        window.setPriority(priority);
+        return window;
+    }
+
     private static BotGroup scheduledGroup(String id, ActivationWindow window, BotGroupStatus targetStatus) {
         return BotGroup.builder()
                 .id(id)
@@ -184,4 +210,191 @@ class ActivationSchedulerTest {
         verify(behaviorService, never()).start(anyString());
         verify(behaviorService, never()).stop(anyString());
     }
+
+    @Nested
+    @DisplayName("transition queue")
+    class TransitionQueueTests {
+
+        private void idle(String id, boolean running) {
+            when(behaviorService.isGroupRunning(id)).thenReturn(running);
+            when(behaviorService.getActualStatus(id))
+                    .thenReturn(running ? BotGroupStatus.ACTIVE : BotGroupStatus.STOPPED);
+        }
+
+        @Test
+        @DisplayName("groups sharing an edge drain stops first, then starts by priority")
+        void drainsInRampOrder() {
+            BotGroup closing = scheduledGroup("closing", openNowWindow(), BotGroupStatus.ACTIVE);
+            BotGroup low = scheduledGroup("low", opensInAnHour(0), BotGroupStatus.STOPPED);
+            BotGroup high = scheduledGroup("high", opensInAnHour(5), BotGroupStatus.STOPPED);
+            when(repository.findByActivationMode(ActivationMode.SCHEDULED))
+                    .thenReturn(List.of(low, closing, high));
+            idle("closing", true);
+            idle("low", false);
+            idle("high", false);
+            ActivationScheduler scheduler = scheduler();
+            scheduler.reconcileAll();
+
+            List<ActivationScheduler.Transition> due =
+                    scheduler.drainDue(Instant.now().plus(Duration.ofMinutes(90)));
+
+            assertThat(due).extracting(ActivationScheduler.Transition::groupId)
+                    .containsExactly("closing", "high", "low");
+            assertThat(due).extracting(ActivationScheduler.Transition::opens)
+                    .containsExactly(false, true, true);
+        }
+
+        @Test
+        @DisplayName("a drained group is re-planned at its following edge")
+        void replansAfterDrain() {
+            BotGroup g = scheduledGroup("g1", opensInAnHour(0), BotGroupStatus.STOPPED);
+            when(repository.findByActivationMode(ActivationMode.SCHEDULED)).thenReturn(List.of(g));
+            idle("g1", false);
+            ActivationScheduler scheduler = scheduler();
+            scheduler.reconcileAll();
+            Instant opening = scheduler.nextTransition().orElseThrow();
+
+            scheduler.drainDue(opening);
+
+            // The window is an hour long, so the next edge is its closing.
+            assertThat(scheduler.nextTransition()).contains(opening.plus(Duration.ofHours(1)));
+        }
+
+        @Test
+        @DisplayName("the ramp spreads a batch evenly, the first firing immediately")
+        void rampOffsets() {
+            ActivationScheduler scheduler = scheduler();
+
+            assertThat(scheduler.rampOffsetMillis(0, 1)).isZero();
+            assertThat(scheduler.rampOffsetMillis(0, 3)).isZero();
+            assertThat(scheduler.rampOffsetMillis(1, 3)).isEqualTo(10_000);
+            assertThat(scheduler.rampOffsetMillis(2, 3)).isEqualTo(20_000);
+        }
+
+        @Test
+        @DisplayName("a transition is evaluated at its boundary, not at the ramp-delayed firing time")
+        void firesAsOfBoundary() {
+            BotGroup g = scheduledGroup("g1", opensInAnHour(0), BotGroupStatus.STOPPED);
+            when(repository.findById("g1")).thenReturn(Optional.of(g));
+            idle("g1", false);
+            Instant opening = g.getActivationWindow().nextTransitionAfter(Instant.now(), ZONE_ID).orElseThrow();
+
+            scheduler().fire(new ActivationScheduler.Transition(opening, "g1", true, 0));
+
+            verify(behaviorService).start("g1");
+        }
+
+        @Test
+        @DisplayName("a blocking start runs off the reconciler and does not hold up the next group")
+        void slowStartDoesNotBlockFiring() throws Exception {
+            BotGroup g1 = scheduledGroup("g1", opensInAnHour(0), BotGroupStatus.STOPPED);
+            BotGroup g2 = scheduledGroup("g2", opensInAnHour(0), BotGroupStatus.STOPPED);
+            when(repository.findById("g1")).thenReturn(Optional.of(g1));
+            when(repository.findById("g2")).thenReturn(Optional.of(g2));
+            idle("g1", false);
+            idle("g2", false);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch secondStarted = new CountDownLatch(1);
+            doAnswer(inv -> release.await(10, TimeUnit.SECONDS)).when(behaviorService).start("g1");
+            doAnswer(inv -> {
+                secondStarted.countDown();
+                return null;
+            }).when(behaviorService).start("g2");
+            Instant opening = g1.getActivationWindow().nextTransitionAfter(Instant.now(), ZONE_ID).orElseThrow();
+            ActivationScheduler scheduler = scheduler();
+            scheduler.start();
+            try {
+                scheduler.fire(new ActivationScheduler.Transition(opening, "g1", true, 0));
+                scheduler.fire(new ActivationScheduler.Transition(opening, "g2", true, 0));
+
+                assertThat(secondStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                release.countDown();
+                scheduler.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("a backstop pass landing on an edge leaves its groups to the ramp")
+        void backstopAtEdgeDefersToRamp() {
+            BotGroup low = scheduledGroup("low", openedSecondsAgo(2), BotGroupStatus.STOPPED);
+            BotGroup high = scheduledGroup("high", openedSecondsAgo(2), BotGroupStatus.STOPPED);
+            high.getActivationWindow().setPriority(5);
+            when(repository.findByActivationMode(ActivationMode.SCHEDULED)).thenReturn(List.of(low, high));
+            ActivationScheduler scheduler = scheduler();
+
+            scheduler.reconcileAll();
+
+            verify(behaviorService, never()).start(anyString());
+            // The edge that just passed is queued, so the boundary ramps the batch.
+            assertThat(scheduler.drainDue(Instant.now()))
+                    .extracting(ActivationScheduler.Transition::groupId)
+                    .containsExactly("high", "low");
+        }
+
+        @Test
+        @DisplayName("a backstop pass during a ramp neither fires nor re-queues the edge already drained")
+        void backstopDuringRampKeepsPlan() {
+            BotGroup g = scheduledGroup("g1", openedSecondsAgo(2), BotGroupStatus.STOPPED);
+            when(repository.findByActivationMode(ActivationMode.SCHEDULED)).thenReturn(List.of(g));
+            ActivationScheduler scheduler = scheduler();
+            scheduler.reconcileAll();
+            assertThat(scheduler.drainDue(Instant.now())).hasSize(1);
+
+            scheduler.reconcileAll();
+
+            verify(behaviorService, never()).start(anyString());
+            assertThat(scheduler.drainDue(Instant.now())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("a write that leaves the mode and window alone does not reconcile again")
+        void unchangedWriteIgnored() {
+            BotGroup g = scheduledGroup("g1", closedNowWindow(), BotGroupStatus.STOPPED);
+            when(repository.findByActivationMode(ActivationMode.SCHEDULED)).thenReturn(List.of(g));
+            when(repository.findById("g1")).thenReturn(Optional.of(g));
+            idle("g1", false);
+            ActivationScheduler scheduler = scheduler();
+            scheduler.reconcileAll();
+
+            scheduler.groupChanged("g1");
+
+            verify(behaviorService, times(1)).isGroupRunning("g1");
+        }
+
+        @Test
+        @DisplayName("a window edit reconciles at once and re-plans the group")
+        void windowEditReconciles() {
+            BotGroup g = scheduledGroup("g1", closedNowWindow(), BotGroupStatus.STOPPED);
+            when(repository.findByActivationMode(ActivationMode.SCHEDULED)).thenReturn(List.of(g));
+            idle("g1", false);
+            ActivationScheduler scheduler = scheduler();
+            scheduler.reconcileAll();
+
+            BotGroup edited = scheduledGroup("g1", openNowWindow(), BotGroupStatus.STOPPED);
+            when(repository.findById("g1")).thenReturn(Optional.of(edited));
+            scheduler.groupChanged("g1");
+
+            verify(behaviorService).start("g1");
+            // The old opening edge is gone; the edited window's closing edge replaced it.
+            assertThat(scheduler.drainDue(Instant.now().plus(Duration.ofMinutes(90))))
+                    .extracting(ActivationScheduler.Transition::opens)
+                    .containsExactly(false);
+        }
+
+        @Test
+        @DisplayName("a group leaving SCHEDULED (or deleted) drops out of the queue")
+        void leavingScheduledDropsOut() {
+            BotGroup g = scheduledGroup("g1", closedNowWindow(), BotGroupStatus.STOPPED);
+            when(repository.findByActivationMode(ActivationMode.SCHEDULED)).thenReturn(List.of(g));
+            idle("g1", false);
+            ActivationScheduler scheduler = scheduler();
+            scheduler.reconcileAll();
+
+            when(repository.findById("g1")).thenReturn(Optional.empty());
+            scheduler.groupChanged("g1");
+
+            assertThat(scheduler.nextTransition()).isEmpty();
+        }
+    }
 }
@@ -1,12 +1,10 @@
 package com.vingame.bot.domain.botgroup.service;
 
-import com.vingame.bot.common.exception.ResourceNotFoundException;
 import com.vingame.bot.domain.bot.service.BotFactory;
 import com.vingame.bot.domain.botgroup.model.BotGroup;
 import com.vingame.bot.domain.botgroup.model.BotGroupFilter;
 import com.vingame.bot.domain.botgroup.sort.BotGroupSortRow;
 import com.vingame.bot.domain.environment.service.EnvironmentService;
-import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.domain.game.model.GameType;
 import com.vingame.bot.domain.game.service.GameService;
 import com.vingame.bot.infrastructure.observability.BotMetrics;
@@ -16,18 +14,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -35,7 +40,7 @@ import static org.mockito.Mockito.when;
  * Verifies the load → enrich → sort wiring (AD-11):
  * <ul>
  *   <li>env-scoped groups come from {@link BotGroupService#filter};</li>
- *   <li>the resolved {@code gameType} is looked up once per <em>distinct</em> gameId;</li>
+ *   <li>the {@code gameType}s are resolved in one batched lookup, however many groups;</li>
  *   <li>a missing game resolves to a {@code null} gameType (N/A) without aborting;</li>
  *   <li>rows are returned in sorted order (in-memory).</li>
  * </ul>
@@ -60,8 +65,6 @@ class BotGroupBehaviorServiceFilterSortedTest {
         ReflectionTestUtils.setField(service, "botCreationParallelism", 10);
         ReflectionTestUtils.setField(service, "watchdogTimeoutSeconds", 180L);
         ReflectionTestUtils.setField(service, "periodicLogoutEnabled", true);
-        ReflectionTestUtils.setField(service, "periodicLogoutIntervalMinutes", 60);
-        ReflectionTestUtils.setField(service, "reconnectDelaySeconds", 5);
     }
 
     @AfterEach
@@ -73,7 +76,7 @@ class BotGroupBehaviorServiceFilterSortedTest {
     }
 
     @Test
-    @DisplayName("Loads env-scoped groups, resolves gameType once per distinct id, sorts in-memory")
+    @DisplayName("Loads env-scoped groups, resolves gameTypes in one batch of distinct ids, sorts in-memory")
     void loadsEnrichesSorts() {
         BotGroup g1 = BotGroup.builder().id("g1").name("Charlie").gameId("game-slot").build();
         BotGroup g2 = BotGroup.builder().id("g2").name("Alpha").gameId("game-betting").build();
@@ -85,10 +88,8 @@ class BotGroupBehaviorServiceFilterSortedTest {
 
         when(botGroupService.filter(eq("env-1"), any(BotGroupFilter.class)))
                 .thenReturn(List.of(g1, g2, g3));
-        when(gameService.findById("game-slot"))
-                .thenReturn(Game.builder().id("game-slot").gameType(GameType.SLOT).build());
-        when(gameService.findById("game-betting"))
-                .thenReturn(Game.builder().id("game-betting").gameType(GameType.BETTING_MINI).build());
+        when(gameService.findGameTypes(Set.of("game-slot", "game-betting")))
+                .thenReturn(Map.of("game-slot", GameType.SLOT, "game-betting", GameType.BETTING_MINI));
 
         List<BotGroupSortRow> rows = service.filterSorted("env-1", filter);
 
@@ -102,9 +103,45 @@ class BotGroupBehaviorServiceFilterSortedTest {
             assertThat(r.stats()).isNotNull();
             assertThat(r.stats().getActiveBots()).isNull();
         });
-        // "game-slot" is shared by g1 and g3 → looked up exactly once.
-        verify(gameService, times(1)).findById("game-slot");
-        verify(gameService, times(1)).findById("game-betting");
+        // "game-slot" is shared by g1 and g3 → one batch of the two distinct ids.
+        verify(gameService, times(1)).findGameTypes(any());
+        verify(gameService, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Cached rows are reused until a group write in their environment evicts them")
+    void cachedRowsEvictedOnWrite() {
+        ReflectionTestUtils.setField(service, "filterCacheMillis", 60_000L);
+        BotGroupFilter filter = new BotGroupFilter();
+        when(botGroupService.filter(eq("env-1"), any(BotGroupFilter.class)))
+                .thenReturn(List.of(BotGroup.builder().id("g1").name("Alpha").build()));
+
+        service.filterSorted("env-1", filter);
+        service.filterSorted("env-1", filter);
+        service.evictFilterRows("env-2");
+        service.filterSorted("env-1", filter);
+        verify(botGroupService, times(1)).filter(eq("env-1"), any(BotGroupFilter.class));
+
+        service.evictFilterRows("env-1");
+        service.filterSorted("env-1", filter);
+        verify(botGroupService, times(2)).filter(eq("env-1"), any(BotGroupFilter.class));
+    }
+
+    @ParameterizedTest(name = "{0} groups")
+    @ValueSource(ints = {1, 10, 500})
+    @DisplayName("Mongo round trips stay constant as the result grows")
+    void constantRoundTrips(int groupCount) {
+        List<BotGroup> groups = IntStream.range(0, groupCount)
+                .mapToObj(i -> BotGroup.builder().id("g" + i).name("G" + i).gameId("game-" + i).build())
+                .toList();
+        when(botGroupService.filter(eq("env-1"), any(BotGroupFilter.class))).thenReturn(groups);
+        when(gameService.findGameTypes(any())).thenReturn(Map.of());
+
+        assertThat(service.filterSorted("env-1", new BotGroupFilter())).hasSize(groupCount);
+
+        verify(botGroupService, times(1)).filter(eq("env-1"), any(BotGroupFilter.class));
+        verify(gameService, times(1)).findGameTypes(any());
+        verifyNoMoreInteractions(botGroupService, gameService);
     }
 
     @Test
@@ -130,8 +167,7 @@ class BotGroupBehaviorServiceFilterSortedTest {
 
         when(botGroupService.filter(eq("env-1"), any(BotGroupFilter.class)))
                 .thenReturn(List.of(g1));
-        when(gameService.findById("gone"))
-                .thenThrow(new ResourceNotFoundException("Game not found with id: gone"));
+        when(gameService.findGameTypes(Set.of("gone"))).thenReturn(Map.of());
 
         List<BotGroupSortRow> rows = service.filterSorted("env-1", new BotGroupFilter());
 
@@ -17,6 +17,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,22 +27,27 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 /**
  * BOTGROUP_GAME_MANAGEMENT Phase 5 — {@code BotGroupBehaviorService.filterGamesSorted}.
  * Verifies the load → enrich (aggregate over referencing groups) → sort wiring
  * (AD-11): games come from {@link GameService#filter}, the bot-group aggregates come
- * from {@link BotGroupService#findByGameId} (keyed on the Game Mongo {@code _id}), and
+ * from one batched {@link BotGroupService#findSummariesByGameIds} (keyed on the Game
+ * Mongo {@code _id}), and
  * the enriched rows are returned in sorted order. No runtimes are registered here, so
  * the active-* aggregates are 0 (→ N/A); the configured aggregates are asserted.
  */
@@ -63,8 +70,6 @@ class BotGroupBehaviorServiceGameFilterSortedTest {
         ReflectionTestUtils.setField(service, "botCreationParallelism", 10);
         ReflectionTestUtils.setField(service, "watchdogTimeoutSeconds", 180L);
         ReflectionTestUtils.setField(service, "periodicLogoutEnabled", true);
-        ReflectionTestUtils.setField(service, "periodicLogoutIntervalMinutes", 60);
-        ReflectionTestUtils.setField(service, "reconnectDelaySeconds", 5);
     }
 
     @AfterEach
@@ -87,13 +92,11 @@ class BotGroupBehaviorServiceGameFilterSortedTest {
 
         when(gameService.filter(eq(BrandCode.G2), eq(ProductCode.P_097), eq("env-1"), any(GameFilter.class)))
                 .thenReturn(List.of(gameA, gameB));
-        // g-a: two groups, botCount 5 + 15 = 20
-        when(botGroupService.findByGameId("g-a")).thenReturn(List.of(
+        // g-a: two groups, botCount 5 + 15 = 20; g-b: one group, botCount 3
+        when(botGroupService.findSummariesByGameIds(Set.of("g-a", "g-b"))).thenReturn(List.of(
                 BotGroup.builder().id("grp-a1").gameId("g-a").botCount(5).build(),
+                BotGroup.builder().id("grp-b1").gameId("g-b").botCount(3).build(),
                 BotGroup.builder().id("grp-a2").gameId("g-a").botCount(15).build()));
-        // g-b: one group, botCount 3
-        when(botGroupService.findByGameId("g-b")).thenReturn(List.of(
-                BotGroup.builder().id("grp-b1").gameId("g-b").botCount(3).build()));
 
         List<GameSortRow> rows = service.filterGamesSorted(BrandCode.G2, ProductCode.P_097, "env-1", filter);
 
@@ -110,8 +113,29 @@ class BotGroupBehaviorServiceGameFilterSortedTest {
             assertThat(r.activeBotCount()).isZero();
             assertThat(r.active()).isFalse();
         });
-        verify(botGroupService, times(1)).findByGameId("g-a");
-        verify(botGroupService, times(1)).findByGameId("g-b");
+        verify(botGroupService, times(1)).findSummariesByGameIds(any());
+        verify(botGroupService, never()).findByGameId(any());
+    }
+
+    @ParameterizedTest(name = "{0} games")
+    @ValueSource(ints = {1, 10, 500})
+    @DisplayName("Mongo round trips stay constant as the result grows")
+    void constantRoundTrips(int gameCount) {
+        List<Game> games = IntStream.range(0, gameCount)
+                .mapToObj(i -> Game.builder().id("g-" + i).name("Game " + i).build())
+                .toList();
+        List<BotGroup> groups = IntStream.range(0, gameCount * 3)
+                .mapToObj(i -> BotGroup.builder().id("grp-" + i).gameId("g-" + (i % gameCount)).botCount(1).build())
+                .toList();
+        when(gameService.filter(any(), any(), eq("env-1"), any(GameFilter.class))).thenReturn(games);
+        when(botGroupService.findSummariesByGameIds(any())).thenReturn(groups);
+
+        List<GameSortRow> rows = service.filterGamesSorted(BrandCode.G2, ProductCode.P_097, "env-1", new GameFilter());
+
+        assertThat(rows).hasSize(gameCount).allSatisfy(r -> assertThat(r.botGroupCount()).isEqualTo(3));
+        verify(gameService, times(1)).filter(any(), any(), eq("env-1"), any(GameFilter.class));
+        verify(botGroupService, times(1)).findSummariesByGameIds(any());
+        verifyNoMoreInteractions(botGroupService, gameService);
     }
 
     @Test
@@ -121,7 +145,7 @@ class BotGroupBehaviorServiceGameFilterSortedTest {
 
         when(gameService.filter(any(), any(), eq("env-1"), any(GameFilter.class)))
                 .thenReturn(List.of(gameA));
-        when(botGroupService.findByGameId("g-a")).thenReturn(List.of());
+        when(botGroupService.findSummariesByGameIds(any())).thenReturn(List.of());
 
         GameFilter filter = new GameFilter();
         filter.setSortBy("nonsense");
@@ -148,8 +172,8 @@ class BotGroupBehaviorServiceGameFilterSortedTest {
 
         when(gameService.filter(any(), any(), eq("env-1"), any(GameFilter.class)))
                 .thenReturn(List.of(active, idle));
-        when(botGroupService.findByGameId("g-active")).thenReturn(List.of(a1, a2, a3));
-        when(botGroupService.findByGameId("g-idle")).thenReturn(List.of(b1));
+        when(botGroupService.findSummariesByGameIds(Set.of("g-active", "g-idle")))
+                .thenReturn(List.of(a1, b1, a2, a3));
 
         // Register runtimes: grp-a1 (4 running bots) and grp-a2 (2 running bots) are
         // ACTIVE; grp-a3 and grp-b1 have no runtime (not running).
@@ -1,9 +1,14 @@
 package com.vingame.bot.domain.botgroup.service;
 
+import com.vingame.bot.common.exception.BadRequestException;
 import com.vingame.bot.config.bot.BotConfiguration;
+import com.vingame.bot.domain.bot.coordination.BetCoordinator;
 import com.vingame.bot.domain.bot.core.Bot;
+import com.vingame.bot.domain.bot.core.BotStatus;
 import com.vingame.bot.domain.bot.service.BotFactory;
 import com.vingame.bot.domain.botgroup.model.BotGroup;
+import com.vingame.bot.domain.botgroup.model.BotGroupStatus;
+import com.vingame.bot.domain.botgroup.model.RestartMode;
 import com.vingame.bot.domain.environment.model.Environment;
 import com.vingame.bot.domain.environment.service.EnvironmentService;
 import com.vingame.bot.domain.game.model.Game;
@@ -12,12 +17,14 @@ import com.vingame.bot.common.logging.BotMdc;
 import com.vingame.bot.infrastructure.observability.BotMdcTagsMeterFilter;
 import com.vingame.bot.infrastructure.observability.BotMetrics;
 import com.vingame.bot.infrastructure.observability.SessionAggregationService;
+import com.vingame.bot.infrastructure.runtime.BotGroupRuntime;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -27,6 +34,7 @@ import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.logging.log4j.core.layout.PatternLayout;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,6 +42,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -43,8 +53,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -92,8 +106,6 @@ class BotGroupBehaviorServiceRestartTest {
         ReflectionTestUtils.setField(service, "botCreationParallelism", 10);
         ReflectionTestUtils.setField(service, "watchdogTimeoutSeconds", 180L);
         ReflectionTestUtils.setField(service, "periodicLogoutEnabled", false);
-        ReflectionTestUtils.setField(service, "periodicLogoutIntervalMinutes", 60);
-        ReflectionTestUtils.setField(service, "reconnectDelaySeconds", 5);
     }
 
     @AfterEach
@@ -183,6 +195,155 @@ class BotGroupBehaviorServiceRestartTest {
                 .hasMessageContaining("0/3");
     }
 
+    /* ----- Rolling restart ----- */
+
+    @Nested
+    @DisplayName("restart(ROLLING)")
+    class RollingRestartTests {
+
+        private final BotGroup group = BotGroup.builder()
+                .id("g-1").name("Group").environmentId("env-1").gameId("game-1")
+                .botCount(4).namePrefix("bot").password("pass").build();
+
+        @BeforeEach
+        void setUpGroup() {
+            ReflectionTestUtils.setField(service, "restartWavePercent", 10);
+            ReflectionTestUtils.setField(service, "restartWaveTimeoutSeconds", 1L);
+            lenient().when(botGroupService.findById("g-1")).thenReturn(group);
+            lenient().when(environmentService.findById("env-1")).thenReturn(Environment.builder()
+                    .id("env-1").name("env").customZone(true).miniZoneName("zone").build());
+            lenient().when(gameService.findById("game-1"))
+                    .thenReturn(Game.builder().id("game-1").name("BauCua").build());
+        }
+
+        /** A bot built from the factory's configuration, reporting {@code status}. */
+        private Bot configuredBot(BotConfiguration configuration, BotStatus status) {
+            Bot bot = stubBot(configuration.getCredentials().getUsername());
+            lenient().when(bot.getConfiguration()).thenReturn(configuration);
+            lenient().when(bot.getStatus()).thenReturn(status);
+            return bot;
+        }
+
+        /** Start the group with 4 authenticated bots and return them in slot order. */
+        private List<Bot> startGroup() {
+            when(botFactory.createBot(anyString(), any(BotConfiguration.class)))
+                    .thenAnswer(inv -> configuredBot(inv.getArgument(1), BotStatus.STARTED));
+            service.start("g-1");
+            return List.copyOf(runtime().getBotInstances());
+        }
+
+        /** Replacements come from the factory logged in but not connected. */
+        private void replaceWith(BotStatus status) {
+            when(botFactory.createBot(anyString(), any(BotConfiguration.class), eq(false)))
+                    .thenAnswer(inv -> configuredBot(inv.getArgument(1), status));
+        }
+
+        @SuppressWarnings("unchecked")
+        private BotGroupRuntime runtime() {
+            return ((Map<String, BotGroupRuntime>) ReflectionTestUtils.getField(service, "runningGroups")).get("g-1");
+        }
+
+        @Test
+        @DisplayName("Replaces every bot slot for slot on the same runtime, keeping the group coordinator")
+        void replacesEveryBotInWaves() {
+            List<Bot> original = startGroup();
+            replaceWith(BotStatus.STARTED);
+            BotGroupRuntime runtime = runtime();
+            BetCoordinator coordinator = mock(BetCoordinator.class);
+            runtime.setCoordinator(coordinator);
+
+            service.restart("g-1", RestartMode.ROLLING, 50);
+
+            assertThat(runtime()).isSameAs(runtime);
+            assertThat(runtime.getActualStatus()).isEqualTo(BotGroupStatus.ACTIVE);
+            List<Bot> replaced = runtime.getBotInstances();
+            assertThat(replaced).hasSize(4).doesNotContainAnyElementsOf(original);
+            for (int i = 0; i < 4; i++) {
+                assertThat(replaced.get(i).getConfiguration().getBotIndex())
+                        .isEqualTo(original.get(i).getConfiguration().getBotIndex());
+                verify(replaced.get(i)).setCoordinator(coordinator);
+                // The old bot is cleaned up before its replacement connects, off the runtime monitor.
+                verify(replaced.get(i), timeout(1000)).start();
+                InOrder order = inOrder(original.get(i), replaced.get(i));
+                order.verify(original.get(i)).cleanup();
+                order.verify(replaced.get(i)).connect();
+                order.verify(replaced.get(i)).start();
+            }
+            verify(botFactory, times(4)).createBot(anyString(), any(BotConfiguration.class));
+            verify(botFactory, times(4)).createBot(anyString(), any(BotConfiguration.class), eq(false));
+            // Only start() persisted the group; the rolling restart never stopped it.
+            verify(botGroupService, times(1)).save(any(BotGroup.class));
+        }
+
+        @Test
+        @DisplayName("Halts after a wave that leaves the group at the DEAD threshold, keeping the untouched bots")
+        void haltsWhenWaveIsUnhealthy() {
+            List<Bot> original = startGroup();
+            ReflectionTestUtils.setField(service, "deadBotGroupThreshold", 0.50);
+            replaceWith(BotStatus.DEAD);
+
+            assertThatThrownBy(() -> service.restart("g-1", RestartMode.ROLLING, 50))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("wave 1/2")
+                    .hasMessageContaining("2/4");
+
+            List<Bot> bots = runtime().getBotInstances();
+            assertThat(bots.subList(2, 4)).containsExactlyElementsOf(original.subList(2, 4));
+            verify(original.get(2), never()).cleanup();
+            verify(original.get(3), never()).cleanup();
+        }
+
+        @Test
+        @DisplayName("Keeps a wave's bots playing when none of their replacements can be created")
+        void keepsBotsWhoseReplacementFailed() {
+            List<Bot> original = startGroup();
+            doThrow(new RuntimeException("auth failed"))
+                    .when(botFactory).createBot(anyString(), any(BotConfiguration.class), eq(false));
+
+            assertThatThrownBy(() -> service.restart("g-1", RestartMode.ROLLING, 50))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("no replacement");
+
+            assertThat(runtime().getBotInstances()).containsExactlyElementsOf(original);
+            original.forEach(bot -> verify(bot, never()).cleanup());
+            verify(botMetrics, times(2)).incBotCreationFailure(eq("auth"));
+        }
+
+        @Test
+        @DisplayName("Rejects a wave percent outside 1-100")
+        void rejectsInvalidWavePercent() {
+            assertThatThrownBy(() -> service.restart("g-1", RestartMode.ROLLING, 0))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> service.restart("g-1", RestartMode.ROLLING, 101))
+                    .isInstanceOf(BadRequestException.class);
+        }
+
+        @Test
+        @DisplayName("Rejects a background rolling restart while one of the group is in progress")
+        @SuppressWarnings("unchecked")
+        void rejectsBackgroundRestartInProgress() {
+            ((Set<String>) ReflectionTestUtils.getField(service, "rollingRestarts")).add("g-1");
+
+            assertThatThrownBy(() -> service.startRollingRestart("g-1", 50))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("already in progress");
+            assertThatThrownBy(() -> service.startRollingRestart("g-1", 0))
+                    .isInstanceOf(BadRequestException.class);
+        }
+
+        @Test
+        @DisplayName("Falls back to a full restart for a group that is not running")
+        void fallsBackToFullRestartWhenNotRunning() {
+            when(botFactory.createBot(anyString(), any(BotConfiguration.class)))
+                    .thenAnswer(inv -> configuredBot(inv.getArgument(1), BotStatus.STARTED));
+
+            service.restart("g-1", RestartMode.ROLLING, null);
+
+            assertThat(runtime().getBotInstances()).hasSize(4);
+            verify(botFactory, times(4)).createBot(anyString(), any(BotConfiguration.class));
+        }
+    }
+
     /* ----- Per-failure metric + log assertions (Architecture Decisions 5) ----- */
 
     @Test
@@ -382,13 +543,11 @@ class BotGroupBehaviorServiceRestartTest {
 
         BotGroupBehaviorService realMetricsService = new BotGroupBehaviorService(
                 botGroupService, environmentService, gameService, botFactory, realMetrics,
-                sessionAggregationService);
+                sessionAggregationService, com.vingame.bot.infrastructure.runtime.BotTimer.fallback(), null, null, null, null);
         ReflectionTestUtils.setField(realMetricsService, "deadBotGroupThreshold", 0.80);
         ReflectionTestUtils.setField(realMetricsService, "botCreationParallelism", 10);
         ReflectionTestUtils.setField(realMetricsService, "watchdogTimeoutSeconds", 180L);
         ReflectionTestUtils.setField(realMetricsService, "periodicLogoutEnabled", false);
-        ReflectionTestUtils.setField(realMetricsService, "periodicLogoutIntervalMinutes", 60);
-        ReflectionTestUtils.setField(realMetricsService, "reconnectDelaySeconds", 5);
 
         BotGroup group = BotGroup.builder()
                 .id("group-tagged").name("Group").environmentId("env-tagged").gameId("game-1")
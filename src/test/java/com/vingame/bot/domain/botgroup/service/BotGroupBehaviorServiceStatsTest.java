@@ -35,7 +35,7 @@ import static org.mockito.Mockito.mock;
  *   <li>AD-9: {@code roundsSinceRestart} = MAX of per-bot {@code roundsObserved};
  *       {@code activeTimeSeconds} derived from {@code startedAt}.</li>
  *   <li>AD-10 / Implementation Note 5: {@code averageBalance} / {@code averageWinning}
- *       are means over {@code isConnected()} bots ONLY, and {@code null} (never 0)
+ *       are means over connected bots ONLY, and {@code null} (never 0)
  *       when zero bots are active — even for a live runtime.</li>
  * </ul>
  */
@@ -58,8 +58,6 @@ class BotGroupBehaviorServiceStatsTest {
         ReflectionTestUtils.setField(service, "botCreationParallelism", 10);
         ReflectionTestUtils.setField(service, "watchdogTimeoutSeconds", 180L);
         ReflectionTestUtils.setField(service, "periodicLogoutEnabled", true);
-        ReflectionTestUtils.setField(service, "periodicLogoutIntervalMinutes", 60);
-        ReflectionTestUtils.setField(service, "reconnectDelaySeconds", 5);
     }
 
     @AfterEach
@@ -187,7 +185,18 @@ class BotGroupBehaviorServiceStatsTest {
         }
     }
 
+    /**
+     * Put {@code bots} in the runtime and feed its stats as the real bots' joinStats
+     * would (mocks cannot publish): rounds for every bot, balance and winnings for the
+     * connected ones.
+     */
     private static void putBots(BotGroupRuntime runtime, List<Bot> bots) {
+        for (Bot bot : bots) {
+            runtime.getStats().observeRounds(bot.getRoundsObserved().get());
+            if (bot.isConnected()) {
+                runtime.getStats().activate(bot.getExpectedBalance(), bot.getCumulativeWinnings().get());
+            }
+        }
         try {
             Field f = BotGroupRuntime.class.getDeclaredField("botInstances");
             f.setAccessible(true);
@@ -26,7 +26,9 @@ import com.vingame.bot.domain.game.model.GameType;
 import com.vingame.bot.domain.game.service.GameService;
 import com.vingame.bot.infrastructure.observability.BotMetrics;
 import com.vingame.bot.infrastructure.observability.SessionAggregationService;
+import com.vingame.bot.infrastructure.runtime.BotCensus;
 import com.vingame.bot.infrastructure.runtime.BotGroupRuntime;
+import com.vingame.bot.infrastructure.runtime.ConnectionRecycler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +39,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -47,7 +50,6 @@ import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -83,6 +85,12 @@ class BotGroupBehaviorServiceTest {
     @Mock
     private SessionAggregationService sessionAggregationService;
 
+    @Mock
+    private ConnectionRecycler connectionRecycler;
+
+    @Spy
+    private BotCensus botCensus = new BotCensus();
+
     @Captor
     private ArgumentCaptor<BotGroup> botGroupCaptor;
 
@@ -96,8 +104,6 @@ class BotGroupBehaviorServiceTest {
         ReflectionTestUtils.setField(service, "botCreationParallelism", 10);
         ReflectionTestUtils.setField(service, "watchdogTimeoutSeconds", 180L);
         ReflectionTestUtils.setField(service, "periodicLogoutEnabled", true);
-        ReflectionTestUtils.setField(service, "periodicLogoutIntervalMinutes", 60);
-        ReflectionTestUtils.setField(service, "reconnectDelaySeconds", 5);
     }
 
     @AfterEach
@@ -133,12 +139,12 @@ class BotGroupBehaviorServiceTest {
         }
     }
 
-    private static void invokePrivateStartPeriodicLogoutScheduler(BotGroupBehaviorService service,
-                                                                   BotGroupRuntime runtime,
-                                                                   Environment env) {
+    private static void invokePrivateRegisterForRecycling(BotGroupBehaviorService service,
+                                                          BotGroupRuntime runtime,
+                                                          Environment env) {
         try {
             Method m = BotGroupBehaviorService.class.getDeclaredMethod(
-                    "startPeriodicLogoutScheduler", BotGroupRuntime.class, Environment.class);
+                    "registerForRecycling", BotGroupRuntime.class, Environment.class);
             m.setAccessible(true);
             m.invoke(service, runtime, env);
         } catch (InvocationTargetException ite) {
@@ -149,6 +155,10 @@ class BotGroupBehaviorServiceTest {
         }
     }
 
+    /**
+     * Put {@code bots} in the runtime and count their stubbed statuses in its census,
+     * as a real bot's joinCensus would at startBot.
+     */
     private static void putBots(BotGroupRuntime runtime, List<Bot> bots) {
         try {
             Field f = BotGroupRuntime.class.getDeclaredField("botInstances");
@@ -160,6 +170,17 @@ class BotGroupBehaviorServiceTest {
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        for (Bot bot : bots) {
+            if (bot.getStatus() != null) {
+                runtime.getCensus().add(bot.getStatus());
+            }
+        }
+    }
+
+    /** Roll the runtime's census up into the service's per-game / per-env counts, as start() does. */
+    private void linkCensus(BotGroupRuntime runtime, Game game) {
+        runtime.setCensus(botCensus.forGroup(runtime.getEnvironmentId(),
+                new BotCensus.GameKey(game.getId(), game.getName(), game.getGameType().name())));
     }
 
     @Nested
@@ -795,11 +816,11 @@ class BotGroupBehaviorServiceTest {
     }
 
     @Nested
-    @DisplayName("startPeriodicLogoutScheduler - env overrides global")
+    @DisplayName("registerForRecycling - env overrides global")
     class PeriodicLogoutConfigTests {
 
         @Test
-        @DisplayName("Env enabled=false beats global enabled=true (scheduler is not started)")
+        @DisplayName("Env enabled=false beats global enabled=true (group is not recycled)")
         void envFalseBeatsGlobalTrue() {
             BotGroupRuntime runtime = new BotGroupRuntime("g-1", 1, "env-1");
             try {
@@ -812,70 +833,37 @@ class BotGroupBehaviorServiceTest {
                         .periodicLogoutEnabled(false)
                         .build();
 
-                invokePrivateStartPeriodicLogoutScheduler(service, runtime, env);
+                invokePrivateRegisterForRecycling(service, runtime, env);
 
-                assertThat(runtime.getLogoutScheduler()).isNull();
+                verify(connectionRecycler, never()).register(any());
             } finally {
                 runtime.getExecutor().shutdownNow();
-                ScheduledExecutorService s = runtime.getLogoutScheduler();
-                if (s != null) s.shutdownNow();
             }
         }
 
         @Test
-        @DisplayName("Env enabled=null falls back to global enabled=true (scheduler is started)")
+        @DisplayName("Env enabled=null falls back to global enabled=true (group is recycled)")
         void envNullUsesGlobalTrue() {
             BotGroupRuntime runtime = new BotGroupRuntime("g-1", 1, "env-1");
-            ScheduledExecutorService createdScheduler = null;
             try {
                 putBots(runtime, List.of(mock(Bot.class)));
 
                 Environment env = Environment.builder()
                         .id("env-1")
                         .name("env")
-                        // periodicLogoutEnabled and periodicLogoutIntervalMinutes both null
+                        // periodicLogoutEnabled null
                         .build();
 
-                invokePrivateStartPeriodicLogoutScheduler(service, runtime, env);
+                invokePrivateRegisterForRecycling(service, runtime, env);
 
-                createdScheduler = runtime.getLogoutScheduler();
-                assertThat(createdScheduler).isNotNull();
-                assertThat(createdScheduler.isShutdown()).isFalse();
+                verify(connectionRecycler).register(runtime);
             } finally {
-                if (createdScheduler != null) createdScheduler.shutdownNow();
                 runtime.getExecutor().shutdownNow();
             }
         }
 
         @Test
-        @DisplayName("Env enabled=true with custom interval starts scheduler (uses env's interval)")
-        void envTrueWithCustomInterval() {
-            BotGroupRuntime runtime = new BotGroupRuntime("g-1", 1, "env-1");
-            ScheduledExecutorService createdScheduler = null;
-            try {
-                putBots(runtime, List.of(mock(Bot.class)));
-
-                Environment env = Environment.builder()
-                        .id("env-1")
-                        .name("env")
-                        .periodicLogoutEnabled(true)
-                        .periodicLogoutIntervalMinutes(30)
-                        .build();
-
-                invokePrivateStartPeriodicLogoutScheduler(service, runtime, env);
-
-                createdScheduler = runtime.getLogoutScheduler();
-                assertThat(createdScheduler).isNotNull();
-                // Hard to assert interval directly without firing the task; existence is the
-                // best we can do given the private scheduler internals.
-            } finally {
-                if (createdScheduler != null) createdScheduler.shutdownNow();
-                runtime.getExecutor().shutdownNow();
-            }
-        }
-
-        @Test
-        @DisplayName("Global enabled=false (no env override) means scheduler is not started")
+        @DisplayName("Global enabled=false (no env override) means the group is not recycled")
         void globalFalseNoOverride() {
             ReflectionTestUtils.setField(service, "periodicLogoutEnabled", false);
 
@@ -889,17 +877,17 @@ class BotGroupBehaviorServiceTest {
                         // periodicLogoutEnabled null → fall back to global (false)
                         .build();
 
-                invokePrivateStartPeriodicLogoutScheduler(service, runtime, env);
+                invokePrivateRegisterForRecycling(service, runtime, env);
 
-                assertThat(runtime.getLogoutScheduler()).isNull();
+                verify(connectionRecycler, never()).register(any());
             } finally {
                 runtime.getExecutor().shutdownNow();
             }
         }
 
         @Test
-        @DisplayName("Empty bot list skips scheduler setup even when enabled")
-        void emptyBotsSkipsScheduler() {
+        @DisplayName("Empty bot list skips recycling even when enabled")
+        void emptyBotsSkipsRecycling() {
             BotGroupRuntime runtime = new BotGroupRuntime("g-1", 0, "env-1");
             try {
                 // no bots added
@@ -909,13 +897,25 @@ class BotGroupBehaviorServiceTest {
                         .periodicLogoutEnabled(true)
                         .build();
 
-                invokePrivateStartPeriodicLogoutScheduler(service, runtime, env);
+                invokePrivateRegisterForRecycling(service, runtime, env);
 
-                assertThat(runtime.getLogoutScheduler()).isNull();
+                verify(connectionRecycler, never()).register(any());
             } finally {
                 runtime.getExecutor().shutdownNow();
             }
         }
+
+        @Test
+        @DisplayName("stop unregisters the group from recycling")
+        void stopUnregisters() {
+            BotGroupRuntime runtime = new BotGroupRuntime("g-1", 0, "env-1");
+            runningGroups().put("g-1", runtime);
+            when(botGroupService.findById("g-1")).thenReturn(BotGroup.builder().id("g-1").build());
+
+            service.stop("g-1");
+
+            verify(connectionRecycler).unregister("g-1");
+        }
     }
 
     @Nested
@@ -1725,6 +1725,8 @@ class BotGroupBehaviorServiceTest {
             BotGroupRuntime r2 = new BotGroupRuntime("g-2", 0, "env-1", "Staging");
             try {
                 // two bots on the same game (must dedupe) + one on another game
+                linkCensus(r1, bauCua);
+                linkCensus(r2, slot);
                 putBots(r1, List.of(mockBotWithGame(BotStatus.CONNECTION_AUTHENTICATED, bauCua),
                         mockBotWithGame(BotStatus.STARTED, bauCua)));
                 putBots(r2, List.of(mockBotWithGame(BotStatus.CONNECTION_AUTHENTICATED, slot)));
@@ -1779,6 +1781,7 @@ class BotGroupBehaviorServiceTest {
             Game bauCua = game("game-uuid-1", "BauCua", GameType.BETTING_MINI);
             BotGroupRuntime r1 = new BotGroupRuntime("g-1", 0, "env-1", "Staging");
             try {
+                linkCensus(r1, bauCua);
                 putBots(r1, List.of(
                         mockBotWithGame(BotStatus.CONNECTION_AUTHENTICATED, bauCua),
                         mockBotWithGame(BotStatus.CONNECTION_AUTHENTICATED, bauCua),
@@ -1808,6 +1811,8 @@ class BotGroupBehaviorServiceTest {
             BotGroupRuntime r1 = new BotGroupRuntime("g-1", 0, "env-1", "Staging");
             BotGroupRuntime r2 = new BotGroupRuntime("g-2", 0, "env-1", "Staging");
             try {
+                linkCensus(r1, bauCua);
+                linkCensus(r2, slot);
                 putBots(r1, List.of(
                         mockBotWithGame(BotStatus.CONNECTION_AUTHENTICATED, bauCua),
                         mockBotWithGame(BotStatus.DEAD, bauCua)));
@@ -1840,6 +1845,35 @@ class BotGroupBehaviorServiceTest {
         return g;
     }
 
+    @Nested
+    @DisplayName("shutdown - drains running groups")
+    class ShutdownDrainTests {
+
+        @Test
+        @DisplayName("Tears down every running group's bots and stops managing them, without persisting STOPPED")
+        void drainsEveryGroup() {
+            BotGroupRuntime first = new BotGroupRuntime("g-1", 2, "env-1");
+            BotGroupRuntime second = new BotGroupRuntime("g-2", 1, "env-2");
+            Bot a = mock(Bot.class);
+            Bot b = mock(Bot.class);
+            Bot c = mock(Bot.class);
+            putBots(first, List.of(a, b));
+            putBots(second, List.of(c));
+            runningGroups().put("g-1", first);
+            runningGroups().put("g-2", second);
+
+            service.shutdown();
+
+            verify(a).cleanup();
+            verify(b).cleanup();
+            verify(c).cleanup();
+            assertThat(first.getExecutor().isShutdown()).isTrue();
+            assertThat(second.getExecutor().isShutdown()).isTrue();
+            assertThat(runningGroups()).isEmpty();
+            verify(botGroupService, never()).save(any(BotGroup.class));
+        }
+    }
+
     private static Bot mockBotWithGame(BotStatus status, Game game) {
         Bot b = mock(Bot.class);
         BotConfiguration config = BotConfiguration.builder()
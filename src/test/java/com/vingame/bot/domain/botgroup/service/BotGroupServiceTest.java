@@ -3,8 +3,6 @@ package com.vingame.bot.domain.botgroup.service;
 import com.vingame.bot.common.exception.BadRequestException;
 import com.vingame.bot.common.exception.ResourceNotFoundException;
 import com.vingame.bot.common.exception.UpstreamRegistrationException;
-import com.vingame.bot.config.client.EnvironmentClientRegistry;
-import com.vingame.bot.config.client.EnvironmentClients;
 import com.vingame.bot.domain.botgroup.dto.BotGroupDTO;
 import com.vingame.bot.domain.botgroup.mapper.BotGroupMapper;
 import com.vingame.bot.domain.botgroup.model.BotGroup;
@@ -17,7 +15,7 @@ import com.vingame.bot.domain.environment.model.Environment;
 import com.vingame.bot.domain.environment.service.EnvironmentService;
 import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.domain.game.service.GameService;
-import com.vingame.bot.infrastructure.client.ApiGatewayClient;
+import com.vingame.bot.domain.registration.service.RegistrationJobService;
 import com.vingame.bot.infrastructure.client.dto.UserRegistrationResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -56,9 +54,6 @@ class BotGroupServiceTest {
     @Mock
     private BotGroupMapper mapper;
 
-    @Mock
-    private EnvironmentClientRegistry clientRegistry;
-
     @Mock
     private EnvironmentService environmentService;
 
@@ -69,10 +64,7 @@ class BotGroupServiceTest {
     private MongoTemplate mongoTemplate;
 
     @Mock
-    private EnvironmentClients environmentClients;
-
-    @Mock
-    private ApiGatewayClient apiGatewayClient;
+    private RegistrationJobService registrationJobService;
 
     @Mock
     private BotGroupConfigValidationService configValidation;
@@ -257,6 +249,32 @@ class BotGroupServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findSummariesByGameIds")
+    class FindSummariesByGameIdsTests {
+
+        @Test
+        @DisplayName("One $in query over all the ids, loading only gameId and botCount")
+        void singleInQuery() {
+            List<BotGroup> expected = List.of(BotGroup.builder().id("1").gameId("g-a").botCount(5).build());
+            when(mongoTemplate.find(any(Query.class), eq(BotGroup.class))).thenReturn(expected);
+
+            assertThat(service.findSummariesByGameIds(List.of("g-a", "g-b"))).isEqualTo(expected);
+
+            verify(mongoTemplate).find(queryCaptor.capture(), eq(BotGroup.class));
+            Query query = queryCaptor.getValue();
+            assertThat(query.getQueryObject().toJson()).contains("$in").contains("g-a").contains("g-b");
+            assertThat(query.getFieldsObject().keySet()).containsExactlyInAnyOrder("gameId", "botCount");
+        }
+
+        @Test
+        @DisplayName("No ids → no query")
+        void emptyIds() {
+            assertThat(service.findSummariesByGameIds(List.of())).isEmpty();
+            verify(mongoTemplate, never()).find(any(Query.class), eq(BotGroup.class));
+        }
+    }
+
     @Nested
     @DisplayName("save - new group")
     class SaveNewGroupTests {
@@ -279,15 +297,13 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-1")).thenReturn(envWithoutCap());
-            when(clientRegistry.getClients("env-1")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers("bot", "pass", 5)).thenReturn(successResult);
+            when(registrationJobService.register("env-1", "bot", "pass", 5)).thenReturn(successResult);
             when(repository.save(any(BotGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
             BotGroup result = service.save(group);
 
             assertThat(result.getId()).isNotNull().isNotEmpty();
-            verify(apiGatewayClient).registerUsers("bot", "pass", 5);
+            verify(registrationJobService).register("env-1", "bot", "pass", 5);
             verify(repository).save(group);
         }
 
@@ -310,9 +326,7 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-1")).thenReturn(envWithoutCap());
-            when(clientRegistry.getClients("env-1")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers("bot", "pass", 5)).thenReturn(failResult);
+            when(registrationJobService.register("env-1", "bot", "pass", 5)).thenReturn(failResult);
 
             assertThatThrownBy(() -> service.save(group))
                     .isInstanceOf(UpstreamRegistrationException.class)
@@ -340,9 +354,7 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-1")).thenReturn(envWithoutCap());
-            when(clientRegistry.getClients("env-1")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers("bot", "pass", 5)).thenReturn(partialResult);
+            when(registrationJobService.register("env-1", "bot", "pass", 5)).thenReturn(partialResult);
             when(repository.save(any(BotGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
             BotGroup result = service.save(group);
@@ -370,7 +382,7 @@ class BotGroupServiceTest {
             BotGroup result = service.save(group);
 
             assertThat(result.getId()).isEqualTo("existing-id");
-            verify(clientRegistry, never()).getClients(anyString());
+            verify(registrationJobService, never()).register(anyString(), anyString(), anyString(), anyInt());
             verify(repository).save(group);
         }
     }
@@ -398,8 +410,7 @@ class BotGroupServiceTest {
             assertThat(result.getId()).isNotNull().isNotEmpty();
 
             // No environment client was looked up, no users registered
-            verify(clientRegistry, never()).getClients(anyString());
-            verify(apiGatewayClient, never()).registerUsers(anyString(), anyString(), anyInt());
+            verify(registrationJobService, never()).register(anyString(), anyString(), anyString(), anyInt());
             verify(repository).save(group);
         }
 
@@ -421,15 +432,13 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-1")).thenReturn(envWithoutCap());
-            when(clientRegistry.getClients("env-1")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers("bot", "pass", 3)).thenReturn(successResult);
+            when(registrationJobService.register("env-1", "bot", "pass", 3)).thenReturn(successResult);
             when(repository.save(any(BotGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
             BotGroup result = service.save(group, false);
 
             assertThat(result.getId()).isNotNull().isNotEmpty();
-            verify(apiGatewayClient).registerUsers("bot", "pass", 3);
+            verify(registrationJobService).register("env-1", "bot", "pass", 3);
             verify(repository).save(group);
         }
 
@@ -447,8 +456,7 @@ class BotGroupServiceTest {
             BotGroup result = service.save(group, true);
 
             assertThat(result.getId()).isEqualTo("existing-id");
-            verify(clientRegistry, never()).getClients(anyString());
-            verify(apiGatewayClient, never()).registerUsers(anyString(), anyString(), anyInt());
+            verify(registrationJobService, never()).register(anyString(), anyString(), anyString(), anyInt());
             verify(repository).save(group);
         }
 
@@ -470,14 +478,12 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-1")).thenReturn(envWithoutCap());
-            when(clientRegistry.getClients("env-1")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers("bot", "pass", 2)).thenReturn(successResult);
+            when(registrationJobService.register("env-1", "bot", "pass", 2)).thenReturn(successResult);
             when(repository.save(any(BotGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
             service.save(group);
 
-            verify(apiGatewayClient).registerUsers("bot", "pass", 2);
+            verify(registrationJobService).register("env-1", "bot", "pass", 2);
             verify(repository).save(group);
         }
     }
@@ -574,6 +580,8 @@ class BotGroupServiceTest {
             assertThat(saved.getActivationMode())
                     .isEqualTo(com.vingame.bot.domain.botgroup.model.ActivationMode.MANUAL_ON);
             assertThat(saved.getUpdatedAt()).isNotNull();
+            // The write reaches the filter endpoint's cached rows for the group's environment.
+            verify(behaviorService).evictFilterRows(saved.getEnvironmentId());
         }
     }
 
@@ -592,6 +600,14 @@ class BotGroupServiceTest {
             inOrder.verify(behaviorService).stopAndLogout("123");
             inOrder.verify(repository).deleteById("123");
         }
+
+        @Test
+        @DisplayName("Should drop the cached filter rows so the group leaves the list at once")
+        void shouldEvictFilterRows() {
+            service.delete("123");
+
+            verify(behaviorService).evictFilterRows(null);
+        }
     }
 
     @Nested
@@ -663,15 +679,13 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-tip")).thenReturn(envWithProductCode(ProductCode.P_116));
-            when(clientRegistry.getClients("env-tip")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers("authtest", "pass", 9999)).thenReturn(successResult);
+            when(registrationJobService.register("env-tip", "authtest", "pass", 9999)).thenReturn(successResult);
             when(repository.save(any(BotGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
             BotGroup result = service.save(group);
 
             assertThat(result.getId()).isNotNull().isNotEmpty();
-            verify(apiGatewayClient).registerUsers("authtest", "pass", 9999);
+            verify(registrationJobService).register("env-tip", "authtest", "pass", 9999);
             verify(repository).save(group);
         }
 
@@ -698,8 +712,7 @@ class BotGroupServiceTest {
                     .hasMessageContaining("12");
 
             // Pre-flight must run BEFORE any auth/registration fan-out and BEFORE persistence.
-            verify(clientRegistry, never()).getClients(anyString());
-            verify(apiGatewayClient, never()).registerUsers(anyString(), anyString(), anyInt());
+            verify(registrationJobService, never()).register(anyString(), anyString(), anyString(), anyInt());
             verify(repository, never()).save(any());
         }
 
@@ -722,9 +735,7 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-bom")).thenReturn(envWithProductCode(ProductCode.P_097));
-            when(clientRegistry.getClients("env-bom")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers(anyString(), eq("pass"), eq(50))).thenReturn(successResult);
+            when(registrationJobService.register(eq("env-bom"), anyString(), eq("pass"), eq(50))).thenReturn(successResult);
             when(repository.save(any(BotGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
             BotGroup result = service.save(group);
@@ -752,8 +763,7 @@ class BotGroupServiceTest {
 
             assertThat(result.getId()).isNotNull().isNotEmpty();
             verify(environmentService, never()).findById(anyString());
-            verify(clientRegistry, never()).getClients(anyString());
-            verify(apiGatewayClient, never()).registerUsers(anyString(), anyString(), anyInt());
+            verify(registrationJobService, never()).register(anyString(), anyString(), anyString(), anyInt());
         }
     }
 
@@ -783,8 +793,7 @@ class BotGroupServiceTest {
                     .hasMessageContaining("env-1");
 
             // Validation runs before any registration fan-out and before persistence.
-            verify(clientRegistry, never()).getClients(anyString());
-            verify(apiGatewayClient, never()).registerUsers(anyString(), anyString(), anyInt());
+            verify(registrationJobService, never()).register(anyString(), anyString(), anyString(), anyInt());
             verify(repository, never()).save(any());
         }
 
@@ -810,9 +819,7 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-1")).thenReturn(envWithoutCap());
-            when(clientRegistry.getClients("env-1")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers("bot", "pass", 3)).thenReturn(successResult);
+            when(registrationJobService.register("env-1", "bot", "pass", 3)).thenReturn(successResult);
             when(repository.save(any(BotGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
             BotGroup result = service.save(group);
@@ -843,9 +850,7 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-1")).thenReturn(envWithoutCap());
-            when(clientRegistry.getClients("env-1")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers("bot", "pass", 2)).thenReturn(successResult);
+            when(registrationJobService.register("env-1", "bot", "pass", 2)).thenReturn(successResult);
             when(repository.save(any(BotGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
             BotGroup result = service.save(group);
@@ -878,7 +883,7 @@ class BotGroupServiceTest {
                     .hasMessageContaining("env-1");
 
             // Rejected before persistence; the skip path never touched the registry either.
-            verify(clientRegistry, never()).getClients(anyString());
+            verify(registrationJobService, never()).register(anyString(), anyString(), anyString(), anyInt());
             verify(repository, never()).save(any());
         }
 
@@ -920,9 +925,7 @@ class BotGroupServiceTest {
                     .build();
 
             when(environmentService.findById("env-1")).thenReturn(envWithoutCap());
-            when(clientRegistry.getClients("env-1")).thenReturn(environmentClients);
-            when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
-            when(apiGatewayClient.registerUsers("bot", "pass", 2)).thenReturn(successResult);
+            when(registrationJobService.register("env-1", "bot", "pass", 2)).thenReturn(successResult);
             when(repository.save(any(BotGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
             service.save(group);
@@ -1,6 +1,5 @@
 package com.vingame.bot.domain.botgroup.service;
 
-import com.vingame.bot.config.client.EnvironmentClientRegistry;
 import com.vingame.bot.domain.botgroup.mapper.BotGroupMapper;
 import com.vingame.bot.domain.botgroup.model.BotGroup;
 import com.vingame.bot.domain.botgroup.repository.BotGroupRepository;
@@ -12,6 +11,7 @@ import com.vingame.bot.domain.game.mapper.GameMapper;
 import com.vingame.bot.domain.game.model.Game;
 import com.vingame.bot.domain.game.repository.GameRepository;
 import com.vingame.bot.domain.game.service.GameService;
+import com.vingame.bot.domain.registration.service.RegistrationJobService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -69,25 +69,28 @@ class CascadeDeleteChainTest {
         botGroupService = new BotGroupService(
                 botGroupRepo,
                 mock(BotGroupMapper.class),
-                mock(EnvironmentClientRegistry.class),
+                mock(RegistrationJobService.class),
                 mock(EnvironmentService.class),
                 mock(GameService.class),
                 mock(org.springframework.data.mongodb.core.MongoTemplate.class),
                 mock(BotGroupConfigValidationService.class),
-                behaviorService);
+                behaviorService,
+                null);
 
         gameService = new GameService(
                 gameRepo,
                 mock(GameMapper.class),
                 mock(org.springframework.data.mongodb.core.MongoTemplate.class),
-                botGroupService);
+                botGroupService,
+                null);
 
         environmentService = new EnvironmentService(
                 envRepo,
                 mock(EnvironmentMapper.class),
                 mock(org.springframework.data.mongodb.core.MongoTemplate.class),
                 gameService,
-                botGroupService);
+                botGroupService,
+                null);
     }
 
     @Test
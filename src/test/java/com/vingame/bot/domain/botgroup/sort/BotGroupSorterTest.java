@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -226,6 +227,48 @@ class BotGroupSorterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Paging")
+    class Paging {
+
+        private final List<BotGroupSortRow> rows = IntStream.range(0, 50)
+                .mapToObj(i -> row(BotGroup.builder().id("g" + i).name(String.format("N%02d", (i * 17) % 50)).build(),
+                        stats().build(), null, null))
+                .toList();
+
+        @Test
+        @DisplayName("Every page matches the same slice of the full sort")
+        void pagesMatchFullSort() {
+            List<String> all = ids(BotGroupSorter.sort(rows, "NAME", "desc"));
+            for (int page = 0; page < 6; page++) {
+                assertThat(ids(BotGroupSorter.page(rows, "NAME", "desc", page, 8)))
+                        .as("page %d", page)
+                        .containsExactlyElementsOf(all.subList(Math.min(page * 8, 50), Math.min(page * 8 + 8, 50)));
+            }
+        }
+
+        @Test
+        @DisplayName("A page past the end is empty")
+        void pastTheEnd() {
+            assertThat(BotGroupSorter.page(rows, "NAME", "asc", 10, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("A page index whose offset overflows int is an empty page, not an error")
+        void hugePageIsEmpty() {
+            assertThat(BotGroupSorter.page(rows, "NAME", "asc", Integer.MAX_VALUE, 1_000)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Negative page or non-positive size → BadRequestException (400)")
+        void invalidPaging() {
+            assertThatThrownBy(() -> BotGroupSorter.page(rows, "NAME", "asc", -1, 10))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> BotGroupSorter.page(rows, "NAME", "asc", 0, 0))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
     /* ---- helpers ---- */
 
     private static BotGroupSortRow row(BotGroup group, BotGroupStatsDTO stats, BotGroupStatus status, String gameType) {
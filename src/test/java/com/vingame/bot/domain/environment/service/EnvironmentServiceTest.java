@@ -358,21 +358,19 @@ class EnvironmentServiceTest {
         @DisplayName("Should populate periodicLogout defaults from app config when null")
         void shouldPopulatePeriodicLogoutDefaults() {
             ReflectionTestUtils.setField(service, "defaultPeriodicLogoutEnabled", true);
-            ReflectionTestUtils.setField(service, "defaultPeriodicLogoutIntervalMinutes", 60);
             Environment env = Environment.builder().name("New Env").headers(minimalHeaders()).build();
             when(repository.save(any(Environment.class))).thenAnswer(inv -> inv.getArgument(0));
 
             Environment result = service.save(env);
 
             assertThat(result.getPeriodicLogoutEnabled()).isTrue();
-            assertThat(result.getPeriodicLogoutIntervalMinutes()).isEqualTo(60);
+            assertThat(result.getPeriodicLogoutIntervalMinutes()).as("deprecated, not defaulted").isNull();
         }
 
         @Test
         @DisplayName("Should preserve explicit periodicLogout values from frontend")
         void shouldPreserveExplicitPeriodicLogoutValues() {
             ReflectionTestUtils.setField(service, "defaultPeriodicLogoutEnabled", true);
-            ReflectionTestUtils.setField(service, "defaultPeriodicLogoutIntervalMinutes", 60);
             Environment env = Environment.builder()
                     .name("New Env")
                     .headers(minimalHeaders())
@@ -162,5 +162,22 @@ class GameTest {
 
             assertThat(result).hasSize(3).containsKeys(0, 1, 2);
         }
+
+        @Test
+        @DisplayName("Hands out the same synthesized map until a legacy field changes")
+        void shouldReuseSynthesizedMapPerConfiguration() {
+            Game game = Game.builder()
+                    .numberOfOptions(3)
+                    .build();
+
+            Map<Integer, Integer> first = game.getEffectiveOptionAffinities();
+
+            assertThat(game.getEffectiveOptionAffinities()).isSameAs(first);
+            assertThatThrownBy(() -> first.put(9, 1)).isInstanceOf(UnsupportedOperationException.class);
+
+            game.setNumberOfOptions(2);
+
+            assertThat(game.getEffectiveOptionAffinities()).isNotSameAs(first).hasSize(2);
+        }
     }
 }
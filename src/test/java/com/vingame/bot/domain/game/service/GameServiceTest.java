@@ -22,13 +22,16 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -80,6 +83,32 @@ class GameServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findGameTypes")
+    class FindGameTypesTests {
+
+        @Test
+        @DisplayName("One $in query loading only gameType; missing ids are absent")
+        void singleInQuery() {
+            when(mongoTemplate.find(any(Query.class), eq(Game.class))).thenReturn(List.of(
+                    Game.builder().id("g-a").gameType(GameType.SLOT).build()));
+
+            Map<String, GameType> types = service.findGameTypes(Set.of("g-a", "gone"));
+
+            assertThat(types).containsExactly(Map.entry("g-a", GameType.SLOT));
+            verify(mongoTemplate).find(queryCaptor.capture(), eq(Game.class));
+            assertThat(queryCaptor.getValue().getQueryObject().toJson()).contains("$in");
+            assertThat(queryCaptor.getValue().getFieldsObject().keySet()).containsExactly("gameType");
+        }
+
+        @Test
+        @DisplayName("No ids → no query")
+        void emptyIds() {
+            assertThat(service.findGameTypes(Set.of())).isEmpty();
+            verify(mongoTemplate, never()).find(any(Query.class), eq(Game.class));
+        }
+    }
+
     @Nested
     @DisplayName("findByBrandProductEnv")
     class FindByBrandProductEnvTests {
@@ -0,0 +1,94 @@
+package com.vingame.bot.domain.registration.mapper;
+
+import com.vingame.bot.domain.registration.dto.RegistrationJobDTO;
+import com.vingame.bot.domain.registration.model.RegistrationJob;
+import com.vingame.bot.domain.registration.model.RegistrationJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RegistrationJobMapper")
+class RegistrationJobMapperTest {
+
+    private final RegistrationJobMapper mapper = Mappers.getMapper(RegistrationJobMapper.class);
+
+    private static final Instant START = Instant.parse("2026-01-01T12:00:00Z");
+
+    private static RegistrationJob running(int registered, int skipped, int failed) {
+        return RegistrationJob.builder()
+                .id("job-1")
+                .environmentId("env-1")
+                .namePrefix("bot")
+                .password("secret")
+                .botCount(10_000)
+                .status(RegistrationJobStatus.REGISTERING)
+                .runs(2)
+                .registered(registered)
+                .skipped(skipped)
+                .failed(failed)
+                .errors(List.of("Failed to register bot7: timeout"))
+                .createdAt(START.minusSeconds(3600))
+                .runStartedAt(START)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("toDTO")
+    class ToDTOTests {
+
+        @Test
+        @DisplayName("Should map counters and progress")
+        void shouldMapCountersAndProgress() {
+            RegistrationJobDTO dto = mapper.toDTO(running(2_500, 1_000, 0), START.plusSeconds(30));
+
+            assertThat(dto.getId()).isEqualTo("job-1");
+            assertThat(dto.getEnvironmentId()).isEqualTo("env-1");
+            assertThat(dto.getBotCount()).isEqualTo(10_000);
+            assertThat(dto.getRuns()).isEqualTo(2);
+            assertThat(dto.getRegistered()).isEqualTo(2_500);
+            assertThat(dto.getSkipped()).isEqualTo(1_000);
+            assertThat(dto.getProgressPercent()).isEqualTo(25.0);
+            assertThat(dto.getErrors()).containsExactly("Failed to register bot7: timeout");
+        }
+
+        @Test
+        @DisplayName("Should estimate the ETA from this run's throughput, ignoring skipped users")
+        void shouldEstimateEta() {
+            // 1,500 processed in 30s (50/s) this run, 7,500 left → 150s.
+            RegistrationJobDTO dto = mapper.toDTO(running(2_500, 1_000, 0), START.plusSeconds(30));
+
+            assertThat(dto.getEtaSeconds()).isEqualTo(150L);
+        }
+
+        @Test
+        @DisplayName("Should count failed users as processed, not remaining")
+        void shouldCountFailuresAsProcessed() {
+            // 1,000 registered + 500 failed in 30s (50/s), 8,500 left → 170s.
+            RegistrationJobDTO dto = mapper.toDTO(running(1_000, 0, 500), START.plusSeconds(30));
+
+            assertThat(dto.getEtaSeconds()).isEqualTo(170L);
+        }
+
+        @Test
+        @DisplayName("Should have no ETA before anything was processed or once registration is over")
+        void shouldHaveNoEtaWhenUnknown() {
+            assertThat(mapper.toDTO(running(1_000, 1_000, 0), START.plusSeconds(30)).getEtaSeconds()).isNull();
+
+            RegistrationJob naming = running(10_000, 0, 0);
+            naming.setStatus(RegistrationJobStatus.NAMING);
+            assertThat(mapper.toDTO(naming, START.plusSeconds(30)).getEtaSeconds()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return null for null entity")
+        void shouldReturnNullForNull() {
+            assertThat(mapper.toDTO(null)).isNull();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.vingame.bot.domain.registration.service;
+
+import com.vingame.bot.common.exception.BadRequestException;
+import com.vingame.bot.common.exception.RegistrationRejectedException;
+import com.vingame.bot.common.exception.ResourceNotFoundException;
+import com.vingame.bot.config.client.EnvironmentClientRegistry;
+import com.vingame.bot.config.client.EnvironmentClients;
+import com.vingame.bot.domain.registration.model.RegisteredUser;
+import com.vingame.bot.domain.registration.model.RegistrationJob;
+import com.vingame.bot.domain.registration.model.RegistrationJobStatus;
+import com.vingame.bot.domain.registration.repository.RegisteredUserRepository;
+import com.vingame.bot.domain.registration.repository.RegistrationJobRepository;
+import com.vingame.bot.infrastructure.client.ApiGatewayClient;
+import com.vingame.bot.infrastructure.client.DisplayNameService;
+import com.vingame.bot.infrastructure.client.dto.UserRegistrationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegistrationJobService")
+class RegistrationJobServiceTest {
+
+    private static final int DUPLICATE_USER = 409;
+
+    @Mock
+    private RegistrationJobRepository jobRepository;
+
+    @Mock
+    private RegisteredUserRepository userRepository;
+
+    @Mock
+    private EnvironmentClientRegistry clientRegistry;
+
+    @Mock
+    private EnvironmentClients environmentClients;
+
+    @Mock
+    private ApiGatewayClient apiGatewayClient;
+
+    @Mock
+    private DisplayNameService displayNameService;
+
+    private RegistrationJobService service;
+    private final List<RegisteredUser> checkpoints = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new RegistrationJobService(jobRepository, userRepository, clientRegistry, displayNameService,
+                4, 1, 8, 2, 1, Set.of(DUPLICATE_USER));
+        lenient().when(clientRegistry.getClients("env-1")).thenReturn(environmentClients);
+        lenient().when(environmentClients.getApiGatewayClient()).thenReturn(apiGatewayClient);
+        lenient().when(userRepository.saveAll(anyIterable())).thenAnswer(inv -> {
+            Iterable<RegisteredUser> users = inv.getArgument(0);
+            users.forEach(checkpoints::add);
+            return List.of();
+        });
+    }
+
+    private static RegisteredUser existing(String username) {
+        return RegisteredUser.builder()
+                .id(RegisteredUser.key("env-1", username))
+                .environmentId("env-1")
+                .username(username)
+                .displayNameSet(true)
+                .build();
+    }
+
+    private static CompletableFuture<ApiGatewayClient.RegistrationResult> registered() {
+        return CompletableFuture.completedFuture(new ApiGatewayClient.RegistrationResult("agency", "auth", "fp"));
+    }
+
+    private static <T> CompletableFuture<T> rejected(String message) {
+        return CompletableFuture.failedFuture(new RuntimeException(message));
+    }
+
+    private static <T> CompletableFuture<T> rejectedByGateway(String message, int code) {
+        return CompletableFuture.failedFuture(
+                new CompletionException(new RegistrationRejectedException(message, "ERROR", code)));
+    }
+
+    private List<String> checkpointedUsernames() {
+        return checkpoints.stream().map(RegisteredUser::getUsername).toList();
+    }
+
+    @Nested
+    @DisplayName("register")
+    class RegisterTests {
+
+        @Test
+        @DisplayName("Registers only the users without a checkpoint and counts the rest as skipped")
+        void skipsCheckpointedUsers() {
+            when(userRepository.findAllById(anyIterable())).thenReturn(List.of(existing("bot1"), existing("bot2")));
+            when(apiGatewayClient.registerUserAsync(anyString(), eq("pass"))).thenReturn(registered());
+
+            UserRegistrationResult result = service.register("env-1", "bot", "pass", 4);
+
+            verify(apiGatewayClient, never()).registerUserAsync(eq("bot1"), anyString());
+            verify(apiGatewayClient, never()).registerUserAsync(eq("bot2"), anyString());
+            verify(apiGatewayClient).registerUserAsync("bot3", "pass");
+            verify(apiGatewayClient).registerUserAsync("bot4", "pass");
+            assertThat(result.isAllSuccessful()).isTrue();
+            assertThat(result.getSuccessCount()).isEqualTo(4);
+            assertThat(checkpointedUsernames()).containsExactlyInAnyOrder("bot3", "bot4");
+            assertThat(checkpoints).allSatisfy(user -> {
+                assertThat(user.getId()).isEqualTo(RegisteredUser.key("env-1", user.getUsername()));
+                assertThat(user.isDisplayNameSet()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("Reports failed users as a partial success and checkpoints only the registered ones")
+        void partialFailure() {
+            when(userRepository.findAllById(anyIterable())).thenReturn(List.of());
+            when(apiGatewayClient.registerUserAsync(anyString(), anyString())).thenReturn(registered());
+            when(apiGatewayClient.registerUserAsync("bot2", "pass"))
+                    .thenReturn(rejected("Registration failed: IP denied (status: ERROR, code: 403)"));
+
+            UserRegistrationResult result = service.register("env-1", "bot", "pass", 3);
+
+            assertThat(result.isPartialSuccess()).isTrue();
+            assertThat(result.getSuccessCount()).isEqualTo(2);
+            assertThat(result.getFailureCount()).isEqualTo(1);
+            assertThat(result.getErrors()).singleElement().asString().contains("bot2").contains("IP denied");
+            assertThat(checkpointedUsernames()).containsExactlyInAnyOrder("bot1", "bot3");
+        }
+
+        @Test
+        @DisplayName("Counts a user the gateway already has as registered, leaving its display name alone")
+        void alreadyExistsOnGateway() {
+            when(userRepository.findAllById(anyIterable())).thenReturn(List.of());
+            when(apiGatewayClient.registerUserAsync("bot1", "pass"))
+                    .thenReturn(rejectedByGateway("Username already exists", DUPLICATE_USER));
+
+            UserRegistrationResult result = service.register("env-1", "bot", "pass", 1);
+
+            assertThat(result.isAllSuccessful()).isTrue();
+            assertThat(checkpoints).singleElement().satisfies(user -> {
+                assertThat(user.getUsername()).isEqualTo("bot1");
+                assertThat(user.isDisplayNameSet()).isTrue();
+            });
+        }
+
+        @Test
+        @DisplayName("A rejection whose message mentions an existing user but whose code is not a duplicate fails, uncheckpointed")
+        void existsMessageWithoutDuplicateCodeFails() {
+            when(userRepository.findAllById(anyIterable())).thenReturn(List.of());
+            when(apiGatewayClient.registerUserAsync("bot1", "pass"))
+                    .thenReturn(rejectedByGateway("Referrer does not exist", 400));
+            when(apiGatewayClient.registerUserAsync("bot2", "pass"))
+                    .thenReturn(rejected("Registration failed: Username already exists"));
+
+            UserRegistrationResult result = service.register("env-1", "bot", "pass", 2);
+
+            assertThat(result.getFailureCount()).isEqualTo(2);
+            assertThat(checkpoints).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Propagates an unknown environment before creating a job")
+        void unknownEnvironment() {
+            when(clientRegistry.getClients("env-x")).thenThrow(new ResourceNotFoundException("Environment not found"));
+
+            assertThatThrownBy(() -> service.register("env-x", "bot", "pass", 1))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verify(jobRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("resume")
+    class ResumeTests {
+
+        private RegistrationJob failedJob() {
+            return RegistrationJob.builder()
+                    .id("job-1")
+                    .environmentId("env-1")
+                    .namePrefix("bot")
+                    .password("pass")
+                    .botCount(2)
+                    .status(RegistrationJobStatus.INCOMPLETE)
+                    .runs(1)
+                    .registered(1)
+                    .failed(1)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Re-registers only the users still missing")
+        void redoesMissingUsers() {
+            RegistrationJob job = failedJob();
+            when(jobRepository.findById("job-1")).thenReturn(Optional.of(job));
+            when(userRepository.findAllById(anyIterable())).thenReturn(List.of(existing("bot1")));
+            when(apiGatewayClient.registerUserAsync("bot2", "pass")).thenReturn(registered());
+
+            RegistrationJob returned = service.resume("job-1");
+
+            assertThat(returned.getStatus()).isEqualTo(RegistrationJobStatus.REGISTERING);
+            verify(apiGatewayClient, timeout(5_000)).registerUserAsync("bot2", "pass");
+            verify(apiGatewayClient, never()).registerUserAsync(eq("bot1"), anyString());
+        }
+
+        @Test
+        @DisplayName("Rejects resuming a job that is still running")
+        void rejectsConcurrentResume() {
+            RegistrationJob job = failedJob();
+            CompletableFuture<ApiGatewayClient.RegistrationResult> pending = new CompletableFuture<>();
+            when(jobRepository.findById("job-1")).thenReturn(Optional.of(job));
+            when(userRepository.findAllById(anyIterable())).thenReturn(List.of(existing("bot1")));
+            when(apiGatewayClient.registerUserAsync("bot2", "pass")).thenReturn(pending);
+
+            service.resume("job-1");
+            verify(apiGatewayClient, timeout(5_000)).registerUserAsync("bot2", "pass");
+
+            assertThatThrownBy(() -> service.resume("job-1"))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("already running");
+            pending.complete(new ApiGatewayClient.RegistrationResult("agency", "auth", "fp"));
+        }
+
+        @Test
+        @DisplayName("Throws ResourceNotFoundException for an unknown job")
+        void unknownJob() {
+            when(jobRepository.findById("missing")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.resume("missing"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+}
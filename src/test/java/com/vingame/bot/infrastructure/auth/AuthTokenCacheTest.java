@@ -0,0 +1,230 @@
+package com.vingame.bot.infrastructure.auth;
+
+import com.vingame.websocketparser.auth.TokensProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies {@link AuthTokenCache}'s keying, expiry, guarded invalidation, persistence
+ * and meters.
+ */
+@DisplayName("AuthTokenCache")
+class AuthTokenCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry registry;
+    private AuthTokenCache cache;
+    private TokensProvider tokens;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new AuthTokenCache(registry, null, true, Duration.ofMinutes(30), now::get);
+        tokens = mock(TokensProvider.class);
+    }
+
+    @Nested
+    @DisplayName("Lookup")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Returns the stored tokens and fingerprint for the same environment and username only")
+        void keyedByEnvironmentAndUsername() {
+            cache.put("env-1", "bot1", tokens, "fp-1");
+
+            AuthTokenCache.CachedLogin hit = cache.get("env-1", "bot1");
+            assertThat(hit.tokens()).isSameAs(tokens);
+            assertThat(hit.fingerprint()).isEqualTo("fp-1");
+            assertThat(cache.get("env-2", "bot1")).isNull();
+            assertThat(cache.get("env-1", "bot2")).isNull();
+        }
+
+        @Test
+        @DisplayName("Entries expire after the TTL and are dropped on read")
+        void expiry() {
+            cache.put("env-1", "bot1", tokens, "fp-1");
+
+            now.addAndGet(Duration.ofMinutes(29).toMillis());
+            assertThat(cache.get("env-1", "bot1")).isNotNull();
+
+            now.addAndGet(Duration.ofMinutes(2).toMillis());
+            assertThat(cache.get("env-1", "bot1")).isNull();
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("A disabled cache stores nothing")
+        void disabled() {
+            AuthTokenCache off = new AuthTokenCache(null, null, false, Duration.ofMinutes(30), now::get);
+            off.put("env-1", "bot1", tokens, "fp-1");
+
+            assertThat(off.get("env-1", "bot1")).isNull();
+            assertThat(off.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Drops the rejected tokens")
+        void dropsRejected() {
+            cache.put("env-1", "bot1", tokens, "fp-1");
+
+            cache.invalidate("env-1", "bot1", tokens);
+
+            assertThat(cache.get("env-1", "bot1")).isNull();
+        }
+
+        @Test
+        @DisplayName("Keeps a fresher login that replaced the rejected one")
+        void keepsReplacement() {
+            TokensProvider fresh = mock(TokensProvider.class);
+            cache.put("env-1", "bot1", fresh, "fp-2");
+
+            cache.invalidate("env-1", "bot1", tokens);
+
+            assertThat(cache.get("env-1", "bot1").tokens()).isSameAs(fresh);
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence")
+    class PersistenceTests {
+
+        private StoredLoginRepository store;
+        private AuthTokenCache persisted;
+
+        @BeforeEach
+        void wireStore() {
+            store = mock(StoredLoginRepository.class);
+            when(store.findById(anyString())).thenReturn(Optional.empty());
+            persisted = new AuthTokenCache(registry, store, true, Duration.ofMinutes(30), now::get);
+            when(tokens.getAgencyToken()).thenReturn("agency");
+            when(tokens.getAuthToken()).thenReturn("auth");
+            when(tokens.getJwtToken()).thenReturn("jwt");
+        }
+
+        private StoredLogin stored(long expiresAtMillis) {
+            return StoredLogin.builder()
+                    .id("env-1:bot1")
+                    .agencyToken("agency").authToken("auth").jwtToken("jwt")
+                    .fingerprint("fp-1")
+                    .expiresAt(Instant.ofEpochMilli(expiresAtMillis))
+                    .build();
+        }
+
+        @Test
+        @DisplayName("A login is written with its tokens, fingerprint and expiry")
+        void writesLogin() {
+            persisted.put("env-1", "bot1", tokens, "fp-1");
+
+            verify(store).save(argThat(s ->
+                    s.getId().equals("env-1:bot1")
+                            && s.getAgencyToken().equals("agency")
+                            && s.getAuthToken().equals("auth")
+                            && s.getJwtToken().equals("jwt")
+                            && s.getFingerprint().equals("fp-1")
+                            && s.getExpiresAt().toEpochMilli() == now.get() + Duration.ofMinutes(30).toMillis()));
+        }
+
+        @Test
+        @DisplayName("A miss in memory is rehydrated from the store once, then served from memory")
+        void rehydratesLazily() {
+            when(store.findById("env-1:bot1")).thenReturn(Optional.of(stored(now.get() + 60_000L)));
+
+            AuthTokenCache.CachedLogin login = persisted.get("env-1", "bot1");
+
+            assertThat(login.tokens().getAgencyToken()).isEqualTo("agency");
+            assertThat(login.tokens().getAuthToken()).isEqualTo("auth");
+            assertThat(login.tokens().getJwtToken()).isEqualTo("jwt");
+            assertThat(login.fingerprint()).isEqualTo("fp-1");
+            assertThat(persisted.get("env-1", "bot1")).isSameAs(login);
+            verify(store).findById("env-1:bot1");
+            assertThat(registry.get(AuthTokenCache.AUTH_TOKEN_CACHE_TOTAL).tag("outcome", "rehydrated")
+                    .counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("An expired stored login is a miss")
+        void expiredStoredLogin() {
+            when(store.findById("env-1:bot1")).thenReturn(Optional.of(stored(now.get())));
+
+            assertThat(persisted.get("env-1", "bot1")).isNull();
+            assertThat(persisted.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Rejected tokens are dropped from the store, matched on the auth token")
+        void invalidateDropsStored() {
+            persisted.put("env-1", "bot1", tokens, "fp-1");
+
+            persisted.invalidate("env-1", "bot1", tokens);
+
+            verify(store).deleteByIdAndAuthToken("env-1:bot1", "auth");
+        }
+
+        @Test
+        @DisplayName("Tokens that are no longer cached leave the store alone")
+        void staleInvalidateKeepsStored() {
+            persisted.put("env-1", "bot1", tokens, "fp-1");
+
+            persisted.invalidate("env-1", "bot1", mock(TokensProvider.class));
+
+            verify(store, never()).deleteByIdAndAuthToken(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("A failing store degrades to the in-memory cache")
+        void storeFailure() {
+            when(store.save(any())).thenThrow(new IllegalStateException("mongo down"));
+            when(store.findById(anyString())).thenThrow(new IllegalStateException("mongo down"));
+
+            persisted.put("env-1", "bot1", tokens, "fp-1");
+
+            assertThat(persisted.get("env-1", "bot1").tokens()).isSameAs(tokens);
+            assertThat(persisted.get("env-2", "bot1")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Counts hits, misses and rejections and publishes the size")
+        void publishesMeters() {
+            cache.get("env-1", "bot1");
+            cache.put("env-1", "bot1", tokens, "fp-1");
+            cache.get("env-1", "bot1");
+            cache.invalidate("env-1", "bot1", tokens);
+            cache.invalidate("env-1", "bot1", tokens);
+
+            assertThat(registry.get(AuthTokenCache.AUTH_TOKEN_CACHE_TOTAL).tag("outcome", "hit")
+                    .counter().count()).isEqualTo(1.0);
+            assertThat(registry.get(AuthTokenCache.AUTH_TOKEN_CACHE_TOTAL).tag("outcome", "miss")
+                    .counter().count()).isEqualTo(1.0);
+            assertThat(registry.get(AuthTokenCache.AUTH_TOKEN_CACHE_TOTAL).tag("outcome", "rejected")
+                    .counter().count()).isEqualTo(1.0);
+            assertThat(registry.get(AuthTokenCache.AUTH_TOKEN_CACHE_SIZE).gauge().value()).isZero();
+        }
+    }
+}
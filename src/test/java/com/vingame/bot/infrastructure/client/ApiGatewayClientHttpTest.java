@@ -0,0 +1,263 @@
+package com.vingame.bot.infrastructure.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vingame.bot.infrastructure.auth.AuthProfile;
+import com.vingame.bot.infrastructure.observability.BotMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises {@link ApiGatewayClient}'s async calls and the {@link GatewayHttp}
+ * instrumentation end-to-end against a throwaway {@link HttpServer} on a loopback
+ * port: response parsing, request shape, per-endpoint timeouts and the
+ * latency / in-flight meters.
+ */
+@DisplayName("ApiGatewayClient (transport)")
+class ApiGatewayClientHttpTest {
+
+    private static final String X_TOKEN = "x-tok";
+
+    private HttpServer server;
+    private SimpleMeterRegistry registry;
+    private GatewayHttp http;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicReference<String> lastBody = new AtomicReference<>();
+    private final AtomicReference<String> lastToken = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        if (http != null) {
+            http.stop();
+        }
+    }
+
+    /** Serve {@code status} + {@code body} on {@code path}, recording the request. */
+    private void stub(String path, int status, String body) {
+        server.createContext(path, exchange -> {
+            lastBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            lastToken.set(exchange.getRequestHeaders().getFirst("X-TOKEN"));
+            respond(exchange, status, body);
+        });
+    }
+
+    /** Serve {@code body} on {@code path} only once the test releases it. */
+    private void stubHeld(String path, String body) {
+        server.createContext(path, exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, body);
+        });
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private ApiGatewayClient client(HttpClient.Version version, Map<GatewayEndpoint, Duration> timeouts) {
+        http = new GatewayHttp(registry, 2, version, Duration.ofSeconds(2), timeouts);
+        ApiGatewayClient client = new ApiGatewayClient(new DisplayNameService(), new BotMetrics(registry), http);
+        return client.init("http://127.0.0.1:" + server.getAddress().getPort(), "bc114097", new AuthProfile(
+                "/login", "/register", "/update-fullname", X_TOKEN, ctx -> null));
+    }
+
+    private ApiGatewayClient client() {
+        return client(HttpClient.Version.HTTP_1_1, Map.of());
+    }
+
+    private double requests(GatewayEndpoint endpoint, String outcome) {
+        return registry.get(GatewayHttp.GATEWAY_REQUEST_SECONDS)
+                .tag("endpoint", endpoint.tag()).tag("outcome", outcome)
+                .timer().count();
+    }
+
+    @Nested
+    @DisplayName("Verify token")
+    class VerifyTokenTests {
+
+        @Test
+        @DisplayName("getBalanceAsync reads main_balance and records an ok request")
+        void readsBalance() {
+            stub("/gwms/v1/verifytoken.aspx", 200,
+                    "{\"status\":\"OK\",\"data\":[{\"main_balance\":123456,\"extra_balance\":0}]}");
+            ApiGatewayClient client = client();
+
+            long balance = client.getBalanceAsync("auth", "fp", "bot1").join();
+
+            assertThat(balance).isEqualTo(123_456L);
+            assertThat(requests(GatewayEndpoint.VERIFY_TOKEN, "ok")).isEqualTo(1);
+            assertThat(http.inFlight(GatewayEndpoint.VERIFY_TOKEN)).isZero();
+        }
+
+        @Test
+        @DisplayName("A response without data completes exceptionally")
+        void missingData() {
+            stub("/gwms/v1/verifytoken.aspx", 200, "{\"status\":\"ERROR\",\"data\":[]}");
+            ApiGatewayClient client = client();
+
+            assertThatThrownBy(() -> client.getBalanceAsync("auth", "fp", "bot1").join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Negotiates down to HTTP/1.1 when configured for HTTP/2 against a server without h2")
+        void http2Fallback() {
+            stub("/gwms/v1/verifytoken.aspx", 200, "{\"data\":[{\"main_balance\":7}]}");
+            ApiGatewayClient client = client(HttpClient.Version.HTTP_2, Map.of());
+
+            assertThat(client.getBalanceAsync("auth", "fp", "bot1").join()).isEqualTo(7L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Deposit")
+    class DepositTests {
+
+        @Test
+        @DisplayName("depositAsync posts username and amount with the X-TOKEN and completes true on 200")
+        void success() {
+            stub("/gwms/v1/bot/deposit.aspx", 200, "{\"status\":\"OK\"}");
+            ApiGatewayClient client = client();
+
+            assertThat(client.depositAsync("bot1", 1_000_000_000L).join()).isTrue();
+            assertThat(lastBody.get()).contains("\"username\":\"bot1\"").contains("\"amount\":1000000000");
+            assertThat(lastToken.get()).isEqualTo(X_TOKEN);
+        }
+
+        @Test
+        @DisplayName("A non-200 completes false and is recorded as an http_error")
+        void non200() {
+            stub("/gwms/v1/bot/deposit.aspx", 500, "boom");
+            ApiGatewayClient client = client();
+
+            assertThat(client.depositAsync("bot1", 1L).join()).isFalse();
+            assertThat(requests(GatewayEndpoint.DEPOSIT, "http_error")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("The blocking deposit goes through the same instrumentation")
+        void blocking() {
+            stub("/gwms/v1/bot/deposit.aspx", 200, "{\"status\":\"OK\"}");
+            ApiGatewayClient client = client();
+
+            assertThat(client.deposit("bot1", 1L)).isTrue();
+            assertThat(requests(GatewayEndpoint.DEPOSIT, "ok")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Registration and display name")
+    class RegistrationTests {
+
+        @Test
+        @DisplayName("registerUserAsync returns the agency and auth tokens from data[0]")
+        void register() {
+            stub("/register", 200, "{\"status\":\"OK\",\"code\":200,\"data\":"
+                    + "[{\"username\":\"bot1\",\"token\":\"agency-1\",\"session_id\":\"auth-1\"}]}");
+            ApiGatewayClient client = client();
+
+            ApiGatewayClient.RegistrationResult result = client.registerUserAsync("bot1", "pw").join();
+
+            assertThat(result.agencyToken()).isEqualTo("agency-1");
+            assertThat(result.authToken()).isEqualTo("auth-1");
+            assertThat(result.fingerprint()).isNotBlank();
+            assertThat(lastBody.get()).contains("\"username\":\"bot1\"");
+        }
+
+        @Test
+        @DisplayName("setDisplayNameAsync completes false when the name is taken")
+        void nameTaken() {
+            stub("/update-fullname", 200, "{\"status\":\"INVALID\",\"message\":\"taken\"}");
+            ApiGatewayClient client = client();
+
+            assertThat(client.setDisplayNameAsync("bot1", "Alice").join()).isFalse();
+        }
+
+        @Test
+        @DisplayName("setDisplayNameAsync completes exceptionally on any other rejection")
+        void otherRejection() {
+            stub("/update-fullname", 200, "{\"status\":\"ERROR\",\"message\":\"nope\"}");
+            ApiGatewayClient client = client();
+
+            assertThatThrownBy(() -> client.setDisplayNameAsync("bot1", "Alice").join())
+                    .hasRootCauseMessage("Failed to set display name: nope (status: ERROR)");
+        }
+    }
+
+    @Nested
+    @DisplayName("Timeouts and in-flight")
+    class TimeoutTests {
+
+        @Test
+        @Timeout(10)
+        @DisplayName("Counts a request in flight until it is answered")
+        void inFlightGauge() {
+            stubHeld("/gwms/v1/verifytoken.aspx", "{\"data\":[{\"main_balance\":1}]}");
+            ApiGatewayClient client = client();
+
+            CompletableFuture<Long> pending = client.getBalanceAsync("auth", "fp", "bot1");
+
+            assertThat(registry.get(GatewayHttp.GATEWAY_REQUESTS_IN_FLIGHT)
+                    .tag("endpoint", "verify_token").gauge().value()).isEqualTo(1.0);
+            release.countDown();
+            pending.join();
+            assertThat(registry.get(GatewayHttp.GATEWAY_REQUESTS_IN_FLIGHT)
+                    .tag("endpoint", "verify_token").gauge().value()).isZero();
+        }
+
+        @Test
+        @Timeout(10)
+        @DisplayName("Applies the endpoint's own timeout and records it as a timeout")
+        void perEndpointTimeout() {
+            stubHeld("/gwms/v1/verifytoken.aspx", "{\"data\":[{\"main_balance\":1}]}");
+            ApiGatewayClient client = client(HttpClient.Version.HTTP_1_1,
+                    Map.of(GatewayEndpoint.VERIFY_TOKEN, Duration.ofMillis(200)));
+
+            assertThatThrownBy(() -> client.getBalanceAsync("auth", "fp", "bot1").join())
+                    .hasCauseInstanceOf(HttpTimeoutException.class);
+            assertThat(requests(GatewayEndpoint.VERIFY_TOKEN, "timeout")).isEqualTo(1);
+            assertThat(http.timeout(GatewayEndpoint.DEPOSIT)).isEqualTo(Duration.ofSeconds(10));
+        }
+    }
+}
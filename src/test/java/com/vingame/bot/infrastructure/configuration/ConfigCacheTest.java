@@ -0,0 +1,223 @@
+package com.vingame.bot.infrastructure.configuration;
+
+import com.vingame.bot.domain.bot.strategy.StrategyId;
+import com.vingame.bot.domain.bot.strategy.WeightedStrategy;
+import com.vingame.bot.domain.botgroup.model.ActivationWindow;
+import com.vingame.bot.domain.botgroup.model.BotGroup;
+import com.vingame.bot.domain.botgroup.repository.BotGroupRepository;
+import com.vingame.bot.domain.environment.model.Environment;
+import com.vingame.bot.domain.environment.repository.EnvironmentRepository;
+import com.vingame.bot.domain.game.model.Game;
+import com.vingame.bot.domain.game.repository.GameRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConfigCache")
+class ConfigCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ConfigCache cache(long ttlSeconds) {
+        return new ConfigCache(null, null, null, null, registry, ttlSeconds, false);
+    }
+
+    private Function<String, Optional<BotGroup>> loader(BotGroup group) {
+        return id -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(group);
+        };
+    }
+
+    private double requests(String result) {
+        return registry.get(ConfigCache.CONFIG_CACHE_REQUESTS_TOTAL)
+                .tag("cache", "botGroup").tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("read-through")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Loads a miss once, then serves hits from memory")
+        void loadsOnce() {
+            ConfigCache cache = cache(300);
+            BotGroup group = BotGroup.builder().id("g1").name("Alpha").build();
+
+            cache.botGroups().get("g1", loader(group));
+            Optional<BotGroup> hit = cache.botGroups().get("g1", loader(group));
+
+            assertThat(hit).map(BotGroup::getName).contains("Alpha");
+            assertThat(loads).hasValue(1);
+            assertThat(requests("miss")).isEqualTo(1.0);
+            assertThat(requests("hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Hands out copies: a caller's edit does not reach the next reader")
+        void handsOutCopies() {
+            ConfigCache cache = cache(300);
+            cache.botGroups().put(BotGroup.builder().id("g1").name("Alpha").build());
+
+            cache.botGroups().get("g1", loader(null)).orElseThrow().setName("Edited");
+
+            assertThat(cache.botGroups().get("g1", loader(null))).map(BotGroup::getName).contains("Alpha");
+        }
+
+        @Test
+        @DisplayName("Copies are deep: editing a returned window or strategy mix does not reach the cache")
+        void handsOutDeepCopies() {
+            ConfigCache cache = cache(300);
+            cache.botGroups().put(BotGroup.builder().id("g1")
+                    .activationWindow(ActivationWindow.builder()
+                            .from(LocalTime.of(8, 0)).to(LocalTime.of(20, 0))
+                            .days(new HashSet<>(Set.of(DayOfWeek.MONDAY))).build())
+                    .strategyMix(new ArrayList<>(List.of(new WeightedStrategy(StrategyId.RANDOM, 1.0))))
+                    .build());
+
+            BotGroup edited = cache.botGroups().get("g1", loader(null)).orElseThrow();
+            edited.getActivationWindow().getDays().add(DayOfWeek.SUNDAY);
+            edited.getActivationWindow().setPriority(9);
+            edited.getStrategyMix().clear();
+
+            BotGroup next = cache.botGroups().peek("g1").orElseThrow();
+            assertThat(next.getActivationWindow().getDays()).containsExactly(DayOfWeek.MONDAY);
+            assertThat(next.getActivationWindow().getPriority()).isZero();
+            assertThat(next.getStrategyMix()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("A document not found is not cached")
+        void absentNotCached() {
+            ConfigCache cache = cache(300);
+
+            assertThat(cache.botGroups().get("gone", loader(null))).isEmpty();
+            assertThat(cache.botGroups().get("gone", loader(null))).isEmpty();
+            assertThat(loads).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("ttl 0 disables the cache: every lookup loads")
+        void disabled() {
+            ConfigCache cache = cache(0);
+            BotGroup group = BotGroup.builder().id("g1").build();
+            cache.botGroups().put(group);
+
+            cache.botGroups().get("g1", loader(group));
+            cache.botGroups().get("g1", loader(group));
+
+            assertThat(loads).hasValue(2);
+            assertThat(cache.botGroups().peek("g1")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("A put replaces the cached document and an evict forces a reload")
+        void putAndEvict() {
+            ConfigCache cache = cache(300);
+            cache.botGroups().put(BotGroup.builder().id("g1").name("Old").build());
+            cache.botGroups().put(BotGroup.builder().id("g1").name("New").build());
+            assertThat(cache.botGroups().peek("g1")).map(BotGroup::getName).contains("New");
+
+            cache.botGroups().evict("g1");
+
+            assertThat(cache.botGroups().peek("g1")).isEmpty();
+            cache.botGroups().get("g1", loader(BotGroup.builder().id("g1").name("Reloaded").build()));
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("A load that raced a write does not put the older document back")
+        void racingLoadDiscarded() {
+            ConfigCache cache = cache(300);
+            BotGroup stale = BotGroup.builder().id("g1").name("Stale").build();
+
+            cache.botGroups().get("g1", id -> {
+                // The group is saved while this load is in flight.
+                cache.botGroups().put(BotGroup.builder().id("g1").name("Saved").build());
+                return Optional.of(stale);
+            });
+
+            assertThat(cache.botGroups().peek("g1")).map(BotGroup::getName).contains("Saved");
+        }
+
+        @Test
+        @DisplayName("A load that raced an evict does not cache the deleted document")
+        void loadRacingEvictDiscarded() {
+            ConfigCache cache = cache(300);
+
+            cache.botGroups().get("g1", id -> {
+                // The group is deleted while this load is in flight.
+                cache.botGroups().evict("g1");
+                return Optional.of(BotGroup.builder().id("g1").name("Deleted").build());
+            });
+
+            assertThat(cache.botGroups().peek("g1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("A write to another id does not stop a load from caching")
+        void unrelatedWriteDoesNotBlockInstall() {
+            ConfigCache cache = cache(300);
+
+            cache.botGroups().get("g1", id -> {
+                cache.botGroups().put(BotGroup.builder().id("g2").build());
+                return Optional.of(BotGroup.builder().id("g1").name("Loaded").build());
+            });
+
+            assertThat(cache.botGroups().peek("g1")).map(BotGroup::getName).contains("Loaded");
+        }
+
+        @Test
+        @DisplayName("Change listeners hear every put and evict, even with the cache disabled")
+        void listenersHearWrites() {
+            for (ConfigCache cache : List.of(cache(300), cache(0))) {
+                List<String> changed = new ArrayList<>();
+                cache.botGroups().onChange(changed::add);
+
+                cache.botGroups().put(BotGroup.builder().id("g1").build());
+                cache.botGroups().evict("g2");
+
+                assertThat(changed).containsExactly("g1", "g2");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Preload caches every environment, game and bot group")
+    void preload() {
+        EnvironmentRepository environments = mock(EnvironmentRepository.class);
+        GameRepository games = mock(GameRepository.class);
+        BotGroupRepository groups = mock(BotGroupRepository.class);
+        when(environments.findAll()).thenReturn(List.of(Environment.builder().id("e1").build()));
+        when(games.findAll()).thenReturn(List.of(Game.builder().id("game-1").build()));
+        when(groups.findAll()).thenReturn(List.of(BotGroup.builder().id("g1").build()));
+        ConfigCache cache = new ConfigCache(environments, games, groups, null, registry, 300, false);
+
+        cache.preload();
+
+        assertThat(cache.environments().peek("e1")).isPresent();
+        assertThat(cache.games().peek("game-1")).isPresent();
+        assertThat(cache.botGroups().peek("g1")).isPresent();
+    }
+}
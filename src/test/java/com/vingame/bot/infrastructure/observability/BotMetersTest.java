@@ -0,0 +1,222 @@
+package com.vingame.bot.infrastructure.observability;
+
+import com.vingame.bot.common.logging.BotMdc;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the pre-bound {@link BotMeters} handles export exactly the series the
+ * MDC-reading {@code BotMetrics.inc*} calls export (names, tags and
+ * values), register lazily, and are shared by every bot of a group.
+ */
+@DisplayName("BotMeters")
+class BotMetersTest {
+
+    private static final Map<String, String> SNAPSHOT = Map.of(
+            BotMdc.BOT_GROUP_ID, "group-abc",
+            BotMdc.BOT_ID, "7",
+            BotMdc.ENVIRONMENT_ID, "env-xyz",
+            BotMdc.GAME_TYPE, "BETTING_MINI",
+            BotMdc.GAME_ID, "11111111-2222-3333-4444-555555555555",
+            BotMdc.GAME_NAME, "BauCua",
+            BotMdc.BOT_USER_NAME, "bot_007"
+    );
+
+    @BeforeEach
+    void setUp() {
+        MDC.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("Exported series")
+    class SeriesTests {
+
+        @Test
+        @DisplayName("Bound handles export the same ids and values as the MDC-read path")
+        void boundMatchesMdcPath() {
+            MeterRegistry viaMdc = newRegistry();
+            MeterRegistry viaBound = newRegistry();
+
+            MDC.setContextMap(SNAPSHOT);
+            exercise(new MdcRoute(new BotMetrics(viaMdc)));
+            MDC.clear();
+
+            BotMeters bound = new BotMetrics(viaBound).forBot(SNAPSHOT);
+            // Registration happens inside the bot's wrapped callback in production,
+            // where the filter sees the same identity on the thread.
+            MDC.setContextMap(SNAPSHOT);
+            exercise(new BoundRoute(bound));
+            MDC.clear();
+
+            assertThat(series(viaBound)).isEqualTo(series(viaMdc)).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("Group handles carry botGroupId and environmentId only")
+        void groupHandles() {
+            MeterRegistry registry = newRegistry();
+            new BotMetrics(registry).forGroup("group-abc", "env-xyz").incGroupDeadSeconds(5);
+
+            Meter.Id id = registry.find(BotMetrics.GROUP_DEAD_SECONDS_TOTAL).counter().getId();
+            assertThat(id.getTags()).extracting("key")
+                    .containsExactlyInAnyOrder(BotMdc.BOT_GROUP_ID, BotMdc.ENVIRONMENT_ID);
+        }
+
+        @Test
+        @DisplayName("A null snapshot binds no identity tags")
+        void nullSnapshot() {
+            MeterRegistry registry = newRegistry();
+            new BotMetrics(registry).forBot(null).incBotFailure();
+
+            assertThat(registry.find(BotMetrics.BOT_FAILURES_TOTAL).counter().getId().getTags()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Binding")
+    class BindingTests {
+
+        @Test
+        @DisplayName("Binding registers nothing until the first increment")
+        void lazyRegistration() {
+            MeterRegistry registry = newRegistry();
+            BotMeters meters = new BotMetrics(registry).forBot(SNAPSHOT);
+
+            assertThat(registry.getMeters()).isEmpty();
+
+            meters.incBetsPlaced(0, 0L);
+            meters.incBotDeadSeconds(0);
+            assertThat(registry.getMeters()).isEmpty();
+
+            meters.incBotMessage("endGame");
+            assertThat(registry.getMeters()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Bots of the same group share one handle set; another group gets its own")
+        void sharedPerIdentity() {
+            BotMetrics metrics = new BotMetrics(newRegistry());
+            Map<String, String> sibling = new TreeMap<>(SNAPSHOT);
+            sibling.put(BotMdc.BOT_ID, "8");
+            sibling.put(BotMdc.BOT_USER_NAME, "bot_008");
+            Map<String, String> otherGroup = new TreeMap<>(SNAPSHOT);
+            otherGroup.put(BotMdc.BOT_GROUP_ID, "group-def");
+
+            assertThat(metrics.forBot(sibling)).isSameAs(metrics.forBot(SNAPSHOT));
+            assertThat(metrics.forBot(otherGroup)).isNotSameAs(metrics.forBot(SNAPSHOT));
+        }
+    }
+
+    /* ---- fixtures ---- */
+
+    private static MeterRegistry newRegistry() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new BotMdcTagsMeterFilter());
+        return registry;
+    }
+
+    private static void exercise(Route r) {
+        for (String cmd : new String[]{"subscribe", "startGame", "updateBet", "endGame", "spin"}) {
+            r.message(cmd);
+        }
+        r.failure();
+        r.reconnect("watchdog");
+        r.reconnect("ws-disconnect");
+        r.autoDeposit(true);
+        r.autoDeposit(false);
+        r.creationFailure("auth");
+        r.watchdogExpired();
+        r.wsEvent("connected");
+        r.wsEvent("disconnected");
+        r.betsPlaced(3, 500L);
+        r.betsPlaced(0, 200L);
+        r.winnings(750L);
+        r.jackpot(10_000L);
+        r.login(true);
+        r.verifyToken(false);
+        r.deadSeconds(7);
+        r.moneyDrained(1_000L);
+        r.groupDeadSeconds(4);
+    }
+
+    /** {@code name{sorted tags} -> count} for every meter in the registry. */
+    private static Map<String, Double> series(MeterRegistry registry) {
+        Map<String, Double> out = new TreeMap<>();
+        registry.getMeters().forEach(m -> out.put(
+                m.getId().getName() + m.getId().getTags(),
+                registry.get(m.getId().getName()).tags(m.getId().getTags()).counter().count()));
+        return out;
+    }
+
+    /** The same increments, addressed through either route. */
+    private interface Route {
+        void message(String cmd);
+        void failure();
+        void reconnect(String reason);
+        void autoDeposit(boolean success);
+        void creationFailure(String reason);
+        void watchdogExpired();
+        void wsEvent(String event);
+        void betsPlaced(int count, long amount);
+        void winnings(long amount);
+        void jackpot(long amount);
+        void login(boolean success);
+        void verifyToken(boolean success);
+        void deadSeconds(long seconds);
+        void moneyDrained(long amount);
+        void groupDeadSeconds(long seconds);
+    }
+
+    private record MdcRoute(BotMetrics m) implements Route {
+        public void message(String cmd) { m.incBotMessage(cmd); }
+        public void failure() { m.incBotFailure(); }
+        public void reconnect(String reason) { m.incBotReconnect(reason); }
+        public void autoDeposit(boolean success) { m.incBotAutoDeposit(success); }
+        public void creationFailure(String reason) { m.incBotCreationFailure(reason); }
+        public void watchdogExpired() { m.incBotWatchdogExpired(); }
+        public void wsEvent(String event) { m.incBotWsEvent(event); }
+        public void betsPlaced(int count, long amount) { m.incBetsPlaced(count, amount); }
+        public void winnings(long amount) { m.incBotWinnings(amount); }
+        public void jackpot(long amount) { m.incBotJackpot(amount); }
+        public void login(boolean success) { m.incLogin(success); }
+        public void verifyToken(boolean success) { m.incVerifyToken(success); }
+        public void deadSeconds(long seconds) { m.incBotDeadSeconds(seconds); }
+        public void moneyDrained(long amount) { m.incMoneyDrained(amount); }
+        public void groupDeadSeconds(long seconds) { m.incGroupDeadSeconds(seconds); }
+    }
+
+    private record BoundRoute(BotMeters m) implements Route {
+        public void message(String cmd) { m.incBotMessage(cmd); }
+        public void failure() { m.incBotFailure(); }
+        public void reconnect(String reason) { m.incBotReconnect(reason); }
+        public void autoDeposit(boolean success) { m.incBotAutoDeposit(success); }
+        public void creationFailure(String reason) { m.incBotCreationFailure(reason); }
+        public void watchdogExpired() { m.incBotWatchdogExpired(); }
+        public void wsEvent(String event) { m.incBotWsEvent(event); }
+        public void betsPlaced(int count, long amount) { m.incBetsPlaced(count, amount); }
+        public void winnings(long amount) { m.incBotWinnings(amount); }
+        public void jackpot(long amount) { m.incBotJackpot(amount); }
+        public void login(boolean success) { m.incLogin(success); }
+        public void verifyToken(boolean success) { m.incVerifyToken(success); }
+        public void deadSeconds(long seconds) { m.incBotDeadSeconds(seconds); }
+        public void moneyDrained(long amount) { m.incMoneyDrained(amount); }
+        public void groupDeadSeconds(long seconds) { m.incGroupDeadSeconds(seconds); }
+    }
+}
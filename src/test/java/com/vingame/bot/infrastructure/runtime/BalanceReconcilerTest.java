@@ -0,0 +1,200 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies {@link BalanceReconciler}'s concurrency bound, per-key and per-owner
+ * coalescing, failure handling and published meters.
+ */
+@DisplayName("BalanceReconciler")
+class BalanceReconcilerTest {
+
+    @Nested
+    @DisplayName("Scheduling")
+    class SchedulingTests {
+
+        @Test
+        @DisplayName("Never more than maxConcurrent fetches run; the rest start as slots free up")
+        void concurrencyBound() {
+            BalanceReconciler reconciler = new BalanceReconciler("env-1", 2, null);
+            List<CompletableFuture<Long>> fetches = new ArrayList<>();
+
+            for (int i = 0; i < 5; i++) {
+                String key = "bot" + i;
+                reconciler.request(key, key, () -> {
+                    CompletableFuture<Long> f = new CompletableFuture<>();
+                    fetches.add(f);
+                    return f;
+                }, balance -> { });
+            }
+
+            assertThat(fetches).hasSize(2);
+            assertThat(reconciler.getInFlight()).isEqualTo(2);
+            assertThat(reconciler.getQueueDepth()).isEqualTo(3);
+
+            fetches.get(0).complete(1L);
+            assertThat(fetches).hasSize(3);
+
+            // Completing a fetch starts the next one, which appends to the list.
+            for (int i = 1; i < 5; i++) {
+                fetches.get(i).complete(1L);
+            }
+            assertThat(fetches).hasSize(5);
+            assertThat(reconciler.getInFlight()).isZero();
+            assertThat(reconciler.getQueueDepth()).isZero();
+        }
+
+        @Test
+        @DisplayName("A second request for a pending key is coalesced; after landing, a new one is accepted")
+        void coalescesPerKey() {
+            BalanceReconciler reconciler = new BalanceReconciler("env-1", 4, null);
+            CompletableFuture<Long> fetch = new CompletableFuture<>();
+            AtomicLong landed = new AtomicLong();
+
+            assertThat(reconciler.request("bot1", "bot1", () -> fetch, landed::set)).isTrue();
+            assertThat(reconciler.request("bot1", "bot1", () -> fetch, landed::set)).isFalse();
+            assertThat(reconciler.request("bot2", "bot2", CompletableFuture::new, b -> { })).isTrue();
+
+            fetch.complete(42L);
+            assertThat(landed.get()).isEqualTo(42L);
+            assertThat(reconciler.request("bot1", "bot1", () -> CompletableFuture.completedFuture(7L), landed::set))
+                    .isTrue();
+            assertThat(landed.get()).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("Failed or throwing fetches free their slot and skip the callback")
+        void failuresFreeSlot() {
+            BalanceReconciler reconciler = new BalanceReconciler("env-1", 1, null);
+            AtomicLong landed = new AtomicLong(-1);
+
+            reconciler.request("bot1", "bot1", () -> CompletableFuture.failedFuture(new IllegalStateException("empty")),
+                    landed::set);
+            reconciler.request("bot2", "bot2", () -> {
+                throw new IllegalStateException("not initialized");
+            }, landed::set);
+            reconciler.request("bot3", "bot3", () -> CompletableFuture.completedFuture(5L), landed::set);
+
+            assertThat(landed.get()).isEqualTo(5L);
+            assertThat(reconciler.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("A replacement owner of a key gets its own fetch; the superseded one lands nowhere")
+        void newOwnerSupersedes() {
+            BalanceReconciler reconciler = new BalanceReconciler("env-1", 4, null);
+            Object outgoing = new Object();
+            Object replacement = new Object();
+            CompletableFuture<Long> oldFetch = new CompletableFuture<>();
+            CompletableFuture<Long> newFetch = new CompletableFuture<>();
+            AtomicLong toOutgoing = new AtomicLong(-1);
+            AtomicLong toReplacement = new AtomicLong(-1);
+
+            reconciler.request("bot1", outgoing, () -> oldFetch, toOutgoing::set);
+            assertThat(reconciler.request("bot1", replacement, () -> newFetch, toReplacement::set)).isTrue();
+            reconciler.forget("bot1", outgoing);
+
+            oldFetch.complete(1L);
+            newFetch.complete(2L);
+            assertThat(toOutgoing.get()).isEqualTo(-1L);
+            assertThat(toReplacement.get()).isEqualTo(2L);
+            assertThat(reconciler.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("forget drops a queued request and silences one in flight")
+        void forgetDropsRequest() {
+            BalanceReconciler reconciler = new BalanceReconciler("env-1", 1, null);
+            Object owner = new Object();
+            CompletableFuture<Long> inFlight = new CompletableFuture<>();
+            AtomicLong landed = new AtomicLong(-1);
+            List<String> started = new ArrayList<>();
+
+            reconciler.request("bot1", owner, () -> {
+                started.add("bot1");
+                return inFlight;
+            }, landed::set);
+            reconciler.request("bot2", owner, () -> {
+                started.add("bot2");
+                return CompletableFuture.completedFuture(2L);
+            }, landed::set);
+            reconciler.forget("bot2", owner);
+            reconciler.forget("bot1", owner);
+
+            inFlight.complete(1L);
+            assertThat(started).containsExactly("bot1");
+            assertThat(landed.get()).isEqualTo(-1L);
+            assertThat(reconciler.getQueueDepth()).isZero();
+            assertThat(reconciler.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("A long run of fetches failing synchronously drains without deepening the stack")
+        void synchronousFailuresDoNotRecurse() {
+            BalanceReconciler reconciler = new BalanceReconciler("env-1", 1, null);
+            CompletableFuture<Long> blocker = new CompletableFuture<>();
+            reconciler.request("blocker", "blocker", () -> blocker, b -> { });
+            for (int i = 0; i < 20_000; i++) {
+                String key = "bot" + i;
+                reconciler.request(key, key, () -> CompletableFuture.failedFuture(new IllegalStateException("down")),
+                        b -> { });
+            }
+            assertThat(reconciler.getQueueDepth()).isEqualTo(20_000);
+
+            blocker.complete(1L);
+
+            assertThat(reconciler.getQueueDepth()).isZero();
+            assertThat(reconciler.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Rejects a non-positive concurrency")
+        void rejectsBadLimit() {
+            assertThatThrownBy(() -> new BalanceReconciler("env-1", 0, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Publishes queue depth, in-flight, latency by outcome and coalesced requests")
+        void publishesMeters() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            BalanceReconciler reconciler = new BalanceReconciler("env-7", 1, registry);
+            CompletableFuture<Long> first = new CompletableFuture<>();
+
+            reconciler.request("bot1", "bot1", () -> first, b -> { });
+            reconciler.request("bot1", "bot1", () -> first, b -> { });
+            reconciler.request("bot2", "bot2", () -> CompletableFuture.failedFuture(new IllegalStateException()),
+                    b -> { });
+
+            assertThat(registry.get(BalanceReconciler.BALANCE_REFRESH_IN_FLIGHT).tag("environmentId", "env-7")
+                    .gauge().value()).isEqualTo(1.0);
+            assertThat(registry.get(BalanceReconciler.BALANCE_REFRESH_QUEUE_DEPTH).gauge().value()).isEqualTo(1.0);
+            assertThat(registry.get(BalanceReconciler.BALANCE_REFRESH_COALESCED_TOTAL).counter().count())
+                    .isEqualTo(1.0);
+
+            first.complete(10L);
+
+            assertThat(registry.get(BalanceReconciler.BALANCE_REFRESH_LATENCY_SECONDS).tag("outcome", "success")
+                    .timer().count()).isEqualTo(1L);
+            assertThat(registry.get(BalanceReconciler.BALANCE_REFRESH_LATENCY_SECONDS).tag("outcome", "failure")
+                    .timer().count()).isEqualTo(1L);
+            assertThat(registry.get(BalanceReconciler.BALANCE_REFRESH_QUEUE_DEPTH).gauge().value()).isZero();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.websocketparser.message.request.ActionRequestMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the group-level {@link BetTickDriver}: one poll per participant
+ * per tick, every produced frame delivered exactly once inside the interval, and
+ * failures isolated to the offending bot.
+ */
+@DisplayName("BetTickDriver")
+class BetTickDriverTest {
+
+    private BotTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new BotTimer(10L, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    @DisplayName("runTick polls every participant once and delivers each frame to its own bot")
+    void deliversEachFrameToItsBot() throws Exception {
+        BetTickDriver driver = new BetTickDriver("group-1", timer, 200L, 4);
+        CountDownLatch delivered = new CountDownLatch(50);
+        List<FakeBot> bots = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            FakeBot bot = new FakeBot(true, delivered);
+            bots.add(bot);
+            driver.register(bot);
+        }
+
+        driver.runTick();
+
+        assertThat(delivered.await(2, TimeUnit.SECONDS)).isTrue();
+        for (FakeBot bot : bots) {
+            assertThat(bot.polls.get()).isEqualTo(1);
+            assertThat(bot.sent).containsExactly(bot.frame);
+        }
+    }
+
+    @Test
+    @DisplayName("Bots that skip the tick are polled but never sent to")
+    void skippingBotsAreNotSent() throws Exception {
+        BetTickDriver driver = new BetTickDriver("group-1", timer, 200L, 4);
+        FakeBot idle = new FakeBot(false, new CountDownLatch(1));
+        driver.register(idle);
+
+        driver.runTick();
+        Thread.sleep(300L);
+
+        assertThat(idle.polls.get()).isEqualTo(1);
+        assertThat(idle.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A participant that throws does not stop the rest of the batch")
+    void pollFailureIsIsolated() throws Exception {
+        BetTickDriver driver = new BetTickDriver("group-1", timer, 200L, 1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        driver.register(new BetTickParticipant() {
+            @Override
+            public ActionRequestMessage pollBetFrame() {
+                throw new IllegalStateException("boom");
+            }
+
+            @Override
+            public void sendBetFrame(ActionRequestMessage frame) {
+            }
+        });
+        FakeBot healthy = new FakeBot(true, delivered);
+        driver.register(healthy);
+
+        driver.runTick();
+
+        assertThat(delivered.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(healthy.sent).containsExactly(healthy.frame);
+    }
+
+    @Test
+    @DisplayName("start() ticks on the interval until stop()")
+    void ticksUntilStopped() throws Exception {
+        BetTickDriver driver = new BetTickDriver("group-1", timer, 50L, 1);
+        FakeBot bot = new FakeBot(false, new CountDownLatch(1));
+        driver.register(bot);
+
+        driver.start();
+        Thread.sleep(400L);
+        driver.stop();
+        int pollsAtStop = bot.polls.get();
+        Thread.sleep(200L);
+
+        assertThat(pollsAtStop).isGreaterThanOrEqualTo(3);
+        assertThat(bot.polls.get()).isLessThanOrEqualTo(pollsAtStop + 1);
+        assertThat(driver.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Non-positive interval and slot counts fall back to defaults")
+    void invalidConfigFallsBack() {
+        BetTickDriver driver = new BetTickDriver("group-1", timer, 0L, 0);
+
+        assertThat(driver.getIntervalMillis()).isEqualTo(BetTickDriver.DEFAULT_INTERVAL_MILLIS);
+        assertThat(driver.getJitterSlots()).isEqualTo(BetTickDriver.DEFAULT_JITTER_SLOTS);
+    }
+
+    private static final class FakeBot implements BetTickParticipant {
+        final ActionRequestMessage frame = mock(ActionRequestMessage.class);
+        final AtomicInteger polls = new AtomicInteger();
+        final List<ActionRequestMessage> sent = new CopyOnWriteArrayList<>();
+        final boolean bets;
+        final CountDownLatch delivered;
+
+        FakeBot(boolean bets, CountDownLatch delivered) {
+            this.bets = bets;
+            this.delivered = delivered;
+        }
+
+        @Override
+        public ActionRequestMessage pollBetFrame() {
+            polls.incrementAndGet();
+            return bets ? frame : null;
+        }
+
+        @Override
+        public void sendBetFrame(ActionRequestMessage frame) {
+            sent.add(frame);
+            delivered.countDown();
+        }
+    }
+}
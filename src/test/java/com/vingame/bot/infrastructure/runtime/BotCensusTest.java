@@ -0,0 +1,119 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.domain.bot.core.Bot;
+import com.vingame.bot.domain.bot.core.BotStatus;
+import com.vingame.websocketparser.scenario.Scenario;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BotCensus")
+class BotCensusTest {
+
+    private static final BotCensus.GameKey BAU_CUA = new BotCensus.GameKey("game-1", "BauCua", "BETTING_MINI");
+    private static final BotCensus.GameKey SLOT = new BotCensus.GameKey("game-2", "SlotA", "SLOT");
+
+    private final BotCensus census = new BotCensus();
+
+    @Nested
+    @DisplayName("roll-up")
+    class RollUpTests {
+
+        @Test
+        @DisplayName("A group's counts roll up into its environment, its game and the fleet")
+        void rollsUp() {
+            StatusCensus g1 = census.forGroup("env-1", BAU_CUA);
+            StatusCensus g2 = census.forGroup("env-1", SLOT);
+            StatusCensus g3 = census.forGroup("env-2", BAU_CUA);
+
+            g1.add(BotStatus.STARTED);
+            g1.add(BotStatus.DEAD);
+            g2.add(BotStatus.STARTED);
+            g3.add(BotStatus.RECONNECTING);
+
+            assertThat(census.fleet().total()).isEqualTo(4);
+            assertThat(census.fleet().count(BotStatus.STARTED)).isEqualTo(2);
+            assertThat(census.byEnvironment().get("env-1").total()).isEqualTo(3);
+            assertThat(census.byEnvironment().get("env-2").count(BotStatus.RECONNECTING)).isEqualTo(1);
+            assertThat(census.byGame().get(BAU_CUA).total()).isEqualTo(3);
+            assertThat(census.byGame().get(SLOT).count(BotStatus.STARTED)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("A move shifts one count everywhere and keeps the totals")
+        void moveKeepsTotals() {
+            StatusCensus group = census.forGroup("env-1", BAU_CUA);
+            group.add(BotStatus.STARTED);
+
+            group.move(BotStatus.STARTED, BotStatus.RECONNECTING);
+
+            assertThat(group.count(BotStatus.STARTED)).isZero();
+            assertThat(group.count(BotStatus.RECONNECTING)).isEqualTo(1);
+            assertThat(census.fleet().count(BotStatus.RECONNECTING)).isEqualTo(1);
+            assertThat(census.fleet().total()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("A group without an environment counts towards its game and the fleet only")
+        void nullEnvironment() {
+            census.forGroup(null, SLOT).add(BotStatus.DEAD);
+
+            assertThat(census.byEnvironment()).isEmpty();
+            assertThat(census.byGame().get(SLOT).count(BotStatus.DEAD)).isEqualTo(1);
+            assertThat(census.fleet().count(BotStatus.DEAD)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("bot transitions")
+    class BotTransitionTests {
+
+        @Test
+        @DisplayName("A joined bot is counted under its status and moves with every transition")
+        void transitionsAreCounted() throws Exception {
+            StatusCensus group = census.forGroup("env-1", BAU_CUA);
+            TestBot bot = new TestBot();
+
+            bot.joinCensus(group);
+            assertThat(group.count(BotStatus.AUTHENTICATING)).isEqualTo(1);
+
+            transition(bot, BotStatus.CONNECTING);
+            transition(bot, BotStatus.CONNECTION_AUTHENTICATED);
+            transition(bot, BotStatus.CONNECTION_AUTHENTICATED);
+
+            assertThat(group.count(BotStatus.CONNECTION_AUTHENTICATED)).isEqualTo(1);
+            assertThat(group.total()).isEqualTo(1);
+            assertThat(census.fleet().count(BotStatus.CONNECTION_AUTHENTICATED)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("A cleaned-up bot leaves the census, and later transitions are not counted")
+        void cleanupLeaves() throws Exception {
+            StatusCensus group = census.forGroup("env-1", BAU_CUA);
+            TestBot bot = new TestBot();
+            bot.joinCensus(group);
+
+            bot.cleanup();
+            transition(bot, BotStatus.DEAD);
+
+            assertThat(group.total()).isZero();
+            assertThat(census.fleet().total()).isZero();
+        }
+    }
+
+    private static void transition(Bot bot, BotStatus next) throws Exception {
+        Method m = Bot.class.getDeclaredMethod("transitionStatus", BotStatus.class);
+        m.setAccessible(true);
+        m.invoke(bot, next);
+    }
+
+    static class TestBot extends Bot {
+        @Override protected void initializeSubclass() {}
+        @Override protected Scenario botBehaviorScenario() { return null; }
+        @Override protected void onStart() {}
+    }
+}
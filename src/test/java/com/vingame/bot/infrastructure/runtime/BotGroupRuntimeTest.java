@@ -1,6 +1,7 @@
 package com.vingame.bot.infrastructure.runtime;
 
 import com.vingame.bot.config.bot.BotConfiguration;
+import com.vingame.bot.domain.bot.core.BettingMiniGameBot;
 import com.vingame.bot.domain.bot.core.Bot;
 import com.vingame.bot.domain.botgroup.model.BotGroupPlayingStatus;
 import com.vingame.bot.domain.botgroup.model.BotGroupStatus;
@@ -219,6 +220,75 @@ class BotGroupRuntimeTest {
         }
     }
 
+    @Nested
+    @DisplayName("startBot group-scoped wiring")
+    class StartBotGroupWiringTests {
+
+        @Test
+        @DisplayName("Betting bots are wired to and registered with the group driver before start")
+        void bettingBotIsRegisteredWithDriver() {
+            BotGroupRuntime runtime = new BotGroupRuntime("g", 1, "env");
+            BetTickDriver driver = new BetTickDriver("g", BotTimer.fallback(), 1_000L, 1);
+            runtime.setBetTickDriver(driver);
+            BettingMiniGameBot bot = mock(BettingMiniGameBot.class);
+            try {
+                runtime.startBot(bot);
+
+                verify(bot).setBetTickDriver(driver);
+                assertThat(driver.getParticipantCount()).isEqualTo(1);
+            } finally {
+                runtime.getExecutor().shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Betting bots receive the group broadcast frame cache before start")
+        void bettingBotReceivesFrameCache() {
+            BotGroupRuntime runtime = new BotGroupRuntime("g", 1, "env");
+            BroadcastFrameCache cache = new BroadcastFrameCache("g");
+            runtime.setBroadcastFrameCache(cache);
+            BettingMiniGameBot bot = mock(BettingMiniGameBot.class);
+            try {
+                runtime.startBot(bot);
+
+                verify(bot).setBroadcastFrameCache(cache);
+            } finally {
+                runtime.getExecutor().shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Non-betting bots are not registered")
+        void nonBettingBotIsNotRegistered() {
+            BotGroupRuntime runtime = new BotGroupRuntime("g", 1, "env");
+            BetTickDriver driver = new BetTickDriver("g", BotTimer.fallback(), 1_000L, 1);
+            runtime.setBetTickDriver(driver);
+            try {
+                runtime.startBot(mock(Bot.class));
+
+                assertThat(driver.getParticipantCount()).isZero();
+            } finally {
+                runtime.getExecutor().shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Every bot joins the group status census before start")
+        void botJoinsCensus() {
+            BotGroupRuntime runtime = new BotGroupRuntime("g", 1, "env");
+            StatusCensus census = new StatusCensus();
+            runtime.setCensus(census);
+            Bot bot = mock(Bot.class);
+            try {
+                runtime.startBot(bot);
+
+                verify(bot).joinCensus(census);
+            } finally {
+                runtime.getExecutor().shutdownNow();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("stopAllBots")
     class StopAllBotsTests {
@@ -272,20 +342,16 @@ class BotGroupRuntimeTest {
         }
 
         @Test
-        @DisplayName("Should shutdown health monitor and logout scheduler if present")
-        void shouldShutdownAuxiliarySchedulers() throws Exception {
+        @DisplayName("Should stop the group bet tick driver if present")
+        void shouldStopBetTickDriver() {
             BotGroupRuntime runtime = new BotGroupRuntime("g", 0, "env");
-            java.util.concurrent.ScheduledExecutorService monitor =
-                    java.util.concurrent.Executors.newSingleThreadScheduledExecutor();
-            java.util.concurrent.ScheduledExecutorService logout =
-                    java.util.concurrent.Executors.newSingleThreadScheduledExecutor();
-            runtime.setHealthMonitor(monitor);
-            runtime.setLogoutScheduler(logout);
+            BetTickDriver driver = new BetTickDriver("g", BotTimer.fallback(), 1_000L, 1);
+            runtime.setBetTickDriver(driver);
+            driver.start();
 
             runtime.stopAllBots();
 
-            assertThat(monitor.isShutdown()).isTrue();
-            assertThat(logout.isShutdown()).isTrue();
+            assertThat(driver.isRunning()).isFalse();
         }
     }
 
@@ -0,0 +1,99 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.netty.util.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cost of arming the bet-window / watchdog timers for a whole fleet of 1k, 10k and
+ * 100k bots, side by side:
+ * <ul>
+ *   <li><b>perBot</b> — the pre-{@link BotTimer} layout: one {@code watchdog-<user>}
+ *       single-thread scheduler per bot plus one {@code countdown-<user>} scheduler
+ *       ticking every second for the bet window.</li>
+ *   <li><b>sharedWheel</b> — one {@link BotTimer} holding one watchdog timeout per
+ *       bot; the bet window is a deadline read on demand, so nothing ticks.</li>
+ * </ul>
+ * Each invocation arms the whole fleet once, and everything armed is torn down after
+ * it. Add {@code -prof gc} for the bytes each layout allocates per fleet.
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main BotTimerBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BotTimerBenchmark {
+
+    private static final long WATCHDOG_MILLIS = 180_000L;
+
+    @Param({"1000", "10000", "100000"})
+    public int bots;
+
+    private final AtomicLong sink = new AtomicLong();
+    private List<ScheduledExecutorService> executors;
+    private BotTimer timer;
+    private List<Timeout> timeouts;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        executors = new ArrayList<>(bots * 2);
+        timer = new BotTimer(BotTimer.DEFAULT_TICK_MILLIS, BotTimer.DEFAULT_TICKS_PER_WHEEL);
+        timeouts = new ArrayList<>(bots);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        executors.forEach(ScheduledExecutorService::shutdownNow);
+        timeouts.forEach(Timeout::cancel);
+        timer.stop();
+    }
+
+    @Benchmark
+    public List<ScheduledExecutorService> perBot() {
+        for (int i = 0; i < bots; i++) {
+            ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofVirtual().name("watchdog-" + i).factory());
+            watchdog.schedule(sink::incrementAndGet, WATCHDOG_MILLIS, TimeUnit.MILLISECONDS);
+            ScheduledExecutorService countdown = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofVirtual().name("countdown-" + i).factory());
+            AtomicLong remaining = new AtomicLong(15_000L);
+            countdown.scheduleAtFixedRate(() -> remaining.addAndGet(-1_000L), 0L, 1_000L, TimeUnit.MILLISECONDS);
+            executors.add(watchdog);
+            executors.add(countdown);
+        }
+        return executors;
+    }
+
+    @Benchmark
+    public long[] sharedWheel() {
+        long[] deadlines = new long[bots];
+        for (int i = 0; i < bots; i++) {
+            timeouts.add(timer.schedule(sink::incrementAndGet, WATCHDOG_MILLIS));
+            deadlines[i] = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(15_000L);
+        }
+        return deadlines;
+    }
+}
@@ -0,0 +1,105 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.netty.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the shared {@link BotTimer}: one-shot firing, O(1) cancel, and
+ * the hand-off of expired tasks off the wheel thread.
+ */
+@DisplayName("BotTimer")
+class BotTimerTest {
+
+    private BotTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new BotTimer(10L, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    @DisplayName("Scheduled task fires once after its delay")
+    void firesAfterDelay() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.schedule(latch::countDown, 100L);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(90L);
+    }
+
+    @Test
+    @DisplayName("Cancelled timeout never runs and leaves the wheel")
+    void cancelledTimeoutDoesNotFire() throws Exception {
+        AtomicBoolean fired = new AtomicBoolean(false);
+
+        Timeout timeout = timer.schedule(() -> fired.set(true), 100L);
+        assertThat(timer.pendingTimeouts()).isEqualTo(1L);
+        timeout.cancel();
+
+        Thread.sleep(300L);
+        assertThat(fired).isFalse();
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Expired tasks run on a virtual thread, not on the wheel thread")
+    void expiredTaskRunsOffWheelThread() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Thread> runner = new AtomicReference<>();
+
+        timer.schedule(() -> {
+            runner.set(Thread.currentThread());
+            latch.countDown();
+        }, 20L);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(runner.get().isVirtual()).isTrue();
+        assertThat(runner.get().getName()).startsWith("bot-timer-task-");
+    }
+
+    @Test
+    @DisplayName("A blocked task does not delay other timeouts on the wheel")
+    void blockedTaskDoesNotStallWheel() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(1);
+
+        timer.schedule(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 10L);
+        timer.schedule(second::countDown, 50L);
+
+        try {
+            assertThat(second.await(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("fallback() is a process-wide singleton")
+    void fallbackIsSingleton() {
+        assertThat(BotTimer.fallback()).isSameAs(BotTimer.fallback());
+    }
+}
@@ -0,0 +1,183 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vingame.bot.domain.bot.message.BettingMiniMessage;
+import com.vingame.bot.domain.bot.message.MessageCodecRegistry;
+import com.vingame.bot.domain.bot.message.PersonalFields;
+import com.vingame.bot.domain.bot.message.SplitPersonalized;
+import com.vingame.bot.domain.bot.message.g2.bom.BomGameMessageTypes;
+import com.vingame.bot.domain.brand.model.ProductCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON decode cost of one round of a group's broadcasts, per-bot vs decode-once:
+ * <ul>
+ *   <li><b>perBot</b> — the pre-{@link BroadcastFrameCache} path: every bot runs its
+ *       own {@code readValue} on its own copy of each StartGame / UpdateBet / EndGame
+ *       frame.</li>
+ *   <li><b>shared</b> — every bot presents its copy to one group cache; the first
+ *       decodes, the rest hit.</li>
+ *   <li><b>tipPerBot</b> — Tip's personalized UpdateBet / EndGame, each bot decoding
+ *       its own frame.</li>
+ *   <li><b>tipSplit</b> — the same frames through {@link PersonalFields#split}: each
+ *       bot lifts its personal values, presents the common part to the group cache and
+ *       personalizes the shared message.</li>
+ * </ul>
+ * One operation is one round: the three BOM frames (two for Tip), each received by
+ * {@code bots} bots. Frames are the fixtures the message-type tests use, with a round
+ * counter added so every round is a fresh cache key; each Tip bot gets its own
+ * {@code bs[].b} and {@code jpV}. Add {@code -prof gc} for bytes per round.
+ * <p>
+ * Run with
+ * {@code mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main BroadcastFrameCacheBenchmark -prof gc"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadcastFrameCacheBenchmark {
+
+    private static final int BOM_OFFSET = 2000;
+    private static final String[] FRAMES = {"startGame.json", "updateBet.json", "endGame.json"};
+    private static final String[] TIP_FRAMES = {"updateBet.json", "endGame.json"};
+    private static final int TIP_OFFSET = 8000;
+
+    @Param({"100", "500"})
+    public int bots;
+
+    private ObjectMapper mapper;
+    private String[] templates;
+    private BroadcastFrameCache cache;
+    private BroadcastFrameCache.FrameDecoder<BettingMiniMessage> decoder;
+    private ObjectMapper tipMapper;
+    private String[][] tipTemplates;
+    private BroadcastFrameCache.FrameDecoder<BettingMiniMessage> tipDecoder;
+    private int round;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerSubtypes(new BomGameMessageTypes().getTypeRegistrations(BOM_OFFSET, false));
+        templates = new String[FRAMES.length];
+        for (int i = 0; i < FRAMES.length; i++) {
+            templates[i] = loadFixture("bom/" + FRAMES[i]);
+        }
+        cache = new BroadcastFrameCache("bench");
+        decoder = raw -> mapper.readValue(raw, BettingMiniMessage.class);
+
+        tipMapper = new MessageCodecRegistry(false).bettingMini(ProductCode.P_116, TIP_OFFSET, false);
+        tipTemplates = new String[TIP_FRAMES.length][bots];
+        for (int i = 0; i < TIP_FRAMES.length; i++) {
+            String template = loadFixture("tip/" + TIP_FRAMES[i]);
+            for (int b = 0; b < bots; b++) {
+                tipTemplates[i][b] = template
+                        .replace("\"b\": 2000", "\"b\": " + 100L * (b + 1))
+                        .replace("\"jpV\": 1603000", "\"jpV\": " + 1000L * b);
+            }
+        }
+        tipDecoder = raw -> tipMapper.readValue(raw, BettingMiniMessage.class);
+    }
+
+    @Benchmark
+    public void perBot(Blackhole blackhole) throws IOException {
+        int r = round++;
+        for (String template : templates) {
+            String frame = withRound(template, r);
+            for (int b = 0; b < bots; b++) {
+                blackhole.consume(mapper.readValue(new String(frame), BettingMiniMessage.class));
+            }
+        }
+    }
+
+    @Benchmark
+    public void shared(Blackhole blackhole) throws IOException {
+        int r = round++;
+        for (int f = 0; f < templates.length; f++) {
+            String frame = withRound(templates[f], r);
+            for (int b = 0; b < bots; b++) {
+                blackhole.consume(cache.decode(f, new String(frame), BettingMiniMessage.class, decoder));
+            }
+        }
+    }
+
+    @Benchmark
+    public void tipPerBot(Blackhole blackhole) throws IOException {
+        int r = round++;
+        for (String[] perBot : tipTemplates) {
+            for (int b = 0; b < bots; b++) {
+                blackhole.consume(tipMapper.readValue(withRound(perBot[b], r), BettingMiniMessage.class));
+            }
+        }
+    }
+
+    @Benchmark
+    public void tipSplit(Blackhole blackhole) throws IOException {
+        int r = round++;
+        for (int f = 0; f < tipTemplates.length; f++) {
+            for (int b = 0; b < bots; b++) {
+                PersonalFields.Split split = PersonalFields.split(tipMapper.getFactory(), withRound(tipTemplates[f][b], r));
+                BettingMiniMessage common = cache.decode(f, new CommonPart(split), BettingMiniMessage.class, tipDecoder);
+                blackhole.consume(((SplitPersonalized<?>) common).personalize(split.personal()));
+            }
+        }
+    }
+
+    /** The bot's view of a split frame's common part. */
+    private record CommonPart(PersonalFields.Split split) implements BroadcastFrameCache.FrameText {
+
+        @Override
+        public int length() {
+            return split.commonLength();
+        }
+
+        @Override
+        public int hash() {
+            return split.commonHash();
+        }
+
+        @Override
+        public boolean textEquals(String other) {
+            return split.commonEquals(other);
+        }
+
+        @Override
+        public String text() {
+            return split.common();
+        }
+    }
+
+    // Distinct bytes per round, as a new sid would produce on the wire.
+    private static String withRound(String template, int round) {
+        return template.replaceFirst("\\{", "{\"round\":" + round + ",");
+    }
+
+    private static String loadFixture(String path) throws IOException {
+        try (InputStream in = BroadcastFrameCacheBenchmark.class.getResourceAsStream("/messages/" + path)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture /messages/" + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vingame.bot.domain.bot.message.BettingMiniMessage;
+import com.vingame.bot.domain.bot.message.EndGameMessage;
+import com.vingame.bot.domain.bot.message.g2.bom.BomGameMessageTypes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the group-scoped {@link BroadcastFrameCache}: one decode per distinct
+ * frame regardless of recipient count, byte-exact matching, bounded retention, and no
+ * caching of failed decodes.
+ */
+@DisplayName("BroadcastFrameCache")
+class BroadcastFrameCacheTest {
+
+    private static final int BOM_OFFSET = 2000;
+    private static final int END_GAME_CMD = 5006;
+
+    private final ObjectMapper mapper = newMapper();
+    private final BroadcastFrameCache.FrameDecoder<BettingMiniMessage> decoder =
+            raw -> mapper.readValue(raw, BettingMiniMessage.class);
+
+    private static ObjectMapper newMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerSubtypes(new BomGameMessageTypes().getTypeRegistrations(BOM_OFFSET, false));
+        return mapper;
+    }
+
+    private static String endGame(long sid) {
+        return "{\"cmd\":" + END_GAME_CMD + ",\"d1\":4,\"d2\":5,\"d3\":6,\"sid\":" + sid
+                + ",\"bs\":[{\"eid\":0,\"bc\":1,\"v\":1000}]}";
+    }
+
+    @Test
+    @DisplayName("Identical bytes from different recipients decode once and share the object")
+    void identicalFramesShareOneDecode() throws Exception {
+        BroadcastFrameCache cache = new BroadcastFrameCache("g");
+        String json = endGame(422070L);
+
+        // Each bot receives its own String instance of the same bytes.
+        Object first = cache.decode(END_GAME_CMD, new String(json), BettingMiniMessage.class, decoder);
+        Object second = cache.decode(END_GAME_CMD, new String(json), BettingMiniMessage.class, decoder);
+
+        assertThat(first).isInstanceOf(EndGameMessage.class);
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getDecodeCount()).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Different bytes (new round, personalized payload) are decoded separately")
+    void differentFramesDecodeSeparately() throws Exception {
+        BroadcastFrameCache cache = new BroadcastFrameCache("g");
+
+        EndGameMessage a = cache.decode(END_GAME_CMD, endGame(1L), BettingMiniMessage.class, decoder);
+        EndGameMessage b = cache.decode(END_GAME_CMD, endGame(2L), BettingMiniMessage.class, decoder);
+
+        assertThat(b).isNotSameAs(a);
+        assertThat(cache.getDecodeCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("A caller asking for a different type on the same key gets a private decode")
+    void typeMismatchIsDecodedPrivately() throws Exception {
+        BroadcastFrameCache cache = new BroadcastFrameCache("g");
+        String json = endGame(7L);
+
+        Object shared = cache.decode(END_GAME_CMD, json, BettingMiniMessage.class, decoder);
+        Map<?, ?> raw = cache.decode(END_GAME_CMD, json, Map.class, r -> mapper.readValue(r, Map.class));
+
+        assertThat(raw.get("sid")).isEqualTo(7);
+        assertThat(cache.decode(END_GAME_CMD, json, BettingMiniMessage.class, decoder)).isSameAs(shared);
+    }
+
+    @Test
+    @DisplayName("Concurrent recipients of one frame trigger exactly one decode")
+    void concurrentRecipientsDecodeOnce() throws Exception {
+        BroadcastFrameCache cache = new BroadcastFrameCache("g");
+        String json = endGame(99L);
+        int bots = 200;
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < bots; i++) {
+                String copy = new String(json);
+                results.add(pool.submit(() -> {
+                    go.await();
+                    return cache.decode(END_GAME_CMD, copy, BettingMiniMessage.class, decoder);
+                }));
+            }
+            go.countDown();
+            Object first = results.get(0).get();
+            for (Future<Object> f : results) {
+                assertThat(f.get()).isSameAs(first);
+            }
+        }
+
+        assertThat(cache.getDecodeCount()).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(bots - 1L);
+    }
+
+    @Test
+    @DisplayName("Retains at most capacity frames, evicting the oldest")
+    void evictsOldestBeyondCapacity() throws Exception {
+        BroadcastFrameCache cache = new BroadcastFrameCache("g", 2);
+
+        Object first = cache.decode(END_GAME_CMD, endGame(1L), BettingMiniMessage.class, decoder);
+        cache.decode(END_GAME_CMD, endGame(2L), BettingMiniMessage.class, decoder);
+        cache.decode(END_GAME_CMD, endGame(3L), BettingMiniMessage.class, decoder);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.decode(END_GAME_CMD, endGame(1L), BettingMiniMessage.class, decoder)).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("A frame presented as a text view shares one decode and builds its text only once")
+    void frameTextBuiltOnlyOnInsert() throws Exception {
+        BroadcastFrameCache cache = new BroadcastFrameCache("g");
+        String json = endGame(522070L);
+        CountingText first = new CountingText(json);
+        CountingText second = new CountingText(new String(json));
+
+        Object a = cache.decode(END_GAME_CMD, first, BettingMiniMessage.class, decoder);
+        Object b = cache.decode(END_GAME_CMD, second, BettingMiniMessage.class, decoder);
+
+        assertThat(b).isSameAs(a);
+        assertThat(first.built).isEqualTo(1);
+        assertThat(second.built).isZero();
+        assertThat(cache.getDecodeCount()).isEqualTo(1L);
+    }
+
+    /** A text view counting how often its text is built. */
+    private static final class CountingText implements BroadcastFrameCache.FrameText {
+
+        private final String text;
+        private int built;
+
+        CountingText(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public int hash() {
+            return text.hashCode();
+        }
+
+        @Override
+        public boolean textEquals(String other) {
+            return text.equals(other);
+        }
+
+        @Override
+        public String text() {
+            built++;
+            return text;
+        }
+    }
+
+    @Test
+    @DisplayName("A frame that fails to decode is not cached")
+    void failedDecodeIsNotCached() {
+        BroadcastFrameCache cache = new BroadcastFrameCache("g");
+        String broken = "{\"cmd\":" + END_GAME_CMD + ",\"sid\":";
+
+        assertThatThrownBy(() -> cache.decode(END_GAME_CMD, broken, BettingMiniMessage.class, decoder))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThatThrownBy(() -> cache.decode(END_GAME_CMD, broken, BettingMiniMessage.class, decoder))
+                .isInstanceOf(JsonProcessingException.class);
+        assertThat(cache.getDecodeCount()).isZero();
+    }
+}
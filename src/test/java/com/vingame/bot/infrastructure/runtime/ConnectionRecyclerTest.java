@@ -0,0 +1,187 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.common.logging.BotMdc;
+import com.vingame.bot.domain.bot.core.Bot;
+import com.vingame.bot.domain.bot.core.RecycleOutcome;
+import com.vingame.bot.domain.botgroup.model.BotGroupStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConnectionRecycler")
+class ConnectionRecyclerTest {
+
+    // One-hour rotation on a one-minute tick: each bot earns 1/60 of a recycle per tick,
+    // and the real ticker never fires while a test runs (ticks are driven by hand).
+    private static final long ROTATION_MINUTES = 60;
+    private static final long TICK_MILLIS = 60_000;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<BotGroupRuntime> runtimes = new ArrayList<>();
+    private ConnectionRecycler recycler;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (recycler != null) {
+            recycler.stop();
+        }
+        runtimes.forEach(runtime -> runtime.getExecutor().shutdownNow());
+    }
+
+    private ConnectionRecycler newRecycler(int maxInFlight) {
+        recycler = new ConnectionRecycler(registry, ROTATION_MINUTES, maxInFlight, TICK_MILLIS);
+        return recycler;
+    }
+
+    private BotGroupRuntime group(String groupId, List<Bot> bots) {
+        BotGroupRuntime runtime = new BotGroupRuntime(groupId, bots.size(), "env-1");
+        runtime.getBotInstances().addAll(bots);
+        runtimes.add(runtime);
+        return runtime;
+    }
+
+    private static List<Bot> recyclingBots(int count) {
+        List<Bot> bots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Bot bot = mock(Bot.class);
+            when(bot.recycle()).thenReturn(RecycleOutcome.RECYCLED);
+            bots.add(bot);
+        }
+        return bots;
+    }
+
+    /** A bot whose recycle blocks until the test releases it. */
+    private Bot stuckBot() {
+        Bot bot = mock(Bot.class);
+        doAnswer(inv -> {
+            release.await();
+            return RecycleOutcome.RECYCLED;
+        }).when(bot).recycle();
+        return bot;
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Recycles every bot once per rotation, one group-size share per tick")
+    void spreadsRecyclesOverRotation() {
+        ConnectionRecycler recycler = newRecycler(32);
+        List<Bot> bots = recyclingBots(60);
+        recycler.register(group("g1", bots));
+
+        // 60 bots at 1/60 each: exactly one recycle per tick (plus the random start credit below one)
+        recycler.tick();
+        verify(bots.get(0), timeout(5_000)).recycle();
+        verify(bots.get(1), never()).recycle();
+
+        for (int i = 1; i < 60; i++) {
+            recycler.tick();
+        }
+
+        bots.forEach(bot -> verify(bot, timeout(5_000)).recycle());
+        assertThat(registry.get(ConnectionRecycler.CONNECTION_RECYCLES_TOTAL)
+                .tag(BotMdc.ENVIRONMENT_ID, "env-1").tag("outcome", "recycled").counter().count())
+                .isEqualTo(60.0);
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Never runs more than max-in-flight recycles at once, across groups")
+    void boundsInFlight() {
+        ConnectionRecycler recycler = newRecycler(3);
+        Bot stuck = stuckBot();
+        // 600 bots earn 10 recycles a tick, far more than the limit allows
+        recycler.register(group("g1", Collections.nCopies(600, stuck)));
+        recycler.tick();
+        Bot other = mock(Bot.class);
+        when(other.recycle()).thenReturn(RecycleOutcome.RECYCLED);
+        recycler.register(group("g2", Collections.nCopies(600, other)));
+        recycler.tick();
+
+        assertThat(recycler.getInFlight()).isEqualTo(3);
+        verify(other, never()).recycle();
+
+        release.countDown();
+        verify(other, timeout(5_000).atLeastOnce()).recycle();
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Counts a session that did not hold as handed-off, not recycled")
+    void countsHandOffSeparately() {
+        ConnectionRecycler recycler = newRecycler(32);
+        Bot bot = mock(Bot.class);
+        when(bot.recycle()).thenReturn(RecycleOutcome.HANDED_OFF);
+        // 60 copies earn exactly one recycle on the first tick
+        recycler.register(group("g1", Collections.nCopies(60, bot)));
+
+        recycler.tick();
+        verify(bot, timeout(5_000)).recycle();
+        while (recycler.getInFlight() > 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(registry.get(ConnectionRecycler.CONNECTION_RECYCLES_TOTAL)
+                .tag(BotMdc.ENVIRONMENT_ID, "env-1").tag("outcome", "handed-off").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.find(ConnectionRecycler.CONNECTION_RECYCLES_TOTAL)
+                .tag("outcome", "recycled").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Skips groups that are not ACTIVE")
+    void skipsInactiveGroups() {
+        ConnectionRecycler recycler = newRecycler(32);
+        List<Bot> bots = recyclingBots(120);
+        BotGroupRuntime runtime = group("g1", bots);
+        runtime.setActualStatus(BotGroupStatus.DEAD);
+        recycler.register(runtime);
+
+        recycler.tick();
+
+        assertThat(recycler.getInFlight()).isZero();
+        bots.forEach(bot -> verify(bot, never()).recycle());
+    }
+
+    @Test
+    @DisplayName("Stops recycling a group once it is unregistered")
+    void unregisterStopsRecycling() {
+        ConnectionRecycler recycler = newRecycler(32);
+        List<Bot> bots = recyclingBots(120);
+        recycler.register(group("g1", bots));
+
+        recycler.unregister("g1");
+        recycler.tick();
+
+        assertThat(recycler.isRegistered("g1")).isFalse();
+        bots.forEach(bot -> verify(bot, never()).recycle());
+    }
+
+    @Test
+    @DisplayName("Rejects a non-positive rotation, limit or tick")
+    void rejectsNonPositiveSettings() {
+        assertThatThrownBy(() -> new ConnectionRecycler(null, 0, 32, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConnectionRecycler(null, 360, 0, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConnectionRecycler(null, 360, 32, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
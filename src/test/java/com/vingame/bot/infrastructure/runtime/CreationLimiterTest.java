@@ -0,0 +1,243 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.common.exception.BadRequestException;
+import com.vingame.bot.common.exception.UpstreamLoginException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies {@link CreationLimiter}'s admission cap, AIMD movement of the limit and
+ * published meters.
+ */
+@DisplayName("CreationLimiter")
+class CreationLimiterTest {
+
+    /**
+     * A tolerance no in-process latency can exceed, for tests about other signals:
+     * microsecond-scale samples jitter well past 2x.
+     */
+    private static final double LATENCY_BLIND = 1e9;
+
+    @Nested
+    @DisplayName("Admission")
+    class AdmissionTests {
+
+        @Test
+        @Timeout(10)
+        @DisplayName("A fixed limiter never admits more than its limit at once")
+        void fixedLimitCap() throws Exception {
+            CreationLimiter limiter = new CreationLimiter("env-1", 3, 3, 3, 2.0, 0.5, null);
+            AtomicInteger open = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(30);
+
+            for (int i = 0; i < 30; i++) {
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        long admittedAt = limiter.acquire();
+                        peak.accumulateAndGet(open.incrementAndGet(), Math::max);
+                        Thread.sleep(5);
+                        open.decrementAndGet();
+                        limiter.release(admittedAt, CreationLimiter.Outcome.SUCCESS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(peak.get()).isEqualTo(3);
+            assertThat(limiter.getInFlight()).isZero();
+            assertThat(limiter.getLimit()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Rejects inconsistent limits and factors")
+        void rejectsBadConfig() {
+            assertThatThrownBy(() -> new CreationLimiter("env-1", 10, 0, 10, 2.0, 0.5, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CreationLimiter("env-1", 10, 20, 10, 2.0, 0.5, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CreationLimiter("env-1", 10, 1, 10, 0.5, 0.5, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CreationLimiter("env-1", 10, 1, 10, 2.0, 1.0, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("The initial limit is clamped into [min, max]")
+        void initialClamped() {
+            assertThat(new CreationLimiter("env-1", 500, 2, 50, 2.0, 0.5, null).getLimit()).isEqualTo(50);
+            assertThat(new CreationLimiter("env-1", 1, 2, 50, 2.0, 0.5, null).getLimit()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Limit adaptation")
+    class AdaptationTests {
+
+        @Test
+        @DisplayName("Fast successes under load grow the limit by one each, up to max")
+        void additiveIncrease() throws Exception {
+            CreationLimiter limiter = new CreationLimiter("env-1", 4, 2, 6, LATENCY_BLIND, 0.5, null);
+
+            for (int i = 0; i < 5; i++) {
+                saturateAndReleaseOne(limiter, CreationLimiter.Outcome.SUCCESS);
+            }
+
+            assertThat(limiter.getLimit()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Successes with the limit mostly idle leave it unchanged")
+        void noGrowthWhenIdle() throws Exception {
+            CreationLimiter limiter = new CreationLimiter("env-1", 10, 2, 50, LATENCY_BLIND, 0.5, null);
+
+            for (int i = 0; i < 20; i++) {
+                limiter.release(limiter.acquire(), CreationLimiter.Outcome.SUCCESS);
+            }
+
+            assertThat(limiter.getLimit()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("A gateway rejection halves the limit; a burst of them counts once")
+        void multiplicativeDecrease() throws Exception {
+            CreationLimiter limiter = new CreationLimiter("env-1", 40, 2, 100, 2.0, 0.5, null);
+            // Establish a baseline far longer than the burst below.
+            long admittedAt = limiter.acquire();
+            Thread.sleep(200);
+            limiter.release(admittedAt, CreationLimiter.Outcome.SUCCESS);
+            Thread.sleep(250);
+
+            limiter.release(limiter.acquire(), CreationLimiter.Outcome.DROPPED);
+            assertThat(limiter.getLimit()).isEqualTo(20);
+
+            limiter.release(limiter.acquire(), CreationLimiter.Outcome.DROPPED);
+            limiter.release(limiter.acquire(), CreationLimiter.Outcome.DROPPED);
+            assertThat(limiter.getLimit()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("Repeated back-offs never go below min")
+        void floorAtMin() throws Exception {
+            CreationLimiter limiter = new CreationLimiter("env-1", 16, 3, 100, 2.0, 0.5, null);
+
+            for (int i = 0; i < 10; i++) {
+                limiter.release(limiter.acquire(), CreationLimiter.Outcome.DROPPED);
+            }
+
+            assertThat(limiter.getLimit()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("A success far slower than the baseline shrinks the limit by one")
+        void latencyBackoff() throws Exception {
+            CreationLimiter limiter = new CreationLimiter("env-1", 10, 2, 50, 2.0, 0.5, null);
+            limiter.release(limiter.acquire(), CreationLimiter.Outcome.SUCCESS);
+
+            long admittedAt = limiter.acquire();
+            Thread.sleep(50);
+            limiter.release(admittedAt, CreationLimiter.Outcome.SUCCESS);
+
+            assertThat(limiter.getLimit()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("Unrelated failures leave the limit alone")
+        void ignoredOutcome() throws Exception {
+            CreationLimiter limiter = new CreationLimiter("env-1", 10, 2, 50, 2.0, 0.5, null);
+
+            saturateAndReleaseOne(limiter, CreationLimiter.Outcome.IGNORED);
+
+            assertThat(limiter.getLimit()).isEqualTo(10);
+            assertThat(limiter.getInFlight()).isEqualTo(9);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure classification")
+    class ClassificationTests {
+
+        @Test
+        @DisplayName("Login rejections and timeouts anywhere in the chain are load signals")
+        void loadSignals() {
+            assertThat(CreationLimiter.classify(new UpstreamLoginException("no data")))
+                    .isEqualTo(CreationLimiter.Outcome.DROPPED);
+            assertThat(CreationLimiter.classify(new CompletionException(
+                    new RuntimeException(new SocketTimeoutException("read timed out")))))
+                    .isEqualTo(CreationLimiter.Outcome.DROPPED);
+        }
+
+        @Test
+        @DisplayName("Validation failures are not")
+        void otherFailures() {
+            assertThat(CreationLimiter.classify(new BadRequestException("bad group")))
+                    .isEqualTo(CreationLimiter.Outcome.IGNORED);
+            assertThat(CreationLimiter.classify(new IllegalStateException("no auth config")))
+                    .isEqualTo(CreationLimiter.Outcome.IGNORED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Publishes the live limit, in-flight, latency, back-offs and group duration per environment")
+        void publishesMeters() throws Exception {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            CreationLimiter limiter = new CreationLimiter("env-7", 8, 2, 50, 2.0, 0.5, registry);
+
+            long admittedAt = limiter.acquire();
+            assertThat(registry.get(CreationLimiter.CREATION_IN_FLIGHT).tag("environmentId", "env-7")
+                    .gauge().value()).isEqualTo(1.0);
+            limiter.release(admittedAt, CreationLimiter.Outcome.SUCCESS);
+            limiter.release(limiter.acquire(), CreationLimiter.Outcome.DROPPED);
+            limiter.recordGroupCreated(TimeUnit.SECONDS.toNanos(12));
+
+            assertThat(registry.get(CreationLimiter.CREATION_CONCURRENCY_LIMIT).tag("environmentId", "env-7")
+                    .gauge().value()).isEqualTo(4.0);
+            assertThat(registry.get(CreationLimiter.CREATION_IN_FLIGHT).gauge().value()).isZero();
+            assertThat(registry.get(CreationLimiter.CREATION_LATENCY_SECONDS).timer().count()).isEqualTo(1);
+            assertThat(registry.get(CreationLimiter.CREATION_BACKOFF_TOTAL).counter().count()).isEqualTo(1.0);
+            assertThat(registry.get(CreationLimiter.CREATION_GROUP_SECONDS).timer()
+                    .totalTime(TimeUnit.SECONDS)).isEqualTo(12.0);
+        }
+    }
+
+    /* ---- fixtures ---- */
+
+    /**
+     * Fill every slot, release one with {@code outcome}, then release the rest as
+     * ignored so only the first sample moves the limit.
+     */
+    private static void saturateAndReleaseOne(CreationLimiter limiter, CreationLimiter.Outcome outcome)
+            throws InterruptedException {
+        int limit = limiter.getLimit();
+        long[] admitted = new long[limit];
+        for (int i = 0; i < limit; i++) {
+            admitted[i] = limiter.acquire();
+        }
+        limiter.release(admitted[0], outcome);
+        if (outcome != CreationLimiter.Outcome.IGNORED) {
+            for (int i = 1; i < limit; i++) {
+                limiter.release(admitted[i], CreationLimiter.Outcome.IGNORED);
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies {@link DepositScheduler}'s burn-rate prediction, rate cap, coalescing and
+ * meters, on a hand-driven clock.
+ */
+@DisplayName("DepositScheduler")
+class DepositSchedulerTest {
+
+    private static final long FLOOR = 5_000_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final List<Runnable> rearms = new ArrayList<>();
+    private final List<Long> rearmDelays = new ArrayList<>();
+    private final List<String> sent = new ArrayList<>();
+    private final List<CompletableFuture<Boolean>> deposits = new ArrayList<>();
+    private final List<Boolean> results = new ArrayList<>();
+
+    private DepositScheduler scheduler(double ratePerSecond, int maxInFlight, SimpleMeterRegistry registry) {
+        return new DepositScheduler("env-1", ratePerSecond, maxInFlight, 60, registry, now::get,
+                (task, delayMillis) -> {
+                    rearms.add(task);
+                    rearmDelays.add(delayMillis);
+                });
+    }
+
+    private boolean offer(DepositScheduler scheduler, String key, long balance) {
+        return offer(scheduler, key, key, balance);
+    }
+
+    private boolean offer(DepositScheduler scheduler, String key, Object owner, long balance) {
+        return scheduler.offer(key, owner, balance, FLOOR, () -> {
+            sent.add(key);
+            CompletableFuture<Boolean> deposit = new CompletableFuture<>();
+            deposits.add(deposit);
+            return deposit;
+        }, results::add);
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Nested
+    @DisplayName("Prediction")
+    class PredictionTests {
+
+        private DepositScheduler scheduler;
+
+        @BeforeEach
+        void setUp() {
+            scheduler = scheduler(100, 10, null);
+        }
+
+        @Test
+        @DisplayName("A bot below the floor is queued at once")
+        void urgent() {
+            assertThat(offer(scheduler, "bot1", FLOOR - 1)).isTrue();
+            assertThat(sent).containsExactly("bot1");
+        }
+
+        @Test
+        @DisplayName("A healthy bot with no burn history is left alone")
+        void noHistory() {
+            assertThat(offer(scheduler, "bot1", 50_000_000L)).isFalse();
+            assertThat(sent).isEmpty();
+        }
+
+        @Test
+        @DisplayName("A bot predicted to reach the floor within the lead time is topped up early")
+        void predictive() {
+            offer(scheduler, "bot1", 50_000_000L);
+            advanceSeconds(10);
+            // 10M in 10s: 1M/s, 35M above the floor, so ~35s away.
+            assertThat(offer(scheduler, "bot1", 40_000_000L)).isTrue();
+            assertThat(sent).containsExactly("bot1");
+        }
+
+        @Test
+        @DisplayName("A slow burner far from the floor is not")
+        void slowBurner() {
+            offer(scheduler, "bot1", 500_000_000L);
+            advanceSeconds(10);
+            // 1M in 10s: 100k/s, ~4900s away.
+            assertThat(offer(scheduler, "bot1", 499_000_000L)).isFalse();
+            assertThat(sent).isEmpty();
+        }
+
+        @Test
+        @DisplayName("A balance rise re-anchors without counting as negative burn")
+        void riseIgnored() {
+            offer(scheduler, "bot1", 100_000_000L);
+            advanceSeconds(10);
+            assertThat(offer(scheduler, "bot1", 90_000_000L)).isFalse(); // 1M/s, 85s away
+            advanceSeconds(10);
+            assertThat(offer(scheduler, "bot1", 91_000_000L)).isFalse(); // a win
+            advanceSeconds(10);
+            assertThat(offer(scheduler, "bot1", 81_000_000L)).isFalse();
+            advanceSeconds(10);
+            assertThat(offer(scheduler, "bot1", 71_000_000L)).isFalse();
+            advanceSeconds(10);
+            // Still 1M/s, 56s away. Fed in as negative burn, the win would have
+            // smoothed the rate down to ~840k/s and put the floor past the lead time.
+            assertThat(offer(scheduler, "bot1", 61_000_000L)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Dispatch")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("Spreads a burst across the rate cap, earliest floor first")
+        void rateCap() {
+            DepositScheduler scheduler = scheduler(2, 10, null);
+
+            offer(scheduler, "bot1", 1_000L);
+            offer(scheduler, "bot2", 2_000L);
+            offer(scheduler, "bot3", 3_000L);
+
+            assertThat(sent).containsExactly("bot1");
+            assertThat(scheduler.getQueueDepth()).isEqualTo(2);
+            assertThat(rearmDelays).containsExactly(500L);
+
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+            rearms.remove(0).run();
+            assertThat(sent).containsExactly("bot1", "bot2");
+
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+            rearms.remove(0).run();
+            assertThat(sent).containsExactly("bot1", "bot2", "bot3");
+            assertThat(scheduler.getQueueDepth()).isZero();
+            assertThat(rearms).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Never has more than max-in-flight deposits outstanding")
+        void inFlightBound() {
+            DepositScheduler scheduler = scheduler(1_000_000, 2, null);
+
+            offer(scheduler, "bot1", 1_000L);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            offer(scheduler, "bot2", 1_000L);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            offer(scheduler, "bot3", 1_000L);
+
+            assertThat(sent).containsExactly("bot1", "bot2");
+            assertThat(scheduler.getInFlight()).isEqualTo(2);
+
+            deposits.get(0).complete(true);
+
+            assertThat(sent).containsExactly("bot1", "bot2", "bot3");
+            assertThat(results).containsExactly(true);
+        }
+
+        @Test
+        @DisplayName("Offers while a deposit is pending are coalesced into it")
+        void coalesces() {
+            DepositScheduler scheduler = scheduler(100, 10, null);
+
+            assertThat(offer(scheduler, "bot1", 1_000L)).isTrue();
+            assertThat(offer(scheduler, "bot1", 900L)).isFalse();
+
+            assertThat(sent).containsExactly("bot1");
+            deposits.get(0).complete(true);
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            assertThat(offer(scheduler, "bot1", 800L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Rejected and failed deposits report false and free the slot")
+        void failures() {
+            DepositScheduler scheduler = scheduler(1_000_000, 1, null);
+
+            offer(scheduler, "bot1", 1_000L);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            offer(scheduler, "bot2", 1_000L);
+            deposits.get(0).complete(false);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            deposits.get(1).completeExceptionally(new IllegalStateException("gateway down"));
+
+            assertThat(results).containsExactly(false, false);
+            assertThat(scheduler.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("forget drops a queued deposit")
+        void forget() {
+            DepositScheduler scheduler = scheduler(1, 10, null);
+
+            offer(scheduler, "bot1", 1_000L);
+            offer(scheduler, "bot2", 1_000L);
+            scheduler.forget("bot2", "bot2");
+
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            rearms.remove(0).run();
+            assertThat(sent).containsExactly("bot1");
+            assertThat(scheduler.getQueueDepth()).isZero();
+        }
+
+        @Test
+        @DisplayName("forget by a replaced owner keeps its successor's deposit")
+        void forgetKeepsSuccessor() {
+            DepositScheduler scheduler = scheduler(1, 10, null);
+            Object replaced = new Object();
+            Object successor = new Object();
+
+            offer(scheduler, "bot1", "bot1", 1_000L);
+            offer(scheduler, "bot2", successor, 1_000L);
+            scheduler.forget("bot2", replaced);
+
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            rearms.remove(0).run();
+            assertThat(sent).containsExactly("bot1", "bot2");
+        }
+
+        @Test
+        @DisplayName("Rejects a non-positive rate or in-flight bound")
+        void rejectsBadConfig() {
+            assertThatThrownBy(() -> scheduler(0, 4, null)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> scheduler(5, 0, null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Publishes queue depth, in-flight, intents by kind, coalesced and latency per environment")
+        void publishesMeters() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            DepositScheduler scheduler = scheduler(1, 10, registry);
+
+            offer(scheduler, "bot1", 1_000L);
+            offer(scheduler, "bot1", 1_000L);
+            offer(scheduler, "bot2", 1_000L);
+
+            assertThat(registry.get(DepositScheduler.DEPOSIT_QUEUE_DEPTH).tag("environmentId", "env-1")
+                    .gauge().value()).isEqualTo(1.0);
+            assertThat(registry.get(DepositScheduler.DEPOSIT_IN_FLIGHT).gauge().value()).isEqualTo(1.0);
+
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+            deposits.get(0).complete(true);
+
+            assertThat(registry.get(DepositScheduler.DEPOSIT_INTENTS_TOTAL).tag("kind", "urgent")
+                    .counter().count()).isEqualTo(2.0);
+            assertThat(registry.get(DepositScheduler.DEPOSIT_COALESCED_TOTAL).counter().count()).isEqualTo(1.0);
+            assertThat(registry.get(DepositScheduler.DEPOSIT_LATENCY_SECONDS).tag("outcome", "success")
+                    .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250.0);
+        }
+    }
+}
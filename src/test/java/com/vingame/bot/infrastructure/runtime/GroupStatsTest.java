@@ -0,0 +1,109 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.domain.bot.core.Bot;
+import com.vingame.bot.domain.bot.core.BotStatus;
+import com.vingame.websocketparser.scenario.Scenario;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GroupStats")
+class GroupStatsTest {
+
+    private final GroupStats stats = new GroupStats();
+
+    @Nested
+    @DisplayName("aggregates")
+    class AggregateTests {
+
+        @Test
+        @DisplayName("Active sums follow activation, deltas and deactivation")
+        void activeSums() {
+            stats.activate(1_000, 50);
+            stats.activate(3_000, 0);
+            stats.addBalance(-200);
+            stats.addWinnings(25);
+            stats.deactivate(3_000, 0);
+
+            GroupStats.Snapshot snapshot = stats.snapshot();
+            assertThat(snapshot.activeBots()).isEqualTo(1);
+            assertThat(snapshot.activeBalance()).isEqualTo(800);
+            assertThat(snapshot.activeWinnings()).isEqualTo(75);
+        }
+
+        @Test
+        @DisplayName("Rounds keep the max, and a rebase lets it drop")
+        void roundsMax() {
+            stats.observeRounds(7);
+            stats.observeRounds(3);
+            assertThat(stats.snapshot().maxRounds()).isEqualTo(7);
+
+            stats.rebaseRounds(2);
+            assertThat(stats.snapshot().maxRounds()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("bot publishing")
+    class BotPublishingTests {
+
+        @Test
+        @DisplayName("A bot counts towards the active sums only while connected")
+        void activeWhileConnected() throws Exception {
+            TestBot bot = new TestBot();
+            bot.joinStats(stats);
+            bot.balanceBy(500);
+            assertThat(stats.snapshot().activeBots()).isZero();
+
+            transition(bot, BotStatus.CONNECTION_AUTHENTICATED);
+            long balance = bot.getExpectedBalance();
+            assertThat(stats.snapshot().activeBots()).isEqualTo(1);
+            assertThat(stats.snapshot().activeBalance()).isEqualTo(balance);
+
+            bot.balanceBy(-100);
+            bot.win(40);
+            assertThat(stats.snapshot().activeBalance()).isEqualTo(balance - 100);
+            assertThat(stats.snapshot().activeWinnings()).isEqualTo(40);
+
+            transition(bot, BotStatus.RECONNECTING);
+            bot.win(10);
+            assertThat(stats.snapshot()).isEqualTo(new GroupStats.Snapshot(0, 0, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Rounds are published whatever the status, and a cleaned-up bot leaves")
+        void roundsAndCleanup() throws Exception {
+            TestBot bot = new TestBot();
+            bot.joinStats(stats);
+            bot.round();
+            bot.round();
+            assertThat(stats.snapshot().maxRounds()).isEqualTo(2);
+
+            transition(bot, BotStatus.STARTED);
+            bot.cleanup();
+
+            assertThat(stats.snapshot().activeBots()).isZero();
+            assertThat(stats.snapshot().activeBalance()).isZero();
+        }
+    }
+
+    private static void transition(Bot bot, BotStatus next) throws Exception {
+        Method m = Bot.class.getDeclaredMethod("transitionStatus", BotStatus.class);
+        m.setAccessible(true);
+        m.invoke(bot, next);
+    }
+
+    static class TestBot extends Bot {
+        @Override protected void initializeSubclass() {}
+        @Override protected Scenario botBehaviorScenario() { return null; }
+        @Override protected void onStart() {}
+
+        void balanceBy(long delta) { adjustBalance(delta); }
+        void win(long amount) { addWinnings(amount); }
+        void round() { recordRoundObserved(); }
+    }
+}
@@ -0,0 +1,124 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import com.vingame.bot.common.logging.BotMdc;
+import com.vingame.bot.domain.bot.core.Bot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("GroupTeardown")
+class GroupTeardownTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    private static long in(long millis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /** A bot whose cleanup blocks until the test releases it. */
+    private Bot stuckBot() {
+        Bot bot = mock(Bot.class);
+        doAnswer(inv -> {
+            release.await();
+            return null;
+        }).when(bot).cleanup();
+        return bot;
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Cleans up every bot, never more than parallelism at once")
+    void boundedParallelism() {
+        GroupTeardown teardown = new GroupTeardown(registry, 3, 20);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Bot> bots = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Bot bot = mock(Bot.class);
+            doAnswer(inv -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return null;
+            }).when(bot).cleanup();
+            bots.add(bot);
+        }
+
+        GroupTeardown.Result result = teardown.tearDown("g1", "env-1", bots, in(5_000));
+
+        assertThat(result.bots()).isEqualTo(12);
+        assertThat(result.stragglers()).isZero();
+        assertThat(peak.get()).isBetween(1, 3);
+        bots.forEach(bot -> {
+            verify(bot).cleanup();
+            verify(bot, never()).forceClose();
+        });
+        assertThat(registry.get(GroupTeardown.TEARDOWN_SECONDS)
+                .tag(BotMdc.ENVIRONMENT_ID, "env-1").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Force-closes the bots still closing at the deadline and counts them as stragglers")
+    void forceClosesStragglers() {
+        GroupTeardown teardown = new GroupTeardown(registry, 4, 20);
+        Bot quick = mock(Bot.class);
+        Bot stuck = stuckBot();
+
+        GroupTeardown.Result result = teardown.tearDown("g1", "env-1", List.of(quick, stuck), in(200));
+
+        assertThat(result.stragglers()).isEqualTo(1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos())).isLessThan(2_000);
+        verify(quick, never()).forceClose();
+        verify(stuck).forceClose();
+        assertThat(registry.get(GroupTeardown.TEARDOWN_STRAGGLERS_TOTAL)
+                .tag(BotMdc.ENVIRONMENT_ID, "env-1").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Bots never admitted before the deadline are force-closed without a cleanup")
+    void forceClosesUnadmittedBots() {
+        GroupTeardown teardown = new GroupTeardown(registry, 1, 20);
+        Bot stuck = stuckBot();
+        Bot waiting = mock(Bot.class);
+
+        GroupTeardown.Result result = teardown.tearDown("g1", "env-1", List.of(stuck, waiting), in(200));
+
+        assertThat(result.stragglers()).isEqualTo(2);
+        verify(waiting, never()).cleanup();
+        verify(waiting).forceClose();
+        verify(stuck).forceClose();
+    }
+
+    @Test
+    @DisplayName("An empty group records a teardown and no stragglers")
+    void emptyGroup() {
+        GroupTeardown teardown = new GroupTeardown(registry, 4, 20);
+
+        GroupTeardown.Result result = teardown.tearDown("g1", "env-1", List.of(), teardown.deadline());
+
+        assertThat(result.bots()).isZero();
+        assertThat(registry.find(GroupTeardown.TEARDOWN_STRAGGLERS_TOTAL).counter()).isNull();
+    }
+}
@@ -0,0 +1,147 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies {@link ReconnectGate}'s concurrency cap, token-bucket pacing, jittered
+ * back-off bounds and published meters.
+ */
+@DisplayName("ReconnectGate")
+class ReconnectGateTest {
+
+    @Nested
+    @DisplayName("Admission")
+    class AdmissionTests {
+
+        @Test
+        @Timeout(10)
+        @DisplayName("Never more than maxConcurrent permits are open at once")
+        void concurrencyCap() throws Exception {
+            ReconnectGate gate = new ReconnectGate("env-1", 10_000, 1_000, 3, 1_000L, 60_000L, null);
+            AtomicInteger open = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(30);
+
+            for (int i = 0; i < 30; i++) {
+                Thread.ofVirtual().start(() -> {
+                    try (ReconnectGate.Permit permit = gate.admit()) {
+                        peak.accumulateAndGet(open.incrementAndGet(), Math::max);
+                        Thread.sleep(10);
+                        open.decrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(peak.get()).isEqualTo(3);
+            assertThat(gate.getInFlight()).isZero();
+            assertThat(gate.getQueueDepth()).isZero();
+        }
+
+        @Test
+        @Timeout(10)
+        @DisplayName("Past the burst, admissions are paced at the configured rate")
+        void tokenBucketPacing() throws Exception {
+            ReconnectGate gate = new ReconnectGate("env-1", 50, 2, 100, 1_000L, 60_000L, null);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < 7; i++) {
+                gate.admit().close();
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // 2 from the burst, then 5 more at 50/s = 100ms.
+            assertThat(elapsedMillis).isGreaterThanOrEqualTo(90L).isLessThan(2_000L);
+        }
+
+        @Test
+        @DisplayName("Closing a permit twice frees one slot only")
+        void permitCloseIsIdempotent() throws Exception {
+            ReconnectGate gate = new ReconnectGate("env-1", 1_000, 10, 2, 1_000L, 60_000L, null);
+
+            ReconnectGate.Permit permit = gate.admit();
+            permit.close();
+            permit.close();
+
+            assertThat(gate.getInFlight()).isZero();
+            gate.admit();
+            gate.admit();
+            assertThat(gate.getInFlight()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Rejects non-positive limits")
+        void rejectsBadLimits() {
+            assertThatThrownBy(() -> new ReconnectGate("env-1", 0, 1, 1, 1_000L, 60_000L, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new ReconnectGate("env-1", 1, 1, 0, 1_000L, 60_000L, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Back-off")
+    class BackoffTests {
+
+        @Test
+        @DisplayName("First delay lies in [base, 3*base]; later delays never exceed max")
+        void decorrelatedJitterBounds() {
+            ReconnectGate gate = new ReconnectGate("env-1", 10, 10, 10, 2_000L, 60_000L, null);
+
+            List<Long> firsts = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                firsts.add(gate.nextBackoffMillis(0));
+            }
+            assertThat(firsts).allSatisfy(d -> assertThat(d).isBetween(2_000L, 6_000L));
+            assertThat(firsts.stream().distinct().count()).as("delays are spread, not lockstep").isGreaterThan(10);
+
+            long delay = 0;
+            for (int i = 0; i < 50; i++) {
+                delay = gate.nextBackoffMillis(delay);
+                assertThat(delay).isBetween(2_000L, 60_000L);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Publishes queue depth, in-flight, admitted and reconnect duration per environment")
+        void publishesMeters() throws Exception {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            ReconnectGate gate = new ReconnectGate("env-7", 1_000, 10, 5, 1_000L, 60_000L, registry);
+
+            ReconnectGate.Permit permit = gate.admit();
+            gate.recordReconnected(TimeUnit.SECONDS.toNanos(4));
+
+            assertThat(registry.get(ReconnectGate.RECONNECT_IN_FLIGHT).tag("environmentId", "env-7")
+                    .gauge().value()).isEqualTo(1.0);
+            assertThat(registry.get(ReconnectGate.RECONNECT_QUEUE_DEPTH).gauge().value()).isZero();
+            assertThat(registry.get(ReconnectGate.RECONNECT_ADMITTED_TOTAL).counter().count()).isEqualTo(1.0);
+            assertThat(registry.get(ReconnectGate.RECONNECT_DURATION_SECONDS).timer()
+                    .totalTime(TimeUnit.SECONDS)).isEqualTo(4.0);
+
+            permit.close();
+            assertThat(registry.get(ReconnectGate.RECONNECT_IN_FLIGHT).gauge().value()).isZero();
+        }
+    }
+}
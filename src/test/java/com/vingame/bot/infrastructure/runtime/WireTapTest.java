@@ -0,0 +1,138 @@
+package com.vingame.bot.infrastructure.runtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the group-scoped {@link WireTap}: logger naming, per-bot trace
+ * flags, the sampled capture ring and the periodic level refresh.
+ */
+@DisplayName("WireTap")
+class WireTapTest {
+
+    private BotTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new BotTimer(10L, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    @DisplayName("One wire logger per group, under com.vingame.bot.wire")
+    void loggerPerGroup() {
+        assertThat(WireTap.loggerFor("g1").getName()).isEqualTo("com.vingame.bot.wire.g1");
+    }
+
+    @Test
+    @DisplayName("Bots are traced on their own by flag")
+    void perBotFlag() {
+        WireTap tap = new WireTap("g1", timer, 1_000L, 0, 1);
+
+        tap.setTraced("alice", true);
+        assertThat(tap.isTraced("alice")).isTrue();
+        assertThat(tap.isTraced("bob")).isFalse();
+        assertThat(tap.getTracedBots()).containsExactly("alice");
+
+        tap.setTraced("alice", false);
+        assertThat(tap.isTraced("alice")).isFalse();
+    }
+
+    @Nested
+    @DisplayName("Capture ring")
+    class RingTests {
+
+        @Test
+        @DisplayName("Capacity 0 captures nothing")
+        void disabledByDefault() {
+            WireTap tap = new WireTap("g1", timer, 1_000L, 0, 1);
+
+            tap.capture("alice", "[5,{}]");
+
+            assertThat(tap.isCapturing()).isFalse();
+            assertThat(tap.snapshot()).isEmpty();
+            assertThat(tap.getCapturedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Keeps the last N frames, oldest first")
+        void keepsNewestInOrder() {
+            WireTap tap = new WireTap("g1", timer, 1_000L, 3, 1);
+
+            for (int i = 1; i <= 5; i++) {
+                tap.capture("bot" + i, "frame-" + i);
+            }
+
+            assertThat(tap.snapshot())
+                    .extracting(WireTap.CapturedFrame::frame)
+                    .containsExactly("frame-3", "frame-4", "frame-5");
+            assertThat(tap.snapshot())
+                    .extracting(WireTap.CapturedFrame::userName)
+                    .containsExactly("bot3", "bot4", "bot5");
+            assertThat(tap.getCapturedCount()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("sampleEvery keeps one in N received frames")
+        void samplesFrames() {
+            WireTap tap = new WireTap("g1", timer, 1_000L, 10, 4);
+
+            for (int i = 1; i <= 12; i++) {
+                tap.capture("alice", "frame-" + i);
+            }
+
+            assertThat(tap.snapshot())
+                    .extracting(WireTap.CapturedFrame::frame)
+                    .containsExactly("frame-4", "frame-8", "frame-12");
+        }
+    }
+
+    @Nested
+    @DisplayName("Level refresh")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("A running tap re-syncs every registered participant each period")
+        void refreshesParticipants() throws Exception {
+            WireTap tap = new WireTap("g1", timer, 20L, 0, 1);
+            AtomicInteger syncs = new AtomicInteger();
+            tap.register(syncs::incrementAndGet);
+            tap.register(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            tap.start();
+            Thread.sleep(200L);
+            tap.stop();
+            Thread.sleep(50L); // let a refresh already in flight finish
+            int afterStop = syncs.get();
+            Thread.sleep(100L);
+
+            assertThat(afterStop).isGreaterThanOrEqualTo(2);
+            assertThat(syncs.get()).isEqualTo(afterStop);
+        }
+
+        @Test
+        @DisplayName("refresh() is a no-op once stopped")
+        void stoppedTapDoesNotRefresh() {
+            WireTap tap = new WireTap("g1", timer, 1_000L, 0, 1);
+            AtomicInteger syncs = new AtomicInteger();
+            tap.register(syncs::incrementAndGet);
+
+            tap.refresh();
+
+            assertThat(syncs.get()).isZero();
+        }
+    }
+}